@@ -0,0 +1,4832 @@
+package com.facebook.buck.android;
+
+import com.facebook.buck.android.aapt.RDotTxtEntry;
+import com.facebook.buck.android.exopackage.ExopackageMode;
+import com.facebook.buck.android.toolchain.ndk.TargetCpuType;
+import com.facebook.buck.core.description.arg.BuildRuleArg;
+import com.facebook.buck.core.description.arg.ConstructorArg;
+import com.facebook.buck.core.description.arg.HasApplicationModuleBlacklist;
+import com.facebook.buck.core.description.arg.HasDeclaredDeps;
+import com.facebook.buck.core.description.arg.HasTests;
+import com.facebook.buck.core.model.BuildTarget;
+import com.facebook.buck.core.model.UnconfiguredBuildTarget;
+import com.facebook.buck.core.sourcepath.SourcePath;
+import com.facebook.buck.rules.coercer.BuildConfigFields;
+import com.facebook.buck.rules.coercer.ManifestEntries;
+import com.facebook.buck.rules.macros.StringWithMacros;
+import com.facebook.buck.rules.query.Query;
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.ImmutableSortedSet;
+import com.google.common.collect.Sets;
+import com.google.common.primitives.Booleans;
+import com.google.common.primitives.Longs;
+import com.google.errorprone.annotations.CanIgnoreReturnValue;
+import com.google.errorprone.annotations.Var;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.regex.Pattern;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+import org.immutables.value.Generated;
+
+/**
+ * Immutable implementation of {@link AndroidBinaryDescription.AbstractAndroidBinaryDescriptionArg}.
+ * <p>
+ * Use the builder to create immutable instances:
+ * {@code AndroidBinaryDescriptionArg.builder()}.
+ */
+@Generated(from = "AndroidBinaryDescription.AbstractAndroidBinaryDescriptionArg", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+public final class AndroidBinaryDescriptionArg
+    extends AndroidBinaryDescription.AbstractAndroidBinaryDescriptionArg {
+  private final BuildTarget keystore;
+  private final boolean useSplitDex;
+  private final boolean minimizePrimaryDexSize;
+  private final @Nullable DexStore dexCompression;
+  private final ImmutableList<String> primaryDexPatterns;
+  private final @Nullable SourcePath primaryDexClassesFile;
+  private final @Nullable SourcePath primaryDexScenarioFile;
+  private final boolean primaryDexScenarioOverflowAllowed;
+  private final @Nullable SourcePath secondaryDexHeadClassesFile;
+  private final @Nullable SourcePath secondaryDexTailClassesFile;
+  private final @Nullable SourcePath androidAppModularityResult;
+  private final long linearAllocHardLimit;
+  private final int dexGroupLibLimit;
+  private final ImmutableList<String> resourceFilter;
+  private final ImmutableSortedSet<BuildTarget> preprocessJavaClassesDeps;
+  private final int xzCompressionLevel;
+  private final boolean packageAssetLibraries;
+  private final boolean compressAssetLibraries;
+  private final @Nullable CompressionAlgorithm assetCompressionAlgorithm;
+  private final boolean redex;
+  private final @Nullable SourcePath redexConfig;
+  private final ImmutableList<StringWithMacros> redexExtraArgs;
+  private final ImmutableSortedSet<BuildTarget> deps;
+  private final ImmutableSet<SourcePath> licenses;
+  private final ImmutableSortedSet<String> labels;
+  private final @Nullable UnconfiguredBuildTarget defaultTargetPlatform;
+  private final ImmutableList<UnconfiguredBuildTarget> compatibleWith;
+  private final String name;
+  private final @Nullable Boolean exopackage;
+  private final ImmutableSet<ExopackageMode> exopackageModes;
+  private final ImmutableSortedSet<BuildTarget> tests;
+  private final @Nullable SourcePath manifest;
+  private final @Nullable SourcePath manifestSkeleton;
+  private final @Nullable SourcePath moduleManifestSkeleton;
+  private final @Nullable String packageType;
+  private final ImmutableSet<BuildTarget> noDx;
+  private final boolean disablePreDex;
+  private final @Nullable ProGuardObfuscateStep.SdkProguardType androidSdkProguardConfig;
+  private final int optimizationPasses;
+  private final ImmutableList<String> proguardJvmArgs;
+  private final @Nullable SourcePath proguardConfig;
+  private final ResourcesFilter.ResourceCompressionMode resourceCompression;
+  private final @Nullable Boolean skipCrunchPngs;
+  private final boolean includesVectorDrawables;
+  private final boolean noAutoVersionResources;
+  private final boolean noVersionTransitionsResources;
+  private final boolean noAutoAddOverlayResources;
+  private final ImmutableSet<BuildTarget> applicationModuleTargets;
+  private final ImmutableMap<String, ImmutableList<BuildTarget>> applicationModuleConfigs;
+  private final ImmutableSet<String> applicationModulesWithResources;
+  private final @Nullable ImmutableMap<String, ImmutableList<String>> applicationModuleDependencies;
+  private final boolean isCacheable;
+  private final ImmutableList<String> additionalAaptParams;
+  private final AaptMode aaptMode;
+  private final boolean trimResourceIds;
+  private final boolean allowRDotJavaInSecondaryDex;
+  private final @Nullable String keepResourcePattern;
+  private final @Nullable String resourceUnionPackage;
+  private final ImmutableSet<String> locales;
+  private final boolean aapt2LocaleFiltering;
+  private final @Nullable String localizedStringFileName;
+  private final boolean buildStringSourceMap;
+  private final boolean ignoreAaptProguardConfig;
+  private final ImmutableSet<TargetCpuType> cpuFilters;
+  private final @Nullable StringWithMacros preprocessJavaClassesBash;
+  private final boolean reorderClassesIntraDex;
+  private final String dexTool;
+  private final @Nullable SourcePath dexReorderToolFile;
+  private final @Nullable SourcePath dexReorderDataDumpFile;
+  private final ImmutableMap<String, List<Pattern>> nativeLibraryMergeMap;
+  private final @Nullable BuildTarget nativeLibraryMergeGlue;
+  private final @Nullable BuildTarget nativeLibraryMergeCodeGenerator;
+  private final @Nullable ImmutableSortedSet<String> nativeLibraryMergeLocalizedSymbols;
+  private final @Nullable BuildTarget nativeLibraryProguardConfigGenerator;
+  private final boolean enableRelinker;
+  private final ImmutableList<Pattern> relinkerWhitelist;
+  private final ManifestEntries manifestEntries;
+  private final BuildConfigFields buildConfigValues;
+  private final @Nullable StringWithMacros postFilterResourcesCmd;
+  private final @Nullable SourcePath buildConfigValuesFile;
+  private final boolean skipProguard;
+  private final ImmutableSet<String> extraFilteredResources;
+  private final HasDuplicateAndroidResourceTypes.DuplicateResourceBehaviour duplicateResourceBehavior;
+  private final ImmutableSet<RDotTxtEntry.RType> allowedDuplicateResourceTypes;
+  private final ImmutableSet<RDotTxtEntry.RType> bannedDuplicateResourceTypes;
+  private final @Nullable SourcePath duplicateResourceWhitelist;
+  private transient final EnumSet<RDotTxtEntry.RType> effectiveBannedDuplicateResourceTypes;
+  private final @Nullable List<Query> applicationModuleBlacklist;
+
+  private AndroidBinaryDescriptionArg(AndroidBinaryDescriptionArg.Builder builder) {
+    this.keystore = builder.keystore;
+    this.dexCompression = builder.dexCompression;
+    this.primaryDexPatterns = builder.primaryDexPatterns.build();
+    this.primaryDexClassesFile = builder.primaryDexClassesFile;
+    this.primaryDexScenarioFile = builder.primaryDexScenarioFile;
+    this.secondaryDexHeadClassesFile = builder.secondaryDexHeadClassesFile;
+    this.secondaryDexTailClassesFile = builder.secondaryDexTailClassesFile;
+    this.androidAppModularityResult = builder.androidAppModularityResult;
+    this.resourceFilter = builder.resourceFilter.build();
+    this.preprocessJavaClassesDeps = builder.preprocessJavaClassesDeps.build();
+    this.assetCompressionAlgorithm = builder.assetCompressionAlgorithm;
+    this.redexConfig = builder.redexConfig;
+    this.redexExtraArgs = builder.redexExtraArgs.build();
+    this.deps = builder.deps.build();
+    this.licenses = builder.licenses.build();
+    this.labels = builder.labels.build();
+    this.defaultTargetPlatform = builder.defaultTargetPlatform;
+    this.compatibleWith = builder.compatibleWith.build();
+    this.name = builder.name;
+    this.exopackage = builder.exopackage;
+    this.exopackageModes = Sets.immutableEnumSet(builder.exopackageModes.build());
+    this.tests = builder.tests.build();
+    this.manifest = builder.manifest;
+    this.manifestSkeleton = builder.manifestSkeleton;
+    this.moduleManifestSkeleton = builder.moduleManifestSkeleton;
+    this.packageType = builder.packageType;
+    this.noDx = builder.noDx.build();
+    this.androidSdkProguardConfig = builder.androidSdkProguardConfig;
+    this.proguardJvmArgs = builder.proguardJvmArgs.build();
+    this.proguardConfig = builder.proguardConfig;
+    this.skipCrunchPngs = builder.skipCrunchPngs;
+    this.applicationModuleTargets = builder.applicationModuleTargets.build();
+    this.applicationModuleConfigs = builder.applicationModuleConfigs.build();
+    this.applicationModuleDependencies = builder.applicationModuleDependencies;
+    this.additionalAaptParams = builder.additionalAaptParams.build();
+    this.keepResourcePattern = builder.keepResourcePattern;
+    this.resourceUnionPackage = builder.resourceUnionPackage;
+    this.locales = builder.locales.build();
+    this.localizedStringFileName = builder.localizedStringFileName;
+    this.cpuFilters = Sets.immutableEnumSet(builder.cpuFilters.build());
+    this.preprocessJavaClassesBash = builder.preprocessJavaClassesBash;
+    this.dexReorderToolFile = builder.dexReorderToolFile;
+    this.dexReorderDataDumpFile = builder.dexReorderDataDumpFile;
+    this.nativeLibraryMergeMap = builder.nativeLibraryMergeMap.build();
+    this.nativeLibraryMergeGlue = builder.nativeLibraryMergeGlue;
+    this.nativeLibraryMergeCodeGenerator = builder.nativeLibraryMergeCodeGenerator;
+    this.nativeLibraryMergeLocalizedSymbols = builder.nativeLibraryMergeLocalizedSymbols;
+    this.nativeLibraryProguardConfigGenerator = builder.nativeLibraryProguardConfigGenerator;
+    this.relinkerWhitelist = builder.relinkerWhitelist.build();
+    this.postFilterResourcesCmd = builder.postFilterResourcesCmd;
+    this.buildConfigValuesFile = builder.buildConfigValuesFile;
+    this.allowedDuplicateResourceTypes = Sets.immutableEnumSet(builder.allowedDuplicateResourceTypes.build());
+    this.bannedDuplicateResourceTypes = Sets.immutableEnumSet(builder.bannedDuplicateResourceTypes.build());
+    this.duplicateResourceWhitelist = builder.duplicateResourceWhitelist;
+    this.applicationModuleBlacklist = builder.applicationModuleBlacklist;
+    if (builder.useSplitDexIsSet()) {
+      initShim.setUseSplitDex(builder.useSplitDex);
+    }
+    if (builder.minimizePrimaryDexSizeIsSet()) {
+      initShim.setMinimizePrimaryDexSize(builder.minimizePrimaryDexSize);
+    }
+    if (builder.primaryDexScenarioOverflowAllowedIsSet()) {
+      initShim.setPrimaryDexScenarioOverflowAllowed(builder.primaryDexScenarioOverflowAllowed);
+    }
+    if (builder.linearAllocHardLimitIsSet()) {
+      initShim.setLinearAllocHardLimit(builder.linearAllocHardLimit);
+    }
+    if (builder.dexGroupLibLimitIsSet()) {
+      initShim.setDexGroupLibLimit(builder.dexGroupLibLimit);
+    }
+    if (builder.xzCompressionLevelIsSet()) {
+      initShim.setXzCompressionLevel(builder.xzCompressionLevel);
+    }
+    if (builder.packageAssetLibrariesIsSet()) {
+      initShim.setPackageAssetLibraries(builder.packageAssetLibraries);
+    }
+    if (builder.compressAssetLibrariesIsSet()) {
+      initShim.setCompressAssetLibraries(builder.compressAssetLibraries);
+    }
+    if (builder.redexIsSet()) {
+      initShim.setRedex(builder.redex);
+    }
+    if (builder.disablePreDexIsSet()) {
+      initShim.setDisablePreDex(builder.disablePreDex);
+    }
+    if (builder.optimizationPassesIsSet()) {
+      initShim.setOptimizationPasses(builder.optimizationPasses);
+    }
+    if (builder.resourceCompression != null) {
+      initShim.setResourceCompression(builder.resourceCompression);
+    }
+    if (builder.includesVectorDrawablesIsSet()) {
+      initShim.setIncludesVectorDrawables(builder.includesVectorDrawables);
+    }
+    if (builder.noAutoVersionResourcesIsSet()) {
+      initShim.setNoAutoVersionResources(builder.noAutoVersionResources);
+    }
+    if (builder.noVersionTransitionsResourcesIsSet()) {
+      initShim.setNoVersionTransitionsResources(builder.noVersionTransitionsResources);
+    }
+    if (builder.noAutoAddOverlayResourcesIsSet()) {
+      initShim.setNoAutoAddOverlayResources(builder.noAutoAddOverlayResources);
+    }
+    if (builder.applicationModulesWithResourcesIsSet()) {
+      initShim.setApplicationModulesWithResources(builder.applicationModulesWithResources.build());
+    }
+    if (builder.isCacheableIsSet()) {
+      initShim.setIsCacheable(builder.isCacheable);
+    }
+    if (builder.aaptMode != null) {
+      initShim.setAaptMode(builder.aaptMode);
+    }
+    if (builder.trimResourceIdsIsSet()) {
+      initShim.setTrimResourceIds(builder.trimResourceIds);
+    }
+    if (builder.allowRDotJavaInSecondaryDexIsSet()) {
+      initShim.setAllowRDotJavaInSecondaryDex(builder.allowRDotJavaInSecondaryDex);
+    }
+    if (builder.aapt2LocaleFilteringIsSet()) {
+      initShim.setAapt2LocaleFiltering(builder.aapt2LocaleFiltering);
+    }
+    if (builder.buildStringSourceMapIsSet()) {
+      initShim.setBuildStringSourceMap(builder.buildStringSourceMap);
+    }
+    if (builder.ignoreAaptProguardConfigIsSet()) {
+      initShim.setIgnoreAaptProguardConfig(builder.ignoreAaptProguardConfig);
+    }
+    if (builder.reorderClassesIntraDexIsSet()) {
+      initShim.setReorderClassesIntraDex(builder.reorderClassesIntraDex);
+    }
+    if (builder.dexTool != null) {
+      initShim.setDexTool(builder.dexTool);
+    }
+    if (builder.enableRelinkerIsSet()) {
+      initShim.setEnableRelinker(builder.enableRelinker);
+    }
+    if (builder.manifestEntries != null) {
+      initShim.setManifestEntries(builder.manifestEntries);
+    }
+    if (builder.buildConfigValues != null) {
+      initShim.setBuildConfigValues(builder.buildConfigValues);
+    }
+    if (builder.skipProguardIsSet()) {
+      initShim.setSkipProguard(builder.skipProguard);
+    }
+    if (builder.extraFilteredResourcesIsSet()) {
+      initShim.setExtraFilteredResources(builder.extraFilteredResources.build());
+    }
+    if (builder.duplicateResourceBehavior != null) {
+      initShim.setDuplicateResourceBehavior(builder.duplicateResourceBehavior);
+    }
+    this.useSplitDex = initShim.getUseSplitDex();
+    this.minimizePrimaryDexSize = initShim.getMinimizePrimaryDexSize();
+    this.primaryDexScenarioOverflowAllowed = initShim.isPrimaryDexScenarioOverflowAllowed();
+    this.linearAllocHardLimit = initShim.getLinearAllocHardLimit();
+    this.dexGroupLibLimit = initShim.getDexGroupLibLimit();
+    this.xzCompressionLevel = initShim.getXzCompressionLevel();
+    this.packageAssetLibraries = initShim.isPackageAssetLibraries();
+    this.compressAssetLibraries = initShim.isCompressAssetLibraries();
+    this.redex = initShim.getRedex();
+    this.disablePreDex = initShim.getDisablePreDex();
+    this.optimizationPasses = initShim.getOptimizationPasses();
+    this.resourceCompression = initShim.getResourceCompression();
+    this.includesVectorDrawables = initShim.isIncludesVectorDrawables();
+    this.noAutoVersionResources = initShim.isNoAutoVersionResources();
+    this.noVersionTransitionsResources = initShim.isNoVersionTransitionsResources();
+    this.noAutoAddOverlayResources = initShim.isNoAutoAddOverlayResources();
+    this.applicationModulesWithResources = initShim.getApplicationModulesWithResources();
+    this.isCacheable = initShim.getIsCacheable();
+    this.aaptMode = initShim.getAaptMode();
+    this.trimResourceIds = initShim.isTrimResourceIds();
+    this.allowRDotJavaInSecondaryDex = initShim.isAllowRDotJavaInSecondaryDex();
+    this.aapt2LocaleFiltering = initShim.isAapt2LocaleFiltering();
+    this.buildStringSourceMap = initShim.isBuildStringSourceMap();
+    this.ignoreAaptProguardConfig = initShim.isIgnoreAaptProguardConfig();
+    this.reorderClassesIntraDex = initShim.isReorderClassesIntraDex();
+    this.dexTool = initShim.getDexTool();
+    this.enableRelinker = initShim.isEnableRelinker();
+    this.manifestEntries = initShim.getManifestEntries();
+    this.buildConfigValues = initShim.getBuildConfigValues();
+    this.skipProguard = initShim.isSkipProguard();
+    this.extraFilteredResources = initShim.getExtraFilteredResources();
+    this.duplicateResourceBehavior = initShim.getDuplicateResourceBehavior();
+    this.effectiveBannedDuplicateResourceTypes = initShim.getEffectiveBannedDuplicateResourceTypes();
+    this.initShim = null;
+  }
+
+  private static final byte STAGE_INITIALIZING = -1;
+  private static final byte STAGE_UNINITIALIZED = 0;
+  private static final byte STAGE_INITIALIZED = 1;
+  @SuppressWarnings("Immutable")
+  private transient volatile InitShim initShim = new InitShim();
+
+  @Generated(from = "AndroidBinaryDescription.AbstractAndroidBinaryDescriptionArg", generator = "Immutables")
+  private final class InitShim {
+    private byte useSplitDexBuildStage = STAGE_UNINITIALIZED;
+    private boolean useSplitDex;
+
+    boolean getUseSplitDex() {
+      if (useSplitDexBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (useSplitDexBuildStage == STAGE_UNINITIALIZED) {
+        useSplitDexBuildStage = STAGE_INITIALIZING;
+        this.useSplitDex = AndroidBinaryDescriptionArg.super.getUseSplitDex();
+        useSplitDexBuildStage = STAGE_INITIALIZED;
+      }
+      return this.useSplitDex;
+    }
+
+    void setUseSplitDex(boolean useSplitDex) {
+      this.useSplitDex = useSplitDex;
+      useSplitDexBuildStage = STAGE_INITIALIZED;
+    }
+
+    private byte minimizePrimaryDexSizeBuildStage = STAGE_UNINITIALIZED;
+    private boolean minimizePrimaryDexSize;
+
+    boolean getMinimizePrimaryDexSize() {
+      if (minimizePrimaryDexSizeBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (minimizePrimaryDexSizeBuildStage == STAGE_UNINITIALIZED) {
+        minimizePrimaryDexSizeBuildStage = STAGE_INITIALIZING;
+        this.minimizePrimaryDexSize = AndroidBinaryDescriptionArg.super.getMinimizePrimaryDexSize();
+        minimizePrimaryDexSizeBuildStage = STAGE_INITIALIZED;
+      }
+      return this.minimizePrimaryDexSize;
+    }
+
+    void setMinimizePrimaryDexSize(boolean minimizePrimaryDexSize) {
+      this.minimizePrimaryDexSize = minimizePrimaryDexSize;
+      minimizePrimaryDexSizeBuildStage = STAGE_INITIALIZED;
+    }
+
+    private byte primaryDexScenarioOverflowAllowedBuildStage = STAGE_UNINITIALIZED;
+    private boolean primaryDexScenarioOverflowAllowed;
+
+    boolean isPrimaryDexScenarioOverflowAllowed() {
+      if (primaryDexScenarioOverflowAllowedBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (primaryDexScenarioOverflowAllowedBuildStage == STAGE_UNINITIALIZED) {
+        primaryDexScenarioOverflowAllowedBuildStage = STAGE_INITIALIZING;
+        this.primaryDexScenarioOverflowAllowed = AndroidBinaryDescriptionArg.super.isPrimaryDexScenarioOverflowAllowed();
+        primaryDexScenarioOverflowAllowedBuildStage = STAGE_INITIALIZED;
+      }
+      return this.primaryDexScenarioOverflowAllowed;
+    }
+
+    void setPrimaryDexScenarioOverflowAllowed(boolean primaryDexScenarioOverflowAllowed) {
+      this.primaryDexScenarioOverflowAllowed = primaryDexScenarioOverflowAllowed;
+      primaryDexScenarioOverflowAllowedBuildStage = STAGE_INITIALIZED;
+    }
+
+    private byte linearAllocHardLimitBuildStage = STAGE_UNINITIALIZED;
+    private long linearAllocHardLimit;
+
+    long getLinearAllocHardLimit() {
+      if (linearAllocHardLimitBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (linearAllocHardLimitBuildStage == STAGE_UNINITIALIZED) {
+        linearAllocHardLimitBuildStage = STAGE_INITIALIZING;
+        this.linearAllocHardLimit = AndroidBinaryDescriptionArg.super.getLinearAllocHardLimit();
+        linearAllocHardLimitBuildStage = STAGE_INITIALIZED;
+      }
+      return this.linearAllocHardLimit;
+    }
+
+    void setLinearAllocHardLimit(long linearAllocHardLimit) {
+      this.linearAllocHardLimit = linearAllocHardLimit;
+      linearAllocHardLimitBuildStage = STAGE_INITIALIZED;
+    }
+
+    private byte dexGroupLibLimitBuildStage = STAGE_UNINITIALIZED;
+    private int dexGroupLibLimit;
+
+    int getDexGroupLibLimit() {
+      if (dexGroupLibLimitBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (dexGroupLibLimitBuildStage == STAGE_UNINITIALIZED) {
+        dexGroupLibLimitBuildStage = STAGE_INITIALIZING;
+        this.dexGroupLibLimit = AndroidBinaryDescriptionArg.super.getDexGroupLibLimit();
+        dexGroupLibLimitBuildStage = STAGE_INITIALIZED;
+      }
+      return this.dexGroupLibLimit;
+    }
+
+    void setDexGroupLibLimit(int dexGroupLibLimit) {
+      this.dexGroupLibLimit = dexGroupLibLimit;
+      dexGroupLibLimitBuildStage = STAGE_INITIALIZED;
+    }
+
+    private byte xzCompressionLevelBuildStage = STAGE_UNINITIALIZED;
+    private int xzCompressionLevel;
+
+    int getXzCompressionLevel() {
+      if (xzCompressionLevelBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (xzCompressionLevelBuildStage == STAGE_UNINITIALIZED) {
+        xzCompressionLevelBuildStage = STAGE_INITIALIZING;
+        this.xzCompressionLevel = AndroidBinaryDescriptionArg.super.getXzCompressionLevel();
+        xzCompressionLevelBuildStage = STAGE_INITIALIZED;
+      }
+      return this.xzCompressionLevel;
+    }
+
+    void setXzCompressionLevel(int xzCompressionLevel) {
+      this.xzCompressionLevel = xzCompressionLevel;
+      xzCompressionLevelBuildStage = STAGE_INITIALIZED;
+    }
+
+    private byte packageAssetLibrariesBuildStage = STAGE_UNINITIALIZED;
+    private boolean packageAssetLibraries;
+
+    boolean isPackageAssetLibraries() {
+      if (packageAssetLibrariesBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (packageAssetLibrariesBuildStage == STAGE_UNINITIALIZED) {
+        packageAssetLibrariesBuildStage = STAGE_INITIALIZING;
+        this.packageAssetLibraries = AndroidBinaryDescriptionArg.super.isPackageAssetLibraries();
+        packageAssetLibrariesBuildStage = STAGE_INITIALIZED;
+      }
+      return this.packageAssetLibraries;
+    }
+
+    void setPackageAssetLibraries(boolean packageAssetLibraries) {
+      this.packageAssetLibraries = packageAssetLibraries;
+      packageAssetLibrariesBuildStage = STAGE_INITIALIZED;
+    }
+
+    private byte compressAssetLibrariesBuildStage = STAGE_UNINITIALIZED;
+    private boolean compressAssetLibraries;
+
+    boolean isCompressAssetLibraries() {
+      if (compressAssetLibrariesBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (compressAssetLibrariesBuildStage == STAGE_UNINITIALIZED) {
+        compressAssetLibrariesBuildStage = STAGE_INITIALIZING;
+        this.compressAssetLibraries = AndroidBinaryDescriptionArg.super.isCompressAssetLibraries();
+        compressAssetLibrariesBuildStage = STAGE_INITIALIZED;
+      }
+      return this.compressAssetLibraries;
+    }
+
+    void setCompressAssetLibraries(boolean compressAssetLibraries) {
+      this.compressAssetLibraries = compressAssetLibraries;
+      compressAssetLibrariesBuildStage = STAGE_INITIALIZED;
+    }
+
+    private byte redexBuildStage = STAGE_UNINITIALIZED;
+    private boolean redex;
+
+    boolean getRedex() {
+      if (redexBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (redexBuildStage == STAGE_UNINITIALIZED) {
+        redexBuildStage = STAGE_INITIALIZING;
+        this.redex = AndroidBinaryDescriptionArg.super.getRedex();
+        redexBuildStage = STAGE_INITIALIZED;
+      }
+      return this.redex;
+    }
+
+    void setRedex(boolean redex) {
+      this.redex = redex;
+      redexBuildStage = STAGE_INITIALIZED;
+    }
+
+    private byte disablePreDexBuildStage = STAGE_UNINITIALIZED;
+    private boolean disablePreDex;
+
+    boolean getDisablePreDex() {
+      if (disablePreDexBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (disablePreDexBuildStage == STAGE_UNINITIALIZED) {
+        disablePreDexBuildStage = STAGE_INITIALIZING;
+        this.disablePreDex = AndroidBinaryDescriptionArg.super.getDisablePreDex();
+        disablePreDexBuildStage = STAGE_INITIALIZED;
+      }
+      return this.disablePreDex;
+    }
+
+    void setDisablePreDex(boolean disablePreDex) {
+      this.disablePreDex = disablePreDex;
+      disablePreDexBuildStage = STAGE_INITIALIZED;
+    }
+
+    private byte optimizationPassesBuildStage = STAGE_UNINITIALIZED;
+    private int optimizationPasses;
+
+    int getOptimizationPasses() {
+      if (optimizationPassesBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (optimizationPassesBuildStage == STAGE_UNINITIALIZED) {
+        optimizationPassesBuildStage = STAGE_INITIALIZING;
+        this.optimizationPasses = AndroidBinaryDescriptionArg.super.getOptimizationPasses();
+        optimizationPassesBuildStage = STAGE_INITIALIZED;
+      }
+      return this.optimizationPasses;
+    }
+
+    void setOptimizationPasses(int optimizationPasses) {
+      this.optimizationPasses = optimizationPasses;
+      optimizationPassesBuildStage = STAGE_INITIALIZED;
+    }
+
+    private byte resourceCompressionBuildStage = STAGE_UNINITIALIZED;
+    private ResourcesFilter.ResourceCompressionMode resourceCompression;
+
+    ResourcesFilter.ResourceCompressionMode getResourceCompression() {
+      if (resourceCompressionBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (resourceCompressionBuildStage == STAGE_UNINITIALIZED) {
+        resourceCompressionBuildStage = STAGE_INITIALIZING;
+        this.resourceCompression = Objects.requireNonNull(AndroidBinaryDescriptionArg.super.getResourceCompression(), "resourceCompression");
+        resourceCompressionBuildStage = STAGE_INITIALIZED;
+      }
+      return this.resourceCompression;
+    }
+
+    void setResourceCompression(ResourcesFilter.ResourceCompressionMode resourceCompression) {
+      this.resourceCompression = resourceCompression;
+      resourceCompressionBuildStage = STAGE_INITIALIZED;
+    }
+
+    private byte includesVectorDrawablesBuildStage = STAGE_UNINITIALIZED;
+    private boolean includesVectorDrawables;
+
+    boolean isIncludesVectorDrawables() {
+      if (includesVectorDrawablesBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (includesVectorDrawablesBuildStage == STAGE_UNINITIALIZED) {
+        includesVectorDrawablesBuildStage = STAGE_INITIALIZING;
+        this.includesVectorDrawables = AndroidBinaryDescriptionArg.super.isIncludesVectorDrawables();
+        includesVectorDrawablesBuildStage = STAGE_INITIALIZED;
+      }
+      return this.includesVectorDrawables;
+    }
+
+    void setIncludesVectorDrawables(boolean includesVectorDrawables) {
+      this.includesVectorDrawables = includesVectorDrawables;
+      includesVectorDrawablesBuildStage = STAGE_INITIALIZED;
+    }
+
+    private byte noAutoVersionResourcesBuildStage = STAGE_UNINITIALIZED;
+    private boolean noAutoVersionResources;
+
+    boolean isNoAutoVersionResources() {
+      if (noAutoVersionResourcesBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (noAutoVersionResourcesBuildStage == STAGE_UNINITIALIZED) {
+        noAutoVersionResourcesBuildStage = STAGE_INITIALIZING;
+        this.noAutoVersionResources = AndroidBinaryDescriptionArg.super.isNoAutoVersionResources();
+        noAutoVersionResourcesBuildStage = STAGE_INITIALIZED;
+      }
+      return this.noAutoVersionResources;
+    }
+
+    void setNoAutoVersionResources(boolean noAutoVersionResources) {
+      this.noAutoVersionResources = noAutoVersionResources;
+      noAutoVersionResourcesBuildStage = STAGE_INITIALIZED;
+    }
+
+    private byte noVersionTransitionsResourcesBuildStage = STAGE_UNINITIALIZED;
+    private boolean noVersionTransitionsResources;
+
+    boolean isNoVersionTransitionsResources() {
+      if (noVersionTransitionsResourcesBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (noVersionTransitionsResourcesBuildStage == STAGE_UNINITIALIZED) {
+        noVersionTransitionsResourcesBuildStage = STAGE_INITIALIZING;
+        this.noVersionTransitionsResources = AndroidBinaryDescriptionArg.super.isNoVersionTransitionsResources();
+        noVersionTransitionsResourcesBuildStage = STAGE_INITIALIZED;
+      }
+      return this.noVersionTransitionsResources;
+    }
+
+    void setNoVersionTransitionsResources(boolean noVersionTransitionsResources) {
+      this.noVersionTransitionsResources = noVersionTransitionsResources;
+      noVersionTransitionsResourcesBuildStage = STAGE_INITIALIZED;
+    }
+
+    private byte noAutoAddOverlayResourcesBuildStage = STAGE_UNINITIALIZED;
+    private boolean noAutoAddOverlayResources;
+
+    boolean isNoAutoAddOverlayResources() {
+      if (noAutoAddOverlayResourcesBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (noAutoAddOverlayResourcesBuildStage == STAGE_UNINITIALIZED) {
+        noAutoAddOverlayResourcesBuildStage = STAGE_INITIALIZING;
+        this.noAutoAddOverlayResources = AndroidBinaryDescriptionArg.super.isNoAutoAddOverlayResources();
+        noAutoAddOverlayResourcesBuildStage = STAGE_INITIALIZED;
+      }
+      return this.noAutoAddOverlayResources;
+    }
+
+    void setNoAutoAddOverlayResources(boolean noAutoAddOverlayResources) {
+      this.noAutoAddOverlayResources = noAutoAddOverlayResources;
+      noAutoAddOverlayResourcesBuildStage = STAGE_INITIALIZED;
+    }
+
+    private byte applicationModulesWithResourcesBuildStage = STAGE_UNINITIALIZED;
+    private ImmutableSet<String> applicationModulesWithResources;
+
+    ImmutableSet<String> getApplicationModulesWithResources() {
+      if (applicationModulesWithResourcesBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (applicationModulesWithResourcesBuildStage == STAGE_UNINITIALIZED) {
+        applicationModulesWithResourcesBuildStage = STAGE_INITIALIZING;
+        this.applicationModulesWithResources = ImmutableSet.copyOf(AndroidBinaryDescriptionArg.super.getApplicationModulesWithResources());
+        applicationModulesWithResourcesBuildStage = STAGE_INITIALIZED;
+      }
+      return this.applicationModulesWithResources;
+    }
+
+    void setApplicationModulesWithResources(ImmutableSet<String> applicationModulesWithResources) {
+      this.applicationModulesWithResources = applicationModulesWithResources;
+      applicationModulesWithResourcesBuildStage = STAGE_INITIALIZED;
+    }
+
+    private byte isCacheableBuildStage = STAGE_UNINITIALIZED;
+    private boolean isCacheable;
+
+    boolean getIsCacheable() {
+      if (isCacheableBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (isCacheableBuildStage == STAGE_UNINITIALIZED) {
+        isCacheableBuildStage = STAGE_INITIALIZING;
+        this.isCacheable = AndroidBinaryDescriptionArg.super.getIsCacheable();
+        isCacheableBuildStage = STAGE_INITIALIZED;
+      }
+      return this.isCacheable;
+    }
+
+    void setIsCacheable(boolean isCacheable) {
+      this.isCacheable = isCacheable;
+      isCacheableBuildStage = STAGE_INITIALIZED;
+    }
+
+    private byte aaptModeBuildStage = STAGE_UNINITIALIZED;
+    private AaptMode aaptMode;
+
+    AaptMode getAaptMode() {
+      if (aaptModeBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (aaptModeBuildStage == STAGE_UNINITIALIZED) {
+        aaptModeBuildStage = STAGE_INITIALIZING;
+        this.aaptMode = Objects.requireNonNull(AndroidBinaryDescriptionArg.super.getAaptMode(), "aaptMode");
+        aaptModeBuildStage = STAGE_INITIALIZED;
+      }
+      return this.aaptMode;
+    }
+
+    void setAaptMode(AaptMode aaptMode) {
+      this.aaptMode = aaptMode;
+      aaptModeBuildStage = STAGE_INITIALIZED;
+    }
+
+    private byte trimResourceIdsBuildStage = STAGE_UNINITIALIZED;
+    private boolean trimResourceIds;
+
+    boolean isTrimResourceIds() {
+      if (trimResourceIdsBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (trimResourceIdsBuildStage == STAGE_UNINITIALIZED) {
+        trimResourceIdsBuildStage = STAGE_INITIALIZING;
+        this.trimResourceIds = AndroidBinaryDescriptionArg.super.isTrimResourceIds();
+        trimResourceIdsBuildStage = STAGE_INITIALIZED;
+      }
+      return this.trimResourceIds;
+    }
+
+    void setTrimResourceIds(boolean trimResourceIds) {
+      this.trimResourceIds = trimResourceIds;
+      trimResourceIdsBuildStage = STAGE_INITIALIZED;
+    }
+
+    private byte allowRDotJavaInSecondaryDexBuildStage = STAGE_UNINITIALIZED;
+    private boolean allowRDotJavaInSecondaryDex;
+
+    boolean isAllowRDotJavaInSecondaryDex() {
+      if (allowRDotJavaInSecondaryDexBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (allowRDotJavaInSecondaryDexBuildStage == STAGE_UNINITIALIZED) {
+        allowRDotJavaInSecondaryDexBuildStage = STAGE_INITIALIZING;
+        this.allowRDotJavaInSecondaryDex = AndroidBinaryDescriptionArg.super.isAllowRDotJavaInSecondaryDex();
+        allowRDotJavaInSecondaryDexBuildStage = STAGE_INITIALIZED;
+      }
+      return this.allowRDotJavaInSecondaryDex;
+    }
+
+    void setAllowRDotJavaInSecondaryDex(boolean allowRDotJavaInSecondaryDex) {
+      this.allowRDotJavaInSecondaryDex = allowRDotJavaInSecondaryDex;
+      allowRDotJavaInSecondaryDexBuildStage = STAGE_INITIALIZED;
+    }
+
+    private byte aapt2LocaleFilteringBuildStage = STAGE_UNINITIALIZED;
+    private boolean aapt2LocaleFiltering;
+
+    boolean isAapt2LocaleFiltering() {
+      if (aapt2LocaleFilteringBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (aapt2LocaleFilteringBuildStage == STAGE_UNINITIALIZED) {
+        aapt2LocaleFilteringBuildStage = STAGE_INITIALIZING;
+        this.aapt2LocaleFiltering = AndroidBinaryDescriptionArg.super.isAapt2LocaleFiltering();
+        aapt2LocaleFilteringBuildStage = STAGE_INITIALIZED;
+      }
+      return this.aapt2LocaleFiltering;
+    }
+
+    void setAapt2LocaleFiltering(boolean aapt2LocaleFiltering) {
+      this.aapt2LocaleFiltering = aapt2LocaleFiltering;
+      aapt2LocaleFilteringBuildStage = STAGE_INITIALIZED;
+    }
+
+    private byte buildStringSourceMapBuildStage = STAGE_UNINITIALIZED;
+    private boolean buildStringSourceMap;
+
+    boolean isBuildStringSourceMap() {
+      if (buildStringSourceMapBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (buildStringSourceMapBuildStage == STAGE_UNINITIALIZED) {
+        buildStringSourceMapBuildStage = STAGE_INITIALIZING;
+        this.buildStringSourceMap = AndroidBinaryDescriptionArg.super.isBuildStringSourceMap();
+        buildStringSourceMapBuildStage = STAGE_INITIALIZED;
+      }
+      return this.buildStringSourceMap;
+    }
+
+    void setBuildStringSourceMap(boolean buildStringSourceMap) {
+      this.buildStringSourceMap = buildStringSourceMap;
+      buildStringSourceMapBuildStage = STAGE_INITIALIZED;
+    }
+
+    private byte ignoreAaptProguardConfigBuildStage = STAGE_UNINITIALIZED;
+    private boolean ignoreAaptProguardConfig;
+
+    boolean isIgnoreAaptProguardConfig() {
+      if (ignoreAaptProguardConfigBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (ignoreAaptProguardConfigBuildStage == STAGE_UNINITIALIZED) {
+        ignoreAaptProguardConfigBuildStage = STAGE_INITIALIZING;
+        this.ignoreAaptProguardConfig = AndroidBinaryDescriptionArg.super.isIgnoreAaptProguardConfig();
+        ignoreAaptProguardConfigBuildStage = STAGE_INITIALIZED;
+      }
+      return this.ignoreAaptProguardConfig;
+    }
+
+    void setIgnoreAaptProguardConfig(boolean ignoreAaptProguardConfig) {
+      this.ignoreAaptProguardConfig = ignoreAaptProguardConfig;
+      ignoreAaptProguardConfigBuildStage = STAGE_INITIALIZED;
+    }
+
+    private byte reorderClassesIntraDexBuildStage = STAGE_UNINITIALIZED;
+    private boolean reorderClassesIntraDex;
+
+    boolean isReorderClassesIntraDex() {
+      if (reorderClassesIntraDexBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (reorderClassesIntraDexBuildStage == STAGE_UNINITIALIZED) {
+        reorderClassesIntraDexBuildStage = STAGE_INITIALIZING;
+        this.reorderClassesIntraDex = AndroidBinaryDescriptionArg.super.isReorderClassesIntraDex();
+        reorderClassesIntraDexBuildStage = STAGE_INITIALIZED;
+      }
+      return this.reorderClassesIntraDex;
+    }
+
+    void setReorderClassesIntraDex(boolean reorderClassesIntraDex) {
+      this.reorderClassesIntraDex = reorderClassesIntraDex;
+      reorderClassesIntraDexBuildStage = STAGE_INITIALIZED;
+    }
+
+    private byte dexToolBuildStage = STAGE_UNINITIALIZED;
+    private String dexTool;
+
+    String getDexTool() {
+      if (dexToolBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (dexToolBuildStage == STAGE_UNINITIALIZED) {
+        dexToolBuildStage = STAGE_INITIALIZING;
+        this.dexTool = Objects.requireNonNull(AndroidBinaryDescriptionArg.super.getDexTool(), "dexTool");
+        dexToolBuildStage = STAGE_INITIALIZED;
+      }
+      return this.dexTool;
+    }
+
+    void setDexTool(String dexTool) {
+      this.dexTool = dexTool;
+      dexToolBuildStage = STAGE_INITIALIZED;
+    }
+
+    private byte enableRelinkerBuildStage = STAGE_UNINITIALIZED;
+    private boolean enableRelinker;
+
+    boolean isEnableRelinker() {
+      if (enableRelinkerBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (enableRelinkerBuildStage == STAGE_UNINITIALIZED) {
+        enableRelinkerBuildStage = STAGE_INITIALIZING;
+        this.enableRelinker = AndroidBinaryDescriptionArg.super.isEnableRelinker();
+        enableRelinkerBuildStage = STAGE_INITIALIZED;
+      }
+      return this.enableRelinker;
+    }
+
+    void setEnableRelinker(boolean enableRelinker) {
+      this.enableRelinker = enableRelinker;
+      enableRelinkerBuildStage = STAGE_INITIALIZED;
+    }
+
+    private byte manifestEntriesBuildStage = STAGE_UNINITIALIZED;
+    private ManifestEntries manifestEntries;
+
+    ManifestEntries getManifestEntries() {
+      if (manifestEntriesBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (manifestEntriesBuildStage == STAGE_UNINITIALIZED) {
+        manifestEntriesBuildStage = STAGE_INITIALIZING;
+        this.manifestEntries = Objects.requireNonNull(AndroidBinaryDescriptionArg.super.getManifestEntries(), "manifestEntries");
+        manifestEntriesBuildStage = STAGE_INITIALIZED;
+      }
+      return this.manifestEntries;
+    }
+
+    void setManifestEntries(ManifestEntries manifestEntries) {
+      this.manifestEntries = manifestEntries;
+      manifestEntriesBuildStage = STAGE_INITIALIZED;
+    }
+
+    private byte buildConfigValuesBuildStage = STAGE_UNINITIALIZED;
+    private BuildConfigFields buildConfigValues;
+
+    BuildConfigFields getBuildConfigValues() {
+      if (buildConfigValuesBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (buildConfigValuesBuildStage == STAGE_UNINITIALIZED) {
+        buildConfigValuesBuildStage = STAGE_INITIALIZING;
+        this.buildConfigValues = Objects.requireNonNull(AndroidBinaryDescriptionArg.super.getBuildConfigValues(), "buildConfigValues");
+        buildConfigValuesBuildStage = STAGE_INITIALIZED;
+      }
+      return this.buildConfigValues;
+    }
+
+    void setBuildConfigValues(BuildConfigFields buildConfigValues) {
+      this.buildConfigValues = buildConfigValues;
+      buildConfigValuesBuildStage = STAGE_INITIALIZED;
+    }
+
+    private byte skipProguardBuildStage = STAGE_UNINITIALIZED;
+    private boolean skipProguard;
+
+    boolean isSkipProguard() {
+      if (skipProguardBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (skipProguardBuildStage == STAGE_UNINITIALIZED) {
+        skipProguardBuildStage = STAGE_INITIALIZING;
+        this.skipProguard = AndroidBinaryDescriptionArg.super.isSkipProguard();
+        skipProguardBuildStage = STAGE_INITIALIZED;
+      }
+      return this.skipProguard;
+    }
+
+    void setSkipProguard(boolean skipProguard) {
+      this.skipProguard = skipProguard;
+      skipProguardBuildStage = STAGE_INITIALIZED;
+    }
+
+    private byte extraFilteredResourcesBuildStage = STAGE_UNINITIALIZED;
+    private ImmutableSet<String> extraFilteredResources;
+
+    ImmutableSet<String> getExtraFilteredResources() {
+      if (extraFilteredResourcesBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (extraFilteredResourcesBuildStage == STAGE_UNINITIALIZED) {
+        extraFilteredResourcesBuildStage = STAGE_INITIALIZING;
+        this.extraFilteredResources = Objects.requireNonNull(AndroidBinaryDescriptionArg.super.getExtraFilteredResources(), "extraFilteredResources");
+        extraFilteredResourcesBuildStage = STAGE_INITIALIZED;
+      }
+      return this.extraFilteredResources;
+    }
+
+    void setExtraFilteredResources(ImmutableSet<String> extraFilteredResources) {
+      this.extraFilteredResources = extraFilteredResources;
+      extraFilteredResourcesBuildStage = STAGE_INITIALIZED;
+    }
+
+    private byte duplicateResourceBehaviorBuildStage = STAGE_UNINITIALIZED;
+    private HasDuplicateAndroidResourceTypes.DuplicateResourceBehaviour duplicateResourceBehavior;
+
+    HasDuplicateAndroidResourceTypes.DuplicateResourceBehaviour getDuplicateResourceBehavior() {
+      if (duplicateResourceBehaviorBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (duplicateResourceBehaviorBuildStage == STAGE_UNINITIALIZED) {
+        duplicateResourceBehaviorBuildStage = STAGE_INITIALIZING;
+        this.duplicateResourceBehavior = Objects.requireNonNull(AndroidBinaryDescriptionArg.super.getDuplicateResourceBehavior(), "duplicateResourceBehavior");
+        duplicateResourceBehaviorBuildStage = STAGE_INITIALIZED;
+      }
+      return this.duplicateResourceBehavior;
+    }
+
+    void setDuplicateResourceBehavior(HasDuplicateAndroidResourceTypes.DuplicateResourceBehaviour duplicateResourceBehavior) {
+      this.duplicateResourceBehavior = duplicateResourceBehavior;
+      duplicateResourceBehaviorBuildStage = STAGE_INITIALIZED;
+    }
+
+    private byte effectiveBannedDuplicateResourceTypesBuildStage = STAGE_UNINITIALIZED;
+    private EnumSet<RDotTxtEntry.RType> effectiveBannedDuplicateResourceTypes;
+
+    EnumSet<RDotTxtEntry.RType> getEffectiveBannedDuplicateResourceTypes() {
+      if (effectiveBannedDuplicateResourceTypesBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (effectiveBannedDuplicateResourceTypesBuildStage == STAGE_UNINITIALIZED) {
+        effectiveBannedDuplicateResourceTypesBuildStage = STAGE_INITIALIZING;
+        this.effectiveBannedDuplicateResourceTypes = Objects.requireNonNull(AndroidBinaryDescriptionArg.super.getEffectiveBannedDuplicateResourceTypes(), "effectiveBannedDuplicateResourceTypes");
+        effectiveBannedDuplicateResourceTypesBuildStage = STAGE_INITIALIZED;
+      }
+      return this.effectiveBannedDuplicateResourceTypes;
+    }
+
+    private String formatInitCycleMessage() {
+      List<String> attributes = new ArrayList<>();
+      if (useSplitDexBuildStage == STAGE_INITIALIZING) attributes.add("useSplitDex");
+      if (minimizePrimaryDexSizeBuildStage == STAGE_INITIALIZING) attributes.add("minimizePrimaryDexSize");
+      if (primaryDexScenarioOverflowAllowedBuildStage == STAGE_INITIALIZING) attributes.add("primaryDexScenarioOverflowAllowed");
+      if (linearAllocHardLimitBuildStage == STAGE_INITIALIZING) attributes.add("linearAllocHardLimit");
+      if (dexGroupLibLimitBuildStage == STAGE_INITIALIZING) attributes.add("dexGroupLibLimit");
+      if (xzCompressionLevelBuildStage == STAGE_INITIALIZING) attributes.add("xzCompressionLevel");
+      if (packageAssetLibrariesBuildStage == STAGE_INITIALIZING) attributes.add("packageAssetLibraries");
+      if (compressAssetLibrariesBuildStage == STAGE_INITIALIZING) attributes.add("compressAssetLibraries");
+      if (redexBuildStage == STAGE_INITIALIZING) attributes.add("redex");
+      if (disablePreDexBuildStage == STAGE_INITIALIZING) attributes.add("disablePreDex");
+      if (optimizationPassesBuildStage == STAGE_INITIALIZING) attributes.add("optimizationPasses");
+      if (resourceCompressionBuildStage == STAGE_INITIALIZING) attributes.add("resourceCompression");
+      if (includesVectorDrawablesBuildStage == STAGE_INITIALIZING) attributes.add("includesVectorDrawables");
+      if (noAutoVersionResourcesBuildStage == STAGE_INITIALIZING) attributes.add("noAutoVersionResources");
+      if (noVersionTransitionsResourcesBuildStage == STAGE_INITIALIZING) attributes.add("noVersionTransitionsResources");
+      if (noAutoAddOverlayResourcesBuildStage == STAGE_INITIALIZING) attributes.add("noAutoAddOverlayResources");
+      if (applicationModulesWithResourcesBuildStage == STAGE_INITIALIZING) attributes.add("applicationModulesWithResources");
+      if (isCacheableBuildStage == STAGE_INITIALIZING) attributes.add("isCacheable");
+      if (aaptModeBuildStage == STAGE_INITIALIZING) attributes.add("aaptMode");
+      if (trimResourceIdsBuildStage == STAGE_INITIALIZING) attributes.add("trimResourceIds");
+      if (allowRDotJavaInSecondaryDexBuildStage == STAGE_INITIALIZING) attributes.add("allowRDotJavaInSecondaryDex");
+      if (aapt2LocaleFilteringBuildStage == STAGE_INITIALIZING) attributes.add("aapt2LocaleFiltering");
+      if (buildStringSourceMapBuildStage == STAGE_INITIALIZING) attributes.add("buildStringSourceMap");
+      if (ignoreAaptProguardConfigBuildStage == STAGE_INITIALIZING) attributes.add("ignoreAaptProguardConfig");
+      if (reorderClassesIntraDexBuildStage == STAGE_INITIALIZING) attributes.add("reorderClassesIntraDex");
+      if (dexToolBuildStage == STAGE_INITIALIZING) attributes.add("dexTool");
+      if (enableRelinkerBuildStage == STAGE_INITIALIZING) attributes.add("enableRelinker");
+      if (manifestEntriesBuildStage == STAGE_INITIALIZING) attributes.add("manifestEntries");
+      if (buildConfigValuesBuildStage == STAGE_INITIALIZING) attributes.add("buildConfigValues");
+      if (skipProguardBuildStage == STAGE_INITIALIZING) attributes.add("skipProguard");
+      if (extraFilteredResourcesBuildStage == STAGE_INITIALIZING) attributes.add("extraFilteredResources");
+      if (duplicateResourceBehaviorBuildStage == STAGE_INITIALIZING) attributes.add("duplicateResourceBehavior");
+      if (effectiveBannedDuplicateResourceTypesBuildStage == STAGE_INITIALIZING) attributes.add("effectiveBannedDuplicateResourceTypes");
+      return "Cannot build AndroidBinaryDescriptionArg, attribute initializers form cycle " + attributes;
+    }
+  }
+
+  /**
+   * @return The value of the {@code keystore} attribute
+   */
+  @Override
+  public BuildTarget getKeystore() {
+    return keystore;
+  }
+
+  /**
+   * @return The value of the {@code useSplitDex} attribute
+   */
+  @Override
+  public boolean getUseSplitDex() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.getUseSplitDex()
+        : this.useSplitDex;
+  }
+
+  /**
+   * @return The value of the {@code minimizePrimaryDexSize} attribute
+   */
+  @Override
+  public boolean getMinimizePrimaryDexSize() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.getMinimizePrimaryDexSize()
+        : this.minimizePrimaryDexSize;
+  }
+
+  /**
+   * @return The value of the {@code dexCompression} attribute
+   */
+  @Override
+  public Optional<DexStore> getDexCompression() {
+    return Optional.ofNullable(dexCompression);
+  }
+
+  /**
+   * @return The value of the {@code primaryDexPatterns} attribute
+   */
+  @Override
+  public ImmutableList<String> getPrimaryDexPatterns() {
+    return primaryDexPatterns;
+  }
+
+  /**
+   * @return The value of the {@code primaryDexClassesFile} attribute
+   */
+  @Override
+  public Optional<SourcePath> getPrimaryDexClassesFile() {
+    return Optional.ofNullable(primaryDexClassesFile);
+  }
+
+  /**
+   * @return The value of the {@code primaryDexScenarioFile} attribute
+   */
+  @Override
+  public Optional<SourcePath> getPrimaryDexScenarioFile() {
+    return Optional.ofNullable(primaryDexScenarioFile);
+  }
+
+  /**
+   * @return The value of the {@code primaryDexScenarioOverflowAllowed} attribute
+   */
+  @Override
+  public boolean isPrimaryDexScenarioOverflowAllowed() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.isPrimaryDexScenarioOverflowAllowed()
+        : this.primaryDexScenarioOverflowAllowed;
+  }
+
+  /**
+   * @return The value of the {@code secondaryDexHeadClassesFile} attribute
+   */
+  @Override
+  public Optional<SourcePath> getSecondaryDexHeadClassesFile() {
+    return Optional.ofNullable(secondaryDexHeadClassesFile);
+  }
+
+  /**
+   * @return The value of the {@code secondaryDexTailClassesFile} attribute
+   */
+  @Override
+  public Optional<SourcePath> getSecondaryDexTailClassesFile() {
+    return Optional.ofNullable(secondaryDexTailClassesFile);
+  }
+
+  /**
+   * @return The value of the {@code androidAppModularityResult} attribute
+   */
+  @Override
+  public Optional<SourcePath> getAndroidAppModularityResult() {
+    return Optional.ofNullable(androidAppModularityResult);
+  }
+
+  /**
+   * @return The value of the {@code linearAllocHardLimit} attribute
+   */
+  @Override
+  public long getLinearAllocHardLimit() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.getLinearAllocHardLimit()
+        : this.linearAllocHardLimit;
+  }
+
+  /**
+   * @return The value of the {@code dexGroupLibLimit} attribute
+   */
+  @Override
+  public int getDexGroupLibLimit() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.getDexGroupLibLimit()
+        : this.dexGroupLibLimit;
+  }
+
+  /**
+   * @return The value of the {@code resourceFilter} attribute
+   */
+  @Override
+  public ImmutableList<String> getResourceFilter() {
+    return resourceFilter;
+  }
+
+  /**
+   * @return The value of the {@code preprocessJavaClassesDeps} attribute
+   */
+  @Override
+  public ImmutableSortedSet<BuildTarget> getPreprocessJavaClassesDeps() {
+    return preprocessJavaClassesDeps;
+  }
+
+  /**
+   * @return The value of the {@code xzCompressionLevel} attribute
+   */
+  @Override
+  public int getXzCompressionLevel() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.getXzCompressionLevel()
+        : this.xzCompressionLevel;
+  }
+
+  /**
+   * @return The value of the {@code packageAssetLibraries} attribute
+   */
+  @Override
+  public boolean isPackageAssetLibraries() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.isPackageAssetLibraries()
+        : this.packageAssetLibraries;
+  }
+
+  /**
+   * @return The value of the {@code compressAssetLibraries} attribute
+   */
+  @Override
+  public boolean isCompressAssetLibraries() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.isCompressAssetLibraries()
+        : this.compressAssetLibraries;
+  }
+
+  /**
+   * @return The value of the {@code assetCompressionAlgorithm} attribute
+   */
+  @Override
+  public Optional<CompressionAlgorithm> getAssetCompressionAlgorithm() {
+    return Optional.ofNullable(assetCompressionAlgorithm);
+  }
+
+  /**
+   * @return The value of the {@code redex} attribute
+   */
+  @Override
+  public boolean getRedex() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.getRedex()
+        : this.redex;
+  }
+
+  /**
+   * @return The value of the {@code redexConfig} attribute
+   */
+  @Override
+  public Optional<SourcePath> getRedexConfig() {
+    return Optional.ofNullable(redexConfig);
+  }
+
+  /**
+   * @return The value of the {@code redexExtraArgs} attribute
+   */
+  @Override
+  public ImmutableList<StringWithMacros> getRedexExtraArgs() {
+    return redexExtraArgs;
+  }
+
+  /**
+   * @return The value of the {@code deps} attribute
+   */
+  @Override
+  public ImmutableSortedSet<BuildTarget> getDeps() {
+    return deps;
+  }
+
+  /**
+   * @return The value of the {@code licenses} attribute
+   */
+  @Override
+  public ImmutableSet<SourcePath> getLicenses() {
+    return licenses;
+  }
+
+  /**
+   * @return The value of the {@code labels} attribute
+   */
+  @Override
+  public ImmutableSortedSet<String> getLabels() {
+    return labels;
+  }
+
+  /**
+   * The name of build target default "new" platform: it is used when a platform is not specified
+   * either globally or in a target which used this target as a dependency.
+   * <p>The value is a build target, but we specify it as string, because this function is not
+   * actually called, but the attr is fetched by name from the raw (unconfigured) target node.
+   */
+  @Override
+  public Optional<UnconfiguredBuildTarget> getDefaultTargetPlatform() {
+    return Optional.ofNullable(defaultTargetPlatform);
+  }
+
+  /**
+   *A list of {@code config_setting} a target is compatible with. 
+   */
+  @Override
+  public ImmutableList<UnconfiguredBuildTarget> getCompatibleWith() {
+    return compatibleWith;
+  }
+
+  /**
+   *Each rule has a name 
+   */
+  @Override
+  public String getName() {
+    return name;
+  }
+
+  /**
+   * @return The value of the {@code exopackage} attribute
+   */
+  @Override
+  public Optional<Boolean> isExopackage() {
+    return Optional.ofNullable(exopackage);
+  }
+
+  /**
+   * @return The value of the {@code exopackageModes} attribute
+   */
+  @Override
+  public ImmutableSet<ExopackageMode> getExopackageModes() {
+    return exopackageModes;
+  }
+
+  /**
+   *@return A list of tests of this target. 
+   */
+  @Override
+  public ImmutableSortedSet<BuildTarget> getTests() {
+    return tests;
+  }
+
+  /**
+   * @return The value of the {@code manifest} attribute
+   */
+  @Override
+  public Optional<SourcePath> getManifest() {
+    return Optional.ofNullable(manifest);
+  }
+
+  /**
+   * @return The value of the {@code manifestSkeleton} attribute
+   */
+  @Override
+  public Optional<SourcePath> getManifestSkeleton() {
+    return Optional.ofNullable(manifestSkeleton);
+  }
+
+  /**
+   * @return The value of the {@code moduleManifestSkeleton} attribute
+   */
+  @Override
+  public Optional<SourcePath> getModuleManifestSkeleton() {
+    return Optional.ofNullable(moduleManifestSkeleton);
+  }
+
+  /**
+   * @return The value of the {@code packageType} attribute
+   */
+  @Override
+  public Optional<String> getPackageType() {
+    return Optional.ofNullable(packageType);
+  }
+
+  /**
+   * @return The value of the {@code noDx} attribute
+   */
+  @Override
+  public ImmutableSet<BuildTarget> getNoDx() {
+    return noDx;
+  }
+
+  /**
+   * @return The value of the {@code disablePreDex} attribute
+   */
+  @Override
+  public boolean getDisablePreDex() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.getDisablePreDex()
+        : this.disablePreDex;
+  }
+
+  /**
+   * @return The value of the {@code androidSdkProguardConfig} attribute
+   */
+  @Override
+  public Optional<ProGuardObfuscateStep.SdkProguardType> getAndroidSdkProguardConfig() {
+    return Optional.ofNullable(androidSdkProguardConfig);
+  }
+
+  /**
+   * @return The value of the {@code optimizationPasses} attribute
+   */
+  @Override
+  public int getOptimizationPasses() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.getOptimizationPasses()
+        : this.optimizationPasses;
+  }
+
+  /**
+   * @return The value of the {@code proguardJvmArgs} attribute
+   */
+  @Override
+  public ImmutableList<String> getProguardJvmArgs() {
+    return proguardJvmArgs;
+  }
+
+  /**
+   * @return The value of the {@code proguardConfig} attribute
+   */
+  @Override
+  public Optional<SourcePath> getProguardConfig() {
+    return Optional.ofNullable(proguardConfig);
+  }
+
+  /**
+   * @return The value of the {@code resourceCompression} attribute
+   */
+  @Override
+  public ResourcesFilter.ResourceCompressionMode getResourceCompression() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.getResourceCompression()
+        : this.resourceCompression;
+  }
+
+  /**
+   * @return The value of the {@code skipCrunchPngs} attribute
+   */
+  @Override
+  public Optional<Boolean> isSkipCrunchPngs() {
+    return Optional.ofNullable(skipCrunchPngs);
+  }
+
+  /**
+   * @return The value of the {@code includesVectorDrawables} attribute
+   */
+  @Override
+  public boolean isIncludesVectorDrawables() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.isIncludesVectorDrawables()
+        : this.includesVectorDrawables;
+  }
+
+  /**
+   * @return The value of the {@code noAutoVersionResources} attribute
+   */
+  @Override
+  public boolean isNoAutoVersionResources() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.isNoAutoVersionResources()
+        : this.noAutoVersionResources;
+  }
+
+  /**
+   * @return The value of the {@code noVersionTransitionsResources} attribute
+   */
+  @Override
+  public boolean isNoVersionTransitionsResources() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.isNoVersionTransitionsResources()
+        : this.noVersionTransitionsResources;
+  }
+
+  /**
+   * @return The value of the {@code noAutoAddOverlayResources} attribute
+   */
+  @Override
+  public boolean isNoAutoAddOverlayResources() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.isNoAutoAddOverlayResources()
+        : this.noAutoAddOverlayResources;
+  }
+
+  /**
+   * @return The value of the {@code applicationModuleTargets} attribute
+   */
+  @Override
+  public ImmutableSet<BuildTarget> getApplicationModuleTargets() {
+    return applicationModuleTargets;
+  }
+
+  /**
+   * @return The value of the {@code applicationModuleConfigs} attribute
+   */
+  @Override
+  public ImmutableMap<String, ImmutableList<BuildTarget>> getApplicationModuleConfigs() {
+    return applicationModuleConfigs;
+  }
+
+  /**
+   * @return The value of the {@code applicationModulesWithResources} attribute
+   */
+  @Override
+  public ImmutableSet<String> getApplicationModulesWithResources() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.getApplicationModulesWithResources()
+        : this.applicationModulesWithResources;
+  }
+
+  /**
+   * @return The value of the {@code applicationModuleDependencies} attribute
+   */
+  @Override
+  public Optional<ImmutableMap<String, ImmutableList<String>>> getApplicationModuleDependencies() {
+    return Optional.ofNullable(applicationModuleDependencies);
+  }
+
+  /**
+   * @return The value of the {@code isCacheable} attribute
+   */
+  @Override
+  public boolean getIsCacheable() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.getIsCacheable()
+        : this.isCacheable;
+  }
+
+  /**
+   * @return The value of the {@code additionalAaptParams} attribute
+   */
+  @Override
+  public ImmutableList<String> getAdditionalAaptParams() {
+    return additionalAaptParams;
+  }
+
+  /**
+   * @return The value of the {@code aaptMode} attribute
+   */
+  @Override
+  public AaptMode getAaptMode() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.getAaptMode()
+        : this.aaptMode;
+  }
+
+  /**
+   * @return The value of the {@code trimResourceIds} attribute
+   */
+  @Override
+  public boolean isTrimResourceIds() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.isTrimResourceIds()
+        : this.trimResourceIds;
+  }
+
+  /**
+   * @return The value of the {@code allowRDotJavaInSecondaryDex} attribute
+   */
+  @Override
+  public boolean isAllowRDotJavaInSecondaryDex() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.isAllowRDotJavaInSecondaryDex()
+        : this.allowRDotJavaInSecondaryDex;
+  }
+
+  /**
+   * @return The value of the {@code keepResourcePattern} attribute
+   */
+  @Override
+  public Optional<String> getKeepResourcePattern() {
+    return Optional.ofNullable(keepResourcePattern);
+  }
+
+  /**
+   * @return The value of the {@code resourceUnionPackage} attribute
+   */
+  @Override
+  public Optional<String> getResourceUnionPackage() {
+    return Optional.ofNullable(resourceUnionPackage);
+  }
+
+  /**
+   * @return The value of the {@code locales} attribute
+   */
+  @Override
+  public ImmutableSet<String> getLocales() {
+    return locales;
+  }
+
+  /**
+   *Whether to filter locales using aapt2. 
+   */
+  @Override
+  public boolean isAapt2LocaleFiltering() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.isAapt2LocaleFiltering()
+        : this.aapt2LocaleFiltering;
+  }
+
+  /**
+   * @return The value of the {@code localizedStringFileName} attribute
+   */
+  @Override
+  public Optional<String> getLocalizedStringFileName() {
+    return Optional.ofNullable(localizedStringFileName);
+  }
+
+  /**
+   * @return The value of the {@code buildStringSourceMap} attribute
+   */
+  @Override
+  public boolean isBuildStringSourceMap() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.isBuildStringSourceMap()
+        : this.buildStringSourceMap;
+  }
+
+  /**
+   * @return The value of the {@code ignoreAaptProguardConfig} attribute
+   */
+  @Override
+  public boolean isIgnoreAaptProguardConfig() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.isIgnoreAaptProguardConfig()
+        : this.ignoreAaptProguardConfig;
+  }
+
+  /**
+   * @return The value of the {@code cpuFilters} attribute
+   */
+  @Override
+  public ImmutableSet<TargetCpuType> getCpuFilters() {
+    return cpuFilters;
+  }
+
+  /**
+   * @return The value of the {@code preprocessJavaClassesBash} attribute
+   */
+  @Override
+  public Optional<StringWithMacros> getPreprocessJavaClassesBash() {
+    return Optional.ofNullable(preprocessJavaClassesBash);
+  }
+
+  /**
+   * @return The value of the {@code reorderClassesIntraDex} attribute
+   */
+  @Override
+  public boolean isReorderClassesIntraDex() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.isReorderClassesIntraDex()
+        : this.reorderClassesIntraDex;
+  }
+
+  /**
+   * @return The value of the {@code dexTool} attribute
+   */
+  @Override
+  public String getDexTool() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.getDexTool()
+        : this.dexTool;
+  }
+
+  /**
+   * @return The value of the {@code dexReorderToolFile} attribute
+   */
+  @Override
+  public Optional<SourcePath> getDexReorderToolFile() {
+    return Optional.ofNullable(dexReorderToolFile);
+  }
+
+  /**
+   * @return The value of the {@code dexReorderDataDumpFile} attribute
+   */
+  @Override
+  public Optional<SourcePath> getDexReorderDataDumpFile() {
+    return Optional.ofNullable(dexReorderDataDumpFile);
+  }
+
+  /**
+   * @return The value of the {@code nativeLibraryMergeMap} attribute
+   */
+  @Override
+  public ImmutableMap<String, List<Pattern>> getNativeLibraryMergeMap() {
+    return nativeLibraryMergeMap;
+  }
+
+  /**
+   * @return The value of the {@code nativeLibraryMergeGlue} attribute
+   */
+  @Override
+  public Optional<BuildTarget> getNativeLibraryMergeGlue() {
+    return Optional.ofNullable(nativeLibraryMergeGlue);
+  }
+
+  /**
+   * @return The value of the {@code nativeLibraryMergeCodeGenerator} attribute
+   */
+  @Override
+  public Optional<BuildTarget> getNativeLibraryMergeCodeGenerator() {
+    return Optional.ofNullable(nativeLibraryMergeCodeGenerator);
+  }
+
+  /**
+   * @return The value of the {@code nativeLibraryMergeLocalizedSymbols} attribute
+   */
+  @Override
+  public Optional<ImmutableSortedSet<String>> getNativeLibraryMergeLocalizedSymbols() {
+    return Optional.ofNullable(nativeLibraryMergeLocalizedSymbols);
+  }
+
+  /**
+   * @return The value of the {@code nativeLibraryProguardConfigGenerator} attribute
+   */
+  @Override
+  public Optional<BuildTarget> getNativeLibraryProguardConfigGenerator() {
+    return Optional.ofNullable(nativeLibraryProguardConfigGenerator);
+  }
+
+  /**
+   * @return The value of the {@code enableRelinker} attribute
+   */
+  @Override
+  public boolean isEnableRelinker() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.isEnableRelinker()
+        : this.enableRelinker;
+  }
+
+  /**
+   * @return The value of the {@code relinkerWhitelist} attribute
+   */
+  @Override
+  public ImmutableList<Pattern> getRelinkerWhitelist() {
+    return relinkerWhitelist;
+  }
+
+  /**
+   * @return The value of the {@code manifestEntries} attribute
+   */
+  @Override
+  public ManifestEntries getManifestEntries() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.getManifestEntries()
+        : this.manifestEntries;
+  }
+
+  /**
+   * @return The value of the {@code buildConfigValues} attribute
+   */
+  @Override
+  public BuildConfigFields getBuildConfigValues() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.getBuildConfigValues()
+        : this.buildConfigValues;
+  }
+
+  /**
+   * @return The value of the {@code postFilterResourcesCmd} attribute
+   */
+  @Override
+  public Optional<StringWithMacros> getPostFilterResourcesCmd() {
+    return Optional.ofNullable(postFilterResourcesCmd);
+  }
+
+  /**
+   * @return The value of the {@code buildConfigValuesFile} attribute
+   */
+  @Override
+  public Optional<SourcePath> getBuildConfigValuesFile() {
+    return Optional.ofNullable(buildConfigValuesFile);
+  }
+
+  /**
+   * @return The value of the {@code skipProguard} attribute
+   */
+  @Override
+  public boolean isSkipProguard() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.isSkipProguard()
+        : this.skipProguard;
+  }
+
+  /**
+   * @return The value of the {@code extraFilteredResources} attribute
+   */
+  @Override
+  public ImmutableSet<String> getExtraFilteredResources() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.getExtraFilteredResources()
+        : this.extraFilteredResources;
+  }
+
+  /**
+   * @return The value of the {@code duplicateResourceBehavior} attribute
+   */
+  @Override
+  public HasDuplicateAndroidResourceTypes.DuplicateResourceBehaviour getDuplicateResourceBehavior() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.getDuplicateResourceBehavior()
+        : this.duplicateResourceBehavior;
+  }
+
+  /**
+   * @return The value of the {@code allowedDuplicateResourceTypes} attribute
+   */
+  @Override
+  public ImmutableSet<RDotTxtEntry.RType> getAllowedDuplicateResourceTypes() {
+    return allowedDuplicateResourceTypes;
+  }
+
+  /**
+   * @return The value of the {@code bannedDuplicateResourceTypes} attribute
+   */
+  @Override
+  public ImmutableSet<RDotTxtEntry.RType> getBannedDuplicateResourceTypes() {
+    return bannedDuplicateResourceTypes;
+  }
+
+  /**
+   * @return The value of the {@code duplicateResourceWhitelist} attribute
+   */
+  @Override
+  public Optional<SourcePath> getDuplicateResourceWhitelist() {
+    return Optional.ofNullable(duplicateResourceWhitelist);
+  }
+
+  /**
+   * @return The computed-at-construction value of the {@code effectiveBannedDuplicateResourceTypes} attribute
+   */
+  @Override
+  public EnumSet<RDotTxtEntry.RType> getEffectiveBannedDuplicateResourceTypes() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.getEffectiveBannedDuplicateResourceTypes()
+        : this.effectiveBannedDuplicateResourceTypes;
+  }
+
+  /**
+   * @return The value of the {@code applicationModuleBlacklist} attribute
+   */
+  @Override
+  public Optional<List<Query>> getApplicationModuleBlacklist() {
+    return Optional.ofNullable(applicationModuleBlacklist);
+  }
+
+  /**
+   * This instance is equal to all instances of {@code AndroidBinaryDescriptionArg} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof AndroidBinaryDescriptionArg
+        && equalTo((AndroidBinaryDescriptionArg) another);
+  }
+
+  private boolean equalTo(AndroidBinaryDescriptionArg another) {
+    return keystore.equals(another.keystore)
+        && useSplitDex == another.useSplitDex
+        && minimizePrimaryDexSize == another.minimizePrimaryDexSize
+        && Objects.equals(dexCompression, another.dexCompression)
+        && primaryDexPatterns.equals(another.primaryDexPatterns)
+        && Objects.equals(primaryDexClassesFile, another.primaryDexClassesFile)
+        && Objects.equals(primaryDexScenarioFile, another.primaryDexScenarioFile)
+        && primaryDexScenarioOverflowAllowed == another.primaryDexScenarioOverflowAllowed
+        && Objects.equals(secondaryDexHeadClassesFile, another.secondaryDexHeadClassesFile)
+        && Objects.equals(secondaryDexTailClassesFile, another.secondaryDexTailClassesFile)
+        && Objects.equals(androidAppModularityResult, another.androidAppModularityResult)
+        && linearAllocHardLimit == another.linearAllocHardLimit
+        && dexGroupLibLimit == another.dexGroupLibLimit
+        && resourceFilter.equals(another.resourceFilter)
+        && preprocessJavaClassesDeps.equals(another.preprocessJavaClassesDeps)
+        && xzCompressionLevel == another.xzCompressionLevel
+        && packageAssetLibraries == another.packageAssetLibraries
+        && compressAssetLibraries == another.compressAssetLibraries
+        && Objects.equals(assetCompressionAlgorithm, another.assetCompressionAlgorithm)
+        && redex == another.redex
+        && Objects.equals(redexConfig, another.redexConfig)
+        && redexExtraArgs.equals(another.redexExtraArgs)
+        && deps.equals(another.deps)
+        && licenses.equals(another.licenses)
+        && labels.equals(another.labels)
+        && Objects.equals(defaultTargetPlatform, another.defaultTargetPlatform)
+        && compatibleWith.equals(another.compatibleWith)
+        && name.equals(another.name)
+        && Objects.equals(exopackage, another.exopackage)
+        && exopackageModes.equals(another.exopackageModes)
+        && tests.equals(another.tests)
+        && Objects.equals(manifest, another.manifest)
+        && Objects.equals(manifestSkeleton, another.manifestSkeleton)
+        && Objects.equals(moduleManifestSkeleton, another.moduleManifestSkeleton)
+        && Objects.equals(packageType, another.packageType)
+        && noDx.equals(another.noDx)
+        && disablePreDex == another.disablePreDex
+        && Objects.equals(androidSdkProguardConfig, another.androidSdkProguardConfig)
+        && optimizationPasses == another.optimizationPasses
+        && proguardJvmArgs.equals(another.proguardJvmArgs)
+        && Objects.equals(proguardConfig, another.proguardConfig)
+        && resourceCompression.equals(another.resourceCompression)
+        && Objects.equals(skipCrunchPngs, another.skipCrunchPngs)
+        && includesVectorDrawables == another.includesVectorDrawables
+        && noAutoVersionResources == another.noAutoVersionResources
+        && noVersionTransitionsResources == another.noVersionTransitionsResources
+        && noAutoAddOverlayResources == another.noAutoAddOverlayResources
+        && applicationModuleTargets.equals(another.applicationModuleTargets)
+        && applicationModuleConfigs.equals(another.applicationModuleConfigs)
+        && applicationModulesWithResources.equals(another.applicationModulesWithResources)
+        && Objects.equals(applicationModuleDependencies, another.applicationModuleDependencies)
+        && isCacheable == another.isCacheable
+        && additionalAaptParams.equals(another.additionalAaptParams)
+        && aaptMode.equals(another.aaptMode)
+        && trimResourceIds == another.trimResourceIds
+        && allowRDotJavaInSecondaryDex == another.allowRDotJavaInSecondaryDex
+        && Objects.equals(keepResourcePattern, another.keepResourcePattern)
+        && Objects.equals(resourceUnionPackage, another.resourceUnionPackage)
+        && locales.equals(another.locales)
+        && aapt2LocaleFiltering == another.aapt2LocaleFiltering
+        && Objects.equals(localizedStringFileName, another.localizedStringFileName)
+        && buildStringSourceMap == another.buildStringSourceMap
+        && ignoreAaptProguardConfig == another.ignoreAaptProguardConfig
+        && cpuFilters.equals(another.cpuFilters)
+        && Objects.equals(preprocessJavaClassesBash, another.preprocessJavaClassesBash)
+        && reorderClassesIntraDex == another.reorderClassesIntraDex
+        && dexTool.equals(another.dexTool)
+        && Objects.equals(dexReorderToolFile, another.dexReorderToolFile)
+        && Objects.equals(dexReorderDataDumpFile, another.dexReorderDataDumpFile)
+        && nativeLibraryMergeMap.equals(another.nativeLibraryMergeMap)
+        && Objects.equals(nativeLibraryMergeGlue, another.nativeLibraryMergeGlue)
+        && Objects.equals(nativeLibraryMergeCodeGenerator, another.nativeLibraryMergeCodeGenerator)
+        && Objects.equals(nativeLibraryMergeLocalizedSymbols, another.nativeLibraryMergeLocalizedSymbols)
+        && Objects.equals(nativeLibraryProguardConfigGenerator, another.nativeLibraryProguardConfigGenerator)
+        && enableRelinker == another.enableRelinker
+        && relinkerWhitelist.equals(another.relinkerWhitelist)
+        && manifestEntries.equals(another.manifestEntries)
+        && buildConfigValues.equals(another.buildConfigValues)
+        && Objects.equals(postFilterResourcesCmd, another.postFilterResourcesCmd)
+        && Objects.equals(buildConfigValuesFile, another.buildConfigValuesFile)
+        && skipProguard == another.skipProguard
+        && extraFilteredResources.equals(another.extraFilteredResources)
+        && duplicateResourceBehavior.equals(another.duplicateResourceBehavior)
+        && allowedDuplicateResourceTypes.equals(another.allowedDuplicateResourceTypes)
+        && bannedDuplicateResourceTypes.equals(another.bannedDuplicateResourceTypes)
+        && Objects.equals(duplicateResourceWhitelist, another.duplicateResourceWhitelist)
+        && effectiveBannedDuplicateResourceTypes.equals(another.effectiveBannedDuplicateResourceTypes)
+        && Objects.equals(applicationModuleBlacklist, another.applicationModuleBlacklist);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code keystore}, {@code useSplitDex}, {@code minimizePrimaryDexSize}, {@code dexCompression}, {@code primaryDexPatterns}, {@code primaryDexClassesFile}, {@code primaryDexScenarioFile}, {@code primaryDexScenarioOverflowAllowed}, {@code secondaryDexHeadClassesFile}, {@code secondaryDexTailClassesFile}, {@code androidAppModularityResult}, {@code linearAllocHardLimit}, {@code dexGroupLibLimit}, {@code resourceFilter}, {@code preprocessJavaClassesDeps}, {@code xzCompressionLevel}, {@code packageAssetLibraries}, {@code compressAssetLibraries}, {@code assetCompressionAlgorithm}, {@code redex}, {@code redexConfig}, {@code redexExtraArgs}, {@code deps}, {@code licenses}, {@code labels}, {@code defaultTargetPlatform}, {@code compatibleWith}, {@code name}, {@code exopackage}, {@code exopackageModes}, {@code tests}, {@code manifest}, {@code manifestSkeleton}, {@code moduleManifestSkeleton}, {@code packageType}, {@code noDx}, {@code disablePreDex}, {@code androidSdkProguardConfig}, {@code optimizationPasses}, {@code proguardJvmArgs}, {@code proguardConfig}, {@code resourceCompression}, {@code skipCrunchPngs}, {@code includesVectorDrawables}, {@code noAutoVersionResources}, {@code noVersionTransitionsResources}, {@code noAutoAddOverlayResources}, {@code applicationModuleTargets}, {@code applicationModuleConfigs}, {@code applicationModulesWithResources}, {@code applicationModuleDependencies}, {@code isCacheable}, {@code additionalAaptParams}, {@code aaptMode}, {@code trimResourceIds}, {@code allowRDotJavaInSecondaryDex}, {@code keepResourcePattern}, {@code resourceUnionPackage}, {@code locales}, {@code aapt2LocaleFiltering}, {@code localizedStringFileName}, {@code buildStringSourceMap}, {@code ignoreAaptProguardConfig}, {@code cpuFilters}, {@code preprocessJavaClassesBash}, {@code reorderClassesIntraDex}, {@code dexTool}, {@code dexReorderToolFile}, {@code dexReorderDataDumpFile}, {@code nativeLibraryMergeMap}, {@code nativeLibraryMergeGlue}, {@code nativeLibraryMergeCodeGenerator}, {@code nativeLibraryMergeLocalizedSymbols}, {@code nativeLibraryProguardConfigGenerator}, {@code enableRelinker}, {@code relinkerWhitelist}, {@code manifestEntries}, {@code buildConfigValues}, {@code postFilterResourcesCmd}, {@code buildConfigValuesFile}, {@code skipProguard}, {@code extraFilteredResources}, {@code duplicateResourceBehavior}, {@code allowedDuplicateResourceTypes}, {@code bannedDuplicateResourceTypes}, {@code duplicateResourceWhitelist}, {@code effectiveBannedDuplicateResourceTypes}, {@code applicationModuleBlacklist}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    @Var int h = 5381;
+    h += (h << 5) + keystore.hashCode();
+    h += (h << 5) + Booleans.hashCode(useSplitDex);
+    h += (h << 5) + Booleans.hashCode(minimizePrimaryDexSize);
+    h += (h << 5) + Objects.hashCode(dexCompression);
+    h += (h << 5) + primaryDexPatterns.hashCode();
+    h += (h << 5) + Objects.hashCode(primaryDexClassesFile);
+    h += (h << 5) + Objects.hashCode(primaryDexScenarioFile);
+    h += (h << 5) + Booleans.hashCode(primaryDexScenarioOverflowAllowed);
+    h += (h << 5) + Objects.hashCode(secondaryDexHeadClassesFile);
+    h += (h << 5) + Objects.hashCode(secondaryDexTailClassesFile);
+    h += (h << 5) + Objects.hashCode(androidAppModularityResult);
+    h += (h << 5) + Longs.hashCode(linearAllocHardLimit);
+    h += (h << 5) + dexGroupLibLimit;
+    h += (h << 5) + resourceFilter.hashCode();
+    h += (h << 5) + preprocessJavaClassesDeps.hashCode();
+    h += (h << 5) + xzCompressionLevel;
+    h += (h << 5) + Booleans.hashCode(packageAssetLibraries);
+    h += (h << 5) + Booleans.hashCode(compressAssetLibraries);
+    h += (h << 5) + Objects.hashCode(assetCompressionAlgorithm);
+    h += (h << 5) + Booleans.hashCode(redex);
+    h += (h << 5) + Objects.hashCode(redexConfig);
+    h += (h << 5) + redexExtraArgs.hashCode();
+    h += (h << 5) + deps.hashCode();
+    h += (h << 5) + licenses.hashCode();
+    h += (h << 5) + labels.hashCode();
+    h += (h << 5) + Objects.hashCode(defaultTargetPlatform);
+    h += (h << 5) + compatibleWith.hashCode();
+    h += (h << 5) + name.hashCode();
+    h += (h << 5) + Objects.hashCode(exopackage);
+    h += (h << 5) + exopackageModes.hashCode();
+    h += (h << 5) + tests.hashCode();
+    h += (h << 5) + Objects.hashCode(manifest);
+    h += (h << 5) + Objects.hashCode(manifestSkeleton);
+    h += (h << 5) + Objects.hashCode(moduleManifestSkeleton);
+    h += (h << 5) + Objects.hashCode(packageType);
+    h += (h << 5) + noDx.hashCode();
+    h += (h << 5) + Booleans.hashCode(disablePreDex);
+    h += (h << 5) + Objects.hashCode(androidSdkProguardConfig);
+    h += (h << 5) + optimizationPasses;
+    h += (h << 5) + proguardJvmArgs.hashCode();
+    h += (h << 5) + Objects.hashCode(proguardConfig);
+    h += (h << 5) + resourceCompression.hashCode();
+    h += (h << 5) + Objects.hashCode(skipCrunchPngs);
+    h += (h << 5) + Booleans.hashCode(includesVectorDrawables);
+    h += (h << 5) + Booleans.hashCode(noAutoVersionResources);
+    h += (h << 5) + Booleans.hashCode(noVersionTransitionsResources);
+    h += (h << 5) + Booleans.hashCode(noAutoAddOverlayResources);
+    h += (h << 5) + applicationModuleTargets.hashCode();
+    h += (h << 5) + applicationModuleConfigs.hashCode();
+    h += (h << 5) + applicationModulesWithResources.hashCode();
+    h += (h << 5) + Objects.hashCode(applicationModuleDependencies);
+    h += (h << 5) + Booleans.hashCode(isCacheable);
+    h += (h << 5) + additionalAaptParams.hashCode();
+    h += (h << 5) + aaptMode.hashCode();
+    h += (h << 5) + Booleans.hashCode(trimResourceIds);
+    h += (h << 5) + Booleans.hashCode(allowRDotJavaInSecondaryDex);
+    h += (h << 5) + Objects.hashCode(keepResourcePattern);
+    h += (h << 5) + Objects.hashCode(resourceUnionPackage);
+    h += (h << 5) + locales.hashCode();
+    h += (h << 5) + Booleans.hashCode(aapt2LocaleFiltering);
+    h += (h << 5) + Objects.hashCode(localizedStringFileName);
+    h += (h << 5) + Booleans.hashCode(buildStringSourceMap);
+    h += (h << 5) + Booleans.hashCode(ignoreAaptProguardConfig);
+    h += (h << 5) + cpuFilters.hashCode();
+    h += (h << 5) + Objects.hashCode(preprocessJavaClassesBash);
+    h += (h << 5) + Booleans.hashCode(reorderClassesIntraDex);
+    h += (h << 5) + dexTool.hashCode();
+    h += (h << 5) + Objects.hashCode(dexReorderToolFile);
+    h += (h << 5) + Objects.hashCode(dexReorderDataDumpFile);
+    h += (h << 5) + nativeLibraryMergeMap.hashCode();
+    h += (h << 5) + Objects.hashCode(nativeLibraryMergeGlue);
+    h += (h << 5) + Objects.hashCode(nativeLibraryMergeCodeGenerator);
+    h += (h << 5) + Objects.hashCode(nativeLibraryMergeLocalizedSymbols);
+    h += (h << 5) + Objects.hashCode(nativeLibraryProguardConfigGenerator);
+    h += (h << 5) + Booleans.hashCode(enableRelinker);
+    h += (h << 5) + relinkerWhitelist.hashCode();
+    h += (h << 5) + manifestEntries.hashCode();
+    h += (h << 5) + buildConfigValues.hashCode();
+    h += (h << 5) + Objects.hashCode(postFilterResourcesCmd);
+    h += (h << 5) + Objects.hashCode(buildConfigValuesFile);
+    h += (h << 5) + Booleans.hashCode(skipProguard);
+    h += (h << 5) + extraFilteredResources.hashCode();
+    h += (h << 5) + duplicateResourceBehavior.hashCode();
+    h += (h << 5) + allowedDuplicateResourceTypes.hashCode();
+    h += (h << 5) + bannedDuplicateResourceTypes.hashCode();
+    h += (h << 5) + Objects.hashCode(duplicateResourceWhitelist);
+    h += (h << 5) + effectiveBannedDuplicateResourceTypes.hashCode();
+    h += (h << 5) + Objects.hashCode(applicationModuleBlacklist);
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code AndroidBinaryDescriptionArg} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("AndroidBinaryDescriptionArg")
+        .omitNullValues()
+        .add("keystore", keystore)
+        .add("useSplitDex", useSplitDex)
+        .add("minimizePrimaryDexSize", minimizePrimaryDexSize)
+        .add("dexCompression", dexCompression)
+        .add("primaryDexPatterns", primaryDexPatterns)
+        .add("primaryDexClassesFile", primaryDexClassesFile)
+        .add("primaryDexScenarioFile", primaryDexScenarioFile)
+        .add("primaryDexScenarioOverflowAllowed", primaryDexScenarioOverflowAllowed)
+        .add("secondaryDexHeadClassesFile", secondaryDexHeadClassesFile)
+        .add("secondaryDexTailClassesFile", secondaryDexTailClassesFile)
+        .add("androidAppModularityResult", androidAppModularityResult)
+        .add("linearAllocHardLimit", linearAllocHardLimit)
+        .add("dexGroupLibLimit", dexGroupLibLimit)
+        .add("resourceFilter", resourceFilter)
+        .add("preprocessJavaClassesDeps", preprocessJavaClassesDeps)
+        .add("xzCompressionLevel", xzCompressionLevel)
+        .add("packageAssetLibraries", packageAssetLibraries)
+        .add("compressAssetLibraries", compressAssetLibraries)
+        .add("assetCompressionAlgorithm", assetCompressionAlgorithm)
+        .add("redex", redex)
+        .add("redexConfig", redexConfig)
+        .add("redexExtraArgs", redexExtraArgs)
+        .add("deps", deps)
+        .add("licenses", licenses)
+        .add("labels", labels)
+        .add("defaultTargetPlatform", defaultTargetPlatform)
+        .add("compatibleWith", compatibleWith)
+        .add("name", name)
+        .add("exopackage", exopackage)
+        .add("exopackageModes", exopackageModes)
+        .add("tests", tests)
+        .add("manifest", manifest)
+        .add("manifestSkeleton", manifestSkeleton)
+        .add("moduleManifestSkeleton", moduleManifestSkeleton)
+        .add("packageType", packageType)
+        .add("noDx", noDx)
+        .add("disablePreDex", disablePreDex)
+        .add("androidSdkProguardConfig", androidSdkProguardConfig)
+        .add("optimizationPasses", optimizationPasses)
+        .add("proguardJvmArgs", proguardJvmArgs)
+        .add("proguardConfig", proguardConfig)
+        .add("resourceCompression", resourceCompression)
+        .add("skipCrunchPngs", skipCrunchPngs)
+        .add("includesVectorDrawables", includesVectorDrawables)
+        .add("noAutoVersionResources", noAutoVersionResources)
+        .add("noVersionTransitionsResources", noVersionTransitionsResources)
+        .add("noAutoAddOverlayResources", noAutoAddOverlayResources)
+        .add("applicationModuleTargets", applicationModuleTargets)
+        .add("applicationModuleConfigs", applicationModuleConfigs)
+        .add("applicationModulesWithResources", applicationModulesWithResources)
+        .add("applicationModuleDependencies", applicationModuleDependencies)
+        .add("isCacheable", isCacheable)
+        .add("additionalAaptParams", additionalAaptParams)
+        .add("aaptMode", aaptMode)
+        .add("trimResourceIds", trimResourceIds)
+        .add("allowRDotJavaInSecondaryDex", allowRDotJavaInSecondaryDex)
+        .add("keepResourcePattern", keepResourcePattern)
+        .add("resourceUnionPackage", resourceUnionPackage)
+        .add("locales", locales)
+        .add("aapt2LocaleFiltering", aapt2LocaleFiltering)
+        .add("localizedStringFileName", localizedStringFileName)
+        .add("buildStringSourceMap", buildStringSourceMap)
+        .add("ignoreAaptProguardConfig", ignoreAaptProguardConfig)
+        .add("cpuFilters", cpuFilters)
+        .add("preprocessJavaClassesBash", preprocessJavaClassesBash)
+        .add("reorderClassesIntraDex", reorderClassesIntraDex)
+        .add("dexTool", dexTool)
+        .add("dexReorderToolFile", dexReorderToolFile)
+        .add("dexReorderDataDumpFile", dexReorderDataDumpFile)
+        .add("nativeLibraryMergeMap", nativeLibraryMergeMap)
+        .add("nativeLibraryMergeGlue", nativeLibraryMergeGlue)
+        .add("nativeLibraryMergeCodeGenerator", nativeLibraryMergeCodeGenerator)
+        .add("nativeLibraryMergeLocalizedSymbols", nativeLibraryMergeLocalizedSymbols)
+        .add("nativeLibraryProguardConfigGenerator", nativeLibraryProguardConfigGenerator)
+        .add("enableRelinker", enableRelinker)
+        .add("relinkerWhitelist", relinkerWhitelist)
+        .add("manifestEntries", manifestEntries)
+        .add("buildConfigValues", buildConfigValues)
+        .add("postFilterResourcesCmd", postFilterResourcesCmd)
+        .add("buildConfigValuesFile", buildConfigValuesFile)
+        .add("skipProguard", skipProguard)
+        .add("extraFilteredResources", extraFilteredResources)
+        .add("duplicateResourceBehavior", duplicateResourceBehavior)
+        .add("allowedDuplicateResourceTypes", allowedDuplicateResourceTypes)
+        .add("bannedDuplicateResourceTypes", bannedDuplicateResourceTypes)
+        .add("duplicateResourceWhitelist", duplicateResourceWhitelist)
+        .add("effectiveBannedDuplicateResourceTypes", effectiveBannedDuplicateResourceTypes)
+        .add("applicationModuleBlacklist", applicationModuleBlacklist)
+        .toString();
+  }
+
+  /**
+   * Creates a builder for {@link AndroidBinaryDescriptionArg AndroidBinaryDescriptionArg}.
+   * @return A new AndroidBinaryDescriptionArg builder
+   */
+  public static AndroidBinaryDescriptionArg.Builder builder() {
+    return new AndroidBinaryDescriptionArg.Builder();
+  }
+
+  /**
+   * Builds instances of type {@link AndroidBinaryDescriptionArg AndroidBinaryDescriptionArg}.
+   * Initialize attributes and then invoke the {@link #build()} method to create an
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread-safe and generally should not be stored in a field or collection,
+   * but instead used immediately to create instances.</em>
+   */
+  @Generated(from = "AndroidBinaryDescription.AbstractAndroidBinaryDescriptionArg", generator = "Immutables")
+  @NotThreadSafe
+  public static final class Builder {
+    private static final long INIT_BIT_KEYSTORE = 0x1L;
+    private static final long INIT_BIT_NAME = 0x2L;
+    private static final long OPT_BIT_USE_SPLIT_DEX = 0x1L;
+    private static final long OPT_BIT_MINIMIZE_PRIMARY_DEX_SIZE = 0x2L;
+    private static final long OPT_BIT_PRIMARY_DEX_SCENARIO_OVERFLOW_ALLOWED = 0x4L;
+    private static final long OPT_BIT_LINEAR_ALLOC_HARD_LIMIT = 0x8L;
+    private static final long OPT_BIT_DEX_GROUP_LIB_LIMIT = 0x10L;
+    private static final long OPT_BIT_XZ_COMPRESSION_LEVEL = 0x20L;
+    private static final long OPT_BIT_PACKAGE_ASSET_LIBRARIES = 0x40L;
+    private static final long OPT_BIT_COMPRESS_ASSET_LIBRARIES = 0x80L;
+    private static final long OPT_BIT_REDEX = 0x100L;
+    private static final long OPT_BIT_DISABLE_PRE_DEX = 0x200L;
+    private static final long OPT_BIT_OPTIMIZATION_PASSES = 0x400L;
+    private static final long OPT_BIT_INCLUDES_VECTOR_DRAWABLES = 0x800L;
+    private static final long OPT_BIT_NO_AUTO_VERSION_RESOURCES = 0x1000L;
+    private static final long OPT_BIT_NO_VERSION_TRANSITIONS_RESOURCES = 0x2000L;
+    private static final long OPT_BIT_NO_AUTO_ADD_OVERLAY_RESOURCES = 0x4000L;
+    private static final long OPT_BIT_APPLICATION_MODULES_WITH_RESOURCES = 0x8000L;
+    private static final long OPT_BIT_IS_CACHEABLE = 0x10000L;
+    private static final long OPT_BIT_TRIM_RESOURCE_IDS = 0x20000L;
+    private static final long OPT_BIT_ALLOW_R_DOT_JAVA_IN_SECONDARY_DEX = 0x40000L;
+    private static final long OPT_BIT_AAPT2_LOCALE_FILTERING = 0x80000L;
+    private static final long OPT_BIT_BUILD_STRING_SOURCE_MAP = 0x100000L;
+    private static final long OPT_BIT_IGNORE_AAPT_PROGUARD_CONFIG = 0x200000L;
+    private static final long OPT_BIT_REORDER_CLASSES_INTRA_DEX = 0x400000L;
+    private static final long OPT_BIT_ENABLE_RELINKER = 0x800000L;
+    private static final long OPT_BIT_SKIP_PROGUARD = 0x1000000L;
+    private static final long OPT_BIT_EXTRA_FILTERED_RESOURCES = 0x2000000L;
+    private long initBits = 0x3L;
+    private long optBits;
+
+    private @Nullable BuildTarget keystore;
+    private boolean useSplitDex;
+    private boolean minimizePrimaryDexSize;
+    private @Nullable DexStore dexCompression;
+    private ImmutableList.Builder<String> primaryDexPatterns = ImmutableList.builder();
+    private @Nullable SourcePath primaryDexClassesFile;
+    private @Nullable SourcePath primaryDexScenarioFile;
+    private boolean primaryDexScenarioOverflowAllowed;
+    private @Nullable SourcePath secondaryDexHeadClassesFile;
+    private @Nullable SourcePath secondaryDexTailClassesFile;
+    private @Nullable SourcePath androidAppModularityResult;
+    private long linearAllocHardLimit;
+    private int dexGroupLibLimit;
+    private ImmutableList.Builder<String> resourceFilter = ImmutableList.builder();
+    private ImmutableSortedSet.Builder<BuildTarget> preprocessJavaClassesDeps = ImmutableSortedSet.naturalOrder();
+    private int xzCompressionLevel;
+    private boolean packageAssetLibraries;
+    private boolean compressAssetLibraries;
+    private @Nullable CompressionAlgorithm assetCompressionAlgorithm;
+    private boolean redex;
+    private @Nullable SourcePath redexConfig;
+    private ImmutableList.Builder<StringWithMacros> redexExtraArgs = ImmutableList.builder();
+    private ImmutableSortedSet.Builder<BuildTarget> deps = ImmutableSortedSet.naturalOrder();
+    private ImmutableSet.Builder<SourcePath> licenses = ImmutableSet.builder();
+    private ImmutableSortedSet.Builder<String> labels = ImmutableSortedSet.naturalOrder();
+    private @Nullable UnconfiguredBuildTarget defaultTargetPlatform;
+    private ImmutableList.Builder<UnconfiguredBuildTarget> compatibleWith = ImmutableList.builder();
+    private @Nullable String name;
+    private @Nullable Boolean exopackage;
+    private ImmutableSet.Builder<ExopackageMode> exopackageModes = ImmutableSet.builder();
+    private ImmutableSortedSet.Builder<BuildTarget> tests = ImmutableSortedSet.naturalOrder();
+    private @Nullable SourcePath manifest;
+    private @Nullable SourcePath manifestSkeleton;
+    private @Nullable SourcePath moduleManifestSkeleton;
+    private @Nullable String packageType;
+    private ImmutableSet.Builder<BuildTarget> noDx = ImmutableSet.builder();
+    private boolean disablePreDex;
+    private @Nullable ProGuardObfuscateStep.SdkProguardType androidSdkProguardConfig;
+    private int optimizationPasses;
+    private ImmutableList.Builder<String> proguardJvmArgs = ImmutableList.builder();
+    private @Nullable SourcePath proguardConfig;
+    private @Nullable ResourcesFilter.ResourceCompressionMode resourceCompression;
+    private @Nullable Boolean skipCrunchPngs;
+    private boolean includesVectorDrawables;
+    private boolean noAutoVersionResources;
+    private boolean noVersionTransitionsResources;
+    private boolean noAutoAddOverlayResources;
+    private ImmutableSet.Builder<BuildTarget> applicationModuleTargets = ImmutableSet.builder();
+    private ImmutableMap.Builder<String, ImmutableList<BuildTarget>> applicationModuleConfigs = ImmutableMap.builder();
+    private ImmutableSet.Builder<String> applicationModulesWithResources = ImmutableSet.builder();
+    private @Nullable ImmutableMap<String, ImmutableList<String>> applicationModuleDependencies;
+    private boolean isCacheable;
+    private ImmutableList.Builder<String> additionalAaptParams = ImmutableList.builder();
+    private @Nullable AaptMode aaptMode;
+    private boolean trimResourceIds;
+    private boolean allowRDotJavaInSecondaryDex;
+    private @Nullable String keepResourcePattern;
+    private @Nullable String resourceUnionPackage;
+    private ImmutableSet.Builder<String> locales = ImmutableSet.builder();
+    private boolean aapt2LocaleFiltering;
+    private @Nullable String localizedStringFileName;
+    private boolean buildStringSourceMap;
+    private boolean ignoreAaptProguardConfig;
+    private ImmutableSet.Builder<TargetCpuType> cpuFilters = ImmutableSet.builder();
+    private @Nullable StringWithMacros preprocessJavaClassesBash;
+    private boolean reorderClassesIntraDex;
+    private @Nullable String dexTool;
+    private @Nullable SourcePath dexReorderToolFile;
+    private @Nullable SourcePath dexReorderDataDumpFile;
+    private ImmutableMap.Builder<String, List<Pattern>> nativeLibraryMergeMap = ImmutableMap.builder();
+    private @Nullable BuildTarget nativeLibraryMergeGlue;
+    private @Nullable BuildTarget nativeLibraryMergeCodeGenerator;
+    private @Nullable ImmutableSortedSet<String> nativeLibraryMergeLocalizedSymbols;
+    private @Nullable BuildTarget nativeLibraryProguardConfigGenerator;
+    private boolean enableRelinker;
+    private ImmutableList.Builder<Pattern> relinkerWhitelist = ImmutableList.builder();
+    private @Nullable ManifestEntries manifestEntries;
+    private @Nullable BuildConfigFields buildConfigValues;
+    private @Nullable StringWithMacros postFilterResourcesCmd;
+    private @Nullable SourcePath buildConfigValuesFile;
+    private boolean skipProguard;
+    private ImmutableSet.Builder<String> extraFilteredResources = ImmutableSet.builder();
+    private @Nullable HasDuplicateAndroidResourceTypes.DuplicateResourceBehaviour duplicateResourceBehavior;
+    private ImmutableSet.Builder<RDotTxtEntry.RType> allowedDuplicateResourceTypes = ImmutableSet.builder();
+    private ImmutableSet.Builder<RDotTxtEntry.RType> bannedDuplicateResourceTypes = ImmutableSet.builder();
+    private @Nullable SourcePath duplicateResourceWhitelist;
+    private @Nullable List<Query> applicationModuleBlacklist;
+
+    private Builder() {
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code com.facebook.buck.core.description.arg.HasApplicationModuleBlacklist} instance.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder from(HasApplicationModuleBlacklist instance) {
+      Objects.requireNonNull(instance, "instance");
+      from((Object) instance);
+      return this;
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code com.facebook.buck.android.AndroidGraphEnhancerArgs} instance.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder from(AndroidGraphEnhancerArgs instance) {
+      Objects.requireNonNull(instance, "instance");
+      from((Object) instance);
+      return this;
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code com.facebook.buck.core.description.arg.HasDeclaredDeps} instance.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder from(HasDeclaredDeps instance) {
+      Objects.requireNonNull(instance, "instance");
+      from((Object) instance);
+      return this;
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code com.facebook.buck.core.description.arg.HasTests} instance.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder from(HasTests instance) {
+      Objects.requireNonNull(instance, "instance");
+      from((Object) instance);
+      return this;
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code AndroidBinaryDescriptionArg} instance.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder from(AndroidBinaryDescriptionArg instance) {
+      Objects.requireNonNull(instance, "instance");
+      from((Object) instance);
+      return this;
+    }
+
+    /**
+     * Copy abstract value type {@code AbstractAndroidBinaryDescriptionArg} instance into builder.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder from(AndroidBinaryDescription.AbstractAndroidBinaryDescriptionArg instance) {
+      Objects.requireNonNull(instance, "instance");
+      from((Object) instance);
+      return this;
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code com.facebook.buck.android.HasExopackageArgs} instance.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder from(HasExopackageArgs instance) {
+      Objects.requireNonNull(instance, "instance");
+      from((Object) instance);
+      return this;
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code com.facebook.buck.core.description.arg.BuildRuleArg} instance.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder from(BuildRuleArg instance) {
+      Objects.requireNonNull(instance, "instance");
+      from((Object) instance);
+      return this;
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code com.facebook.buck.android.HasDuplicateAndroidResourceTypes} instance.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder from(HasDuplicateAndroidResourceTypes instance) {
+      Objects.requireNonNull(instance, "instance");
+      from((Object) instance);
+      return this;
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code com.facebook.buck.core.description.arg.ConstructorArg} instance.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder from(ConstructorArg instance) {
+      Objects.requireNonNull(instance, "instance");
+      from((Object) instance);
+      return this;
+    }
+
+    private void from(Object object) {
+      @Var long bits = 0;
+      if (object instanceof HasApplicationModuleBlacklist) {
+        HasApplicationModuleBlacklist instance = (HasApplicationModuleBlacklist) object;
+        Optional<List<Query>> applicationModuleBlacklistOptional = instance.getApplicationModuleBlacklist();
+        if (applicationModuleBlacklistOptional.isPresent()) {
+          setApplicationModuleBlacklist(applicationModuleBlacklistOptional);
+        }
+      }
+      if (object instanceof AndroidGraphEnhancerArgs) {
+        AndroidGraphEnhancerArgs instance = (AndroidGraphEnhancerArgs) object;
+        Optional<String> keepResourcePatternOptional = instance.getKeepResourcePattern();
+        if (keepResourcePatternOptional.isPresent()) {
+          setKeepResourcePattern(keepResourcePatternOptional);
+        }
+        addAllNoDx(instance.getNoDx());
+        Optional<String> packageTypeOptional = instance.getPackageType();
+        if (packageTypeOptional.isPresent()) {
+          setPackageType(packageTypeOptional);
+        }
+        addAllAdditionalAaptParams(instance.getAdditionalAaptParams());
+        setNoAutoAddOverlayResources(instance.isNoAutoAddOverlayResources());
+        Optional<SourcePath> buildConfigValuesFileOptional = instance.getBuildConfigValuesFile();
+        if (buildConfigValuesFileOptional.isPresent()) {
+          setBuildConfigValuesFile(buildConfigValuesFileOptional);
+        }
+        Optional<ImmutableMap<String, ImmutableList<String>>> applicationModuleDependenciesOptional = instance.getApplicationModuleDependencies();
+        if (applicationModuleDependenciesOptional.isPresent()) {
+          setApplicationModuleDependencies(applicationModuleDependenciesOptional);
+        }
+        setIsCacheable(instance.getIsCacheable());
+        setAapt2LocaleFiltering(instance.isAapt2LocaleFiltering());
+        setSkipProguard(instance.isSkipProguard());
+        addAllApplicationModulesWithResources(instance.getApplicationModulesWithResources());
+        Optional<SourcePath> moduleManifestSkeletonOptional = instance.getModuleManifestSkeleton();
+        if (moduleManifestSkeletonOptional.isPresent()) {
+          setModuleManifestSkeleton(moduleManifestSkeletonOptional);
+        }
+        Optional<SourcePath> manifestSkeletonOptional = instance.getManifestSkeleton();
+        if (manifestSkeletonOptional.isPresent()) {
+          setManifestSkeleton(manifestSkeletonOptional);
+        }
+        Optional<String> resourceUnionPackageOptional = instance.getResourceUnionPackage();
+        if (resourceUnionPackageOptional.isPresent()) {
+          setResourceUnionPackage(resourceUnionPackageOptional);
+        }
+        addAllExtraFilteredResources(instance.getExtraFilteredResources());
+        setBuildConfigValues(instance.getBuildConfigValues());
+        Optional<String> localizedStringFileNameOptional = instance.getLocalizedStringFileName();
+        if (localizedStringFileNameOptional.isPresent()) {
+          setLocalizedStringFileName(localizedStringFileNameOptional);
+        }
+        Optional<StringWithMacros> postFilterResourcesCmdOptional = instance.getPostFilterResourcesCmd();
+        if (postFilterResourcesCmdOptional.isPresent()) {
+          setPostFilterResourcesCmd(postFilterResourcesCmdOptional);
+        }
+        addAllApplicationModuleTargets(instance.getApplicationModuleTargets());
+        Optional<SourcePath> dexReorderToolFileOptional = instance.getDexReorderToolFile();
+        if (dexReorderToolFileOptional.isPresent()) {
+          setDexReorderToolFile(dexReorderToolFileOptional);
+        }
+        Optional<BuildTarget> nativeLibraryMergeCodeGeneratorOptional = instance.getNativeLibraryMergeCodeGenerator();
+        if (nativeLibraryMergeCodeGeneratorOptional.isPresent()) {
+          setNativeLibraryMergeCodeGenerator(nativeLibraryMergeCodeGeneratorOptional);
+        }
+        setManifestEntries(instance.getManifestEntries());
+        addAllCpuFilters(instance.getCpuFilters());
+        addAllProguardJvmArgs(instance.getProguardJvmArgs());
+        Optional<ProGuardObfuscateStep.SdkProguardType> androidSdkProguardConfigOptional = instance.getAndroidSdkProguardConfig();
+        if (androidSdkProguardConfigOptional.isPresent()) {
+          setAndroidSdkProguardConfig(androidSdkProguardConfigOptional);
+        }
+        putAllNativeLibraryMergeMap(instance.getNativeLibraryMergeMap());
+        Optional<SourcePath> proguardConfigOptional = instance.getProguardConfig();
+        if (proguardConfigOptional.isPresent()) {
+          setProguardConfig(proguardConfigOptional);
+        }
+        Optional<Boolean> skipCrunchPngsOptional = instance.isSkipCrunchPngs();
+        if (skipCrunchPngsOptional.isPresent()) {
+          setSkipCrunchPngs(skipCrunchPngsOptional);
+        }
+        setNoVersionTransitionsResources(instance.isNoVersionTransitionsResources());
+        setDexTool(instance.getDexTool());
+        setTrimResourceIds(instance.isTrimResourceIds());
+        Optional<StringWithMacros> preprocessJavaClassesBashOptional = instance.getPreprocessJavaClassesBash();
+        if (preprocessJavaClassesBashOptional.isPresent()) {
+          setPreprocessJavaClassesBash(preprocessJavaClassesBashOptional);
+        }
+        setBuildStringSourceMap(instance.isBuildStringSourceMap());
+        setOptimizationPasses(instance.getOptimizationPasses());
+        setAaptMode(instance.getAaptMode());
+        setNoAutoVersionResources(instance.isNoAutoVersionResources());
+        addAllRelinkerWhitelist(instance.getRelinkerWhitelist());
+        setEnableRelinker(instance.isEnableRelinker());
+        setIncludesVectorDrawables(instance.isIncludesVectorDrawables());
+        Optional<BuildTarget> nativeLibraryProguardConfigGeneratorOptional = instance.getNativeLibraryProguardConfigGenerator();
+        if (nativeLibraryProguardConfigGeneratorOptional.isPresent()) {
+          setNativeLibraryProguardConfigGenerator(nativeLibraryProguardConfigGeneratorOptional);
+        }
+        putAllApplicationModuleConfigs(instance.getApplicationModuleConfigs());
+        Optional<SourcePath> manifestOptional = instance.getManifest();
+        if (manifestOptional.isPresent()) {
+          setManifest(manifestOptional);
+        }
+        setDisablePreDex(instance.getDisablePreDex());
+        setIgnoreAaptProguardConfig(instance.isIgnoreAaptProguardConfig());
+        setAllowRDotJavaInSecondaryDex(instance.isAllowRDotJavaInSecondaryDex());
+        setReorderClassesIntraDex(instance.isReorderClassesIntraDex());
+        addAllLocales(instance.getLocales());
+        setResourceCompression(instance.getResourceCompression());
+        Optional<SourcePath> dexReorderDataDumpFileOptional = instance.getDexReorderDataDumpFile();
+        if (dexReorderDataDumpFileOptional.isPresent()) {
+          setDexReorderDataDumpFile(dexReorderDataDumpFileOptional);
+        }
+        Optional<BuildTarget> nativeLibraryMergeGlueOptional = instance.getNativeLibraryMergeGlue();
+        if (nativeLibraryMergeGlueOptional.isPresent()) {
+          setNativeLibraryMergeGlue(nativeLibraryMergeGlueOptional);
+        }
+        Optional<ImmutableSortedSet<String>> nativeLibraryMergeLocalizedSymbolsOptional = instance.getNativeLibraryMergeLocalizedSymbols();
+        if (nativeLibraryMergeLocalizedSymbolsOptional.isPresent()) {
+          setNativeLibraryMergeLocalizedSymbols(nativeLibraryMergeLocalizedSymbolsOptional);
+        }
+      }
+      if (object instanceof HasDeclaredDeps) {
+        HasDeclaredDeps instance = (HasDeclaredDeps) object;
+        if ((bits & 0x1L) == 0) {
+          addAllDeps(instance.getDeps());
+          bits |= 0x1L;
+        }
+      }
+      if (object instanceof HasTests) {
+        HasTests instance = (HasTests) object;
+        addAllTests(instance.getTests());
+      }
+      if (object instanceof AndroidBinaryDescription.AbstractAndroidBinaryDescriptionArg) {
+        AndroidBinaryDescription.AbstractAndroidBinaryDescriptionArg instance = (AndroidBinaryDescription.AbstractAndroidBinaryDescriptionArg) object;
+        setUseSplitDex(instance.getUseSplitDex());
+        addAllPrimaryDexPatterns(instance.getPrimaryDexPatterns());
+        setPrimaryDexScenarioOverflowAllowed(instance.isPrimaryDexScenarioOverflowAllowed());
+        Optional<SourcePath> androidAppModularityResultOptional = instance.getAndroidAppModularityResult();
+        if (androidAppModularityResultOptional.isPresent()) {
+          setAndroidAppModularityResult(androidAppModularityResultOptional);
+        }
+        setCompressAssetLibraries(instance.isCompressAssetLibraries());
+        Optional<SourcePath> primaryDexClassesFileOptional = instance.getPrimaryDexClassesFile();
+        if (primaryDexClassesFileOptional.isPresent()) {
+          setPrimaryDexClassesFile(primaryDexClassesFileOptional);
+        }
+        Optional<CompressionAlgorithm> assetCompressionAlgorithmOptional = instance.getAssetCompressionAlgorithm();
+        if (assetCompressionAlgorithmOptional.isPresent()) {
+          setAssetCompressionAlgorithm(assetCompressionAlgorithmOptional);
+        }
+        if ((bits & 0x1L) == 0) {
+          addAllDeps(instance.getDeps());
+          bits |= 0x1L;
+        }
+        Optional<SourcePath> primaryDexScenarioFileOptional = instance.getPrimaryDexScenarioFile();
+        if (primaryDexScenarioFileOptional.isPresent()) {
+          setPrimaryDexScenarioFile(primaryDexScenarioFileOptional);
+        }
+        addAllResourceFilter(instance.getResourceFilter());
+        setLinearAllocHardLimit(instance.getLinearAllocHardLimit());
+        Optional<SourcePath> secondaryDexTailClassesFileOptional = instance.getSecondaryDexTailClassesFile();
+        if (secondaryDexTailClassesFileOptional.isPresent()) {
+          setSecondaryDexTailClassesFile(secondaryDexTailClassesFileOptional);
+        }
+        setMinimizePrimaryDexSize(instance.getMinimizePrimaryDexSize());
+        setRedex(instance.getRedex());
+        Optional<DexStore> dexCompressionOptional = instance.getDexCompression();
+        if (dexCompressionOptional.isPresent()) {
+          setDexCompression(dexCompressionOptional);
+        }
+        Optional<SourcePath> secondaryDexHeadClassesFileOptional = instance.getSecondaryDexHeadClassesFile();
+        if (secondaryDexHeadClassesFileOptional.isPresent()) {
+          setSecondaryDexHeadClassesFile(secondaryDexHeadClassesFileOptional);
+        }
+        addAllPreprocessJavaClassesDeps(instance.getPreprocessJavaClassesDeps());
+        Optional<SourcePath> redexConfigOptional = instance.getRedexConfig();
+        if (redexConfigOptional.isPresent()) {
+          setRedexConfig(redexConfigOptional);
+        }
+        setPackageAssetLibraries(instance.isPackageAssetLibraries());
+        addAllRedexExtraArgs(instance.getRedexExtraArgs());
+        setKeystore(instance.getKeystore());
+        setXzCompressionLevel(instance.getXzCompressionLevel());
+        setDexGroupLibLimit(instance.getDexGroupLibLimit());
+      }
+      if (object instanceof HasExopackageArgs) {
+        HasExopackageArgs instance = (HasExopackageArgs) object;
+        addAllExopackageModes(instance.getExopackageModes());
+        Optional<Boolean> exopackageOptional = instance.isExopackage();
+        if (exopackageOptional.isPresent()) {
+          setExopackage(exopackageOptional);
+        }
+      }
+      if (object instanceof BuildRuleArg) {
+        BuildRuleArg instance = (BuildRuleArg) object;
+        addAllLicenses(instance.getLicenses());
+        addAllCompatibleWith(instance.getCompatibleWith());
+        addAllLabels(instance.getLabels());
+        Optional<UnconfiguredBuildTarget> defaultTargetPlatformOptional = instance.getDefaultTargetPlatform();
+        if (defaultTargetPlatformOptional.isPresent()) {
+          setDefaultTargetPlatform(defaultTargetPlatformOptional);
+        }
+      }
+      if (object instanceof HasDuplicateAndroidResourceTypes) {
+        HasDuplicateAndroidResourceTypes instance = (HasDuplicateAndroidResourceTypes) object;
+        Optional<SourcePath> duplicateResourceWhitelistOptional = instance.getDuplicateResourceWhitelist();
+        if (duplicateResourceWhitelistOptional.isPresent()) {
+          setDuplicateResourceWhitelist(duplicateResourceWhitelistOptional);
+        }
+        addAllAllowedDuplicateResourceTypes(instance.getAllowedDuplicateResourceTypes());
+        addAllBannedDuplicateResourceTypes(instance.getBannedDuplicateResourceTypes());
+        setDuplicateResourceBehavior(instance.getDuplicateResourceBehavior());
+      }
+      if (object instanceof ConstructorArg) {
+        ConstructorArg instance = (ConstructorArg) object;
+        setName(instance.getName());
+      }
+    }
+
+    /**
+     * Initializes the value for the {@link AndroidBinaryDescriptionArg#getKeystore() keystore} attribute.
+     * @param keystore The value for keystore 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setKeystore(BuildTarget keystore) {
+      this.keystore = Objects.requireNonNull(keystore, "keystore");
+      initBits &= ~INIT_BIT_KEYSTORE;
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link AndroidBinaryDescriptionArg#getUseSplitDex() useSplitDex} attribute.
+     * <p><em>If not set, this attribute will have a default value as returned by the initializer of {@link AndroidBinaryDescriptionArg#getUseSplitDex() useSplitDex}.</em>
+     * @param useSplitDex The value for useSplitDex 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setUseSplitDex(boolean useSplitDex) {
+      this.useSplitDex = useSplitDex;
+      optBits |= OPT_BIT_USE_SPLIT_DEX;
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link AndroidBinaryDescriptionArg#getMinimizePrimaryDexSize() minimizePrimaryDexSize} attribute.
+     * <p><em>If not set, this attribute will have a default value as returned by the initializer of {@link AndroidBinaryDescriptionArg#getMinimizePrimaryDexSize() minimizePrimaryDexSize}.</em>
+     * @param minimizePrimaryDexSize The value for minimizePrimaryDexSize 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setMinimizePrimaryDexSize(boolean minimizePrimaryDexSize) {
+      this.minimizePrimaryDexSize = minimizePrimaryDexSize;
+      optBits |= OPT_BIT_MINIMIZE_PRIMARY_DEX_SIZE;
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AndroidBinaryDescriptionArg#getDexCompression() dexCompression} to dexCompression.
+     * @param dexCompression The value for dexCompression
+     * @return {@code this} builder for chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setDexCompression(DexStore dexCompression) {
+      this.dexCompression = Objects.requireNonNull(dexCompression, "dexCompression");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AndroidBinaryDescriptionArg#getDexCompression() dexCompression} to dexCompression.
+     * @param dexCompression The value for dexCompression
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setDexCompression(Optional<? extends DexStore> dexCompression) {
+      this.dexCompression = dexCompression.orElse(null);
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link AndroidBinaryDescriptionArg#getPrimaryDexPatterns() primaryDexPatterns} list.
+     * @param element A primaryDexPatterns element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addPrimaryDexPatterns(String element) {
+      this.primaryDexPatterns.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link AndroidBinaryDescriptionArg#getPrimaryDexPatterns() primaryDexPatterns} list.
+     * @param elements An array of primaryDexPatterns elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addPrimaryDexPatterns(String... elements) {
+      this.primaryDexPatterns.add(elements);
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link AndroidBinaryDescriptionArg#getPrimaryDexPatterns() primaryDexPatterns} list.
+     * @param elements An iterable of primaryDexPatterns elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setPrimaryDexPatterns(Iterable<String> elements) {
+      this.primaryDexPatterns = ImmutableList.builder();
+      return addAllPrimaryDexPatterns(elements);
+    }
+
+    /**
+     * Adds elements to {@link AndroidBinaryDescriptionArg#getPrimaryDexPatterns() primaryDexPatterns} list.
+     * @param elements An iterable of primaryDexPatterns elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addAllPrimaryDexPatterns(Iterable<String> elements) {
+      this.primaryDexPatterns.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AndroidBinaryDescriptionArg#getPrimaryDexClassesFile() primaryDexClassesFile} to primaryDexClassesFile.
+     * @param primaryDexClassesFile The value for primaryDexClassesFile
+     * @return {@code this} builder for chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setPrimaryDexClassesFile(SourcePath primaryDexClassesFile) {
+      this.primaryDexClassesFile = Objects.requireNonNull(primaryDexClassesFile, "primaryDexClassesFile");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AndroidBinaryDescriptionArg#getPrimaryDexClassesFile() primaryDexClassesFile} to primaryDexClassesFile.
+     * @param primaryDexClassesFile The value for primaryDexClassesFile
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setPrimaryDexClassesFile(Optional<? extends SourcePath> primaryDexClassesFile) {
+      this.primaryDexClassesFile = primaryDexClassesFile.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AndroidBinaryDescriptionArg#getPrimaryDexScenarioFile() primaryDexScenarioFile} to primaryDexScenarioFile.
+     * @param primaryDexScenarioFile The value for primaryDexScenarioFile
+     * @return {@code this} builder for chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setPrimaryDexScenarioFile(SourcePath primaryDexScenarioFile) {
+      this.primaryDexScenarioFile = Objects.requireNonNull(primaryDexScenarioFile, "primaryDexScenarioFile");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AndroidBinaryDescriptionArg#getPrimaryDexScenarioFile() primaryDexScenarioFile} to primaryDexScenarioFile.
+     * @param primaryDexScenarioFile The value for primaryDexScenarioFile
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setPrimaryDexScenarioFile(Optional<? extends SourcePath> primaryDexScenarioFile) {
+      this.primaryDexScenarioFile = primaryDexScenarioFile.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link AndroidBinaryDescriptionArg#isPrimaryDexScenarioOverflowAllowed() primaryDexScenarioOverflowAllowed} attribute.
+     * <p><em>If not set, this attribute will have a default value as returned by the initializer of {@link AndroidBinaryDescriptionArg#isPrimaryDexScenarioOverflowAllowed() primaryDexScenarioOverflowAllowed}.</em>
+     * @param primaryDexScenarioOverflowAllowed The value for primaryDexScenarioOverflowAllowed 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setPrimaryDexScenarioOverflowAllowed(boolean primaryDexScenarioOverflowAllowed) {
+      this.primaryDexScenarioOverflowAllowed = primaryDexScenarioOverflowAllowed;
+      optBits |= OPT_BIT_PRIMARY_DEX_SCENARIO_OVERFLOW_ALLOWED;
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AndroidBinaryDescriptionArg#getSecondaryDexHeadClassesFile() secondaryDexHeadClassesFile} to secondaryDexHeadClassesFile.
+     * @param secondaryDexHeadClassesFile The value for secondaryDexHeadClassesFile
+     * @return {@code this} builder for chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setSecondaryDexHeadClassesFile(SourcePath secondaryDexHeadClassesFile) {
+      this.secondaryDexHeadClassesFile = Objects.requireNonNull(secondaryDexHeadClassesFile, "secondaryDexHeadClassesFile");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AndroidBinaryDescriptionArg#getSecondaryDexHeadClassesFile() secondaryDexHeadClassesFile} to secondaryDexHeadClassesFile.
+     * @param secondaryDexHeadClassesFile The value for secondaryDexHeadClassesFile
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setSecondaryDexHeadClassesFile(Optional<? extends SourcePath> secondaryDexHeadClassesFile) {
+      this.secondaryDexHeadClassesFile = secondaryDexHeadClassesFile.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AndroidBinaryDescriptionArg#getSecondaryDexTailClassesFile() secondaryDexTailClassesFile} to secondaryDexTailClassesFile.
+     * @param secondaryDexTailClassesFile The value for secondaryDexTailClassesFile
+     * @return {@code this} builder for chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setSecondaryDexTailClassesFile(SourcePath secondaryDexTailClassesFile) {
+      this.secondaryDexTailClassesFile = Objects.requireNonNull(secondaryDexTailClassesFile, "secondaryDexTailClassesFile");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AndroidBinaryDescriptionArg#getSecondaryDexTailClassesFile() secondaryDexTailClassesFile} to secondaryDexTailClassesFile.
+     * @param secondaryDexTailClassesFile The value for secondaryDexTailClassesFile
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setSecondaryDexTailClassesFile(Optional<? extends SourcePath> secondaryDexTailClassesFile) {
+      this.secondaryDexTailClassesFile = secondaryDexTailClassesFile.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AndroidBinaryDescriptionArg#getAndroidAppModularityResult() androidAppModularityResult} to androidAppModularityResult.
+     * @param androidAppModularityResult The value for androidAppModularityResult
+     * @return {@code this} builder for chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setAndroidAppModularityResult(SourcePath androidAppModularityResult) {
+      this.androidAppModularityResult = Objects.requireNonNull(androidAppModularityResult, "androidAppModularityResult");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AndroidBinaryDescriptionArg#getAndroidAppModularityResult() androidAppModularityResult} to androidAppModularityResult.
+     * @param androidAppModularityResult The value for androidAppModularityResult
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setAndroidAppModularityResult(Optional<? extends SourcePath> androidAppModularityResult) {
+      this.androidAppModularityResult = androidAppModularityResult.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link AndroidBinaryDescriptionArg#getLinearAllocHardLimit() linearAllocHardLimit} attribute.
+     * <p><em>If not set, this attribute will have a default value as returned by the initializer of {@link AndroidBinaryDescriptionArg#getLinearAllocHardLimit() linearAllocHardLimit}.</em>
+     * @param linearAllocHardLimit The value for linearAllocHardLimit 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setLinearAllocHardLimit(long linearAllocHardLimit) {
+      this.linearAllocHardLimit = linearAllocHardLimit;
+      optBits |= OPT_BIT_LINEAR_ALLOC_HARD_LIMIT;
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link AndroidBinaryDescriptionArg#getDexGroupLibLimit() dexGroupLibLimit} attribute.
+     * <p><em>If not set, this attribute will have a default value as returned by the initializer of {@link AndroidBinaryDescriptionArg#getDexGroupLibLimit() dexGroupLibLimit}.</em>
+     * @param dexGroupLibLimit The value for dexGroupLibLimit 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setDexGroupLibLimit(int dexGroupLibLimit) {
+      this.dexGroupLibLimit = dexGroupLibLimit;
+      optBits |= OPT_BIT_DEX_GROUP_LIB_LIMIT;
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link AndroidBinaryDescriptionArg#getResourceFilter() resourceFilter} list.
+     * @param element A resourceFilter element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addResourceFilter(String element) {
+      this.resourceFilter.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link AndroidBinaryDescriptionArg#getResourceFilter() resourceFilter} list.
+     * @param elements An array of resourceFilter elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addResourceFilter(String... elements) {
+      this.resourceFilter.add(elements);
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link AndroidBinaryDescriptionArg#getResourceFilter() resourceFilter} list.
+     * @param elements An iterable of resourceFilter elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setResourceFilter(Iterable<String> elements) {
+      this.resourceFilter = ImmutableList.builder();
+      return addAllResourceFilter(elements);
+    }
+
+    /**
+     * Adds elements to {@link AndroidBinaryDescriptionArg#getResourceFilter() resourceFilter} list.
+     * @param elements An iterable of resourceFilter elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addAllResourceFilter(Iterable<String> elements) {
+      this.resourceFilter.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link AndroidBinaryDescriptionArg#getPreprocessJavaClassesDeps() preprocessJavaClassesDeps} sortedSet.
+     * @param element A preprocessJavaClassesDeps element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addPreprocessJavaClassesDeps(BuildTarget element) {
+      this.preprocessJavaClassesDeps.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link AndroidBinaryDescriptionArg#getPreprocessJavaClassesDeps() preprocessJavaClassesDeps} sortedSet.
+     * @param elements An array of preprocessJavaClassesDeps elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addPreprocessJavaClassesDeps(BuildTarget... elements) {
+      this.preprocessJavaClassesDeps.addAll(Arrays.asList(elements));
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link AndroidBinaryDescriptionArg#getPreprocessJavaClassesDeps() preprocessJavaClassesDeps} sortedSet.
+     * @param elements An iterable of preprocessJavaClassesDeps elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setPreprocessJavaClassesDeps(Iterable<? extends BuildTarget> elements) {
+      this.preprocessJavaClassesDeps = ImmutableSortedSet.naturalOrder();
+      return addAllPreprocessJavaClassesDeps(elements);
+    }
+
+    /**
+     * Adds elements to {@link AndroidBinaryDescriptionArg#getPreprocessJavaClassesDeps() preprocessJavaClassesDeps} sortedSet.
+     * @param elements An iterable of preprocessJavaClassesDeps elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addAllPreprocessJavaClassesDeps(Iterable<? extends BuildTarget> elements) {
+      this.preprocessJavaClassesDeps.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link AndroidBinaryDescriptionArg#getXzCompressionLevel() xzCompressionLevel} attribute.
+     * <p><em>If not set, this attribute will have a default value as returned by the initializer of {@link AndroidBinaryDescriptionArg#getXzCompressionLevel() xzCompressionLevel}.</em>
+     * @param xzCompressionLevel The value for xzCompressionLevel 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setXzCompressionLevel(int xzCompressionLevel) {
+      this.xzCompressionLevel = xzCompressionLevel;
+      optBits |= OPT_BIT_XZ_COMPRESSION_LEVEL;
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link AndroidBinaryDescriptionArg#isPackageAssetLibraries() packageAssetLibraries} attribute.
+     * <p><em>If not set, this attribute will have a default value as returned by the initializer of {@link AndroidBinaryDescriptionArg#isPackageAssetLibraries() packageAssetLibraries}.</em>
+     * @param packageAssetLibraries The value for packageAssetLibraries 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setPackageAssetLibraries(boolean packageAssetLibraries) {
+      this.packageAssetLibraries = packageAssetLibraries;
+      optBits |= OPT_BIT_PACKAGE_ASSET_LIBRARIES;
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link AndroidBinaryDescriptionArg#isCompressAssetLibraries() compressAssetLibraries} attribute.
+     * <p><em>If not set, this attribute will have a default value as returned by the initializer of {@link AndroidBinaryDescriptionArg#isCompressAssetLibraries() compressAssetLibraries}.</em>
+     * @param compressAssetLibraries The value for compressAssetLibraries 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setCompressAssetLibraries(boolean compressAssetLibraries) {
+      this.compressAssetLibraries = compressAssetLibraries;
+      optBits |= OPT_BIT_COMPRESS_ASSET_LIBRARIES;
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AndroidBinaryDescriptionArg#getAssetCompressionAlgorithm() assetCompressionAlgorithm} to assetCompressionAlgorithm.
+     * @param assetCompressionAlgorithm The value for assetCompressionAlgorithm
+     * @return {@code this} builder for chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setAssetCompressionAlgorithm(CompressionAlgorithm assetCompressionAlgorithm) {
+      this.assetCompressionAlgorithm = Objects.requireNonNull(assetCompressionAlgorithm, "assetCompressionAlgorithm");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AndroidBinaryDescriptionArg#getAssetCompressionAlgorithm() assetCompressionAlgorithm} to assetCompressionAlgorithm.
+     * @param assetCompressionAlgorithm The value for assetCompressionAlgorithm
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setAssetCompressionAlgorithm(Optional<? extends CompressionAlgorithm> assetCompressionAlgorithm) {
+      this.assetCompressionAlgorithm = assetCompressionAlgorithm.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link AndroidBinaryDescriptionArg#getRedex() redex} attribute.
+     * <p><em>If not set, this attribute will have a default value as returned by the initializer of {@link AndroidBinaryDescriptionArg#getRedex() redex}.</em>
+     * @param redex The value for redex 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setRedex(boolean redex) {
+      this.redex = redex;
+      optBits |= OPT_BIT_REDEX;
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AndroidBinaryDescriptionArg#getRedexConfig() redexConfig} to redexConfig.
+     * @param redexConfig The value for redexConfig
+     * @return {@code this} builder for chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setRedexConfig(SourcePath redexConfig) {
+      this.redexConfig = Objects.requireNonNull(redexConfig, "redexConfig");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AndroidBinaryDescriptionArg#getRedexConfig() redexConfig} to redexConfig.
+     * @param redexConfig The value for redexConfig
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setRedexConfig(Optional<? extends SourcePath> redexConfig) {
+      this.redexConfig = redexConfig.orElse(null);
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link AndroidBinaryDescriptionArg#getRedexExtraArgs() redexExtraArgs} list.
+     * @param element A redexExtraArgs element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addRedexExtraArgs(StringWithMacros element) {
+      this.redexExtraArgs.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link AndroidBinaryDescriptionArg#getRedexExtraArgs() redexExtraArgs} list.
+     * @param elements An array of redexExtraArgs elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addRedexExtraArgs(StringWithMacros... elements) {
+      this.redexExtraArgs.add(elements);
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link AndroidBinaryDescriptionArg#getRedexExtraArgs() redexExtraArgs} list.
+     * @param elements An iterable of redexExtraArgs elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setRedexExtraArgs(Iterable<? extends StringWithMacros> elements) {
+      this.redexExtraArgs = ImmutableList.builder();
+      return addAllRedexExtraArgs(elements);
+    }
+
+    /**
+     * Adds elements to {@link AndroidBinaryDescriptionArg#getRedexExtraArgs() redexExtraArgs} list.
+     * @param elements An iterable of redexExtraArgs elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addAllRedexExtraArgs(Iterable<? extends StringWithMacros> elements) {
+      this.redexExtraArgs.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link AndroidBinaryDescriptionArg#getDeps() deps} sortedSet.
+     * @param element A deps element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addDeps(BuildTarget element) {
+      this.deps.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link AndroidBinaryDescriptionArg#getDeps() deps} sortedSet.
+     * @param elements An array of deps elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addDeps(BuildTarget... elements) {
+      this.deps.addAll(Arrays.asList(elements));
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link AndroidBinaryDescriptionArg#getDeps() deps} sortedSet.
+     * @param elements An iterable of deps elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setDeps(Iterable<? extends BuildTarget> elements) {
+      this.deps = ImmutableSortedSet.naturalOrder();
+      return addAllDeps(elements);
+    }
+
+    /**
+     * Adds elements to {@link AndroidBinaryDescriptionArg#getDeps() deps} sortedSet.
+     * @param elements An iterable of deps elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addAllDeps(Iterable<? extends BuildTarget> elements) {
+      this.deps.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link AndroidBinaryDescriptionArg#getLicenses() licenses} set.
+     * @param element A licenses element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addLicenses(SourcePath element) {
+      this.licenses.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link AndroidBinaryDescriptionArg#getLicenses() licenses} set.
+     * @param elements An array of licenses elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addLicenses(SourcePath... elements) {
+      this.licenses.add(elements);
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link AndroidBinaryDescriptionArg#getLicenses() licenses} set.
+     * @param elements An iterable of licenses elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setLicenses(Iterable<? extends SourcePath> elements) {
+      this.licenses = ImmutableSet.builder();
+      return addAllLicenses(elements);
+    }
+
+    /**
+     * Adds elements to {@link AndroidBinaryDescriptionArg#getLicenses() licenses} set.
+     * @param elements An iterable of licenses elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addAllLicenses(Iterable<? extends SourcePath> elements) {
+      this.licenses.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link AndroidBinaryDescriptionArg#getLabels() labels} sortedSet.
+     * @param element A labels element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addLabels(String element) {
+      this.labels.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link AndroidBinaryDescriptionArg#getLabels() labels} sortedSet.
+     * @param elements An array of labels elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addLabels(String... elements) {
+      this.labels.addAll(Arrays.asList(elements));
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link AndroidBinaryDescriptionArg#getLabels() labels} sortedSet.
+     * @param elements An iterable of labels elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setLabels(Iterable<String> elements) {
+      this.labels = ImmutableSortedSet.naturalOrder();
+      return addAllLabels(elements);
+    }
+
+    /**
+     * Adds elements to {@link AndroidBinaryDescriptionArg#getLabels() labels} sortedSet.
+     * @param elements An iterable of labels elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addAllLabels(Iterable<String> elements) {
+      this.labels.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AndroidBinaryDescriptionArg#getDefaultTargetPlatform() defaultTargetPlatform} to defaultTargetPlatform.
+     * @param defaultTargetPlatform The value for defaultTargetPlatform
+     * @return {@code this} builder for chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setDefaultTargetPlatform(UnconfiguredBuildTarget defaultTargetPlatform) {
+      this.defaultTargetPlatform = Objects.requireNonNull(defaultTargetPlatform, "defaultTargetPlatform");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AndroidBinaryDescriptionArg#getDefaultTargetPlatform() defaultTargetPlatform} to defaultTargetPlatform.
+     * @param defaultTargetPlatform The value for defaultTargetPlatform
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setDefaultTargetPlatform(Optional<? extends UnconfiguredBuildTarget> defaultTargetPlatform) {
+      this.defaultTargetPlatform = defaultTargetPlatform.orElse(null);
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link AndroidBinaryDescriptionArg#getCompatibleWith() compatibleWith} list.
+     * @param element A compatibleWith element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addCompatibleWith(UnconfiguredBuildTarget element) {
+      this.compatibleWith.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link AndroidBinaryDescriptionArg#getCompatibleWith() compatibleWith} list.
+     * @param elements An array of compatibleWith elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addCompatibleWith(UnconfiguredBuildTarget... elements) {
+      this.compatibleWith.add(elements);
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link AndroidBinaryDescriptionArg#getCompatibleWith() compatibleWith} list.
+     * @param elements An iterable of compatibleWith elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setCompatibleWith(Iterable<? extends UnconfiguredBuildTarget> elements) {
+      this.compatibleWith = ImmutableList.builder();
+      return addAllCompatibleWith(elements);
+    }
+
+    /**
+     * Adds elements to {@link AndroidBinaryDescriptionArg#getCompatibleWith() compatibleWith} list.
+     * @param elements An iterable of compatibleWith elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addAllCompatibleWith(Iterable<? extends UnconfiguredBuildTarget> elements) {
+      this.compatibleWith.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link AndroidBinaryDescriptionArg#getName() name} attribute.
+     * @param name The value for name 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setName(String name) {
+      this.name = Objects.requireNonNull(name, "name");
+      initBits &= ~INIT_BIT_NAME;
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AndroidBinaryDescriptionArg#isExopackage() exopackage} to exopackage.
+     * @param exopackage The value for exopackage
+     * @return {@code this} builder for chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setExopackage(boolean exopackage) {
+      this.exopackage = exopackage;
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AndroidBinaryDescriptionArg#isExopackage() exopackage} to exopackage.
+     * @param exopackage The value for exopackage
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setExopackage(Optional<Boolean> exopackage) {
+      this.exopackage = exopackage.orElse(null);
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link AndroidBinaryDescriptionArg#getExopackageModes() exopackageModes} set.
+     * @param element A exopackageModes element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addExopackageModes(ExopackageMode element) {
+      this.exopackageModes.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link AndroidBinaryDescriptionArg#getExopackageModes() exopackageModes} set.
+     * @param elements An array of exopackageModes elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addExopackageModes(ExopackageMode... elements) {
+      this.exopackageModes.addAll(Arrays.asList(elements));
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link AndroidBinaryDescriptionArg#getExopackageModes() exopackageModes} set.
+     * @param elements An iterable of exopackageModes elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setExopackageModes(Iterable<ExopackageMode> elements) {
+      this.exopackageModes = ImmutableSet.builder();
+      return addAllExopackageModes(elements);
+    }
+
+    /**
+     * Adds elements to {@link AndroidBinaryDescriptionArg#getExopackageModes() exopackageModes} set.
+     * @param elements An iterable of exopackageModes elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addAllExopackageModes(Iterable<ExopackageMode> elements) {
+      this.exopackageModes.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link AndroidBinaryDescriptionArg#getTests() tests} sortedSet.
+     * @param element A tests element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addTests(BuildTarget element) {
+      this.tests.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link AndroidBinaryDescriptionArg#getTests() tests} sortedSet.
+     * @param elements An array of tests elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addTests(BuildTarget... elements) {
+      this.tests.addAll(Arrays.asList(elements));
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link AndroidBinaryDescriptionArg#getTests() tests} sortedSet.
+     * @param elements An iterable of tests elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setTests(Iterable<? extends BuildTarget> elements) {
+      this.tests = ImmutableSortedSet.naturalOrder();
+      return addAllTests(elements);
+    }
+
+    /**
+     * Adds elements to {@link AndroidBinaryDescriptionArg#getTests() tests} sortedSet.
+     * @param elements An iterable of tests elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addAllTests(Iterable<? extends BuildTarget> elements) {
+      this.tests.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AndroidBinaryDescriptionArg#getManifest() manifest} to manifest.
+     * @param manifest The value for manifest
+     * @return {@code this} builder for chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setManifest(SourcePath manifest) {
+      this.manifest = Objects.requireNonNull(manifest, "manifest");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AndroidBinaryDescriptionArg#getManifest() manifest} to manifest.
+     * @param manifest The value for manifest
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setManifest(Optional<? extends SourcePath> manifest) {
+      this.manifest = manifest.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AndroidBinaryDescriptionArg#getManifestSkeleton() manifestSkeleton} to manifestSkeleton.
+     * @param manifestSkeleton The value for manifestSkeleton
+     * @return {@code this} builder for chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setManifestSkeleton(SourcePath manifestSkeleton) {
+      this.manifestSkeleton = Objects.requireNonNull(manifestSkeleton, "manifestSkeleton");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AndroidBinaryDescriptionArg#getManifestSkeleton() manifestSkeleton} to manifestSkeleton.
+     * @param manifestSkeleton The value for manifestSkeleton
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setManifestSkeleton(Optional<? extends SourcePath> manifestSkeleton) {
+      this.manifestSkeleton = manifestSkeleton.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AndroidBinaryDescriptionArg#getModuleManifestSkeleton() moduleManifestSkeleton} to moduleManifestSkeleton.
+     * @param moduleManifestSkeleton The value for moduleManifestSkeleton
+     * @return {@code this} builder for chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setModuleManifestSkeleton(SourcePath moduleManifestSkeleton) {
+      this.moduleManifestSkeleton = Objects.requireNonNull(moduleManifestSkeleton, "moduleManifestSkeleton");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AndroidBinaryDescriptionArg#getModuleManifestSkeleton() moduleManifestSkeleton} to moduleManifestSkeleton.
+     * @param moduleManifestSkeleton The value for moduleManifestSkeleton
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setModuleManifestSkeleton(Optional<? extends SourcePath> moduleManifestSkeleton) {
+      this.moduleManifestSkeleton = moduleManifestSkeleton.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AndroidBinaryDescriptionArg#getPackageType() packageType} to packageType.
+     * @param packageType The value for packageType
+     * @return {@code this} builder for chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setPackageType(String packageType) {
+      this.packageType = Objects.requireNonNull(packageType, "packageType");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AndroidBinaryDescriptionArg#getPackageType() packageType} to packageType.
+     * @param packageType The value for packageType
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setPackageType(Optional<String> packageType) {
+      this.packageType = packageType.orElse(null);
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link AndroidBinaryDescriptionArg#getNoDx() noDx} set.
+     * @param element A noDx element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addNoDx(BuildTarget element) {
+      this.noDx.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link AndroidBinaryDescriptionArg#getNoDx() noDx} set.
+     * @param elements An array of noDx elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addNoDx(BuildTarget... elements) {
+      this.noDx.add(elements);
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link AndroidBinaryDescriptionArg#getNoDx() noDx} set.
+     * @param elements An iterable of noDx elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setNoDx(Iterable<? extends BuildTarget> elements) {
+      this.noDx = ImmutableSet.builder();
+      return addAllNoDx(elements);
+    }
+
+    /**
+     * Adds elements to {@link AndroidBinaryDescriptionArg#getNoDx() noDx} set.
+     * @param elements An iterable of noDx elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addAllNoDx(Iterable<? extends BuildTarget> elements) {
+      this.noDx.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link AndroidBinaryDescriptionArg#getDisablePreDex() disablePreDex} attribute.
+     * <p><em>If not set, this attribute will have a default value as returned by the initializer of {@link AndroidBinaryDescriptionArg#getDisablePreDex() disablePreDex}.</em>
+     * @param disablePreDex The value for disablePreDex 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setDisablePreDex(boolean disablePreDex) {
+      this.disablePreDex = disablePreDex;
+      optBits |= OPT_BIT_DISABLE_PRE_DEX;
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AndroidBinaryDescriptionArg#getAndroidSdkProguardConfig() androidSdkProguardConfig} to androidSdkProguardConfig.
+     * @param androidSdkProguardConfig The value for androidSdkProguardConfig
+     * @return {@code this} builder for chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setAndroidSdkProguardConfig(ProGuardObfuscateStep.SdkProguardType androidSdkProguardConfig) {
+      this.androidSdkProguardConfig = Objects.requireNonNull(androidSdkProguardConfig, "androidSdkProguardConfig");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AndroidBinaryDescriptionArg#getAndroidSdkProguardConfig() androidSdkProguardConfig} to androidSdkProguardConfig.
+     * @param androidSdkProguardConfig The value for androidSdkProguardConfig
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setAndroidSdkProguardConfig(Optional<? extends ProGuardObfuscateStep.SdkProguardType> androidSdkProguardConfig) {
+      this.androidSdkProguardConfig = androidSdkProguardConfig.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link AndroidBinaryDescriptionArg#getOptimizationPasses() optimizationPasses} attribute.
+     * <p><em>If not set, this attribute will have a default value as returned by the initializer of {@link AndroidBinaryDescriptionArg#getOptimizationPasses() optimizationPasses}.</em>
+     * @param optimizationPasses The value for optimizationPasses 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setOptimizationPasses(int optimizationPasses) {
+      this.optimizationPasses = optimizationPasses;
+      optBits |= OPT_BIT_OPTIMIZATION_PASSES;
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link AndroidBinaryDescriptionArg#getProguardJvmArgs() proguardJvmArgs} list.
+     * @param element A proguardJvmArgs element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addProguardJvmArgs(String element) {
+      this.proguardJvmArgs.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link AndroidBinaryDescriptionArg#getProguardJvmArgs() proguardJvmArgs} list.
+     * @param elements An array of proguardJvmArgs elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addProguardJvmArgs(String... elements) {
+      this.proguardJvmArgs.add(elements);
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link AndroidBinaryDescriptionArg#getProguardJvmArgs() proguardJvmArgs} list.
+     * @param elements An iterable of proguardJvmArgs elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setProguardJvmArgs(Iterable<String> elements) {
+      this.proguardJvmArgs = ImmutableList.builder();
+      return addAllProguardJvmArgs(elements);
+    }
+
+    /**
+     * Adds elements to {@link AndroidBinaryDescriptionArg#getProguardJvmArgs() proguardJvmArgs} list.
+     * @param elements An iterable of proguardJvmArgs elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addAllProguardJvmArgs(Iterable<String> elements) {
+      this.proguardJvmArgs.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AndroidBinaryDescriptionArg#getProguardConfig() proguardConfig} to proguardConfig.
+     * @param proguardConfig The value for proguardConfig
+     * @return {@code this} builder for chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setProguardConfig(SourcePath proguardConfig) {
+      this.proguardConfig = Objects.requireNonNull(proguardConfig, "proguardConfig");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AndroidBinaryDescriptionArg#getProguardConfig() proguardConfig} to proguardConfig.
+     * @param proguardConfig The value for proguardConfig
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setProguardConfig(Optional<? extends SourcePath> proguardConfig) {
+      this.proguardConfig = proguardConfig.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link AndroidBinaryDescriptionArg#getResourceCompression() resourceCompression} attribute.
+     * <p><em>If not set, this attribute will have a default value as returned by the initializer of {@link AndroidBinaryDescriptionArg#getResourceCompression() resourceCompression}.</em>
+     * @param resourceCompression The value for resourceCompression 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setResourceCompression(ResourcesFilter.ResourceCompressionMode resourceCompression) {
+      this.resourceCompression = Objects.requireNonNull(resourceCompression, "resourceCompression");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AndroidBinaryDescriptionArg#isSkipCrunchPngs() skipCrunchPngs} to skipCrunchPngs.
+     * @param skipCrunchPngs The value for skipCrunchPngs
+     * @return {@code this} builder for chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setSkipCrunchPngs(boolean skipCrunchPngs) {
+      this.skipCrunchPngs = skipCrunchPngs;
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AndroidBinaryDescriptionArg#isSkipCrunchPngs() skipCrunchPngs} to skipCrunchPngs.
+     * @param skipCrunchPngs The value for skipCrunchPngs
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setSkipCrunchPngs(Optional<Boolean> skipCrunchPngs) {
+      this.skipCrunchPngs = skipCrunchPngs.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link AndroidBinaryDescriptionArg#isIncludesVectorDrawables() includesVectorDrawables} attribute.
+     * <p><em>If not set, this attribute will have a default value as returned by the initializer of {@link AndroidBinaryDescriptionArg#isIncludesVectorDrawables() includesVectorDrawables}.</em>
+     * @param includesVectorDrawables The value for includesVectorDrawables 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setIncludesVectorDrawables(boolean includesVectorDrawables) {
+      this.includesVectorDrawables = includesVectorDrawables;
+      optBits |= OPT_BIT_INCLUDES_VECTOR_DRAWABLES;
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link AndroidBinaryDescriptionArg#isNoAutoVersionResources() noAutoVersionResources} attribute.
+     * <p><em>If not set, this attribute will have a default value as returned by the initializer of {@link AndroidBinaryDescriptionArg#isNoAutoVersionResources() noAutoVersionResources}.</em>
+     * @param noAutoVersionResources The value for noAutoVersionResources 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setNoAutoVersionResources(boolean noAutoVersionResources) {
+      this.noAutoVersionResources = noAutoVersionResources;
+      optBits |= OPT_BIT_NO_AUTO_VERSION_RESOURCES;
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link AndroidBinaryDescriptionArg#isNoVersionTransitionsResources() noVersionTransitionsResources} attribute.
+     * <p><em>If not set, this attribute will have a default value as returned by the initializer of {@link AndroidBinaryDescriptionArg#isNoVersionTransitionsResources() noVersionTransitionsResources}.</em>
+     * @param noVersionTransitionsResources The value for noVersionTransitionsResources 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setNoVersionTransitionsResources(boolean noVersionTransitionsResources) {
+      this.noVersionTransitionsResources = noVersionTransitionsResources;
+      optBits |= OPT_BIT_NO_VERSION_TRANSITIONS_RESOURCES;
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link AndroidBinaryDescriptionArg#isNoAutoAddOverlayResources() noAutoAddOverlayResources} attribute.
+     * <p><em>If not set, this attribute will have a default value as returned by the initializer of {@link AndroidBinaryDescriptionArg#isNoAutoAddOverlayResources() noAutoAddOverlayResources}.</em>
+     * @param noAutoAddOverlayResources The value for noAutoAddOverlayResources 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setNoAutoAddOverlayResources(boolean noAutoAddOverlayResources) {
+      this.noAutoAddOverlayResources = noAutoAddOverlayResources;
+      optBits |= OPT_BIT_NO_AUTO_ADD_OVERLAY_RESOURCES;
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link AndroidBinaryDescriptionArg#getApplicationModuleTargets() applicationModuleTargets} set.
+     * @param element A applicationModuleTargets element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addApplicationModuleTargets(BuildTarget element) {
+      this.applicationModuleTargets.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link AndroidBinaryDescriptionArg#getApplicationModuleTargets() applicationModuleTargets} set.
+     * @param elements An array of applicationModuleTargets elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addApplicationModuleTargets(BuildTarget... elements) {
+      this.applicationModuleTargets.add(elements);
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link AndroidBinaryDescriptionArg#getApplicationModuleTargets() applicationModuleTargets} set.
+     * @param elements An iterable of applicationModuleTargets elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setApplicationModuleTargets(Iterable<? extends BuildTarget> elements) {
+      this.applicationModuleTargets = ImmutableSet.builder();
+      return addAllApplicationModuleTargets(elements);
+    }
+
+    /**
+     * Adds elements to {@link AndroidBinaryDescriptionArg#getApplicationModuleTargets() applicationModuleTargets} set.
+     * @param elements An iterable of applicationModuleTargets elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addAllApplicationModuleTargets(Iterable<? extends BuildTarget> elements) {
+      this.applicationModuleTargets.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Put one entry to the {@link AndroidBinaryDescriptionArg#getApplicationModuleConfigs() applicationModuleConfigs} map.
+     * @param key The key in the applicationModuleConfigs map
+     * @param value The associated value in the applicationModuleConfigs map
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder putApplicationModuleConfigs(String key, ImmutableList<BuildTarget> value) {
+      this.applicationModuleConfigs.put(key, value);
+      return this;
+    }
+
+    /**
+     * Put one entry to the {@link AndroidBinaryDescriptionArg#getApplicationModuleConfigs() applicationModuleConfigs} map. Nulls are not permitted
+     * @param entry The key and value entry
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder putApplicationModuleConfigs(Map.Entry<String, ? extends ImmutableList<BuildTarget>> entry) {
+      this.applicationModuleConfigs.put(entry);
+      return this;
+    }
+
+    /**
+     * Sets or replaces all mappings from the specified map as entries for the {@link AndroidBinaryDescriptionArg#getApplicationModuleConfigs() applicationModuleConfigs} map. Nulls are not permitted
+     * @param entries The entries that will be added to the applicationModuleConfigs map
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setApplicationModuleConfigs(Map<String, ? extends ImmutableList<BuildTarget>> entries) {
+      this.applicationModuleConfigs = ImmutableMap.builder();
+      return putAllApplicationModuleConfigs(entries);
+    }
+
+    /**
+     * Put all mappings from the specified map as entries to {@link AndroidBinaryDescriptionArg#getApplicationModuleConfigs() applicationModuleConfigs} map. Nulls are not permitted
+     * @param entries The entries that will be added to the applicationModuleConfigs map
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder putAllApplicationModuleConfigs(Map<String, ? extends ImmutableList<BuildTarget>> entries) {
+      this.applicationModuleConfigs.putAll(entries);
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link AndroidBinaryDescriptionArg#getApplicationModulesWithResources() applicationModulesWithResources} set.
+     * @param element A applicationModulesWithResources element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addApplicationModulesWithResources(String element) {
+      this.applicationModulesWithResources.add(element);
+      optBits |= OPT_BIT_APPLICATION_MODULES_WITH_RESOURCES;
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link AndroidBinaryDescriptionArg#getApplicationModulesWithResources() applicationModulesWithResources} set.
+     * @param elements An array of applicationModulesWithResources elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addApplicationModulesWithResources(String... elements) {
+      this.applicationModulesWithResources.add(elements);
+      optBits |= OPT_BIT_APPLICATION_MODULES_WITH_RESOURCES;
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link AndroidBinaryDescriptionArg#getApplicationModulesWithResources() applicationModulesWithResources} set.
+     * @param elements An iterable of applicationModulesWithResources elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setApplicationModulesWithResources(Iterable<String> elements) {
+      this.applicationModulesWithResources = ImmutableSet.builder();
+      return addAllApplicationModulesWithResources(elements);
+    }
+
+    /**
+     * Adds elements to {@link AndroidBinaryDescriptionArg#getApplicationModulesWithResources() applicationModulesWithResources} set.
+     * @param elements An iterable of applicationModulesWithResources elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addAllApplicationModulesWithResources(Iterable<String> elements) {
+      this.applicationModulesWithResources.addAll(elements);
+      optBits |= OPT_BIT_APPLICATION_MODULES_WITH_RESOURCES;
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AndroidBinaryDescriptionArg#getApplicationModuleDependencies() applicationModuleDependencies} to applicationModuleDependencies.
+     * @param applicationModuleDependencies The value for applicationModuleDependencies
+     * @return {@code this} builder for chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setApplicationModuleDependencies(ImmutableMap<String, ImmutableList<String>> applicationModuleDependencies) {
+      this.applicationModuleDependencies = Objects.requireNonNull(applicationModuleDependencies, "applicationModuleDependencies");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AndroidBinaryDescriptionArg#getApplicationModuleDependencies() applicationModuleDependencies} to applicationModuleDependencies.
+     * @param applicationModuleDependencies The value for applicationModuleDependencies
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setApplicationModuleDependencies(Optional<? extends ImmutableMap<String, ImmutableList<String>>> applicationModuleDependencies) {
+      this.applicationModuleDependencies = applicationModuleDependencies.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link AndroidBinaryDescriptionArg#getIsCacheable() isCacheable} attribute.
+     * <p><em>If not set, this attribute will have a default value as returned by the initializer of {@link AndroidBinaryDescriptionArg#getIsCacheable() isCacheable}.</em>
+     * @param isCacheable The value for isCacheable 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setIsCacheable(boolean isCacheable) {
+      this.isCacheable = isCacheable;
+      optBits |= OPT_BIT_IS_CACHEABLE;
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link AndroidBinaryDescriptionArg#getAdditionalAaptParams() additionalAaptParams} list.
+     * @param element A additionalAaptParams element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addAdditionalAaptParams(String element) {
+      this.additionalAaptParams.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link AndroidBinaryDescriptionArg#getAdditionalAaptParams() additionalAaptParams} list.
+     * @param elements An array of additionalAaptParams elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addAdditionalAaptParams(String... elements) {
+      this.additionalAaptParams.add(elements);
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link AndroidBinaryDescriptionArg#getAdditionalAaptParams() additionalAaptParams} list.
+     * @param elements An iterable of additionalAaptParams elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setAdditionalAaptParams(Iterable<String> elements) {
+      this.additionalAaptParams = ImmutableList.builder();
+      return addAllAdditionalAaptParams(elements);
+    }
+
+    /**
+     * Adds elements to {@link AndroidBinaryDescriptionArg#getAdditionalAaptParams() additionalAaptParams} list.
+     * @param elements An iterable of additionalAaptParams elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addAllAdditionalAaptParams(Iterable<String> elements) {
+      this.additionalAaptParams.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link AndroidBinaryDescriptionArg#getAaptMode() aaptMode} attribute.
+     * <p><em>If not set, this attribute will have a default value as returned by the initializer of {@link AndroidBinaryDescriptionArg#getAaptMode() aaptMode}.</em>
+     * @param aaptMode The value for aaptMode 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setAaptMode(AaptMode aaptMode) {
+      this.aaptMode = Objects.requireNonNull(aaptMode, "aaptMode");
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link AndroidBinaryDescriptionArg#isTrimResourceIds() trimResourceIds} attribute.
+     * <p><em>If not set, this attribute will have a default value as returned by the initializer of {@link AndroidBinaryDescriptionArg#isTrimResourceIds() trimResourceIds}.</em>
+     * @param trimResourceIds The value for trimResourceIds 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setTrimResourceIds(boolean trimResourceIds) {
+      this.trimResourceIds = trimResourceIds;
+      optBits |= OPT_BIT_TRIM_RESOURCE_IDS;
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link AndroidBinaryDescriptionArg#isAllowRDotJavaInSecondaryDex() allowRDotJavaInSecondaryDex} attribute.
+     * <p><em>If not set, this attribute will have a default value as returned by the initializer of {@link AndroidBinaryDescriptionArg#isAllowRDotJavaInSecondaryDex() allowRDotJavaInSecondaryDex}.</em>
+     * @param allowRDotJavaInSecondaryDex The value for allowRDotJavaInSecondaryDex 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setAllowRDotJavaInSecondaryDex(boolean allowRDotJavaInSecondaryDex) {
+      this.allowRDotJavaInSecondaryDex = allowRDotJavaInSecondaryDex;
+      optBits |= OPT_BIT_ALLOW_R_DOT_JAVA_IN_SECONDARY_DEX;
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AndroidBinaryDescriptionArg#getKeepResourcePattern() keepResourcePattern} to keepResourcePattern.
+     * @param keepResourcePattern The value for keepResourcePattern
+     * @return {@code this} builder for chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setKeepResourcePattern(String keepResourcePattern) {
+      this.keepResourcePattern = Objects.requireNonNull(keepResourcePattern, "keepResourcePattern");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AndroidBinaryDescriptionArg#getKeepResourcePattern() keepResourcePattern} to keepResourcePattern.
+     * @param keepResourcePattern The value for keepResourcePattern
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setKeepResourcePattern(Optional<String> keepResourcePattern) {
+      this.keepResourcePattern = keepResourcePattern.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AndroidBinaryDescriptionArg#getResourceUnionPackage() resourceUnionPackage} to resourceUnionPackage.
+     * @param resourceUnionPackage The value for resourceUnionPackage
+     * @return {@code this} builder for chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setResourceUnionPackage(String resourceUnionPackage) {
+      this.resourceUnionPackage = Objects.requireNonNull(resourceUnionPackage, "resourceUnionPackage");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AndroidBinaryDescriptionArg#getResourceUnionPackage() resourceUnionPackage} to resourceUnionPackage.
+     * @param resourceUnionPackage The value for resourceUnionPackage
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setResourceUnionPackage(Optional<String> resourceUnionPackage) {
+      this.resourceUnionPackage = resourceUnionPackage.orElse(null);
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link AndroidBinaryDescriptionArg#getLocales() locales} set.
+     * @param element A locales element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addLocales(String element) {
+      this.locales.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link AndroidBinaryDescriptionArg#getLocales() locales} set.
+     * @param elements An array of locales elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addLocales(String... elements) {
+      this.locales.add(elements);
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link AndroidBinaryDescriptionArg#getLocales() locales} set.
+     * @param elements An iterable of locales elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setLocales(Iterable<String> elements) {
+      this.locales = ImmutableSet.builder();
+      return addAllLocales(elements);
+    }
+
+    /**
+     * Adds elements to {@link AndroidBinaryDescriptionArg#getLocales() locales} set.
+     * @param elements An iterable of locales elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addAllLocales(Iterable<String> elements) {
+      this.locales.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link AndroidBinaryDescriptionArg#isAapt2LocaleFiltering() aapt2LocaleFiltering} attribute.
+     * <p><em>If not set, this attribute will have a default value as returned by the initializer of {@link AndroidBinaryDescriptionArg#isAapt2LocaleFiltering() aapt2LocaleFiltering}.</em>
+     * @param aapt2LocaleFiltering The value for aapt2LocaleFiltering 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setAapt2LocaleFiltering(boolean aapt2LocaleFiltering) {
+      this.aapt2LocaleFiltering = aapt2LocaleFiltering;
+      optBits |= OPT_BIT_AAPT2_LOCALE_FILTERING;
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AndroidBinaryDescriptionArg#getLocalizedStringFileName() localizedStringFileName} to localizedStringFileName.
+     * @param localizedStringFileName The value for localizedStringFileName
+     * @return {@code this} builder for chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setLocalizedStringFileName(String localizedStringFileName) {
+      this.localizedStringFileName = Objects.requireNonNull(localizedStringFileName, "localizedStringFileName");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AndroidBinaryDescriptionArg#getLocalizedStringFileName() localizedStringFileName} to localizedStringFileName.
+     * @param localizedStringFileName The value for localizedStringFileName
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setLocalizedStringFileName(Optional<String> localizedStringFileName) {
+      this.localizedStringFileName = localizedStringFileName.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link AndroidBinaryDescriptionArg#isBuildStringSourceMap() buildStringSourceMap} attribute.
+     * <p><em>If not set, this attribute will have a default value as returned by the initializer of {@link AndroidBinaryDescriptionArg#isBuildStringSourceMap() buildStringSourceMap}.</em>
+     * @param buildStringSourceMap The value for buildStringSourceMap 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setBuildStringSourceMap(boolean buildStringSourceMap) {
+      this.buildStringSourceMap = buildStringSourceMap;
+      optBits |= OPT_BIT_BUILD_STRING_SOURCE_MAP;
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link AndroidBinaryDescriptionArg#isIgnoreAaptProguardConfig() ignoreAaptProguardConfig} attribute.
+     * <p><em>If not set, this attribute will have a default value as returned by the initializer of {@link AndroidBinaryDescriptionArg#isIgnoreAaptProguardConfig() ignoreAaptProguardConfig}.</em>
+     * @param ignoreAaptProguardConfig The value for ignoreAaptProguardConfig 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setIgnoreAaptProguardConfig(boolean ignoreAaptProguardConfig) {
+      this.ignoreAaptProguardConfig = ignoreAaptProguardConfig;
+      optBits |= OPT_BIT_IGNORE_AAPT_PROGUARD_CONFIG;
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link AndroidBinaryDescriptionArg#getCpuFilters() cpuFilters} set.
+     * @param element A cpuFilters element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addCpuFilters(TargetCpuType element) {
+      this.cpuFilters.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link AndroidBinaryDescriptionArg#getCpuFilters() cpuFilters} set.
+     * @param elements An array of cpuFilters elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addCpuFilters(TargetCpuType... elements) {
+      this.cpuFilters.addAll(Arrays.asList(elements));
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link AndroidBinaryDescriptionArg#getCpuFilters() cpuFilters} set.
+     * @param elements An iterable of cpuFilters elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setCpuFilters(Iterable<TargetCpuType> elements) {
+      this.cpuFilters = ImmutableSet.builder();
+      return addAllCpuFilters(elements);
+    }
+
+    /**
+     * Adds elements to {@link AndroidBinaryDescriptionArg#getCpuFilters() cpuFilters} set.
+     * @param elements An iterable of cpuFilters elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addAllCpuFilters(Iterable<TargetCpuType> elements) {
+      this.cpuFilters.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AndroidBinaryDescriptionArg#getPreprocessJavaClassesBash() preprocessJavaClassesBash} to preprocessJavaClassesBash.
+     * @param preprocessJavaClassesBash The value for preprocessJavaClassesBash
+     * @return {@code this} builder for chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setPreprocessJavaClassesBash(StringWithMacros preprocessJavaClassesBash) {
+      this.preprocessJavaClassesBash = Objects.requireNonNull(preprocessJavaClassesBash, "preprocessJavaClassesBash");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AndroidBinaryDescriptionArg#getPreprocessJavaClassesBash() preprocessJavaClassesBash} to preprocessJavaClassesBash.
+     * @param preprocessJavaClassesBash The value for preprocessJavaClassesBash
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setPreprocessJavaClassesBash(Optional<? extends StringWithMacros> preprocessJavaClassesBash) {
+      this.preprocessJavaClassesBash = preprocessJavaClassesBash.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link AndroidBinaryDescriptionArg#isReorderClassesIntraDex() reorderClassesIntraDex} attribute.
+     * <p><em>If not set, this attribute will have a default value as returned by the initializer of {@link AndroidBinaryDescriptionArg#isReorderClassesIntraDex() reorderClassesIntraDex}.</em>
+     * @param reorderClassesIntraDex The value for reorderClassesIntraDex 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setReorderClassesIntraDex(boolean reorderClassesIntraDex) {
+      this.reorderClassesIntraDex = reorderClassesIntraDex;
+      optBits |= OPT_BIT_REORDER_CLASSES_INTRA_DEX;
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link AndroidBinaryDescriptionArg#getDexTool() dexTool} attribute.
+     * <p><em>If not set, this attribute will have a default value as returned by the initializer of {@link AndroidBinaryDescriptionArg#getDexTool() dexTool}.</em>
+     * @param dexTool The value for dexTool 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setDexTool(String dexTool) {
+      this.dexTool = Objects.requireNonNull(dexTool, "dexTool");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AndroidBinaryDescriptionArg#getDexReorderToolFile() dexReorderToolFile} to dexReorderToolFile.
+     * @param dexReorderToolFile The value for dexReorderToolFile
+     * @return {@code this} builder for chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setDexReorderToolFile(SourcePath dexReorderToolFile) {
+      this.dexReorderToolFile = Objects.requireNonNull(dexReorderToolFile, "dexReorderToolFile");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AndroidBinaryDescriptionArg#getDexReorderToolFile() dexReorderToolFile} to dexReorderToolFile.
+     * @param dexReorderToolFile The value for dexReorderToolFile
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setDexReorderToolFile(Optional<? extends SourcePath> dexReorderToolFile) {
+      this.dexReorderToolFile = dexReorderToolFile.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AndroidBinaryDescriptionArg#getDexReorderDataDumpFile() dexReorderDataDumpFile} to dexReorderDataDumpFile.
+     * @param dexReorderDataDumpFile The value for dexReorderDataDumpFile
+     * @return {@code this} builder for chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setDexReorderDataDumpFile(SourcePath dexReorderDataDumpFile) {
+      this.dexReorderDataDumpFile = Objects.requireNonNull(dexReorderDataDumpFile, "dexReorderDataDumpFile");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AndroidBinaryDescriptionArg#getDexReorderDataDumpFile() dexReorderDataDumpFile} to dexReorderDataDumpFile.
+     * @param dexReorderDataDumpFile The value for dexReorderDataDumpFile
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setDexReorderDataDumpFile(Optional<? extends SourcePath> dexReorderDataDumpFile) {
+      this.dexReorderDataDumpFile = dexReorderDataDumpFile.orElse(null);
+      return this;
+    }
+
+    /**
+     * Put one entry to the {@link AndroidBinaryDescriptionArg#getNativeLibraryMergeMap() nativeLibraryMergeMap} map.
+     * @param key The key in the nativeLibraryMergeMap map
+     * @param value The associated value in the nativeLibraryMergeMap map
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder putNativeLibraryMergeMap(String key, List<Pattern> value) {
+      this.nativeLibraryMergeMap.put(key, value);
+      return this;
+    }
+
+    /**
+     * Put one entry to the {@link AndroidBinaryDescriptionArg#getNativeLibraryMergeMap() nativeLibraryMergeMap} map. Nulls are not permitted
+     * @param entry The key and value entry
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder putNativeLibraryMergeMap(Map.Entry<String, ? extends List<Pattern>> entry) {
+      this.nativeLibraryMergeMap.put(entry);
+      return this;
+    }
+
+    /**
+     * Sets or replaces all mappings from the specified map as entries for the {@link AndroidBinaryDescriptionArg#getNativeLibraryMergeMap() nativeLibraryMergeMap} map. Nulls are not permitted
+     * @param entries The entries that will be added to the nativeLibraryMergeMap map
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setNativeLibraryMergeMap(Map<String, ? extends List<Pattern>> entries) {
+      this.nativeLibraryMergeMap = ImmutableMap.builder();
+      return putAllNativeLibraryMergeMap(entries);
+    }
+
+    /**
+     * Put all mappings from the specified map as entries to {@link AndroidBinaryDescriptionArg#getNativeLibraryMergeMap() nativeLibraryMergeMap} map. Nulls are not permitted
+     * @param entries The entries that will be added to the nativeLibraryMergeMap map
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder putAllNativeLibraryMergeMap(Map<String, ? extends List<Pattern>> entries) {
+      this.nativeLibraryMergeMap.putAll(entries);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AndroidBinaryDescriptionArg#getNativeLibraryMergeGlue() nativeLibraryMergeGlue} to nativeLibraryMergeGlue.
+     * @param nativeLibraryMergeGlue The value for nativeLibraryMergeGlue
+     * @return {@code this} builder for chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setNativeLibraryMergeGlue(BuildTarget nativeLibraryMergeGlue) {
+      this.nativeLibraryMergeGlue = Objects.requireNonNull(nativeLibraryMergeGlue, "nativeLibraryMergeGlue");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AndroidBinaryDescriptionArg#getNativeLibraryMergeGlue() nativeLibraryMergeGlue} to nativeLibraryMergeGlue.
+     * @param nativeLibraryMergeGlue The value for nativeLibraryMergeGlue
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setNativeLibraryMergeGlue(Optional<? extends BuildTarget> nativeLibraryMergeGlue) {
+      this.nativeLibraryMergeGlue = nativeLibraryMergeGlue.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AndroidBinaryDescriptionArg#getNativeLibraryMergeCodeGenerator() nativeLibraryMergeCodeGenerator} to nativeLibraryMergeCodeGenerator.
+     * @param nativeLibraryMergeCodeGenerator The value for nativeLibraryMergeCodeGenerator
+     * @return {@code this} builder for chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setNativeLibraryMergeCodeGenerator(BuildTarget nativeLibraryMergeCodeGenerator) {
+      this.nativeLibraryMergeCodeGenerator = Objects.requireNonNull(nativeLibraryMergeCodeGenerator, "nativeLibraryMergeCodeGenerator");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AndroidBinaryDescriptionArg#getNativeLibraryMergeCodeGenerator() nativeLibraryMergeCodeGenerator} to nativeLibraryMergeCodeGenerator.
+     * @param nativeLibraryMergeCodeGenerator The value for nativeLibraryMergeCodeGenerator
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setNativeLibraryMergeCodeGenerator(Optional<? extends BuildTarget> nativeLibraryMergeCodeGenerator) {
+      this.nativeLibraryMergeCodeGenerator = nativeLibraryMergeCodeGenerator.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AndroidBinaryDescriptionArg#getNativeLibraryMergeLocalizedSymbols() nativeLibraryMergeLocalizedSymbols} to nativeLibraryMergeLocalizedSymbols.
+     * @param nativeLibraryMergeLocalizedSymbols The value for nativeLibraryMergeLocalizedSymbols
+     * @return {@code this} builder for chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setNativeLibraryMergeLocalizedSymbols(ImmutableSortedSet<String> nativeLibraryMergeLocalizedSymbols) {
+      this.nativeLibraryMergeLocalizedSymbols = Objects.requireNonNull(nativeLibraryMergeLocalizedSymbols, "nativeLibraryMergeLocalizedSymbols");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AndroidBinaryDescriptionArg#getNativeLibraryMergeLocalizedSymbols() nativeLibraryMergeLocalizedSymbols} to nativeLibraryMergeLocalizedSymbols.
+     * @param nativeLibraryMergeLocalizedSymbols The value for nativeLibraryMergeLocalizedSymbols
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setNativeLibraryMergeLocalizedSymbols(Optional<? extends ImmutableSortedSet<String>> nativeLibraryMergeLocalizedSymbols) {
+      this.nativeLibraryMergeLocalizedSymbols = nativeLibraryMergeLocalizedSymbols.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AndroidBinaryDescriptionArg#getNativeLibraryProguardConfigGenerator() nativeLibraryProguardConfigGenerator} to nativeLibraryProguardConfigGenerator.
+     * @param nativeLibraryProguardConfigGenerator The value for nativeLibraryProguardConfigGenerator
+     * @return {@code this} builder for chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setNativeLibraryProguardConfigGenerator(BuildTarget nativeLibraryProguardConfigGenerator) {
+      this.nativeLibraryProguardConfigGenerator = Objects.requireNonNull(nativeLibraryProguardConfigGenerator, "nativeLibraryProguardConfigGenerator");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AndroidBinaryDescriptionArg#getNativeLibraryProguardConfigGenerator() nativeLibraryProguardConfigGenerator} to nativeLibraryProguardConfigGenerator.
+     * @param nativeLibraryProguardConfigGenerator The value for nativeLibraryProguardConfigGenerator
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setNativeLibraryProguardConfigGenerator(Optional<? extends BuildTarget> nativeLibraryProguardConfigGenerator) {
+      this.nativeLibraryProguardConfigGenerator = nativeLibraryProguardConfigGenerator.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link AndroidBinaryDescriptionArg#isEnableRelinker() enableRelinker} attribute.
+     * <p><em>If not set, this attribute will have a default value as returned by the initializer of {@link AndroidBinaryDescriptionArg#isEnableRelinker() enableRelinker}.</em>
+     * @param enableRelinker The value for enableRelinker 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setEnableRelinker(boolean enableRelinker) {
+      this.enableRelinker = enableRelinker;
+      optBits |= OPT_BIT_ENABLE_RELINKER;
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link AndroidBinaryDescriptionArg#getRelinkerWhitelist() relinkerWhitelist} list.
+     * @param element A relinkerWhitelist element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addRelinkerWhitelist(Pattern element) {
+      this.relinkerWhitelist.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link AndroidBinaryDescriptionArg#getRelinkerWhitelist() relinkerWhitelist} list.
+     * @param elements An array of relinkerWhitelist elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addRelinkerWhitelist(Pattern... elements) {
+      this.relinkerWhitelist.add(elements);
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link AndroidBinaryDescriptionArg#getRelinkerWhitelist() relinkerWhitelist} list.
+     * @param elements An iterable of relinkerWhitelist elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setRelinkerWhitelist(Iterable<? extends Pattern> elements) {
+      this.relinkerWhitelist = ImmutableList.builder();
+      return addAllRelinkerWhitelist(elements);
+    }
+
+    /**
+     * Adds elements to {@link AndroidBinaryDescriptionArg#getRelinkerWhitelist() relinkerWhitelist} list.
+     * @param elements An iterable of relinkerWhitelist elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addAllRelinkerWhitelist(Iterable<? extends Pattern> elements) {
+      this.relinkerWhitelist.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link AndroidBinaryDescriptionArg#getManifestEntries() manifestEntries} attribute.
+     * <p><em>If not set, this attribute will have a default value as returned by the initializer of {@link AndroidBinaryDescriptionArg#getManifestEntries() manifestEntries}.</em>
+     * @param manifestEntries The value for manifestEntries 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setManifestEntries(ManifestEntries manifestEntries) {
+      this.manifestEntries = Objects.requireNonNull(manifestEntries, "manifestEntries");
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link AndroidBinaryDescriptionArg#getBuildConfigValues() buildConfigValues} attribute.
+     * <p><em>If not set, this attribute will have a default value as returned by the initializer of {@link AndroidBinaryDescriptionArg#getBuildConfigValues() buildConfigValues}.</em>
+     * @param buildConfigValues The value for buildConfigValues 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setBuildConfigValues(BuildConfigFields buildConfigValues) {
+      this.buildConfigValues = Objects.requireNonNull(buildConfigValues, "buildConfigValues");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AndroidBinaryDescriptionArg#getPostFilterResourcesCmd() postFilterResourcesCmd} to postFilterResourcesCmd.
+     * @param postFilterResourcesCmd The value for postFilterResourcesCmd
+     * @return {@code this} builder for chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setPostFilterResourcesCmd(StringWithMacros postFilterResourcesCmd) {
+      this.postFilterResourcesCmd = Objects.requireNonNull(postFilterResourcesCmd, "postFilterResourcesCmd");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AndroidBinaryDescriptionArg#getPostFilterResourcesCmd() postFilterResourcesCmd} to postFilterResourcesCmd.
+     * @param postFilterResourcesCmd The value for postFilterResourcesCmd
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setPostFilterResourcesCmd(Optional<? extends StringWithMacros> postFilterResourcesCmd) {
+      this.postFilterResourcesCmd = postFilterResourcesCmd.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AndroidBinaryDescriptionArg#getBuildConfigValuesFile() buildConfigValuesFile} to buildConfigValuesFile.
+     * @param buildConfigValuesFile The value for buildConfigValuesFile
+     * @return {@code this} builder for chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setBuildConfigValuesFile(SourcePath buildConfigValuesFile) {
+      this.buildConfigValuesFile = Objects.requireNonNull(buildConfigValuesFile, "buildConfigValuesFile");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AndroidBinaryDescriptionArg#getBuildConfigValuesFile() buildConfigValuesFile} to buildConfigValuesFile.
+     * @param buildConfigValuesFile The value for buildConfigValuesFile
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setBuildConfigValuesFile(Optional<? extends SourcePath> buildConfigValuesFile) {
+      this.buildConfigValuesFile = buildConfigValuesFile.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link AndroidBinaryDescriptionArg#isSkipProguard() skipProguard} attribute.
+     * <p><em>If not set, this attribute will have a default value as returned by the initializer of {@link AndroidBinaryDescriptionArg#isSkipProguard() skipProguard}.</em>
+     * @param skipProguard The value for skipProguard 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setSkipProguard(boolean skipProguard) {
+      this.skipProguard = skipProguard;
+      optBits |= OPT_BIT_SKIP_PROGUARD;
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link AndroidBinaryDescriptionArg#getExtraFilteredResources() extraFilteredResources} set.
+     * @param element A extraFilteredResources element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addExtraFilteredResources(String element) {
+      this.extraFilteredResources.add(element);
+      optBits |= OPT_BIT_EXTRA_FILTERED_RESOURCES;
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link AndroidBinaryDescriptionArg#getExtraFilteredResources() extraFilteredResources} set.
+     * @param elements An array of extraFilteredResources elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addExtraFilteredResources(String... elements) {
+      this.extraFilteredResources.add(elements);
+      optBits |= OPT_BIT_EXTRA_FILTERED_RESOURCES;
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link AndroidBinaryDescriptionArg#getExtraFilteredResources() extraFilteredResources} set.
+     * @param elements An iterable of extraFilteredResources elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setExtraFilteredResources(Iterable<String> elements) {
+      this.extraFilteredResources = ImmutableSet.builder();
+      return addAllExtraFilteredResources(elements);
+    }
+
+    /**
+     * Adds elements to {@link AndroidBinaryDescriptionArg#getExtraFilteredResources() extraFilteredResources} set.
+     * @param elements An iterable of extraFilteredResources elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addAllExtraFilteredResources(Iterable<String> elements) {
+      this.extraFilteredResources.addAll(elements);
+      optBits |= OPT_BIT_EXTRA_FILTERED_RESOURCES;
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link AndroidBinaryDescriptionArg#getDuplicateResourceBehavior() duplicateResourceBehavior} attribute.
+     * <p><em>If not set, this attribute will have a default value as returned by the initializer of {@link AndroidBinaryDescriptionArg#getDuplicateResourceBehavior() duplicateResourceBehavior}.</em>
+     * @param duplicateResourceBehavior The value for duplicateResourceBehavior 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setDuplicateResourceBehavior(HasDuplicateAndroidResourceTypes.DuplicateResourceBehaviour duplicateResourceBehavior) {
+      this.duplicateResourceBehavior = Objects.requireNonNull(duplicateResourceBehavior, "duplicateResourceBehavior");
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link AndroidBinaryDescriptionArg#getAllowedDuplicateResourceTypes() allowedDuplicateResourceTypes} set.
+     * @param element A allowedDuplicateResourceTypes element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addAllowedDuplicateResourceTypes(RDotTxtEntry.RType element) {
+      this.allowedDuplicateResourceTypes.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link AndroidBinaryDescriptionArg#getAllowedDuplicateResourceTypes() allowedDuplicateResourceTypes} set.
+     * @param elements An array of allowedDuplicateResourceTypes elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addAllowedDuplicateResourceTypes(RDotTxtEntry.RType... elements) {
+      this.allowedDuplicateResourceTypes.addAll(Arrays.asList(elements));
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link AndroidBinaryDescriptionArg#getAllowedDuplicateResourceTypes() allowedDuplicateResourceTypes} set.
+     * @param elements An iterable of allowedDuplicateResourceTypes elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setAllowedDuplicateResourceTypes(Iterable<RDotTxtEntry.RType> elements) {
+      this.allowedDuplicateResourceTypes = ImmutableSet.builder();
+      return addAllAllowedDuplicateResourceTypes(elements);
+    }
+
+    /**
+     * Adds elements to {@link AndroidBinaryDescriptionArg#getAllowedDuplicateResourceTypes() allowedDuplicateResourceTypes} set.
+     * @param elements An iterable of allowedDuplicateResourceTypes elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addAllAllowedDuplicateResourceTypes(Iterable<RDotTxtEntry.RType> elements) {
+      this.allowedDuplicateResourceTypes.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link AndroidBinaryDescriptionArg#getBannedDuplicateResourceTypes() bannedDuplicateResourceTypes} set.
+     * @param element A bannedDuplicateResourceTypes element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addBannedDuplicateResourceTypes(RDotTxtEntry.RType element) {
+      this.bannedDuplicateResourceTypes.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link AndroidBinaryDescriptionArg#getBannedDuplicateResourceTypes() bannedDuplicateResourceTypes} set.
+     * @param elements An array of bannedDuplicateResourceTypes elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addBannedDuplicateResourceTypes(RDotTxtEntry.RType... elements) {
+      this.bannedDuplicateResourceTypes.addAll(Arrays.asList(elements));
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link AndroidBinaryDescriptionArg#getBannedDuplicateResourceTypes() bannedDuplicateResourceTypes} set.
+     * @param elements An iterable of bannedDuplicateResourceTypes elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setBannedDuplicateResourceTypes(Iterable<RDotTxtEntry.RType> elements) {
+      this.bannedDuplicateResourceTypes = ImmutableSet.builder();
+      return addAllBannedDuplicateResourceTypes(elements);
+    }
+
+    /**
+     * Adds elements to {@link AndroidBinaryDescriptionArg#getBannedDuplicateResourceTypes() bannedDuplicateResourceTypes} set.
+     * @param elements An iterable of bannedDuplicateResourceTypes elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addAllBannedDuplicateResourceTypes(Iterable<RDotTxtEntry.RType> elements) {
+      this.bannedDuplicateResourceTypes.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AndroidBinaryDescriptionArg#getDuplicateResourceWhitelist() duplicateResourceWhitelist} to duplicateResourceWhitelist.
+     * @param duplicateResourceWhitelist The value for duplicateResourceWhitelist
+     * @return {@code this} builder for chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setDuplicateResourceWhitelist(SourcePath duplicateResourceWhitelist) {
+      this.duplicateResourceWhitelist = Objects.requireNonNull(duplicateResourceWhitelist, "duplicateResourceWhitelist");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AndroidBinaryDescriptionArg#getDuplicateResourceWhitelist() duplicateResourceWhitelist} to duplicateResourceWhitelist.
+     * @param duplicateResourceWhitelist The value for duplicateResourceWhitelist
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setDuplicateResourceWhitelist(Optional<? extends SourcePath> duplicateResourceWhitelist) {
+      this.duplicateResourceWhitelist = duplicateResourceWhitelist.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AndroidBinaryDescriptionArg#getApplicationModuleBlacklist() applicationModuleBlacklist} to applicationModuleBlacklist.
+     * @param applicationModuleBlacklist The value for applicationModuleBlacklist
+     * @return {@code this} builder for chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setApplicationModuleBlacklist(List<Query> applicationModuleBlacklist) {
+      this.applicationModuleBlacklist = Objects.requireNonNull(applicationModuleBlacklist, "applicationModuleBlacklist");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AndroidBinaryDescriptionArg#getApplicationModuleBlacklist() applicationModuleBlacklist} to applicationModuleBlacklist.
+     * @param applicationModuleBlacklist The value for applicationModuleBlacklist
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setApplicationModuleBlacklist(Optional<? extends List<Query>> applicationModuleBlacklist) {
+      this.applicationModuleBlacklist = applicationModuleBlacklist.orElse(null);
+      return this;
+    }
+
+    /**
+     * Builds a new {@link AndroidBinaryDescriptionArg AndroidBinaryDescriptionArg}.
+     * @return An immutable instance of AndroidBinaryDescriptionArg
+     * @throws java.lang.IllegalStateException if any required attributes are missing
+     */
+    public AndroidBinaryDescriptionArg build() {
+      if (initBits != 0) {
+        throw new IllegalStateException(formatRequiredAttributesMessage());
+      }
+      return new AndroidBinaryDescriptionArg(this);
+    }
+
+    private boolean useSplitDexIsSet() {
+      return (optBits & OPT_BIT_USE_SPLIT_DEX) != 0;
+    }
+
+    private boolean minimizePrimaryDexSizeIsSet() {
+      return (optBits & OPT_BIT_MINIMIZE_PRIMARY_DEX_SIZE) != 0;
+    }
+
+    private boolean primaryDexScenarioOverflowAllowedIsSet() {
+      return (optBits & OPT_BIT_PRIMARY_DEX_SCENARIO_OVERFLOW_ALLOWED) != 0;
+    }
+
+    private boolean linearAllocHardLimitIsSet() {
+      return (optBits & OPT_BIT_LINEAR_ALLOC_HARD_LIMIT) != 0;
+    }
+
+    private boolean dexGroupLibLimitIsSet() {
+      return (optBits & OPT_BIT_DEX_GROUP_LIB_LIMIT) != 0;
+    }
+
+    private boolean xzCompressionLevelIsSet() {
+      return (optBits & OPT_BIT_XZ_COMPRESSION_LEVEL) != 0;
+    }
+
+    private boolean packageAssetLibrariesIsSet() {
+      return (optBits & OPT_BIT_PACKAGE_ASSET_LIBRARIES) != 0;
+    }
+
+    private boolean compressAssetLibrariesIsSet() {
+      return (optBits & OPT_BIT_COMPRESS_ASSET_LIBRARIES) != 0;
+    }
+
+    private boolean redexIsSet() {
+      return (optBits & OPT_BIT_REDEX) != 0;
+    }
+
+    private boolean disablePreDexIsSet() {
+      return (optBits & OPT_BIT_DISABLE_PRE_DEX) != 0;
+    }
+
+    private boolean optimizationPassesIsSet() {
+      return (optBits & OPT_BIT_OPTIMIZATION_PASSES) != 0;
+    }
+
+    private boolean includesVectorDrawablesIsSet() {
+      return (optBits & OPT_BIT_INCLUDES_VECTOR_DRAWABLES) != 0;
+    }
+
+    private boolean noAutoVersionResourcesIsSet() {
+      return (optBits & OPT_BIT_NO_AUTO_VERSION_RESOURCES) != 0;
+    }
+
+    private boolean noVersionTransitionsResourcesIsSet() {
+      return (optBits & OPT_BIT_NO_VERSION_TRANSITIONS_RESOURCES) != 0;
+    }
+
+    private boolean noAutoAddOverlayResourcesIsSet() {
+      return (optBits & OPT_BIT_NO_AUTO_ADD_OVERLAY_RESOURCES) != 0;
+    }
+
+    private boolean applicationModulesWithResourcesIsSet() {
+      return (optBits & OPT_BIT_APPLICATION_MODULES_WITH_RESOURCES) != 0;
+    }
+
+    private boolean isCacheableIsSet() {
+      return (optBits & OPT_BIT_IS_CACHEABLE) != 0;
+    }
+
+    private boolean trimResourceIdsIsSet() {
+      return (optBits & OPT_BIT_TRIM_RESOURCE_IDS) != 0;
+    }
+
+    private boolean allowRDotJavaInSecondaryDexIsSet() {
+      return (optBits & OPT_BIT_ALLOW_R_DOT_JAVA_IN_SECONDARY_DEX) != 0;
+    }
+
+    private boolean aapt2LocaleFilteringIsSet() {
+      return (optBits & OPT_BIT_AAPT2_LOCALE_FILTERING) != 0;
+    }
+
+    private boolean buildStringSourceMapIsSet() {
+      return (optBits & OPT_BIT_BUILD_STRING_SOURCE_MAP) != 0;
+    }
+
+    private boolean ignoreAaptProguardConfigIsSet() {
+      return (optBits & OPT_BIT_IGNORE_AAPT_PROGUARD_CONFIG) != 0;
+    }
+
+    private boolean reorderClassesIntraDexIsSet() {
+      return (optBits & OPT_BIT_REORDER_CLASSES_INTRA_DEX) != 0;
+    }
+
+    private boolean enableRelinkerIsSet() {
+      return (optBits & OPT_BIT_ENABLE_RELINKER) != 0;
+    }
+
+    private boolean skipProguardIsSet() {
+      return (optBits & OPT_BIT_SKIP_PROGUARD) != 0;
+    }
+
+    private boolean extraFilteredResourcesIsSet() {
+      return (optBits & OPT_BIT_EXTRA_FILTERED_RESOURCES) != 0;
+    }
+
+    private String formatRequiredAttributesMessage() {
+      List<String> attributes = new ArrayList<>();
+      if ((initBits & INIT_BIT_KEYSTORE) != 0) attributes.add("keystore");
+      if ((initBits & INIT_BIT_NAME) != 0) attributes.add("name");
+      return "Cannot build AndroidBinaryDescriptionArg, some of required attributes are not set " + attributes;
+    }
+  }
+}
@@ -0,0 +1,145 @@
+package com.facebook.buck.android;
+
+import com.fasterxml.jackson.annotation.JsonAutoDetect;
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.google.common.base.MoreObjects;
+import com.google.errorprone.annotations.Var;
+import java.util.Objects;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import org.immutables.value.Generated;
+
+/**
+ * Immutable implementation of {@link PreDexedFilesSorter.DexMetadata}.
+ * <p>
+ * Use the static factory method to create immutable instances:
+ * {@code ImmutableDexMetadata.of()}.
+ */
+@Generated(from = "PreDexedFilesSorter.DexMetadata", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+final class ImmutableDexMetadata extends PreDexedFilesSorter.DexMetadata {
+  private final int weight;
+  private final String hash;
+
+  private ImmutableDexMetadata(int weight, String hash) {
+    this.weight = weight;
+    this.hash = Objects.requireNonNull(hash, "hash");
+  }
+
+  /**
+   * @return The value of the {@code weight} attribute
+   */
+  @JsonProperty
+  @Override
+  public int getWeight() {
+    return weight;
+  }
+
+  /**
+   * @return The value of the {@code hash} attribute
+   */
+  @JsonProperty
+  @Override
+  public String getHash() {
+    return hash;
+  }
+
+  /**
+   * This instance is equal to all instances of {@code ImmutableDexMetadata} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof ImmutableDexMetadata
+        && equalTo((ImmutableDexMetadata) another);
+  }
+
+  private boolean equalTo(ImmutableDexMetadata another) {
+    return weight == another.weight
+        && hash.equals(another.hash);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code weight}, {@code hash}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    @Var int h = 5381;
+    h += (h << 5) + weight;
+    h += (h << 5) + hash.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code DexMetadata} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("DexMetadata")
+        .omitNullValues()
+        .add("weight", weight)
+        .add("hash", hash)
+        .toString();
+  }
+
+  /**
+   * Utility type used to correctly read immutable object from JSON representation.
+   * @deprecated Do not use this type directly, it exists only for the <em>Jackson</em>-binding infrastructure
+   */
+  @Generated(from = "PreDexedFilesSorter.DexMetadata", generator = "Immutables")
+  @Deprecated
+  @SuppressWarnings("Immutable")
+  @JsonDeserialize
+  @JsonAutoDetect(fieldVisibility = JsonAutoDetect.Visibility.NONE)
+  static final class Json extends PreDexedFilesSorter.DexMetadata {
+    int weight;
+    boolean weightIsSet;
+    @Nullable String hash;
+    @JsonProperty
+    public void setWeight(int weight) {
+      this.weight = weight;
+      this.weightIsSet = true;
+    }
+    @JsonProperty
+    public void setHash(String hash) {
+      this.hash = hash;
+    }
+    @Override
+    public int getWeight() { throw new UnsupportedOperationException(); }
+    @Override
+    public String getHash() { throw new UnsupportedOperationException(); }
+  }
+
+  /**
+   * @param json A JSON-bindable data structure
+   * @return An immutable value type
+   * @deprecated Do not use this method directly, it exists only for the <em>Jackson</em>-binding infrastructure
+   */
+  @Deprecated
+  @JsonCreator(mode = JsonCreator.Mode.DELEGATING)
+  static ImmutableDexMetadata fromJson(Json json) {
+    ImmutableDexMetadata instance = ImmutableDexMetadata.of(json.weight, json.hash);
+    return instance;
+  }
+
+  /**
+   * Construct a new immutable {@code DexMetadata} instance.
+   * @param weight The value for the {@code weight} attribute
+   * @param hash The value for the {@code hash} attribute
+   * @return An immutable DexMetadata instance
+   */
+  public static ImmutableDexMetadata of(int weight, String hash) {
+    return new ImmutableDexMetadata(weight, hash);
+  }
+}
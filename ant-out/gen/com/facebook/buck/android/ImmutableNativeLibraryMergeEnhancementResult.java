@@ -0,0 +1,124 @@
+package com.facebook.buck.android;
+
+import com.facebook.buck.android.packageable.NativeLinkableEnhancementResult;
+import com.facebook.buck.android.toolchain.ndk.TargetCpuType;
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSortedMap;
+import com.google.common.collect.ImmutableSortedSet;
+import com.google.common.collect.Maps;
+import com.google.errorprone.annotations.Var;
+import java.util.Map;
+import java.util.Objects;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import org.immutables.value.Generated;
+
+/**
+ * Immutable implementation of {@link NativeLibraryMergeEnhancer.NativeLibraryMergeEnhancementResult}.
+ * <p>
+ * Use the static factory method to create immutable instances:
+ * {@code ImmutableNativeLibraryMergeEnhancementResult.of()}.
+ */
+@Generated(from = "NativeLibraryMergeEnhancer.NativeLibraryMergeEnhancementResult", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+final class ImmutableNativeLibraryMergeEnhancementResult
+    extends NativeLibraryMergeEnhancer.NativeLibraryMergeEnhancementResult {
+  private final ImmutableMap<TargetCpuType, NativeLinkableEnhancementResult> mergedLinkables;
+  private final ImmutableSortedMap<String, String> sonameMapping;
+  private final ImmutableSortedMap<String, ImmutableSortedSet<String>> sharedObjectTargets;
+
+  private ImmutableNativeLibraryMergeEnhancementResult(
+      Map<TargetCpuType, ? extends NativeLinkableEnhancementResult> mergedLinkables,
+      ImmutableSortedMap<String, String> sonameMapping,
+      ImmutableSortedMap<String, ImmutableSortedSet<String>> sharedObjectTargets) {
+    this.mergedLinkables = Maps.immutableEnumMap(mergedLinkables);
+    this.sonameMapping = Objects.requireNonNull(sonameMapping, "sonameMapping");
+    this.sharedObjectTargets = Objects.requireNonNull(sharedObjectTargets, "sharedObjectTargets");
+  }
+
+  /**
+   * @return The value of the {@code mergedLinkables} attribute
+   */
+  @Override
+  public ImmutableMap<TargetCpuType, NativeLinkableEnhancementResult> getMergedLinkables() {
+    return mergedLinkables;
+  }
+
+  /**
+   * @return The value of the {@code sonameMapping} attribute
+   */
+  @Override
+  public ImmutableSortedMap<String, String> getSonameMapping() {
+    return sonameMapping;
+  }
+
+  /**
+   * @return The value of the {@code sharedObjectTargets} attribute
+   */
+  @Override
+  public ImmutableSortedMap<String, ImmutableSortedSet<String>> getSharedObjectTargets() {
+    return sharedObjectTargets;
+  }
+
+  /**
+   * This instance is equal to all instances of {@code ImmutableNativeLibraryMergeEnhancementResult} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof ImmutableNativeLibraryMergeEnhancementResult
+        && equalTo((ImmutableNativeLibraryMergeEnhancementResult) another);
+  }
+
+  private boolean equalTo(ImmutableNativeLibraryMergeEnhancementResult another) {
+    return mergedLinkables.equals(another.mergedLinkables)
+        && sonameMapping.equals(another.sonameMapping)
+        && sharedObjectTargets.equals(another.sharedObjectTargets);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code mergedLinkables}, {@code sonameMapping}, {@code sharedObjectTargets}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    @Var int h = 5381;
+    h += (h << 5) + mergedLinkables.hashCode();
+    h += (h << 5) + sonameMapping.hashCode();
+    h += (h << 5) + sharedObjectTargets.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code NativeLibraryMergeEnhancementResult} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("NativeLibraryMergeEnhancementResult")
+        .omitNullValues()
+        .add("mergedLinkables", mergedLinkables)
+        .add("sonameMapping", sonameMapping)
+        .add("sharedObjectTargets", sharedObjectTargets)
+        .toString();
+  }
+
+  /**
+   * Construct a new immutable {@code NativeLibraryMergeEnhancementResult} instance.
+   * @param mergedLinkables The value for the {@code mergedLinkables} attribute
+   * @param sonameMapping The value for the {@code sonameMapping} attribute
+   * @param sharedObjectTargets The value for the {@code sharedObjectTargets} attribute
+   * @return An immutable NativeLibraryMergeEnhancementResult instance
+   */
+  public static ImmutableNativeLibraryMergeEnhancementResult of(Map<TargetCpuType, ? extends NativeLinkableEnhancementResult> mergedLinkables, ImmutableSortedMap<String, String> sonameMapping, ImmutableSortedMap<String, ImmutableSortedSet<String>> sharedObjectTargets) {
+    return new ImmutableNativeLibraryMergeEnhancementResult(mergedLinkables, sonameMapping, sharedObjectTargets);
+  }
+}
@@ -0,0 +1,597 @@
+package com.facebook.buck.android;
+
+import com.facebook.buck.android.toolchain.ndk.NdkCxxRuntime;
+import com.facebook.buck.core.description.arg.BuildRuleArg;
+import com.facebook.buck.core.description.arg.ConstructorArg;
+import com.facebook.buck.core.model.BuildTarget;
+import com.facebook.buck.core.model.UnconfiguredBuildTarget;
+import com.facebook.buck.core.sourcepath.SourcePath;
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.ImmutableSortedSet;
+import com.google.errorprone.annotations.CanIgnoreReturnValue;
+import com.google.errorprone.annotations.Var;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+import org.immutables.value.Generated;
+
+/**
+ *An ndk_toolchain is mostly just a cxx_toolchain and a few other fields. 
+ */
+@Generated(from = "NdkToolchainDescription.AbstractNdkToolchainDescriptionArg", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+public final class NdkToolchainDescriptionArg
+    implements NdkToolchainDescription.AbstractNdkToolchainDescriptionArg {
+  private final BuildTarget cxxToolchain;
+  private final @Nullable SourcePath sharedRuntimePath;
+  private final SourcePath objdump;
+  private final NdkCxxRuntime cxxRuntime;
+  private final @Nullable SourcePath ndkPath;
+  private final ImmutableSet<SourcePath> licenses;
+  private final ImmutableSortedSet<String> labels;
+  private final @Nullable UnconfiguredBuildTarget defaultTargetPlatform;
+  private final ImmutableList<UnconfiguredBuildTarget> compatibleWith;
+  private final String name;
+
+  private NdkToolchainDescriptionArg(NdkToolchainDescriptionArg.Builder builder) {
+    this.cxxToolchain = builder.cxxToolchain;
+    this.sharedRuntimePath = builder.sharedRuntimePath;
+    this.objdump = builder.objdump;
+    this.cxxRuntime = builder.cxxRuntime;
+    this.ndkPath = builder.ndkPath;
+    this.licenses = builder.licenses.build();
+    this.labels = builder.labels.build();
+    this.defaultTargetPlatform = builder.defaultTargetPlatform;
+    this.compatibleWith = builder.compatibleWith.build();
+    this.name = builder.name;
+  }
+
+  /**
+   *Target for the cxx toolchain part of the ndk toolchain. 
+   */
+  @Override
+  public BuildTarget getCxxToolchain() {
+    return cxxToolchain;
+  }
+
+  /**
+   *Path for the c++ shared runtime to package in the apk. 
+   */
+  @Override
+  public Optional<SourcePath> getSharedRuntimePath() {
+    return Optional.ofNullable(sharedRuntimePath);
+  }
+
+  /**
+   *Objdump binary. 
+   */
+  @Override
+  public SourcePath getObjdump() {
+    return objdump;
+  }
+
+  /**
+   *Ndk runtime type. 
+   */
+  @Override
+  public NdkCxxRuntime getCxxRuntime() {
+    return cxxRuntime;
+  }
+
+  /**
+   *Path to Ndk. 
+   */
+  @Override
+  public Optional<SourcePath> getNdkPath() {
+    return Optional.ofNullable(ndkPath);
+  }
+
+  /**
+   * @return The value of the {@code licenses} attribute
+   */
+  @Override
+  public ImmutableSet<SourcePath> getLicenses() {
+    return licenses;
+  }
+
+  /**
+   * @return The value of the {@code labels} attribute
+   */
+  @Override
+  public ImmutableSortedSet<String> getLabels() {
+    return labels;
+  }
+
+  /**
+   * The name of build target default "new" platform: it is used when a platform is not specified
+   * either globally or in a target which used this target as a dependency.
+   * <p>The value is a build target, but we specify it as string, because this function is not
+   * actually called, but the attr is fetched by name from the raw (unconfigured) target node.
+   */
+  @Override
+  public Optional<UnconfiguredBuildTarget> getDefaultTargetPlatform() {
+    return Optional.ofNullable(defaultTargetPlatform);
+  }
+
+  /**
+   *A list of {@code config_setting} a target is compatible with. 
+   */
+  @Override
+  public ImmutableList<UnconfiguredBuildTarget> getCompatibleWith() {
+    return compatibleWith;
+  }
+
+  /**
+   *Each rule has a name 
+   */
+  @Override
+  public String getName() {
+    return name;
+  }
+
+  /**
+   * This instance is equal to all instances of {@code NdkToolchainDescriptionArg} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof NdkToolchainDescriptionArg
+        && equalTo((NdkToolchainDescriptionArg) another);
+  }
+
+  private boolean equalTo(NdkToolchainDescriptionArg another) {
+    return cxxToolchain.equals(another.cxxToolchain)
+        && Objects.equals(sharedRuntimePath, another.sharedRuntimePath)
+        && objdump.equals(another.objdump)
+        && cxxRuntime.equals(another.cxxRuntime)
+        && Objects.equals(ndkPath, another.ndkPath)
+        && licenses.equals(another.licenses)
+        && labels.equals(another.labels)
+        && Objects.equals(defaultTargetPlatform, another.defaultTargetPlatform)
+        && compatibleWith.equals(another.compatibleWith)
+        && name.equals(another.name);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code cxxToolchain}, {@code sharedRuntimePath}, {@code objdump}, {@code cxxRuntime}, {@code ndkPath}, {@code licenses}, {@code labels}, {@code defaultTargetPlatform}, {@code compatibleWith}, {@code name}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    @Var int h = 5381;
+    h += (h << 5) + cxxToolchain.hashCode();
+    h += (h << 5) + Objects.hashCode(sharedRuntimePath);
+    h += (h << 5) + objdump.hashCode();
+    h += (h << 5) + cxxRuntime.hashCode();
+    h += (h << 5) + Objects.hashCode(ndkPath);
+    h += (h << 5) + licenses.hashCode();
+    h += (h << 5) + labels.hashCode();
+    h += (h << 5) + Objects.hashCode(defaultTargetPlatform);
+    h += (h << 5) + compatibleWith.hashCode();
+    h += (h << 5) + name.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code NdkToolchainDescriptionArg} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("NdkToolchainDescriptionArg")
+        .omitNullValues()
+        .add("cxxToolchain", cxxToolchain)
+        .add("sharedRuntimePath", sharedRuntimePath)
+        .add("objdump", objdump)
+        .add("cxxRuntime", cxxRuntime)
+        .add("ndkPath", ndkPath)
+        .add("licenses", licenses)
+        .add("labels", labels)
+        .add("defaultTargetPlatform", defaultTargetPlatform)
+        .add("compatibleWith", compatibleWith)
+        .add("name", name)
+        .toString();
+  }
+
+  /**
+   * Creates a builder for {@link NdkToolchainDescriptionArg NdkToolchainDescriptionArg}.
+   * @return A new NdkToolchainDescriptionArg builder
+   */
+  public static NdkToolchainDescriptionArg.Builder builder() {
+    return new NdkToolchainDescriptionArg.Builder();
+  }
+
+  /**
+   * Builds instances of type {@link NdkToolchainDescriptionArg NdkToolchainDescriptionArg}.
+   * Initialize attributes and then invoke the {@link #build()} method to create an
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread-safe and generally should not be stored in a field or collection,
+   * but instead used immediately to create instances.</em>
+   */
+  @Generated(from = "NdkToolchainDescription.AbstractNdkToolchainDescriptionArg", generator = "Immutables")
+  @NotThreadSafe
+  public static final class Builder {
+    private static final long INIT_BIT_CXX_TOOLCHAIN = 0x1L;
+    private static final long INIT_BIT_OBJDUMP = 0x2L;
+    private static final long INIT_BIT_CXX_RUNTIME = 0x4L;
+    private static final long INIT_BIT_NAME = 0x8L;
+    private long initBits = 0xfL;
+
+    private @Nullable BuildTarget cxxToolchain;
+    private @Nullable SourcePath sharedRuntimePath;
+    private @Nullable SourcePath objdump;
+    private @Nullable NdkCxxRuntime cxxRuntime;
+    private @Nullable SourcePath ndkPath;
+    private ImmutableSet.Builder<SourcePath> licenses = ImmutableSet.builder();
+    private ImmutableSortedSet.Builder<String> labels = ImmutableSortedSet.naturalOrder();
+    private @Nullable UnconfiguredBuildTarget defaultTargetPlatform;
+    private ImmutableList.Builder<UnconfiguredBuildTarget> compatibleWith = ImmutableList.builder();
+    private @Nullable String name;
+
+    private Builder() {
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code NdkToolchainDescriptionArg} instance.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder from(NdkToolchainDescriptionArg instance) {
+      Objects.requireNonNull(instance, "instance");
+      from((Object) instance);
+      return this;
+    }
+
+    /**
+     * Copy abstract value type {@code AbstractNdkToolchainDescriptionArg} instance into builder.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder from(NdkToolchainDescription.AbstractNdkToolchainDescriptionArg instance) {
+      Objects.requireNonNull(instance, "instance");
+      from((Object) instance);
+      return this;
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code com.facebook.buck.core.description.arg.BuildRuleArg} instance.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder from(BuildRuleArg instance) {
+      Objects.requireNonNull(instance, "instance");
+      from((Object) instance);
+      return this;
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code com.facebook.buck.core.description.arg.ConstructorArg} instance.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder from(ConstructorArg instance) {
+      Objects.requireNonNull(instance, "instance");
+      from((Object) instance);
+      return this;
+    }
+
+    private void from(Object object) {
+      if (object instanceof NdkToolchainDescription.AbstractNdkToolchainDescriptionArg) {
+        NdkToolchainDescription.AbstractNdkToolchainDescriptionArg instance = (NdkToolchainDescription.AbstractNdkToolchainDescriptionArg) object;
+        setObjdump(instance.getObjdump());
+        Optional<SourcePath> ndkPathOptional = instance.getNdkPath();
+        if (ndkPathOptional.isPresent()) {
+          setNdkPath(ndkPathOptional);
+        }
+        setCxxToolchain(instance.getCxxToolchain());
+        Optional<SourcePath> sharedRuntimePathOptional = instance.getSharedRuntimePath();
+        if (sharedRuntimePathOptional.isPresent()) {
+          setSharedRuntimePath(sharedRuntimePathOptional);
+        }
+        setCxxRuntime(instance.getCxxRuntime());
+      }
+      if (object instanceof BuildRuleArg) {
+        BuildRuleArg instance = (BuildRuleArg) object;
+        addAllLicenses(instance.getLicenses());
+        addAllCompatibleWith(instance.getCompatibleWith());
+        addAllLabels(instance.getLabels());
+        Optional<UnconfiguredBuildTarget> defaultTargetPlatformOptional = instance.getDefaultTargetPlatform();
+        if (defaultTargetPlatformOptional.isPresent()) {
+          setDefaultTargetPlatform(defaultTargetPlatformOptional);
+        }
+      }
+      if (object instanceof ConstructorArg) {
+        ConstructorArg instance = (ConstructorArg) object;
+        setName(instance.getName());
+      }
+    }
+
+    /**
+     * Initializes the value for the {@link NdkToolchainDescriptionArg#getCxxToolchain() cxxToolchain} attribute.
+     * @param cxxToolchain The value for cxxToolchain 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setCxxToolchain(BuildTarget cxxToolchain) {
+      this.cxxToolchain = Objects.requireNonNull(cxxToolchain, "cxxToolchain");
+      initBits &= ~INIT_BIT_CXX_TOOLCHAIN;
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link NdkToolchainDescriptionArg#getSharedRuntimePath() sharedRuntimePath} to sharedRuntimePath.
+     * @param sharedRuntimePath The value for sharedRuntimePath
+     * @return {@code this} builder for chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setSharedRuntimePath(SourcePath sharedRuntimePath) {
+      this.sharedRuntimePath = Objects.requireNonNull(sharedRuntimePath, "sharedRuntimePath");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link NdkToolchainDescriptionArg#getSharedRuntimePath() sharedRuntimePath} to sharedRuntimePath.
+     * @param sharedRuntimePath The value for sharedRuntimePath
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setSharedRuntimePath(Optional<? extends SourcePath> sharedRuntimePath) {
+      this.sharedRuntimePath = sharedRuntimePath.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link NdkToolchainDescriptionArg#getObjdump() objdump} attribute.
+     * @param objdump The value for objdump 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setObjdump(SourcePath objdump) {
+      this.objdump = Objects.requireNonNull(objdump, "objdump");
+      initBits &= ~INIT_BIT_OBJDUMP;
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link NdkToolchainDescriptionArg#getCxxRuntime() cxxRuntime} attribute.
+     * @param cxxRuntime The value for cxxRuntime 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setCxxRuntime(NdkCxxRuntime cxxRuntime) {
+      this.cxxRuntime = Objects.requireNonNull(cxxRuntime, "cxxRuntime");
+      initBits &= ~INIT_BIT_CXX_RUNTIME;
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link NdkToolchainDescriptionArg#getNdkPath() ndkPath} to ndkPath.
+     * @param ndkPath The value for ndkPath
+     * @return {@code this} builder for chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setNdkPath(SourcePath ndkPath) {
+      this.ndkPath = Objects.requireNonNull(ndkPath, "ndkPath");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link NdkToolchainDescriptionArg#getNdkPath() ndkPath} to ndkPath.
+     * @param ndkPath The value for ndkPath
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setNdkPath(Optional<? extends SourcePath> ndkPath) {
+      this.ndkPath = ndkPath.orElse(null);
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link NdkToolchainDescriptionArg#getLicenses() licenses} set.
+     * @param element A licenses element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addLicenses(SourcePath element) {
+      this.licenses.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link NdkToolchainDescriptionArg#getLicenses() licenses} set.
+     * @param elements An array of licenses elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addLicenses(SourcePath... elements) {
+      this.licenses.add(elements);
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link NdkToolchainDescriptionArg#getLicenses() licenses} set.
+     * @param elements An iterable of licenses elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setLicenses(Iterable<? extends SourcePath> elements) {
+      this.licenses = ImmutableSet.builder();
+      return addAllLicenses(elements);
+    }
+
+    /**
+     * Adds elements to {@link NdkToolchainDescriptionArg#getLicenses() licenses} set.
+     * @param elements An iterable of licenses elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addAllLicenses(Iterable<? extends SourcePath> elements) {
+      this.licenses.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link NdkToolchainDescriptionArg#getLabels() labels} sortedSet.
+     * @param element A labels element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addLabels(String element) {
+      this.labels.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link NdkToolchainDescriptionArg#getLabels() labels} sortedSet.
+     * @param elements An array of labels elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addLabels(String... elements) {
+      this.labels.addAll(Arrays.asList(elements));
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link NdkToolchainDescriptionArg#getLabels() labels} sortedSet.
+     * @param elements An iterable of labels elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setLabels(Iterable<String> elements) {
+      this.labels = ImmutableSortedSet.naturalOrder();
+      return addAllLabels(elements);
+    }
+
+    /**
+     * Adds elements to {@link NdkToolchainDescriptionArg#getLabels() labels} sortedSet.
+     * @param elements An iterable of labels elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addAllLabels(Iterable<String> elements) {
+      this.labels.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link NdkToolchainDescriptionArg#getDefaultTargetPlatform() defaultTargetPlatform} to defaultTargetPlatform.
+     * @param defaultTargetPlatform The value for defaultTargetPlatform
+     * @return {@code this} builder for chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setDefaultTargetPlatform(UnconfiguredBuildTarget defaultTargetPlatform) {
+      this.defaultTargetPlatform = Objects.requireNonNull(defaultTargetPlatform, "defaultTargetPlatform");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link NdkToolchainDescriptionArg#getDefaultTargetPlatform() defaultTargetPlatform} to defaultTargetPlatform.
+     * @param defaultTargetPlatform The value for defaultTargetPlatform
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setDefaultTargetPlatform(Optional<? extends UnconfiguredBuildTarget> defaultTargetPlatform) {
+      this.defaultTargetPlatform = defaultTargetPlatform.orElse(null);
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link NdkToolchainDescriptionArg#getCompatibleWith() compatibleWith} list.
+     * @param element A compatibleWith element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addCompatibleWith(UnconfiguredBuildTarget element) {
+      this.compatibleWith.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link NdkToolchainDescriptionArg#getCompatibleWith() compatibleWith} list.
+     * @param elements An array of compatibleWith elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addCompatibleWith(UnconfiguredBuildTarget... elements) {
+      this.compatibleWith.add(elements);
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link NdkToolchainDescriptionArg#getCompatibleWith() compatibleWith} list.
+     * @param elements An iterable of compatibleWith elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setCompatibleWith(Iterable<? extends UnconfiguredBuildTarget> elements) {
+      this.compatibleWith = ImmutableList.builder();
+      return addAllCompatibleWith(elements);
+    }
+
+    /**
+     * Adds elements to {@link NdkToolchainDescriptionArg#getCompatibleWith() compatibleWith} list.
+     * @param elements An iterable of compatibleWith elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addAllCompatibleWith(Iterable<? extends UnconfiguredBuildTarget> elements) {
+      this.compatibleWith.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link NdkToolchainDescriptionArg#getName() name} attribute.
+     * @param name The value for name 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setName(String name) {
+      this.name = Objects.requireNonNull(name, "name");
+      initBits &= ~INIT_BIT_NAME;
+      return this;
+    }
+
+    /**
+     * Builds a new {@link NdkToolchainDescriptionArg NdkToolchainDescriptionArg}.
+     * @return An immutable instance of NdkToolchainDescriptionArg
+     * @throws java.lang.IllegalStateException if any required attributes are missing
+     */
+    public NdkToolchainDescriptionArg build() {
+      if (initBits != 0) {
+        throw new IllegalStateException(formatRequiredAttributesMessage());
+      }
+      return new NdkToolchainDescriptionArg(this);
+    }
+
+    private String formatRequiredAttributesMessage() {
+      List<String> attributes = new ArrayList<>();
+      if ((initBits & INIT_BIT_CXX_TOOLCHAIN) != 0) attributes.add("cxxToolchain");
+      if ((initBits & INIT_BIT_OBJDUMP) != 0) attributes.add("objdump");
+      if ((initBits & INIT_BIT_CXX_RUNTIME) != 0) attributes.add("cxxRuntime");
+      if ((initBits & INIT_BIT_NAME) != 0) attributes.add("name");
+      return "Cannot build NdkToolchainDescriptionArg, some of required attributes are not set " + attributes;
+    }
+  }
+}
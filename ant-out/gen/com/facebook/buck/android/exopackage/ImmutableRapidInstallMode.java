@@ -0,0 +1,86 @@
+package com.facebook.buck.android.exopackage;
+
+import com.google.common.base.MoreObjects;
+import com.google.errorprone.annotations.Var;
+import java.util.Objects;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import org.immutables.value.Generated;
+
+/**
+ * Immutable implementation of {@link RealAndroidDevice.RapidInstallMode}.
+ * <p>
+ * Use the static factory method to create immutable instances:
+ * {@code ImmutableRapidInstallMode.of()}.
+ */
+@Generated(from = "RealAndroidDevice.RapidInstallMode", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+final class ImmutableRapidInstallMode
+    extends RealAndroidDevice.RapidInstallMode {
+  private final String ipAddress;
+
+  private ImmutableRapidInstallMode(String ipAddress) {
+    this.ipAddress = Objects.requireNonNull(ipAddress, "ipAddress");
+  }
+
+  /**
+   * @return The value of the {@code ipAddress} attribute
+   */
+  @Override
+  String getIpAddress() {
+    return ipAddress;
+  }
+
+  /**
+   * This instance is equal to all instances of {@code ImmutableRapidInstallMode} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof ImmutableRapidInstallMode
+        && equalTo((ImmutableRapidInstallMode) another);
+  }
+
+  private boolean equalTo(ImmutableRapidInstallMode another) {
+    return ipAddress.equals(another.ipAddress);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code ipAddress}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    @Var int h = 5381;
+    h += (h << 5) + ipAddress.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code RapidInstallMode} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("RapidInstallMode")
+        .omitNullValues()
+        .add("ipAddress", ipAddress)
+        .toString();
+  }
+
+  /**
+   * Construct a new immutable {@code RapidInstallMode} instance.
+   * @param ipAddress The value for the {@code ipAddress} attribute
+   * @return An immutable RapidInstallMode instance
+   */
+  public static ImmutableRapidInstallMode of(String ipAddress) {
+    return new ImmutableRapidInstallMode(ipAddress);
+  }
+}
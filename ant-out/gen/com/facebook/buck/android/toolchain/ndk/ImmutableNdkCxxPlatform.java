@@ -0,0 +1,251 @@
+package com.facebook.buck.android.toolchain.ndk;
+
+import com.facebook.buck.core.sourcepath.SourcePath;
+import com.facebook.buck.core.toolchain.tool.Tool;
+import com.facebook.buck.cxx.toolchain.CxxPlatform;
+import com.google.common.base.MoreObjects;
+import com.google.errorprone.annotations.CanIgnoreReturnValue;
+import com.google.errorprone.annotations.Var;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+import org.immutables.value.Generated;
+
+/**
+ * Immutable implementation of {@link NdkCxxPlatform}.
+ * <p>
+ * Use the builder to create immutable instances:
+ * {@code new NdkCxxPlatform.Builder()}.
+ */
+@Generated(from = "NdkCxxPlatform", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+final class ImmutableNdkCxxPlatform implements NdkCxxPlatform {
+  private final CxxPlatform cxxPlatform;
+  private final NdkCxxRuntime cxxRuntime;
+  private final Tool objdump;
+  private final @Nullable SourcePath cxxSharedRuntimePath;
+
+  private ImmutableNdkCxxPlatform(ImmutableNdkCxxPlatform.Builder builder) {
+    this.cxxPlatform = builder.cxxPlatform;
+    this.cxxRuntime = builder.cxxRuntime;
+    this.objdump = builder.objdump;
+    this.cxxSharedRuntimePath = builder.cxxSharedRuntimePath;
+  }
+
+  /**
+   * @return The value of the {@code cxxPlatform} attribute
+   */
+  @Override
+  public CxxPlatform getCxxPlatform() {
+    return cxxPlatform;
+  }
+
+  /**
+   * @return The value of the {@code cxxRuntime} attribute
+   */
+  @Override
+  public NdkCxxRuntime getCxxRuntime() {
+    return cxxRuntime;
+  }
+
+  /**
+   * @return The value of the {@code objdump} attribute
+   */
+  @Override
+  public Tool getObjdump() {
+    return objdump;
+  }
+
+  /**
+   * @return The value of the {@code cxxSharedRuntimePath} attribute
+   */
+  @Override
+  public Optional<SourcePath> getCxxSharedRuntimePath() {
+    return Optional.ofNullable(cxxSharedRuntimePath);
+  }
+
+  /**
+   * This instance is equal to all instances of {@code ImmutableNdkCxxPlatform} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof ImmutableNdkCxxPlatform
+        && equalTo((ImmutableNdkCxxPlatform) another);
+  }
+
+  private boolean equalTo(ImmutableNdkCxxPlatform another) {
+    return cxxPlatform.equals(another.cxxPlatform)
+        && cxxRuntime.equals(another.cxxRuntime)
+        && objdump.equals(another.objdump)
+        && Objects.equals(cxxSharedRuntimePath, another.cxxSharedRuntimePath);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code cxxPlatform}, {@code cxxRuntime}, {@code objdump}, {@code cxxSharedRuntimePath}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    @Var int h = 5381;
+    h += (h << 5) + cxxPlatform.hashCode();
+    h += (h << 5) + cxxRuntime.hashCode();
+    h += (h << 5) + objdump.hashCode();
+    h += (h << 5) + Objects.hashCode(cxxSharedRuntimePath);
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code NdkCxxPlatform} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("NdkCxxPlatform")
+        .omitNullValues()
+        .add("cxxPlatform", cxxPlatform)
+        .add("cxxRuntime", cxxRuntime)
+        .add("objdump", objdump)
+        .add("cxxSharedRuntimePath", cxxSharedRuntimePath)
+        .toString();
+  }
+
+  /**
+   * Builds instances of type {@link NdkCxxPlatform NdkCxxPlatform}.
+   * Initialize attributes and then invoke the {@link #build()} method to create an
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread-safe and generally should not be stored in a field or collection,
+   * but instead used immediately to create instances.</em>
+   */
+  @Generated(from = "NdkCxxPlatform", generator = "Immutables")
+  @NotThreadSafe
+  public static class Builder {
+    private static final long INIT_BIT_CXX_PLATFORM = 0x1L;
+    private static final long INIT_BIT_CXX_RUNTIME = 0x2L;
+    private static final long INIT_BIT_OBJDUMP = 0x4L;
+    private long initBits = 0x7L;
+
+    private @Nullable CxxPlatform cxxPlatform;
+    private @Nullable NdkCxxRuntime cxxRuntime;
+    private @Nullable Tool objdump;
+    private @Nullable SourcePath cxxSharedRuntimePath;
+
+    /**
+     * Creates a builder for {@link NdkCxxPlatform NdkCxxPlatform} instances.
+     */
+    public Builder() {
+      if (!(this instanceof NdkCxxPlatform.Builder)) {
+        throw new UnsupportedOperationException("Use: new NdkCxxPlatform.Builder()");
+      }
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code NdkCxxPlatform} instance.
+     * Regular attribute values will be replaced with those from the given instance.
+     * Absent optional values will not replace present values.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final NdkCxxPlatform.Builder from(NdkCxxPlatform instance) {
+      Objects.requireNonNull(instance, "instance");
+      setCxxPlatform(instance.getCxxPlatform());
+      setCxxRuntime(instance.getCxxRuntime());
+      setObjdump(instance.getObjdump());
+      Optional<SourcePath> cxxSharedRuntimePathOptional = instance.getCxxSharedRuntimePath();
+      if (cxxSharedRuntimePathOptional.isPresent()) {
+        setCxxSharedRuntimePath(cxxSharedRuntimePathOptional);
+      }
+      return (NdkCxxPlatform.Builder) this;
+    }
+
+    /**
+     * Initializes the value for the {@link NdkCxxPlatform#getCxxPlatform() cxxPlatform} attribute.
+     * @param cxxPlatform The value for cxxPlatform 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final NdkCxxPlatform.Builder setCxxPlatform(CxxPlatform cxxPlatform) {
+      this.cxxPlatform = Objects.requireNonNull(cxxPlatform, "cxxPlatform");
+      initBits &= ~INIT_BIT_CXX_PLATFORM;
+      return (NdkCxxPlatform.Builder) this;
+    }
+
+    /**
+     * Initializes the value for the {@link NdkCxxPlatform#getCxxRuntime() cxxRuntime} attribute.
+     * @param cxxRuntime The value for cxxRuntime 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final NdkCxxPlatform.Builder setCxxRuntime(NdkCxxRuntime cxxRuntime) {
+      this.cxxRuntime = Objects.requireNonNull(cxxRuntime, "cxxRuntime");
+      initBits &= ~INIT_BIT_CXX_RUNTIME;
+      return (NdkCxxPlatform.Builder) this;
+    }
+
+    /**
+     * Initializes the value for the {@link NdkCxxPlatform#getObjdump() objdump} attribute.
+     * @param objdump The value for objdump 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final NdkCxxPlatform.Builder setObjdump(Tool objdump) {
+      this.objdump = Objects.requireNonNull(objdump, "objdump");
+      initBits &= ~INIT_BIT_OBJDUMP;
+      return (NdkCxxPlatform.Builder) this;
+    }
+
+    /**
+     * Initializes the optional value {@link NdkCxxPlatform#getCxxSharedRuntimePath() cxxSharedRuntimePath} to cxxSharedRuntimePath.
+     * @param cxxSharedRuntimePath The value for cxxSharedRuntimePath
+     * @return {@code this} builder for chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final NdkCxxPlatform.Builder setCxxSharedRuntimePath(SourcePath cxxSharedRuntimePath) {
+      this.cxxSharedRuntimePath = Objects.requireNonNull(cxxSharedRuntimePath, "cxxSharedRuntimePath");
+      return (NdkCxxPlatform.Builder) this;
+    }
+
+    /**
+     * Initializes the optional value {@link NdkCxxPlatform#getCxxSharedRuntimePath() cxxSharedRuntimePath} to cxxSharedRuntimePath.
+     * @param cxxSharedRuntimePath The value for cxxSharedRuntimePath
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final NdkCxxPlatform.Builder setCxxSharedRuntimePath(Optional<? extends SourcePath> cxxSharedRuntimePath) {
+      this.cxxSharedRuntimePath = cxxSharedRuntimePath.orElse(null);
+      return (NdkCxxPlatform.Builder) this;
+    }
+
+    /**
+     * Builds a new {@link NdkCxxPlatform NdkCxxPlatform}.
+     * @return An immutable instance of NdkCxxPlatform
+     * @throws java.lang.IllegalStateException if any required attributes are missing
+     */
+    public NdkCxxPlatform build() {
+      if (initBits != 0) {
+        throw new IllegalStateException(formatRequiredAttributesMessage());
+      }
+      return new ImmutableNdkCxxPlatform(this);
+    }
+
+    private String formatRequiredAttributesMessage() {
+      List<String> attributes = new ArrayList<>();
+      if ((initBits & INIT_BIT_CXX_PLATFORM) != 0) attributes.add("cxxPlatform");
+      if ((initBits & INIT_BIT_CXX_RUNTIME) != 0) attributes.add("cxxRuntime");
+      if ((initBits & INIT_BIT_OBJDUMP) != 0) attributes.add("objdump");
+      return "Cannot build NdkCxxPlatform, some of required attributes are not set " + attributes;
+    }
+  }
+}
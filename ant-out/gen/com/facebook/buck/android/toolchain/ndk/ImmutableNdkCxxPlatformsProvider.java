@@ -0,0 +1,89 @@
+package com.facebook.buck.android.toolchain.ndk;
+
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.Maps;
+import com.google.errorprone.annotations.Var;
+import java.util.Map;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import org.immutables.value.Generated;
+
+/**
+ * Immutable implementation of {@link NdkCxxPlatformsProvider}.
+ * <p>
+ * Use the static factory method to create immutable instances:
+ * {@code ImmutableNdkCxxPlatformsProvider.of()}.
+ */
+@Generated(from = "NdkCxxPlatformsProvider", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+final class ImmutableNdkCxxPlatformsProvider
+    extends NdkCxxPlatformsProvider {
+  private final ImmutableMap<TargetCpuType, UnresolvedNdkCxxPlatform> ndkCxxPlatforms;
+
+  private ImmutableNdkCxxPlatformsProvider(
+      Map<TargetCpuType, ? extends UnresolvedNdkCxxPlatform> ndkCxxPlatforms) {
+    this.ndkCxxPlatforms = Maps.immutableEnumMap(ndkCxxPlatforms);
+  }
+
+  /**
+   * @return The value of the {@code ndkCxxPlatforms} attribute
+   */
+  @Override
+  public ImmutableMap<TargetCpuType, UnresolvedNdkCxxPlatform> getNdkCxxPlatforms() {
+    return ndkCxxPlatforms;
+  }
+
+  /**
+   * This instance is equal to all instances of {@code ImmutableNdkCxxPlatformsProvider} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof ImmutableNdkCxxPlatformsProvider
+        && equalTo((ImmutableNdkCxxPlatformsProvider) another);
+  }
+
+  private boolean equalTo(ImmutableNdkCxxPlatformsProvider another) {
+    return ndkCxxPlatforms.equals(another.ndkCxxPlatforms);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code ndkCxxPlatforms}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    @Var int h = 5381;
+    h += (h << 5) + ndkCxxPlatforms.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code NdkCxxPlatformsProvider} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("NdkCxxPlatformsProvider")
+        .omitNullValues()
+        .add("ndkCxxPlatforms", ndkCxxPlatforms)
+        .toString();
+  }
+
+  /**
+   * Construct a new immutable {@code NdkCxxPlatformsProvider} instance.
+   * @param ndkCxxPlatforms The value for the {@code ndkCxxPlatforms} attribute
+   * @return An immutable NdkCxxPlatformsProvider instance
+   */
+  public static ImmutableNdkCxxPlatformsProvider of(Map<TargetCpuType, ? extends UnresolvedNdkCxxPlatform> ndkCxxPlatforms) {
+    return new ImmutableNdkCxxPlatformsProvider(ndkCxxPlatforms);
+  }
+}
@@ -0,0 +1,101 @@
+package com.facebook.buck.android.toolchain.ndk.impl;
+
+import com.facebook.buck.android.toolchain.ndk.NdkCxxPlatform;
+import com.facebook.buck.cxx.toolchain.UnresolvedCxxPlatform;
+import com.google.common.base.MoreObjects;
+import com.google.errorprone.annotations.Var;
+import java.util.Objects;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import org.immutables.value.Generated;
+
+/**
+ * Immutable implementation of {@link StaticUnresolvedNdkCxxPlatform}.
+ * <p>
+ * Use the static factory method to create immutable instances:
+ * {@code ImmutableStaticUnresolvedNdkCxxPlatform.of()}.
+ */
+@Generated(from = "StaticUnresolvedNdkCxxPlatform", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+final class ImmutableStaticUnresolvedNdkCxxPlatform
+    extends StaticUnresolvedNdkCxxPlatform {
+  private final NdkCxxPlatform staticallyResolvedInstance;
+  private transient final UnresolvedCxxPlatform cxxPlatform;
+
+  private ImmutableStaticUnresolvedNdkCxxPlatform(NdkCxxPlatform staticallyResolvedInstance) {
+    this.staticallyResolvedInstance = Objects.requireNonNull(staticallyResolvedInstance, "staticallyResolvedInstance");
+    this.cxxPlatform = Objects.requireNonNull(super.getCxxPlatform(), "cxxPlatform");
+  }
+
+  /**
+   * @return The value of the {@code staticallyResolvedInstance} attribute
+   */
+  @Override
+  public NdkCxxPlatform getStaticallyResolvedInstance() {
+    return staticallyResolvedInstance;
+  }
+
+  /**
+   * @return The computed-at-construction value of the {@code cxxPlatform} attribute
+   */
+  @Override
+  public UnresolvedCxxPlatform getCxxPlatform() {
+    return cxxPlatform;
+  }
+
+  /**
+   * This instance is equal to all instances of {@code ImmutableStaticUnresolvedNdkCxxPlatform} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof ImmutableStaticUnresolvedNdkCxxPlatform
+        && equalTo((ImmutableStaticUnresolvedNdkCxxPlatform) another);
+  }
+
+  private boolean equalTo(ImmutableStaticUnresolvedNdkCxxPlatform another) {
+    return staticallyResolvedInstance.equals(another.staticallyResolvedInstance)
+        && cxxPlatform.equals(another.cxxPlatform);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code staticallyResolvedInstance}, {@code cxxPlatform}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    @Var int h = 5381;
+    h += (h << 5) + staticallyResolvedInstance.hashCode();
+    h += (h << 5) + cxxPlatform.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code StaticUnresolvedNdkCxxPlatform} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("StaticUnresolvedNdkCxxPlatform")
+        .omitNullValues()
+        .add("staticallyResolvedInstance", staticallyResolvedInstance)
+        .add("cxxPlatform", cxxPlatform)
+        .toString();
+  }
+
+  /**
+   * Construct a new immutable {@code StaticUnresolvedNdkCxxPlatform} instance.
+   * @param staticallyResolvedInstance The value for the {@code staticallyResolvedInstance} attribute
+   * @return An immutable StaticUnresolvedNdkCxxPlatform instance
+   */
+  public static ImmutableStaticUnresolvedNdkCxxPlatform of(NdkCxxPlatform staticallyResolvedInstance) {
+    return new ImmutableStaticUnresolvedNdkCxxPlatform(staticallyResolvedInstance);
+  }
+}
@@ -0,0 +1,87 @@
+package com.facebook.buck.apple.toolchain;
+
+import com.google.common.base.MoreObjects;
+import com.google.errorprone.annotations.Var;
+import java.nio.file.Path;
+import java.util.Objects;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import org.immutables.value.Generated;
+
+/**
+ * Immutable implementation of {@link AppleDeveloperDirectoryForTestsProvider}.
+ * <p>
+ * Use the static factory method to create immutable instances:
+ * {@code ImmutableAppleDeveloperDirectoryForTestsProvider.of()}.
+ */
+@Generated(from = "AppleDeveloperDirectoryForTestsProvider", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+final class ImmutableAppleDeveloperDirectoryForTestsProvider
+    implements AppleDeveloperDirectoryForTestsProvider {
+  private final Path appleDeveloperDirectoryForTests;
+
+  private ImmutableAppleDeveloperDirectoryForTestsProvider(Path appleDeveloperDirectoryForTests) {
+    this.appleDeveloperDirectoryForTests = Objects.requireNonNull(appleDeveloperDirectoryForTests, "appleDeveloperDirectoryForTests");
+  }
+
+  /**
+   * @return The value of the {@code appleDeveloperDirectoryForTests} attribute
+   */
+  @Override
+  public Path getAppleDeveloperDirectoryForTests() {
+    return appleDeveloperDirectoryForTests;
+  }
+
+  /**
+   * This instance is equal to all instances of {@code ImmutableAppleDeveloperDirectoryForTestsProvider} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof ImmutableAppleDeveloperDirectoryForTestsProvider
+        && equalTo((ImmutableAppleDeveloperDirectoryForTestsProvider) another);
+  }
+
+  private boolean equalTo(ImmutableAppleDeveloperDirectoryForTestsProvider another) {
+    return appleDeveloperDirectoryForTests.equals(another.appleDeveloperDirectoryForTests);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code appleDeveloperDirectoryForTests}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    @Var int h = 5381;
+    h += (h << 5) + appleDeveloperDirectoryForTests.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code AppleDeveloperDirectoryForTestsProvider} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("AppleDeveloperDirectoryForTestsProvider")
+        .omitNullValues()
+        .add("appleDeveloperDirectoryForTests", appleDeveloperDirectoryForTests)
+        .toString();
+  }
+
+  /**
+   * Construct a new immutable {@code AppleDeveloperDirectoryForTestsProvider} instance.
+   * @param appleDeveloperDirectoryForTests The value for the {@code appleDeveloperDirectoryForTests} attribute
+   * @return An immutable AppleDeveloperDirectoryForTestsProvider instance
+   */
+  public static ImmutableAppleDeveloperDirectoryForTestsProvider of(Path appleDeveloperDirectoryForTests) {
+    return new ImmutableAppleDeveloperDirectoryForTestsProvider(appleDeveloperDirectoryForTests);
+  }
+}
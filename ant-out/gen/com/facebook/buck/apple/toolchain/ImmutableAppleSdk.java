@@ -0,0 +1,330 @@
+package com.facebook.buck.apple.toolchain;
+
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableSet;
+import com.google.errorprone.annotations.CanIgnoreReturnValue;
+import com.google.errorprone.annotations.Var;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+import org.immutables.value.Generated;
+
+/**
+ * Immutable implementation of {@link AppleSdk}.
+ * <p>
+ * Use the builder to create immutable instances:
+ * {@code new AppleSdk.Builder()}.
+ */
+@Generated(from = "AppleSdk", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+final class ImmutableAppleSdk extends AppleSdk {
+  private final String name;
+  private final String version;
+  private final ApplePlatform applePlatform;
+  private final ImmutableSet<String> architectures;
+  private final ImmutableList<AppleToolchain> toolchains;
+
+  private ImmutableAppleSdk(ImmutableAppleSdk.Builder builder) {
+    this.name = builder.name;
+    this.version = builder.version;
+    this.applePlatform = builder.applePlatform;
+    this.architectures = builder.architectures.build();
+    this.toolchains = builder.toolchains.build();
+  }
+
+  /**
+   * @return The value of the {@code name} attribute
+   */
+  @Override
+  public String getName() {
+    return name;
+  }
+
+  /**
+   * @return The value of the {@code version} attribute
+   */
+  @Override
+  public String getVersion() {
+    return version;
+  }
+
+  /**
+   * @return The value of the {@code applePlatform} attribute
+   */
+  @Override
+  public ApplePlatform getApplePlatform() {
+    return applePlatform;
+  }
+
+  /**
+   * @return The value of the {@code architectures} attribute
+   */
+  @Override
+  public ImmutableSet<String> getArchitectures() {
+    return architectures;
+  }
+
+  /**
+   * @return The value of the {@code toolchains} attribute
+   */
+  @Override
+  public ImmutableList<AppleToolchain> getToolchains() {
+    return toolchains;
+  }
+
+  /**
+   * This instance is equal to all instances of {@code ImmutableAppleSdk} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof ImmutableAppleSdk
+        && equalTo((ImmutableAppleSdk) another);
+  }
+
+  private boolean equalTo(ImmutableAppleSdk another) {
+    return name.equals(another.name)
+        && version.equals(another.version)
+        && applePlatform.equals(another.applePlatform)
+        && architectures.equals(another.architectures)
+        && toolchains.equals(another.toolchains);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code name}, {@code version}, {@code applePlatform}, {@code architectures}, {@code toolchains}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    @Var int h = 5381;
+    h += (h << 5) + name.hashCode();
+    h += (h << 5) + version.hashCode();
+    h += (h << 5) + applePlatform.hashCode();
+    h += (h << 5) + architectures.hashCode();
+    h += (h << 5) + toolchains.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code AppleSdk} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("AppleSdk")
+        .omitNullValues()
+        .add("name", name)
+        .add("version", version)
+        .add("applePlatform", applePlatform)
+        .add("architectures", architectures)
+        .add("toolchains", toolchains)
+        .toString();
+  }
+
+  /**
+   * Builds instances of type {@link AppleSdk AppleSdk}.
+   * Initialize attributes and then invoke the {@link #build()} method to create an
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread-safe and generally should not be stored in a field or collection,
+   * but instead used immediately to create instances.</em>
+   */
+  @Generated(from = "AppleSdk", generator = "Immutables")
+  @NotThreadSafe
+  public static class Builder {
+    private static final long INIT_BIT_NAME = 0x1L;
+    private static final long INIT_BIT_VERSION = 0x2L;
+    private static final long INIT_BIT_APPLE_PLATFORM = 0x4L;
+    private long initBits = 0x7L;
+
+    private @Nullable String name;
+    private @Nullable String version;
+    private @Nullable ApplePlatform applePlatform;
+    private ImmutableSet.Builder<String> architectures = ImmutableSet.builder();
+    private ImmutableList.Builder<AppleToolchain> toolchains = ImmutableList.builder();
+
+    /**
+     * Creates a builder for {@link AppleSdk AppleSdk} instances.
+     */
+    public Builder() {
+      if (!(this instanceof AppleSdk.Builder)) {
+        throw new UnsupportedOperationException("Use: new AppleSdk.Builder()");
+      }
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code AppleSdk} instance.
+     * Regular attribute values will be replaced with those from the given instance.
+     * Absent optional values will not replace present values.
+     * Collection elements and entries will be added, not replaced.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final AppleSdk.Builder from(AppleSdk instance) {
+      Objects.requireNonNull(instance, "instance");
+      setName(instance.getName());
+      setVersion(instance.getVersion());
+      setApplePlatform(instance.getApplePlatform());
+      addAllArchitectures(instance.getArchitectures());
+      addAllToolchains(instance.getToolchains());
+      return (AppleSdk.Builder) this;
+    }
+
+    /**
+     * Initializes the value for the {@link AppleSdk#getName() name} attribute.
+     * @param name The value for name 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final AppleSdk.Builder setName(String name) {
+      this.name = Objects.requireNonNull(name, "name");
+      initBits &= ~INIT_BIT_NAME;
+      return (AppleSdk.Builder) this;
+    }
+
+    /**
+     * Initializes the value for the {@link AppleSdk#getVersion() version} attribute.
+     * @param version The value for version 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final AppleSdk.Builder setVersion(String version) {
+      this.version = Objects.requireNonNull(version, "version");
+      initBits &= ~INIT_BIT_VERSION;
+      return (AppleSdk.Builder) this;
+    }
+
+    /**
+     * Initializes the value for the {@link AppleSdk#getApplePlatform() applePlatform} attribute.
+     * @param applePlatform The value for applePlatform 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final AppleSdk.Builder setApplePlatform(ApplePlatform applePlatform) {
+      this.applePlatform = Objects.requireNonNull(applePlatform, "applePlatform");
+      initBits &= ~INIT_BIT_APPLE_PLATFORM;
+      return (AppleSdk.Builder) this;
+    }
+
+    /**
+     * Adds one element to {@link AppleSdk#getArchitectures() architectures} set.
+     * @param element A architectures element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final AppleSdk.Builder addArchitectures(String element) {
+      this.architectures.add(element);
+      return (AppleSdk.Builder) this;
+    }
+
+    /**
+     * Adds elements to {@link AppleSdk#getArchitectures() architectures} set.
+     * @param elements An array of architectures elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final AppleSdk.Builder addArchitectures(String... elements) {
+      this.architectures.add(elements);
+      return (AppleSdk.Builder) this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link AppleSdk#getArchitectures() architectures} set.
+     * @param elements An iterable of architectures elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final AppleSdk.Builder setArchitectures(Iterable<String> elements) {
+      this.architectures = ImmutableSet.builder();
+      return addAllArchitectures(elements);
+    }
+
+    /**
+     * Adds elements to {@link AppleSdk#getArchitectures() architectures} set.
+     * @param elements An iterable of architectures elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final AppleSdk.Builder addAllArchitectures(Iterable<String> elements) {
+      this.architectures.addAll(elements);
+      return (AppleSdk.Builder) this;
+    }
+
+    /**
+     * Adds one element to {@link AppleSdk#getToolchains() toolchains} list.
+     * @param element A toolchains element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final AppleSdk.Builder addToolchains(AppleToolchain element) {
+      this.toolchains.add(element);
+      return (AppleSdk.Builder) this;
+    }
+
+    /**
+     * Adds elements to {@link AppleSdk#getToolchains() toolchains} list.
+     * @param elements An array of toolchains elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final AppleSdk.Builder addToolchains(AppleToolchain... elements) {
+      this.toolchains.add(elements);
+      return (AppleSdk.Builder) this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link AppleSdk#getToolchains() toolchains} list.
+     * @param elements An iterable of toolchains elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final AppleSdk.Builder setToolchains(Iterable<? extends AppleToolchain> elements) {
+      this.toolchains = ImmutableList.builder();
+      return addAllToolchains(elements);
+    }
+
+    /**
+     * Adds elements to {@link AppleSdk#getToolchains() toolchains} list.
+     * @param elements An iterable of toolchains elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final AppleSdk.Builder addAllToolchains(Iterable<? extends AppleToolchain> elements) {
+      this.toolchains.addAll(elements);
+      return (AppleSdk.Builder) this;
+    }
+
+    /**
+     * Builds a new {@link AppleSdk AppleSdk}.
+     * @return An immutable instance of AppleSdk
+     * @throws java.lang.IllegalStateException if any required attributes are missing
+     */
+    public AppleSdk build() {
+      if (initBits != 0) {
+        throw new IllegalStateException(formatRequiredAttributesMessage());
+      }
+      return new ImmutableAppleSdk(this);
+    }
+
+    private String formatRequiredAttributesMessage() {
+      List<String> attributes = new ArrayList<>();
+      if ((initBits & INIT_BIT_NAME) != 0) attributes.add("name");
+      if ((initBits & INIT_BIT_VERSION) != 0) attributes.add("version");
+      if ((initBits & INIT_BIT_APPLE_PLATFORM) != 0) attributes.add("applePlatform");
+      return "Cannot build AppleSdk, some of required attributes are not set " + attributes;
+    }
+  }
+}
@@ -0,0 +1,88 @@
+package com.facebook.buck.apple.toolchain;
+
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.ImmutableMap;
+import com.google.errorprone.annotations.Var;
+import java.util.Map;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import org.immutables.value.Generated;
+
+/**
+ * Immutable implementation of {@link AppleToolchainProvider}.
+ * <p>
+ * Use the static factory method to create immutable instances:
+ * {@code ImmutableAppleToolchainProvider.of()}.
+ */
+@Generated(from = "AppleToolchainProvider", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+final class ImmutableAppleToolchainProvider
+    implements AppleToolchainProvider {
+  private final ImmutableMap<String, AppleToolchain> appleToolchains;
+
+  private ImmutableAppleToolchainProvider(
+      Map<String, ? extends AppleToolchain> appleToolchains) {
+    this.appleToolchains = ImmutableMap.copyOf(appleToolchains);
+  }
+
+  /**
+   * @return The value of the {@code appleToolchains} attribute
+   */
+  @Override
+  public ImmutableMap<String, AppleToolchain> getAppleToolchains() {
+    return appleToolchains;
+  }
+
+  /**
+   * This instance is equal to all instances of {@code ImmutableAppleToolchainProvider} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof ImmutableAppleToolchainProvider
+        && equalTo((ImmutableAppleToolchainProvider) another);
+  }
+
+  private boolean equalTo(ImmutableAppleToolchainProvider another) {
+    return appleToolchains.equals(another.appleToolchains);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code appleToolchains}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    @Var int h = 5381;
+    h += (h << 5) + appleToolchains.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code AppleToolchainProvider} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("AppleToolchainProvider")
+        .omitNullValues()
+        .add("appleToolchains", appleToolchains)
+        .toString();
+  }
+
+  /**
+   * Construct a new immutable {@code AppleToolchainProvider} instance.
+   * @param appleToolchains The value for the {@code appleToolchains} attribute
+   * @return An immutable AppleToolchainProvider instance
+   */
+  public static ImmutableAppleToolchainProvider of(Map<String, ? extends AppleToolchain> appleToolchains) {
+    return new ImmutableAppleToolchainProvider(appleToolchains);
+  }
+}
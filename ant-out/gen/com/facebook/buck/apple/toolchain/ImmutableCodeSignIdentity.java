@@ -0,0 +1,120 @@
+package com.facebook.buck.apple.toolchain;
+
+import com.google.common.base.MoreObjects;
+import com.google.common.hash.HashCode;
+import com.google.common.primitives.Booleans;
+import com.google.errorprone.annotations.Var;
+import java.util.Objects;
+import java.util.Optional;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import org.immutables.value.Generated;
+
+/**
+ * Immutable implementation of {@link CodeSignIdentity}.
+ * <p>
+ * Use the static factory method to create immutable instances:
+ * {@code ImmutableCodeSignIdentity.of()}.
+ */
+@Generated(from = "CodeSignIdentity", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+final class ImmutableCodeSignIdentity extends CodeSignIdentity {
+  private final @Nullable HashCode fingerprint;
+  private final String subjectCommonName;
+  private final boolean shouldUseSubjectCommonNameToSign;
+
+  @SuppressWarnings("unchecked") // safe covariant cast
+  private ImmutableCodeSignIdentity(
+      Optional<? extends HashCode> fingerprint,
+      String subjectCommonName,
+      boolean shouldUseSubjectCommonNameToSign) {
+    this.fingerprint = fingerprint.orElse(null);
+    this.subjectCommonName = Objects.requireNonNull(subjectCommonName, "subjectCommonName");
+    this.shouldUseSubjectCommonNameToSign = shouldUseSubjectCommonNameToSign;
+  }
+
+  /**
+   * @return The value of the {@code fingerprint} attribute
+   */
+  @Override
+  public Optional<HashCode> getFingerprint() {
+    return Optional.ofNullable(fingerprint);
+  }
+
+  /**
+   * @return The value of the {@code subjectCommonName} attribute
+   */
+  @Override
+  public String getSubjectCommonName() {
+    return subjectCommonName;
+  }
+
+  /**
+   * @return The value of the {@code shouldUseSubjectCommonNameToSign} attribute
+   */
+  @Override
+  public boolean shouldUseSubjectCommonNameToSign() {
+    return shouldUseSubjectCommonNameToSign;
+  }
+
+  /**
+   * This instance is equal to all instances of {@code ImmutableCodeSignIdentity} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof ImmutableCodeSignIdentity
+        && equalTo((ImmutableCodeSignIdentity) another);
+  }
+
+  private boolean equalTo(ImmutableCodeSignIdentity another) {
+    return Objects.equals(fingerprint, another.fingerprint)
+        && subjectCommonName.equals(another.subjectCommonName)
+        && shouldUseSubjectCommonNameToSign == another.shouldUseSubjectCommonNameToSign;
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code fingerprint}, {@code subjectCommonName}, {@code shouldUseSubjectCommonNameToSign}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    @Var int h = 5381;
+    h += (h << 5) + Objects.hashCode(fingerprint);
+    h += (h << 5) + subjectCommonName.hashCode();
+    h += (h << 5) + Booleans.hashCode(shouldUseSubjectCommonNameToSign);
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code CodeSignIdentity} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("CodeSignIdentity")
+        .omitNullValues()
+        .add("fingerprint", fingerprint)
+        .add("subjectCommonName", subjectCommonName)
+        .add("shouldUseSubjectCommonNameToSign", shouldUseSubjectCommonNameToSign)
+        .toString();
+  }
+
+  /**
+   * Construct a new immutable {@code CodeSignIdentity} instance.
+   * @param fingerprint The value for the {@code fingerprint} attribute
+   * @param subjectCommonName The value for the {@code subjectCommonName} attribute
+   * @param shouldUseSubjectCommonNameToSign The value for the {@code shouldUseSubjectCommonNameToSign} attribute
+   * @return An immutable CodeSignIdentity instance
+   */
+  public static ImmutableCodeSignIdentity of(Optional<? extends HashCode> fingerprint, String subjectCommonName, boolean shouldUseSubjectCommonNameToSign) {
+    return new ImmutableCodeSignIdentity(fingerprint, subjectCommonName, shouldUseSubjectCommonNameToSign);
+  }
+}
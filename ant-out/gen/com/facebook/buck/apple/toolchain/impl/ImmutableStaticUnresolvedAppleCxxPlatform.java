@@ -0,0 +1,104 @@
+package com.facebook.buck.apple.toolchain.impl;
+
+import com.facebook.buck.apple.toolchain.AppleCxxPlatform;
+import com.facebook.buck.core.model.Flavor;
+import com.google.common.base.MoreObjects;
+import com.google.errorprone.annotations.Var;
+import java.util.Objects;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import org.immutables.value.Generated;
+
+/**
+ * Immutable implementation of {@link StaticUnresolvedAppleCxxPlatform}.
+ * <p>
+ * Use the static factory method to create immutable instances:
+ * {@code ImmutableStaticUnresolvedAppleCxxPlatform.of()}.
+ */
+@Generated(from = "StaticUnresolvedAppleCxxPlatform", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+final class ImmutableStaticUnresolvedAppleCxxPlatform
+    extends StaticUnresolvedAppleCxxPlatform {
+  private final AppleCxxPlatform staticallyResolvedInstance;
+  private final Flavor flavor;
+
+  private ImmutableStaticUnresolvedAppleCxxPlatform(
+      AppleCxxPlatform staticallyResolvedInstance,
+      Flavor flavor) {
+    this.staticallyResolvedInstance = Objects.requireNonNull(staticallyResolvedInstance, "staticallyResolvedInstance");
+    this.flavor = Objects.requireNonNull(flavor, "flavor");
+  }
+
+  /**
+   * @return The value of the {@code staticallyResolvedInstance} attribute
+   */
+  @Override
+  public AppleCxxPlatform getStaticallyResolvedInstance() {
+    return staticallyResolvedInstance;
+  }
+
+  /**
+   * @return The value of the {@code flavor} attribute
+   */
+  @Override
+  public Flavor getFlavor() {
+    return flavor;
+  }
+
+  /**
+   * This instance is equal to all instances of {@code ImmutableStaticUnresolvedAppleCxxPlatform} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof ImmutableStaticUnresolvedAppleCxxPlatform
+        && equalTo((ImmutableStaticUnresolvedAppleCxxPlatform) another);
+  }
+
+  private boolean equalTo(ImmutableStaticUnresolvedAppleCxxPlatform another) {
+    return staticallyResolvedInstance.equals(another.staticallyResolvedInstance)
+        && flavor.equals(another.flavor);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code staticallyResolvedInstance}, {@code flavor}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    @Var int h = 5381;
+    h += (h << 5) + staticallyResolvedInstance.hashCode();
+    h += (h << 5) + flavor.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code StaticUnresolvedAppleCxxPlatform} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("StaticUnresolvedAppleCxxPlatform")
+        .omitNullValues()
+        .add("staticallyResolvedInstance", staticallyResolvedInstance)
+        .add("flavor", flavor)
+        .toString();
+  }
+
+  /**
+   * Construct a new immutable {@code StaticUnresolvedAppleCxxPlatform} instance.
+   * @param staticallyResolvedInstance The value for the {@code staticallyResolvedInstance} attribute
+   * @param flavor The value for the {@code flavor} attribute
+   * @return An immutable StaticUnresolvedAppleCxxPlatform instance
+   */
+  public static ImmutableStaticUnresolvedAppleCxxPlatform of(AppleCxxPlatform staticallyResolvedInstance, Flavor flavor) {
+    return new ImmutableStaticUnresolvedAppleCxxPlatform(staticallyResolvedInstance, flavor);
+  }
+}
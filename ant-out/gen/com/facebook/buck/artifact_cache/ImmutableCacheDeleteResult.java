@@ -0,0 +1,94 @@
+package com.facebook.buck.artifact_cache;
+
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.ImmutableList;
+import com.google.errorprone.annotations.Var;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import org.immutables.value.Generated;
+
+/**
+ * Immutable implementation of {@link CacheDeleteResult}.
+ * <p>
+ * Use the static factory method to create immutable instances:
+ * {@code ImmutableCacheDeleteResult.of()}.
+ */
+@Generated(from = "CacheDeleteResult", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+final class ImmutableCacheDeleteResult extends CacheDeleteResult {
+  private final ImmutableList<String> cacheNames;
+
+  private ImmutableCacheDeleteResult(Iterable<String> cacheNames) {
+    this.cacheNames = ImmutableList.copyOf(cacheNames);
+  }
+
+  /**
+   * @return The value of the {@code cacheNames} attribute
+   */
+  @Override
+  public ImmutableList<String> getCacheNames() {
+    return cacheNames;
+  }
+
+  /**
+   * This instance is equal to all instances of {@code ImmutableCacheDeleteResult} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof ImmutableCacheDeleteResult
+        && equalTo((ImmutableCacheDeleteResult) another);
+  }
+
+  private boolean equalTo(ImmutableCacheDeleteResult another) {
+    return cacheNames.equals(another.cacheNames);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code cacheNames}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    @Var int h = 5381;
+    h += (h << 5) + cacheNames.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code CacheDeleteResult} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("CacheDeleteResult")
+        .omitNullValues()
+        .add("cacheNames", cacheNames)
+        .toString();
+  }
+
+  /**
+   * Construct a new immutable {@code CacheDeleteResult} instance.
+   * @param cacheNames The value for the {@code cacheNames} attribute
+   * @return An immutable CacheDeleteResult instance
+   */
+  public static ImmutableCacheDeleteResult of(ImmutableList<String> cacheNames) {
+    return of((Iterable<String>) cacheNames);
+  }
+
+  /**
+   * Construct a new immutable {@code CacheDeleteResult} instance.
+   * @param cacheNames The value for the {@code cacheNames} attribute
+   * @return An immutable CacheDeleteResult instance
+   */
+  public static ImmutableCacheDeleteResult of(Iterable<String> cacheNames) {
+    return new ImmutableCacheDeleteResult(cacheNames);
+  }
+}
@@ -0,0 +1,216 @@
+package com.facebook.buck.artifact_cache;
+
+import com.facebook.buck.core.rulekey.RuleKey;
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.ImmutableMap;
+import com.google.errorprone.annotations.CanIgnoreReturnValue;
+import com.google.errorprone.annotations.Var;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+import org.immutables.value.Generated;
+
+/**
+ * Immutable implementation of {@link AbstractAsynchronousCache.MultiContainsResult}.
+ * <p>
+ * Use the builder to create immutable instances:
+ * {@code ImmutableMultiContainsResult.builder()}.
+ */
+@Generated(from = "AbstractAsynchronousCache.MultiContainsResult", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+final class ImmutableMultiContainsResult
+    implements AbstractAsynchronousCache.MultiContainsResult {
+  private final @Nullable Long responseSizeBytes;
+  private final ImmutableMap<RuleKey, CacheResult> cacheResults;
+
+  private ImmutableMultiContainsResult(ImmutableMultiContainsResult.Builder builder) {
+    this.responseSizeBytes = builder.responseSizeBytes;
+    this.cacheResults = builder.cacheResults.build();
+  }
+
+  /**
+   * @return The value of the {@code responseSizeBytes} attribute
+   */
+  @Override
+  public Optional<Long> getResponseSizeBytes() {
+    return Optional.ofNullable(responseSizeBytes);
+  }
+
+  /**
+   * @return The value of the {@code cacheResults} attribute
+   */
+  @Override
+  public ImmutableMap<RuleKey, CacheResult> getCacheResults() {
+    return cacheResults;
+  }
+
+  /**
+   * This instance is equal to all instances of {@code ImmutableMultiContainsResult} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof ImmutableMultiContainsResult
+        && equalTo((ImmutableMultiContainsResult) another);
+  }
+
+  private boolean equalTo(ImmutableMultiContainsResult another) {
+    return Objects.equals(responseSizeBytes, another.responseSizeBytes)
+        && cacheResults.equals(another.cacheResults);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code responseSizeBytes}, {@code cacheResults}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    @Var int h = 5381;
+    h += (h << 5) + Objects.hashCode(responseSizeBytes);
+    h += (h << 5) + cacheResults.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code MultiContainsResult} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("MultiContainsResult")
+        .omitNullValues()
+        .add("responseSizeBytes", responseSizeBytes)
+        .add("cacheResults", cacheResults)
+        .toString();
+  }
+
+  /**
+   * Creates a builder for {@link AbstractAsynchronousCache.MultiContainsResult MultiContainsResult}.
+   * @return A new MultiContainsResult builder
+   */
+  public static ImmutableMultiContainsResult.Builder builder() {
+    return new ImmutableMultiContainsResult.Builder();
+  }
+
+  /**
+   * Builds instances of type {@link AbstractAsynchronousCache.MultiContainsResult MultiContainsResult}.
+   * Initialize attributes and then invoke the {@link #build()} method to create an
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread-safe and generally should not be stored in a field or collection,
+   * but instead used immediately to create instances.</em>
+   */
+  @Generated(from = "AbstractAsynchronousCache.MultiContainsResult", generator = "Immutables")
+  @NotThreadSafe
+  public static final class Builder {
+    private @Nullable Long responseSizeBytes;
+    private ImmutableMap.Builder<RuleKey, CacheResult> cacheResults = ImmutableMap.builder();
+
+    private Builder() {
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code MultiContainsResult} instance.
+     * Regular attribute values will be replaced with those from the given instance.
+     * Absent optional values will not replace present values.
+     * Collection elements and entries will be added, not replaced.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder from(AbstractAsynchronousCache.MultiContainsResult instance) {
+      Objects.requireNonNull(instance, "instance");
+      Optional<Long> responseSizeBytesOptional = instance.getResponseSizeBytes();
+      if (responseSizeBytesOptional.isPresent()) {
+        setResponseSizeBytes(responseSizeBytesOptional);
+      }
+      putAllCacheResults(instance.getCacheResults());
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AbstractAsynchronousCache.MultiContainsResult#getResponseSizeBytes() responseSizeBytes} to responseSizeBytes.
+     * @param responseSizeBytes The value for responseSizeBytes
+     * @return {@code this} builder for chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setResponseSizeBytes(long responseSizeBytes) {
+      this.responseSizeBytes = responseSizeBytes;
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AbstractAsynchronousCache.MultiContainsResult#getResponseSizeBytes() responseSizeBytes} to responseSizeBytes.
+     * @param responseSizeBytes The value for responseSizeBytes
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setResponseSizeBytes(Optional<Long> responseSizeBytes) {
+      this.responseSizeBytes = responseSizeBytes.orElse(null);
+      return this;
+    }
+
+    /**
+     * Put one entry to the {@link AbstractAsynchronousCache.MultiContainsResult#getCacheResults() cacheResults} map.
+     * @param key The key in the cacheResults map
+     * @param value The associated value in the cacheResults map
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder putCacheResults(RuleKey key, CacheResult value) {
+      this.cacheResults.put(key, value);
+      return this;
+    }
+
+    /**
+     * Put one entry to the {@link AbstractAsynchronousCache.MultiContainsResult#getCacheResults() cacheResults} map. Nulls are not permitted
+     * @param entry The key and value entry
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder putCacheResults(Map.Entry<? extends RuleKey, ? extends CacheResult> entry) {
+      this.cacheResults.put(entry);
+      return this;
+    }
+
+    /**
+     * Sets or replaces all mappings from the specified map as entries for the {@link AbstractAsynchronousCache.MultiContainsResult#getCacheResults() cacheResults} map. Nulls are not permitted
+     * @param entries The entries that will be added to the cacheResults map
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setCacheResults(Map<? extends RuleKey, ? extends CacheResult> entries) {
+      this.cacheResults = ImmutableMap.builder();
+      return putAllCacheResults(entries);
+    }
+
+    /**
+     * Put all mappings from the specified map as entries to {@link AbstractAsynchronousCache.MultiContainsResult#getCacheResults() cacheResults} map. Nulls are not permitted
+     * @param entries The entries that will be added to the cacheResults map
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder putAllCacheResults(Map<? extends RuleKey, ? extends CacheResult> entries) {
+      this.cacheResults.putAll(entries);
+      return this;
+    }
+
+    /**
+     * Builds a new {@link AbstractAsynchronousCache.MultiContainsResult MultiContainsResult}.
+     * @return An immutable instance of MultiContainsResult
+     * @throws java.lang.IllegalStateException if any required attributes are missing
+     */
+    public AbstractAsynchronousCache.MultiContainsResult build() {
+      return new ImmutableMultiContainsResult(this);
+    }
+  }
+}
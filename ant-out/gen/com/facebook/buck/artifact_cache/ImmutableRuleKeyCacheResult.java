@@ -0,0 +1,164 @@
+package com.facebook.buck.artifact_cache;
+
+import com.facebook.buck.rules.keys.RuleKeyType;
+import com.google.common.base.MoreObjects;
+import com.google.common.primitives.Longs;
+import com.google.errorprone.annotations.Var;
+import java.util.Objects;
+import java.util.Optional;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import org.immutables.value.Generated;
+
+/**
+ * Immutable implementation of {@link RuleKeyCacheResult}.
+ * <p>
+ * Use the static factory method to create immutable instances:
+ * {@code ImmutableRuleKeyCacheResult.of()}.
+ */
+@Generated(from = "RuleKeyCacheResult", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+final class ImmutableRuleKeyCacheResult extends RuleKeyCacheResult {
+  private final String buildTarget;
+  private final String ruleKey;
+  private final long requestTimestampMillis;
+  private final RuleKeyType ruleKeyType;
+  private final CacheResultType cacheResult;
+  private final @Nullable String twoLevelContentHashKey;
+
+  private ImmutableRuleKeyCacheResult(
+      String buildTarget,
+      String ruleKey,
+      long requestTimestampMillis,
+      RuleKeyType ruleKeyType,
+      CacheResultType cacheResult,
+      Optional<String> twoLevelContentHashKey) {
+    this.buildTarget = Objects.requireNonNull(buildTarget, "buildTarget");
+    this.ruleKey = Objects.requireNonNull(ruleKey, "ruleKey");
+    this.requestTimestampMillis = requestTimestampMillis;
+    this.ruleKeyType = Objects.requireNonNull(ruleKeyType, "ruleKeyType");
+    this.cacheResult = Objects.requireNonNull(cacheResult, "cacheResult");
+    this.twoLevelContentHashKey = twoLevelContentHashKey.orElse(null);
+  }
+
+  /**
+   * @return The value of the {@code buildTarget} attribute
+   */
+  @Override
+  public String buildTarget() {
+    return buildTarget;
+  }
+
+  /**
+   * @return The value of the {@code ruleKey} attribute
+   */
+  @Override
+  public String ruleKey() {
+    return ruleKey;
+  }
+
+  /**
+   * @return The value of the {@code requestTimestampMillis} attribute
+   */
+  @Override
+  public long requestTimestampMillis() {
+    return requestTimestampMillis;
+  }
+
+  /**
+   * @return The value of the {@code ruleKeyType} attribute
+   */
+  @Override
+  public RuleKeyType ruleKeyType() {
+    return ruleKeyType;
+  }
+
+  /**
+   * @return The value of the {@code cacheResult} attribute
+   */
+  @Override
+  public CacheResultType cacheResult() {
+    return cacheResult;
+  }
+
+  /**
+   * @return The value of the {@code twoLevelContentHashKey} attribute
+   */
+  @Override
+  public Optional<String> twoLevelContentHashKey() {
+    return Optional.ofNullable(twoLevelContentHashKey);
+  }
+
+  /**
+   * This instance is equal to all instances of {@code ImmutableRuleKeyCacheResult} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof ImmutableRuleKeyCacheResult
+        && equalTo((ImmutableRuleKeyCacheResult) another);
+  }
+
+  private boolean equalTo(ImmutableRuleKeyCacheResult another) {
+    return buildTarget.equals(another.buildTarget)
+        && ruleKey.equals(another.ruleKey)
+        && requestTimestampMillis == another.requestTimestampMillis
+        && ruleKeyType.equals(another.ruleKeyType)
+        && cacheResult.equals(another.cacheResult)
+        && Objects.equals(twoLevelContentHashKey, another.twoLevelContentHashKey);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code buildTarget}, {@code ruleKey}, {@code requestTimestampMillis}, {@code ruleKeyType}, {@code cacheResult}, {@code twoLevelContentHashKey}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    @Var int h = 5381;
+    h += (h << 5) + buildTarget.hashCode();
+    h += (h << 5) + ruleKey.hashCode();
+    h += (h << 5) + Longs.hashCode(requestTimestampMillis);
+    h += (h << 5) + ruleKeyType.hashCode();
+    h += (h << 5) + cacheResult.hashCode();
+    h += (h << 5) + Objects.hashCode(twoLevelContentHashKey);
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code RuleKeyCacheResult} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("RuleKeyCacheResult")
+        .omitNullValues()
+        .add("buildTarget", buildTarget)
+        .add("ruleKey", ruleKey)
+        .add("requestTimestampMillis", requestTimestampMillis)
+        .add("ruleKeyType", ruleKeyType)
+        .add("cacheResult", cacheResult)
+        .add("twoLevelContentHashKey", twoLevelContentHashKey)
+        .toString();
+  }
+
+  /**
+   * Construct a new immutable {@code RuleKeyCacheResult} instance.
+   * @param buildTarget The value for the {@code buildTarget} attribute
+   * @param ruleKey The value for the {@code ruleKey} attribute
+   * @param requestTimestampMillis The value for the {@code requestTimestampMillis} attribute
+   * @param ruleKeyType The value for the {@code ruleKeyType} attribute
+   * @param cacheResult The value for the {@code cacheResult} attribute
+   * @param twoLevelContentHashKey The value for the {@code twoLevelContentHashKey} attribute
+   * @return An immutable RuleKeyCacheResult instance
+   */
+  public static ImmutableRuleKeyCacheResult of(String buildTarget, String ruleKey, long requestTimestampMillis, RuleKeyType ruleKeyType, CacheResultType cacheResult, Optional<String> twoLevelContentHashKey) {
+    return new ImmutableRuleKeyCacheResult(buildTarget, ruleKey, requestTimestampMillis, ruleKeyType, cacheResult, twoLevelContentHashKey);
+  }
+}
@@ -0,0 +1,131 @@
+package com.facebook.buck.cli;
+
+import com.facebook.buck.core.model.BuildTarget;
+import com.facebook.buck.core.rules.BuildRule;
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.ImmutableSet;
+import com.google.errorprone.annotations.Var;
+import java.util.Objects;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import org.immutables.value.Generated;
+
+/**
+ * Immutable implementation of {@link ActionGraphSerializer.ActionGraphNode}.
+ * <p>
+ * Use the static factory method to create immutable instances:
+ * {@code ImmutableActionGraphNode.of()}.
+ */
+@Generated(from = "ActionGraphSerializer.ActionGraphNode", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+final class ImmutableActionGraphNode
+    implements ActionGraphSerializer.ActionGraphNode {
+  private final BuildTarget buildTarget;
+  private final ImmutableSet<BuildRule> buildDeps;
+  private final ImmutableSet<BuildRule> runtimeDeps;
+
+  private ImmutableActionGraphNode(
+      BuildTarget buildTarget,
+      Iterable<? extends BuildRule> buildDeps,
+      Iterable<? extends BuildRule> runtimeDeps) {
+    this.buildTarget = Objects.requireNonNull(buildTarget, "buildTarget");
+    this.buildDeps = ImmutableSet.copyOf(buildDeps);
+    this.runtimeDeps = ImmutableSet.copyOf(runtimeDeps);
+  }
+
+  /**
+   * @return The value of the {@code buildTarget} attribute
+   */
+  @Override
+  public BuildTarget getBuildTarget() {
+    return buildTarget;
+  }
+
+  /**
+   * @return The value of the {@code buildDeps} attribute
+   */
+  @Override
+  public ImmutableSet<BuildRule> getBuildDeps() {
+    return buildDeps;
+  }
+
+  /**
+   * @return The value of the {@code runtimeDeps} attribute
+   */
+  @Override
+  public ImmutableSet<BuildRule> getRuntimeDeps() {
+    return runtimeDeps;
+  }
+
+  /**
+   * This instance is equal to all instances of {@code ImmutableActionGraphNode} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof ImmutableActionGraphNode
+        && equalTo((ImmutableActionGraphNode) another);
+  }
+
+  private boolean equalTo(ImmutableActionGraphNode another) {
+    return buildTarget.equals(another.buildTarget)
+        && buildDeps.equals(another.buildDeps)
+        && runtimeDeps.equals(another.runtimeDeps);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code buildTarget}, {@code buildDeps}, {@code runtimeDeps}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    @Var int h = 5381;
+    h += (h << 5) + buildTarget.hashCode();
+    h += (h << 5) + buildDeps.hashCode();
+    h += (h << 5) + runtimeDeps.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code ActionGraphNode} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("ActionGraphNode")
+        .omitNullValues()
+        .add("buildTarget", buildTarget)
+        .add("buildDeps", buildDeps)
+        .add("runtimeDeps", runtimeDeps)
+        .toString();
+  }
+
+  /**
+   * Construct a new immutable {@code ActionGraphNode} instance.
+   * @param buildTarget The value for the {@code buildTarget} attribute
+   * @param buildDeps The value for the {@code buildDeps} attribute
+   * @param runtimeDeps The value for the {@code runtimeDeps} attribute
+   * @return An immutable ActionGraphNode instance
+   */
+  public static ImmutableActionGraphNode of(BuildTarget buildTarget, ImmutableSet<BuildRule> buildDeps, ImmutableSet<BuildRule> runtimeDeps) {
+    return of(buildTarget, (Iterable<? extends BuildRule>) buildDeps, (Iterable<? extends BuildRule>) runtimeDeps);
+  }
+
+  /**
+   * Construct a new immutable {@code ActionGraphNode} instance.
+   * @param buildTarget The value for the {@code buildTarget} attribute
+   * @param buildDeps The value for the {@code buildDeps} attribute
+   * @param runtimeDeps The value for the {@code runtimeDeps} attribute
+   * @return An immutable ActionGraphNode instance
+   */
+  public static ImmutableActionGraphNode of(BuildTarget buildTarget, Iterable<? extends BuildRule> buildDeps, Iterable<? extends BuildRule> runtimeDeps) {
+    return new ImmutableActionGraphNode(buildTarget, buildDeps, runtimeDeps);
+  }
+}
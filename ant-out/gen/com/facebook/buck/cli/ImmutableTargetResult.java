@@ -0,0 +1,376 @@
+package com.facebook.buck.cli;
+
+import com.facebook.buck.core.model.OutputLabel;
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
+import com.google.errorprone.annotations.CanIgnoreReturnValue;
+import com.google.errorprone.annotations.Var;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+import org.immutables.value.Generated;
+
+/**
+ * Immutable implementation of {@link TargetsCommand.TargetResult}.
+ * <p>
+ * Use the builder to create immutable instances:
+ * {@code ImmutableTargetResult.builder()}.
+ */
+@Generated(from = "TargetsCommand.TargetResult", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+final class ImmutableTargetResult extends TargetsCommand.TargetResult {
+  private final @Nullable String outputPath;
+  private final ImmutableMap<OutputLabel, ImmutableSet<String>> outputPathsByLabels;
+  private final @Nullable String generatedSourcePath;
+  private final @Nullable String ruleKey;
+  private final @Nullable String targetHash;
+  private final @Nullable String ruleType;
+
+  private ImmutableTargetResult(ImmutableTargetResult.Builder builder) {
+    this.outputPath = builder.outputPath;
+    this.outputPathsByLabels = builder.outputPathsByLabels.build();
+    this.generatedSourcePath = builder.generatedSourcePath;
+    this.ruleKey = builder.ruleKey;
+    this.targetHash = builder.targetHash;
+    this.ruleType = builder.ruleType;
+  }
+
+  /**
+   * @return The value of the {@code outputPath} attribute
+   */
+  @Override
+  public Optional<String> getOutputPath() {
+    return Optional.ofNullable(outputPath);
+  }
+
+  /**
+   * @return The value of the {@code outputPathsByLabels} attribute
+   */
+  @Override
+  public ImmutableMap<OutputLabel, ImmutableSet<String>> getOutputPathsByLabels() {
+    return outputPathsByLabels;
+  }
+
+  /**
+   * @return The value of the {@code generatedSourcePath} attribute
+   */
+  @Override
+  public Optional<String> getGeneratedSourcePath() {
+    return Optional.ofNullable(generatedSourcePath);
+  }
+
+  /**
+   * @return The value of the {@code ruleKey} attribute
+   */
+  @Override
+  public Optional<String> getRuleKey() {
+    return Optional.ofNullable(ruleKey);
+  }
+
+  /**
+   * @return The value of the {@code targetHash} attribute
+   */
+  @Override
+  public Optional<String> getTargetHash() {
+    return Optional.ofNullable(targetHash);
+  }
+
+  /**
+   * @return The value of the {@code ruleType} attribute
+   */
+  @Override
+  public Optional<String> getRuleType() {
+    return Optional.ofNullable(ruleType);
+  }
+
+  /**
+   * This instance is equal to all instances of {@code ImmutableTargetResult} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof ImmutableTargetResult
+        && equalTo((ImmutableTargetResult) another);
+  }
+
+  private boolean equalTo(ImmutableTargetResult another) {
+    return Objects.equals(outputPath, another.outputPath)
+        && outputPathsByLabels.equals(another.outputPathsByLabels)
+        && Objects.equals(generatedSourcePath, another.generatedSourcePath)
+        && Objects.equals(ruleKey, another.ruleKey)
+        && Objects.equals(targetHash, another.targetHash)
+        && Objects.equals(ruleType, another.ruleType);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code outputPath}, {@code outputPathsByLabels}, {@code generatedSourcePath}, {@code ruleKey}, {@code targetHash}, {@code ruleType}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    @Var int h = 5381;
+    h += (h << 5) + Objects.hashCode(outputPath);
+    h += (h << 5) + outputPathsByLabels.hashCode();
+    h += (h << 5) + Objects.hashCode(generatedSourcePath);
+    h += (h << 5) + Objects.hashCode(ruleKey);
+    h += (h << 5) + Objects.hashCode(targetHash);
+    h += (h << 5) + Objects.hashCode(ruleType);
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code TargetResult} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("TargetResult")
+        .omitNullValues()
+        .add("outputPath", outputPath)
+        .add("outputPathsByLabels", outputPathsByLabels)
+        .add("generatedSourcePath", generatedSourcePath)
+        .add("ruleKey", ruleKey)
+        .add("targetHash", targetHash)
+        .add("ruleType", ruleType)
+        .toString();
+  }
+
+  /**
+   * Creates a builder for {@link TargetsCommand.TargetResult TargetResult}.
+   * @return A new TargetResult builder
+   */
+  public static ImmutableTargetResult.Builder builder() {
+    return new ImmutableTargetResult.Builder();
+  }
+
+  /**
+   * Builds instances of type {@link TargetsCommand.TargetResult TargetResult}.
+   * Initialize attributes and then invoke the {@link #build()} method to create an
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread-safe and generally should not be stored in a field or collection,
+   * but instead used immediately to create instances.</em>
+   */
+  @Generated(from = "TargetsCommand.TargetResult", generator = "Immutables")
+  @NotThreadSafe
+  public static final class Builder {
+    private @Nullable String outputPath;
+    private ImmutableMap.Builder<OutputLabel, ImmutableSet<String>> outputPathsByLabels = ImmutableMap.builder();
+    private @Nullable String generatedSourcePath;
+    private @Nullable String ruleKey;
+    private @Nullable String targetHash;
+    private @Nullable String ruleType;
+
+    private Builder() {
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code TargetResult} instance.
+     * Regular attribute values will be replaced with those from the given instance.
+     * Absent optional values will not replace present values.
+     * Collection elements and entries will be added, not replaced.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder from(TargetsCommand.TargetResult instance) {
+      Objects.requireNonNull(instance, "instance");
+      Optional<String> outputPathOptional = instance.getOutputPath();
+      if (outputPathOptional.isPresent()) {
+        setOutputPath(outputPathOptional);
+      }
+      putAllOutputPathsByLabels(instance.getOutputPathsByLabels());
+      Optional<String> generatedSourcePathOptional = instance.getGeneratedSourcePath();
+      if (generatedSourcePathOptional.isPresent()) {
+        setGeneratedSourcePath(generatedSourcePathOptional);
+      }
+      Optional<String> ruleKeyOptional = instance.getRuleKey();
+      if (ruleKeyOptional.isPresent()) {
+        setRuleKey(ruleKeyOptional);
+      }
+      Optional<String> targetHashOptional = instance.getTargetHash();
+      if (targetHashOptional.isPresent()) {
+        setTargetHash(targetHashOptional);
+      }
+      Optional<String> ruleTypeOptional = instance.getRuleType();
+      if (ruleTypeOptional.isPresent()) {
+        setRuleType(ruleTypeOptional);
+      }
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link TargetsCommand.TargetResult#getOutputPath() outputPath} to outputPath.
+     * @param outputPath The value for outputPath
+     * @return {@code this} builder for chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setOutputPath(String outputPath) {
+      this.outputPath = Objects.requireNonNull(outputPath, "outputPath");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link TargetsCommand.TargetResult#getOutputPath() outputPath} to outputPath.
+     * @param outputPath The value for outputPath
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setOutputPath(Optional<String> outputPath) {
+      this.outputPath = outputPath.orElse(null);
+      return this;
+    }
+
+    /**
+     * Put one entry to the {@link TargetsCommand.TargetResult#getOutputPathsByLabels() outputPathsByLabels} map.
+     * @param key The key in the outputPathsByLabels map
+     * @param value The associated value in the outputPathsByLabels map
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder putOutputPathsByLabels(OutputLabel key, ImmutableSet<String> value) {
+      this.outputPathsByLabels.put(key, value);
+      return this;
+    }
+
+    /**
+     * Put one entry to the {@link TargetsCommand.TargetResult#getOutputPathsByLabels() outputPathsByLabels} map. Nulls are not permitted
+     * @param entry The key and value entry
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder putOutputPathsByLabels(Map.Entry<? extends OutputLabel, ? extends ImmutableSet<String>> entry) {
+      this.outputPathsByLabels.put(entry);
+      return this;
+    }
+
+    /**
+     * Sets or replaces all mappings from the specified map as entries for the {@link TargetsCommand.TargetResult#getOutputPathsByLabels() outputPathsByLabels} map. Nulls are not permitted
+     * @param entries The entries that will be added to the outputPathsByLabels map
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setOutputPathsByLabels(Map<? extends OutputLabel, ? extends ImmutableSet<String>> entries) {
+      this.outputPathsByLabels = ImmutableMap.builder();
+      return putAllOutputPathsByLabels(entries);
+    }
+
+    /**
+     * Put all mappings from the specified map as entries to {@link TargetsCommand.TargetResult#getOutputPathsByLabels() outputPathsByLabels} map. Nulls are not permitted
+     * @param entries The entries that will be added to the outputPathsByLabels map
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder putAllOutputPathsByLabels(Map<? extends OutputLabel, ? extends ImmutableSet<String>> entries) {
+      this.outputPathsByLabels.putAll(entries);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link TargetsCommand.TargetResult#getGeneratedSourcePath() generatedSourcePath} to generatedSourcePath.
+     * @param generatedSourcePath The value for generatedSourcePath
+     * @return {@code this} builder for chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setGeneratedSourcePath(String generatedSourcePath) {
+      this.generatedSourcePath = Objects.requireNonNull(generatedSourcePath, "generatedSourcePath");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link TargetsCommand.TargetResult#getGeneratedSourcePath() generatedSourcePath} to generatedSourcePath.
+     * @param generatedSourcePath The value for generatedSourcePath
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setGeneratedSourcePath(Optional<String> generatedSourcePath) {
+      this.generatedSourcePath = generatedSourcePath.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link TargetsCommand.TargetResult#getRuleKey() ruleKey} to ruleKey.
+     * @param ruleKey The value for ruleKey
+     * @return {@code this} builder for chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setRuleKey(String ruleKey) {
+      this.ruleKey = Objects.requireNonNull(ruleKey, "ruleKey");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link TargetsCommand.TargetResult#getRuleKey() ruleKey} to ruleKey.
+     * @param ruleKey The value for ruleKey
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setRuleKey(Optional<String> ruleKey) {
+      this.ruleKey = ruleKey.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link TargetsCommand.TargetResult#getTargetHash() targetHash} to targetHash.
+     * @param targetHash The value for targetHash
+     * @return {@code this} builder for chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setTargetHash(String targetHash) {
+      this.targetHash = Objects.requireNonNull(targetHash, "targetHash");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link TargetsCommand.TargetResult#getTargetHash() targetHash} to targetHash.
+     * @param targetHash The value for targetHash
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setTargetHash(Optional<String> targetHash) {
+      this.targetHash = targetHash.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link TargetsCommand.TargetResult#getRuleType() ruleType} to ruleType.
+     * @param ruleType The value for ruleType
+     * @return {@code this} builder for chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setRuleType(String ruleType) {
+      this.ruleType = Objects.requireNonNull(ruleType, "ruleType");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link TargetsCommand.TargetResult#getRuleType() ruleType} to ruleType.
+     * @param ruleType The value for ruleType
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setRuleType(Optional<String> ruleType) {
+      this.ruleType = ruleType.orElse(null);
+      return this;
+    }
+
+    /**
+     * Builds a new {@link TargetsCommand.TargetResult TargetResult}.
+     * @return An immutable instance of TargetResult
+     * @throws java.lang.IllegalStateException if any required attributes are missing
+     */
+    public TargetsCommand.TargetResult build() {
+      return new ImmutableTargetResult(this);
+    }
+  }
+}
@@ -0,0 +1,102 @@
+package com.facebook.buck.command.config;
+
+import com.google.common.base.MoreObjects;
+import com.google.errorprone.annotations.Var;
+import java.util.Objects;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import org.immutables.value.Generated;
+
+/**
+ * Immutable implementation of {@link ConfigDifference.ConfigChange}.
+ * <p>
+ * Use the static factory method to create immutable instances:
+ * {@code ImmutableConfigChange.of()}.
+ */
+@Generated(from = "ConfigDifference.ConfigChange", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+final class ImmutableConfigChange
+    implements ConfigDifference.ConfigChange {
+  private final @Nullable String prevValue;
+  private final @Nullable String newValue;
+
+  private ImmutableConfigChange(
+      @Nullable String prevValue,
+      @Nullable String newValue) {
+    this.prevValue = prevValue;
+    this.newValue = newValue;
+  }
+
+  /**
+   * @return The value of the {@code prevValue} attribute
+   */
+  @Override
+  public @Nullable String getPrevValue() {
+    return prevValue;
+  }
+
+  /**
+   * @return The value of the {@code newValue} attribute
+   */
+  @Override
+  public @Nullable String getNewValue() {
+    return newValue;
+  }
+
+  /**
+   * This instance is equal to all instances of {@code ImmutableConfigChange} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof ImmutableConfigChange
+        && equalTo((ImmutableConfigChange) another);
+  }
+
+  private boolean equalTo(ImmutableConfigChange another) {
+    return Objects.equals(prevValue, another.prevValue)
+        && Objects.equals(newValue, another.newValue);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code prevValue}, {@code newValue}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    @Var int h = 5381;
+    h += (h << 5) + Objects.hashCode(prevValue);
+    h += (h << 5) + Objects.hashCode(newValue);
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code ConfigChange} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("ConfigChange")
+        .omitNullValues()
+        .add("prevValue", prevValue)
+        .add("newValue", newValue)
+        .toString();
+  }
+
+  /**
+   * Construct a new immutable {@code ConfigChange} instance.
+   * @param prevValue The value for the {@code prevValue} attribute
+   * @param newValue The value for the {@code newValue} attribute
+   * @return An immutable ConfigChange instance
+   */
+  public static ImmutableConfigChange of(@Nullable String prevValue, @Nullable String newValue) {
+    return new ImmutableConfigChange(prevValue, newValue);
+  }
+}
@@ -0,0 +1,151 @@
+package com.facebook.buck.core.build.context;
+
+import com.facebook.buck.core.sourcepath.resolver.SourcePathResolverAdapter;
+import com.facebook.buck.event.BuckEventBus;
+import com.facebook.buck.jvm.core.JavaPackageFinder;
+import com.google.common.base.MoreObjects;
+import com.google.common.primitives.Booleans;
+import com.google.errorprone.annotations.Var;
+import java.nio.file.Path;
+import java.util.Objects;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import org.immutables.value.Generated;
+
+/**
+ * Immutable implementation of {@link BuildContext}.
+ * <p>
+ * Use the static factory method to create immutable instances:
+ * {@code ImmutableBuildContext.of()}.
+ */
+@Generated(from = "BuildContext", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+final class ImmutableBuildContext extends BuildContext {
+  private final SourcePathResolverAdapter sourcePathResolver;
+  private final Path buildCellRootPath;
+  private final JavaPackageFinder javaPackageFinder;
+  private final BuckEventBus eventBus;
+  private final boolean shouldDeleteTemporaries;
+
+  private ImmutableBuildContext(
+      SourcePathResolverAdapter sourcePathResolver,
+      Path buildCellRootPath,
+      JavaPackageFinder javaPackageFinder,
+      BuckEventBus eventBus,
+      boolean shouldDeleteTemporaries) {
+    this.sourcePathResolver = Objects.requireNonNull(sourcePathResolver, "sourcePathResolver");
+    this.buildCellRootPath = Objects.requireNonNull(buildCellRootPath, "buildCellRootPath");
+    this.javaPackageFinder = Objects.requireNonNull(javaPackageFinder, "javaPackageFinder");
+    this.eventBus = Objects.requireNonNull(eventBus, "eventBus");
+    this.shouldDeleteTemporaries = shouldDeleteTemporaries;
+  }
+
+  /**
+   * @return The value of the {@code sourcePathResolver} attribute
+   */
+  @Override
+  public SourcePathResolverAdapter getSourcePathResolver() {
+    return sourcePathResolver;
+  }
+
+  /**
+   * @return The value of the {@code buildCellRootPath} attribute
+   */
+  @Override
+  public Path getBuildCellRootPath() {
+    return buildCellRootPath;
+  }
+
+  /**
+   * @return The value of the {@code javaPackageFinder} attribute
+   */
+  @Override
+  public JavaPackageFinder getJavaPackageFinder() {
+    return javaPackageFinder;
+  }
+
+  /**
+   * @return The value of the {@code eventBus} attribute
+   */
+  @Override
+  public BuckEventBus getEventBus() {
+    return eventBus;
+  }
+
+  /**
+   * @return The value of the {@code shouldDeleteTemporaries} attribute
+   */
+  @Override
+  public boolean getShouldDeleteTemporaries() {
+    return shouldDeleteTemporaries;
+  }
+
+  /**
+   * This instance is equal to all instances of {@code ImmutableBuildContext} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof ImmutableBuildContext
+        && equalTo((ImmutableBuildContext) another);
+  }
+
+  private boolean equalTo(ImmutableBuildContext another) {
+    return sourcePathResolver.equals(another.sourcePathResolver)
+        && buildCellRootPath.equals(another.buildCellRootPath)
+        && javaPackageFinder.equals(another.javaPackageFinder)
+        && eventBus.equals(another.eventBus)
+        && shouldDeleteTemporaries == another.shouldDeleteTemporaries;
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code sourcePathResolver}, {@code buildCellRootPath}, {@code javaPackageFinder}, {@code eventBus}, {@code shouldDeleteTemporaries}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    @Var int h = 5381;
+    h += (h << 5) + sourcePathResolver.hashCode();
+    h += (h << 5) + buildCellRootPath.hashCode();
+    h += (h << 5) + javaPackageFinder.hashCode();
+    h += (h << 5) + eventBus.hashCode();
+    h += (h << 5) + Booleans.hashCode(shouldDeleteTemporaries);
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code BuildContext} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("BuildContext")
+        .omitNullValues()
+        .add("sourcePathResolver", sourcePathResolver)
+        .add("buildCellRootPath", buildCellRootPath)
+        .add("javaPackageFinder", javaPackageFinder)
+        .add("eventBus", eventBus)
+        .add("shouldDeleteTemporaries", shouldDeleteTemporaries)
+        .toString();
+  }
+
+  /**
+   * Construct a new immutable {@code BuildContext} instance.
+   * @param sourcePathResolver The value for the {@code sourcePathResolver} attribute
+   * @param buildCellRootPath The value for the {@code buildCellRootPath} attribute
+   * @param javaPackageFinder The value for the {@code javaPackageFinder} attribute
+   * @param eventBus The value for the {@code eventBus} attribute
+   * @param shouldDeleteTemporaries The value for the {@code shouldDeleteTemporaries} attribute
+   * @return An immutable BuildContext instance
+   */
+  public static ImmutableBuildContext of(SourcePathResolverAdapter sourcePathResolver, Path buildCellRootPath, JavaPackageFinder javaPackageFinder, BuckEventBus eventBus, boolean shouldDeleteTemporaries) {
+    return new ImmutableBuildContext(sourcePathResolver, buildCellRootPath, javaPackageFinder, eventBus, shouldDeleteTemporaries);
+  }
+}
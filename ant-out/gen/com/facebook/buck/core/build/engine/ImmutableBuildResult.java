@@ -0,0 +1,388 @@
+package com.facebook.buck.core.build.engine;
+
+import com.facebook.buck.artifact_cache.CacheResult;
+import com.facebook.buck.core.rules.BuildRule;
+import com.google.common.base.MoreObjects;
+import com.google.errorprone.annotations.CanIgnoreReturnValue;
+import com.google.errorprone.annotations.Var;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+import org.immutables.value.Generated;
+
+/**
+ * Immutable implementation of {@link BuildResult}.
+ * <p>
+ * Use the builder to create immutable instances:
+ * {@code new BuildResult.Builder()}.
+ */
+@Generated(from = "BuildResult", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+final class ImmutableBuildResult extends BuildResult {
+  private final BuildRule rule;
+  private final BuildRuleStatus status;
+  private final @Nullable CacheResult cacheResult;
+  private final @Nullable BuildRuleSuccessType successOptional;
+  private final @Nullable String strategyResult;
+  private final @Nullable Throwable failureOptional;
+  private final @Nullable Set<String> depsWithCacheMisses;
+
+  private ImmutableBuildResult(ImmutableBuildResult.Builder builder) {
+    this.rule = builder.rule;
+    this.status = builder.status;
+    this.cacheResult = builder.cacheResult;
+    this.successOptional = builder.successOptional;
+    this.strategyResult = builder.strategyResult;
+    this.failureOptional = builder.failureOptional;
+    this.depsWithCacheMisses = builder.depsWithCacheMisses;
+  }
+
+  /**
+   * @return The value of the {@code rule} attribute
+   */
+  @Override
+  public BuildRule getRule() {
+    return rule;
+  }
+
+  /**
+   * @return The value of the {@code status} attribute
+   */
+  @Override
+  public BuildRuleStatus getStatus() {
+    return status;
+  }
+
+  /**
+   * @return The value of the {@code cacheResult} attribute
+   */
+  @Override
+  public Optional<CacheResult> getCacheResult() {
+    return Optional.ofNullable(cacheResult);
+  }
+
+  /**
+   * @return The value of the {@code successOptional} attribute
+   */
+  @Override
+  public Optional<BuildRuleSuccessType> getSuccessOptional() {
+    return Optional.ofNullable(successOptional);
+  }
+
+  /**
+   * @return The value of the {@code strategyResult} attribute
+   */
+  @Override
+  public Optional<String> getStrategyResult() {
+    return Optional.ofNullable(strategyResult);
+  }
+
+  /**
+   * @return The value of the {@code failureOptional} attribute
+   */
+  @Override
+  public Optional<Throwable> getFailureOptional() {
+    return Optional.ofNullable(failureOptional);
+  }
+
+  /**
+   * @return The value of the {@code depsWithCacheMisses} attribute
+   */
+  @Override
+  public Optional<Set<String>> getDepsWithCacheMisses() {
+    return Optional.ofNullable(depsWithCacheMisses);
+  }
+
+  /**
+   * This instance is equal to all instances of {@code ImmutableBuildResult} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof ImmutableBuildResult
+        && equalTo((ImmutableBuildResult) another);
+  }
+
+  private boolean equalTo(ImmutableBuildResult another) {
+    return rule.equals(another.rule)
+        && status.equals(another.status)
+        && Objects.equals(cacheResult, another.cacheResult)
+        && Objects.equals(successOptional, another.successOptional)
+        && Objects.equals(strategyResult, another.strategyResult)
+        && Objects.equals(failureOptional, another.failureOptional)
+        && Objects.equals(depsWithCacheMisses, another.depsWithCacheMisses);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code rule}, {@code status}, {@code cacheResult}, {@code successOptional}, {@code strategyResult}, {@code failureOptional}, {@code depsWithCacheMisses}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    @Var int h = 5381;
+    h += (h << 5) + rule.hashCode();
+    h += (h << 5) + status.hashCode();
+    h += (h << 5) + Objects.hashCode(cacheResult);
+    h += (h << 5) + Objects.hashCode(successOptional);
+    h += (h << 5) + Objects.hashCode(strategyResult);
+    h += (h << 5) + Objects.hashCode(failureOptional);
+    h += (h << 5) + Objects.hashCode(depsWithCacheMisses);
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code BuildResult} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("BuildResult")
+        .omitNullValues()
+        .add("rule", rule)
+        .add("status", status)
+        .add("cacheResult", cacheResult)
+        .add("successOptional", successOptional)
+        .add("strategyResult", strategyResult)
+        .add("failureOptional", failureOptional)
+        .add("depsWithCacheMisses", depsWithCacheMisses)
+        .toString();
+  }
+
+
+  private static ImmutableBuildResult validate(ImmutableBuildResult instance) {
+    instance.check();
+    return instance;
+  }
+
+  /**
+   * Builds instances of type {@link BuildResult BuildResult}.
+   * Initialize attributes and then invoke the {@link #build()} method to create an
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread-safe and generally should not be stored in a field or collection,
+   * but instead used immediately to create instances.</em>
+   */
+  @Generated(from = "BuildResult", generator = "Immutables")
+  @NotThreadSafe
+  public static class Builder {
+    private static final long INIT_BIT_RULE = 0x1L;
+    private static final long INIT_BIT_STATUS = 0x2L;
+    private long initBits = 0x3L;
+
+    private @Nullable BuildRule rule;
+    private @Nullable BuildRuleStatus status;
+    private @Nullable CacheResult cacheResult;
+    private @Nullable BuildRuleSuccessType successOptional;
+    private @Nullable String strategyResult;
+    private @Nullable Throwable failureOptional;
+    private @Nullable Set<String> depsWithCacheMisses;
+
+    /**
+     * Creates a builder for {@link BuildResult BuildResult} instances.
+     */
+    public Builder() {
+      if (!(this instanceof BuildResult.Builder)) {
+        throw new UnsupportedOperationException("Use: new BuildResult.Builder()");
+      }
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code BuildResult} instance.
+     * Regular attribute values will be replaced with those from the given instance.
+     * Absent optional values will not replace present values.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final BuildResult.Builder from(BuildResult instance) {
+      Objects.requireNonNull(instance, "instance");
+      setRule(instance.getRule());
+      setStatus(instance.getStatus());
+      Optional<CacheResult> cacheResultOptional = instance.getCacheResult();
+      if (cacheResultOptional.isPresent()) {
+        setCacheResult(cacheResultOptional);
+      }
+      Optional<BuildRuleSuccessType> successOptionalOptional = instance.getSuccessOptional();
+      if (successOptionalOptional.isPresent()) {
+        setSuccessOptional(successOptionalOptional);
+      }
+      Optional<String> strategyResultOptional = instance.getStrategyResult();
+      if (strategyResultOptional.isPresent()) {
+        setStrategyResult(strategyResultOptional);
+      }
+      Optional<Throwable> failureOptionalOptional = instance.getFailureOptional();
+      if (failureOptionalOptional.isPresent()) {
+        setFailureOptional(failureOptionalOptional);
+      }
+      Optional<Set<String>> depsWithCacheMissesOptional = instance.getDepsWithCacheMisses();
+      if (depsWithCacheMissesOptional.isPresent()) {
+        setDepsWithCacheMisses(depsWithCacheMissesOptional);
+      }
+      return (BuildResult.Builder) this;
+    }
+
+    /**
+     * Initializes the value for the {@link BuildResult#getRule() rule} attribute.
+     * @param rule The value for rule 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final BuildResult.Builder setRule(BuildRule rule) {
+      this.rule = Objects.requireNonNull(rule, "rule");
+      initBits &= ~INIT_BIT_RULE;
+      return (BuildResult.Builder) this;
+    }
+
+    /**
+     * Initializes the value for the {@link BuildResult#getStatus() status} attribute.
+     * @param status The value for status 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final BuildResult.Builder setStatus(BuildRuleStatus status) {
+      this.status = Objects.requireNonNull(status, "status");
+      initBits &= ~INIT_BIT_STATUS;
+      return (BuildResult.Builder) this;
+    }
+
+    /**
+     * Initializes the optional value {@link BuildResult#getCacheResult() cacheResult} to cacheResult.
+     * @param cacheResult The value for cacheResult
+     * @return {@code this} builder for chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final BuildResult.Builder setCacheResult(CacheResult cacheResult) {
+      this.cacheResult = Objects.requireNonNull(cacheResult, "cacheResult");
+      return (BuildResult.Builder) this;
+    }
+
+    /**
+     * Initializes the optional value {@link BuildResult#getCacheResult() cacheResult} to cacheResult.
+     * @param cacheResult The value for cacheResult
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final BuildResult.Builder setCacheResult(Optional<? extends CacheResult> cacheResult) {
+      this.cacheResult = cacheResult.orElse(null);
+      return (BuildResult.Builder) this;
+    }
+
+    /**
+     * Initializes the optional value {@link BuildResult#getSuccessOptional() successOptional} to successOptional.
+     * @param successOptional The value for successOptional
+     * @return {@code this} builder for chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final BuildResult.Builder setSuccessOptional(BuildRuleSuccessType successOptional) {
+      this.successOptional = Objects.requireNonNull(successOptional, "successOptional");
+      return (BuildResult.Builder) this;
+    }
+
+    /**
+     * Initializes the optional value {@link BuildResult#getSuccessOptional() successOptional} to successOptional.
+     * @param successOptional The value for successOptional
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final BuildResult.Builder setSuccessOptional(Optional<? extends BuildRuleSuccessType> successOptional) {
+      this.successOptional = successOptional.orElse(null);
+      return (BuildResult.Builder) this;
+    }
+
+    /**
+     * Initializes the optional value {@link BuildResult#getStrategyResult() strategyResult} to strategyResult.
+     * @param strategyResult The value for strategyResult
+     * @return {@code this} builder for chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final BuildResult.Builder setStrategyResult(String strategyResult) {
+      this.strategyResult = Objects.requireNonNull(strategyResult, "strategyResult");
+      return (BuildResult.Builder) this;
+    }
+
+    /**
+     * Initializes the optional value {@link BuildResult#getStrategyResult() strategyResult} to strategyResult.
+     * @param strategyResult The value for strategyResult
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final BuildResult.Builder setStrategyResult(Optional<String> strategyResult) {
+      this.strategyResult = strategyResult.orElse(null);
+      return (BuildResult.Builder) this;
+    }
+
+    /**
+     * Initializes the optional value {@link BuildResult#getFailureOptional() failureOptional} to failureOptional.
+     * @param failureOptional The value for failureOptional
+     * @return {@code this} builder for chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final BuildResult.Builder setFailureOptional(Throwable failureOptional) {
+      this.failureOptional = Objects.requireNonNull(failureOptional, "failureOptional");
+      return (BuildResult.Builder) this;
+    }
+
+    /**
+     * Initializes the optional value {@link BuildResult#getFailureOptional() failureOptional} to failureOptional.
+     * @param failureOptional The value for failureOptional
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final BuildResult.Builder setFailureOptional(Optional<? extends Throwable> failureOptional) {
+      this.failureOptional = failureOptional.orElse(null);
+      return (BuildResult.Builder) this;
+    }
+
+    /**
+     * Initializes the optional value {@link BuildResult#getDepsWithCacheMisses() depsWithCacheMisses} to depsWithCacheMisses.
+     * @param depsWithCacheMisses The value for depsWithCacheMisses
+     * @return {@code this} builder for chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final BuildResult.Builder setDepsWithCacheMisses(Set<String> depsWithCacheMisses) {
+      this.depsWithCacheMisses = Objects.requireNonNull(depsWithCacheMisses, "depsWithCacheMisses");
+      return (BuildResult.Builder) this;
+    }
+
+    /**
+     * Initializes the optional value {@link BuildResult#getDepsWithCacheMisses() depsWithCacheMisses} to depsWithCacheMisses.
+     * @param depsWithCacheMisses The value for depsWithCacheMisses
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final BuildResult.Builder setDepsWithCacheMisses(Optional<? extends Set<String>> depsWithCacheMisses) {
+      this.depsWithCacheMisses = depsWithCacheMisses.orElse(null);
+      return (BuildResult.Builder) this;
+    }
+
+    /**
+     * Builds a new {@link BuildResult BuildResult}.
+     * @return An immutable instance of BuildResult
+     * @throws java.lang.IllegalStateException if any required attributes are missing
+     */
+    public BuildResult build() {
+      if (initBits != 0) {
+        throw new IllegalStateException(formatRequiredAttributesMessage());
+      }
+      return ImmutableBuildResult.validate(new ImmutableBuildResult(this));
+    }
+
+    private String formatRequiredAttributesMessage() {
+      List<String> attributes = new ArrayList<>();
+      if ((initBits & INIT_BIT_RULE) != 0) attributes.add("rule");
+      if ((initBits & INIT_BIT_STATUS) != 0) attributes.add("status");
+      return "Cannot build BuildResult, some of required attributes are not set " + attributes;
+    }
+  }
+}
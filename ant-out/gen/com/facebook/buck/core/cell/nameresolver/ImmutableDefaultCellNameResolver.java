@@ -0,0 +1,90 @@
+package com.facebook.buck.core.cell.nameresolver;
+
+import com.facebook.buck.core.cell.name.CanonicalCellName;
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.ImmutableMap;
+import com.google.errorprone.annotations.Var;
+import java.util.Map;
+import java.util.Optional;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import org.immutables.value.Generated;
+
+/**
+ * Immutable implementation of {@link DefaultCellNameResolver}.
+ * <p>
+ * Use the static factory method to create immutable instances:
+ * {@code ImmutableDefaultCellNameResolver.of()}.
+ */
+@Generated(from = "DefaultCellNameResolver", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+final class ImmutableDefaultCellNameResolver
+    extends DefaultCellNameResolver {
+  private final ImmutableMap<Optional<String>, CanonicalCellName> knownCells;
+
+  private ImmutableDefaultCellNameResolver(
+      Map<? extends Optional<String>, ? extends CanonicalCellName> knownCells) {
+    this.knownCells = ImmutableMap.copyOf(knownCells);
+  }
+
+  /**
+   * @return The value of the {@code knownCells} attribute
+   */
+  @Override
+  public ImmutableMap<Optional<String>, CanonicalCellName> getKnownCells() {
+    return knownCells;
+  }
+
+  /**
+   * This instance is equal to all instances of {@code ImmutableDefaultCellNameResolver} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof ImmutableDefaultCellNameResolver
+        && equalTo((ImmutableDefaultCellNameResolver) another);
+  }
+
+  private boolean equalTo(ImmutableDefaultCellNameResolver another) {
+    return knownCells.equals(another.knownCells);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code knownCells}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    @Var int h = 5381;
+    h += (h << 5) + knownCells.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code DefaultCellNameResolver} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("DefaultCellNameResolver")
+        .omitNullValues()
+        .add("knownCells", knownCells)
+        .toString();
+  }
+
+  /**
+   * Construct a new immutable {@code DefaultCellNameResolver} instance.
+   * @param knownCells The value for the {@code knownCells} attribute
+   * @return An immutable DefaultCellNameResolver instance
+   */
+  public static ImmutableDefaultCellNameResolver of(Map<? extends Optional<String>, ? extends CanonicalCellName> knownCells) {
+    return new ImmutableDefaultCellNameResolver(knownCells);
+  }
+}
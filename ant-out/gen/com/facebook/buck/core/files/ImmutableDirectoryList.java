@@ -0,0 +1,118 @@
+package com.facebook.buck.core.files;
+
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.ImmutableSortedSet;
+import com.google.errorprone.annotations.Var;
+import java.nio.file.Path;
+import java.util.Objects;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import org.immutables.value.Generated;
+
+/**
+ * Immutable implementation of {@link DirectoryList}.
+ * <p>
+ * Use the static factory method to create immutable instances:
+ * {@code ImmutableDirectoryList.of()}.
+ */
+@Generated(from = "DirectoryList", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+final class ImmutableDirectoryList extends DirectoryList {
+  private final ImmutableSortedSet<Path> files;
+  private final ImmutableSortedSet<Path> directories;
+  private final ImmutableSortedSet<Path> symlinks;
+
+  private ImmutableDirectoryList(
+      ImmutableSortedSet<Path> files,
+      ImmutableSortedSet<Path> directories,
+      ImmutableSortedSet<Path> symlinks) {
+    this.files = Objects.requireNonNull(files, "files");
+    this.directories = Objects.requireNonNull(directories, "directories");
+    this.symlinks = Objects.requireNonNull(symlinks, "symlinks");
+  }
+
+  /**
+   * @return The value of the {@code files} attribute
+   */
+  @Override
+  public ImmutableSortedSet<Path> getFiles() {
+    return files;
+  }
+
+  /**
+   * @return The value of the {@code directories} attribute
+   */
+  @Override
+  public ImmutableSortedSet<Path> getDirectories() {
+    return directories;
+  }
+
+  /**
+   * @return The value of the {@code symlinks} attribute
+   */
+  @Override
+  public ImmutableSortedSet<Path> getSymlinks() {
+    return symlinks;
+  }
+
+  /**
+   * This instance is equal to all instances of {@code ImmutableDirectoryList} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof ImmutableDirectoryList
+        && equalTo((ImmutableDirectoryList) another);
+  }
+
+  private boolean equalTo(ImmutableDirectoryList another) {
+    return files.equals(another.files)
+        && directories.equals(another.directories)
+        && symlinks.equals(another.symlinks);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code files}, {@code directories}, {@code symlinks}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    @Var int h = 5381;
+    h += (h << 5) + files.hashCode();
+    h += (h << 5) + directories.hashCode();
+    h += (h << 5) + symlinks.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code DirectoryList} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("DirectoryList")
+        .omitNullValues()
+        .add("files", files)
+        .add("directories", directories)
+        .add("symlinks", symlinks)
+        .toString();
+  }
+
+  /**
+   * Construct a new immutable {@code DirectoryList} instance.
+   * @param files The value for the {@code files} attribute
+   * @param directories The value for the {@code directories} attribute
+   * @param symlinks The value for the {@code symlinks} attribute
+   * @return An immutable DirectoryList instance
+   */
+  public static ImmutableDirectoryList of(ImmutableSortedSet<Path> files, ImmutableSortedSet<Path> directories, ImmutableSortedSet<Path> symlinks) {
+    return new ImmutableDirectoryList(files, directories, symlinks);
+  }
+}
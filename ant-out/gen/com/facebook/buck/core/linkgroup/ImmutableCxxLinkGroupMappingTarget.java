@@ -0,0 +1,121 @@
+package com.facebook.buck.core.linkgroup;
+
+import com.facebook.buck.core.model.BuildTarget;
+import com.google.common.base.MoreObjects;
+import com.google.errorprone.annotations.Var;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.regex.Pattern;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import org.immutables.value.Generated;
+
+/**
+ * Immutable implementation of {@link CxxLinkGroupMappingTarget}.
+ * <p>
+ * Use the static factory method to create immutable instances:
+ * {@code ImmutableCxxLinkGroupMappingTarget.of()}.
+ */
+@Generated(from = "CxxLinkGroupMappingTarget", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+final class ImmutableCxxLinkGroupMappingTarget
+    extends CxxLinkGroupMappingTarget {
+  private final BuildTarget buildTarget;
+  private final CxxLinkGroupMappingTarget.Traversal traversal;
+  private final @Nullable Pattern labelPattern;
+
+  @SuppressWarnings("unchecked") // safe covariant cast
+  private ImmutableCxxLinkGroupMappingTarget(
+      BuildTarget buildTarget,
+      CxxLinkGroupMappingTarget.Traversal traversal,
+      Optional<? extends Pattern> labelPattern) {
+    this.buildTarget = Objects.requireNonNull(buildTarget, "buildTarget");
+    this.traversal = Objects.requireNonNull(traversal, "traversal");
+    this.labelPattern = labelPattern.orElse(null);
+  }
+
+  /**
+   * @return The value of the {@code buildTarget} attribute
+   */
+  @Override
+  public BuildTarget getBuildTarget() {
+    return buildTarget;
+  }
+
+  /**
+   * @return The value of the {@code traversal} attribute
+   */
+  @Override
+  public CxxLinkGroupMappingTarget.Traversal getTraversal() {
+    return traversal;
+  }
+
+  /**
+   * @return The value of the {@code labelPattern} attribute
+   */
+  @Override
+  public Optional<Pattern> getLabelPattern() {
+    return Optional.ofNullable(labelPattern);
+  }
+
+  /**
+   * This instance is equal to all instances of {@code ImmutableCxxLinkGroupMappingTarget} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof ImmutableCxxLinkGroupMappingTarget
+        && equalTo((ImmutableCxxLinkGroupMappingTarget) another);
+  }
+
+  private boolean equalTo(ImmutableCxxLinkGroupMappingTarget another) {
+    return buildTarget.equals(another.buildTarget)
+        && traversal.equals(another.traversal)
+        && Objects.equals(labelPattern, another.labelPattern);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code buildTarget}, {@code traversal}, {@code labelPattern}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    @Var int h = 5381;
+    h += (h << 5) + buildTarget.hashCode();
+    h += (h << 5) + traversal.hashCode();
+    h += (h << 5) + Objects.hashCode(labelPattern);
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code CxxLinkGroupMappingTarget} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("CxxLinkGroupMappingTarget")
+        .omitNullValues()
+        .add("buildTarget", buildTarget)
+        .add("traversal", traversal)
+        .add("labelPattern", labelPattern)
+        .toString();
+  }
+
+  /**
+   * Construct a new immutable {@code CxxLinkGroupMappingTarget} instance.
+   * @param buildTarget The value for the {@code buildTarget} attribute
+   * @param traversal The value for the {@code traversal} attribute
+   * @param labelPattern The value for the {@code labelPattern} attribute
+   * @return An immutable CxxLinkGroupMappingTarget instance
+   */
+  public static ImmutableCxxLinkGroupMappingTarget of(BuildTarget buildTarget, CxxLinkGroupMappingTarget.Traversal traversal, Optional<? extends Pattern> labelPattern) {
+    return new ImmutableCxxLinkGroupMappingTarget(buildTarget, traversal, labelPattern);
+  }
+}
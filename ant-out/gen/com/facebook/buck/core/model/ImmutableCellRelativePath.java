@@ -0,0 +1,89 @@
+package com.facebook.buck.core.model;
+
+import com.facebook.buck.core.cell.name.CanonicalCellName;
+import com.facebook.buck.core.path.ForwardRelativePath;
+import com.google.errorprone.annotations.Var;
+import java.util.Objects;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import org.immutables.value.Generated;
+
+/**
+ * Immutable implementation of {@link CellRelativePath}.
+ * <p>
+ * Use the static factory method to create immutable instances:
+ * {@code ImmutableCellRelativePath.of()}.
+ */
+@Generated(from = "CellRelativePath", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+final class ImmutableCellRelativePath extends CellRelativePath {
+  private final CanonicalCellName cellName;
+  private final ForwardRelativePath path;
+
+  private ImmutableCellRelativePath(
+      CanonicalCellName cellName,
+      ForwardRelativePath path) {
+    this.cellName = Objects.requireNonNull(cellName, "cellName");
+    this.path = Objects.requireNonNull(path, "path");
+  }
+
+  /**
+   * @return The value of the {@code cellName} attribute
+   */
+  @Override
+  public CanonicalCellName getCellName() {
+    return cellName;
+  }
+
+  /**
+   * @return The value of the {@code path} attribute
+   */
+  @Override
+  public ForwardRelativePath getPath() {
+    return path;
+  }
+
+  /**
+   * This instance is equal to all instances of {@code ImmutableCellRelativePath} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof ImmutableCellRelativePath
+        && equalTo((ImmutableCellRelativePath) another);
+  }
+
+  private boolean equalTo(ImmutableCellRelativePath another) {
+    return cellName.equals(another.cellName)
+        && path.equals(another.path);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code cellName}, {@code path}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    @Var int h = 5381;
+    h += (h << 5) + cellName.hashCode();
+    h += (h << 5) + path.hashCode();
+    return h;
+  }
+
+  /**
+   * Construct a new immutable {@code CellRelativePath} instance.
+   * @param cellName The value for the {@code cellName} attribute
+   * @param path The value for the {@code path} attribute
+   * @return An immutable CellRelativePath instance
+   */
+  public static ImmutableCellRelativePath of(CanonicalCellName cellName, ForwardRelativePath path) {
+    return new ImmutableCellRelativePath(cellName, path);
+  }
+}
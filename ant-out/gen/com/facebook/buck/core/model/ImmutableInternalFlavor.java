@@ -0,0 +1,98 @@
+package com.facebook.buck.core.model;
+
+import com.fasterxml.jackson.annotation.JsonAutoDetect;
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import java.util.Objects;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import org.immutables.value.Generated;
+
+/**
+ * Immutable implementation of {@link InternalFlavor}.
+ * <p>
+ * Use the static factory method to create immutable instances:
+ * {@code ImmutableInternalFlavor.of()}.
+ */
+@Generated(from = "InternalFlavor", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+final class ImmutableInternalFlavor extends InternalFlavor {
+  private final String name;
+  private transient final int hashCode;
+
+  private ImmutableInternalFlavor(String name) {
+    this.name = Objects.requireNonNull(name, "name");
+    this.hashCode = super.hashCode();
+  }
+
+  /**
+   * @return The value of the {@code name} attribute
+   */
+  @JsonProperty("name")
+  @Override
+  public String getName() {
+    return name;
+  }
+
+  /**
+   * Returns the precomputed-on-construction hash code from the supertype implementation of {@code super.hashCode()}.
+   * @return The hashCode value
+   */
+  @Override
+  public int hashCode() {
+    return hashCode;
+  }
+
+  /**
+   * Utility type used to correctly read immutable object from JSON representation.
+   * @deprecated Do not use this type directly, it exists only for the <em>Jackson</em>-binding infrastructure
+   */
+  @Generated(from = "InternalFlavor", generator = "Immutables")
+  @Deprecated
+  @SuppressWarnings("Immutable")
+  @JsonDeserialize
+  @JsonAutoDetect(fieldVisibility = JsonAutoDetect.Visibility.NONE)
+  static final class Json extends InternalFlavor {
+    @Nullable String name;
+    @JsonProperty("name")
+    public void setName(String name) {
+      this.name = name;
+    }
+    @Override
+    public String getName() { throw new UnsupportedOperationException(); }
+  }
+
+  /**
+   * @param json A JSON-bindable data structure
+   * @return An immutable value type
+   * @deprecated Do not use this method directly, it exists only for the <em>Jackson</em>-binding infrastructure
+   */
+  @Deprecated
+  @JsonCreator(mode = JsonCreator.Mode.DELEGATING)
+  static ImmutableInternalFlavor fromJson(Json json) {
+    ImmutableInternalFlavor instance = ImmutableInternalFlavor.of(json.name);
+    return instance;
+  }
+
+  /**
+   * Construct a new immutable {@code InternalFlavor} instance.
+   * @param name The value for the {@code name} attribute
+   * @return An immutable InternalFlavor instance
+   */
+  public static ImmutableInternalFlavor of(String name) {
+    return validate(new ImmutableInternalFlavor(name));
+  }
+
+
+  private static ImmutableInternalFlavor validate(ImmutableInternalFlavor instance) {
+    instance.check();
+    return instance;
+  }
+}
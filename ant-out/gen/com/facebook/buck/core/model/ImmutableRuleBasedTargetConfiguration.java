@@ -0,0 +1,86 @@
+package com.facebook.buck.core.model;
+
+import com.google.errorprone.annotations.Var;
+import java.util.Objects;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import org.immutables.value.Generated;
+
+/**
+ * Immutable implementation of {@link RuleBasedTargetConfiguration}.
+ * <p>
+ * Use the static factory method to create immutable instances:
+ * {@code ImmutableRuleBasedTargetConfiguration.of()}.
+ */
+@Generated(from = "RuleBasedTargetConfiguration", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+final class ImmutableRuleBasedTargetConfiguration
+    extends RuleBasedTargetConfiguration {
+  private final BuildTarget targetPlatform;
+  private transient final int hashCode;
+
+  private ImmutableRuleBasedTargetConfiguration(BuildTarget targetPlatform) {
+    this.targetPlatform = Objects.requireNonNull(targetPlatform, "targetPlatform");
+    this.hashCode = computeHashCode();
+  }
+
+  /**
+   * @return The value of the {@code targetPlatform} attribute
+   */
+  @Override
+  public BuildTarget getTargetPlatform() {
+    return targetPlatform;
+  }
+
+  /**
+   * This instance is equal to all instances of {@code ImmutableRuleBasedTargetConfiguration} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof ImmutableRuleBasedTargetConfiguration
+        && equalTo((ImmutableRuleBasedTargetConfiguration) another);
+  }
+
+  private boolean equalTo(ImmutableRuleBasedTargetConfiguration another) {
+    if (hashCode != another.hashCode) return false;
+    return targetPlatform.equals(another.targetPlatform);
+  }
+
+  /**
+   * Returns a precomputed-on-construction hash code from attributes: {@code targetPlatform}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    return hashCode;
+  }
+
+  private int computeHashCode() {
+    @Var int h = 5381;
+    h += (h << 5) + targetPlatform.hashCode();
+    return h;
+  }
+
+  /**
+   * Construct a new immutable {@code RuleBasedTargetConfiguration} instance.
+   * @param targetPlatform The value for the {@code targetPlatform} attribute
+   * @return An immutable RuleBasedTargetConfiguration instance
+   */
+  public static ImmutableRuleBasedTargetConfiguration of(BuildTarget targetPlatform) {
+    return validate(new ImmutableRuleBasedTargetConfiguration(targetPlatform));
+  }
+
+
+  private static ImmutableRuleBasedTargetConfiguration validate(ImmutableRuleBasedTargetConfiguration instance) {
+    instance.check();
+    return instance;
+  }
+}
@@ -0,0 +1,245 @@
+package com.facebook.buck.core.model;
+
+import com.fasterxml.jackson.annotation.JsonAutoDetect;
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.google.common.collect.Interner;
+import com.google.common.collect.Interners;
+import com.google.common.primitives.Booleans;
+import com.google.errorprone.annotations.Var;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import org.immutables.value.Generated;
+
+/**
+ * Immutable implementation of {@link RuleType}.
+ * <p>
+ * Use the static factory method to create immutable instances:
+ * {@code ImmutableRuleType.of()}.
+ */
+@Generated(from = "RuleType", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+final class ImmutableRuleType extends RuleType {
+  private final String name;
+  private final RuleType.Kind kind;
+  private transient final boolean testRule;
+  private transient final boolean buildRule;
+
+  private ImmutableRuleType(String name, RuleType.Kind kind) {
+    this.name = Objects.requireNonNull(name, "name");
+    this.kind = Objects.requireNonNull(kind, "kind");
+    this.testRule = initShim.isTestRule();
+    this.buildRule = initShim.isBuildRule();
+    this.initShim = null;
+  }
+
+  private static final byte STAGE_INITIALIZING = -1;
+  private static final byte STAGE_UNINITIALIZED = 0;
+  private static final byte STAGE_INITIALIZED = 1;
+  @SuppressWarnings("Immutable")
+  private transient volatile InitShim initShim = new InitShim();
+
+  @Generated(from = "RuleType", generator = "Immutables")
+  private final class InitShim {
+    private byte testRuleBuildStage = STAGE_UNINITIALIZED;
+    private boolean testRule;
+
+    boolean isTestRule() {
+      if (testRuleBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (testRuleBuildStage == STAGE_UNINITIALIZED) {
+        testRuleBuildStage = STAGE_INITIALIZING;
+        this.testRule = ImmutableRuleType.super.isTestRule();
+        testRuleBuildStage = STAGE_INITIALIZED;
+      }
+      return this.testRule;
+    }
+
+    private byte buildRuleBuildStage = STAGE_UNINITIALIZED;
+    private boolean buildRule;
+
+    boolean isBuildRule() {
+      if (buildRuleBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (buildRuleBuildStage == STAGE_UNINITIALIZED) {
+        buildRuleBuildStage = STAGE_INITIALIZING;
+        this.buildRule = ImmutableRuleType.super.isBuildRule();
+        buildRuleBuildStage = STAGE_INITIALIZED;
+      }
+      return this.buildRule;
+    }
+
+    private String formatInitCycleMessage() {
+      List<String> attributes = new ArrayList<>();
+      if (testRuleBuildStage == STAGE_INITIALIZING) attributes.add("testRule");
+      if (buildRuleBuildStage == STAGE_INITIALIZING) attributes.add("buildRule");
+      return "Cannot build RuleType, attribute initializers form cycle " + attributes;
+    }
+  }
+
+  /**
+   * @return The value of the {@code name} attribute
+   */
+  @JsonProperty("name")
+  @Override
+  public String getName() {
+    return name;
+  }
+
+  /**
+   * @return The value of the {@code kind} attribute
+   */
+  @JsonProperty("kind")
+  @Override
+  public RuleType.Kind getKind() {
+    return kind;
+  }
+
+  /**
+   * @return The computed-at-construction value of the {@code testRule} attribute
+   */
+  @JsonProperty
+  @JsonIgnore
+  @Override
+  public boolean isTestRule() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.isTestRule()
+        : this.testRule;
+  }
+
+  /**
+   * @return The computed-at-construction value of the {@code buildRule} attribute
+   */
+  @JsonProperty
+  @JsonIgnore
+  @Override
+  public boolean isBuildRule() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.isBuildRule()
+        : this.buildRule;
+  }
+
+  /**
+   * This instance is equal to all instances of {@code ImmutableRuleType} that have equal attribute values.
+   * As instances of the {@code ImmutableRuleType} class are interned, the {@code equals} method is implemented
+   * as an efficient reference equality check.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    return this == another;
+  }
+
+  private boolean equalTo(ImmutableRuleType another) {
+    return name.equals(another.name)
+        && kind.equals(another.kind)
+        && testRule == another.testRule
+        && buildRule == another.buildRule;
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code name}, {@code kind}, {@code testRule}, {@code buildRule}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    @Var int h = 5381;
+    h += (h << 5) + name.hashCode();
+    h += (h << 5) + kind.hashCode();
+    h += (h << 5) + Booleans.hashCode(testRule);
+    h += (h << 5) + Booleans.hashCode(buildRule);
+    return h;
+  }
+
+  /**
+   * Utility type used to correctly read immutable object from JSON representation.
+   * @deprecated Do not use this type directly, it exists only for the <em>Jackson</em>-binding infrastructure
+   */
+  @Generated(from = "RuleType", generator = "Immutables")
+  @Deprecated
+  @SuppressWarnings("Immutable")
+  @JsonDeserialize
+  @JsonAutoDetect(fieldVisibility = JsonAutoDetect.Visibility.NONE)
+  static final class Json extends RuleType {
+    @Nullable String name;
+    @Nullable RuleType.Kind kind;
+    @JsonProperty("name")
+    public void setName(String name) {
+      this.name = name;
+    }
+    @JsonProperty("kind")
+    public void setKind(RuleType.Kind kind) {
+      this.kind = kind;
+    }
+    @Override
+    public String getName() { throw new UnsupportedOperationException(); }
+    @Override
+    public RuleType.Kind getKind() { throw new UnsupportedOperationException(); }
+    @JsonIgnore
+    @Override
+    public boolean isTestRule() { throw new UnsupportedOperationException(); }
+    @JsonIgnore
+    @Override
+    public boolean isBuildRule() { throw new UnsupportedOperationException(); }
+  }
+
+  /**
+   * @param json A JSON-bindable data structure
+   * @return An immutable value type
+   * @deprecated Do not use this method directly, it exists only for the <em>Jackson</em>-binding infrastructure
+   */
+  @Deprecated
+  @JsonCreator(mode = JsonCreator.Mode.DELEGATING)
+  static ImmutableRuleType fromJson(Json json) {
+    ImmutableRuleType instance = ImmutableRuleType.of(json.name, json.kind);
+    return instance;
+  }
+
+  @Generated(from = "RuleType", generator = "Immutables")
+  private static class InternProxy {
+    final ImmutableRuleType instance;
+
+    InternProxy(ImmutableRuleType instance) {
+      this.instance = instance;
+    }
+
+    @Override
+    public boolean equals(@Nullable Object another) {
+      return another != null && instance.equalTo(((InternProxy) another).instance);
+    }
+
+    @Override
+    public int hashCode() {
+      return instance.hashCode();
+    }
+  }
+
+  private static final Interner<InternProxy> INTERNER = Interners.newStrongInterner();
+
+  /**
+   * Construct a new immutable {@code RuleType} instance.
+   * @param name The value for the {@code name} attribute
+   * @param kind The value for the {@code kind} attribute
+   * @return An immutable RuleType instance
+   */
+  public static ImmutableRuleType of(String name, RuleType.Kind kind) {
+    return validate(new ImmutableRuleType(name, kind));
+  }
+
+
+  private static ImmutableRuleType validate(ImmutableRuleType instance) {
+    instance.check();
+    return INTERNER.intern(new InternProxy(instance)).instance;
+  }
+}
@@ -0,0 +1,226 @@
+package com.facebook.buck.core.model.actiongraph.computation;
+
+import com.facebook.buck.core.config.BuckConfig;
+import com.google.common.base.MoreObjects;
+import com.google.common.primitives.Booleans;
+import com.google.errorprone.annotations.Var;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import org.immutables.value.Generated;
+
+/**
+ * Immutable implementation of {@link ActionGraphConfig}.
+ * <p>
+ * Use the static factory method to create immutable instances:
+ * {@code ImmutableActionGraphConfig.of()}.
+ */
+@Generated(from = "ActionGraphConfig", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+final class ImmutableActionGraphConfig
+    extends ActionGraphConfig {
+  private final BuckConfig delegate;
+  private transient final IncrementalActionGraphMode incrementalActionGraphMode;
+  private transient final Map<IncrementalActionGraphMode, Double> incrementalActionGraphExperimentGroups;
+  private transient final boolean actionGraphCheckingEnabled;
+  private transient final boolean skipActionGraphCache;
+
+  private ImmutableActionGraphConfig(BuckConfig delegate) {
+    this.delegate = Objects.requireNonNull(delegate, "delegate");
+    this.incrementalActionGraphMode = initShim.getIncrementalActionGraphMode();
+    this.incrementalActionGraphExperimentGroups = initShim.getIncrementalActionGraphExperimentGroups();
+    this.actionGraphCheckingEnabled = initShim.isActionGraphCheckingEnabled();
+    this.skipActionGraphCache = initShim.isSkipActionGraphCache();
+    this.initShim = null;
+  }
+
+  private static final byte STAGE_INITIALIZING = -1;
+  private static final byte STAGE_UNINITIALIZED = 0;
+  private static final byte STAGE_INITIALIZED = 1;
+  @SuppressWarnings("Immutable")
+  private transient volatile InitShim initShim = new InitShim();
+
+  @Generated(from = "ActionGraphConfig", generator = "Immutables")
+  private final class InitShim {
+    private byte incrementalActionGraphModeBuildStage = STAGE_UNINITIALIZED;
+    private IncrementalActionGraphMode incrementalActionGraphMode;
+
+    IncrementalActionGraphMode getIncrementalActionGraphMode() {
+      if (incrementalActionGraphModeBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (incrementalActionGraphModeBuildStage == STAGE_UNINITIALIZED) {
+        incrementalActionGraphModeBuildStage = STAGE_INITIALIZING;
+        this.incrementalActionGraphMode = Objects.requireNonNull(ImmutableActionGraphConfig.super.getIncrementalActionGraphMode(), "incrementalActionGraphMode");
+        incrementalActionGraphModeBuildStage = STAGE_INITIALIZED;
+      }
+      return this.incrementalActionGraphMode;
+    }
+
+    private byte incrementalActionGraphExperimentGroupsBuildStage = STAGE_UNINITIALIZED;
+    private Map<IncrementalActionGraphMode, Double> incrementalActionGraphExperimentGroups;
+
+    Map<IncrementalActionGraphMode, Double> getIncrementalActionGraphExperimentGroups() {
+      if (incrementalActionGraphExperimentGroupsBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (incrementalActionGraphExperimentGroupsBuildStage == STAGE_UNINITIALIZED) {
+        incrementalActionGraphExperimentGroupsBuildStage = STAGE_INITIALIZING;
+        this.incrementalActionGraphExperimentGroups = Objects.requireNonNull(ImmutableActionGraphConfig.super.getIncrementalActionGraphExperimentGroups(), "incrementalActionGraphExperimentGroups");
+        incrementalActionGraphExperimentGroupsBuildStage = STAGE_INITIALIZED;
+      }
+      return this.incrementalActionGraphExperimentGroups;
+    }
+
+    private byte actionGraphCheckingEnabledBuildStage = STAGE_UNINITIALIZED;
+    private boolean actionGraphCheckingEnabled;
+
+    boolean isActionGraphCheckingEnabled() {
+      if (actionGraphCheckingEnabledBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (actionGraphCheckingEnabledBuildStage == STAGE_UNINITIALIZED) {
+        actionGraphCheckingEnabledBuildStage = STAGE_INITIALIZING;
+        this.actionGraphCheckingEnabled = ImmutableActionGraphConfig.super.isActionGraphCheckingEnabled();
+        actionGraphCheckingEnabledBuildStage = STAGE_INITIALIZED;
+      }
+      return this.actionGraphCheckingEnabled;
+    }
+
+    private byte skipActionGraphCacheBuildStage = STAGE_UNINITIALIZED;
+    private boolean skipActionGraphCache;
+
+    boolean isSkipActionGraphCache() {
+      if (skipActionGraphCacheBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (skipActionGraphCacheBuildStage == STAGE_UNINITIALIZED) {
+        skipActionGraphCacheBuildStage = STAGE_INITIALIZING;
+        this.skipActionGraphCache = ImmutableActionGraphConfig.super.isSkipActionGraphCache();
+        skipActionGraphCacheBuildStage = STAGE_INITIALIZED;
+      }
+      return this.skipActionGraphCache;
+    }
+
+    private String formatInitCycleMessage() {
+      List<String> attributes = new ArrayList<>();
+      if (incrementalActionGraphModeBuildStage == STAGE_INITIALIZING) attributes.add("incrementalActionGraphMode");
+      if (incrementalActionGraphExperimentGroupsBuildStage == STAGE_INITIALIZING) attributes.add("incrementalActionGraphExperimentGroups");
+      if (actionGraphCheckingEnabledBuildStage == STAGE_INITIALIZING) attributes.add("actionGraphCheckingEnabled");
+      if (skipActionGraphCacheBuildStage == STAGE_INITIALIZING) attributes.add("skipActionGraphCache");
+      return "Cannot build ActionGraphConfig, attribute initializers form cycle " + attributes;
+    }
+  }
+
+  /**
+   * @return The value of the {@code delegate} attribute
+   */
+  @Override
+  public BuckConfig getDelegate() {
+    return delegate;
+  }
+
+  /**
+   * @return The computed-at-construction value of the {@code incrementalActionGraphMode} attribute
+   */
+  @Override
+  public IncrementalActionGraphMode getIncrementalActionGraphMode() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.getIncrementalActionGraphMode()
+        : this.incrementalActionGraphMode;
+  }
+
+  /**
+   * @return The computed-at-construction value of the {@code incrementalActionGraphExperimentGroups} attribute
+   */
+  @Override
+  public Map<IncrementalActionGraphMode, Double> getIncrementalActionGraphExperimentGroups() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.getIncrementalActionGraphExperimentGroups()
+        : this.incrementalActionGraphExperimentGroups;
+  }
+
+  /**
+   * @return The computed-at-construction value of the {@code actionGraphCheckingEnabled} attribute
+   */
+  @Override
+  public boolean isActionGraphCheckingEnabled() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.isActionGraphCheckingEnabled()
+        : this.actionGraphCheckingEnabled;
+  }
+
+  /**
+   * @return The computed-at-construction value of the {@code skipActionGraphCache} attribute
+   */
+  @Override
+  public boolean isSkipActionGraphCache() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.isSkipActionGraphCache()
+        : this.skipActionGraphCache;
+  }
+
+  /**
+   * This instance is equal to all instances of {@code ImmutableActionGraphConfig} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof ImmutableActionGraphConfig
+        && equalTo((ImmutableActionGraphConfig) another);
+  }
+
+  private boolean equalTo(ImmutableActionGraphConfig another) {
+    return delegate.equals(another.delegate)
+        && incrementalActionGraphMode.equals(another.incrementalActionGraphMode)
+        && incrementalActionGraphExperimentGroups.equals(another.incrementalActionGraphExperimentGroups)
+        && actionGraphCheckingEnabled == another.actionGraphCheckingEnabled
+        && skipActionGraphCache == another.skipActionGraphCache;
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code delegate}, {@code incrementalActionGraphMode}, {@code incrementalActionGraphExperimentGroups}, {@code actionGraphCheckingEnabled}, {@code skipActionGraphCache}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    @Var int h = 5381;
+    h += (h << 5) + delegate.hashCode();
+    h += (h << 5) + incrementalActionGraphMode.hashCode();
+    h += (h << 5) + incrementalActionGraphExperimentGroups.hashCode();
+    h += (h << 5) + Booleans.hashCode(actionGraphCheckingEnabled);
+    h += (h << 5) + Booleans.hashCode(skipActionGraphCache);
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code ActionGraphConfig} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("ActionGraphConfig")
+        .omitNullValues()
+        .add("delegate", delegate)
+        .add("incrementalActionGraphMode", incrementalActionGraphMode)
+        .add("incrementalActionGraphExperimentGroups", incrementalActionGraphExperimentGroups)
+        .add("actionGraphCheckingEnabled", actionGraphCheckingEnabled)
+        .add("skipActionGraphCache", skipActionGraphCache)
+        .toString();
+  }
+
+  /**
+   * Construct a new immutable {@code ActionGraphConfig} instance.
+   * @param delegate The value for the {@code delegate} attribute
+   * @return An immutable ActionGraphConfig instance
+   */
+  public static ImmutableActionGraphConfig of(BuckConfig delegate) {
+    return new ImmutableActionGraphConfig(delegate);
+  }
+}
@@ -0,0 +1,121 @@
+package com.facebook.buck.core.model.targetgraph;
+
+import com.facebook.buck.core.model.BuildTarget;
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.ImmutableSet;
+import com.google.errorprone.annotations.Var;
+import java.util.Objects;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import org.immutables.value.Generated;
+
+/**
+ * Immutable implementation of {@link TargetGraphCreationResult}.
+ * <p>
+ * Use the static factory method to create immutable instances:
+ * {@code ImmutableTargetGraphCreationResult.of()}.
+ */
+@Generated(from = "TargetGraphCreationResult", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+final class ImmutableTargetGraphCreationResult
+    extends TargetGraphCreationResult {
+  private final TargetGraph targetGraph;
+  private final ImmutableSet<BuildTarget> buildTargets;
+  private transient final int hashCode;
+
+  private ImmutableTargetGraphCreationResult(
+      TargetGraph targetGraph,
+      Iterable<? extends BuildTarget> buildTargets) {
+    this.targetGraph = Objects.requireNonNull(targetGraph, "targetGraph");
+    this.buildTargets = ImmutableSet.copyOf(buildTargets);
+    this.hashCode = computeHashCode();
+  }
+
+  /**
+   * @return The value of the {@code targetGraph} attribute
+   */
+  @Override
+  public TargetGraph getTargetGraph() {
+    return targetGraph;
+  }
+
+  /**
+   * @return The value of the {@code buildTargets} attribute
+   */
+  @Override
+  public ImmutableSet<BuildTarget> getBuildTargets() {
+    return buildTargets;
+  }
+
+  /**
+   * This instance is equal to all instances of {@code ImmutableTargetGraphCreationResult} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof ImmutableTargetGraphCreationResult
+        && equalTo((ImmutableTargetGraphCreationResult) another);
+  }
+
+  private boolean equalTo(ImmutableTargetGraphCreationResult another) {
+    if (hashCode != another.hashCode) return false;
+    return targetGraph.equals(another.targetGraph)
+        && buildTargets.equals(another.buildTargets);
+  }
+
+  /**
+   * Returns a precomputed-on-construction hash code from attributes: {@code targetGraph}, {@code buildTargets}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    return hashCode;
+  }
+
+  private int computeHashCode() {
+    @Var int h = 5381;
+    h += (h << 5) + targetGraph.hashCode();
+    h += (h << 5) + buildTargets.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code TargetGraphCreationResult} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("TargetGraphCreationResult")
+        .omitNullValues()
+        .add("targetGraph", targetGraph)
+        .add("buildTargets", buildTargets)
+        .toString();
+  }
+
+  /**
+   * Construct a new immutable {@code TargetGraphCreationResult} instance.
+   * @param targetGraph The value for the {@code targetGraph} attribute
+   * @param buildTargets The value for the {@code buildTargets} attribute
+   * @return An immutable TargetGraphCreationResult instance
+   */
+  public static ImmutableTargetGraphCreationResult of(TargetGraph targetGraph, ImmutableSet<BuildTarget> buildTargets) {
+    return of(targetGraph, (Iterable<? extends BuildTarget>) buildTargets);
+  }
+
+  /**
+   * Construct a new immutable {@code TargetGraphCreationResult} instance.
+   * @param targetGraph The value for the {@code targetGraph} attribute
+   * @param buildTargets The value for the {@code buildTargets} attribute
+   * @return An immutable TargetGraphCreationResult instance
+   */
+  public static ImmutableTargetGraphCreationResult of(TargetGraph targetGraph, Iterable<? extends BuildTarget> buildTargets) {
+    return new ImmutableTargetGraphCreationResult(targetGraph, buildTargets);
+  }
+}
@@ -0,0 +1,158 @@
+package com.facebook.buck.core.model.targetgraph.raw;
+
+import com.facebook.buck.core.model.UnconfiguredBuildTarget;
+import com.fasterxml.jackson.annotation.JsonAutoDetect;
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.ImmutableSet;
+import com.google.errorprone.annotations.Var;
+import java.util.Objects;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import org.immutables.value.Generated;
+
+/**
+ * Immutable implementation of {@link UnconfiguredTargetNodeWithDeps}.
+ * <p>
+ * Use the static factory method to create immutable instances:
+ * {@code ImmutableUnconfiguredTargetNodeWithDeps.of()}.
+ */
+@Generated(from = "UnconfiguredTargetNodeWithDeps", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+final class ImmutableUnconfiguredTargetNodeWithDeps
+    extends UnconfiguredTargetNodeWithDeps {
+  private final UnconfiguredTargetNode unconfiguredTargetNode;
+  private final ImmutableSet<UnconfiguredBuildTarget> deps;
+
+  private ImmutableUnconfiguredTargetNodeWithDeps(
+      UnconfiguredTargetNode unconfiguredTargetNode,
+      Iterable<? extends UnconfiguredBuildTarget> deps) {
+    this.unconfiguredTargetNode = Objects.requireNonNull(unconfiguredTargetNode, "unconfiguredTargetNode");
+    this.deps = ImmutableSet.copyOf(deps);
+  }
+
+  /**
+   * @return The value of the {@code unconfiguredTargetNode} attribute
+   */
+  @JsonProperty("node")
+  @Override
+  public UnconfiguredTargetNode getUnconfiguredTargetNode() {
+    return unconfiguredTargetNode;
+  }
+
+  /**
+   * @return The value of the {@code deps} attribute
+   */
+  @JsonProperty("deps")
+  @Override
+  public ImmutableSet<UnconfiguredBuildTarget> getDeps() {
+    return deps;
+  }
+
+  /**
+   * This instance is equal to all instances of {@code ImmutableUnconfiguredTargetNodeWithDeps} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof ImmutableUnconfiguredTargetNodeWithDeps
+        && equalTo((ImmutableUnconfiguredTargetNodeWithDeps) another);
+  }
+
+  private boolean equalTo(ImmutableUnconfiguredTargetNodeWithDeps another) {
+    return unconfiguredTargetNode.equals(another.unconfiguredTargetNode)
+        && deps.equals(another.deps);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code unconfiguredTargetNode}, {@code deps}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    @Var int h = 5381;
+    h += (h << 5) + unconfiguredTargetNode.hashCode();
+    h += (h << 5) + deps.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code UnconfiguredTargetNodeWithDeps} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("UnconfiguredTargetNodeWithDeps")
+        .omitNullValues()
+        .add("unconfiguredTargetNode", unconfiguredTargetNode)
+        .add("deps", deps)
+        .toString();
+  }
+
+  /**
+   * Utility type used to correctly read immutable object from JSON representation.
+   * @deprecated Do not use this type directly, it exists only for the <em>Jackson</em>-binding infrastructure
+   */
+  @Generated(from = "UnconfiguredTargetNodeWithDeps", generator = "Immutables")
+  @Deprecated
+  @SuppressWarnings("Immutable")
+  @JsonDeserialize
+  @JsonAutoDetect(fieldVisibility = JsonAutoDetect.Visibility.NONE)
+  static final class Json extends UnconfiguredTargetNodeWithDeps {
+    @Nullable UnconfiguredTargetNode unconfiguredTargetNode;
+    @Nullable ImmutableSet<UnconfiguredBuildTarget> deps = ImmutableSet.of();
+    @JsonProperty("node")
+    public void setUnconfiguredTargetNode(UnconfiguredTargetNode unconfiguredTargetNode) {
+      this.unconfiguredTargetNode = unconfiguredTargetNode;
+    }
+    @JsonProperty("deps")
+    public void setDeps(ImmutableSet<UnconfiguredBuildTarget> deps) {
+      this.deps = deps;
+    }
+    @Override
+    public UnconfiguredTargetNode getUnconfiguredTargetNode() { throw new UnsupportedOperationException(); }
+    @Override
+    public ImmutableSet<UnconfiguredBuildTarget> getDeps() { throw new UnsupportedOperationException(); }
+  }
+
+  /**
+   * @param json A JSON-bindable data structure
+   * @return An immutable value type
+   * @deprecated Do not use this method directly, it exists only for the <em>Jackson</em>-binding infrastructure
+   */
+  @Deprecated
+  @JsonCreator(mode = JsonCreator.Mode.DELEGATING)
+  static ImmutableUnconfiguredTargetNodeWithDeps fromJson(Json json) {
+    ImmutableUnconfiguredTargetNodeWithDeps instance = ImmutableUnconfiguredTargetNodeWithDeps.of(json.unconfiguredTargetNode, json.deps);
+    return instance;
+  }
+
+  /**
+   * Construct a new immutable {@code UnconfiguredTargetNodeWithDeps} instance.
+   * @param unconfiguredTargetNode The value for the {@code unconfiguredTargetNode} attribute
+   * @param deps The value for the {@code deps} attribute
+   * @return An immutable UnconfiguredTargetNodeWithDeps instance
+   */
+  public static ImmutableUnconfiguredTargetNodeWithDeps of(UnconfiguredTargetNode unconfiguredTargetNode, ImmutableSet<UnconfiguredBuildTarget> deps) {
+    return of(unconfiguredTargetNode, (Iterable<? extends UnconfiguredBuildTarget>) deps);
+  }
+
+  /**
+   * Construct a new immutable {@code UnconfiguredTargetNodeWithDeps} instance.
+   * @param unconfiguredTargetNode The value for the {@code unconfiguredTargetNode} attribute
+   * @param deps The value for the {@code deps} attribute
+   * @return An immutable UnconfiguredTargetNodeWithDeps instance
+   */
+  public static ImmutableUnconfiguredTargetNodeWithDeps of(UnconfiguredTargetNode unconfiguredTargetNode, Iterable<? extends UnconfiguredBuildTarget> deps) {
+    return new ImmutableUnconfiguredTargetNodeWithDeps(unconfiguredTargetNode, deps);
+  }
+}
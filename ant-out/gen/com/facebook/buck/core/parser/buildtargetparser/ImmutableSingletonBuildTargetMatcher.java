@@ -0,0 +1,74 @@
+package com.facebook.buck.core.parser.buildtargetparser;
+
+import com.facebook.buck.core.model.UnconfiguredBuildTarget;
+import com.google.errorprone.annotations.Var;
+import java.util.Objects;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import org.immutables.value.Generated;
+
+/**
+ * Immutable implementation of {@link SingletonBuildTargetMatcher}.
+ * <p>
+ * Use the static factory method to create immutable instances:
+ * {@code ImmutableSingletonBuildTargetMatcher.of()}.
+ */
+@Generated(from = "SingletonBuildTargetMatcher", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+final class ImmutableSingletonBuildTargetMatcher
+    extends SingletonBuildTargetMatcher {
+  private final UnconfiguredBuildTarget target;
+
+  private ImmutableSingletonBuildTargetMatcher(UnconfiguredBuildTarget target) {
+    this.target = Objects.requireNonNull(target, "target");
+  }
+
+  /**
+   * @return The value of the {@code target} attribute
+   */
+  @Override
+  protected UnconfiguredBuildTarget getTarget() {
+    return target;
+  }
+
+  /**
+   * This instance is equal to all instances of {@code ImmutableSingletonBuildTargetMatcher} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof ImmutableSingletonBuildTargetMatcher
+        && equalTo((ImmutableSingletonBuildTargetMatcher) another);
+  }
+
+  private boolean equalTo(ImmutableSingletonBuildTargetMatcher another) {
+    return target.equals(another.target);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code target}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    @Var int h = 5381;
+    h += (h << 5) + target.hashCode();
+    return h;
+  }
+
+  /**
+   * Construct a new immutable {@code SingletonBuildTargetMatcher} instance.
+   * @param target The value for the {@code target} attribute
+   * @return An immutable SingletonBuildTargetMatcher instance
+   */
+  public static ImmutableSingletonBuildTargetMatcher of(UnconfiguredBuildTarget target) {
+    return new ImmutableSingletonBuildTargetMatcher(target);
+  }
+}
@@ -0,0 +1,101 @@
+package com.facebook.buck.core.parser.buildtargetparser;
+
+import com.facebook.buck.core.model.OutputLabel;
+import com.google.common.base.MoreObjects;
+import com.google.errorprone.annotations.Var;
+import java.util.Objects;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import org.immutables.value.Generated;
+
+/**
+ * Immutable implementation of {@link BuildTargetOutputLabelParser.TargetWithOutputLabel}.
+ * <p>
+ * Use the static factory method to create immutable instances:
+ * {@code ImmutableTargetWithOutputLabel.of()}.
+ */
+@Generated(from = "BuildTargetOutputLabelParser.TargetWithOutputLabel", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+final class ImmutableTargetWithOutputLabel
+    extends BuildTargetOutputLabelParser.TargetWithOutputLabel {
+  private final String targetName;
+  private final OutputLabel outputLabel;
+
+  private ImmutableTargetWithOutputLabel(String targetName, OutputLabel outputLabel) {
+    this.targetName = Objects.requireNonNull(targetName, "targetName");
+    this.outputLabel = Objects.requireNonNull(outputLabel, "outputLabel");
+  }
+
+  /**
+   * @return The value of the {@code targetName} attribute
+   */
+  @Override
+  public String getTargetName() {
+    return targetName;
+  }
+
+  /**
+   * @return The value of the {@code outputLabel} attribute
+   */
+  @Override
+  public OutputLabel getOutputLabel() {
+    return outputLabel;
+  }
+
+  /**
+   * This instance is equal to all instances of {@code ImmutableTargetWithOutputLabel} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof ImmutableTargetWithOutputLabel
+        && equalTo((ImmutableTargetWithOutputLabel) another);
+  }
+
+  private boolean equalTo(ImmutableTargetWithOutputLabel another) {
+    return targetName.equals(another.targetName)
+        && outputLabel.equals(another.outputLabel);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code targetName}, {@code outputLabel}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    @Var int h = 5381;
+    h += (h << 5) + targetName.hashCode();
+    h += (h << 5) + outputLabel.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code TargetWithOutputLabel} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("TargetWithOutputLabel")
+        .omitNullValues()
+        .add("targetName", targetName)
+        .add("outputLabel", outputLabel)
+        .toString();
+  }
+
+  /**
+   * Construct a new immutable {@code TargetWithOutputLabel} instance.
+   * @param targetName The value for the {@code targetName} attribute
+   * @param outputLabel The value for the {@code outputLabel} attribute
+   * @return An immutable TargetWithOutputLabel instance
+   */
+  public static ImmutableTargetWithOutputLabel of(String targetName, OutputLabel outputLabel) {
+    return new ImmutableTargetWithOutputLabel(targetName, outputLabel);
+  }
+}
@@ -0,0 +1,113 @@
+package com.facebook.buck.core.rules.actions.lib.args;
+
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableSortedMap;
+import com.google.errorprone.annotations.Var;
+import java.util.Objects;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import org.immutables.value.Generated;
+
+/**
+ * Immutable implementation of {@link CommandLine}.
+ * <p>
+ * Use the static factory method to create immutable instances:
+ * {@code ImmutableCommandLine.of()}.
+ */
+@Generated(from = "CommandLine", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+final class ImmutableCommandLine implements CommandLine {
+  private final ImmutableSortedMap<String, String> environmentVariables;
+  private final ImmutableList<String> commandLineArgs;
+
+  private ImmutableCommandLine(
+      ImmutableSortedMap<String, String> environmentVariables,
+      Iterable<String> commandLineArgs) {
+    this.environmentVariables = Objects.requireNonNull(environmentVariables, "environmentVariables");
+    this.commandLineArgs = ImmutableList.copyOf(commandLineArgs);
+  }
+
+  /**
+   * @return The value of the {@code environmentVariables} attribute
+   */
+  @Override
+  public ImmutableSortedMap<String, String> getEnvironmentVariables() {
+    return environmentVariables;
+  }
+
+  /**
+   * @return The value of the {@code commandLineArgs} attribute
+   */
+  @Override
+  public ImmutableList<String> getCommandLineArgs() {
+    return commandLineArgs;
+  }
+
+  /**
+   * This instance is equal to all instances of {@code ImmutableCommandLine} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof ImmutableCommandLine
+        && equalTo((ImmutableCommandLine) another);
+  }
+
+  private boolean equalTo(ImmutableCommandLine another) {
+    return environmentVariables.equals(another.environmentVariables)
+        && commandLineArgs.equals(another.commandLineArgs);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code environmentVariables}, {@code commandLineArgs}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    @Var int h = 5381;
+    h += (h << 5) + environmentVariables.hashCode();
+    h += (h << 5) + commandLineArgs.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code CommandLine} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("CommandLine")
+        .omitNullValues()
+        .add("environmentVariables", environmentVariables)
+        .add("commandLineArgs", commandLineArgs)
+        .toString();
+  }
+
+  /**
+   * Construct a new immutable {@code CommandLine} instance.
+   * @param environmentVariables The value for the {@code environmentVariables} attribute
+   * @param commandLineArgs The value for the {@code commandLineArgs} attribute
+   * @return An immutable CommandLine instance
+   */
+  public static ImmutableCommandLine of(ImmutableSortedMap<String, String> environmentVariables, ImmutableList<String> commandLineArgs) {
+    return of(environmentVariables, (Iterable<String>) commandLineArgs);
+  }
+
+  /**
+   * Construct a new immutable {@code CommandLine} instance.
+   * @param environmentVariables The value for the {@code environmentVariables} attribute
+   * @param commandLineArgs The value for the {@code commandLineArgs} attribute
+   * @return An immutable CommandLine instance
+   */
+  public static ImmutableCommandLine of(ImmutableSortedMap<String, String> environmentVariables, Iterable<String> commandLineArgs) {
+    return new ImmutableCommandLine(environmentVariables, commandLineArgs);
+  }
+}
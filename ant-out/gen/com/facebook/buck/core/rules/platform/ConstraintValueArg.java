@@ -0,0 +1,215 @@
+package com.facebook.buck.core.rules.platform;
+
+import com.facebook.buck.core.description.arg.ConstructorArg;
+import com.facebook.buck.core.model.UnconfiguredBuildTarget;
+import com.google.common.base.MoreObjects;
+import com.google.errorprone.annotations.CanIgnoreReturnValue;
+import com.google.errorprone.annotations.Var;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+import org.immutables.value.Generated;
+
+/**
+ * Immutable implementation of {@link ConstraintValueDescription.AbstractConstraintValueArg}.
+ * <p>
+ * Use the builder to create immutable instances:
+ * {@code ConstraintValueArg.builder()}.
+ */
+@Generated(from = "ConstraintValueDescription.AbstractConstraintValueArg", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+public final class ConstraintValueArg
+    implements ConstraintValueDescription.AbstractConstraintValueArg {
+  private final UnconfiguredBuildTarget constraintSetting;
+  private final String name;
+
+  private ConstraintValueArg(ConstraintValueArg.Builder builder) {
+    this.constraintSetting = builder.constraintSetting;
+    this.name = builder.name;
+  }
+
+  /**
+   * @return The value of the {@code constraintSetting} attribute
+   */
+  @Override
+  public UnconfiguredBuildTarget getConstraintSetting() {
+    return constraintSetting;
+  }
+
+  /**
+   *Each rule has a name 
+   */
+  @Override
+  public String getName() {
+    return name;
+  }
+
+  /**
+   * This instance is equal to all instances of {@code ConstraintValueArg} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof ConstraintValueArg
+        && equalTo((ConstraintValueArg) another);
+  }
+
+  private boolean equalTo(ConstraintValueArg another) {
+    return constraintSetting.equals(another.constraintSetting)
+        && name.equals(another.name);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code constraintSetting}, {@code name}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    @Var int h = 5381;
+    h += (h << 5) + constraintSetting.hashCode();
+    h += (h << 5) + name.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code ConstraintValueArg} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("ConstraintValueArg")
+        .omitNullValues()
+        .add("constraintSetting", constraintSetting)
+        .add("name", name)
+        .toString();
+  }
+
+  /**
+   * Creates a builder for {@link ConstraintValueArg ConstraintValueArg}.
+   * @return A new ConstraintValueArg builder
+   */
+  public static ConstraintValueArg.Builder builder() {
+    return new ConstraintValueArg.Builder();
+  }
+
+  /**
+   * Builds instances of type {@link ConstraintValueArg ConstraintValueArg}.
+   * Initialize attributes and then invoke the {@link #build()} method to create an
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread-safe and generally should not be stored in a field or collection,
+   * but instead used immediately to create instances.</em>
+   */
+  @Generated(from = "ConstraintValueDescription.AbstractConstraintValueArg", generator = "Immutables")
+  @NotThreadSafe
+  public static final class Builder {
+    private static final long INIT_BIT_CONSTRAINT_SETTING = 0x1L;
+    private static final long INIT_BIT_NAME = 0x2L;
+    private long initBits = 0x3L;
+
+    private @Nullable UnconfiguredBuildTarget constraintSetting;
+    private @Nullable String name;
+
+    private Builder() {
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code ConstraintValueArg} instance.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder from(ConstraintValueArg instance) {
+      Objects.requireNonNull(instance, "instance");
+      from((Object) instance);
+      return this;
+    }
+
+    /**
+     * Copy abstract value type {@code AbstractConstraintValueArg} instance into builder.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder from(ConstraintValueDescription.AbstractConstraintValueArg instance) {
+      Objects.requireNonNull(instance, "instance");
+      from((Object) instance);
+      return this;
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code com.facebook.buck.core.description.arg.ConstructorArg} instance.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder from(ConstructorArg instance) {
+      Objects.requireNonNull(instance, "instance");
+      from((Object) instance);
+      return this;
+    }
+
+    private void from(Object object) {
+      if (object instanceof ConstraintValueDescription.AbstractConstraintValueArg) {
+        ConstraintValueDescription.AbstractConstraintValueArg instance = (ConstraintValueDescription.AbstractConstraintValueArg) object;
+        setConstraintSetting(instance.getConstraintSetting());
+      }
+      if (object instanceof ConstructorArg) {
+        ConstructorArg instance = (ConstructorArg) object;
+        setName(instance.getName());
+      }
+    }
+
+    /**
+     * Initializes the value for the {@link ConstraintValueArg#getConstraintSetting() constraintSetting} attribute.
+     * @param constraintSetting The value for constraintSetting 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setConstraintSetting(UnconfiguredBuildTarget constraintSetting) {
+      this.constraintSetting = Objects.requireNonNull(constraintSetting, "constraintSetting");
+      initBits &= ~INIT_BIT_CONSTRAINT_SETTING;
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link ConstraintValueArg#getName() name} attribute.
+     * @param name The value for name 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setName(String name) {
+      this.name = Objects.requireNonNull(name, "name");
+      initBits &= ~INIT_BIT_NAME;
+      return this;
+    }
+
+    /**
+     * Builds a new {@link ConstraintValueArg ConstraintValueArg}.
+     * @return An immutable instance of ConstraintValueArg
+     * @throws java.lang.IllegalStateException if any required attributes are missing
+     */
+    public ConstraintValueArg build() {
+      if (initBits != 0) {
+        throw new IllegalStateException(formatRequiredAttributesMessage());
+      }
+      return new ConstraintValueArg(this);
+    }
+
+    private String formatRequiredAttributesMessage() {
+      List<String> attributes = new ArrayList<>();
+      if ((initBits & INIT_BIT_CONSTRAINT_SETTING) != 0) attributes.add("constraintSetting");
+      if ((initBits & INIT_BIT_NAME) != 0) attributes.add("name");
+      return "Cannot build ConstraintValueArg, some of required attributes are not set " + attributes;
+    }
+  }
+}
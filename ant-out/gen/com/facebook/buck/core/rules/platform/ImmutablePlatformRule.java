@@ -0,0 +1,150 @@
+package com.facebook.buck.core.rules.platform;
+
+import com.facebook.buck.core.model.BuildTarget;
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.ImmutableSortedSet;
+import com.google.common.collect.Ordering;
+import com.google.errorprone.annotations.Var;
+import java.util.Objects;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import org.immutables.value.Generated;
+
+/**
+ * Immutable implementation of {@link PlatformDescription.PlatformRule}.
+ * <p>
+ * Use the static factory method to create immutable instances:
+ * {@code ImmutablePlatformRule.of()}.
+ */
+@Generated(from = "PlatformDescription.PlatformRule", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+final class ImmutablePlatformRule
+    implements PlatformDescription.PlatformRule {
+  private final BuildTarget buildTarget;
+  private final String name;
+  private final ImmutableSet<ConstraintValueRule> constrainValuesRules;
+  private final ImmutableSortedSet<BuildTarget> deps;
+
+  private ImmutablePlatformRule(
+      BuildTarget buildTarget,
+      String name,
+      Iterable<? extends ConstraintValueRule> constrainValuesRules,
+      Iterable<? extends BuildTarget> deps) {
+    this.buildTarget = Objects.requireNonNull(buildTarget, "buildTarget");
+    this.name = Objects.requireNonNull(name, "name");
+    this.constrainValuesRules = ImmutableSet.copyOf(constrainValuesRules);
+    this.deps = ImmutableSortedSet.copyOf(
+        Ordering.<BuildTarget>natural(),
+        deps);
+  }
+
+  /**
+   * @return The value of the {@code buildTarget} attribute
+   */
+  @Override
+  public BuildTarget getBuildTarget() {
+    return buildTarget;
+  }
+
+  /**
+   * @return The value of the {@code name} attribute
+   */
+  @Override
+  public String getName() {
+    return name;
+  }
+
+  /**
+   * @return The value of the {@code constrainValuesRules} attribute
+   */
+  @Override
+  public ImmutableSet<ConstraintValueRule> getConstrainValuesRules() {
+    return constrainValuesRules;
+  }
+
+  /**
+   * @return The value of the {@code deps} attribute
+   */
+  @Override
+  public ImmutableSortedSet<BuildTarget> getDeps() {
+    return deps;
+  }
+
+  /**
+   * This instance is equal to all instances of {@code ImmutablePlatformRule} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof ImmutablePlatformRule
+        && equalTo((ImmutablePlatformRule) another);
+  }
+
+  private boolean equalTo(ImmutablePlatformRule another) {
+    return buildTarget.equals(another.buildTarget)
+        && name.equals(another.name)
+        && constrainValuesRules.equals(another.constrainValuesRules)
+        && deps.equals(another.deps);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code buildTarget}, {@code name}, {@code constrainValuesRules}, {@code deps}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    @Var int h = 5381;
+    h += (h << 5) + buildTarget.hashCode();
+    h += (h << 5) + name.hashCode();
+    h += (h << 5) + constrainValuesRules.hashCode();
+    h += (h << 5) + deps.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code PlatformRule} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("PlatformRule")
+        .omitNullValues()
+        .add("buildTarget", buildTarget)
+        .add("name", name)
+        .add("constrainValuesRules", constrainValuesRules)
+        .add("deps", deps)
+        .toString();
+  }
+
+  /**
+   * Construct a new immutable {@code PlatformRule} instance.
+   * @param buildTarget The value for the {@code buildTarget} attribute
+   * @param name The value for the {@code name} attribute
+   * @param constrainValuesRules The value for the {@code constrainValuesRules} attribute
+   * @param deps The value for the {@code deps} attribute
+   * @return An immutable PlatformRule instance
+   */
+  public static ImmutablePlatformRule of(BuildTarget buildTarget, String name, ImmutableSet<ConstraintValueRule> constrainValuesRules, ImmutableSortedSet<BuildTarget> deps) {
+    return of(buildTarget, name, (Iterable<? extends ConstraintValueRule>) constrainValuesRules, (Iterable<? extends BuildTarget>) deps);
+  }
+
+  /**
+   * Construct a new immutable {@code PlatformRule} instance.
+   * @param buildTarget The value for the {@code buildTarget} attribute
+   * @param name The value for the {@code name} attribute
+   * @param constrainValuesRules The value for the {@code constrainValuesRules} attribute
+   * @param deps The value for the {@code deps} attribute
+   * @return An immutable PlatformRule instance
+   */
+  public static ImmutablePlatformRule of(BuildTarget buildTarget, String name, Iterable<? extends ConstraintValueRule> constrainValuesRules, Iterable<? extends BuildTarget> deps) {
+    return new ImmutablePlatformRule(buildTarget, name, constrainValuesRules, deps);
+  }
+}
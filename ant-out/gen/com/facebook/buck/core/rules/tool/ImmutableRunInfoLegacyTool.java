@@ -0,0 +1,86 @@
+package com.facebook.buck.core.rules.tool;
+
+import com.facebook.buck.core.rules.providers.lib.RunInfo;
+import com.google.common.base.MoreObjects;
+import com.google.errorprone.annotations.Var;
+import java.util.Objects;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import org.immutables.value.Generated;
+
+/**
+ * Immutable implementation of {@link RunInfoLegacyTool}.
+ * <p>
+ * Use the static factory method to create immutable instances:
+ * {@code ImmutableRunInfoLegacyTool.of()}.
+ */
+@Generated(from = "RunInfoLegacyTool", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+final class ImmutableRunInfoLegacyTool extends RunInfoLegacyTool {
+  private final RunInfo runInfo;
+
+  private ImmutableRunInfoLegacyTool(RunInfo runInfo) {
+    this.runInfo = Objects.requireNonNull(runInfo, "runInfo");
+  }
+
+  /**
+   * @return The value of the {@code runInfo} attribute
+   */
+  @Override
+  public RunInfo getRunInfo() {
+    return runInfo;
+  }
+
+  /**
+   * This instance is equal to all instances of {@code ImmutableRunInfoLegacyTool} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof ImmutableRunInfoLegacyTool
+        && equalTo((ImmutableRunInfoLegacyTool) another);
+  }
+
+  private boolean equalTo(ImmutableRunInfoLegacyTool another) {
+    return runInfo.equals(another.runInfo);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code runInfo}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    @Var int h = 5381;
+    h += (h << 5) + runInfo.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code RunInfoLegacyTool} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("RunInfoLegacyTool")
+        .omitNullValues()
+        .add("runInfo", runInfo)
+        .toString();
+  }
+
+  /**
+   * Construct a new immutable {@code RunInfoLegacyTool} instance.
+   * @param runInfo The value for the {@code runInfo} attribute
+   * @return An immutable RunInfoLegacyTool instance
+   */
+  public static ImmutableRunInfoLegacyTool of(RunInfo runInfo) {
+    return new ImmutableRunInfoLegacyTool(runInfo);
+  }
+}
@@ -0,0 +1,87 @@
+package com.facebook.buck.core.sourcepath;
+
+import com.facebook.buck.core.model.BuildTargetWithOutputs;
+import com.google.common.hash.HashCode;
+import java.nio.file.Path;
+import java.util.Objects;
+import java.util.Optional;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import org.immutables.value.Generated;
+
+/**
+ * Immutable implementation of {@link ExplicitBuildTargetSourcePath}.
+ * <p>
+ * Use the static factory method to create immutable instances:
+ * {@code ImmutableExplicitBuildTargetSourcePath.of()}.
+ */
+@Generated(from = "ExplicitBuildTargetSourcePath", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+final class ImmutableExplicitBuildTargetSourcePath
+    extends ExplicitBuildTargetSourcePath {
+  private final BuildTargetWithOutputs targetWithOutputs;
+  private final Path resolvedPath;
+  private final @Nullable HashCode precomputedHash;
+  private transient final int hashCode;
+
+  @SuppressWarnings("unchecked") // safe covariant cast
+  private ImmutableExplicitBuildTargetSourcePath(
+      BuildTargetWithOutputs targetWithOutputs,
+      Path resolvedPath,
+      Optional<? extends HashCode> precomputedHash) {
+    this.targetWithOutputs = Objects.requireNonNull(targetWithOutputs, "targetWithOutputs");
+    this.resolvedPath = Objects.requireNonNull(resolvedPath, "resolvedPath");
+    this.precomputedHash = precomputedHash.orElse(null);
+    this.hashCode = super.hashCode();
+  }
+
+  /**
+   * @return The value of the {@code targetWithOutputs} attribute
+   */
+  @Override
+  public BuildTargetWithOutputs getTargetWithOutputs() {
+    return targetWithOutputs;
+  }
+
+  /**
+   * @return The value of the {@code resolvedPath} attribute
+   */
+  @Override
+  public Path getResolvedPath() {
+    return resolvedPath;
+  }
+
+  /**
+   * @return The value of the {@code precomputedHash} attribute
+   */
+  @Override
+  public Optional<HashCode> getPrecomputedHash() {
+    return Optional.ofNullable(precomputedHash);
+  }
+
+  /**
+   * Returns the precomputed-on-construction hash code from the supertype implementation of {@code super.hashCode()}.
+   * @return The hashCode value
+   */
+  @Override
+  public int hashCode() {
+    return hashCode;
+  }
+
+  /**
+   * Construct a new immutable {@code ExplicitBuildTargetSourcePath} instance.
+   * @param targetWithOutputs The value for the {@code targetWithOutputs} attribute
+   * @param resolvedPath The value for the {@code resolvedPath} attribute
+   * @param precomputedHash The value for the {@code precomputedHash} attribute
+   * @return An immutable ExplicitBuildTargetSourcePath instance
+   */
+  public static ImmutableExplicitBuildTargetSourcePath of(BuildTargetWithOutputs targetWithOutputs, Path resolvedPath, Optional<? extends HashCode> precomputedHash) {
+    return new ImmutableExplicitBuildTargetSourcePath(targetWithOutputs, resolvedPath, precomputedHash);
+  }
+}
@@ -0,0 +1,183 @@
+package com.facebook.buck.core.toolchain.toolprovider.impl;
+
+import com.facebook.buck.core.sourcepath.SourcePath;
+import com.facebook.buck.core.toolchain.tool.Tool;
+import com.facebook.buck.io.ExecutableFinder;
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.ImmutableMap;
+import com.google.errorprone.annotations.Var;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Function;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import org.immutables.value.Generated;
+
+/**
+ * Immutable implementation of {@link SystemToolProvider}.
+ * <p>
+ * Use the static factory method to create immutable instances:
+ * {@code ImmutableSystemToolProvider.of()}.
+ */
+@Generated(from = "SystemToolProvider", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+final class ImmutableSystemToolProvider
+    extends SystemToolProvider {
+  private final ExecutableFinder executableFinder;
+  private final Function<Path, SourcePath> sourcePathConverter;
+  private final Path name;
+  private final ImmutableMap<String, String> environment;
+  private final @Nullable String source;
+
+  private ImmutableSystemToolProvider(
+      ExecutableFinder executableFinder,
+      Function<Path, SourcePath> sourcePathConverter,
+      Path name,
+      Map<String, ? extends String> environment,
+      Optional<String> source) {
+    this.executableFinder = Objects.requireNonNull(executableFinder, "executableFinder");
+    this.sourcePathConverter = Objects.requireNonNull(sourcePathConverter, "sourcePathConverter");
+    this.name = Objects.requireNonNull(name, "name");
+    this.environment = ImmutableMap.copyOf(environment);
+    this.source = source.orElse(null);
+  }
+
+  /**
+   * @return The value of the {@code executableFinder} attribute
+   */
+  @Override
+  ExecutableFinder getExecutableFinder() {
+    return executableFinder;
+  }
+
+  /**
+   * @return The value of the {@code sourcePathConverter} attribute
+   */
+  @Override
+  Function<Path, SourcePath> getSourcePathConverter() {
+    return sourcePathConverter;
+  }
+
+  /**
+   * @return The value of the {@code name} attribute
+   */
+  @Override
+  Path getName() {
+    return name;
+  }
+
+  /**
+   * @return The value of the {@code environment} attribute
+   */
+  @Override
+  ImmutableMap<String, String> getEnvironment() {
+    return environment;
+  }
+
+  /**
+   * @return The value of the {@code source} attribute
+   */
+  @Override
+  Optional<String> getSource() {
+    return Optional.ofNullable(source);
+  }
+
+  /**
+   * This instance is equal to all instances of {@code ImmutableSystemToolProvider} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof ImmutableSystemToolProvider
+        && equalTo((ImmutableSystemToolProvider) another);
+  }
+
+  private boolean equalTo(ImmutableSystemToolProvider another) {
+    return executableFinder.equals(another.executableFinder)
+        && sourcePathConverter.equals(another.sourcePathConverter)
+        && name.equals(another.name)
+        && environment.equals(another.environment)
+        && Objects.equals(source, another.source);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code executableFinder}, {@code sourcePathConverter}, {@code name}, {@code environment}, {@code source}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    @Var int h = 5381;
+    h += (h << 5) + executableFinder.hashCode();
+    h += (h << 5) + sourcePathConverter.hashCode();
+    h += (h << 5) + name.hashCode();
+    h += (h << 5) + environment.hashCode();
+    h += (h << 5) + Objects.hashCode(source);
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code SystemToolProvider} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("SystemToolProvider")
+        .omitNullValues()
+        .add("executableFinder", executableFinder)
+        .add("sourcePathConverter", sourcePathConverter)
+        .add("name", name)
+        .add("environment", environment)
+        .add("source", source)
+        .toString();
+  }
+
+  @SuppressWarnings("Immutable")
+  private transient volatile long lazyInitBitmap;
+
+  private static final long RESOLVE_LAZY_INIT_BIT = 0x1L;
+
+  @SuppressWarnings("Immutable")
+  private transient Tool resolve;
+
+  /**
+   * {@inheritDoc}
+   * <p>
+   * Returns a lazily initialized value of the {@link SystemToolProvider#resolve() resolve} attribute.
+   * Initialized once and only once and stored for subsequent access with proper synchronization.
+   * @return A lazily initialized value of the {@code resolve} attribute
+   */
+  @Override
+  public Tool resolve() {
+    if ((lazyInitBitmap & RESOLVE_LAZY_INIT_BIT) == 0) {
+      synchronized (this) {
+        if ((lazyInitBitmap & RESOLVE_LAZY_INIT_BIT) == 0) {
+          this.resolve = Objects.requireNonNull(super.resolve(), "resolve");
+          lazyInitBitmap |= RESOLVE_LAZY_INIT_BIT;
+        }
+      }
+    }
+    return resolve;
+  }
+
+  /**
+   * Construct a new immutable {@code SystemToolProvider} instance.
+   * @param executableFinder The value for the {@code executableFinder} attribute
+   * @param sourcePathConverter The value for the {@code sourcePathConverter} attribute
+   * @param name The value for the {@code name} attribute
+   * @param environment The value for the {@code environment} attribute
+   * @param source The value for the {@code source} attribute
+   * @return An immutable SystemToolProvider instance
+   */
+  public static ImmutableSystemToolProvider of(ExecutableFinder executableFinder, Function<Path, SourcePath> sourcePathConverter, Path name, Map<String, ? extends String> environment, Optional<String> source) {
+    return new ImmutableSystemToolProvider(executableFinder, sourcePathConverter, name, environment, source);
+  }
+}
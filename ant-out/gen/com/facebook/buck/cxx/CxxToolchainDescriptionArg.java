@@ -0,0 +1,1935 @@
+package com.facebook.buck.cxx;
+
+import com.facebook.buck.core.description.arg.BuildRuleArg;
+import com.facebook.buck.core.description.arg.ConstructorArg;
+import com.facebook.buck.core.model.UnconfiguredBuildTarget;
+import com.facebook.buck.core.sourcepath.SourcePath;
+import com.facebook.buck.cxx.toolchain.ArchiverProvider;
+import com.facebook.buck.cxx.toolchain.CxxToolProvider;
+import com.facebook.buck.cxx.toolchain.SharedLibraryInterfaceParams;
+import com.facebook.buck.cxx.toolchain.linker.LinkerProvider;
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.ImmutableSortedSet;
+import com.google.common.primitives.Booleans;
+import com.google.errorprone.annotations.CanIgnoreReturnValue;
+import com.google.errorprone.annotations.Var;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+import org.immutables.value.Generated;
+
+/**
+ * This is roughly analagous to the configuration provided by {@link CxxBuckConfig}. Some things
+ * are not yet exposed/implemented, and others have been slightly renamed or exposed slightly
+ * differently to be more restricted or more descriptive or more maintainable.
+ */
+@Generated(from = "CxxToolchainDescription.AbstractCxxToolchainDescriptionArg", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+public final class CxxToolchainDescriptionArg
+    implements CxxToolchainDescription.AbstractCxxToolchainDescriptionArg {
+  private final boolean privateHeadersSymlinksEnabled;
+  private final boolean publicHeadersSymlinksEnabled;
+  private final boolean useArgFile;
+  private final String sharedLibraryExtension;
+  private final String sharedLibraryVersionedExtensionFormat;
+  private final String staticLibraryExtension;
+  private final String objectFileExtension;
+  private final @Nullable String binaryExtension;
+  private final CxxToolProvider.Type compilerType;
+  private final LinkerProvider.Type linkerType;
+  private final SourcePath assembler;
+  private final ImmutableList<String> assemblerFlags;
+  private final SourcePath cCompiler;
+  private final ImmutableList<String> cCompilerFlags;
+  private final SourcePath cxxCompiler;
+  private final ImmutableList<String> cxxCompilerFlags;
+  private final SourcePath linker;
+  private final ImmutableList<String> linkerFlags;
+  private final SourcePath archiver;
+  private final ImmutableList<String> archiverFlags;
+  private final ArchiverProvider.Type archiverType;
+  private final SourcePath strip;
+  private final @Nullable SourcePath ranlib;
+  private final ImmutableList<String> ranlibFlags;
+  private final ImmutableList<String> stripFlags;
+  private final ImmutableList<String> staticDepRuntimeLdFlags;
+  private final ImmutableList<String> staticPicDepRuntimeLdFlags;
+  private final ImmutableList<String> sharedDepRuntimeLdFlags;
+  private final SourcePath nm;
+  private final SharedLibraryInterfaceParams.Type sharedLibraryInterfaceType;
+  private final SourcePath objcopyForSharedLibraryInterface;
+  private final boolean useHeaderMap;
+  private final boolean filepathLengthLimited;
+  private final ImmutableList<String> headersWhitelist;
+  private final ImmutableSet<SourcePath> licenses;
+  private final ImmutableSortedSet<String> labels;
+  private final @Nullable UnconfiguredBuildTarget defaultTargetPlatform;
+  private final ImmutableList<UnconfiguredBuildTarget> compatibleWith;
+  private final String name;
+
+  private CxxToolchainDescriptionArg(CxxToolchainDescriptionArg.Builder builder) {
+    this.sharedLibraryExtension = builder.sharedLibraryExtension;
+    this.sharedLibraryVersionedExtensionFormat = builder.sharedLibraryVersionedExtensionFormat;
+    this.staticLibraryExtension = builder.staticLibraryExtension;
+    this.objectFileExtension = builder.objectFileExtension;
+    this.binaryExtension = builder.binaryExtension;
+    this.compilerType = builder.compilerType;
+    this.linkerType = builder.linkerType;
+    this.assembler = builder.assembler;
+    this.assemblerFlags = builder.assemblerFlags.build();
+    this.cCompiler = builder.cCompiler;
+    this.cCompilerFlags = builder.cCompilerFlags.build();
+    this.cxxCompiler = builder.cxxCompiler;
+    this.cxxCompilerFlags = builder.cxxCompilerFlags.build();
+    this.linker = builder.linker;
+    this.linkerFlags = builder.linkerFlags.build();
+    this.archiver = builder.archiver;
+    this.archiverFlags = builder.archiverFlags.build();
+    this.archiverType = builder.archiverType;
+    this.strip = builder.strip;
+    this.ranlib = builder.ranlib;
+    this.ranlibFlags = builder.ranlibFlags.build();
+    this.stripFlags = builder.stripFlags.build();
+    this.staticDepRuntimeLdFlags = builder.staticDepRuntimeLdFlags.build();
+    this.staticPicDepRuntimeLdFlags = builder.staticPicDepRuntimeLdFlags.build();
+    this.sharedDepRuntimeLdFlags = builder.sharedDepRuntimeLdFlags.build();
+    this.nm = builder.nm;
+    this.sharedLibraryInterfaceType = builder.sharedLibraryInterfaceType;
+    this.objcopyForSharedLibraryInterface = builder.objcopyForSharedLibraryInterface;
+    this.useHeaderMap = builder.useHeaderMap;
+    this.headersWhitelist = builder.headersWhitelist.build();
+    this.licenses = builder.licenses.build();
+    this.labels = builder.labels.build();
+    this.defaultTargetPlatform = builder.defaultTargetPlatform;
+    this.compatibleWith = builder.compatibleWith.build();
+    this.name = builder.name;
+    if (builder.privateHeadersSymlinksEnabledIsSet()) {
+      initShim.setPrivateHeadersSymlinksEnabled(builder.privateHeadersSymlinksEnabled);
+    }
+    if (builder.publicHeadersSymlinksEnabledIsSet()) {
+      initShim.setPublicHeadersSymlinksEnabled(builder.publicHeadersSymlinksEnabled);
+    }
+    if (builder.useArgFileIsSet()) {
+      initShim.setUseArgFile(builder.useArgFile);
+    }
+    if (builder.filepathLengthLimitedIsSet()) {
+      initShim.setFilepathLengthLimited(builder.filepathLengthLimited);
+    }
+    this.privateHeadersSymlinksEnabled = initShim.getPrivateHeadersSymlinksEnabled();
+    this.publicHeadersSymlinksEnabled = initShim.getPublicHeadersSymlinksEnabled();
+    this.useArgFile = initShim.getUseArgFile();
+    this.filepathLengthLimited = initShim.getFilepathLengthLimited();
+    this.initShim = null;
+  }
+
+  private static final byte STAGE_INITIALIZING = -1;
+  private static final byte STAGE_UNINITIALIZED = 0;
+  private static final byte STAGE_INITIALIZED = 1;
+  @SuppressWarnings("Immutable")
+  private transient volatile InitShim initShim = new InitShim();
+
+  @Generated(from = "CxxToolchainDescription.AbstractCxxToolchainDescriptionArg", generator = "Immutables")
+  private final class InitShim {
+    private byte privateHeadersSymlinksEnabledBuildStage = STAGE_UNINITIALIZED;
+    private boolean privateHeadersSymlinksEnabled;
+
+    boolean getPrivateHeadersSymlinksEnabled() {
+      if (privateHeadersSymlinksEnabledBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (privateHeadersSymlinksEnabledBuildStage == STAGE_UNINITIALIZED) {
+        privateHeadersSymlinksEnabledBuildStage = STAGE_INITIALIZING;
+        this.privateHeadersSymlinksEnabled = getPrivateHeadersSymlinksEnabledInitialize();
+        privateHeadersSymlinksEnabledBuildStage = STAGE_INITIALIZED;
+      }
+      return this.privateHeadersSymlinksEnabled;
+    }
+
+    void setPrivateHeadersSymlinksEnabled(boolean privateHeadersSymlinksEnabled) {
+      this.privateHeadersSymlinksEnabled = privateHeadersSymlinksEnabled;
+      privateHeadersSymlinksEnabledBuildStage = STAGE_INITIALIZED;
+    }
+
+    private byte publicHeadersSymlinksEnabledBuildStage = STAGE_UNINITIALIZED;
+    private boolean publicHeadersSymlinksEnabled;
+
+    boolean getPublicHeadersSymlinksEnabled() {
+      if (publicHeadersSymlinksEnabledBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (publicHeadersSymlinksEnabledBuildStage == STAGE_UNINITIALIZED) {
+        publicHeadersSymlinksEnabledBuildStage = STAGE_INITIALIZING;
+        this.publicHeadersSymlinksEnabled = getPublicHeadersSymlinksEnabledInitialize();
+        publicHeadersSymlinksEnabledBuildStage = STAGE_INITIALIZED;
+      }
+      return this.publicHeadersSymlinksEnabled;
+    }
+
+    void setPublicHeadersSymlinksEnabled(boolean publicHeadersSymlinksEnabled) {
+      this.publicHeadersSymlinksEnabled = publicHeadersSymlinksEnabled;
+      publicHeadersSymlinksEnabledBuildStage = STAGE_INITIALIZED;
+    }
+
+    private byte useArgFileBuildStage = STAGE_UNINITIALIZED;
+    private boolean useArgFile;
+
+    boolean getUseArgFile() {
+      if (useArgFileBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (useArgFileBuildStage == STAGE_UNINITIALIZED) {
+        useArgFileBuildStage = STAGE_INITIALIZING;
+        this.useArgFile = getUseArgFileInitialize();
+        useArgFileBuildStage = STAGE_INITIALIZED;
+      }
+      return this.useArgFile;
+    }
+
+    void setUseArgFile(boolean useArgFile) {
+      this.useArgFile = useArgFile;
+      useArgFileBuildStage = STAGE_INITIALIZED;
+    }
+
+    private byte filepathLengthLimitedBuildStage = STAGE_UNINITIALIZED;
+    private boolean filepathLengthLimited;
+
+    boolean getFilepathLengthLimited() {
+      if (filepathLengthLimitedBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (filepathLengthLimitedBuildStage == STAGE_UNINITIALIZED) {
+        filepathLengthLimitedBuildStage = STAGE_INITIALIZING;
+        this.filepathLengthLimited = getFilepathLengthLimitedInitialize();
+        filepathLengthLimitedBuildStage = STAGE_INITIALIZED;
+      }
+      return this.filepathLengthLimited;
+    }
+
+    void setFilepathLengthLimited(boolean filepathLengthLimited) {
+      this.filepathLengthLimited = filepathLengthLimited;
+      filepathLengthLimitedBuildStage = STAGE_INITIALIZED;
+    }
+
+    private String formatInitCycleMessage() {
+      List<String> attributes = new ArrayList<>();
+      if (privateHeadersSymlinksEnabledBuildStage == STAGE_INITIALIZING) attributes.add("privateHeadersSymlinksEnabled");
+      if (publicHeadersSymlinksEnabledBuildStage == STAGE_INITIALIZING) attributes.add("publicHeadersSymlinksEnabled");
+      if (useArgFileBuildStage == STAGE_INITIALIZING) attributes.add("useArgFile");
+      if (filepathLengthLimitedBuildStage == STAGE_INITIALIZING) attributes.add("filepathLengthLimited");
+      return "Cannot build CxxToolchainDescriptionArg, attribute initializers form cycle " + attributes;
+    }
+  }
+
+  private boolean getPrivateHeadersSymlinksEnabledInitialize() {
+    return CxxToolchainDescription.AbstractCxxToolchainDescriptionArg.super.getPrivateHeadersSymlinksEnabled();
+  }
+
+  private boolean getPublicHeadersSymlinksEnabledInitialize() {
+    return CxxToolchainDescription.AbstractCxxToolchainDescriptionArg.super.getPublicHeadersSymlinksEnabled();
+  }
+
+  private boolean getUseArgFileInitialize() {
+    return CxxToolchainDescription.AbstractCxxToolchainDescriptionArg.super.getUseArgFile();
+  }
+
+  private boolean getFilepathLengthLimitedInitialize() {
+    return CxxToolchainDescription.AbstractCxxToolchainDescriptionArg.super.getFilepathLengthLimited();
+  }
+
+  /**
+   *When building or creating a project, create symlinks for the public headers if it's true. 
+   */
+  @Override
+  public boolean getPrivateHeadersSymlinksEnabled() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.getPrivateHeadersSymlinksEnabled()
+        : this.privateHeadersSymlinksEnabled;
+  }
+
+  /**
+   * When building or creating a project, create symlinks for the public headers if it's true. It
+   * would allow public headers to include an other public header with #include "foobar.h"\ even
+   * if it's not in the same folder.
+   */
+  @Override
+  public boolean getPublicHeadersSymlinksEnabled() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.getPublicHeadersSymlinksEnabled()
+        : this.publicHeadersSymlinksEnabled;
+  }
+
+  /**
+   *Whether to use an argfile for long command lines. 
+   */
+  @Override
+  public boolean getUseArgFile() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.getUseArgFile()
+        : this.useArgFile;
+  }
+
+  /**
+   *Extension of shared library files. 
+   */
+  @Override
+  public String getSharedLibraryExtension() {
+    return sharedLibraryExtension;
+  }
+
+  /**
+   *Extension format for versioned shared libraries. 
+   */
+  @Override
+  public String getSharedLibraryVersionedExtensionFormat() {
+    return sharedLibraryVersionedExtensionFormat;
+  }
+
+  /**
+   *Extension for static library files. 
+   */
+  @Override
+  public String getStaticLibraryExtension() {
+    return staticLibraryExtension;
+  }
+
+  /**
+   *Extension for object files. 
+   */
+  @Override
+  public String getObjectFileExtension() {
+    return objectFileExtension;
+  }
+
+  /**
+   *Extension for binary files. 
+   */
+  @Override
+  public Optional<String> getBinaryExtension() {
+    return Optional.ofNullable(binaryExtension);
+  }
+
+  /**
+   *{@link CxxToolProvider.Type} of the compiler. 
+   */
+  @Override
+  public CxxToolProvider.Type getCompilerType() {
+    return compilerType;
+  }
+
+  /**
+   *{@link LinkerProvider.Type} of the linker. 
+   */
+  @Override
+  public LinkerProvider.Type getLinkerType() {
+    return linkerType;
+  }
+
+  /**
+   *Assembler binary. 
+   */
+  @Override
+  public SourcePath getAssembler() {
+    return assembler;
+  }
+
+  /**
+   *Flags for the assembler. 
+   */
+  @Override
+  public ImmutableList<String> getAssemblerFlags() {
+    return assemblerFlags;
+  }
+
+  /**
+   *C compiler binary. 
+   */
+  @Override
+  public SourcePath getCCompiler() {
+    return cCompiler;
+  }
+
+  /**
+   *C compiler flags. 
+   */
+  @Override
+  public ImmutableList<String> getCCompilerFlags() {
+    return cCompilerFlags;
+  }
+
+  /**
+   *C++ compiler binary. 
+   */
+  @Override
+  public SourcePath getCxxCompiler() {
+    return cxxCompiler;
+  }
+
+  /**
+   *C++ compiler flags. 
+   */
+  @Override
+  public ImmutableList<String> getCxxCompilerFlags() {
+    return cxxCompilerFlags;
+  }
+
+  /**
+   *Linker binary. 
+   */
+  @Override
+  public SourcePath getLinker() {
+    return linker;
+  }
+
+  /**
+   *Linker flags. 
+   */
+  @Override
+  public ImmutableList<String> getLinkerFlags() {
+    return linkerFlags;
+  }
+
+  /**
+   *Archiver binary. 
+   */
+  @Override
+  public SourcePath getArchiver() {
+    return archiver;
+  }
+
+  /**
+   *Archiver flags. 
+   */
+  @Override
+  public ImmutableList<String> getArchiverFlags() {
+    return archiverFlags;
+  }
+
+  /**
+   *{@link ArchiverProvider.Type} of the archiver. 
+   */
+  @Override
+  public ArchiverProvider.Type getArchiverType() {
+    return archiverType;
+  }
+
+  /**
+   *Strip binary. 
+   */
+  @Override
+  public SourcePath getStrip() {
+    return strip;
+  }
+
+  /**
+   *Ranlib binary. 
+   */
+  @Override
+  public Optional<SourcePath> getRanlib() {
+    return Optional.ofNullable(ranlib);
+  }
+
+  /**
+   *Ranlib flags. 
+   */
+  @Override
+  public ImmutableList<String> getRanlibFlags() {
+    return ranlibFlags;
+  }
+
+  /**
+   *Strip flags. 
+   */
+  @Override
+  public ImmutableList<String> getStripFlags() {
+    return stripFlags;
+  }
+
+  /**
+   *Flags for linking the c/c++ runtime for static libraries. 
+   */
+  @Override
+  public ImmutableList<String> getStaticDepRuntimeLdFlags() {
+    return staticDepRuntimeLdFlags;
+  }
+
+  /**
+   *Flags for linking the c/c++ runtime for static-pic libraries. 
+   */
+  @Override
+  public ImmutableList<String> getStaticPicDepRuntimeLdFlags() {
+    return staticPicDepRuntimeLdFlags;
+  }
+
+  /**
+   *Flags for linking the c/c++ runtime for shared libraries. 
+   */
+  @Override
+  public ImmutableList<String> getSharedDepRuntimeLdFlags() {
+    return sharedDepRuntimeLdFlags;
+  }
+
+  /**
+   *nm binary. 
+   */
+  @Override
+  public SourcePath getNm() {
+    return nm;
+  }
+
+  /**
+   *Type of shared library interfaces to create. 
+   */
+  @Override
+  public SharedLibraryInterfaceParams.Type getSharedLibraryInterfaceType() {
+    return sharedLibraryInterfaceType;
+  }
+
+  /**
+   *Objcopy binary to use for creating shared library interfaces. 
+   */
+  @Override
+  public SourcePath getObjcopyForSharedLibraryInterface() {
+    return objcopyForSharedLibraryInterface;
+  }
+
+  /**
+   *Whether to use header maps. 
+   */
+  @Override
+  public boolean getUseHeaderMap() {
+    return useHeaderMap;
+  }
+
+  /**
+   *Whether to use shorter intermediate files. 
+   */
+  @Override
+  public boolean getFilepathLengthLimited() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.getFilepathLengthLimited()
+        : this.filepathLengthLimited;
+  }
+
+  /**
+   * A list of regexes which match headers (belonging to the toolchain) to exempt from untracked
+   * header verification.
+   */
+  @Override
+  public ImmutableList<String> getHeadersWhitelist() {
+    return headersWhitelist;
+  }
+
+  /**
+   * @return The value of the {@code licenses} attribute
+   */
+  @Override
+  public ImmutableSet<SourcePath> getLicenses() {
+    return licenses;
+  }
+
+  /**
+   * @return The value of the {@code labels} attribute
+   */
+  @Override
+  public ImmutableSortedSet<String> getLabels() {
+    return labels;
+  }
+
+  /**
+   * The name of build target default "new" platform: it is used when a platform is not specified
+   * either globally or in a target which used this target as a dependency.
+   * <p>The value is a build target, but we specify it as string, because this function is not
+   * actually called, but the attr is fetched by name from the raw (unconfigured) target node.
+   */
+  @Override
+  public Optional<UnconfiguredBuildTarget> getDefaultTargetPlatform() {
+    return Optional.ofNullable(defaultTargetPlatform);
+  }
+
+  /**
+   *A list of {@code config_setting} a target is compatible with. 
+   */
+  @Override
+  public ImmutableList<UnconfiguredBuildTarget> getCompatibleWith() {
+    return compatibleWith;
+  }
+
+  /**
+   *Each rule has a name 
+   */
+  @Override
+  public String getName() {
+    return name;
+  }
+
+  /**
+   * This instance is equal to all instances of {@code CxxToolchainDescriptionArg} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof CxxToolchainDescriptionArg
+        && equalTo((CxxToolchainDescriptionArg) another);
+  }
+
+  private boolean equalTo(CxxToolchainDescriptionArg another) {
+    return privateHeadersSymlinksEnabled == another.privateHeadersSymlinksEnabled
+        && publicHeadersSymlinksEnabled == another.publicHeadersSymlinksEnabled
+        && useArgFile == another.useArgFile
+        && sharedLibraryExtension.equals(another.sharedLibraryExtension)
+        && sharedLibraryVersionedExtensionFormat.equals(another.sharedLibraryVersionedExtensionFormat)
+        && staticLibraryExtension.equals(another.staticLibraryExtension)
+        && objectFileExtension.equals(another.objectFileExtension)
+        && Objects.equals(binaryExtension, another.binaryExtension)
+        && compilerType.equals(another.compilerType)
+        && linkerType.equals(another.linkerType)
+        && assembler.equals(another.assembler)
+        && assemblerFlags.equals(another.assemblerFlags)
+        && cCompiler.equals(another.cCompiler)
+        && cCompilerFlags.equals(another.cCompilerFlags)
+        && cxxCompiler.equals(another.cxxCompiler)
+        && cxxCompilerFlags.equals(another.cxxCompilerFlags)
+        && linker.equals(another.linker)
+        && linkerFlags.equals(another.linkerFlags)
+        && archiver.equals(another.archiver)
+        && archiverFlags.equals(another.archiverFlags)
+        && archiverType.equals(another.archiverType)
+        && strip.equals(another.strip)
+        && Objects.equals(ranlib, another.ranlib)
+        && ranlibFlags.equals(another.ranlibFlags)
+        && stripFlags.equals(another.stripFlags)
+        && staticDepRuntimeLdFlags.equals(another.staticDepRuntimeLdFlags)
+        && staticPicDepRuntimeLdFlags.equals(another.staticPicDepRuntimeLdFlags)
+        && sharedDepRuntimeLdFlags.equals(another.sharedDepRuntimeLdFlags)
+        && nm.equals(another.nm)
+        && sharedLibraryInterfaceType.equals(another.sharedLibraryInterfaceType)
+        && objcopyForSharedLibraryInterface.equals(another.objcopyForSharedLibraryInterface)
+        && useHeaderMap == another.useHeaderMap
+        && filepathLengthLimited == another.filepathLengthLimited
+        && headersWhitelist.equals(another.headersWhitelist)
+        && licenses.equals(another.licenses)
+        && labels.equals(another.labels)
+        && Objects.equals(defaultTargetPlatform, another.defaultTargetPlatform)
+        && compatibleWith.equals(another.compatibleWith)
+        && name.equals(another.name);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code privateHeadersSymlinksEnabled}, {@code publicHeadersSymlinksEnabled}, {@code useArgFile}, {@code sharedLibraryExtension}, {@code sharedLibraryVersionedExtensionFormat}, {@code staticLibraryExtension}, {@code objectFileExtension}, {@code binaryExtension}, {@code compilerType}, {@code linkerType}, {@code assembler}, {@code assemblerFlags}, {@code cCompiler}, {@code cCompilerFlags}, {@code cxxCompiler}, {@code cxxCompilerFlags}, {@code linker}, {@code linkerFlags}, {@code archiver}, {@code archiverFlags}, {@code archiverType}, {@code strip}, {@code ranlib}, {@code ranlibFlags}, {@code stripFlags}, {@code staticDepRuntimeLdFlags}, {@code staticPicDepRuntimeLdFlags}, {@code sharedDepRuntimeLdFlags}, {@code nm}, {@code sharedLibraryInterfaceType}, {@code objcopyForSharedLibraryInterface}, {@code useHeaderMap}, {@code filepathLengthLimited}, {@code headersWhitelist}, {@code licenses}, {@code labels}, {@code defaultTargetPlatform}, {@code compatibleWith}, {@code name}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    @Var int h = 5381;
+    h += (h << 5) + Booleans.hashCode(privateHeadersSymlinksEnabled);
+    h += (h << 5) + Booleans.hashCode(publicHeadersSymlinksEnabled);
+    h += (h << 5) + Booleans.hashCode(useArgFile);
+    h += (h << 5) + sharedLibraryExtension.hashCode();
+    h += (h << 5) + sharedLibraryVersionedExtensionFormat.hashCode();
+    h += (h << 5) + staticLibraryExtension.hashCode();
+    h += (h << 5) + objectFileExtension.hashCode();
+    h += (h << 5) + Objects.hashCode(binaryExtension);
+    h += (h << 5) + compilerType.hashCode();
+    h += (h << 5) + linkerType.hashCode();
+    h += (h << 5) + assembler.hashCode();
+    h += (h << 5) + assemblerFlags.hashCode();
+    h += (h << 5) + cCompiler.hashCode();
+    h += (h << 5) + cCompilerFlags.hashCode();
+    h += (h << 5) + cxxCompiler.hashCode();
+    h += (h << 5) + cxxCompilerFlags.hashCode();
+    h += (h << 5) + linker.hashCode();
+    h += (h << 5) + linkerFlags.hashCode();
+    h += (h << 5) + archiver.hashCode();
+    h += (h << 5) + archiverFlags.hashCode();
+    h += (h << 5) + archiverType.hashCode();
+    h += (h << 5) + strip.hashCode();
+    h += (h << 5) + Objects.hashCode(ranlib);
+    h += (h << 5) + ranlibFlags.hashCode();
+    h += (h << 5) + stripFlags.hashCode();
+    h += (h << 5) + staticDepRuntimeLdFlags.hashCode();
+    h += (h << 5) + staticPicDepRuntimeLdFlags.hashCode();
+    h += (h << 5) + sharedDepRuntimeLdFlags.hashCode();
+    h += (h << 5) + nm.hashCode();
+    h += (h << 5) + sharedLibraryInterfaceType.hashCode();
+    h += (h << 5) + objcopyForSharedLibraryInterface.hashCode();
+    h += (h << 5) + Booleans.hashCode(useHeaderMap);
+    h += (h << 5) + Booleans.hashCode(filepathLengthLimited);
+    h += (h << 5) + headersWhitelist.hashCode();
+    h += (h << 5) + licenses.hashCode();
+    h += (h << 5) + labels.hashCode();
+    h += (h << 5) + Objects.hashCode(defaultTargetPlatform);
+    h += (h << 5) + compatibleWith.hashCode();
+    h += (h << 5) + name.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code CxxToolchainDescriptionArg} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("CxxToolchainDescriptionArg")
+        .omitNullValues()
+        .add("privateHeadersSymlinksEnabled", privateHeadersSymlinksEnabled)
+        .add("publicHeadersSymlinksEnabled", publicHeadersSymlinksEnabled)
+        .add("useArgFile", useArgFile)
+        .add("sharedLibraryExtension", sharedLibraryExtension)
+        .add("sharedLibraryVersionedExtensionFormat", sharedLibraryVersionedExtensionFormat)
+        .add("staticLibraryExtension", staticLibraryExtension)
+        .add("objectFileExtension", objectFileExtension)
+        .add("binaryExtension", binaryExtension)
+        .add("compilerType", compilerType)
+        .add("linkerType", linkerType)
+        .add("assembler", assembler)
+        .add("assemblerFlags", assemblerFlags)
+        .add("cCompiler", cCompiler)
+        .add("cCompilerFlags", cCompilerFlags)
+        .add("cxxCompiler", cxxCompiler)
+        .add("cxxCompilerFlags", cxxCompilerFlags)
+        .add("linker", linker)
+        .add("linkerFlags", linkerFlags)
+        .add("archiver", archiver)
+        .add("archiverFlags", archiverFlags)
+        .add("archiverType", archiverType)
+        .add("strip", strip)
+        .add("ranlib", ranlib)
+        .add("ranlibFlags", ranlibFlags)
+        .add("stripFlags", stripFlags)
+        .add("staticDepRuntimeLdFlags", staticDepRuntimeLdFlags)
+        .add("staticPicDepRuntimeLdFlags", staticPicDepRuntimeLdFlags)
+        .add("sharedDepRuntimeLdFlags", sharedDepRuntimeLdFlags)
+        .add("nm", nm)
+        .add("sharedLibraryInterfaceType", sharedLibraryInterfaceType)
+        .add("objcopyForSharedLibraryInterface", objcopyForSharedLibraryInterface)
+        .add("useHeaderMap", useHeaderMap)
+        .add("filepathLengthLimited", filepathLengthLimited)
+        .add("headersWhitelist", headersWhitelist)
+        .add("licenses", licenses)
+        .add("labels", labels)
+        .add("defaultTargetPlatform", defaultTargetPlatform)
+        .add("compatibleWith", compatibleWith)
+        .add("name", name)
+        .toString();
+  }
+
+  /**
+   * Creates a builder for {@link CxxToolchainDescriptionArg CxxToolchainDescriptionArg}.
+   * @return A new CxxToolchainDescriptionArg builder
+   */
+  public static CxxToolchainDescriptionArg.Builder builder() {
+    return new CxxToolchainDescriptionArg.Builder();
+  }
+
+  /**
+   * Builds instances of type {@link CxxToolchainDescriptionArg CxxToolchainDescriptionArg}.
+   * Initialize attributes and then invoke the {@link #build()} method to create an
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread-safe and generally should not be stored in a field or collection,
+   * but instead used immediately to create instances.</em>
+   */
+  @Generated(from = "CxxToolchainDescription.AbstractCxxToolchainDescriptionArg", generator = "Immutables")
+  @NotThreadSafe
+  public static final class Builder {
+    private static final long INIT_BIT_SHARED_LIBRARY_EXTENSION = 0x1L;
+    private static final long INIT_BIT_SHARED_LIBRARY_VERSIONED_EXTENSION_FORMAT = 0x2L;
+    private static final long INIT_BIT_STATIC_LIBRARY_EXTENSION = 0x4L;
+    private static final long INIT_BIT_OBJECT_FILE_EXTENSION = 0x8L;
+    private static final long INIT_BIT_COMPILER_TYPE = 0x10L;
+    private static final long INIT_BIT_LINKER_TYPE = 0x20L;
+    private static final long INIT_BIT_ASSEMBLER = 0x40L;
+    private static final long INIT_BIT_C_COMPILER = 0x80L;
+    private static final long INIT_BIT_CXX_COMPILER = 0x100L;
+    private static final long INIT_BIT_LINKER = 0x200L;
+    private static final long INIT_BIT_ARCHIVER = 0x400L;
+    private static final long INIT_BIT_ARCHIVER_TYPE = 0x800L;
+    private static final long INIT_BIT_STRIP = 0x1000L;
+    private static final long INIT_BIT_NM = 0x2000L;
+    private static final long INIT_BIT_SHARED_LIBRARY_INTERFACE_TYPE = 0x4000L;
+    private static final long INIT_BIT_OBJCOPY_FOR_SHARED_LIBRARY_INTERFACE = 0x8000L;
+    private static final long INIT_BIT_USE_HEADER_MAP = 0x10000L;
+    private static final long INIT_BIT_NAME = 0x20000L;
+    private static final long OPT_BIT_PRIVATE_HEADERS_SYMLINKS_ENABLED = 0x1L;
+    private static final long OPT_BIT_PUBLIC_HEADERS_SYMLINKS_ENABLED = 0x2L;
+    private static final long OPT_BIT_USE_ARG_FILE = 0x4L;
+    private static final long OPT_BIT_FILEPATH_LENGTH_LIMITED = 0x8L;
+    private long initBits = 0x3ffffL;
+    private long optBits;
+
+    private boolean privateHeadersSymlinksEnabled;
+    private boolean publicHeadersSymlinksEnabled;
+    private boolean useArgFile;
+    private @Nullable String sharedLibraryExtension;
+    private @Nullable String sharedLibraryVersionedExtensionFormat;
+    private @Nullable String staticLibraryExtension;
+    private @Nullable String objectFileExtension;
+    private @Nullable String binaryExtension;
+    private @Nullable CxxToolProvider.Type compilerType;
+    private @Nullable LinkerProvider.Type linkerType;
+    private @Nullable SourcePath assembler;
+    private ImmutableList.Builder<String> assemblerFlags = ImmutableList.builder();
+    private @Nullable SourcePath cCompiler;
+    private ImmutableList.Builder<String> cCompilerFlags = ImmutableList.builder();
+    private @Nullable SourcePath cxxCompiler;
+    private ImmutableList.Builder<String> cxxCompilerFlags = ImmutableList.builder();
+    private @Nullable SourcePath linker;
+    private ImmutableList.Builder<String> linkerFlags = ImmutableList.builder();
+    private @Nullable SourcePath archiver;
+    private ImmutableList.Builder<String> archiverFlags = ImmutableList.builder();
+    private @Nullable ArchiverProvider.Type archiverType;
+    private @Nullable SourcePath strip;
+    private @Nullable SourcePath ranlib;
+    private ImmutableList.Builder<String> ranlibFlags = ImmutableList.builder();
+    private ImmutableList.Builder<String> stripFlags = ImmutableList.builder();
+    private ImmutableList.Builder<String> staticDepRuntimeLdFlags = ImmutableList.builder();
+    private ImmutableList.Builder<String> staticPicDepRuntimeLdFlags = ImmutableList.builder();
+    private ImmutableList.Builder<String> sharedDepRuntimeLdFlags = ImmutableList.builder();
+    private @Nullable SourcePath nm;
+    private @Nullable SharedLibraryInterfaceParams.Type sharedLibraryInterfaceType;
+    private @Nullable SourcePath objcopyForSharedLibraryInterface;
+    private boolean useHeaderMap;
+    private boolean filepathLengthLimited;
+    private ImmutableList.Builder<String> headersWhitelist = ImmutableList.builder();
+    private ImmutableSet.Builder<SourcePath> licenses = ImmutableSet.builder();
+    private ImmutableSortedSet.Builder<String> labels = ImmutableSortedSet.naturalOrder();
+    private @Nullable UnconfiguredBuildTarget defaultTargetPlatform;
+    private ImmutableList.Builder<UnconfiguredBuildTarget> compatibleWith = ImmutableList.builder();
+    private @Nullable String name;
+
+    private Builder() {
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code CxxToolchainDescriptionArg} instance.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder from(CxxToolchainDescriptionArg instance) {
+      Objects.requireNonNull(instance, "instance");
+      from((Object) instance);
+      return this;
+    }
+
+    /**
+     * Copy abstract value type {@code AbstractCxxToolchainDescriptionArg} instance into builder.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder from(CxxToolchainDescription.AbstractCxxToolchainDescriptionArg instance) {
+      Objects.requireNonNull(instance, "instance");
+      from((Object) instance);
+      return this;
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code com.facebook.buck.core.description.arg.BuildRuleArg} instance.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder from(BuildRuleArg instance) {
+      Objects.requireNonNull(instance, "instance");
+      from((Object) instance);
+      return this;
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code com.facebook.buck.core.description.arg.ConstructorArg} instance.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder from(ConstructorArg instance) {
+      Objects.requireNonNull(instance, "instance");
+      from((Object) instance);
+      return this;
+    }
+
+    private void from(Object object) {
+      if (object instanceof CxxToolchainDescription.AbstractCxxToolchainDescriptionArg) {
+        CxxToolchainDescription.AbstractCxxToolchainDescriptionArg instance = (CxxToolchainDescription.AbstractCxxToolchainDescriptionArg) object;
+        addAllCxxCompilerFlags(instance.getCxxCompilerFlags());
+        setObjcopyForSharedLibraryInterface(instance.getObjcopyForSharedLibraryInterface());
+        setArchiver(instance.getArchiver());
+        setUseArgFile(instance.getUseArgFile());
+        addAllAssemblerFlags(instance.getAssemblerFlags());
+        addAllSharedDepRuntimeLdFlags(instance.getSharedDepRuntimeLdFlags());
+        setLinkerType(instance.getLinkerType());
+        setStrip(instance.getStrip());
+        setFilepathLengthLimited(instance.getFilepathLengthLimited());
+        Optional<SourcePath> ranlibOptional = instance.getRanlib();
+        if (ranlibOptional.isPresent()) {
+          setRanlib(ranlibOptional);
+        }
+        addAllCCompilerFlags(instance.getCCompilerFlags());
+        setArchiverType(instance.getArchiverType());
+        setSharedLibraryInterfaceType(instance.getSharedLibraryInterfaceType());
+        setStaticLibraryExtension(instance.getStaticLibraryExtension());
+        setLinker(instance.getLinker());
+        setSharedLibraryExtension(instance.getSharedLibraryExtension());
+        setSharedLibraryVersionedExtensionFormat(instance.getSharedLibraryVersionedExtensionFormat());
+        setAssembler(instance.getAssembler());
+        addAllRanlibFlags(instance.getRanlibFlags());
+        setUseHeaderMap(instance.getUseHeaderMap());
+        addAllLinkerFlags(instance.getLinkerFlags());
+        setObjectFileExtension(instance.getObjectFileExtension());
+        Optional<String> binaryExtensionOptional = instance.getBinaryExtension();
+        if (binaryExtensionOptional.isPresent()) {
+          setBinaryExtension(binaryExtensionOptional);
+        }
+        addAllStaticPicDepRuntimeLdFlags(instance.getStaticPicDepRuntimeLdFlags());
+        setCompilerType(instance.getCompilerType());
+        addAllStripFlags(instance.getStripFlags());
+        addAllStaticDepRuntimeLdFlags(instance.getStaticDepRuntimeLdFlags());
+        setCxxCompiler(instance.getCxxCompiler());
+        addAllHeadersWhitelist(instance.getHeadersWhitelist());
+        setCCompiler(instance.getCCompiler());
+        addAllArchiverFlags(instance.getArchiverFlags());
+        setPrivateHeadersSymlinksEnabled(instance.getPrivateHeadersSymlinksEnabled());
+        setPublicHeadersSymlinksEnabled(instance.getPublicHeadersSymlinksEnabled());
+        setNm(instance.getNm());
+      }
+      if (object instanceof BuildRuleArg) {
+        BuildRuleArg instance = (BuildRuleArg) object;
+        addAllLicenses(instance.getLicenses());
+        addAllCompatibleWith(instance.getCompatibleWith());
+        addAllLabels(instance.getLabels());
+        Optional<UnconfiguredBuildTarget> defaultTargetPlatformOptional = instance.getDefaultTargetPlatform();
+        if (defaultTargetPlatformOptional.isPresent()) {
+          setDefaultTargetPlatform(defaultTargetPlatformOptional);
+        }
+      }
+      if (object instanceof ConstructorArg) {
+        ConstructorArg instance = (ConstructorArg) object;
+        setName(instance.getName());
+      }
+    }
+
+    /**
+     * Initializes the value for the {@link CxxToolchainDescriptionArg#getPrivateHeadersSymlinksEnabled() privateHeadersSymlinksEnabled} attribute.
+     * <p><em>If not set, this attribute will have a default value as returned by the initializer of {@link CxxToolchainDescriptionArg#getPrivateHeadersSymlinksEnabled() privateHeadersSymlinksEnabled}.</em>
+     * @param privateHeadersSymlinksEnabled The value for privateHeadersSymlinksEnabled 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setPrivateHeadersSymlinksEnabled(boolean privateHeadersSymlinksEnabled) {
+      this.privateHeadersSymlinksEnabled = privateHeadersSymlinksEnabled;
+      optBits |= OPT_BIT_PRIVATE_HEADERS_SYMLINKS_ENABLED;
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link CxxToolchainDescriptionArg#getPublicHeadersSymlinksEnabled() publicHeadersSymlinksEnabled} attribute.
+     * <p><em>If not set, this attribute will have a default value as returned by the initializer of {@link CxxToolchainDescriptionArg#getPublicHeadersSymlinksEnabled() publicHeadersSymlinksEnabled}.</em>
+     * @param publicHeadersSymlinksEnabled The value for publicHeadersSymlinksEnabled 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setPublicHeadersSymlinksEnabled(boolean publicHeadersSymlinksEnabled) {
+      this.publicHeadersSymlinksEnabled = publicHeadersSymlinksEnabled;
+      optBits |= OPT_BIT_PUBLIC_HEADERS_SYMLINKS_ENABLED;
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link CxxToolchainDescriptionArg#getUseArgFile() useArgFile} attribute.
+     * <p><em>If not set, this attribute will have a default value as returned by the initializer of {@link CxxToolchainDescriptionArg#getUseArgFile() useArgFile}.</em>
+     * @param useArgFile The value for useArgFile 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setUseArgFile(boolean useArgFile) {
+      this.useArgFile = useArgFile;
+      optBits |= OPT_BIT_USE_ARG_FILE;
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link CxxToolchainDescriptionArg#getSharedLibraryExtension() sharedLibraryExtension} attribute.
+     * @param sharedLibraryExtension The value for sharedLibraryExtension 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setSharedLibraryExtension(String sharedLibraryExtension) {
+      this.sharedLibraryExtension = Objects.requireNonNull(sharedLibraryExtension, "sharedLibraryExtension");
+      initBits &= ~INIT_BIT_SHARED_LIBRARY_EXTENSION;
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link CxxToolchainDescriptionArg#getSharedLibraryVersionedExtensionFormat() sharedLibraryVersionedExtensionFormat} attribute.
+     * @param sharedLibraryVersionedExtensionFormat The value for sharedLibraryVersionedExtensionFormat 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setSharedLibraryVersionedExtensionFormat(String sharedLibraryVersionedExtensionFormat) {
+      this.sharedLibraryVersionedExtensionFormat = Objects.requireNonNull(sharedLibraryVersionedExtensionFormat, "sharedLibraryVersionedExtensionFormat");
+      initBits &= ~INIT_BIT_SHARED_LIBRARY_VERSIONED_EXTENSION_FORMAT;
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link CxxToolchainDescriptionArg#getStaticLibraryExtension() staticLibraryExtension} attribute.
+     * @param staticLibraryExtension The value for staticLibraryExtension 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setStaticLibraryExtension(String staticLibraryExtension) {
+      this.staticLibraryExtension = Objects.requireNonNull(staticLibraryExtension, "staticLibraryExtension");
+      initBits &= ~INIT_BIT_STATIC_LIBRARY_EXTENSION;
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link CxxToolchainDescriptionArg#getObjectFileExtension() objectFileExtension} attribute.
+     * @param objectFileExtension The value for objectFileExtension 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setObjectFileExtension(String objectFileExtension) {
+      this.objectFileExtension = Objects.requireNonNull(objectFileExtension, "objectFileExtension");
+      initBits &= ~INIT_BIT_OBJECT_FILE_EXTENSION;
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link CxxToolchainDescriptionArg#getBinaryExtension() binaryExtension} to binaryExtension.
+     * @param binaryExtension The value for binaryExtension
+     * @return {@code this} builder for chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setBinaryExtension(String binaryExtension) {
+      this.binaryExtension = Objects.requireNonNull(binaryExtension, "binaryExtension");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link CxxToolchainDescriptionArg#getBinaryExtension() binaryExtension} to binaryExtension.
+     * @param binaryExtension The value for binaryExtension
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setBinaryExtension(Optional<String> binaryExtension) {
+      this.binaryExtension = binaryExtension.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link CxxToolchainDescriptionArg#getCompilerType() compilerType} attribute.
+     * @param compilerType The value for compilerType 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setCompilerType(CxxToolProvider.Type compilerType) {
+      this.compilerType = Objects.requireNonNull(compilerType, "compilerType");
+      initBits &= ~INIT_BIT_COMPILER_TYPE;
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link CxxToolchainDescriptionArg#getLinkerType() linkerType} attribute.
+     * @param linkerType The value for linkerType 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setLinkerType(LinkerProvider.Type linkerType) {
+      this.linkerType = Objects.requireNonNull(linkerType, "linkerType");
+      initBits &= ~INIT_BIT_LINKER_TYPE;
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link CxxToolchainDescriptionArg#getAssembler() assembler} attribute.
+     * @param assembler The value for assembler 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setAssembler(SourcePath assembler) {
+      this.assembler = Objects.requireNonNull(assembler, "assembler");
+      initBits &= ~INIT_BIT_ASSEMBLER;
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link CxxToolchainDescriptionArg#getAssemblerFlags() assemblerFlags} list.
+     * @param element A assemblerFlags element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addAssemblerFlags(String element) {
+      this.assemblerFlags.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link CxxToolchainDescriptionArg#getAssemblerFlags() assemblerFlags} list.
+     * @param elements An array of assemblerFlags elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addAssemblerFlags(String... elements) {
+      this.assemblerFlags.add(elements);
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link CxxToolchainDescriptionArg#getAssemblerFlags() assemblerFlags} list.
+     * @param elements An iterable of assemblerFlags elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setAssemblerFlags(Iterable<String> elements) {
+      this.assemblerFlags = ImmutableList.builder();
+      return addAllAssemblerFlags(elements);
+    }
+
+    /**
+     * Adds elements to {@link CxxToolchainDescriptionArg#getAssemblerFlags() assemblerFlags} list.
+     * @param elements An iterable of assemblerFlags elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addAllAssemblerFlags(Iterable<String> elements) {
+      this.assemblerFlags.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link CxxToolchainDescriptionArg#getCCompiler() cCompiler} attribute.
+     * @param cCompiler The value for cCompiler 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setCCompiler(SourcePath cCompiler) {
+      this.cCompiler = Objects.requireNonNull(cCompiler, "cCompiler");
+      initBits &= ~INIT_BIT_C_COMPILER;
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link CxxToolchainDescriptionArg#getCCompilerFlags() cCompilerFlags} list.
+     * @param element A cCompilerFlags element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addCCompilerFlags(String element) {
+      this.cCompilerFlags.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link CxxToolchainDescriptionArg#getCCompilerFlags() cCompilerFlags} list.
+     * @param elements An array of cCompilerFlags elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addCCompilerFlags(String... elements) {
+      this.cCompilerFlags.add(elements);
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link CxxToolchainDescriptionArg#getCCompilerFlags() cCompilerFlags} list.
+     * @param elements An iterable of cCompilerFlags elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setCCompilerFlags(Iterable<String> elements) {
+      this.cCompilerFlags = ImmutableList.builder();
+      return addAllCCompilerFlags(elements);
+    }
+
+    /**
+     * Adds elements to {@link CxxToolchainDescriptionArg#getCCompilerFlags() cCompilerFlags} list.
+     * @param elements An iterable of cCompilerFlags elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addAllCCompilerFlags(Iterable<String> elements) {
+      this.cCompilerFlags.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link CxxToolchainDescriptionArg#getCxxCompiler() cxxCompiler} attribute.
+     * @param cxxCompiler The value for cxxCompiler 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setCxxCompiler(SourcePath cxxCompiler) {
+      this.cxxCompiler = Objects.requireNonNull(cxxCompiler, "cxxCompiler");
+      initBits &= ~INIT_BIT_CXX_COMPILER;
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link CxxToolchainDescriptionArg#getCxxCompilerFlags() cxxCompilerFlags} list.
+     * @param element A cxxCompilerFlags element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addCxxCompilerFlags(String element) {
+      this.cxxCompilerFlags.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link CxxToolchainDescriptionArg#getCxxCompilerFlags() cxxCompilerFlags} list.
+     * @param elements An array of cxxCompilerFlags elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addCxxCompilerFlags(String... elements) {
+      this.cxxCompilerFlags.add(elements);
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link CxxToolchainDescriptionArg#getCxxCompilerFlags() cxxCompilerFlags} list.
+     * @param elements An iterable of cxxCompilerFlags elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setCxxCompilerFlags(Iterable<String> elements) {
+      this.cxxCompilerFlags = ImmutableList.builder();
+      return addAllCxxCompilerFlags(elements);
+    }
+
+    /**
+     * Adds elements to {@link CxxToolchainDescriptionArg#getCxxCompilerFlags() cxxCompilerFlags} list.
+     * @param elements An iterable of cxxCompilerFlags elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addAllCxxCompilerFlags(Iterable<String> elements) {
+      this.cxxCompilerFlags.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link CxxToolchainDescriptionArg#getLinker() linker} attribute.
+     * @param linker The value for linker 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setLinker(SourcePath linker) {
+      this.linker = Objects.requireNonNull(linker, "linker");
+      initBits &= ~INIT_BIT_LINKER;
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link CxxToolchainDescriptionArg#getLinkerFlags() linkerFlags} list.
+     * @param element A linkerFlags element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addLinkerFlags(String element) {
+      this.linkerFlags.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link CxxToolchainDescriptionArg#getLinkerFlags() linkerFlags} list.
+     * @param elements An array of linkerFlags elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addLinkerFlags(String... elements) {
+      this.linkerFlags.add(elements);
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link CxxToolchainDescriptionArg#getLinkerFlags() linkerFlags} list.
+     * @param elements An iterable of linkerFlags elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setLinkerFlags(Iterable<String> elements) {
+      this.linkerFlags = ImmutableList.builder();
+      return addAllLinkerFlags(elements);
+    }
+
+    /**
+     * Adds elements to {@link CxxToolchainDescriptionArg#getLinkerFlags() linkerFlags} list.
+     * @param elements An iterable of linkerFlags elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addAllLinkerFlags(Iterable<String> elements) {
+      this.linkerFlags.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link CxxToolchainDescriptionArg#getArchiver() archiver} attribute.
+     * @param archiver The value for archiver 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setArchiver(SourcePath archiver) {
+      this.archiver = Objects.requireNonNull(archiver, "archiver");
+      initBits &= ~INIT_BIT_ARCHIVER;
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link CxxToolchainDescriptionArg#getArchiverFlags() archiverFlags} list.
+     * @param element A archiverFlags element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addArchiverFlags(String element) {
+      this.archiverFlags.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link CxxToolchainDescriptionArg#getArchiverFlags() archiverFlags} list.
+     * @param elements An array of archiverFlags elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addArchiverFlags(String... elements) {
+      this.archiverFlags.add(elements);
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link CxxToolchainDescriptionArg#getArchiverFlags() archiverFlags} list.
+     * @param elements An iterable of archiverFlags elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setArchiverFlags(Iterable<String> elements) {
+      this.archiverFlags = ImmutableList.builder();
+      return addAllArchiverFlags(elements);
+    }
+
+    /**
+     * Adds elements to {@link CxxToolchainDescriptionArg#getArchiverFlags() archiverFlags} list.
+     * @param elements An iterable of archiverFlags elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addAllArchiverFlags(Iterable<String> elements) {
+      this.archiverFlags.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link CxxToolchainDescriptionArg#getArchiverType() archiverType} attribute.
+     * @param archiverType The value for archiverType 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setArchiverType(ArchiverProvider.Type archiverType) {
+      this.archiverType = Objects.requireNonNull(archiverType, "archiverType");
+      initBits &= ~INIT_BIT_ARCHIVER_TYPE;
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link CxxToolchainDescriptionArg#getStrip() strip} attribute.
+     * @param strip The value for strip 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setStrip(SourcePath strip) {
+      this.strip = Objects.requireNonNull(strip, "strip");
+      initBits &= ~INIT_BIT_STRIP;
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link CxxToolchainDescriptionArg#getRanlib() ranlib} to ranlib.
+     * @param ranlib The value for ranlib
+     * @return {@code this} builder for chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setRanlib(SourcePath ranlib) {
+      this.ranlib = Objects.requireNonNull(ranlib, "ranlib");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link CxxToolchainDescriptionArg#getRanlib() ranlib} to ranlib.
+     * @param ranlib The value for ranlib
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setRanlib(Optional<? extends SourcePath> ranlib) {
+      this.ranlib = ranlib.orElse(null);
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link CxxToolchainDescriptionArg#getRanlibFlags() ranlibFlags} list.
+     * @param element A ranlibFlags element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addRanlibFlags(String element) {
+      this.ranlibFlags.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link CxxToolchainDescriptionArg#getRanlibFlags() ranlibFlags} list.
+     * @param elements An array of ranlibFlags elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addRanlibFlags(String... elements) {
+      this.ranlibFlags.add(elements);
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link CxxToolchainDescriptionArg#getRanlibFlags() ranlibFlags} list.
+     * @param elements An iterable of ranlibFlags elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setRanlibFlags(Iterable<String> elements) {
+      this.ranlibFlags = ImmutableList.builder();
+      return addAllRanlibFlags(elements);
+    }
+
+    /**
+     * Adds elements to {@link CxxToolchainDescriptionArg#getRanlibFlags() ranlibFlags} list.
+     * @param elements An iterable of ranlibFlags elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addAllRanlibFlags(Iterable<String> elements) {
+      this.ranlibFlags.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link CxxToolchainDescriptionArg#getStripFlags() stripFlags} list.
+     * @param element A stripFlags element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addStripFlags(String element) {
+      this.stripFlags.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link CxxToolchainDescriptionArg#getStripFlags() stripFlags} list.
+     * @param elements An array of stripFlags elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addStripFlags(String... elements) {
+      this.stripFlags.add(elements);
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link CxxToolchainDescriptionArg#getStripFlags() stripFlags} list.
+     * @param elements An iterable of stripFlags elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setStripFlags(Iterable<String> elements) {
+      this.stripFlags = ImmutableList.builder();
+      return addAllStripFlags(elements);
+    }
+
+    /**
+     * Adds elements to {@link CxxToolchainDescriptionArg#getStripFlags() stripFlags} list.
+     * @param elements An iterable of stripFlags elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addAllStripFlags(Iterable<String> elements) {
+      this.stripFlags.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link CxxToolchainDescriptionArg#getStaticDepRuntimeLdFlags() staticDepRuntimeLdFlags} list.
+     * @param element A staticDepRuntimeLdFlags element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addStaticDepRuntimeLdFlags(String element) {
+      this.staticDepRuntimeLdFlags.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link CxxToolchainDescriptionArg#getStaticDepRuntimeLdFlags() staticDepRuntimeLdFlags} list.
+     * @param elements An array of staticDepRuntimeLdFlags elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addStaticDepRuntimeLdFlags(String... elements) {
+      this.staticDepRuntimeLdFlags.add(elements);
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link CxxToolchainDescriptionArg#getStaticDepRuntimeLdFlags() staticDepRuntimeLdFlags} list.
+     * @param elements An iterable of staticDepRuntimeLdFlags elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setStaticDepRuntimeLdFlags(Iterable<String> elements) {
+      this.staticDepRuntimeLdFlags = ImmutableList.builder();
+      return addAllStaticDepRuntimeLdFlags(elements);
+    }
+
+    /**
+     * Adds elements to {@link CxxToolchainDescriptionArg#getStaticDepRuntimeLdFlags() staticDepRuntimeLdFlags} list.
+     * @param elements An iterable of staticDepRuntimeLdFlags elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addAllStaticDepRuntimeLdFlags(Iterable<String> elements) {
+      this.staticDepRuntimeLdFlags.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link CxxToolchainDescriptionArg#getStaticPicDepRuntimeLdFlags() staticPicDepRuntimeLdFlags} list.
+     * @param element A staticPicDepRuntimeLdFlags element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addStaticPicDepRuntimeLdFlags(String element) {
+      this.staticPicDepRuntimeLdFlags.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link CxxToolchainDescriptionArg#getStaticPicDepRuntimeLdFlags() staticPicDepRuntimeLdFlags} list.
+     * @param elements An array of staticPicDepRuntimeLdFlags elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addStaticPicDepRuntimeLdFlags(String... elements) {
+      this.staticPicDepRuntimeLdFlags.add(elements);
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link CxxToolchainDescriptionArg#getStaticPicDepRuntimeLdFlags() staticPicDepRuntimeLdFlags} list.
+     * @param elements An iterable of staticPicDepRuntimeLdFlags elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setStaticPicDepRuntimeLdFlags(Iterable<String> elements) {
+      this.staticPicDepRuntimeLdFlags = ImmutableList.builder();
+      return addAllStaticPicDepRuntimeLdFlags(elements);
+    }
+
+    /**
+     * Adds elements to {@link CxxToolchainDescriptionArg#getStaticPicDepRuntimeLdFlags() staticPicDepRuntimeLdFlags} list.
+     * @param elements An iterable of staticPicDepRuntimeLdFlags elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addAllStaticPicDepRuntimeLdFlags(Iterable<String> elements) {
+      this.staticPicDepRuntimeLdFlags.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link CxxToolchainDescriptionArg#getSharedDepRuntimeLdFlags() sharedDepRuntimeLdFlags} list.
+     * @param element A sharedDepRuntimeLdFlags element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addSharedDepRuntimeLdFlags(String element) {
+      this.sharedDepRuntimeLdFlags.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link CxxToolchainDescriptionArg#getSharedDepRuntimeLdFlags() sharedDepRuntimeLdFlags} list.
+     * @param elements An array of sharedDepRuntimeLdFlags elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addSharedDepRuntimeLdFlags(String... elements) {
+      this.sharedDepRuntimeLdFlags.add(elements);
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link CxxToolchainDescriptionArg#getSharedDepRuntimeLdFlags() sharedDepRuntimeLdFlags} list.
+     * @param elements An iterable of sharedDepRuntimeLdFlags elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setSharedDepRuntimeLdFlags(Iterable<String> elements) {
+      this.sharedDepRuntimeLdFlags = ImmutableList.builder();
+      return addAllSharedDepRuntimeLdFlags(elements);
+    }
+
+    /**
+     * Adds elements to {@link CxxToolchainDescriptionArg#getSharedDepRuntimeLdFlags() sharedDepRuntimeLdFlags} list.
+     * @param elements An iterable of sharedDepRuntimeLdFlags elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addAllSharedDepRuntimeLdFlags(Iterable<String> elements) {
+      this.sharedDepRuntimeLdFlags.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link CxxToolchainDescriptionArg#getNm() nm} attribute.
+     * @param nm The value for nm 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setNm(SourcePath nm) {
+      this.nm = Objects.requireNonNull(nm, "nm");
+      initBits &= ~INIT_BIT_NM;
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link CxxToolchainDescriptionArg#getSharedLibraryInterfaceType() sharedLibraryInterfaceType} attribute.
+     * @param sharedLibraryInterfaceType The value for sharedLibraryInterfaceType 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setSharedLibraryInterfaceType(SharedLibraryInterfaceParams.Type sharedLibraryInterfaceType) {
+      this.sharedLibraryInterfaceType = Objects.requireNonNull(sharedLibraryInterfaceType, "sharedLibraryInterfaceType");
+      initBits &= ~INIT_BIT_SHARED_LIBRARY_INTERFACE_TYPE;
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link CxxToolchainDescriptionArg#getObjcopyForSharedLibraryInterface() objcopyForSharedLibraryInterface} attribute.
+     * @param objcopyForSharedLibraryInterface The value for objcopyForSharedLibraryInterface 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setObjcopyForSharedLibraryInterface(SourcePath objcopyForSharedLibraryInterface) {
+      this.objcopyForSharedLibraryInterface = Objects.requireNonNull(objcopyForSharedLibraryInterface, "objcopyForSharedLibraryInterface");
+      initBits &= ~INIT_BIT_OBJCOPY_FOR_SHARED_LIBRARY_INTERFACE;
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link CxxToolchainDescriptionArg#getUseHeaderMap() useHeaderMap} attribute.
+     * @param useHeaderMap The value for useHeaderMap 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setUseHeaderMap(boolean useHeaderMap) {
+      this.useHeaderMap = useHeaderMap;
+      initBits &= ~INIT_BIT_USE_HEADER_MAP;
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link CxxToolchainDescriptionArg#getFilepathLengthLimited() filepathLengthLimited} attribute.
+     * <p><em>If not set, this attribute will have a default value as returned by the initializer of {@link CxxToolchainDescriptionArg#getFilepathLengthLimited() filepathLengthLimited}.</em>
+     * @param filepathLengthLimited The value for filepathLengthLimited 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setFilepathLengthLimited(boolean filepathLengthLimited) {
+      this.filepathLengthLimited = filepathLengthLimited;
+      optBits |= OPT_BIT_FILEPATH_LENGTH_LIMITED;
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link CxxToolchainDescriptionArg#getHeadersWhitelist() headersWhitelist} list.
+     * @param element A headersWhitelist element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addHeadersWhitelist(String element) {
+      this.headersWhitelist.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link CxxToolchainDescriptionArg#getHeadersWhitelist() headersWhitelist} list.
+     * @param elements An array of headersWhitelist elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addHeadersWhitelist(String... elements) {
+      this.headersWhitelist.add(elements);
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link CxxToolchainDescriptionArg#getHeadersWhitelist() headersWhitelist} list.
+     * @param elements An iterable of headersWhitelist elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setHeadersWhitelist(Iterable<String> elements) {
+      this.headersWhitelist = ImmutableList.builder();
+      return addAllHeadersWhitelist(elements);
+    }
+
+    /**
+     * Adds elements to {@link CxxToolchainDescriptionArg#getHeadersWhitelist() headersWhitelist} list.
+     * @param elements An iterable of headersWhitelist elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addAllHeadersWhitelist(Iterable<String> elements) {
+      this.headersWhitelist.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link CxxToolchainDescriptionArg#getLicenses() licenses} set.
+     * @param element A licenses element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addLicenses(SourcePath element) {
+      this.licenses.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link CxxToolchainDescriptionArg#getLicenses() licenses} set.
+     * @param elements An array of licenses elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addLicenses(SourcePath... elements) {
+      this.licenses.add(elements);
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link CxxToolchainDescriptionArg#getLicenses() licenses} set.
+     * @param elements An iterable of licenses elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setLicenses(Iterable<? extends SourcePath> elements) {
+      this.licenses = ImmutableSet.builder();
+      return addAllLicenses(elements);
+    }
+
+    /**
+     * Adds elements to {@link CxxToolchainDescriptionArg#getLicenses() licenses} set.
+     * @param elements An iterable of licenses elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addAllLicenses(Iterable<? extends SourcePath> elements) {
+      this.licenses.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link CxxToolchainDescriptionArg#getLabels() labels} sortedSet.
+     * @param element A labels element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addLabels(String element) {
+      this.labels.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link CxxToolchainDescriptionArg#getLabels() labels} sortedSet.
+     * @param elements An array of labels elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addLabels(String... elements) {
+      this.labels.addAll(Arrays.asList(elements));
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link CxxToolchainDescriptionArg#getLabels() labels} sortedSet.
+     * @param elements An iterable of labels elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setLabels(Iterable<String> elements) {
+      this.labels = ImmutableSortedSet.naturalOrder();
+      return addAllLabels(elements);
+    }
+
+    /**
+     * Adds elements to {@link CxxToolchainDescriptionArg#getLabels() labels} sortedSet.
+     * @param elements An iterable of labels elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addAllLabels(Iterable<String> elements) {
+      this.labels.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link CxxToolchainDescriptionArg#getDefaultTargetPlatform() defaultTargetPlatform} to defaultTargetPlatform.
+     * @param defaultTargetPlatform The value for defaultTargetPlatform
+     * @return {@code this} builder for chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setDefaultTargetPlatform(UnconfiguredBuildTarget defaultTargetPlatform) {
+      this.defaultTargetPlatform = Objects.requireNonNull(defaultTargetPlatform, "defaultTargetPlatform");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link CxxToolchainDescriptionArg#getDefaultTargetPlatform() defaultTargetPlatform} to defaultTargetPlatform.
+     * @param defaultTargetPlatform The value for defaultTargetPlatform
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setDefaultTargetPlatform(Optional<? extends UnconfiguredBuildTarget> defaultTargetPlatform) {
+      this.defaultTargetPlatform = defaultTargetPlatform.orElse(null);
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link CxxToolchainDescriptionArg#getCompatibleWith() compatibleWith} list.
+     * @param element A compatibleWith element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addCompatibleWith(UnconfiguredBuildTarget element) {
+      this.compatibleWith.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link CxxToolchainDescriptionArg#getCompatibleWith() compatibleWith} list.
+     * @param elements An array of compatibleWith elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addCompatibleWith(UnconfiguredBuildTarget... elements) {
+      this.compatibleWith.add(elements);
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link CxxToolchainDescriptionArg#getCompatibleWith() compatibleWith} list.
+     * @param elements An iterable of compatibleWith elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setCompatibleWith(Iterable<? extends UnconfiguredBuildTarget> elements) {
+      this.compatibleWith = ImmutableList.builder();
+      return addAllCompatibleWith(elements);
+    }
+
+    /**
+     * Adds elements to {@link CxxToolchainDescriptionArg#getCompatibleWith() compatibleWith} list.
+     * @param elements An iterable of compatibleWith elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addAllCompatibleWith(Iterable<? extends UnconfiguredBuildTarget> elements) {
+      this.compatibleWith.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link CxxToolchainDescriptionArg#getName() name} attribute.
+     * @param name The value for name 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setName(String name) {
+      this.name = Objects.requireNonNull(name, "name");
+      initBits &= ~INIT_BIT_NAME;
+      return this;
+    }
+
+    /**
+     * Builds a new {@link CxxToolchainDescriptionArg CxxToolchainDescriptionArg}.
+     * @return An immutable instance of CxxToolchainDescriptionArg
+     * @throws java.lang.IllegalStateException if any required attributes are missing
+     */
+    public CxxToolchainDescriptionArg build() {
+      if (initBits != 0) {
+        throw new IllegalStateException(formatRequiredAttributesMessage());
+      }
+      return new CxxToolchainDescriptionArg(this);
+    }
+
+    private boolean privateHeadersSymlinksEnabledIsSet() {
+      return (optBits & OPT_BIT_PRIVATE_HEADERS_SYMLINKS_ENABLED) != 0;
+    }
+
+    private boolean publicHeadersSymlinksEnabledIsSet() {
+      return (optBits & OPT_BIT_PUBLIC_HEADERS_SYMLINKS_ENABLED) != 0;
+    }
+
+    private boolean useArgFileIsSet() {
+      return (optBits & OPT_BIT_USE_ARG_FILE) != 0;
+    }
+
+    private boolean filepathLengthLimitedIsSet() {
+      return (optBits & OPT_BIT_FILEPATH_LENGTH_LIMITED) != 0;
+    }
+
+    private String formatRequiredAttributesMessage() {
+      List<String> attributes = new ArrayList<>();
+      if ((initBits & INIT_BIT_SHARED_LIBRARY_EXTENSION) != 0) attributes.add("sharedLibraryExtension");
+      if ((initBits & INIT_BIT_SHARED_LIBRARY_VERSIONED_EXTENSION_FORMAT) != 0) attributes.add("sharedLibraryVersionedExtensionFormat");
+      if ((initBits & INIT_BIT_STATIC_LIBRARY_EXTENSION) != 0) attributes.add("staticLibraryExtension");
+      if ((initBits & INIT_BIT_OBJECT_FILE_EXTENSION) != 0) attributes.add("objectFileExtension");
+      if ((initBits & INIT_BIT_COMPILER_TYPE) != 0) attributes.add("compilerType");
+      if ((initBits & INIT_BIT_LINKER_TYPE) != 0) attributes.add("linkerType");
+      if ((initBits & INIT_BIT_ASSEMBLER) != 0) attributes.add("assembler");
+      if ((initBits & INIT_BIT_C_COMPILER) != 0) attributes.add("cCompiler");
+      if ((initBits & INIT_BIT_CXX_COMPILER) != 0) attributes.add("cxxCompiler");
+      if ((initBits & INIT_BIT_LINKER) != 0) attributes.add("linker");
+      if ((initBits & INIT_BIT_ARCHIVER) != 0) attributes.add("archiver");
+      if ((initBits & INIT_BIT_ARCHIVER_TYPE) != 0) attributes.add("archiverType");
+      if ((initBits & INIT_BIT_STRIP) != 0) attributes.add("strip");
+      if ((initBits & INIT_BIT_NM) != 0) attributes.add("nm");
+      if ((initBits & INIT_BIT_SHARED_LIBRARY_INTERFACE_TYPE) != 0) attributes.add("sharedLibraryInterfaceType");
+      if ((initBits & INIT_BIT_OBJCOPY_FOR_SHARED_LIBRARY_INTERFACE) != 0) attributes.add("objcopyForSharedLibraryInterface");
+      if ((initBits & INIT_BIT_USE_HEADER_MAP) != 0) attributes.add("useHeaderMap");
+      if ((initBits & INIT_BIT_NAME) != 0) attributes.add("name");
+      return "Cannot build CxxToolchainDescriptionArg, some of required attributes are not set " + attributes;
+    }
+  }
+}
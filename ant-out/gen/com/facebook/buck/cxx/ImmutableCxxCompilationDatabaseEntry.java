@@ -0,0 +1,178 @@
+package com.facebook.buck.cxx;
+
+import com.fasterxml.jackson.annotation.JsonAutoDetect;
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.ImmutableList;
+import com.google.errorprone.annotations.Var;
+import java.util.Objects;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import org.immutables.value.Generated;
+
+/**
+ * Immutable implementation of {@link CxxCompilationDatabaseEntry}.
+ * <p>
+ * Use the static factory method to create immutable instances:
+ * {@code ImmutableCxxCompilationDatabaseEntry.of()}.
+ */
+@Generated(from = "CxxCompilationDatabaseEntry", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+final class ImmutableCxxCompilationDatabaseEntry
+    extends CxxCompilationDatabaseEntry {
+  private final String directory;
+  private final String file;
+  private final ImmutableList<String> arguments;
+
+  private ImmutableCxxCompilationDatabaseEntry(String directory, String file, Iterable<String> arguments) {
+    this.directory = Objects.requireNonNull(directory, "directory");
+    this.file = Objects.requireNonNull(file, "file");
+    this.arguments = ImmutableList.copyOf(arguments);
+  }
+
+  /**
+   * @return The value of the {@code directory} attribute
+   */
+  @JsonProperty
+  @Override
+  public String getDirectory() {
+    return directory;
+  }
+
+  /**
+   * @return The value of the {@code file} attribute
+   */
+  @JsonProperty
+  @Override
+  public String getFile() {
+    return file;
+  }
+
+  /**
+   * @return The value of the {@code arguments} attribute
+   */
+  @JsonProperty
+  @Override
+  public ImmutableList<String> getArguments() {
+    return arguments;
+  }
+
+  /**
+   * This instance is equal to all instances of {@code ImmutableCxxCompilationDatabaseEntry} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof ImmutableCxxCompilationDatabaseEntry
+        && equalTo((ImmutableCxxCompilationDatabaseEntry) another);
+  }
+
+  private boolean equalTo(ImmutableCxxCompilationDatabaseEntry another) {
+    return directory.equals(another.directory)
+        && file.equals(another.file)
+        && arguments.equals(another.arguments);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code directory}, {@code file}, {@code arguments}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    @Var int h = 5381;
+    h += (h << 5) + directory.hashCode();
+    h += (h << 5) + file.hashCode();
+    h += (h << 5) + arguments.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code CxxCompilationDatabaseEntry} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("CxxCompilationDatabaseEntry")
+        .omitNullValues()
+        .add("directory", directory)
+        .add("file", file)
+        .add("arguments", arguments)
+        .toString();
+  }
+
+  /**
+   * Utility type used to correctly read immutable object from JSON representation.
+   * @deprecated Do not use this type directly, it exists only for the <em>Jackson</em>-binding infrastructure
+   */
+  @Generated(from = "CxxCompilationDatabaseEntry", generator = "Immutables")
+  @Deprecated
+  @SuppressWarnings("Immutable")
+  @JsonDeserialize
+  @JsonAutoDetect(fieldVisibility = JsonAutoDetect.Visibility.NONE)
+  static final class Json extends CxxCompilationDatabaseEntry {
+    @Nullable String directory;
+    @Nullable String file;
+    @Nullable ImmutableList<String> arguments = ImmutableList.of();
+    @JsonProperty
+    public void setDirectory(String directory) {
+      this.directory = directory;
+    }
+    @JsonProperty
+    public void setFile(String file) {
+      this.file = file;
+    }
+    @JsonProperty
+    public void setArguments(ImmutableList<String> arguments) {
+      this.arguments = arguments;
+    }
+    @Override
+    public String getDirectory() { throw new UnsupportedOperationException(); }
+    @Override
+    public String getFile() { throw new UnsupportedOperationException(); }
+    @Override
+    public ImmutableList<String> getArguments() { throw new UnsupportedOperationException(); }
+  }
+
+  /**
+   * @param json A JSON-bindable data structure
+   * @return An immutable value type
+   * @deprecated Do not use this method directly, it exists only for the <em>Jackson</em>-binding infrastructure
+   */
+  @Deprecated
+  @JsonCreator(mode = JsonCreator.Mode.DELEGATING)
+  static ImmutableCxxCompilationDatabaseEntry fromJson(Json json) {
+    ImmutableCxxCompilationDatabaseEntry instance = ImmutableCxxCompilationDatabaseEntry.of(json.directory, json.file, json.arguments);
+    return instance;
+  }
+
+  /**
+   * Construct a new immutable {@code CxxCompilationDatabaseEntry} instance.
+   * @param directory The value for the {@code directory} attribute
+   * @param file The value for the {@code file} attribute
+   * @param arguments The value for the {@code arguments} attribute
+   * @return An immutable CxxCompilationDatabaseEntry instance
+   */
+  public static ImmutableCxxCompilationDatabaseEntry of(String directory, String file, ImmutableList<String> arguments) {
+    return of(directory, file, (Iterable<String>) arguments);
+  }
+
+  /**
+   * Construct a new immutable {@code CxxCompilationDatabaseEntry} instance.
+   * @param directory The value for the {@code directory} attribute
+   * @param file The value for the {@code file} attribute
+   * @param arguments The value for the {@code arguments} attribute
+   * @return An immutable CxxCompilationDatabaseEntry instance
+   */
+  public static ImmutableCxxCompilationDatabaseEntry of(String directory, String file, Iterable<String> arguments) {
+    return new ImmutableCxxCompilationDatabaseEntry(directory, file, arguments);
+  }
+}
@@ -0,0 +1,102 @@
+package com.facebook.buck.cxx;
+
+import com.facebook.buck.core.sourcepath.SourcePath;
+import com.google.common.base.MoreObjects;
+import com.google.errorprone.annotations.Var;
+import java.util.Objects;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import org.immutables.value.Generated;
+
+/**
+ * Immutable implementation of {@link CxxHeadersDir}.
+ * <p>
+ * Use the static factory method to create immutable instances:
+ * {@code ImmutableCxxHeadersDir.of()}.
+ */
+@Generated(from = "CxxHeadersDir", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+final class ImmutableCxxHeadersDir extends CxxHeadersDir {
+  private final CxxPreprocessables.IncludeType includeType;
+  private final SourcePath root;
+
+  private ImmutableCxxHeadersDir(
+      CxxPreprocessables.IncludeType includeType,
+      SourcePath root) {
+    this.includeType = Objects.requireNonNull(includeType, "includeType");
+    this.root = Objects.requireNonNull(root, "root");
+  }
+
+  /**
+   * @return The value of the {@code includeType} attribute
+   */
+  @Override
+  public CxxPreprocessables.IncludeType getIncludeType() {
+    return includeType;
+  }
+
+  /**
+   * @return The value of the {@code root} attribute
+   */
+  @Override
+  public SourcePath getRoot() {
+    return root;
+  }
+
+  /**
+   * This instance is equal to all instances of {@code ImmutableCxxHeadersDir} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof ImmutableCxxHeadersDir
+        && equalTo((ImmutableCxxHeadersDir) another);
+  }
+
+  private boolean equalTo(ImmutableCxxHeadersDir another) {
+    return includeType.equals(another.includeType)
+        && root.equals(another.root);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code includeType}, {@code root}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    @Var int h = 5381;
+    h += (h << 5) + includeType.hashCode();
+    h += (h << 5) + root.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code CxxHeadersDir} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("CxxHeadersDir")
+        .omitNullValues()
+        .add("includeType", includeType)
+        .add("root", root)
+        .toString();
+  }
+
+  /**
+   * Construct a new immutable {@code CxxHeadersDir} instance.
+   * @param includeType The value for the {@code includeType} attribute
+   * @param root The value for the {@code root} attribute
+   * @return An immutable CxxHeadersDir instance
+   */
+  public static ImmutableCxxHeadersDir of(CxxPreprocessables.IncludeType includeType, SourcePath root) {
+    return new ImmutableCxxHeadersDir(includeType, root);
+  }
+}
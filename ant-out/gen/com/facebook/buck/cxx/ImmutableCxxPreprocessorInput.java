@@ -0,0 +1,382 @@
+package com.facebook.buck.cxx;
+
+import com.facebook.buck.core.model.BuildTarget;
+import com.facebook.buck.rules.args.Arg;
+import com.facebook.buck.rules.coercer.FrameworkPath;
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMultimap;
+import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.Multimap;
+import com.google.errorprone.annotations.CanIgnoreReturnValue;
+import com.google.errorprone.annotations.Var;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Objects;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+import org.immutables.value.Generated;
+
+/**
+ * Immutable implementation of {@link CxxPreprocessorInput}.
+ * <p>
+ * Use the builder to create immutable instances:
+ * {@code new CxxPreprocessorInput.Builder()}.
+ */
+@Generated(from = "CxxPreprocessorInput", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+final class ImmutableCxxPreprocessorInput extends CxxPreprocessorInput {
+  private final ImmutableMultimap<CxxSource.Type, Arg> preprocessorFlags;
+  private final ImmutableList<CxxHeaders> includes;
+  private final ImmutableSet<FrameworkPath> frameworks;
+  private final ImmutableSet<BuildTarget> rules;
+
+  private ImmutableCxxPreprocessorInput(ImmutableCxxPreprocessorInput.Builder builder) {
+    this.preprocessorFlags = builder.preprocessorFlags.build();
+    this.includes = builder.includes.build();
+    this.frameworks = builder.frameworks.build();
+    this.rules = builder.rules.build();
+  }
+
+  /**
+   * @return The value of the {@code preprocessorFlags} attribute
+   */
+  @Override
+  public ImmutableMultimap<CxxSource.Type, Arg> getPreprocessorFlags() {
+    return preprocessorFlags;
+  }
+
+  /**
+   * @return The value of the {@code includes} attribute
+   */
+  @Override
+  public ImmutableList<CxxHeaders> getIncludes() {
+    return includes;
+  }
+
+  /**
+   * @return The value of the {@code frameworks} attribute
+   */
+  @Override
+  public ImmutableSet<FrameworkPath> getFrameworks() {
+    return frameworks;
+  }
+
+  /**
+   * @return The value of the {@code rules} attribute
+   */
+  @Override
+  protected ImmutableSet<BuildTarget> getRules() {
+    return rules;
+  }
+
+  /**
+   * This instance is equal to all instances of {@code ImmutableCxxPreprocessorInput} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof ImmutableCxxPreprocessorInput
+        && equalTo((ImmutableCxxPreprocessorInput) another);
+  }
+
+  private boolean equalTo(ImmutableCxxPreprocessorInput another) {
+    return preprocessorFlags.equals(another.preprocessorFlags)
+        && includes.equals(another.includes)
+        && frameworks.equals(another.frameworks)
+        && rules.equals(another.rules);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code preprocessorFlags}, {@code includes}, {@code frameworks}, {@code rules}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    @Var int h = 5381;
+    h += (h << 5) + preprocessorFlags.hashCode();
+    h += (h << 5) + includes.hashCode();
+    h += (h << 5) + frameworks.hashCode();
+    h += (h << 5) + rules.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code CxxPreprocessorInput} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("CxxPreprocessorInput")
+        .omitNullValues()
+        .add("preprocessorFlags", preprocessorFlags)
+        .add("includes", includes)
+        .add("frameworks", frameworks)
+        .add("rules", rules)
+        .toString();
+  }
+
+  /**
+   * Builds instances of type {@link CxxPreprocessorInput CxxPreprocessorInput}.
+   * Initialize attributes and then invoke the {@link #build()} method to create an
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread-safe and generally should not be stored in a field or collection,
+   * but instead used immediately to create instances.</em>
+   */
+  @Generated(from = "CxxPreprocessorInput", generator = "Immutables")
+  @NotThreadSafe
+  public static class Builder {
+    private ImmutableMultimap.Builder<CxxSource.Type, Arg> preprocessorFlags = ImmutableMultimap.builder();
+    private ImmutableList.Builder<CxxHeaders> includes = ImmutableList.builder();
+    private ImmutableSet.Builder<FrameworkPath> frameworks = ImmutableSet.builder();
+    private ImmutableSet.Builder<BuildTarget> rules = ImmutableSet.builder();
+
+    /**
+     * Creates a builder for {@link CxxPreprocessorInput CxxPreprocessorInput} instances.
+     */
+    public Builder() {
+      if (!(this instanceof CxxPreprocessorInput.Builder)) {
+        throw new UnsupportedOperationException("Use: new CxxPreprocessorInput.Builder()");
+      }
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code CxxPreprocessorInput} instance.
+     * Regular attribute values will be replaced with those from the given instance.
+     * Absent optional values will not replace present values.
+     * Collection elements and entries will be added, not replaced.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final CxxPreprocessorInput.Builder from(CxxPreprocessorInput instance) {
+      Objects.requireNonNull(instance, "instance");
+      putAllPreprocessorFlags(instance.getPreprocessorFlags());
+      addAllIncludes(instance.getIncludes());
+      addAllFrameworks(instance.getFrameworks());
+      addAllRules(instance.getRules());
+      return (CxxPreprocessorInput.Builder) this;
+    }
+
+    /**
+     * Put all mappings from the specified key to values for {@link CxxPreprocessorInput#getPreprocessorFlags() preprocessorFlags} true. Nulls are not permitted
+     * @param key The key for preprocessorFlags
+     * @param values The values for preprocessorFlags
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final CxxPreprocessorInput.Builder putPreprocessorFlags(CxxSource.Type key, Arg... values) {
+      this.preprocessorFlags.putAll(key, Arrays.asList(values));
+      return (CxxPreprocessorInput.Builder) this;
+    }
+
+    /**
+     * Put all mappings from the specified key to values for {@link CxxPreprocessorInput#getPreprocessorFlags() preprocessorFlags} true. Nulls are not permitted
+     * @param key The key for preprocessorFlags
+     * @param values The values for preprocessorFlags
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final CxxPreprocessorInput.Builder putAllPreprocessorFlags(CxxSource.Type key, Iterable<Arg> values) {
+      this.preprocessorFlags.putAll(key, values);
+      return (CxxPreprocessorInput.Builder) this;
+    }
+
+    /**
+     * Put one entry to the {@link CxxPreprocessorInput#getPreprocessorFlags() preprocessorFlags} map.
+     * @param key The key in the preprocessorFlags map
+     * @param value The associated value in the preprocessorFlags map
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final CxxPreprocessorInput.Builder putPreprocessorFlags(CxxSource.Type key, Arg value) {
+      this.preprocessorFlags.put(key, value);
+      return (CxxPreprocessorInput.Builder) this;
+    }
+
+    /**
+     * Put one entry to the {@link CxxPreprocessorInput#getPreprocessorFlags() preprocessorFlags} map. Nulls are not permitted
+     * @param entry The key and value entry
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final CxxPreprocessorInput.Builder putPreprocessorFlags(Map.Entry<? extends CxxSource.Type, ? extends Arg> entry) {
+      this.preprocessorFlags.put(entry);
+      return (CxxPreprocessorInput.Builder) this;
+    }
+
+    /**
+     * Sets or replaces all mappings from the specified map as entries for the {@link CxxPreprocessorInput#getPreprocessorFlags() preprocessorFlags} map. Nulls are not permitted
+     * @param entries The entries that will be added to the preprocessorFlags map
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final CxxPreprocessorInput.Builder setPreprocessorFlags(Multimap<? extends CxxSource.Type, ? extends Arg> entries) {
+      this.preprocessorFlags = ImmutableMultimap.builder();
+      return putAllPreprocessorFlags(entries);
+    }
+
+    /**
+     * Put all mappings from the specified map as entries to {@link CxxPreprocessorInput#getPreprocessorFlags() preprocessorFlags} map. Nulls are not permitted
+     * @param entries The entries that will be added to the preprocessorFlags map
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final CxxPreprocessorInput.Builder putAllPreprocessorFlags(Multimap<? extends CxxSource.Type, ? extends Arg> entries) {
+      this.preprocessorFlags.putAll(entries);
+      return (CxxPreprocessorInput.Builder) this;
+    }
+
+    /**
+     * Adds one element to {@link CxxPreprocessorInput#getIncludes() includes} list.
+     * @param element A includes element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final CxxPreprocessorInput.Builder addIncludes(CxxHeaders element) {
+      this.includes.add(element);
+      return (CxxPreprocessorInput.Builder) this;
+    }
+
+    /**
+     * Adds elements to {@link CxxPreprocessorInput#getIncludes() includes} list.
+     * @param elements An array of includes elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final CxxPreprocessorInput.Builder addIncludes(CxxHeaders... elements) {
+      this.includes.add(elements);
+      return (CxxPreprocessorInput.Builder) this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link CxxPreprocessorInput#getIncludes() includes} list.
+     * @param elements An iterable of includes elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final CxxPreprocessorInput.Builder setIncludes(Iterable<? extends CxxHeaders> elements) {
+      this.includes = ImmutableList.builder();
+      return addAllIncludes(elements);
+    }
+
+    /**
+     * Adds elements to {@link CxxPreprocessorInput#getIncludes() includes} list.
+     * @param elements An iterable of includes elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final CxxPreprocessorInput.Builder addAllIncludes(Iterable<? extends CxxHeaders> elements) {
+      this.includes.addAll(elements);
+      return (CxxPreprocessorInput.Builder) this;
+    }
+
+    /**
+     * Adds one element to {@link CxxPreprocessorInput#getFrameworks() frameworks} set.
+     * @param element A frameworks element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final CxxPreprocessorInput.Builder addFrameworks(FrameworkPath element) {
+      this.frameworks.add(element);
+      return (CxxPreprocessorInput.Builder) this;
+    }
+
+    /**
+     * Adds elements to {@link CxxPreprocessorInput#getFrameworks() frameworks} set.
+     * @param elements An array of frameworks elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final CxxPreprocessorInput.Builder addFrameworks(FrameworkPath... elements) {
+      this.frameworks.add(elements);
+      return (CxxPreprocessorInput.Builder) this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link CxxPreprocessorInput#getFrameworks() frameworks} set.
+     * @param elements An iterable of frameworks elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final CxxPreprocessorInput.Builder setFrameworks(Iterable<? extends FrameworkPath> elements) {
+      this.frameworks = ImmutableSet.builder();
+      return addAllFrameworks(elements);
+    }
+
+    /**
+     * Adds elements to {@link CxxPreprocessorInput#getFrameworks() frameworks} set.
+     * @param elements An iterable of frameworks elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final CxxPreprocessorInput.Builder addAllFrameworks(Iterable<? extends FrameworkPath> elements) {
+      this.frameworks.addAll(elements);
+      return (CxxPreprocessorInput.Builder) this;
+    }
+
+    /**
+     * Adds one element to {@link CxxPreprocessorInput#getRules() rules} set.
+     * @param element A rules element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final CxxPreprocessorInput.Builder addRules(BuildTarget element) {
+      this.rules.add(element);
+      return (CxxPreprocessorInput.Builder) this;
+    }
+
+    /**
+     * Adds elements to {@link CxxPreprocessorInput#getRules() rules} set.
+     * @param elements An array of rules elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final CxxPreprocessorInput.Builder addRules(BuildTarget... elements) {
+      this.rules.add(elements);
+      return (CxxPreprocessorInput.Builder) this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link CxxPreprocessorInput#getRules() rules} set.
+     * @param elements An iterable of rules elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final CxxPreprocessorInput.Builder setRules(Iterable<? extends BuildTarget> elements) {
+      this.rules = ImmutableSet.builder();
+      return addAllRules(elements);
+    }
+
+    /**
+     * Adds elements to {@link CxxPreprocessorInput#getRules() rules} set.
+     * @param elements An iterable of rules elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final CxxPreprocessorInput.Builder addAllRules(Iterable<? extends BuildTarget> elements) {
+      this.rules.addAll(elements);
+      return (CxxPreprocessorInput.Builder) this;
+    }
+
+    /**
+     * Builds a new {@link CxxPreprocessorInput CxxPreprocessorInput}.
+     * @return An immutable instance of CxxPreprocessorInput
+     * @throws java.lang.IllegalStateException if any required attributes are missing
+     */
+    public CxxPreprocessorInput build() {
+      return new ImmutableCxxPreprocessorInput(this);
+    }
+  }
+}
@@ -0,0 +1,87 @@
+package com.facebook.buck.cxx;
+
+import com.facebook.buck.core.sourcepath.SourcePath;
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.ImmutableSortedSet;
+import com.google.errorprone.annotations.Var;
+import java.util.Objects;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import org.immutables.value.Generated;
+
+/**
+ * Immutable implementation of {@link CxxRawHeaders}.
+ * <p>
+ * Use the static factory method to create immutable instances:
+ * {@code ImmutableCxxRawHeaders.of()}.
+ */
+@Generated(from = "CxxRawHeaders", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+final class ImmutableCxxRawHeaders extends CxxRawHeaders {
+  private final ImmutableSortedSet<SourcePath> headers;
+
+  private ImmutableCxxRawHeaders(ImmutableSortedSet<SourcePath> headers) {
+    this.headers = Objects.requireNonNull(headers, "headers");
+  }
+
+  /**
+   * @return The value of the {@code headers} attribute
+   */
+  @Override
+  ImmutableSortedSet<SourcePath> getHeaders() {
+    return headers;
+  }
+
+  /**
+   * This instance is equal to all instances of {@code ImmutableCxxRawHeaders} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof ImmutableCxxRawHeaders
+        && equalTo((ImmutableCxxRawHeaders) another);
+  }
+
+  private boolean equalTo(ImmutableCxxRawHeaders another) {
+    return headers.equals(another.headers);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code headers}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    @Var int h = 5381;
+    h += (h << 5) + headers.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code CxxRawHeaders} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("CxxRawHeaders")
+        .omitNullValues()
+        .add("headers", headers)
+        .toString();
+  }
+
+  /**
+   * Construct a new immutable {@code CxxRawHeaders} instance.
+   * @param headers The value for the {@code headers} attribute
+   * @return An immutable CxxRawHeaders instance
+   */
+  public static ImmutableCxxRawHeaders of(ImmutableSortedSet<SourcePath> headers) {
+    return new ImmutableCxxRawHeaders(headers);
+  }
+}
@@ -0,0 +1,233 @@
+package com.facebook.buck.cxx;
+
+import com.facebook.buck.rules.args.Arg;
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.ImmutableList;
+import com.google.errorprone.annotations.CanIgnoreReturnValue;
+import com.google.errorprone.annotations.Var;
+import java.util.Objects;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+import org.immutables.value.Generated;
+
+/**
+ * Immutable implementation of {@link CxxToolFlags}.
+ * <p>
+ * Use the builder to create immutable instances:
+ * {@code ImmutableCxxToolFlags.builder()}.
+ */
+@Generated(from = "CxxToolFlags", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+final class ImmutableCxxToolFlags extends CxxToolFlags {
+  private final ImmutableList<Arg> platformFlags;
+  private final ImmutableList<Arg> ruleFlags;
+
+  private ImmutableCxxToolFlags(ImmutableCxxToolFlags.Builder builder) {
+    this.platformFlags = builder.platformFlags.build();
+    this.ruleFlags = builder.ruleFlags.build();
+  }
+
+  /**
+   * @return The value of the {@code platformFlags} attribute
+   */
+  @Override
+  public ImmutableList<Arg> getPlatformFlags() {
+    return platformFlags;
+  }
+
+  /**
+   * @return The value of the {@code ruleFlags} attribute
+   */
+  @Override
+  public ImmutableList<Arg> getRuleFlags() {
+    return ruleFlags;
+  }
+
+  /**
+   * This instance is equal to all instances of {@code ImmutableCxxToolFlags} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof ImmutableCxxToolFlags
+        && equalTo((ImmutableCxxToolFlags) another);
+  }
+
+  private boolean equalTo(ImmutableCxxToolFlags another) {
+    return platformFlags.equals(another.platformFlags)
+        && ruleFlags.equals(another.ruleFlags);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code platformFlags}, {@code ruleFlags}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    @Var int h = 5381;
+    h += (h << 5) + platformFlags.hashCode();
+    h += (h << 5) + ruleFlags.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code CxxToolFlags} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("CxxToolFlags")
+        .omitNullValues()
+        .add("platformFlags", platformFlags)
+        .add("ruleFlags", ruleFlags)
+        .toString();
+  }
+
+  /**
+   * Creates a builder for {@link CxxToolFlags CxxToolFlags}.
+   * @return A new CxxToolFlags builder
+   */
+  public static ImmutableCxxToolFlags.Builder builder() {
+    return new ImmutableCxxToolFlags.Builder();
+  }
+
+  /**
+   * Builds instances of type {@link CxxToolFlags CxxToolFlags}.
+   * Initialize attributes and then invoke the {@link #build()} method to create an
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread-safe and generally should not be stored in a field or collection,
+   * but instead used immediately to create instances.</em>
+   */
+  @Generated(from = "CxxToolFlags", generator = "Immutables")
+  @NotThreadSafe
+  public static final class Builder {
+    private ImmutableList.Builder<Arg> platformFlags = ImmutableList.builder();
+    private ImmutableList.Builder<Arg> ruleFlags = ImmutableList.builder();
+
+    private Builder() {
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code CxxToolFlags} instance.
+     * Regular attribute values will be replaced with those from the given instance.
+     * Absent optional values will not replace present values.
+     * Collection elements and entries will be added, not replaced.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder from(CxxToolFlags instance) {
+      Objects.requireNonNull(instance, "instance");
+      addAllPlatformFlags(instance.getPlatformFlags());
+      addAllRuleFlags(instance.getRuleFlags());
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link CxxToolFlags#getPlatformFlags() platformFlags} list.
+     * @param element A platformFlags element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addPlatformFlags(Arg element) {
+      this.platformFlags.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link CxxToolFlags#getPlatformFlags() platformFlags} list.
+     * @param elements An array of platformFlags elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addPlatformFlags(Arg... elements) {
+      this.platformFlags.add(elements);
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link CxxToolFlags#getPlatformFlags() platformFlags} list.
+     * @param elements An iterable of platformFlags elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setPlatformFlags(Iterable<? extends Arg> elements) {
+      this.platformFlags = ImmutableList.builder();
+      return addAllPlatformFlags(elements);
+    }
+
+    /**
+     * Adds elements to {@link CxxToolFlags#getPlatformFlags() platformFlags} list.
+     * @param elements An iterable of platformFlags elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addAllPlatformFlags(Iterable<? extends Arg> elements) {
+      this.platformFlags.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link CxxToolFlags#getRuleFlags() ruleFlags} list.
+     * @param element A ruleFlags element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addRuleFlags(Arg element) {
+      this.ruleFlags.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link CxxToolFlags#getRuleFlags() ruleFlags} list.
+     * @param elements An array of ruleFlags elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addRuleFlags(Arg... elements) {
+      this.ruleFlags.add(elements);
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link CxxToolFlags#getRuleFlags() ruleFlags} list.
+     * @param elements An iterable of ruleFlags elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setRuleFlags(Iterable<? extends Arg> elements) {
+      this.ruleFlags = ImmutableList.builder();
+      return addAllRuleFlags(elements);
+    }
+
+    /**
+     * Adds elements to {@link CxxToolFlags#getRuleFlags() ruleFlags} list.
+     * @param elements An iterable of ruleFlags elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addAllRuleFlags(Iterable<? extends Arg> elements) {
+      this.ruleFlags.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Builds a new {@link CxxToolFlags CxxToolFlags}.
+     * @return An immutable instance of CxxToolFlags
+     * @throws java.lang.IllegalStateException if any required attributes are missing
+     */
+    public CxxToolFlags build() {
+      return new ImmutableCxxToolFlags(this);
+    }
+  }
+}
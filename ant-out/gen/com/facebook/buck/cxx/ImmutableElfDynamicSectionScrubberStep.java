@@ -0,0 +1,150 @@
+package com.facebook.buck.cxx;
+
+import com.facebook.buck.cxx.toolchain.elf.ElfDynamicSection;
+import com.facebook.buck.io.filesystem.ProjectFilesystem;
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.Sets;
+import com.google.common.primitives.Booleans;
+import com.google.errorprone.annotations.Var;
+import java.nio.file.Path;
+import java.util.Objects;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import org.immutables.value.Generated;
+
+/**
+ * Immutable implementation of {@link ElfDynamicSectionScrubberStep}.
+ * <p>
+ * Use the static factory method to create immutable instances:
+ * {@code ImmutableElfDynamicSectionScrubberStep.of()}.
+ */
+@Generated(from = "ElfDynamicSectionScrubberStep", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+final class ImmutableElfDynamicSectionScrubberStep
+    extends ElfDynamicSectionScrubberStep {
+  private final ProjectFilesystem filesystem;
+  private final Path path;
+  private final ImmutableSet<ElfDynamicSection.DTag> whitelistedTags;
+  private final boolean removeScrubbedTags;
+
+  private ImmutableElfDynamicSectionScrubberStep(
+      ProjectFilesystem filesystem,
+      Path path,
+      Iterable<ElfDynamicSection.DTag> whitelistedTags,
+      boolean removeScrubbedTags) {
+    this.filesystem = Objects.requireNonNull(filesystem, "filesystem");
+    this.path = Objects.requireNonNull(path, "path");
+    this.whitelistedTags = Sets.immutableEnumSet(whitelistedTags);
+    this.removeScrubbedTags = removeScrubbedTags;
+  }
+
+  /**
+   * @return The value of the {@code filesystem} attribute
+   */
+  @Override
+  ProjectFilesystem getFilesystem() {
+    return filesystem;
+  }
+
+  /**
+   * @return The value of the {@code path} attribute
+   */
+  @Override
+  Path getPath() {
+    return path;
+  }
+
+  /**
+   * @return The value of the {@code whitelistedTags} attribute
+   */
+  @Override
+  ImmutableSet<ElfDynamicSection.DTag> getWhitelistedTags() {
+    return whitelistedTags;
+  }
+
+  /**
+   * @return The value of the {@code removeScrubbedTags} attribute
+   */
+  @Override
+  boolean isRemoveScrubbedTags() {
+    return removeScrubbedTags;
+  }
+
+  /**
+   * This instance is equal to all instances of {@code ImmutableElfDynamicSectionScrubberStep} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof ImmutableElfDynamicSectionScrubberStep
+        && equalTo((ImmutableElfDynamicSectionScrubberStep) another);
+  }
+
+  private boolean equalTo(ImmutableElfDynamicSectionScrubberStep another) {
+    return filesystem.equals(another.filesystem)
+        && path.equals(another.path)
+        && whitelistedTags.equals(another.whitelistedTags)
+        && removeScrubbedTags == another.removeScrubbedTags;
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code filesystem}, {@code path}, {@code whitelistedTags}, {@code removeScrubbedTags}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    @Var int h = 5381;
+    h += (h << 5) + filesystem.hashCode();
+    h += (h << 5) + path.hashCode();
+    h += (h << 5) + whitelistedTags.hashCode();
+    h += (h << 5) + Booleans.hashCode(removeScrubbedTags);
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code ElfDynamicSectionScrubberStep} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("ElfDynamicSectionScrubberStep")
+        .omitNullValues()
+        .add("filesystem", filesystem)
+        .add("path", path)
+        .add("whitelistedTags", whitelistedTags)
+        .add("removeScrubbedTags", removeScrubbedTags)
+        .toString();
+  }
+
+  /**
+   * Construct a new immutable {@code ElfDynamicSectionScrubberStep} instance.
+   * @param filesystem The value for the {@code filesystem} attribute
+   * @param path The value for the {@code path} attribute
+   * @param whitelistedTags The value for the {@code whitelistedTags} attribute
+   * @param removeScrubbedTags The value for the {@code removeScrubbedTags} attribute
+   * @return An immutable ElfDynamicSectionScrubberStep instance
+   */
+  public static ImmutableElfDynamicSectionScrubberStep of(ProjectFilesystem filesystem, Path path, ImmutableSet<ElfDynamicSection.DTag> whitelistedTags, boolean removeScrubbedTags) {
+    return of(filesystem, path, (Iterable<ElfDynamicSection.DTag>) whitelistedTags, removeScrubbedTags);
+  }
+
+  /**
+   * Construct a new immutable {@code ElfDynamicSectionScrubberStep} instance.
+   * @param filesystem The value for the {@code filesystem} attribute
+   * @param path The value for the {@code path} attribute
+   * @param whitelistedTags The value for the {@code whitelistedTags} attribute
+   * @param removeScrubbedTags The value for the {@code removeScrubbedTags} attribute
+   * @return An immutable ElfDynamicSectionScrubberStep instance
+   */
+  public static ImmutableElfDynamicSectionScrubberStep of(ProjectFilesystem filesystem, Path path, Iterable<ElfDynamicSection.DTag> whitelistedTags, boolean removeScrubbedTags) {
+    return new ImmutableElfDynamicSectionScrubberStep(filesystem, path, whitelistedTags, removeScrubbedTags);
+  }
+}
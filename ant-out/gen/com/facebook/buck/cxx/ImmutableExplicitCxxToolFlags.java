@@ -0,0 +1,265 @@
+package com.facebook.buck.cxx;
+
+import com.facebook.buck.rules.args.Arg;
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.ImmutableList;
+import com.google.errorprone.annotations.CanIgnoreReturnValue;
+import com.google.errorprone.annotations.Var;
+import java.util.Objects;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+import org.immutables.value.Generated;
+
+/**
+ * Immutable implementation of {@link ExplicitCxxToolFlags}.
+ * <p>
+ * Use the builder to create immutable instances:
+ * {@code new ExplicitCxxToolFlags.Builder()}.
+ */
+@Generated(from = "ExplicitCxxToolFlags", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+final class ImmutableExplicitCxxToolFlags extends ExplicitCxxToolFlags {
+  private final ImmutableList<Arg> platformFlags;
+  private final ImmutableList<Arg> ruleFlags;
+
+  private ImmutableExplicitCxxToolFlags(ImmutableExplicitCxxToolFlags.Builder builder) {
+    this.platformFlags = builder.platformFlags.build();
+    this.ruleFlags = builder.ruleFlags.build();
+  }
+
+  /**
+   * @return The value of the {@code platformFlags} attribute
+   */
+  @Override
+  public ImmutableList<Arg> getPlatformFlags() {
+    return platformFlags;
+  }
+
+  /**
+   * @return The value of the {@code ruleFlags} attribute
+   */
+  @Override
+  public ImmutableList<Arg> getRuleFlags() {
+    return ruleFlags;
+  }
+
+  /**
+   * This instance is equal to all instances of {@code ImmutableExplicitCxxToolFlags} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof ImmutableExplicitCxxToolFlags
+        && equalTo((ImmutableExplicitCxxToolFlags) another);
+  }
+
+  private boolean equalTo(ImmutableExplicitCxxToolFlags another) {
+    return platformFlags.equals(another.platformFlags)
+        && ruleFlags.equals(another.ruleFlags);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code platformFlags}, {@code ruleFlags}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    @Var int h = 5381;
+    h += (h << 5) + platformFlags.hashCode();
+    h += (h << 5) + ruleFlags.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code ExplicitCxxToolFlags} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("ExplicitCxxToolFlags")
+        .omitNullValues()
+        .add("platformFlags", platformFlags)
+        .add("ruleFlags", ruleFlags)
+        .toString();
+  }
+
+  /**
+   * Builds instances of type {@link ExplicitCxxToolFlags ExplicitCxxToolFlags}.
+   * Initialize attributes and then invoke the {@link #build()} method to create an
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread-safe and generally should not be stored in a field or collection,
+   * but instead used immediately to create instances.</em>
+   */
+  @Generated(from = "ExplicitCxxToolFlags", generator = "Immutables")
+  @NotThreadSafe
+  public static class Builder {
+    private ImmutableList.Builder<Arg> platformFlags = ImmutableList.builder();
+    private ImmutableList.Builder<Arg> ruleFlags = ImmutableList.builder();
+
+    /**
+     * Creates a builder for {@link ExplicitCxxToolFlags ExplicitCxxToolFlags} instances.
+     */
+    public Builder() {
+      if (!(this instanceof ExplicitCxxToolFlags.Builder)) {
+        throw new UnsupportedOperationException("Use: new ExplicitCxxToolFlags.Builder()");
+      }
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code com.facebook.buck.cxx.CxxToolFlags} instance.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final ExplicitCxxToolFlags.Builder from(CxxToolFlags instance) {
+      Objects.requireNonNull(instance, "instance");
+      from((Object) instance);
+      return (ExplicitCxxToolFlags.Builder) this;
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code com.facebook.buck.cxx.ExplicitCxxToolFlags} instance.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final ExplicitCxxToolFlags.Builder from(ExplicitCxxToolFlags instance) {
+      Objects.requireNonNull(instance, "instance");
+      from((Object) instance);
+      return (ExplicitCxxToolFlags.Builder) this;
+    }
+
+    private void from(Object object) {
+      @Var long bits = 0;
+      if (object instanceof CxxToolFlags) {
+        CxxToolFlags instance = (CxxToolFlags) object;
+        if ((bits & 0x1L) == 0) {
+          addAllRuleFlags(instance.getRuleFlags());
+          bits |= 0x1L;
+        }
+        if ((bits & 0x2L) == 0) {
+          addAllPlatformFlags(instance.getPlatformFlags());
+          bits |= 0x2L;
+        }
+      }
+      if (object instanceof ExplicitCxxToolFlags) {
+        ExplicitCxxToolFlags instance = (ExplicitCxxToolFlags) object;
+        if ((bits & 0x1L) == 0) {
+          addAllRuleFlags(instance.getRuleFlags());
+          bits |= 0x1L;
+        }
+        if ((bits & 0x2L) == 0) {
+          addAllPlatformFlags(instance.getPlatformFlags());
+          bits |= 0x2L;
+        }
+      }
+    }
+
+    /**
+     * Adds one element to {@link ExplicitCxxToolFlags#getPlatformFlags() platformFlags} list.
+     * @param element A platformFlags element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final ExplicitCxxToolFlags.Builder addPlatformFlags(Arg element) {
+      this.platformFlags.add(element);
+      return (ExplicitCxxToolFlags.Builder) this;
+    }
+
+    /**
+     * Adds elements to {@link ExplicitCxxToolFlags#getPlatformFlags() platformFlags} list.
+     * @param elements An array of platformFlags elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final ExplicitCxxToolFlags.Builder addPlatformFlags(Arg... elements) {
+      this.platformFlags.add(elements);
+      return (ExplicitCxxToolFlags.Builder) this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link ExplicitCxxToolFlags#getPlatformFlags() platformFlags} list.
+     * @param elements An iterable of platformFlags elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final ExplicitCxxToolFlags.Builder setPlatformFlags(Iterable<? extends Arg> elements) {
+      this.platformFlags = ImmutableList.builder();
+      return addAllPlatformFlags(elements);
+    }
+
+    /**
+     * Adds elements to {@link ExplicitCxxToolFlags#getPlatformFlags() platformFlags} list.
+     * @param elements An iterable of platformFlags elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final ExplicitCxxToolFlags.Builder addAllPlatformFlags(Iterable<? extends Arg> elements) {
+      this.platformFlags.addAll(elements);
+      return (ExplicitCxxToolFlags.Builder) this;
+    }
+
+    /**
+     * Adds one element to {@link ExplicitCxxToolFlags#getRuleFlags() ruleFlags} list.
+     * @param element A ruleFlags element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final ExplicitCxxToolFlags.Builder addRuleFlags(Arg element) {
+      this.ruleFlags.add(element);
+      return (ExplicitCxxToolFlags.Builder) this;
+    }
+
+    /**
+     * Adds elements to {@link ExplicitCxxToolFlags#getRuleFlags() ruleFlags} list.
+     * @param elements An array of ruleFlags elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final ExplicitCxxToolFlags.Builder addRuleFlags(Arg... elements) {
+      this.ruleFlags.add(elements);
+      return (ExplicitCxxToolFlags.Builder) this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link ExplicitCxxToolFlags#getRuleFlags() ruleFlags} list.
+     * @param elements An iterable of ruleFlags elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final ExplicitCxxToolFlags.Builder setRuleFlags(Iterable<? extends Arg> elements) {
+      this.ruleFlags = ImmutableList.builder();
+      return addAllRuleFlags(elements);
+    }
+
+    /**
+     * Adds elements to {@link ExplicitCxxToolFlags#getRuleFlags() ruleFlags} list.
+     * @param elements An iterable of ruleFlags elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final ExplicitCxxToolFlags.Builder addAllRuleFlags(Iterable<? extends Arg> elements) {
+      this.ruleFlags.addAll(elements);
+      return (ExplicitCxxToolFlags.Builder) this;
+    }
+
+    /**
+     * Builds a new {@link ExplicitCxxToolFlags ExplicitCxxToolFlags}.
+     * @return An immutable instance of ExplicitCxxToolFlags
+     * @throws java.lang.IllegalStateException if any required attributes are missing
+     */
+    public ExplicitCxxToolFlags build() {
+      return new ImmutableExplicitCxxToolFlags(this);
+    }
+  }
+}
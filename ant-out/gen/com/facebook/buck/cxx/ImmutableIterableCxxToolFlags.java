@@ -0,0 +1,112 @@
+package com.facebook.buck.cxx;
+
+import com.facebook.buck.rules.args.Arg;
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.ImmutableList;
+import com.google.errorprone.annotations.Var;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import org.immutables.value.Generated;
+
+/**
+ * Immutable implementation of {@link IterableCxxToolFlags}.
+ * <p>
+ * Use the static factory method to create immutable instances:
+ * {@code ImmutableIterableCxxToolFlags.of()}.
+ */
+@Generated(from = "IterableCxxToolFlags", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+final class ImmutableIterableCxxToolFlags extends IterableCxxToolFlags {
+  private final ImmutableList<Arg> platformFlags;
+  private final ImmutableList<Arg> ruleFlags;
+
+  private ImmutableIterableCxxToolFlags(
+      Iterable<? extends Arg> platformFlags,
+      Iterable<? extends Arg> ruleFlags) {
+    this.platformFlags = ImmutableList.copyOf(platformFlags);
+    this.ruleFlags = ImmutableList.copyOf(ruleFlags);
+  }
+
+  /**
+   * @return The value of the {@code platformFlags} attribute
+   */
+  @Override
+  public ImmutableList<Arg> getPlatformFlags() {
+    return platformFlags;
+  }
+
+  /**
+   * @return The value of the {@code ruleFlags} attribute
+   */
+  @Override
+  public ImmutableList<Arg> getRuleFlags() {
+    return ruleFlags;
+  }
+
+  /**
+   * This instance is equal to all instances of {@code ImmutableIterableCxxToolFlags} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof ImmutableIterableCxxToolFlags
+        && equalTo((ImmutableIterableCxxToolFlags) another);
+  }
+
+  private boolean equalTo(ImmutableIterableCxxToolFlags another) {
+    return platformFlags.equals(another.platformFlags)
+        && ruleFlags.equals(another.ruleFlags);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code platformFlags}, {@code ruleFlags}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    @Var int h = 5381;
+    h += (h << 5) + platformFlags.hashCode();
+    h += (h << 5) + ruleFlags.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code IterableCxxToolFlags} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("IterableCxxToolFlags")
+        .omitNullValues()
+        .add("platformFlags", platformFlags)
+        .add("ruleFlags", ruleFlags)
+        .toString();
+  }
+
+  /**
+   * Construct a new immutable {@code IterableCxxToolFlags} instance.
+   * @param platformFlags The value for the {@code platformFlags} attribute
+   * @param ruleFlags The value for the {@code ruleFlags} attribute
+   * @return An immutable IterableCxxToolFlags instance
+   */
+  public static ImmutableIterableCxxToolFlags of(ImmutableList<Arg> platformFlags, ImmutableList<Arg> ruleFlags) {
+    return of((Iterable<? extends Arg>) platformFlags, (Iterable<? extends Arg>) ruleFlags);
+  }
+
+  /**
+   * Construct a new immutable {@code IterableCxxToolFlags} instance.
+   * @param platformFlags The value for the {@code platformFlags} attribute
+   * @param ruleFlags The value for the {@code ruleFlags} attribute
+   * @return An immutable IterableCxxToolFlags instance
+   */
+  public static ImmutableIterableCxxToolFlags of(Iterable<? extends Arg> platformFlags, Iterable<? extends Arg> ruleFlags) {
+    return new ImmutableIterableCxxToolFlags(platformFlags, ruleFlags);
+  }
+}
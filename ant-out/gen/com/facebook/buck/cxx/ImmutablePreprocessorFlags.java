@@ -0,0 +1,372 @@
+package com.facebook.buck.cxx;
+
+import com.facebook.buck.core.sourcepath.SourcePath;
+import com.facebook.buck.rules.coercer.FrameworkPath;
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.ImmutableList;
+import com.google.errorprone.annotations.CanIgnoreReturnValue;
+import com.google.errorprone.annotations.Var;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+import org.immutables.value.Generated;
+
+/**
+ * Immutable implementation of {@link PreprocessorFlags}.
+ * <p>
+ * Use the builder to create immutable instances:
+ * {@code new PreprocessorFlags.Builder()}.
+ */
+@Generated(from = "PreprocessorFlags", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+final class ImmutablePreprocessorFlags extends PreprocessorFlags {
+  private final @Nullable SourcePath prefixHeader;
+  private final CxxToolFlags otherFlags;
+  private final ImmutableList<CxxHeaders> includes;
+  private final ImmutableList<FrameworkPath> frameworkPaths;
+  private transient final CxxIncludePaths cxxIncludePaths;
+
+  private ImmutablePreprocessorFlags(ImmutablePreprocessorFlags.Builder builder) {
+    this.prefixHeader = builder.prefixHeader;
+    this.includes = builder.includes.build();
+    this.frameworkPaths = builder.frameworkPaths.build();
+    if (builder.otherFlags != null) {
+      initShim.setOtherFlags(builder.otherFlags);
+    }
+    this.otherFlags = initShim.getOtherFlags();
+    this.cxxIncludePaths = initShim.getCxxIncludePaths();
+    this.initShim = null;
+  }
+
+  private static final byte STAGE_INITIALIZING = -1;
+  private static final byte STAGE_UNINITIALIZED = 0;
+  private static final byte STAGE_INITIALIZED = 1;
+  @SuppressWarnings("Immutable")
+  private transient volatile InitShim initShim = new InitShim();
+
+  @Generated(from = "PreprocessorFlags", generator = "Immutables")
+  private final class InitShim {
+    private byte otherFlagsBuildStage = STAGE_UNINITIALIZED;
+    private CxxToolFlags otherFlags;
+
+    CxxToolFlags getOtherFlags() {
+      if (otherFlagsBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (otherFlagsBuildStage == STAGE_UNINITIALIZED) {
+        otherFlagsBuildStage = STAGE_INITIALIZING;
+        this.otherFlags = Objects.requireNonNull(ImmutablePreprocessorFlags.super.getOtherFlags(), "otherFlags");
+        otherFlagsBuildStage = STAGE_INITIALIZED;
+      }
+      return this.otherFlags;
+    }
+
+    void setOtherFlags(CxxToolFlags otherFlags) {
+      this.otherFlags = otherFlags;
+      otherFlagsBuildStage = STAGE_INITIALIZED;
+    }
+
+    private byte cxxIncludePathsBuildStage = STAGE_UNINITIALIZED;
+    private CxxIncludePaths cxxIncludePaths;
+
+    CxxIncludePaths getCxxIncludePaths() {
+      if (cxxIncludePathsBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (cxxIncludePathsBuildStage == STAGE_UNINITIALIZED) {
+        cxxIncludePathsBuildStage = STAGE_INITIALIZING;
+        this.cxxIncludePaths = Objects.requireNonNull(ImmutablePreprocessorFlags.super.getCxxIncludePaths(), "cxxIncludePaths");
+        cxxIncludePathsBuildStage = STAGE_INITIALIZED;
+      }
+      return this.cxxIncludePaths;
+    }
+
+    private String formatInitCycleMessage() {
+      List<String> attributes = new ArrayList<>();
+      if (otherFlagsBuildStage == STAGE_INITIALIZING) attributes.add("otherFlags");
+      if (cxxIncludePathsBuildStage == STAGE_INITIALIZING) attributes.add("cxxIncludePaths");
+      return "Cannot build PreprocessorFlags, attribute initializers form cycle " + attributes;
+    }
+  }
+
+  /**
+   * @return The value of the {@code prefixHeader} attribute
+   */
+  @Override
+  public Optional<SourcePath> getPrefixHeader() {
+    return Optional.ofNullable(prefixHeader);
+  }
+
+  /**
+   * @return The value of the {@code otherFlags} attribute
+   */
+  @Override
+  public CxxToolFlags getOtherFlags() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.getOtherFlags()
+        : this.otherFlags;
+  }
+
+  /**
+   * @return The value of the {@code includes} attribute
+   */
+  @Override
+  public ImmutableList<CxxHeaders> getIncludes() {
+    return includes;
+  }
+
+  /**
+   * @return The value of the {@code frameworkPaths} attribute
+   */
+  @Override
+  public ImmutableList<FrameworkPath> getFrameworkPaths() {
+    return frameworkPaths;
+  }
+
+  /**
+   * @return The computed-at-construction value of the {@code cxxIncludePaths} attribute
+   */
+  @Override
+  public CxxIncludePaths getCxxIncludePaths() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.getCxxIncludePaths()
+        : this.cxxIncludePaths;
+  }
+
+  /**
+   * This instance is equal to all instances of {@code ImmutablePreprocessorFlags} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof ImmutablePreprocessorFlags
+        && equalTo((ImmutablePreprocessorFlags) another);
+  }
+
+  private boolean equalTo(ImmutablePreprocessorFlags another) {
+    return Objects.equals(prefixHeader, another.prefixHeader)
+        && otherFlags.equals(another.otherFlags)
+        && includes.equals(another.includes)
+        && frameworkPaths.equals(another.frameworkPaths)
+        && cxxIncludePaths.equals(another.cxxIncludePaths);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code prefixHeader}, {@code otherFlags}, {@code includes}, {@code frameworkPaths}, {@code cxxIncludePaths}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    @Var int h = 5381;
+    h += (h << 5) + Objects.hashCode(prefixHeader);
+    h += (h << 5) + otherFlags.hashCode();
+    h += (h << 5) + includes.hashCode();
+    h += (h << 5) + frameworkPaths.hashCode();
+    h += (h << 5) + cxxIncludePaths.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code PreprocessorFlags} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("PreprocessorFlags")
+        .omitNullValues()
+        .add("prefixHeader", prefixHeader)
+        .add("otherFlags", otherFlags)
+        .add("includes", includes)
+        .add("frameworkPaths", frameworkPaths)
+        .add("cxxIncludePaths", cxxIncludePaths)
+        .toString();
+  }
+
+  /**
+   * Builds instances of type {@link PreprocessorFlags PreprocessorFlags}.
+   * Initialize attributes and then invoke the {@link #build()} method to create an
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread-safe and generally should not be stored in a field or collection,
+   * but instead used immediately to create instances.</em>
+   */
+  @Generated(from = "PreprocessorFlags", generator = "Immutables")
+  @NotThreadSafe
+  public static class Builder {
+    private @Nullable SourcePath prefixHeader;
+    private @Nullable CxxToolFlags otherFlags;
+    private ImmutableList.Builder<CxxHeaders> includes = ImmutableList.builder();
+    private ImmutableList.Builder<FrameworkPath> frameworkPaths = ImmutableList.builder();
+
+    /**
+     * Creates a builder for {@link PreprocessorFlags PreprocessorFlags} instances.
+     */
+    public Builder() {
+      if (!(this instanceof PreprocessorFlags.Builder)) {
+        throw new UnsupportedOperationException("Use: new PreprocessorFlags.Builder()");
+      }
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code PreprocessorFlags} instance.
+     * Regular attribute values will be replaced with those from the given instance.
+     * Absent optional values will not replace present values.
+     * Collection elements and entries will be added, not replaced.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final PreprocessorFlags.Builder from(PreprocessorFlags instance) {
+      Objects.requireNonNull(instance, "instance");
+      Optional<SourcePath> prefixHeaderOptional = instance.getPrefixHeader();
+      if (prefixHeaderOptional.isPresent()) {
+        setPrefixHeader(prefixHeaderOptional);
+      }
+      setOtherFlags(instance.getOtherFlags());
+      addAllIncludes(instance.getIncludes());
+      addAllFrameworkPaths(instance.getFrameworkPaths());
+      return (PreprocessorFlags.Builder) this;
+    }
+
+    /**
+     * Initializes the optional value {@link PreprocessorFlags#getPrefixHeader() prefixHeader} to prefixHeader.
+     * @param prefixHeader The value for prefixHeader
+     * @return {@code this} builder for chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final PreprocessorFlags.Builder setPrefixHeader(SourcePath prefixHeader) {
+      this.prefixHeader = Objects.requireNonNull(prefixHeader, "prefixHeader");
+      return (PreprocessorFlags.Builder) this;
+    }
+
+    /**
+     * Initializes the optional value {@link PreprocessorFlags#getPrefixHeader() prefixHeader} to prefixHeader.
+     * @param prefixHeader The value for prefixHeader
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final PreprocessorFlags.Builder setPrefixHeader(Optional<? extends SourcePath> prefixHeader) {
+      this.prefixHeader = prefixHeader.orElse(null);
+      return (PreprocessorFlags.Builder) this;
+    }
+
+    /**
+     * Initializes the value for the {@link PreprocessorFlags#getOtherFlags() otherFlags} attribute.
+     * <p><em>If not set, this attribute will have a default value as returned by the initializer of {@link PreprocessorFlags#getOtherFlags() otherFlags}.</em>
+     * @param otherFlags The value for otherFlags 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final PreprocessorFlags.Builder setOtherFlags(CxxToolFlags otherFlags) {
+      this.otherFlags = Objects.requireNonNull(otherFlags, "otherFlags");
+      return (PreprocessorFlags.Builder) this;
+    }
+
+    /**
+     * Adds one element to {@link PreprocessorFlags#getIncludes() includes} list.
+     * @param element A includes element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final PreprocessorFlags.Builder addIncludes(CxxHeaders element) {
+      this.includes.add(element);
+      return (PreprocessorFlags.Builder) this;
+    }
+
+    /**
+     * Adds elements to {@link PreprocessorFlags#getIncludes() includes} list.
+     * @param elements An array of includes elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final PreprocessorFlags.Builder addIncludes(CxxHeaders... elements) {
+      this.includes.add(elements);
+      return (PreprocessorFlags.Builder) this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link PreprocessorFlags#getIncludes() includes} list.
+     * @param elements An iterable of includes elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final PreprocessorFlags.Builder setIncludes(Iterable<? extends CxxHeaders> elements) {
+      this.includes = ImmutableList.builder();
+      return addAllIncludes(elements);
+    }
+
+    /**
+     * Adds elements to {@link PreprocessorFlags#getIncludes() includes} list.
+     * @param elements An iterable of includes elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final PreprocessorFlags.Builder addAllIncludes(Iterable<? extends CxxHeaders> elements) {
+      this.includes.addAll(elements);
+      return (PreprocessorFlags.Builder) this;
+    }
+
+    /**
+     * Adds one element to {@link PreprocessorFlags#getFrameworkPaths() frameworkPaths} list.
+     * @param element A frameworkPaths element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final PreprocessorFlags.Builder addFrameworkPaths(FrameworkPath element) {
+      this.frameworkPaths.add(element);
+      return (PreprocessorFlags.Builder) this;
+    }
+
+    /**
+     * Adds elements to {@link PreprocessorFlags#getFrameworkPaths() frameworkPaths} list.
+     * @param elements An array of frameworkPaths elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final PreprocessorFlags.Builder addFrameworkPaths(FrameworkPath... elements) {
+      this.frameworkPaths.add(elements);
+      return (PreprocessorFlags.Builder) this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link PreprocessorFlags#getFrameworkPaths() frameworkPaths} list.
+     * @param elements An iterable of frameworkPaths elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final PreprocessorFlags.Builder setFrameworkPaths(Iterable<? extends FrameworkPath> elements) {
+      this.frameworkPaths = ImmutableList.builder();
+      return addAllFrameworkPaths(elements);
+    }
+
+    /**
+     * Adds elements to {@link PreprocessorFlags#getFrameworkPaths() frameworkPaths} list.
+     * @param elements An iterable of frameworkPaths elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final PreprocessorFlags.Builder addAllFrameworkPaths(Iterable<? extends FrameworkPath> elements) {
+      this.frameworkPaths.addAll(elements);
+      return (PreprocessorFlags.Builder) this;
+    }
+
+    /**
+     * Builds a new {@link PreprocessorFlags PreprocessorFlags}.
+     * @return An immutable instance of PreprocessorFlags
+     * @throws java.lang.IllegalStateException if any required attributes are missing
+     */
+    public PreprocessorFlags build() {
+      return new ImmutablePreprocessorFlags(this);
+    }
+  }
+}
@@ -0,0 +1,2478 @@
+package com.facebook.buck.cxx.toolchain;
+
+import com.facebook.buck.core.model.Flavor;
+import com.facebook.buck.core.model.FlavorConvertible;
+import com.facebook.buck.core.toolchain.tool.Tool;
+import com.facebook.buck.core.toolchain.toolprovider.ToolProvider;
+import com.facebook.buck.cxx.toolchain.linker.Linker;
+import com.facebook.buck.cxx.toolchain.linker.LinkerProvider;
+import com.facebook.buck.rules.args.Arg;
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableMultimap;
+import com.google.common.collect.ImmutableSortedSet;
+import com.google.common.collect.Multimap;
+import com.google.common.primitives.Booleans;
+import com.google.errorprone.annotations.CanIgnoreReturnValue;
+import com.google.errorprone.annotations.Var;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+import org.immutables.value.Generated;
+
+/**
+ * Immutable implementation of {@link CxxPlatform}.
+ * <p>
+ * Use the builder to create immutable instances:
+ * {@code new CxxPlatform.Builder()}.
+ */
+@Generated(from = "CxxPlatform", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+final class ImmutableCxxPlatform implements CxxPlatform {
+  private final Flavor flavor;
+  private final CompilerProvider as;
+  private final ImmutableList<Arg> asflags;
+  private final PreprocessorProvider aspp;
+  private final ImmutableList<Arg> asppflags;
+  private final CompilerProvider cc;
+  private final ImmutableList<Arg> cflags;
+  private final CompilerProvider cxx;
+  private final ImmutableList<Arg> cxxflags;
+  private final PreprocessorProvider cpp;
+  private final ImmutableList<Arg> cppflags;
+  private final PreprocessorProvider cxxpp;
+  private final ImmutableList<Arg> cxxppflags;
+  private final @Nullable PreprocessorProvider cudapp;
+  private final ImmutableList<Arg> cudappflags;
+  private final @Nullable CompilerProvider cuda;
+  private final ImmutableList<Arg> cudaflags;
+  private final @Nullable PreprocessorProvider hippp;
+  private final ImmutableList<Arg> hipppflags;
+  private final @Nullable CompilerProvider hip;
+  private final ImmutableList<Arg> hipflags;
+  private final @Nullable PreprocessorProvider asmpp;
+  private final ImmutableList<Arg> asmppflags;
+  private final @Nullable CompilerProvider asm;
+  private final ImmutableList<Arg> asmflags;
+  private final LinkerProvider ld;
+  private final ImmutableList<Arg> ldflags;
+  private final ImmutableMultimap<Linker.LinkableDepType, Arg> runtimeLdflags;
+  private final Tool strip;
+  private final ImmutableList<Arg> stripFlags;
+  private final ArchiverProvider ar;
+  private final ArchiveContents archiveContents;
+  private final ImmutableList<Arg> arflags;
+  private final @Nullable ToolProvider ranlib;
+  private final ImmutableList<Arg> ranlibflags;
+  private final SymbolNameTool symbolNameTool;
+  private final String sharedLibraryExtension;
+  private final String sharedLibraryVersionedExtensionFormat;
+  private final String staticLibraryExtension;
+  private final String objectFileExtension;
+  private final DebugPathSanitizer compilerDebugPathSanitizer;
+  private final HeaderVerification headerVerification;
+  private final @Nullable Boolean useArgFile;
+  private final ImmutableMap<String, String> flagMacros;
+  private final @Nullable SharedLibraryInterfaceParams sharedLibraryInterfaceParams;
+  private final @Nullable String binaryExtension;
+  private final boolean publicHeadersSymlinksEnabled;
+  private final boolean privateHeadersSymlinksEnabled;
+  private final PicType picTypeForSharedLinking;
+  private final ImmutableSortedSet<String> conflictingHeaderBasenameWhitelist;
+  private final @Nullable HeaderMode headerMode;
+  private final boolean filepathLengthLimited;
+
+  private ImmutableCxxPlatform(ImmutableCxxPlatform.Builder builder) {
+    this.flavor = builder.flavor;
+    this.as = builder.as;
+    this.asflags = builder.asflags.build();
+    this.aspp = builder.aspp;
+    this.asppflags = builder.asppflags.build();
+    this.cc = builder.cc;
+    this.cflags = builder.cflags.build();
+    this.cxx = builder.cxx;
+    this.cxxflags = builder.cxxflags.build();
+    this.cpp = builder.cpp;
+    this.cppflags = builder.cppflags.build();
+    this.cxxpp = builder.cxxpp;
+    this.cxxppflags = builder.cxxppflags.build();
+    this.cudapp = builder.cudapp;
+    this.cudappflags = builder.cudappflags.build();
+    this.cuda = builder.cuda;
+    this.cudaflags = builder.cudaflags.build();
+    this.hippp = builder.hippp;
+    this.hipppflags = builder.hipppflags.build();
+    this.hip = builder.hip;
+    this.hipflags = builder.hipflags.build();
+    this.asmpp = builder.asmpp;
+    this.asmppflags = builder.asmppflags.build();
+    this.asm = builder.asm;
+    this.asmflags = builder.asmflags.build();
+    this.ld = builder.ld;
+    this.ldflags = builder.ldflags.build();
+    this.runtimeLdflags = builder.runtimeLdflags.build();
+    this.strip = builder.strip;
+    this.stripFlags = builder.stripFlags.build();
+    this.ar = builder.ar;
+    this.archiveContents = builder.archiveContents;
+    this.arflags = builder.arflags.build();
+    this.ranlib = builder.ranlib;
+    this.ranlibflags = builder.ranlibflags.build();
+    this.symbolNameTool = builder.symbolNameTool;
+    this.sharedLibraryExtension = builder.sharedLibraryExtension;
+    this.sharedLibraryVersionedExtensionFormat = builder.sharedLibraryVersionedExtensionFormat;
+    this.staticLibraryExtension = builder.staticLibraryExtension;
+    this.objectFileExtension = builder.objectFileExtension;
+    this.compilerDebugPathSanitizer = builder.compilerDebugPathSanitizer;
+    this.headerVerification = builder.headerVerification;
+    this.useArgFile = builder.useArgFile;
+    this.flagMacros = builder.flagMacros.build();
+    this.sharedLibraryInterfaceParams = builder.sharedLibraryInterfaceParams;
+    this.binaryExtension = builder.binaryExtension;
+    this.publicHeadersSymlinksEnabled = builder.publicHeadersSymlinksEnabled;
+    this.privateHeadersSymlinksEnabled = builder.privateHeadersSymlinksEnabled;
+    this.headerMode = builder.headerMode;
+    if (builder.picTypeForSharedLinking != null) {
+      initShim.setPicTypeForSharedLinking(builder.picTypeForSharedLinking);
+    }
+    if (builder.conflictingHeaderBasenameWhitelist != null) {
+      initShim.setConflictingHeaderBasenameWhitelist(builder.conflictingHeaderBasenameWhitelist);
+    }
+    if (builder.filepathLengthLimitedIsSet()) {
+      initShim.setFilepathLengthLimited(builder.filepathLengthLimited);
+    }
+    this.picTypeForSharedLinking = initShim.getPicTypeForSharedLinking();
+    this.conflictingHeaderBasenameWhitelist = initShim.getConflictingHeaderBasenameWhitelist();
+    this.filepathLengthLimited = initShim.getFilepathLengthLimited();
+    this.initShim = null;
+  }
+
+  private static final byte STAGE_INITIALIZING = -1;
+  private static final byte STAGE_UNINITIALIZED = 0;
+  private static final byte STAGE_INITIALIZED = 1;
+  @SuppressWarnings("Immutable")
+  private transient volatile InitShim initShim = new InitShim();
+
+  @Generated(from = "CxxPlatform", generator = "Immutables")
+  private final class InitShim {
+    private byte picTypeForSharedLinkingBuildStage = STAGE_UNINITIALIZED;
+    private PicType picTypeForSharedLinking;
+
+    PicType getPicTypeForSharedLinking() {
+      if (picTypeForSharedLinkingBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (picTypeForSharedLinkingBuildStage == STAGE_UNINITIALIZED) {
+        picTypeForSharedLinkingBuildStage = STAGE_INITIALIZING;
+        this.picTypeForSharedLinking = Objects.requireNonNull(getPicTypeForSharedLinkingInitialize(), "picTypeForSharedLinking");
+        picTypeForSharedLinkingBuildStage = STAGE_INITIALIZED;
+      }
+      return this.picTypeForSharedLinking;
+    }
+
+    void setPicTypeForSharedLinking(PicType picTypeForSharedLinking) {
+      this.picTypeForSharedLinking = picTypeForSharedLinking;
+      picTypeForSharedLinkingBuildStage = STAGE_INITIALIZED;
+    }
+
+    private byte conflictingHeaderBasenameWhitelistBuildStage = STAGE_UNINITIALIZED;
+    private ImmutableSortedSet<String> conflictingHeaderBasenameWhitelist;
+
+    ImmutableSortedSet<String> getConflictingHeaderBasenameWhitelist() {
+      if (conflictingHeaderBasenameWhitelistBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (conflictingHeaderBasenameWhitelistBuildStage == STAGE_UNINITIALIZED) {
+        conflictingHeaderBasenameWhitelistBuildStage = STAGE_INITIALIZING;
+        this.conflictingHeaderBasenameWhitelist = Objects.requireNonNull(getConflictingHeaderBasenameWhitelistInitialize(), "conflictingHeaderBasenameWhitelist");
+        conflictingHeaderBasenameWhitelistBuildStage = STAGE_INITIALIZED;
+      }
+      return this.conflictingHeaderBasenameWhitelist;
+    }
+
+    void setConflictingHeaderBasenameWhitelist(ImmutableSortedSet<String> conflictingHeaderBasenameWhitelist) {
+      this.conflictingHeaderBasenameWhitelist = conflictingHeaderBasenameWhitelist;
+      conflictingHeaderBasenameWhitelistBuildStage = STAGE_INITIALIZED;
+    }
+
+    private byte filepathLengthLimitedBuildStage = STAGE_UNINITIALIZED;
+    private boolean filepathLengthLimited;
+
+    boolean getFilepathLengthLimited() {
+      if (filepathLengthLimitedBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (filepathLengthLimitedBuildStage == STAGE_UNINITIALIZED) {
+        filepathLengthLimitedBuildStage = STAGE_INITIALIZING;
+        this.filepathLengthLimited = getFilepathLengthLimitedInitialize();
+        filepathLengthLimitedBuildStage = STAGE_INITIALIZED;
+      }
+      return this.filepathLengthLimited;
+    }
+
+    void setFilepathLengthLimited(boolean filepathLengthLimited) {
+      this.filepathLengthLimited = filepathLengthLimited;
+      filepathLengthLimitedBuildStage = STAGE_INITIALIZED;
+    }
+
+    private String formatInitCycleMessage() {
+      List<String> attributes = new ArrayList<>();
+      if (picTypeForSharedLinkingBuildStage == STAGE_INITIALIZING) attributes.add("picTypeForSharedLinking");
+      if (conflictingHeaderBasenameWhitelistBuildStage == STAGE_INITIALIZING) attributes.add("conflictingHeaderBasenameWhitelist");
+      if (filepathLengthLimitedBuildStage == STAGE_INITIALIZING) attributes.add("filepathLengthLimited");
+      return "Cannot build CxxPlatform, attribute initializers form cycle " + attributes;
+    }
+  }
+
+  private PicType getPicTypeForSharedLinkingInitialize() {
+    return CxxPlatform.super.getPicTypeForSharedLinking();
+  }
+
+  private ImmutableSortedSet<String> getConflictingHeaderBasenameWhitelistInitialize() {
+    return CxxPlatform.super.getConflictingHeaderBasenameWhitelist();
+  }
+
+  private boolean getFilepathLengthLimitedInitialize() {
+    return CxxPlatform.super.getFilepathLengthLimited();
+  }
+
+  /**
+   * @return The value of the {@code flavor} attribute
+   */
+  @Override
+  public Flavor getFlavor() {
+    return flavor;
+  }
+
+  /**
+   * @return The value of the {@code as} attribute
+   */
+  @Override
+  public CompilerProvider getAs() {
+    return as;
+  }
+
+  /**
+   * @return The value of the {@code asflags} attribute
+   */
+  @Override
+  public ImmutableList<Arg> getAsflags() {
+    return asflags;
+  }
+
+  /**
+   * @return The value of the {@code aspp} attribute
+   */
+  @Override
+  public PreprocessorProvider getAspp() {
+    return aspp;
+  }
+
+  /**
+   * @return The value of the {@code asppflags} attribute
+   */
+  @Override
+  public ImmutableList<Arg> getAsppflags() {
+    return asppflags;
+  }
+
+  /**
+   * @return The value of the {@code cc} attribute
+   */
+  @Override
+  public CompilerProvider getCc() {
+    return cc;
+  }
+
+  /**
+   * @return The value of the {@code cflags} attribute
+   */
+  @Override
+  public ImmutableList<Arg> getCflags() {
+    return cflags;
+  }
+
+  /**
+   * @return The value of the {@code cxx} attribute
+   */
+  @Override
+  public CompilerProvider getCxx() {
+    return cxx;
+  }
+
+  /**
+   * @return The value of the {@code cxxflags} attribute
+   */
+  @Override
+  public ImmutableList<Arg> getCxxflags() {
+    return cxxflags;
+  }
+
+  /**
+   * @return The value of the {@code cpp} attribute
+   */
+  @Override
+  public PreprocessorProvider getCpp() {
+    return cpp;
+  }
+
+  /**
+   * @return The value of the {@code cppflags} attribute
+   */
+  @Override
+  public ImmutableList<Arg> getCppflags() {
+    return cppflags;
+  }
+
+  /**
+   * @return The value of the {@code cxxpp} attribute
+   */
+  @Override
+  public PreprocessorProvider getCxxpp() {
+    return cxxpp;
+  }
+
+  /**
+   * @return The value of the {@code cxxppflags} attribute
+   */
+  @Override
+  public ImmutableList<Arg> getCxxppflags() {
+    return cxxppflags;
+  }
+
+  /**
+   * @return The value of the {@code cudapp} attribute
+   */
+  @Override
+  public Optional<PreprocessorProvider> getCudapp() {
+    return Optional.ofNullable(cudapp);
+  }
+
+  /**
+   * @return The value of the {@code cudappflags} attribute
+   */
+  @Override
+  public ImmutableList<Arg> getCudappflags() {
+    return cudappflags;
+  }
+
+  /**
+   * @return The value of the {@code cuda} attribute
+   */
+  @Override
+  public Optional<CompilerProvider> getCuda() {
+    return Optional.ofNullable(cuda);
+  }
+
+  /**
+   * @return The value of the {@code cudaflags} attribute
+   */
+  @Override
+  public ImmutableList<Arg> getCudaflags() {
+    return cudaflags;
+  }
+
+  /**
+   * @return The value of the {@code hippp} attribute
+   */
+  @Override
+  public Optional<PreprocessorProvider> getHippp() {
+    return Optional.ofNullable(hippp);
+  }
+
+  /**
+   * @return The value of the {@code hipppflags} attribute
+   */
+  @Override
+  public ImmutableList<Arg> getHipppflags() {
+    return hipppflags;
+  }
+
+  /**
+   * @return The value of the {@code hip} attribute
+   */
+  @Override
+  public Optional<CompilerProvider> getHip() {
+    return Optional.ofNullable(hip);
+  }
+
+  /**
+   * @return The value of the {@code hipflags} attribute
+   */
+  @Override
+  public ImmutableList<Arg> getHipflags() {
+    return hipflags;
+  }
+
+  /**
+   * @return The value of the {@code asmpp} attribute
+   */
+  @Override
+  public Optional<PreprocessorProvider> getAsmpp() {
+    return Optional.ofNullable(asmpp);
+  }
+
+  /**
+   * @return The value of the {@code asmppflags} attribute
+   */
+  @Override
+  public ImmutableList<Arg> getAsmppflags() {
+    return asmppflags;
+  }
+
+  /**
+   * @return The value of the {@code asm} attribute
+   */
+  @Override
+  public Optional<CompilerProvider> getAsm() {
+    return Optional.ofNullable(asm);
+  }
+
+  /**
+   * @return The value of the {@code asmflags} attribute
+   */
+  @Override
+  public ImmutableList<Arg> getAsmflags() {
+    return asmflags;
+  }
+
+  /**
+   * @return The value of the {@code ld} attribute
+   */
+  @Override
+  public LinkerProvider getLd() {
+    return ld;
+  }
+
+  /**
+   * @return The value of the {@code ldflags} attribute
+   */
+  @Override
+  public ImmutableList<Arg> getLdflags() {
+    return ldflags;
+  }
+
+  /**
+   * @return The value of the {@code runtimeLdflags} attribute
+   */
+  @Override
+  public ImmutableMultimap<Linker.LinkableDepType, Arg> getRuntimeLdflags() {
+    return runtimeLdflags;
+  }
+
+  /**
+   * @return The value of the {@code strip} attribute
+   */
+  @Override
+  public Tool getStrip() {
+    return strip;
+  }
+
+  /**
+   * @return The value of the {@code stripFlags} attribute
+   */
+  @Override
+  public ImmutableList<Arg> getStripFlags() {
+    return stripFlags;
+  }
+
+  /**
+   * @return The value of the {@code ar} attribute
+   */
+  @Override
+  public ArchiverProvider getAr() {
+    return ar;
+  }
+
+  /**
+   * @return The value of the {@code archiveContents} attribute
+   */
+  @Override
+  public ArchiveContents getArchiveContents() {
+    return archiveContents;
+  }
+
+  /**
+   * @return The value of the {@code arflags} attribute
+   */
+  @Override
+  public ImmutableList<Arg> getArflags() {
+    return arflags;
+  }
+
+  /**
+   * @return The value of the {@code ranlib} attribute
+   */
+  @Override
+  public Optional<ToolProvider> getRanlib() {
+    return Optional.ofNullable(ranlib);
+  }
+
+  /**
+   * @return The value of the {@code ranlibflags} attribute
+   */
+  @Override
+  public ImmutableList<Arg> getRanlibflags() {
+    return ranlibflags;
+  }
+
+  /**
+   * @return The value of the {@code symbolNameTool} attribute
+   */
+  @Override
+  public SymbolNameTool getSymbolNameTool() {
+    return symbolNameTool;
+  }
+
+  /**
+   * @return The value of the {@code sharedLibraryExtension} attribute
+   */
+  @Override
+  public String getSharedLibraryExtension() {
+    return sharedLibraryExtension;
+  }
+
+  /**
+   * @return The value of the {@code sharedLibraryVersionedExtensionFormat} attribute
+   */
+  @Override
+  public String getSharedLibraryVersionedExtensionFormat() {
+    return sharedLibraryVersionedExtensionFormat;
+  }
+
+  /**
+   * @return The value of the {@code staticLibraryExtension} attribute
+   */
+  @Override
+  public String getStaticLibraryExtension() {
+    return staticLibraryExtension;
+  }
+
+  /**
+   * @return The value of the {@code objectFileExtension} attribute
+   */
+  @Override
+  public String getObjectFileExtension() {
+    return objectFileExtension;
+  }
+
+  /**
+   * @return The value of the {@code compilerDebugPathSanitizer} attribute
+   */
+  @Override
+  public DebugPathSanitizer getCompilerDebugPathSanitizer() {
+    return compilerDebugPathSanitizer;
+  }
+
+  /**
+   * @return The value of the {@code headerVerification} attribute
+   */
+  @Override
+  public HeaderVerification getHeaderVerification() {
+    return headerVerification;
+  }
+
+  /**
+   * @return The value of the {@code useArgFile} attribute
+   */
+  @Override
+  public Optional<Boolean> getUseArgFile() {
+    return Optional.ofNullable(useArgFile);
+  }
+
+  /**
+   * @return The value of the {@code flagMacros} attribute
+   */
+  @Override
+  public ImmutableMap<String, String> getFlagMacros() {
+    return flagMacros;
+  }
+
+  /**
+   * @return The value of the {@code sharedLibraryInterfaceParams} attribute
+   */
+  @Override
+  public Optional<SharedLibraryInterfaceParams> getSharedLibraryInterfaceParams() {
+    return Optional.ofNullable(sharedLibraryInterfaceParams);
+  }
+
+  /**
+   * @return The value of the {@code binaryExtension} attribute
+   */
+  @Override
+  public Optional<String> getBinaryExtension() {
+    return Optional.ofNullable(binaryExtension);
+  }
+
+  /**
+   * @return The value of the {@code publicHeadersSymlinksEnabled} attribute
+   */
+  @Override
+  public boolean getPublicHeadersSymlinksEnabled() {
+    return publicHeadersSymlinksEnabled;
+  }
+
+  /**
+   * @return The value of the {@code privateHeadersSymlinksEnabled} attribute
+   */
+  @Override
+  public boolean getPrivateHeadersSymlinksEnabled() {
+    return privateHeadersSymlinksEnabled;
+  }
+
+  /**
+   * @return The value of the {@code picTypeForSharedLinking} attribute
+   */
+  @Override
+  public PicType getPicTypeForSharedLinking() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.getPicTypeForSharedLinking()
+        : this.picTypeForSharedLinking;
+  }
+
+  /**
+   * @return The value of the {@code conflictingHeaderBasenameWhitelist} attribute
+   */
+  @Override
+  public ImmutableSortedSet<String> getConflictingHeaderBasenameWhitelist() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.getConflictingHeaderBasenameWhitelist()
+        : this.conflictingHeaderBasenameWhitelist;
+  }
+
+  /**
+   * @return The value of the {@code headerMode} attribute
+   */
+  @Override
+  public Optional<HeaderMode> getHeaderMode() {
+    return Optional.ofNullable(headerMode);
+  }
+
+  /**
+   * @return The value of the {@code filepathLengthLimited} attribute
+   */
+  @Override
+  public boolean getFilepathLengthLimited() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.getFilepathLengthLimited()
+        : this.filepathLengthLimited;
+  }
+
+  /**
+   * This instance is equal to all instances of {@code ImmutableCxxPlatform} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof ImmutableCxxPlatform
+        && equalTo((ImmutableCxxPlatform) another);
+  }
+
+  private boolean equalTo(ImmutableCxxPlatform another) {
+    return flavor.equals(another.flavor)
+        && as.equals(another.as)
+        && asflags.equals(another.asflags)
+        && aspp.equals(another.aspp)
+        && asppflags.equals(another.asppflags)
+        && cc.equals(another.cc)
+        && cflags.equals(another.cflags)
+        && cxx.equals(another.cxx)
+        && cxxflags.equals(another.cxxflags)
+        && cpp.equals(another.cpp)
+        && cppflags.equals(another.cppflags)
+        && cxxpp.equals(another.cxxpp)
+        && cxxppflags.equals(another.cxxppflags)
+        && Objects.equals(cudapp, another.cudapp)
+        && cudappflags.equals(another.cudappflags)
+        && Objects.equals(cuda, another.cuda)
+        && cudaflags.equals(another.cudaflags)
+        && Objects.equals(hippp, another.hippp)
+        && hipppflags.equals(another.hipppflags)
+        && Objects.equals(hip, another.hip)
+        && hipflags.equals(another.hipflags)
+        && Objects.equals(asmpp, another.asmpp)
+        && asmppflags.equals(another.asmppflags)
+        && Objects.equals(asm, another.asm)
+        && asmflags.equals(another.asmflags)
+        && ld.equals(another.ld)
+        && ldflags.equals(another.ldflags)
+        && runtimeLdflags.equals(another.runtimeLdflags)
+        && strip.equals(another.strip)
+        && stripFlags.equals(another.stripFlags)
+        && ar.equals(another.ar)
+        && archiveContents.equals(another.archiveContents)
+        && arflags.equals(another.arflags)
+        && Objects.equals(ranlib, another.ranlib)
+        && ranlibflags.equals(another.ranlibflags)
+        && symbolNameTool.equals(another.symbolNameTool)
+        && sharedLibraryExtension.equals(another.sharedLibraryExtension)
+        && sharedLibraryVersionedExtensionFormat.equals(another.sharedLibraryVersionedExtensionFormat)
+        && staticLibraryExtension.equals(another.staticLibraryExtension)
+        && objectFileExtension.equals(another.objectFileExtension)
+        && compilerDebugPathSanitizer.equals(another.compilerDebugPathSanitizer)
+        && headerVerification.equals(another.headerVerification)
+        && Objects.equals(useArgFile, another.useArgFile)
+        && flagMacros.equals(another.flagMacros)
+        && Objects.equals(sharedLibraryInterfaceParams, another.sharedLibraryInterfaceParams)
+        && Objects.equals(binaryExtension, another.binaryExtension)
+        && publicHeadersSymlinksEnabled == another.publicHeadersSymlinksEnabled
+        && privateHeadersSymlinksEnabled == another.privateHeadersSymlinksEnabled
+        && picTypeForSharedLinking.equals(another.picTypeForSharedLinking)
+        && conflictingHeaderBasenameWhitelist.equals(another.conflictingHeaderBasenameWhitelist)
+        && Objects.equals(headerMode, another.headerMode)
+        && filepathLengthLimited == another.filepathLengthLimited;
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code flavor}, {@code as}, {@code asflags}, {@code aspp}, {@code asppflags}, {@code cc}, {@code cflags}, {@code cxx}, {@code cxxflags}, {@code cpp}, {@code cppflags}, {@code cxxpp}, {@code cxxppflags}, {@code cudapp}, {@code cudappflags}, {@code cuda}, {@code cudaflags}, {@code hippp}, {@code hipppflags}, {@code hip}, {@code hipflags}, {@code asmpp}, {@code asmppflags}, {@code asm}, {@code asmflags}, {@code ld}, {@code ldflags}, {@code runtimeLdflags}, {@code strip}, {@code stripFlags}, {@code ar}, {@code archiveContents}, {@code arflags}, {@code ranlib}, {@code ranlibflags}, {@code symbolNameTool}, {@code sharedLibraryExtension}, {@code sharedLibraryVersionedExtensionFormat}, {@code staticLibraryExtension}, {@code objectFileExtension}, {@code compilerDebugPathSanitizer}, {@code headerVerification}, {@code useArgFile}, {@code flagMacros}, {@code sharedLibraryInterfaceParams}, {@code binaryExtension}, {@code publicHeadersSymlinksEnabled}, {@code privateHeadersSymlinksEnabled}, {@code picTypeForSharedLinking}, {@code conflictingHeaderBasenameWhitelist}, {@code headerMode}, {@code filepathLengthLimited}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    @Var int h = 5381;
+    h += (h << 5) + flavor.hashCode();
+    h += (h << 5) + as.hashCode();
+    h += (h << 5) + asflags.hashCode();
+    h += (h << 5) + aspp.hashCode();
+    h += (h << 5) + asppflags.hashCode();
+    h += (h << 5) + cc.hashCode();
+    h += (h << 5) + cflags.hashCode();
+    h += (h << 5) + cxx.hashCode();
+    h += (h << 5) + cxxflags.hashCode();
+    h += (h << 5) + cpp.hashCode();
+    h += (h << 5) + cppflags.hashCode();
+    h += (h << 5) + cxxpp.hashCode();
+    h += (h << 5) + cxxppflags.hashCode();
+    h += (h << 5) + Objects.hashCode(cudapp);
+    h += (h << 5) + cudappflags.hashCode();
+    h += (h << 5) + Objects.hashCode(cuda);
+    h += (h << 5) + cudaflags.hashCode();
+    h += (h << 5) + Objects.hashCode(hippp);
+    h += (h << 5) + hipppflags.hashCode();
+    h += (h << 5) + Objects.hashCode(hip);
+    h += (h << 5) + hipflags.hashCode();
+    h += (h << 5) + Objects.hashCode(asmpp);
+    h += (h << 5) + asmppflags.hashCode();
+    h += (h << 5) + Objects.hashCode(asm);
+    h += (h << 5) + asmflags.hashCode();
+    h += (h << 5) + ld.hashCode();
+    h += (h << 5) + ldflags.hashCode();
+    h += (h << 5) + runtimeLdflags.hashCode();
+    h += (h << 5) + strip.hashCode();
+    h += (h << 5) + stripFlags.hashCode();
+    h += (h << 5) + ar.hashCode();
+    h += (h << 5) + archiveContents.hashCode();
+    h += (h << 5) + arflags.hashCode();
+    h += (h << 5) + Objects.hashCode(ranlib);
+    h += (h << 5) + ranlibflags.hashCode();
+    h += (h << 5) + symbolNameTool.hashCode();
+    h += (h << 5) + sharedLibraryExtension.hashCode();
+    h += (h << 5) + sharedLibraryVersionedExtensionFormat.hashCode();
+    h += (h << 5) + staticLibraryExtension.hashCode();
+    h += (h << 5) + objectFileExtension.hashCode();
+    h += (h << 5) + compilerDebugPathSanitizer.hashCode();
+    h += (h << 5) + headerVerification.hashCode();
+    h += (h << 5) + Objects.hashCode(useArgFile);
+    h += (h << 5) + flagMacros.hashCode();
+    h += (h << 5) + Objects.hashCode(sharedLibraryInterfaceParams);
+    h += (h << 5) + Objects.hashCode(binaryExtension);
+    h += (h << 5) + Booleans.hashCode(publicHeadersSymlinksEnabled);
+    h += (h << 5) + Booleans.hashCode(privateHeadersSymlinksEnabled);
+    h += (h << 5) + picTypeForSharedLinking.hashCode();
+    h += (h << 5) + conflictingHeaderBasenameWhitelist.hashCode();
+    h += (h << 5) + Objects.hashCode(headerMode);
+    h += (h << 5) + Booleans.hashCode(filepathLengthLimited);
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code CxxPlatform} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("CxxPlatform")
+        .omitNullValues()
+        .add("flavor", flavor)
+        .add("as", as)
+        .add("asflags", asflags)
+        .add("aspp", aspp)
+        .add("asppflags", asppflags)
+        .add("cc", cc)
+        .add("cflags", cflags)
+        .add("cxx", cxx)
+        .add("cxxflags", cxxflags)
+        .add("cpp", cpp)
+        .add("cppflags", cppflags)
+        .add("cxxpp", cxxpp)
+        .add("cxxppflags", cxxppflags)
+        .add("cudapp", cudapp)
+        .add("cudappflags", cudappflags)
+        .add("cuda", cuda)
+        .add("cudaflags", cudaflags)
+        .add("hippp", hippp)
+        .add("hipppflags", hipppflags)
+        .add("hip", hip)
+        .add("hipflags", hipflags)
+        .add("asmpp", asmpp)
+        .add("asmppflags", asmppflags)
+        .add("asm", asm)
+        .add("asmflags", asmflags)
+        .add("ld", ld)
+        .add("ldflags", ldflags)
+        .add("runtimeLdflags", runtimeLdflags)
+        .add("strip", strip)
+        .add("stripFlags", stripFlags)
+        .add("ar", ar)
+        .add("archiveContents", archiveContents)
+        .add("arflags", arflags)
+        .add("ranlib", ranlib)
+        .add("ranlibflags", ranlibflags)
+        .add("symbolNameTool", symbolNameTool)
+        .add("sharedLibraryExtension", sharedLibraryExtension)
+        .add("sharedLibraryVersionedExtensionFormat", sharedLibraryVersionedExtensionFormat)
+        .add("staticLibraryExtension", staticLibraryExtension)
+        .add("objectFileExtension", objectFileExtension)
+        .add("compilerDebugPathSanitizer", compilerDebugPathSanitizer)
+        .add("headerVerification", headerVerification)
+        .add("useArgFile", useArgFile)
+        .add("flagMacros", flagMacros)
+        .add("sharedLibraryInterfaceParams", sharedLibraryInterfaceParams)
+        .add("binaryExtension", binaryExtension)
+        .add("publicHeadersSymlinksEnabled", publicHeadersSymlinksEnabled)
+        .add("privateHeadersSymlinksEnabled", privateHeadersSymlinksEnabled)
+        .add("picTypeForSharedLinking", picTypeForSharedLinking)
+        .add("conflictingHeaderBasenameWhitelist", conflictingHeaderBasenameWhitelist)
+        .add("headerMode", headerMode)
+        .add("filepathLengthLimited", filepathLengthLimited)
+        .toString();
+  }
+
+  /**
+   * Builds instances of type {@link CxxPlatform CxxPlatform}.
+   * Initialize attributes and then invoke the {@link #build()} method to create an
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread-safe and generally should not be stored in a field or collection,
+   * but instead used immediately to create instances.</em>
+   */
+  @Generated(from = "CxxPlatform", generator = "Immutables")
+  @NotThreadSafe
+  public static class Builder {
+    private static final long INIT_BIT_FLAVOR = 0x1L;
+    private static final long INIT_BIT_AS = 0x2L;
+    private static final long INIT_BIT_ASPP = 0x4L;
+    private static final long INIT_BIT_CC = 0x8L;
+    private static final long INIT_BIT_CXX = 0x10L;
+    private static final long INIT_BIT_CPP = 0x20L;
+    private static final long INIT_BIT_CXXPP = 0x40L;
+    private static final long INIT_BIT_LD = 0x80L;
+    private static final long INIT_BIT_STRIP = 0x100L;
+    private static final long INIT_BIT_AR = 0x200L;
+    private static final long INIT_BIT_ARCHIVE_CONTENTS = 0x400L;
+    private static final long INIT_BIT_SYMBOL_NAME_TOOL = 0x800L;
+    private static final long INIT_BIT_SHARED_LIBRARY_EXTENSION = 0x1000L;
+    private static final long INIT_BIT_SHARED_LIBRARY_VERSIONED_EXTENSION_FORMAT = 0x2000L;
+    private static final long INIT_BIT_STATIC_LIBRARY_EXTENSION = 0x4000L;
+    private static final long INIT_BIT_OBJECT_FILE_EXTENSION = 0x8000L;
+    private static final long INIT_BIT_COMPILER_DEBUG_PATH_SANITIZER = 0x10000L;
+    private static final long INIT_BIT_HEADER_VERIFICATION = 0x20000L;
+    private static final long INIT_BIT_PUBLIC_HEADERS_SYMLINKS_ENABLED = 0x40000L;
+    private static final long INIT_BIT_PRIVATE_HEADERS_SYMLINKS_ENABLED = 0x80000L;
+    private static final long OPT_BIT_FILEPATH_LENGTH_LIMITED = 0x1L;
+    private long initBits = 0xfffffL;
+    private long optBits;
+
+    private @Nullable Flavor flavor;
+    private @Nullable CompilerProvider as;
+    private ImmutableList.Builder<Arg> asflags = ImmutableList.builder();
+    private @Nullable PreprocessorProvider aspp;
+    private ImmutableList.Builder<Arg> asppflags = ImmutableList.builder();
+    private @Nullable CompilerProvider cc;
+    private ImmutableList.Builder<Arg> cflags = ImmutableList.builder();
+    private @Nullable CompilerProvider cxx;
+    private ImmutableList.Builder<Arg> cxxflags = ImmutableList.builder();
+    private @Nullable PreprocessorProvider cpp;
+    private ImmutableList.Builder<Arg> cppflags = ImmutableList.builder();
+    private @Nullable PreprocessorProvider cxxpp;
+    private ImmutableList.Builder<Arg> cxxppflags = ImmutableList.builder();
+    private @Nullable PreprocessorProvider cudapp;
+    private ImmutableList.Builder<Arg> cudappflags = ImmutableList.builder();
+    private @Nullable CompilerProvider cuda;
+    private ImmutableList.Builder<Arg> cudaflags = ImmutableList.builder();
+    private @Nullable PreprocessorProvider hippp;
+    private ImmutableList.Builder<Arg> hipppflags = ImmutableList.builder();
+    private @Nullable CompilerProvider hip;
+    private ImmutableList.Builder<Arg> hipflags = ImmutableList.builder();
+    private @Nullable PreprocessorProvider asmpp;
+    private ImmutableList.Builder<Arg> asmppflags = ImmutableList.builder();
+    private @Nullable CompilerProvider asm;
+    private ImmutableList.Builder<Arg> asmflags = ImmutableList.builder();
+    private @Nullable LinkerProvider ld;
+    private ImmutableList.Builder<Arg> ldflags = ImmutableList.builder();
+    private ImmutableMultimap.Builder<Linker.LinkableDepType, Arg> runtimeLdflags = ImmutableMultimap.builder();
+    private @Nullable Tool strip;
+    private ImmutableList.Builder<Arg> stripFlags = ImmutableList.builder();
+    private @Nullable ArchiverProvider ar;
+    private @Nullable ArchiveContents archiveContents;
+    private ImmutableList.Builder<Arg> arflags = ImmutableList.builder();
+    private @Nullable ToolProvider ranlib;
+    private ImmutableList.Builder<Arg> ranlibflags = ImmutableList.builder();
+    private @Nullable SymbolNameTool symbolNameTool;
+    private @Nullable String sharedLibraryExtension;
+    private @Nullable String sharedLibraryVersionedExtensionFormat;
+    private @Nullable String staticLibraryExtension;
+    private @Nullable String objectFileExtension;
+    private @Nullable DebugPathSanitizer compilerDebugPathSanitizer;
+    private @Nullable HeaderVerification headerVerification;
+    private @Nullable Boolean useArgFile;
+    private ImmutableMap.Builder<String, String> flagMacros = ImmutableMap.builder();
+    private @Nullable SharedLibraryInterfaceParams sharedLibraryInterfaceParams;
+    private @Nullable String binaryExtension;
+    private boolean publicHeadersSymlinksEnabled;
+    private boolean privateHeadersSymlinksEnabled;
+    private @Nullable PicType picTypeForSharedLinking;
+    private @Nullable ImmutableSortedSet<String> conflictingHeaderBasenameWhitelist;
+    private @Nullable HeaderMode headerMode;
+    private boolean filepathLengthLimited;
+
+    /**
+     * Creates a builder for {@link CxxPlatform CxxPlatform} instances.
+     */
+    public Builder() {
+      if (!(this instanceof CxxPlatform.Builder)) {
+        throw new UnsupportedOperationException("Use: new CxxPlatform.Builder()");
+      }
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code com.facebook.buck.cxx.toolchain.CxxPlatform} instance.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final CxxPlatform.Builder from(CxxPlatform instance) {
+      Objects.requireNonNull(instance, "instance");
+      from((Object) instance);
+      return (CxxPlatform.Builder) this;
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code com.facebook.buck.core.model.FlavorConvertible} instance.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final CxxPlatform.Builder from(FlavorConvertible instance) {
+      Objects.requireNonNull(instance, "instance");
+      from((Object) instance);
+      return (CxxPlatform.Builder) this;
+    }
+
+    private void from(Object object) {
+      @Var long bits = 0;
+      if (object instanceof CxxPlatform) {
+        CxxPlatform instance = (CxxPlatform) object;
+        Optional<Boolean> useArgFileOptional = instance.getUseArgFile();
+        if (useArgFileOptional.isPresent()) {
+          setUseArgFile(useArgFileOptional);
+        }
+        Optional<SharedLibraryInterfaceParams> sharedLibraryInterfaceParamsOptional = instance.getSharedLibraryInterfaceParams();
+        if (sharedLibraryInterfaceParamsOptional.isPresent()) {
+          setSharedLibraryInterfaceParams(sharedLibraryInterfaceParamsOptional);
+        }
+        addAllHipppflags(instance.getHipppflags());
+        setPicTypeForSharedLinking(instance.getPicTypeForSharedLinking());
+        Optional<HeaderMode> headerModeOptional = instance.getHeaderMode();
+        if (headerModeOptional.isPresent()) {
+          setHeaderMode(headerModeOptional);
+        }
+        setCompilerDebugPathSanitizer(instance.getCompilerDebugPathSanitizer());
+        Optional<CompilerProvider> hipOptional = instance.getHip();
+        if (hipOptional.isPresent()) {
+          setHip(hipOptional);
+        }
+        addAllCudappflags(instance.getCudappflags());
+        addAllHipflags(instance.getHipflags());
+        setArchiveContents(instance.getArchiveContents());
+        setStrip(instance.getStrip());
+        putAllRuntimeLdflags(instance.getRuntimeLdflags());
+        Optional<ToolProvider> ranlibOptional = instance.getRanlib();
+        if (ranlibOptional.isPresent()) {
+          setRanlib(ranlibOptional);
+        }
+        addAllLdflags(instance.getLdflags());
+        setStaticLibraryExtension(instance.getStaticLibraryExtension());
+        setAspp(instance.getAspp());
+        Optional<PreprocessorProvider> cudappOptional = instance.getCudapp();
+        if (cudappOptional.isPresent()) {
+          setCudapp(cudappOptional);
+        }
+        setCxx(instance.getCxx());
+        setCpp(instance.getCpp());
+        Optional<PreprocessorProvider> hipppOptional = instance.getHippp();
+        if (hipppOptional.isPresent()) {
+          setHippp(hipppOptional);
+        }
+        setHeaderVerification(instance.getHeaderVerification());
+        addAllAsppflags(instance.getAsppflags());
+        setObjectFileExtension(instance.getObjectFileExtension());
+        Optional<String> binaryExtensionOptional = instance.getBinaryExtension();
+        if (binaryExtensionOptional.isPresent()) {
+          setBinaryExtension(binaryExtensionOptional);
+        }
+        addAllStripFlags(instance.getStripFlags());
+        if ((bits & 0x1L) == 0) {
+          setFlavor(instance.getFlavor());
+          bits |= 0x1L;
+        }
+        setAr(instance.getAr());
+        setAs(instance.getAs());
+        putAllFlagMacros(instance.getFlagMacros());
+        addAllCxxppflags(instance.getCxxppflags());
+        addAllAsmppflags(instance.getAsmppflags());
+        Optional<PreprocessorProvider> asmppOptional = instance.getAsmpp();
+        if (asmppOptional.isPresent()) {
+          setAsmpp(asmppOptional);
+        }
+        addAllCflags(instance.getCflags());
+        setPrivateHeadersSymlinksEnabled(instance.getPrivateHeadersSymlinksEnabled());
+        Optional<CompilerProvider> cudaOptional = instance.getCuda();
+        if (cudaOptional.isPresent()) {
+          setCuda(cudaOptional);
+        }
+        setConflictingHeaderBasenameWhitelist(instance.getConflictingHeaderBasenameWhitelist());
+        setCxxpp(instance.getCxxpp());
+        addAllRanlibflags(instance.getRanlibflags());
+        addAllCxxflags(instance.getCxxflags());
+        setFilepathLengthLimited(instance.getFilepathLengthLimited());
+        addAllAsflags(instance.getAsflags());
+        addAllCudaflags(instance.getCudaflags());
+        setCc(instance.getCc());
+        addAllAsmflags(instance.getAsmflags());
+        addAllArflags(instance.getArflags());
+        setSharedLibraryExtension(instance.getSharedLibraryExtension());
+        setSharedLibraryVersionedExtensionFormat(instance.getSharedLibraryVersionedExtensionFormat());
+        addAllCppflags(instance.getCppflags());
+        setLd(instance.getLd());
+        Optional<CompilerProvider> asmOptional = instance.getAsm();
+        if (asmOptional.isPresent()) {
+          setAsm(asmOptional);
+        }
+        setSymbolNameTool(instance.getSymbolNameTool());
+        setPublicHeadersSymlinksEnabled(instance.getPublicHeadersSymlinksEnabled());
+      }
+      if (object instanceof FlavorConvertible) {
+        FlavorConvertible instance = (FlavorConvertible) object;
+        if ((bits & 0x1L) == 0) {
+          setFlavor(instance.getFlavor());
+          bits |= 0x1L;
+        }
+      }
+    }
+
+    /**
+     * Initializes the value for the {@link CxxPlatform#getFlavor() flavor} attribute.
+     * @param flavor The value for flavor 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final CxxPlatform.Builder setFlavor(Flavor flavor) {
+      this.flavor = Objects.requireNonNull(flavor, "flavor");
+      initBits &= ~INIT_BIT_FLAVOR;
+      return (CxxPlatform.Builder) this;
+    }
+
+    /**
+     * Initializes the value for the {@link CxxPlatform#getAs() as} attribute.
+     * @param as The value for as 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final CxxPlatform.Builder setAs(CompilerProvider as) {
+      this.as = Objects.requireNonNull(as, "as");
+      initBits &= ~INIT_BIT_AS;
+      return (CxxPlatform.Builder) this;
+    }
+
+    /**
+     * Adds one element to {@link CxxPlatform#getAsflags() asflags} list.
+     * @param element A asflags element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final CxxPlatform.Builder addAsflags(Arg element) {
+      this.asflags.add(element);
+      return (CxxPlatform.Builder) this;
+    }
+
+    /**
+     * Adds elements to {@link CxxPlatform#getAsflags() asflags} list.
+     * @param elements An array of asflags elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final CxxPlatform.Builder addAsflags(Arg... elements) {
+      this.asflags.add(elements);
+      return (CxxPlatform.Builder) this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link CxxPlatform#getAsflags() asflags} list.
+     * @param elements An iterable of asflags elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final CxxPlatform.Builder setAsflags(Iterable<? extends Arg> elements) {
+      this.asflags = ImmutableList.builder();
+      return addAllAsflags(elements);
+    }
+
+    /**
+     * Adds elements to {@link CxxPlatform#getAsflags() asflags} list.
+     * @param elements An iterable of asflags elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final CxxPlatform.Builder addAllAsflags(Iterable<? extends Arg> elements) {
+      this.asflags.addAll(elements);
+      return (CxxPlatform.Builder) this;
+    }
+
+    /**
+     * Initializes the value for the {@link CxxPlatform#getAspp() aspp} attribute.
+     * @param aspp The value for aspp 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final CxxPlatform.Builder setAspp(PreprocessorProvider aspp) {
+      this.aspp = Objects.requireNonNull(aspp, "aspp");
+      initBits &= ~INIT_BIT_ASPP;
+      return (CxxPlatform.Builder) this;
+    }
+
+    /**
+     * Adds one element to {@link CxxPlatform#getAsppflags() asppflags} list.
+     * @param element A asppflags element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final CxxPlatform.Builder addAsppflags(Arg element) {
+      this.asppflags.add(element);
+      return (CxxPlatform.Builder) this;
+    }
+
+    /**
+     * Adds elements to {@link CxxPlatform#getAsppflags() asppflags} list.
+     * @param elements An array of asppflags elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final CxxPlatform.Builder addAsppflags(Arg... elements) {
+      this.asppflags.add(elements);
+      return (CxxPlatform.Builder) this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link CxxPlatform#getAsppflags() asppflags} list.
+     * @param elements An iterable of asppflags elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final CxxPlatform.Builder setAsppflags(Iterable<? extends Arg> elements) {
+      this.asppflags = ImmutableList.builder();
+      return addAllAsppflags(elements);
+    }
+
+    /**
+     * Adds elements to {@link CxxPlatform#getAsppflags() asppflags} list.
+     * @param elements An iterable of asppflags elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final CxxPlatform.Builder addAllAsppflags(Iterable<? extends Arg> elements) {
+      this.asppflags.addAll(elements);
+      return (CxxPlatform.Builder) this;
+    }
+
+    /**
+     * Initializes the value for the {@link CxxPlatform#getCc() cc} attribute.
+     * @param cc The value for cc 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final CxxPlatform.Builder setCc(CompilerProvider cc) {
+      this.cc = Objects.requireNonNull(cc, "cc");
+      initBits &= ~INIT_BIT_CC;
+      return (CxxPlatform.Builder) this;
+    }
+
+    /**
+     * Adds one element to {@link CxxPlatform#getCflags() cflags} list.
+     * @param element A cflags element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final CxxPlatform.Builder addCflags(Arg element) {
+      this.cflags.add(element);
+      return (CxxPlatform.Builder) this;
+    }
+
+    /**
+     * Adds elements to {@link CxxPlatform#getCflags() cflags} list.
+     * @param elements An array of cflags elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final CxxPlatform.Builder addCflags(Arg... elements) {
+      this.cflags.add(elements);
+      return (CxxPlatform.Builder) this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link CxxPlatform#getCflags() cflags} list.
+     * @param elements An iterable of cflags elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final CxxPlatform.Builder setCflags(Iterable<? extends Arg> elements) {
+      this.cflags = ImmutableList.builder();
+      return addAllCflags(elements);
+    }
+
+    /**
+     * Adds elements to {@link CxxPlatform#getCflags() cflags} list.
+     * @param elements An iterable of cflags elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final CxxPlatform.Builder addAllCflags(Iterable<? extends Arg> elements) {
+      this.cflags.addAll(elements);
+      return (CxxPlatform.Builder) this;
+    }
+
+    /**
+     * Initializes the value for the {@link CxxPlatform#getCxx() cxx} attribute.
+     * @param cxx The value for cxx 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final CxxPlatform.Builder setCxx(CompilerProvider cxx) {
+      this.cxx = Objects.requireNonNull(cxx, "cxx");
+      initBits &= ~INIT_BIT_CXX;
+      return (CxxPlatform.Builder) this;
+    }
+
+    /**
+     * Adds one element to {@link CxxPlatform#getCxxflags() cxxflags} list.
+     * @param element A cxxflags element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final CxxPlatform.Builder addCxxflags(Arg element) {
+      this.cxxflags.add(element);
+      return (CxxPlatform.Builder) this;
+    }
+
+    /**
+     * Adds elements to {@link CxxPlatform#getCxxflags() cxxflags} list.
+     * @param elements An array of cxxflags elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final CxxPlatform.Builder addCxxflags(Arg... elements) {
+      this.cxxflags.add(elements);
+      return (CxxPlatform.Builder) this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link CxxPlatform#getCxxflags() cxxflags} list.
+     * @param elements An iterable of cxxflags elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final CxxPlatform.Builder setCxxflags(Iterable<? extends Arg> elements) {
+      this.cxxflags = ImmutableList.builder();
+      return addAllCxxflags(elements);
+    }
+
+    /**
+     * Adds elements to {@link CxxPlatform#getCxxflags() cxxflags} list.
+     * @param elements An iterable of cxxflags elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final CxxPlatform.Builder addAllCxxflags(Iterable<? extends Arg> elements) {
+      this.cxxflags.addAll(elements);
+      return (CxxPlatform.Builder) this;
+    }
+
+    /**
+     * Initializes the value for the {@link CxxPlatform#getCpp() cpp} attribute.
+     * @param cpp The value for cpp 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final CxxPlatform.Builder setCpp(PreprocessorProvider cpp) {
+      this.cpp = Objects.requireNonNull(cpp, "cpp");
+      initBits &= ~INIT_BIT_CPP;
+      return (CxxPlatform.Builder) this;
+    }
+
+    /**
+     * Adds one element to {@link CxxPlatform#getCppflags() cppflags} list.
+     * @param element A cppflags element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final CxxPlatform.Builder addCppflags(Arg element) {
+      this.cppflags.add(element);
+      return (CxxPlatform.Builder) this;
+    }
+
+    /**
+     * Adds elements to {@link CxxPlatform#getCppflags() cppflags} list.
+     * @param elements An array of cppflags elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final CxxPlatform.Builder addCppflags(Arg... elements) {
+      this.cppflags.add(elements);
+      return (CxxPlatform.Builder) this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link CxxPlatform#getCppflags() cppflags} list.
+     * @param elements An iterable of cppflags elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final CxxPlatform.Builder setCppflags(Iterable<? extends Arg> elements) {
+      this.cppflags = ImmutableList.builder();
+      return addAllCppflags(elements);
+    }
+
+    /**
+     * Adds elements to {@link CxxPlatform#getCppflags() cppflags} list.
+     * @param elements An iterable of cppflags elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final CxxPlatform.Builder addAllCppflags(Iterable<? extends Arg> elements) {
+      this.cppflags.addAll(elements);
+      return (CxxPlatform.Builder) this;
+    }
+
+    /**
+     * Initializes the value for the {@link CxxPlatform#getCxxpp() cxxpp} attribute.
+     * @param cxxpp The value for cxxpp 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final CxxPlatform.Builder setCxxpp(PreprocessorProvider cxxpp) {
+      this.cxxpp = Objects.requireNonNull(cxxpp, "cxxpp");
+      initBits &= ~INIT_BIT_CXXPP;
+      return (CxxPlatform.Builder) this;
+    }
+
+    /**
+     * Adds one element to {@link CxxPlatform#getCxxppflags() cxxppflags} list.
+     * @param element A cxxppflags element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final CxxPlatform.Builder addCxxppflags(Arg element) {
+      this.cxxppflags.add(element);
+      return (CxxPlatform.Builder) this;
+    }
+
+    /**
+     * Adds elements to {@link CxxPlatform#getCxxppflags() cxxppflags} list.
+     * @param elements An array of cxxppflags elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final CxxPlatform.Builder addCxxppflags(Arg... elements) {
+      this.cxxppflags.add(elements);
+      return (CxxPlatform.Builder) this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link CxxPlatform#getCxxppflags() cxxppflags} list.
+     * @param elements An iterable of cxxppflags elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final CxxPlatform.Builder setCxxppflags(Iterable<? extends Arg> elements) {
+      this.cxxppflags = ImmutableList.builder();
+      return addAllCxxppflags(elements);
+    }
+
+    /**
+     * Adds elements to {@link CxxPlatform#getCxxppflags() cxxppflags} list.
+     * @param elements An iterable of cxxppflags elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final CxxPlatform.Builder addAllCxxppflags(Iterable<? extends Arg> elements) {
+      this.cxxppflags.addAll(elements);
+      return (CxxPlatform.Builder) this;
+    }
+
+    /**
+     * Initializes the optional value {@link CxxPlatform#getCudapp() cudapp} to cudapp.
+     * @param cudapp The value for cudapp
+     * @return {@code this} builder for chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final CxxPlatform.Builder setCudapp(PreprocessorProvider cudapp) {
+      this.cudapp = Objects.requireNonNull(cudapp, "cudapp");
+      return (CxxPlatform.Builder) this;
+    }
+
+    /**
+     * Initializes the optional value {@link CxxPlatform#getCudapp() cudapp} to cudapp.
+     * @param cudapp The value for cudapp
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final CxxPlatform.Builder setCudapp(Optional<? extends PreprocessorProvider> cudapp) {
+      this.cudapp = cudapp.orElse(null);
+      return (CxxPlatform.Builder) this;
+    }
+
+    /**
+     * Adds one element to {@link CxxPlatform#getCudappflags() cudappflags} list.
+     * @param element A cudappflags element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final CxxPlatform.Builder addCudappflags(Arg element) {
+      this.cudappflags.add(element);
+      return (CxxPlatform.Builder) this;
+    }
+
+    /**
+     * Adds elements to {@link CxxPlatform#getCudappflags() cudappflags} list.
+     * @param elements An array of cudappflags elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final CxxPlatform.Builder addCudappflags(Arg... elements) {
+      this.cudappflags.add(elements);
+      return (CxxPlatform.Builder) this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link CxxPlatform#getCudappflags() cudappflags} list.
+     * @param elements An iterable of cudappflags elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final CxxPlatform.Builder setCudappflags(Iterable<? extends Arg> elements) {
+      this.cudappflags = ImmutableList.builder();
+      return addAllCudappflags(elements);
+    }
+
+    /**
+     * Adds elements to {@link CxxPlatform#getCudappflags() cudappflags} list.
+     * @param elements An iterable of cudappflags elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final CxxPlatform.Builder addAllCudappflags(Iterable<? extends Arg> elements) {
+      this.cudappflags.addAll(elements);
+      return (CxxPlatform.Builder) this;
+    }
+
+    /**
+     * Initializes the optional value {@link CxxPlatform#getCuda() cuda} to cuda.
+     * @param cuda The value for cuda
+     * @return {@code this} builder for chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final CxxPlatform.Builder setCuda(CompilerProvider cuda) {
+      this.cuda = Objects.requireNonNull(cuda, "cuda");
+      return (CxxPlatform.Builder) this;
+    }
+
+    /**
+     * Initializes the optional value {@link CxxPlatform#getCuda() cuda} to cuda.
+     * @param cuda The value for cuda
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final CxxPlatform.Builder setCuda(Optional<? extends CompilerProvider> cuda) {
+      this.cuda = cuda.orElse(null);
+      return (CxxPlatform.Builder) this;
+    }
+
+    /**
+     * Adds one element to {@link CxxPlatform#getCudaflags() cudaflags} list.
+     * @param element A cudaflags element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final CxxPlatform.Builder addCudaflags(Arg element) {
+      this.cudaflags.add(element);
+      return (CxxPlatform.Builder) this;
+    }
+
+    /**
+     * Adds elements to {@link CxxPlatform#getCudaflags() cudaflags} list.
+     * @param elements An array of cudaflags elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final CxxPlatform.Builder addCudaflags(Arg... elements) {
+      this.cudaflags.add(elements);
+      return (CxxPlatform.Builder) this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link CxxPlatform#getCudaflags() cudaflags} list.
+     * @param elements An iterable of cudaflags elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final CxxPlatform.Builder setCudaflags(Iterable<? extends Arg> elements) {
+      this.cudaflags = ImmutableList.builder();
+      return addAllCudaflags(elements);
+    }
+
+    /**
+     * Adds elements to {@link CxxPlatform#getCudaflags() cudaflags} list.
+     * @param elements An iterable of cudaflags elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final CxxPlatform.Builder addAllCudaflags(Iterable<? extends Arg> elements) {
+      this.cudaflags.addAll(elements);
+      return (CxxPlatform.Builder) this;
+    }
+
+    /**
+     * Initializes the optional value {@link CxxPlatform#getHippp() hippp} to hippp.
+     * @param hippp The value for hippp
+     * @return {@code this} builder for chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final CxxPlatform.Builder setHippp(PreprocessorProvider hippp) {
+      this.hippp = Objects.requireNonNull(hippp, "hippp");
+      return (CxxPlatform.Builder) this;
+    }
+
+    /**
+     * Initializes the optional value {@link CxxPlatform#getHippp() hippp} to hippp.
+     * @param hippp The value for hippp
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final CxxPlatform.Builder setHippp(Optional<? extends PreprocessorProvider> hippp) {
+      this.hippp = hippp.orElse(null);
+      return (CxxPlatform.Builder) this;
+    }
+
+    /**
+     * Adds one element to {@link CxxPlatform#getHipppflags() hipppflags} list.
+     * @param element A hipppflags element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final CxxPlatform.Builder addHipppflags(Arg element) {
+      this.hipppflags.add(element);
+      return (CxxPlatform.Builder) this;
+    }
+
+    /**
+     * Adds elements to {@link CxxPlatform#getHipppflags() hipppflags} list.
+     * @param elements An array of hipppflags elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final CxxPlatform.Builder addHipppflags(Arg... elements) {
+      this.hipppflags.add(elements);
+      return (CxxPlatform.Builder) this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link CxxPlatform#getHipppflags() hipppflags} list.
+     * @param elements An iterable of hipppflags elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final CxxPlatform.Builder setHipppflags(Iterable<? extends Arg> elements) {
+      this.hipppflags = ImmutableList.builder();
+      return addAllHipppflags(elements);
+    }
+
+    /**
+     * Adds elements to {@link CxxPlatform#getHipppflags() hipppflags} list.
+     * @param elements An iterable of hipppflags elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final CxxPlatform.Builder addAllHipppflags(Iterable<? extends Arg> elements) {
+      this.hipppflags.addAll(elements);
+      return (CxxPlatform.Builder) this;
+    }
+
+    /**
+     * Initializes the optional value {@link CxxPlatform#getHip() hip} to hip.
+     * @param hip The value for hip
+     * @return {@code this} builder for chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final CxxPlatform.Builder setHip(CompilerProvider hip) {
+      this.hip = Objects.requireNonNull(hip, "hip");
+      return (CxxPlatform.Builder) this;
+    }
+
+    /**
+     * Initializes the optional value {@link CxxPlatform#getHip() hip} to hip.
+     * @param hip The value for hip
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final CxxPlatform.Builder setHip(Optional<? extends CompilerProvider> hip) {
+      this.hip = hip.orElse(null);
+      return (CxxPlatform.Builder) this;
+    }
+
+    /**
+     * Adds one element to {@link CxxPlatform#getHipflags() hipflags} list.
+     * @param element A hipflags element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final CxxPlatform.Builder addHipflags(Arg element) {
+      this.hipflags.add(element);
+      return (CxxPlatform.Builder) this;
+    }
+
+    /**
+     * Adds elements to {@link CxxPlatform#getHipflags() hipflags} list.
+     * @param elements An array of hipflags elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final CxxPlatform.Builder addHipflags(Arg... elements) {
+      this.hipflags.add(elements);
+      return (CxxPlatform.Builder) this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link CxxPlatform#getHipflags() hipflags} list.
+     * @param elements An iterable of hipflags elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final CxxPlatform.Builder setHipflags(Iterable<? extends Arg> elements) {
+      this.hipflags = ImmutableList.builder();
+      return addAllHipflags(elements);
+    }
+
+    /**
+     * Adds elements to {@link CxxPlatform#getHipflags() hipflags} list.
+     * @param elements An iterable of hipflags elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final CxxPlatform.Builder addAllHipflags(Iterable<? extends Arg> elements) {
+      this.hipflags.addAll(elements);
+      return (CxxPlatform.Builder) this;
+    }
+
+    /**
+     * Initializes the optional value {@link CxxPlatform#getAsmpp() asmpp} to asmpp.
+     * @param asmpp The value for asmpp
+     * @return {@code this} builder for chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final CxxPlatform.Builder setAsmpp(PreprocessorProvider asmpp) {
+      this.asmpp = Objects.requireNonNull(asmpp, "asmpp");
+      return (CxxPlatform.Builder) this;
+    }
+
+    /**
+     * Initializes the optional value {@link CxxPlatform#getAsmpp() asmpp} to asmpp.
+     * @param asmpp The value for asmpp
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final CxxPlatform.Builder setAsmpp(Optional<? extends PreprocessorProvider> asmpp) {
+      this.asmpp = asmpp.orElse(null);
+      return (CxxPlatform.Builder) this;
+    }
+
+    /**
+     * Adds one element to {@link CxxPlatform#getAsmppflags() asmppflags} list.
+     * @param element A asmppflags element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final CxxPlatform.Builder addAsmppflags(Arg element) {
+      this.asmppflags.add(element);
+      return (CxxPlatform.Builder) this;
+    }
+
+    /**
+     * Adds elements to {@link CxxPlatform#getAsmppflags() asmppflags} list.
+     * @param elements An array of asmppflags elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final CxxPlatform.Builder addAsmppflags(Arg... elements) {
+      this.asmppflags.add(elements);
+      return (CxxPlatform.Builder) this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link CxxPlatform#getAsmppflags() asmppflags} list.
+     * @param elements An iterable of asmppflags elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final CxxPlatform.Builder setAsmppflags(Iterable<? extends Arg> elements) {
+      this.asmppflags = ImmutableList.builder();
+      return addAllAsmppflags(elements);
+    }
+
+    /**
+     * Adds elements to {@link CxxPlatform#getAsmppflags() asmppflags} list.
+     * @param elements An iterable of asmppflags elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final CxxPlatform.Builder addAllAsmppflags(Iterable<? extends Arg> elements) {
+      this.asmppflags.addAll(elements);
+      return (CxxPlatform.Builder) this;
+    }
+
+    /**
+     * Initializes the optional value {@link CxxPlatform#getAsm() asm} to asm.
+     * @param asm The value for asm
+     * @return {@code this} builder for chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final CxxPlatform.Builder setAsm(CompilerProvider asm) {
+      this.asm = Objects.requireNonNull(asm, "asm");
+      return (CxxPlatform.Builder) this;
+    }
+
+    /**
+     * Initializes the optional value {@link CxxPlatform#getAsm() asm} to asm.
+     * @param asm The value for asm
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final CxxPlatform.Builder setAsm(Optional<? extends CompilerProvider> asm) {
+      this.asm = asm.orElse(null);
+      return (CxxPlatform.Builder) this;
+    }
+
+    /**
+     * Adds one element to {@link CxxPlatform#getAsmflags() asmflags} list.
+     * @param element A asmflags element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final CxxPlatform.Builder addAsmflags(Arg element) {
+      this.asmflags.add(element);
+      return (CxxPlatform.Builder) this;
+    }
+
+    /**
+     * Adds elements to {@link CxxPlatform#getAsmflags() asmflags} list.
+     * @param elements An array of asmflags elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final CxxPlatform.Builder addAsmflags(Arg... elements) {
+      this.asmflags.add(elements);
+      return (CxxPlatform.Builder) this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link CxxPlatform#getAsmflags() asmflags} list.
+     * @param elements An iterable of asmflags elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final CxxPlatform.Builder setAsmflags(Iterable<? extends Arg> elements) {
+      this.asmflags = ImmutableList.builder();
+      return addAllAsmflags(elements);
+    }
+
+    /**
+     * Adds elements to {@link CxxPlatform#getAsmflags() asmflags} list.
+     * @param elements An iterable of asmflags elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final CxxPlatform.Builder addAllAsmflags(Iterable<? extends Arg> elements) {
+      this.asmflags.addAll(elements);
+      return (CxxPlatform.Builder) this;
+    }
+
+    /**
+     * Initializes the value for the {@link CxxPlatform#getLd() ld} attribute.
+     * @param ld The value for ld 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final CxxPlatform.Builder setLd(LinkerProvider ld) {
+      this.ld = Objects.requireNonNull(ld, "ld");
+      initBits &= ~INIT_BIT_LD;
+      return (CxxPlatform.Builder) this;
+    }
+
+    /**
+     * Adds one element to {@link CxxPlatform#getLdflags() ldflags} list.
+     * @param element A ldflags element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final CxxPlatform.Builder addLdflags(Arg element) {
+      this.ldflags.add(element);
+      return (CxxPlatform.Builder) this;
+    }
+
+    /**
+     * Adds elements to {@link CxxPlatform#getLdflags() ldflags} list.
+     * @param elements An array of ldflags elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final CxxPlatform.Builder addLdflags(Arg... elements) {
+      this.ldflags.add(elements);
+      return (CxxPlatform.Builder) this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link CxxPlatform#getLdflags() ldflags} list.
+     * @param elements An iterable of ldflags elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final CxxPlatform.Builder setLdflags(Iterable<? extends Arg> elements) {
+      this.ldflags = ImmutableList.builder();
+      return addAllLdflags(elements);
+    }
+
+    /**
+     * Adds elements to {@link CxxPlatform#getLdflags() ldflags} list.
+     * @param elements An iterable of ldflags elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final CxxPlatform.Builder addAllLdflags(Iterable<? extends Arg> elements) {
+      this.ldflags.addAll(elements);
+      return (CxxPlatform.Builder) this;
+    }
+
+    /**
+     * Put all mappings from the specified key to values for {@link CxxPlatform#getRuntimeLdflags() runtimeLdflags} true. Nulls are not permitted
+     * @param key The key for runtimeLdflags
+     * @param values The values for runtimeLdflags
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final CxxPlatform.Builder putRuntimeLdflags(Linker.LinkableDepType key, Arg... values) {
+      this.runtimeLdflags.putAll(key, Arrays.asList(values));
+      return (CxxPlatform.Builder) this;
+    }
+
+    /**
+     * Put all mappings from the specified key to values for {@link CxxPlatform#getRuntimeLdflags() runtimeLdflags} true. Nulls are not permitted
+     * @param key The key for runtimeLdflags
+     * @param values The values for runtimeLdflags
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final CxxPlatform.Builder putAllRuntimeLdflags(Linker.LinkableDepType key, Iterable<Arg> values) {
+      this.runtimeLdflags.putAll(key, values);
+      return (CxxPlatform.Builder) this;
+    }
+
+    /**
+     * Put one entry to the {@link CxxPlatform#getRuntimeLdflags() runtimeLdflags} map.
+     * @param key The key in the runtimeLdflags map
+     * @param value The associated value in the runtimeLdflags map
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final CxxPlatform.Builder putRuntimeLdflags(Linker.LinkableDepType key, Arg value) {
+      this.runtimeLdflags.put(key, value);
+      return (CxxPlatform.Builder) this;
+    }
+
+    /**
+     * Put one entry to the {@link CxxPlatform#getRuntimeLdflags() runtimeLdflags} map. Nulls are not permitted
+     * @param entry The key and value entry
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final CxxPlatform.Builder putRuntimeLdflags(Map.Entry<? extends Linker.LinkableDepType, ? extends Arg> entry) {
+      this.runtimeLdflags.put(entry);
+      return (CxxPlatform.Builder) this;
+    }
+
+    /**
+     * Sets or replaces all mappings from the specified map as entries for the {@link CxxPlatform#getRuntimeLdflags() runtimeLdflags} map. Nulls are not permitted
+     * @param entries The entries that will be added to the runtimeLdflags map
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final CxxPlatform.Builder setRuntimeLdflags(Multimap<? extends Linker.LinkableDepType, ? extends Arg> entries) {
+      this.runtimeLdflags = ImmutableMultimap.builder();
+      return putAllRuntimeLdflags(entries);
+    }
+
+    /**
+     * Put all mappings from the specified map as entries to {@link CxxPlatform#getRuntimeLdflags() runtimeLdflags} map. Nulls are not permitted
+     * @param entries The entries that will be added to the runtimeLdflags map
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final CxxPlatform.Builder putAllRuntimeLdflags(Multimap<? extends Linker.LinkableDepType, ? extends Arg> entries) {
+      this.runtimeLdflags.putAll(entries);
+      return (CxxPlatform.Builder) this;
+    }
+
+    /**
+     * Initializes the value for the {@link CxxPlatform#getStrip() strip} attribute.
+     * @param strip The value for strip 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final CxxPlatform.Builder setStrip(Tool strip) {
+      this.strip = Objects.requireNonNull(strip, "strip");
+      initBits &= ~INIT_BIT_STRIP;
+      return (CxxPlatform.Builder) this;
+    }
+
+    /**
+     * Adds one element to {@link CxxPlatform#getStripFlags() stripFlags} list.
+     * @param element A stripFlags element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final CxxPlatform.Builder addStripFlags(Arg element) {
+      this.stripFlags.add(element);
+      return (CxxPlatform.Builder) this;
+    }
+
+    /**
+     * Adds elements to {@link CxxPlatform#getStripFlags() stripFlags} list.
+     * @param elements An array of stripFlags elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final CxxPlatform.Builder addStripFlags(Arg... elements) {
+      this.stripFlags.add(elements);
+      return (CxxPlatform.Builder) this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link CxxPlatform#getStripFlags() stripFlags} list.
+     * @param elements An iterable of stripFlags elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final CxxPlatform.Builder setStripFlags(Iterable<? extends Arg> elements) {
+      this.stripFlags = ImmutableList.builder();
+      return addAllStripFlags(elements);
+    }
+
+    /**
+     * Adds elements to {@link CxxPlatform#getStripFlags() stripFlags} list.
+     * @param elements An iterable of stripFlags elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final CxxPlatform.Builder addAllStripFlags(Iterable<? extends Arg> elements) {
+      this.stripFlags.addAll(elements);
+      return (CxxPlatform.Builder) this;
+    }
+
+    /**
+     * Initializes the value for the {@link CxxPlatform#getAr() ar} attribute.
+     * @param ar The value for ar 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final CxxPlatform.Builder setAr(ArchiverProvider ar) {
+      this.ar = Objects.requireNonNull(ar, "ar");
+      initBits &= ~INIT_BIT_AR;
+      return (CxxPlatform.Builder) this;
+    }
+
+    /**
+     * Initializes the value for the {@link CxxPlatform#getArchiveContents() archiveContents} attribute.
+     * @param archiveContents The value for archiveContents 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final CxxPlatform.Builder setArchiveContents(ArchiveContents archiveContents) {
+      this.archiveContents = Objects.requireNonNull(archiveContents, "archiveContents");
+      initBits &= ~INIT_BIT_ARCHIVE_CONTENTS;
+      return (CxxPlatform.Builder) this;
+    }
+
+    /**
+     * Adds one element to {@link CxxPlatform#getArflags() arflags} list.
+     * @param element A arflags element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final CxxPlatform.Builder addArflags(Arg element) {
+      this.arflags.add(element);
+      return (CxxPlatform.Builder) this;
+    }
+
+    /**
+     * Adds elements to {@link CxxPlatform#getArflags() arflags} list.
+     * @param elements An array of arflags elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final CxxPlatform.Builder addArflags(Arg... elements) {
+      this.arflags.add(elements);
+      return (CxxPlatform.Builder) this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link CxxPlatform#getArflags() arflags} list.
+     * @param elements An iterable of arflags elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final CxxPlatform.Builder setArflags(Iterable<? extends Arg> elements) {
+      this.arflags = ImmutableList.builder();
+      return addAllArflags(elements);
+    }
+
+    /**
+     * Adds elements to {@link CxxPlatform#getArflags() arflags} list.
+     * @param elements An iterable of arflags elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final CxxPlatform.Builder addAllArflags(Iterable<? extends Arg> elements) {
+      this.arflags.addAll(elements);
+      return (CxxPlatform.Builder) this;
+    }
+
+    /**
+     * Initializes the optional value {@link CxxPlatform#getRanlib() ranlib} to ranlib.
+     * @param ranlib The value for ranlib
+     * @return {@code this} builder for chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final CxxPlatform.Builder setRanlib(ToolProvider ranlib) {
+      this.ranlib = Objects.requireNonNull(ranlib, "ranlib");
+      return (CxxPlatform.Builder) this;
+    }
+
+    /**
+     * Initializes the optional value {@link CxxPlatform#getRanlib() ranlib} to ranlib.
+     * @param ranlib The value for ranlib
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final CxxPlatform.Builder setRanlib(Optional<? extends ToolProvider> ranlib) {
+      this.ranlib = ranlib.orElse(null);
+      return (CxxPlatform.Builder) this;
+    }
+
+    /**
+     * Adds one element to {@link CxxPlatform#getRanlibflags() ranlibflags} list.
+     * @param element A ranlibflags element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final CxxPlatform.Builder addRanlibflags(Arg element) {
+      this.ranlibflags.add(element);
+      return (CxxPlatform.Builder) this;
+    }
+
+    /**
+     * Adds elements to {@link CxxPlatform#getRanlibflags() ranlibflags} list.
+     * @param elements An array of ranlibflags elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final CxxPlatform.Builder addRanlibflags(Arg... elements) {
+      this.ranlibflags.add(elements);
+      return (CxxPlatform.Builder) this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link CxxPlatform#getRanlibflags() ranlibflags} list.
+     * @param elements An iterable of ranlibflags elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final CxxPlatform.Builder setRanlibflags(Iterable<? extends Arg> elements) {
+      this.ranlibflags = ImmutableList.builder();
+      return addAllRanlibflags(elements);
+    }
+
+    /**
+     * Adds elements to {@link CxxPlatform#getRanlibflags() ranlibflags} list.
+     * @param elements An iterable of ranlibflags elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final CxxPlatform.Builder addAllRanlibflags(Iterable<? extends Arg> elements) {
+      this.ranlibflags.addAll(elements);
+      return (CxxPlatform.Builder) this;
+    }
+
+    /**
+     * Initializes the value for the {@link CxxPlatform#getSymbolNameTool() symbolNameTool} attribute.
+     * @param symbolNameTool The value for symbolNameTool 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final CxxPlatform.Builder setSymbolNameTool(SymbolNameTool symbolNameTool) {
+      this.symbolNameTool = Objects.requireNonNull(symbolNameTool, "symbolNameTool");
+      initBits &= ~INIT_BIT_SYMBOL_NAME_TOOL;
+      return (CxxPlatform.Builder) this;
+    }
+
+    /**
+     * Initializes the value for the {@link CxxPlatform#getSharedLibraryExtension() sharedLibraryExtension} attribute.
+     * @param sharedLibraryExtension The value for sharedLibraryExtension 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final CxxPlatform.Builder setSharedLibraryExtension(String sharedLibraryExtension) {
+      this.sharedLibraryExtension = Objects.requireNonNull(sharedLibraryExtension, "sharedLibraryExtension");
+      initBits &= ~INIT_BIT_SHARED_LIBRARY_EXTENSION;
+      return (CxxPlatform.Builder) this;
+    }
+
+    /**
+     * Initializes the value for the {@link CxxPlatform#getSharedLibraryVersionedExtensionFormat() sharedLibraryVersionedExtensionFormat} attribute.
+     * @param sharedLibraryVersionedExtensionFormat The value for sharedLibraryVersionedExtensionFormat 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final CxxPlatform.Builder setSharedLibraryVersionedExtensionFormat(String sharedLibraryVersionedExtensionFormat) {
+      this.sharedLibraryVersionedExtensionFormat = Objects.requireNonNull(sharedLibraryVersionedExtensionFormat, "sharedLibraryVersionedExtensionFormat");
+      initBits &= ~INIT_BIT_SHARED_LIBRARY_VERSIONED_EXTENSION_FORMAT;
+      return (CxxPlatform.Builder) this;
+    }
+
+    /**
+     * Initializes the value for the {@link CxxPlatform#getStaticLibraryExtension() staticLibraryExtension} attribute.
+     * @param staticLibraryExtension The value for staticLibraryExtension 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final CxxPlatform.Builder setStaticLibraryExtension(String staticLibraryExtension) {
+      this.staticLibraryExtension = Objects.requireNonNull(staticLibraryExtension, "staticLibraryExtension");
+      initBits &= ~INIT_BIT_STATIC_LIBRARY_EXTENSION;
+      return (CxxPlatform.Builder) this;
+    }
+
+    /**
+     * Initializes the value for the {@link CxxPlatform#getObjectFileExtension() objectFileExtension} attribute.
+     * @param objectFileExtension The value for objectFileExtension 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final CxxPlatform.Builder setObjectFileExtension(String objectFileExtension) {
+      this.objectFileExtension = Objects.requireNonNull(objectFileExtension, "objectFileExtension");
+      initBits &= ~INIT_BIT_OBJECT_FILE_EXTENSION;
+      return (CxxPlatform.Builder) this;
+    }
+
+    /**
+     * Initializes the value for the {@link CxxPlatform#getCompilerDebugPathSanitizer() compilerDebugPathSanitizer} attribute.
+     * @param compilerDebugPathSanitizer The value for compilerDebugPathSanitizer 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final CxxPlatform.Builder setCompilerDebugPathSanitizer(DebugPathSanitizer compilerDebugPathSanitizer) {
+      this.compilerDebugPathSanitizer = Objects.requireNonNull(compilerDebugPathSanitizer, "compilerDebugPathSanitizer");
+      initBits &= ~INIT_BIT_COMPILER_DEBUG_PATH_SANITIZER;
+      return (CxxPlatform.Builder) this;
+    }
+
+    /**
+     * Initializes the value for the {@link CxxPlatform#getHeaderVerification() headerVerification} attribute.
+     * @param headerVerification The value for headerVerification 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final CxxPlatform.Builder setHeaderVerification(HeaderVerification headerVerification) {
+      this.headerVerification = Objects.requireNonNull(headerVerification, "headerVerification");
+      initBits &= ~INIT_BIT_HEADER_VERIFICATION;
+      return (CxxPlatform.Builder) this;
+    }
+
+    /**
+     * Initializes the optional value {@link CxxPlatform#getUseArgFile() useArgFile} to useArgFile.
+     * @param useArgFile The value for useArgFile
+     * @return {@code this} builder for chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final CxxPlatform.Builder setUseArgFile(boolean useArgFile) {
+      this.useArgFile = useArgFile;
+      return (CxxPlatform.Builder) this;
+    }
+
+    /**
+     * Initializes the optional value {@link CxxPlatform#getUseArgFile() useArgFile} to useArgFile.
+     * @param useArgFile The value for useArgFile
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final CxxPlatform.Builder setUseArgFile(Optional<Boolean> useArgFile) {
+      this.useArgFile = useArgFile.orElse(null);
+      return (CxxPlatform.Builder) this;
+    }
+
+    /**
+     * Put one entry to the {@link CxxPlatform#getFlagMacros() flagMacros} map.
+     * @param key The key in the flagMacros map
+     * @param value The associated value in the flagMacros map
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final CxxPlatform.Builder putFlagMacros(String key, String value) {
+      this.flagMacros.put(key, value);
+      return (CxxPlatform.Builder) this;
+    }
+
+    /**
+     * Put one entry to the {@link CxxPlatform#getFlagMacros() flagMacros} map. Nulls are not permitted
+     * @param entry The key and value entry
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final CxxPlatform.Builder putFlagMacros(Map.Entry<String, ? extends String> entry) {
+      this.flagMacros.put(entry);
+      return (CxxPlatform.Builder) this;
+    }
+
+    /**
+     * Sets or replaces all mappings from the specified map as entries for the {@link CxxPlatform#getFlagMacros() flagMacros} map. Nulls are not permitted
+     * @param entries The entries that will be added to the flagMacros map
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final CxxPlatform.Builder setFlagMacros(Map<String, ? extends String> entries) {
+      this.flagMacros = ImmutableMap.builder();
+      return putAllFlagMacros(entries);
+    }
+
+    /**
+     * Put all mappings from the specified map as entries to {@link CxxPlatform#getFlagMacros() flagMacros} map. Nulls are not permitted
+     * @param entries The entries that will be added to the flagMacros map
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final CxxPlatform.Builder putAllFlagMacros(Map<String, ? extends String> entries) {
+      this.flagMacros.putAll(entries);
+      return (CxxPlatform.Builder) this;
+    }
+
+    /**
+     * Initializes the optional value {@link CxxPlatform#getSharedLibraryInterfaceParams() sharedLibraryInterfaceParams} to sharedLibraryInterfaceParams.
+     * @param sharedLibraryInterfaceParams The value for sharedLibraryInterfaceParams
+     * @return {@code this} builder for chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final CxxPlatform.Builder setSharedLibraryInterfaceParams(SharedLibraryInterfaceParams sharedLibraryInterfaceParams) {
+      this.sharedLibraryInterfaceParams = Objects.requireNonNull(sharedLibraryInterfaceParams, "sharedLibraryInterfaceParams");
+      return (CxxPlatform.Builder) this;
+    }
+
+    /**
+     * Initializes the optional value {@link CxxPlatform#getSharedLibraryInterfaceParams() sharedLibraryInterfaceParams} to sharedLibraryInterfaceParams.
+     * @param sharedLibraryInterfaceParams The value for sharedLibraryInterfaceParams
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final CxxPlatform.Builder setSharedLibraryInterfaceParams(Optional<? extends SharedLibraryInterfaceParams> sharedLibraryInterfaceParams) {
+      this.sharedLibraryInterfaceParams = sharedLibraryInterfaceParams.orElse(null);
+      return (CxxPlatform.Builder) this;
+    }
+
+    /**
+     * Initializes the optional value {@link CxxPlatform#getBinaryExtension() binaryExtension} to binaryExtension.
+     * @param binaryExtension The value for binaryExtension
+     * @return {@code this} builder for chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final CxxPlatform.Builder setBinaryExtension(String binaryExtension) {
+      this.binaryExtension = Objects.requireNonNull(binaryExtension, "binaryExtension");
+      return (CxxPlatform.Builder) this;
+    }
+
+    /**
+     * Initializes the optional value {@link CxxPlatform#getBinaryExtension() binaryExtension} to binaryExtension.
+     * @param binaryExtension The value for binaryExtension
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final CxxPlatform.Builder setBinaryExtension(Optional<String> binaryExtension) {
+      this.binaryExtension = binaryExtension.orElse(null);
+      return (CxxPlatform.Builder) this;
+    }
+
+    /**
+     * Initializes the value for the {@link CxxPlatform#getPublicHeadersSymlinksEnabled() publicHeadersSymlinksEnabled} attribute.
+     * @param publicHeadersSymlinksEnabled The value for publicHeadersSymlinksEnabled 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final CxxPlatform.Builder setPublicHeadersSymlinksEnabled(boolean publicHeadersSymlinksEnabled) {
+      this.publicHeadersSymlinksEnabled = publicHeadersSymlinksEnabled;
+      initBits &= ~INIT_BIT_PUBLIC_HEADERS_SYMLINKS_ENABLED;
+      return (CxxPlatform.Builder) this;
+    }
+
+    /**
+     * Initializes the value for the {@link CxxPlatform#getPrivateHeadersSymlinksEnabled() privateHeadersSymlinksEnabled} attribute.
+     * @param privateHeadersSymlinksEnabled The value for privateHeadersSymlinksEnabled 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final CxxPlatform.Builder setPrivateHeadersSymlinksEnabled(boolean privateHeadersSymlinksEnabled) {
+      this.privateHeadersSymlinksEnabled = privateHeadersSymlinksEnabled;
+      initBits &= ~INIT_BIT_PRIVATE_HEADERS_SYMLINKS_ENABLED;
+      return (CxxPlatform.Builder) this;
+    }
+
+    /**
+     * Initializes the value for the {@link CxxPlatform#getPicTypeForSharedLinking() picTypeForSharedLinking} attribute.
+     * <p><em>If not set, this attribute will have a default value as returned by the initializer of {@link CxxPlatform#getPicTypeForSharedLinking() picTypeForSharedLinking}.</em>
+     * @param picTypeForSharedLinking The value for picTypeForSharedLinking 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final CxxPlatform.Builder setPicTypeForSharedLinking(PicType picTypeForSharedLinking) {
+      this.picTypeForSharedLinking = Objects.requireNonNull(picTypeForSharedLinking, "picTypeForSharedLinking");
+      return (CxxPlatform.Builder) this;
+    }
+
+    /**
+     * Initializes the value for the {@link CxxPlatform#getConflictingHeaderBasenameWhitelist() conflictingHeaderBasenameWhitelist} attribute.
+     * <p><em>If not set, this attribute will have a default value as returned by the initializer of {@link CxxPlatform#getConflictingHeaderBasenameWhitelist() conflictingHeaderBasenameWhitelist}.</em>
+     * @param conflictingHeaderBasenameWhitelist The value for conflictingHeaderBasenameWhitelist 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final CxxPlatform.Builder setConflictingHeaderBasenameWhitelist(ImmutableSortedSet<String> conflictingHeaderBasenameWhitelist) {
+      this.conflictingHeaderBasenameWhitelist = Objects.requireNonNull(conflictingHeaderBasenameWhitelist, "conflictingHeaderBasenameWhitelist");
+      return (CxxPlatform.Builder) this;
+    }
+
+    /**
+     * Initializes the optional value {@link CxxPlatform#getHeaderMode() headerMode} to headerMode.
+     * @param headerMode The value for headerMode
+     * @return {@code this} builder for chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final CxxPlatform.Builder setHeaderMode(HeaderMode headerMode) {
+      this.headerMode = Objects.requireNonNull(headerMode, "headerMode");
+      return (CxxPlatform.Builder) this;
+    }
+
+    /**
+     * Initializes the optional value {@link CxxPlatform#getHeaderMode() headerMode} to headerMode.
+     * @param headerMode The value for headerMode
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final CxxPlatform.Builder setHeaderMode(Optional<? extends HeaderMode> headerMode) {
+      this.headerMode = headerMode.orElse(null);
+      return (CxxPlatform.Builder) this;
+    }
+
+    /**
+     * Initializes the value for the {@link CxxPlatform#getFilepathLengthLimited() filepathLengthLimited} attribute.
+     * <p><em>If not set, this attribute will have a default value as returned by the initializer of {@link CxxPlatform#getFilepathLengthLimited() filepathLengthLimited}.</em>
+     * @param filepathLengthLimited The value for filepathLengthLimited 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final CxxPlatform.Builder setFilepathLengthLimited(boolean filepathLengthLimited) {
+      this.filepathLengthLimited = filepathLengthLimited;
+      optBits |= OPT_BIT_FILEPATH_LENGTH_LIMITED;
+      return (CxxPlatform.Builder) this;
+    }
+
+    /**
+     * Builds a new {@link CxxPlatform CxxPlatform}.
+     * @return An immutable instance of CxxPlatform
+     * @throws java.lang.IllegalStateException if any required attributes are missing
+     */
+    public CxxPlatform build() {
+      if (initBits != 0) {
+        throw new IllegalStateException(formatRequiredAttributesMessage());
+      }
+      return new ImmutableCxxPlatform(this);
+    }
+
+    private boolean filepathLengthLimitedIsSet() {
+      return (optBits & OPT_BIT_FILEPATH_LENGTH_LIMITED) != 0;
+    }
+
+    private String formatRequiredAttributesMessage() {
+      List<String> attributes = new ArrayList<>();
+      if ((initBits & INIT_BIT_FLAVOR) != 0) attributes.add("flavor");
+      if ((initBits & INIT_BIT_AS) != 0) attributes.add("as");
+      if ((initBits & INIT_BIT_ASPP) != 0) attributes.add("aspp");
+      if ((initBits & INIT_BIT_CC) != 0) attributes.add("cc");
+      if ((initBits & INIT_BIT_CXX) != 0) attributes.add("cxx");
+      if ((initBits & INIT_BIT_CPP) != 0) attributes.add("cpp");
+      if ((initBits & INIT_BIT_CXXPP) != 0) attributes.add("cxxpp");
+      if ((initBits & INIT_BIT_LD) != 0) attributes.add("ld");
+      if ((initBits & INIT_BIT_STRIP) != 0) attributes.add("strip");
+      if ((initBits & INIT_BIT_AR) != 0) attributes.add("ar");
+      if ((initBits & INIT_BIT_ARCHIVE_CONTENTS) != 0) attributes.add("archiveContents");
+      if ((initBits & INIT_BIT_SYMBOL_NAME_TOOL) != 0) attributes.add("symbolNameTool");
+      if ((initBits & INIT_BIT_SHARED_LIBRARY_EXTENSION) != 0) attributes.add("sharedLibraryExtension");
+      if ((initBits & INIT_BIT_SHARED_LIBRARY_VERSIONED_EXTENSION_FORMAT) != 0) attributes.add("sharedLibraryVersionedExtensionFormat");
+      if ((initBits & INIT_BIT_STATIC_LIBRARY_EXTENSION) != 0) attributes.add("staticLibraryExtension");
+      if ((initBits & INIT_BIT_OBJECT_FILE_EXTENSION) != 0) attributes.add("objectFileExtension");
+      if ((initBits & INIT_BIT_COMPILER_DEBUG_PATH_SANITIZER) != 0) attributes.add("compilerDebugPathSanitizer");
+      if ((initBits & INIT_BIT_HEADER_VERIFICATION) != 0) attributes.add("headerVerification");
+      if ((initBits & INIT_BIT_PUBLIC_HEADERS_SYMLINKS_ENABLED) != 0) attributes.add("publicHeadersSymlinksEnabled");
+      if ((initBits & INIT_BIT_PRIVATE_HEADERS_SYMLINKS_ENABLED) != 0) attributes.add("privateHeadersSymlinksEnabled");
+      return "Cannot build CxxPlatform, some of required attributes are not set " + attributes;
+    }
+  }
+}
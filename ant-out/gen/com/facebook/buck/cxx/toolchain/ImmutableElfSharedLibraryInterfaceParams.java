@@ -0,0 +1,131 @@
+package com.facebook.buck.cxx.toolchain;
+
+import com.facebook.buck.core.toolchain.toolprovider.ToolProvider;
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.ImmutableList;
+import com.google.common.primitives.Booleans;
+import com.google.errorprone.annotations.Var;
+import java.util.Objects;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import org.immutables.value.Generated;
+
+/**
+ * Immutable implementation of {@link ElfSharedLibraryInterfaceParams}.
+ * <p>
+ * Use the static factory method to create immutable instances:
+ * {@code ImmutableElfSharedLibraryInterfaceParams.of()}.
+ */
+@Generated(from = "ElfSharedLibraryInterfaceParams", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+final class ImmutableElfSharedLibraryInterfaceParams
+    extends ElfSharedLibraryInterfaceParams {
+  private final ToolProvider objcopy;
+  private final ImmutableList<String> ldflags;
+  private final boolean removeUndefinedSymbols;
+
+  private ImmutableElfSharedLibraryInterfaceParams(
+      ToolProvider objcopy,
+      Iterable<String> ldflags,
+      boolean removeUndefinedSymbols) {
+    this.objcopy = Objects.requireNonNull(objcopy, "objcopy");
+    this.ldflags = ImmutableList.copyOf(ldflags);
+    this.removeUndefinedSymbols = removeUndefinedSymbols;
+  }
+
+  /**
+   * @return The value of the {@code objcopy} attribute
+   */
+  @Override
+  public ToolProvider getObjcopy() {
+    return objcopy;
+  }
+
+  /**
+   * @return The value of the {@code ldflags} attribute
+   */
+  @Override
+  public ImmutableList<String> getLdflags() {
+    return ldflags;
+  }
+
+  /**
+   * @return The value of the {@code removeUndefinedSymbols} attribute
+   */
+  @Override
+  public boolean isRemoveUndefinedSymbols() {
+    return removeUndefinedSymbols;
+  }
+
+  /**
+   * This instance is equal to all instances of {@code ImmutableElfSharedLibraryInterfaceParams} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof ImmutableElfSharedLibraryInterfaceParams
+        && equalTo((ImmutableElfSharedLibraryInterfaceParams) another);
+  }
+
+  private boolean equalTo(ImmutableElfSharedLibraryInterfaceParams another) {
+    return objcopy.equals(another.objcopy)
+        && ldflags.equals(another.ldflags)
+        && removeUndefinedSymbols == another.removeUndefinedSymbols;
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code objcopy}, {@code ldflags}, {@code removeUndefinedSymbols}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    @Var int h = 5381;
+    h += (h << 5) + objcopy.hashCode();
+    h += (h << 5) + ldflags.hashCode();
+    h += (h << 5) + Booleans.hashCode(removeUndefinedSymbols);
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code ElfSharedLibraryInterfaceParams} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("ElfSharedLibraryInterfaceParams")
+        .omitNullValues()
+        .add("objcopy", objcopy)
+        .add("ldflags", ldflags)
+        .add("removeUndefinedSymbols", removeUndefinedSymbols)
+        .toString();
+  }
+
+  /**
+   * Construct a new immutable {@code ElfSharedLibraryInterfaceParams} instance.
+   * @param objcopy The value for the {@code objcopy} attribute
+   * @param ldflags The value for the {@code ldflags} attribute
+   * @param removeUndefinedSymbols The value for the {@code removeUndefinedSymbols} attribute
+   * @return An immutable ElfSharedLibraryInterfaceParams instance
+   */
+  public static ImmutableElfSharedLibraryInterfaceParams of(ToolProvider objcopy, ImmutableList<String> ldflags, boolean removeUndefinedSymbols) {
+    return of(objcopy, (Iterable<String>) ldflags, removeUndefinedSymbols);
+  }
+
+  /**
+   * Construct a new immutable {@code ElfSharedLibraryInterfaceParams} instance.
+   * @param objcopy The value for the {@code objcopy} attribute
+   * @param ldflags The value for the {@code ldflags} attribute
+   * @param removeUndefinedSymbols The value for the {@code removeUndefinedSymbols} attribute
+   * @return An immutable ElfSharedLibraryInterfaceParams instance
+   */
+  public static ImmutableElfSharedLibraryInterfaceParams of(ToolProvider objcopy, Iterable<String> ldflags, boolean removeUndefinedSymbols) {
+    return new ImmutableElfSharedLibraryInterfaceParams(objcopy, ldflags, removeUndefinedSymbols);
+  }
+}
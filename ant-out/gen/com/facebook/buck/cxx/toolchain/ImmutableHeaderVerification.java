@@ -0,0 +1,147 @@
+package com.facebook.buck.cxx.toolchain;
+
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableSortedSet;
+import com.google.common.collect.Ordering;
+import com.google.errorprone.annotations.Var;
+import java.util.Objects;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import org.immutables.value.Generated;
+
+/**
+ * Immutable implementation of {@link HeaderVerification}.
+ * <p>
+ * Use the static factory method to create immutable instances:
+ * {@code ImmutableHeaderVerification.of()}.
+ */
+@Generated(from = "HeaderVerification", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+final class ImmutableHeaderVerification extends HeaderVerification {
+  private final HeaderVerification.Mode mode;
+  private final ImmutableSortedSet<String> whitelist;
+  private final ImmutableSortedSet<String> platformWhitelist;
+  private transient final ImmutableList<FasterPattern> whitelistPatterns;
+
+  private ImmutableHeaderVerification(
+      HeaderVerification.Mode mode,
+      Iterable<String> whitelist,
+      Iterable<String> platformWhitelist) {
+    this.mode = Objects.requireNonNull(mode, "mode");
+    this.whitelist = ImmutableSortedSet.copyOf(
+        Ordering.<String>natural(),
+        whitelist);
+    this.platformWhitelist = ImmutableSortedSet.copyOf(
+        Ordering.<String>natural(),
+        platformWhitelist);
+    this.whitelistPatterns = Objects.requireNonNull(super.getWhitelistPatterns(), "whitelistPatterns");
+  }
+
+  /**
+   * @return The value of the {@code mode} attribute
+   */
+  @Override
+  public HeaderVerification.Mode getMode() {
+    return mode;
+  }
+
+  /**
+   * @return The value of the {@code whitelist} attribute
+   */
+  @Override
+  public ImmutableSortedSet<String> getWhitelist() {
+    return whitelist;
+  }
+
+  /**
+   * @return The value of the {@code platformWhitelist} attribute
+   */
+  @Override
+  public ImmutableSortedSet<String> getPlatformWhitelist() {
+    return platformWhitelist;
+  }
+
+  /**
+   * @return The computed-at-construction value of the {@code whitelistPatterns} attribute
+   */
+  @Override
+  protected ImmutableList<FasterPattern> getWhitelistPatterns() {
+    return whitelistPatterns;
+  }
+
+  /**
+   * This instance is equal to all instances of {@code ImmutableHeaderVerification} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof ImmutableHeaderVerification
+        && equalTo((ImmutableHeaderVerification) another);
+  }
+
+  private boolean equalTo(ImmutableHeaderVerification another) {
+    return mode.equals(another.mode)
+        && whitelist.equals(another.whitelist)
+        && platformWhitelist.equals(another.platformWhitelist)
+        && whitelistPatterns.equals(another.whitelistPatterns);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code mode}, {@code whitelist}, {@code platformWhitelist}, {@code whitelistPatterns}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    @Var int h = 5381;
+    h += (h << 5) + mode.hashCode();
+    h += (h << 5) + whitelist.hashCode();
+    h += (h << 5) + platformWhitelist.hashCode();
+    h += (h << 5) + whitelistPatterns.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code HeaderVerification} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("HeaderVerification")
+        .omitNullValues()
+        .add("mode", mode)
+        .add("whitelist", whitelist)
+        .add("platformWhitelist", platformWhitelist)
+        .add("whitelistPatterns", whitelistPatterns)
+        .toString();
+  }
+
+  /**
+   * Construct a new immutable {@code HeaderVerification} instance.
+   * @param mode The value for the {@code mode} attribute
+   * @param whitelist The value for the {@code whitelist} attribute
+   * @param platformWhitelist The value for the {@code platformWhitelist} attribute
+   * @return An immutable HeaderVerification instance
+   */
+  public static ImmutableHeaderVerification of(HeaderVerification.Mode mode, ImmutableSortedSet<String> whitelist, ImmutableSortedSet<String> platformWhitelist) {
+    return of(mode, (Iterable<String>) whitelist, (Iterable<String>) platformWhitelist);
+  }
+
+  /**
+   * Construct a new immutable {@code HeaderVerification} instance.
+   * @param mode The value for the {@code mode} attribute
+   * @param whitelist The value for the {@code whitelist} attribute
+   * @param platformWhitelist The value for the {@code platformWhitelist} attribute
+   * @return An immutable HeaderVerification instance
+   */
+  public static ImmutableHeaderVerification of(HeaderVerification.Mode mode, Iterable<String> whitelist, Iterable<String> platformWhitelist) {
+    return new ImmutableHeaderVerification(mode, whitelist, platformWhitelist);
+  }
+}
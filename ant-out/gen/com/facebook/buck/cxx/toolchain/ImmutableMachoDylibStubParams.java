@@ -0,0 +1,86 @@
+package com.facebook.buck.cxx.toolchain;
+
+import com.facebook.buck.core.toolchain.tool.Tool;
+import com.google.common.base.MoreObjects;
+import com.google.errorprone.annotations.Var;
+import java.util.Objects;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import org.immutables.value.Generated;
+
+/**
+ * Immutable implementation of {@link MachoDylibStubParams}.
+ * <p>
+ * Use the static factory method to create immutable instances:
+ * {@code ImmutableMachoDylibStubParams.of()}.
+ */
+@Generated(from = "MachoDylibStubParams", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+final class ImmutableMachoDylibStubParams extends MachoDylibStubParams {
+  private final Tool strip;
+
+  private ImmutableMachoDylibStubParams(Tool strip) {
+    this.strip = Objects.requireNonNull(strip, "strip");
+  }
+
+  /**
+   * @return The value of the {@code strip} attribute
+   */
+  @Override
+  public Tool getStrip() {
+    return strip;
+  }
+
+  /**
+   * This instance is equal to all instances of {@code ImmutableMachoDylibStubParams} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof ImmutableMachoDylibStubParams
+        && equalTo((ImmutableMachoDylibStubParams) another);
+  }
+
+  private boolean equalTo(ImmutableMachoDylibStubParams another) {
+    return strip.equals(another.strip);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code strip}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    @Var int h = 5381;
+    h += (h << 5) + strip.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code MachoDylibStubParams} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("MachoDylibStubParams")
+        .omitNullValues()
+        .add("strip", strip)
+        .toString();
+  }
+
+  /**
+   * Construct a new immutable {@code MachoDylibStubParams} instance.
+   * @param strip The value for the {@code strip} attribute
+   * @return An immutable MachoDylibStubParams instance
+   */
+  public static ImmutableMachoDylibStubParams of(Tool strip) {
+    return new ImmutableMachoDylibStubParams(strip);
+  }
+}
@@ -0,0 +1,100 @@
+package com.facebook.buck.cxx.toolchain.elf;
+
+import com.google.common.base.MoreObjects;
+import com.google.errorprone.annotations.Var;
+import java.util.Objects;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import org.immutables.value.Generated;
+
+/**
+ * Immutable implementation of {@link Elf.ElfSectionLookupResult}.
+ * <p>
+ * Use the static factory method to create immutable instances:
+ * {@code ImmutableElfSectionLookupResult.of()}.
+ */
+@Generated(from = "Elf.ElfSectionLookupResult", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+final class ImmutableElfSectionLookupResult
+    implements Elf.ElfSectionLookupResult {
+  private final int index;
+  private final ElfSection section;
+
+  private ImmutableElfSectionLookupResult(int index, ElfSection section) {
+    this.index = index;
+    this.section = Objects.requireNonNull(section, "section");
+  }
+
+  /**
+   * @return The value of the {@code index} attribute
+   */
+  @Override
+  public int getIndex() {
+    return index;
+  }
+
+  /**
+   * @return The value of the {@code section} attribute
+   */
+  @Override
+  public ElfSection getSection() {
+    return section;
+  }
+
+  /**
+   * This instance is equal to all instances of {@code ImmutableElfSectionLookupResult} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof ImmutableElfSectionLookupResult
+        && equalTo((ImmutableElfSectionLookupResult) another);
+  }
+
+  private boolean equalTo(ImmutableElfSectionLookupResult another) {
+    return index == another.index
+        && section.equals(another.section);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code index}, {@code section}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    @Var int h = 5381;
+    h += (h << 5) + index;
+    h += (h << 5) + section.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code ElfSectionLookupResult} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("ElfSectionLookupResult")
+        .omitNullValues()
+        .add("index", index)
+        .add("section", section)
+        .toString();
+  }
+
+  /**
+   * Construct a new immutable {@code ElfSectionLookupResult} instance.
+   * @param index The value for the {@code index} attribute
+   * @param section The value for the {@code section} attribute
+   * @return An immutable ElfSectionLookupResult instance
+   */
+  public static ImmutableElfSectionLookupResult of(int index, ElfSection section) {
+    return new ImmutableElfSectionLookupResult(index, section);
+  }
+}
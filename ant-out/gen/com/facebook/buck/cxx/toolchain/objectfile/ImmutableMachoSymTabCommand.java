@@ -0,0 +1,161 @@
+package com.facebook.buck.cxx.toolchain.objectfile;
+
+import com.google.common.base.MoreObjects;
+import com.google.errorprone.annotations.Var;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import org.immutables.value.Generated;
+
+/**
+ * Immutable implementation of {@link MachoSymTabCommand}.
+ * <p>
+ * Use the static factory method to create immutable instances:
+ * {@code ImmutableMachoSymTabCommand.of()}.
+ */
+@Generated(from = "MachoSymTabCommand", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+final class ImmutableMachoSymTabCommand
+    extends MachoSymTabCommand {
+  private final int command;
+  private final int commandSize;
+  private final int symbolTableOffset;
+  private final int numberOfSymbolTableEntries;
+  private final int stringTableOffset;
+  private final int stringTableSize;
+
+  private ImmutableMachoSymTabCommand(
+      int command,
+      int commandSize,
+      int symbolTableOffset,
+      int numberOfSymbolTableEntries,
+      int stringTableOffset,
+      int stringTableSize) {
+    this.command = command;
+    this.commandSize = commandSize;
+    this.symbolTableOffset = symbolTableOffset;
+    this.numberOfSymbolTableEntries = numberOfSymbolTableEntries;
+    this.stringTableOffset = stringTableOffset;
+    this.stringTableSize = stringTableSize;
+  }
+
+  /**
+   * @return The value of the {@code command} attribute
+   */
+  @Override
+  public int getCommand() {
+    return command;
+  }
+
+  /**
+   * @return The value of the {@code commandSize} attribute
+   */
+  @Override
+  public int getCommandSize() {
+    return commandSize;
+  }
+
+  /**
+   * @return The value of the {@code symbolTableOffset} attribute
+   */
+  @Override
+  public int getSymbolTableOffset() {
+    return symbolTableOffset;
+  }
+
+  /**
+   * @return The value of the {@code numberOfSymbolTableEntries} attribute
+   */
+  @Override
+  public int getNumberOfSymbolTableEntries() {
+    return numberOfSymbolTableEntries;
+  }
+
+  /**
+   * @return The value of the {@code stringTableOffset} attribute
+   */
+  @Override
+  public int getStringTableOffset() {
+    return stringTableOffset;
+  }
+
+  /**
+   * @return The value of the {@code stringTableSize} attribute
+   */
+  @Override
+  public int getStringTableSize() {
+    return stringTableSize;
+  }
+
+  /**
+   * This instance is equal to all instances of {@code ImmutableMachoSymTabCommand} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof ImmutableMachoSymTabCommand
+        && equalTo((ImmutableMachoSymTabCommand) another);
+  }
+
+  private boolean equalTo(ImmutableMachoSymTabCommand another) {
+    return command == another.command
+        && commandSize == another.commandSize
+        && symbolTableOffset == another.symbolTableOffset
+        && numberOfSymbolTableEntries == another.numberOfSymbolTableEntries
+        && stringTableOffset == another.stringTableOffset
+        && stringTableSize == another.stringTableSize;
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code command}, {@code commandSize}, {@code symbolTableOffset}, {@code numberOfSymbolTableEntries}, {@code stringTableOffset}, {@code stringTableSize}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    @Var int h = 5381;
+    h += (h << 5) + command;
+    h += (h << 5) + commandSize;
+    h += (h << 5) + symbolTableOffset;
+    h += (h << 5) + numberOfSymbolTableEntries;
+    h += (h << 5) + stringTableOffset;
+    h += (h << 5) + stringTableSize;
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code MachoSymTabCommand} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("MachoSymTabCommand")
+        .omitNullValues()
+        .add("command", command)
+        .add("commandSize", commandSize)
+        .add("symbolTableOffset", symbolTableOffset)
+        .add("numberOfSymbolTableEntries", numberOfSymbolTableEntries)
+        .add("stringTableOffset", stringTableOffset)
+        .add("stringTableSize", stringTableSize)
+        .toString();
+  }
+
+  /**
+   * Construct a new immutable {@code MachoSymTabCommand} instance.
+   * @param command The value for the {@code command} attribute
+   * @param commandSize The value for the {@code commandSize} attribute
+   * @param symbolTableOffset The value for the {@code symbolTableOffset} attribute
+   * @param numberOfSymbolTableEntries The value for the {@code numberOfSymbolTableEntries} attribute
+   * @param stringTableOffset The value for the {@code stringTableOffset} attribute
+   * @param stringTableSize The value for the {@code stringTableSize} attribute
+   * @return An immutable MachoSymTabCommand instance
+   */
+  public static ImmutableMachoSymTabCommand of(int command, int commandSize, int symbolTableOffset, int numberOfSymbolTableEntries, int stringTableOffset, int stringTableSize) {
+    return new ImmutableMachoSymTabCommand(command, commandSize, symbolTableOffset, numberOfSymbolTableEntries, stringTableOffset, stringTableSize);
+  }
+}
@@ -0,0 +1,314 @@
+package com.facebook.buck.doctor.config;
+
+import com.facebook.buck.core.model.BuildId;
+import com.google.common.base.MoreObjects;
+import com.google.common.primitives.Longs;
+import com.google.errorprone.annotations.Var;
+import java.nio.file.Path;
+import java.util.Date;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.OptionalInt;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import org.immutables.value.Generated;
+
+/**
+ * Immutable implementation of {@link BuildLogEntry}.
+ * <p>
+ * Use the static factory method to create immutable instances:
+ * {@code ImmutableBuildLogEntry.of()}.
+ */
+@Generated(from = "BuildLogEntry", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+final class ImmutableBuildLogEntry implements BuildLogEntry {
+  private final Path relativePath;
+  private final @Nullable BuildId buildId;
+  private final @Nullable List<String> commandArgs;
+  private final @Nullable List<String> expandedCommandArgs;
+  private final @Nullable Integer exitCode;
+  private final @Nullable Integer buildTimeMs;
+  private final @Nullable Path ruleKeyLoggerLogFile;
+  private final @Nullable Path machineReadableLogFile;
+  private final @Nullable Path ruleKeyDiagKeysFile;
+  private final @Nullable Path ruleKeyDiagGraphFile;
+  private final @Nullable Path traceFile;
+  private final @Nullable Path configJsonFile;
+  private final @Nullable Path buckFixSpecFile;
+  private final long size;
+  private final Date lastModifiedTime;
+
+  @SuppressWarnings("unchecked") // safe covariant cast
+  private ImmutableBuildLogEntry(
+      Path relativePath,
+      Optional<? extends BuildId> buildId,
+      Optional<? extends List<String>> commandArgs,
+      Optional<? extends List<String>> expandedCommandArgs,
+      OptionalInt exitCode,
+      OptionalInt buildTimeMs,
+      Optional<? extends Path> ruleKeyLoggerLogFile,
+      Optional<? extends Path> machineReadableLogFile,
+      Optional<? extends Path> ruleKeyDiagKeysFile,
+      Optional<? extends Path> ruleKeyDiagGraphFile,
+      Optional<? extends Path> traceFile,
+      Optional<? extends Path> configJsonFile,
+      Optional<? extends Path> buckFixSpecFile,
+      long size,
+      Date lastModifiedTime) {
+    this.relativePath = Objects.requireNonNull(relativePath, "relativePath");
+    this.buildId = buildId.orElse(null);
+    this.commandArgs = commandArgs.orElse(null);
+    this.expandedCommandArgs = expandedCommandArgs.orElse(null);
+    this.exitCode = exitCode.isPresent() ? exitCode.getAsInt() : null;
+    this.buildTimeMs = buildTimeMs.isPresent() ? buildTimeMs.getAsInt() : null;
+    this.ruleKeyLoggerLogFile = ruleKeyLoggerLogFile.orElse(null);
+    this.machineReadableLogFile = machineReadableLogFile.orElse(null);
+    this.ruleKeyDiagKeysFile = ruleKeyDiagKeysFile.orElse(null);
+    this.ruleKeyDiagGraphFile = ruleKeyDiagGraphFile.orElse(null);
+    this.traceFile = traceFile.orElse(null);
+    this.configJsonFile = configJsonFile.orElse(null);
+    this.buckFixSpecFile = buckFixSpecFile.orElse(null);
+    this.size = size;
+    this.lastModifiedTime = Objects.requireNonNull(lastModifiedTime, "lastModifiedTime");
+  }
+
+  /**
+   * @return The value of the {@code relativePath} attribute
+   */
+  @Override
+  public Path getRelativePath() {
+    return relativePath;
+  }
+
+  /**
+   * @return The value of the {@code buildId} attribute
+   */
+  @Override
+  public Optional<BuildId> getBuildId() {
+    return Optional.ofNullable(buildId);
+  }
+
+  /**
+   * @return The value of the {@code commandArgs} attribute
+   */
+  @Override
+  public Optional<List<String>> getCommandArgs() {
+    return Optional.ofNullable(commandArgs);
+  }
+
+  /**
+   * @return The value of the {@code expandedCommandArgs} attribute
+   */
+  @Override
+  public Optional<List<String>> getExpandedCommandArgs() {
+    return Optional.ofNullable(expandedCommandArgs);
+  }
+
+  /**
+   * @return The value of the {@code exitCode} attribute
+   */
+  @Override
+  public OptionalInt getExitCode() {
+    return exitCode != null
+        ? OptionalInt.of(exitCode)
+        : OptionalInt.empty();
+  }
+
+  /**
+   * @return The value of the {@code buildTimeMs} attribute
+   */
+  @Override
+  public OptionalInt getBuildTimeMs() {
+    return buildTimeMs != null
+        ? OptionalInt.of(buildTimeMs)
+        : OptionalInt.empty();
+  }
+
+  /**
+   * @return The value of the {@code ruleKeyLoggerLogFile} attribute
+   */
+  @Override
+  public Optional<Path> getRuleKeyLoggerLogFile() {
+    return Optional.ofNullable(ruleKeyLoggerLogFile);
+  }
+
+  /**
+   * @return The value of the {@code machineReadableLogFile} attribute
+   */
+  @Override
+  public Optional<Path> getMachineReadableLogFile() {
+    return Optional.ofNullable(machineReadableLogFile);
+  }
+
+  /**
+   * @return The value of the {@code ruleKeyDiagKeysFile} attribute
+   */
+  @Override
+  public Optional<Path> getRuleKeyDiagKeysFile() {
+    return Optional.ofNullable(ruleKeyDiagKeysFile);
+  }
+
+  /**
+   * @return The value of the {@code ruleKeyDiagGraphFile} attribute
+   */
+  @Override
+  public Optional<Path> getRuleKeyDiagGraphFile() {
+    return Optional.ofNullable(ruleKeyDiagGraphFile);
+  }
+
+  /**
+   * @return The value of the {@code traceFile} attribute
+   */
+  @Override
+  public Optional<Path> getTraceFile() {
+    return Optional.ofNullable(traceFile);
+  }
+
+  /**
+   * @return The value of the {@code configJsonFile} attribute
+   */
+  @Override
+  public Optional<Path> getConfigJsonFile() {
+    return Optional.ofNullable(configJsonFile);
+  }
+
+  /**
+   * @return The value of the {@code buckFixSpecFile} attribute
+   */
+  @Override
+  public Optional<Path> getBuckFixSpecFile() {
+    return Optional.ofNullable(buckFixSpecFile);
+  }
+
+  /**
+   * @return The value of the {@code size} attribute
+   */
+  @Override
+  public long getSize() {
+    return size;
+  }
+
+  /**
+   * @return The value of the {@code lastModifiedTime} attribute
+   */
+  @Override
+  public Date getLastModifiedTime() {
+    return lastModifiedTime;
+  }
+
+  /**
+   * This instance is equal to all instances of {@code ImmutableBuildLogEntry} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof ImmutableBuildLogEntry
+        && equalTo((ImmutableBuildLogEntry) another);
+  }
+
+  private boolean equalTo(ImmutableBuildLogEntry another) {
+    return relativePath.equals(another.relativePath)
+        && Objects.equals(buildId, another.buildId)
+        && Objects.equals(commandArgs, another.commandArgs)
+        && Objects.equals(expandedCommandArgs, another.expandedCommandArgs)
+        && Objects.equals(exitCode, another.exitCode)
+        && Objects.equals(buildTimeMs, another.buildTimeMs)
+        && Objects.equals(ruleKeyLoggerLogFile, another.ruleKeyLoggerLogFile)
+        && Objects.equals(machineReadableLogFile, another.machineReadableLogFile)
+        && Objects.equals(ruleKeyDiagKeysFile, another.ruleKeyDiagKeysFile)
+        && Objects.equals(ruleKeyDiagGraphFile, another.ruleKeyDiagGraphFile)
+        && Objects.equals(traceFile, another.traceFile)
+        && Objects.equals(configJsonFile, another.configJsonFile)
+        && Objects.equals(buckFixSpecFile, another.buckFixSpecFile)
+        && size == another.size
+        && lastModifiedTime.equals(another.lastModifiedTime);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code relativePath}, {@code buildId}, {@code commandArgs}, {@code expandedCommandArgs}, {@code exitCode}, {@code buildTimeMs}, {@code ruleKeyLoggerLogFile}, {@code machineReadableLogFile}, {@code ruleKeyDiagKeysFile}, {@code ruleKeyDiagGraphFile}, {@code traceFile}, {@code configJsonFile}, {@code buckFixSpecFile}, {@code size}, {@code lastModifiedTime}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    @Var int h = 5381;
+    h += (h << 5) + relativePath.hashCode();
+    h += (h << 5) + Objects.hashCode(buildId);
+    h += (h << 5) + Objects.hashCode(commandArgs);
+    h += (h << 5) + Objects.hashCode(expandedCommandArgs);
+    h += (h << 5) + Objects.hashCode(exitCode);
+    h += (h << 5) + Objects.hashCode(buildTimeMs);
+    h += (h << 5) + Objects.hashCode(ruleKeyLoggerLogFile);
+    h += (h << 5) + Objects.hashCode(machineReadableLogFile);
+    h += (h << 5) + Objects.hashCode(ruleKeyDiagKeysFile);
+    h += (h << 5) + Objects.hashCode(ruleKeyDiagGraphFile);
+    h += (h << 5) + Objects.hashCode(traceFile);
+    h += (h << 5) + Objects.hashCode(configJsonFile);
+    h += (h << 5) + Objects.hashCode(buckFixSpecFile);
+    h += (h << 5) + Longs.hashCode(size);
+    h += (h << 5) + lastModifiedTime.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code BuildLogEntry} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("BuildLogEntry")
+        .omitNullValues()
+        .add("relativePath", relativePath)
+        .add("buildId", buildId)
+        .add("commandArgs", commandArgs)
+        .add("expandedCommandArgs", expandedCommandArgs)
+        .add("exitCode", exitCode)
+        .add("buildTimeMs", buildTimeMs)
+        .add("ruleKeyLoggerLogFile", ruleKeyLoggerLogFile)
+        .add("machineReadableLogFile", machineReadableLogFile)
+        .add("ruleKeyDiagKeysFile", ruleKeyDiagKeysFile)
+        .add("ruleKeyDiagGraphFile", ruleKeyDiagGraphFile)
+        .add("traceFile", traceFile)
+        .add("configJsonFile", configJsonFile)
+        .add("buckFixSpecFile", buckFixSpecFile)
+        .add("size", size)
+        .add("lastModifiedTime", lastModifiedTime)
+        .toString();
+  }
+
+  /**
+   * Construct a new immutable {@code BuildLogEntry} instance.
+   * @param relativePath The value for the {@code relativePath} attribute
+   * @param buildId The value for the {@code buildId} attribute
+   * @param commandArgs The value for the {@code commandArgs} attribute
+   * @param expandedCommandArgs The value for the {@code expandedCommandArgs} attribute
+   * @param exitCode The value for the {@code exitCode} attribute
+   * @param buildTimeMs The value for the {@code buildTimeMs} attribute
+   * @param ruleKeyLoggerLogFile The value for the {@code ruleKeyLoggerLogFile} attribute
+   * @param machineReadableLogFile The value for the {@code machineReadableLogFile} attribute
+   * @param ruleKeyDiagKeysFile The value for the {@code ruleKeyDiagKeysFile} attribute
+   * @param ruleKeyDiagGraphFile The value for the {@code ruleKeyDiagGraphFile} attribute
+   * @param traceFile The value for the {@code traceFile} attribute
+   * @param configJsonFile The value for the {@code configJsonFile} attribute
+   * @param buckFixSpecFile The value for the {@code buckFixSpecFile} attribute
+   * @param size The value for the {@code size} attribute
+   * @param lastModifiedTime The value for the {@code lastModifiedTime} attribute
+   * @return An immutable BuildLogEntry instance
+   */
+  public static ImmutableBuildLogEntry of(Path relativePath, Optional<? extends BuildId> buildId, Optional<? extends List<String>> commandArgs, Optional<? extends List<String>> expandedCommandArgs, OptionalInt exitCode, OptionalInt buildTimeMs, Optional<? extends Path> ruleKeyLoggerLogFile, Optional<? extends Path> machineReadableLogFile, Optional<? extends Path> ruleKeyDiagKeysFile, Optional<? extends Path> ruleKeyDiagGraphFile, Optional<? extends Path> traceFile, Optional<? extends Path> configJsonFile, Optional<? extends Path> buckFixSpecFile, long size, Date lastModifiedTime) {
+    return validate(new ImmutableBuildLogEntry(relativePath, buildId, commandArgs, expandedCommandArgs, exitCode, buildTimeMs, ruleKeyLoggerLogFile, machineReadableLogFile, ruleKeyDiagKeysFile, ruleKeyDiagGraphFile, traceFile, configJsonFile, buckFixSpecFile, size, lastModifiedTime));
+  }
+
+
+  private static ImmutableBuildLogEntry validate(ImmutableBuildLogEntry instance) {
+    instance.pathIsRelative();
+    return instance;
+  }
+}
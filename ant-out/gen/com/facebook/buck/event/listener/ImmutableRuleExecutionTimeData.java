@@ -0,0 +1,148 @@
+package com.facebook.buck.event.listener;
+
+import com.fasterxml.jackson.annotation.JsonAutoDetect;
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.google.common.base.MoreObjects;
+import com.google.common.primitives.Longs;
+import com.google.errorprone.annotations.Var;
+import java.util.Objects;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import org.immutables.value.Generated;
+
+/**
+ * Immutable implementation of {@link FileSerializationOutputRuleDepsListener.RuleExecutionTimeData}.
+ * <p>
+ * Use the static factory method to create immutable instances:
+ * {@code ImmutableRuleExecutionTimeData.of()}.
+ */
+@Generated(from = "FileSerializationOutputRuleDepsListener.RuleExecutionTimeData", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+final class ImmutableRuleExecutionTimeData
+    implements FileSerializationOutputRuleDepsListener.RuleExecutionTimeData {
+  private final String targetId;
+  private final long elapsedTimeMs;
+
+  private ImmutableRuleExecutionTimeData(String targetId, long elapsedTimeMs) {
+    this.targetId = Objects.requireNonNull(targetId, "targetId");
+    this.elapsedTimeMs = elapsedTimeMs;
+  }
+
+  /**
+   * @return The value of the {@code targetId} attribute
+   */
+  @JsonProperty
+  @Override
+  public String getTargetId() {
+    return targetId;
+  }
+
+  /**
+   * @return The value of the {@code elapsedTimeMs} attribute
+   */
+  @JsonProperty
+  @Override
+  public long getElapsedTimeMs() {
+    return elapsedTimeMs;
+  }
+
+  /**
+   * This instance is equal to all instances of {@code ImmutableRuleExecutionTimeData} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof ImmutableRuleExecutionTimeData
+        && equalTo((ImmutableRuleExecutionTimeData) another);
+  }
+
+  private boolean equalTo(ImmutableRuleExecutionTimeData another) {
+    return targetId.equals(another.targetId)
+        && elapsedTimeMs == another.elapsedTimeMs;
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code targetId}, {@code elapsedTimeMs}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    @Var int h = 5381;
+    h += (h << 5) + targetId.hashCode();
+    h += (h << 5) + Longs.hashCode(elapsedTimeMs);
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code RuleExecutionTimeData} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("RuleExecutionTimeData")
+        .omitNullValues()
+        .add("targetId", targetId)
+        .add("elapsedTimeMs", elapsedTimeMs)
+        .toString();
+  }
+
+  /**
+   * Utility type used to correctly read immutable object from JSON representation.
+   * @deprecated Do not use this type directly, it exists only for the <em>Jackson</em>-binding infrastructure
+   */
+  @Generated(from = "FileSerializationOutputRuleDepsListener.RuleExecutionTimeData", generator = "Immutables")
+  @Deprecated
+  @SuppressWarnings("Immutable")
+  @JsonDeserialize
+  @JsonAutoDetect(fieldVisibility = JsonAutoDetect.Visibility.NONE)
+  static final class Json
+      implements FileSerializationOutputRuleDepsListener.RuleExecutionTimeData {
+    @Nullable String targetId;
+    long elapsedTimeMs;
+    boolean elapsedTimeMsIsSet;
+    @JsonProperty
+    public void setTargetId(String targetId) {
+      this.targetId = targetId;
+    }
+    @JsonProperty
+    public void setElapsedTimeMs(long elapsedTimeMs) {
+      this.elapsedTimeMs = elapsedTimeMs;
+      this.elapsedTimeMsIsSet = true;
+    }
+    @Override
+    public String getTargetId() { throw new UnsupportedOperationException(); }
+    @Override
+    public long getElapsedTimeMs() { throw new UnsupportedOperationException(); }
+  }
+
+  /**
+   * @param json A JSON-bindable data structure
+   * @return An immutable value type
+   * @deprecated Do not use this method directly, it exists only for the <em>Jackson</em>-binding infrastructure
+   */
+  @Deprecated
+  @JsonCreator(mode = JsonCreator.Mode.DELEGATING)
+  static ImmutableRuleExecutionTimeData fromJson(Json json) {
+    ImmutableRuleExecutionTimeData instance = ImmutableRuleExecutionTimeData.of(json.targetId, json.elapsedTimeMs);
+    return instance;
+  }
+
+  /**
+   * Construct a new immutable {@code RuleExecutionTimeData} instance.
+   * @param targetId The value for the {@code targetId} attribute
+   * @param elapsedTimeMs The value for the {@code elapsedTimeMs} attribute
+   * @return An immutable RuleExecutionTimeData instance
+   */
+  public static ImmutableRuleExecutionTimeData of(String targetId, long elapsedTimeMs) {
+    return new ImmutableRuleExecutionTimeData(targetId, elapsedTimeMs);
+  }
+}
@@ -0,0 +1,122 @@
+package com.facebook.buck.event.listener;
+
+import com.facebook.buck.support.build.report.RuleKeyLogFileUploader;
+import com.google.common.base.MoreObjects;
+import com.google.errorprone.annotations.Var;
+import java.nio.file.Path;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import org.immutables.value.Generated;
+
+/**
+ * Immutable implementation of {@link RuleKeyLoggerListener.RuleKeyLoggerListenerCloseArgs}.
+ * <p>
+ * Use the static factory method to create immutable instances:
+ * {@code ImmutableRuleKeyLoggerListenerCloseArgs.of()}.
+ */
+@Generated(from = "RuleKeyLoggerListener.RuleKeyLoggerListenerCloseArgs", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+final class ImmutableRuleKeyLoggerListenerCloseArgs
+    extends RuleKeyLoggerListener.RuleKeyLoggerListenerCloseArgs {
+  private final ExecutorService outputExecutor;
+  private final @Nullable RuleKeyLogFileUploader ruleKeyLogFileUploader;
+  private final Path ruleKeyLogFilePath;
+
+  @SuppressWarnings("unchecked") // safe covariant cast
+  private ImmutableRuleKeyLoggerListenerCloseArgs(
+      ExecutorService outputExecutor,
+      Optional<? extends RuleKeyLogFileUploader> ruleKeyLogFileUploader,
+      Path ruleKeyLogFilePath) {
+    this.outputExecutor = Objects.requireNonNull(outputExecutor, "outputExecutor");
+    this.ruleKeyLogFileUploader = ruleKeyLogFileUploader.orElse(null);
+    this.ruleKeyLogFilePath = Objects.requireNonNull(ruleKeyLogFilePath, "ruleKeyLogFilePath");
+  }
+
+  /**
+   * @return The value of the {@code outputExecutor} attribute
+   */
+  @Override
+  public ExecutorService getOutputExecutor() {
+    return outputExecutor;
+  }
+
+  /**
+   * @return The value of the {@code ruleKeyLogFileUploader} attribute
+   */
+  @Override
+  public Optional<RuleKeyLogFileUploader> getRuleKeyLogFileUploader() {
+    return Optional.ofNullable(ruleKeyLogFileUploader);
+  }
+
+  /**
+   * @return The value of the {@code ruleKeyLogFilePath} attribute
+   */
+  @Override
+  public Path getRuleKeyLogFilePath() {
+    return ruleKeyLogFilePath;
+  }
+
+  /**
+   * This instance is equal to all instances of {@code ImmutableRuleKeyLoggerListenerCloseArgs} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof ImmutableRuleKeyLoggerListenerCloseArgs
+        && equalTo((ImmutableRuleKeyLoggerListenerCloseArgs) another);
+  }
+
+  private boolean equalTo(ImmutableRuleKeyLoggerListenerCloseArgs another) {
+    return outputExecutor.equals(another.outputExecutor)
+        && Objects.equals(ruleKeyLogFileUploader, another.ruleKeyLogFileUploader)
+        && ruleKeyLogFilePath.equals(another.ruleKeyLogFilePath);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code outputExecutor}, {@code ruleKeyLogFileUploader}, {@code ruleKeyLogFilePath}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    @Var int h = 5381;
+    h += (h << 5) + outputExecutor.hashCode();
+    h += (h << 5) + Objects.hashCode(ruleKeyLogFileUploader);
+    h += (h << 5) + ruleKeyLogFilePath.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code RuleKeyLoggerListenerCloseArgs} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("RuleKeyLoggerListenerCloseArgs")
+        .omitNullValues()
+        .add("outputExecutor", outputExecutor)
+        .add("ruleKeyLogFileUploader", ruleKeyLogFileUploader)
+        .add("ruleKeyLogFilePath", ruleKeyLogFilePath)
+        .toString();
+  }
+
+  /**
+   * Construct a new immutable {@code RuleKeyLoggerListenerCloseArgs} instance.
+   * @param outputExecutor The value for the {@code outputExecutor} attribute
+   * @param ruleKeyLogFileUploader The value for the {@code ruleKeyLogFileUploader} attribute
+   * @param ruleKeyLogFilePath The value for the {@code ruleKeyLogFilePath} attribute
+   * @return An immutable RuleKeyLoggerListenerCloseArgs instance
+   */
+  public static ImmutableRuleKeyLoggerListenerCloseArgs of(ExecutorService outputExecutor, Optional<? extends RuleKeyLogFileUploader> ruleKeyLogFileUploader, Path ruleKeyLogFilePath) {
+    return new ImmutableRuleKeyLoggerListenerCloseArgs(outputExecutor, ruleKeyLogFileUploader, ruleKeyLogFilePath);
+  }
+}
@@ -0,0 +1,267 @@
+package com.facebook.buck.infer;
+
+import com.facebook.buck.core.config.BuckConfig;
+import com.facebook.buck.core.toolchain.toolprovider.ToolProvider;
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.ImmutableList;
+import com.google.errorprone.annotations.Var;
+import java.util.Objects;
+import java.util.Optional;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import org.immutables.value.Generated;
+
+/**
+ * Immutable implementation of {@link InferConfig}.
+ * <p>
+ * Use the static factory method to create immutable instances:
+ * {@code ImmutableInferConfig.of()}.
+ */
+@Generated(from = "InferConfig", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+final class ImmutableInferConfig extends InferConfig {
+  private final BuckConfig delegate;
+
+  private ImmutableInferConfig(BuckConfig delegate) {
+    this.delegate = Objects.requireNonNull(delegate, "delegate");
+  }
+
+  /**
+   * @return The value of the {@code delegate} attribute
+   */
+  @Override
+  public BuckConfig getDelegate() {
+    return delegate;
+  }
+
+  /**
+   * This instance is equal to all instances of {@code ImmutableInferConfig} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof ImmutableInferConfig
+        && equalTo((ImmutableInferConfig) another);
+  }
+
+  private boolean equalTo(ImmutableInferConfig another) {
+    return delegate.equals(another.delegate);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code delegate}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    @Var int h = 5381;
+    h += (h << 5) + delegate.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code InferConfig} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("InferConfig")
+        .omitNullValues()
+        .add("delegate", delegate)
+        .toString();
+  }
+
+  @SuppressWarnings("Immutable")
+  private transient volatile long lazyInitBitmap;
+
+  private static final long BINARY_LAZY_INIT_BIT = 0x1L;
+
+  @SuppressWarnings("Immutable")
+  private transient Optional<ToolProvider> binary;
+
+  /**
+   * {@inheritDoc}
+   * <p>
+   * Returns a lazily initialized value of the {@link InferConfig#getBinary() binary} attribute.
+   * Initialized once and only once and stored for subsequent access with proper synchronization.
+   * @return A lazily initialized value of the {@code binary} attribute
+   */
+  @Override
+  public Optional<ToolProvider> getBinary() {
+    if ((lazyInitBitmap & BINARY_LAZY_INIT_BIT) == 0) {
+      synchronized (this) {
+        if ((lazyInitBitmap & BINARY_LAZY_INIT_BIT) == 0) {
+          this.binary = Objects.requireNonNull(super.getBinary(), "binary");
+          lazyInitBitmap |= BINARY_LAZY_INIT_BIT;
+        }
+      }
+    }
+    return binary;
+  }
+
+  private static final long DIST_LAZY_INIT_BIT = 0x2L;
+
+  @SuppressWarnings("Immutable")
+  private transient Optional<ToolProvider> dist;
+
+  /**
+   * {@inheritDoc}
+   * <p>
+   * Returns a lazily initialized value of the {@link InferConfig#getDist() dist} attribute.
+   * Initialized once and only once and stored for subsequent access with proper synchronization.
+   * @return A lazily initialized value of the {@code dist} attribute
+   */
+  @Override
+  public Optional<ToolProvider> getDist() {
+    if ((lazyInitBitmap & DIST_LAZY_INIT_BIT) == 0) {
+      synchronized (this) {
+        if ((lazyInitBitmap & DIST_LAZY_INIT_BIT) == 0) {
+          this.dist = Objects.requireNonNull(super.getDist(), "dist");
+          lazyInitBitmap |= DIST_LAZY_INIT_BIT;
+        }
+      }
+    }
+    return dist;
+  }
+
+  private static final long DIST_BINARY_LAZY_INIT_BIT = 0x4L;
+
+  @SuppressWarnings("Immutable")
+  private transient String distBinary;
+
+  /**
+   * {@inheritDoc}
+   * <p>
+   * Returns a lazily initialized value of the {@link InferConfig#getDistBinary() distBinary} attribute.
+   * Initialized once and only once and stored for subsequent access with proper synchronization.
+   * @return A lazily initialized value of the {@code distBinary} attribute
+   */
+  @Override
+  public String getDistBinary() {
+    if ((lazyInitBitmap & DIST_BINARY_LAZY_INIT_BIT) == 0) {
+      synchronized (this) {
+        if ((lazyInitBitmap & DIST_BINARY_LAZY_INIT_BIT) == 0) {
+          this.distBinary = Objects.requireNonNull(super.getDistBinary(), "distBinary");
+          lazyInitBitmap |= DIST_BINARY_LAZY_INIT_BIT;
+        }
+      }
+    }
+    return distBinary;
+  }
+
+  private static final long VERSION_LAZY_INIT_BIT = 0x8L;
+
+  @SuppressWarnings("Immutable")
+  private transient Optional<String> version;
+
+  /**
+   * {@inheritDoc}
+   * <p>
+   * Returns a lazily initialized value of the {@link InferConfig#getVersion() version} attribute.
+   * Initialized once and only once and stored for subsequent access with proper synchronization.
+   * @return A lazily initialized value of the {@code version} attribute
+   */
+  @Override
+  public Optional<String> getVersion() {
+    if ((lazyInitBitmap & VERSION_LAZY_INIT_BIT) == 0) {
+      synchronized (this) {
+        if ((lazyInitBitmap & VERSION_LAZY_INIT_BIT) == 0) {
+          this.version = Objects.requireNonNull(super.getVersion(), "version");
+          lazyInitBitmap |= VERSION_LAZY_INIT_BIT;
+        }
+      }
+    }
+    return version;
+  }
+
+  private static final long NULLSAFE_ARGS_LAZY_INIT_BIT = 0x10L;
+
+  @SuppressWarnings("Immutable")
+  private transient ImmutableList<String> nullsafeArgs;
+
+  /**
+   * {@inheritDoc}
+   * <p>
+   * Returns a lazily initialized value of the {@link InferConfig#getNullsafeArgs() nullsafeArgs} attribute.
+   * Initialized once and only once and stored for subsequent access with proper synchronization.
+   * @return A lazily initialized value of the {@code nullsafeArgs} attribute
+   */
+  @Override
+  public ImmutableList<String> getNullsafeArgs() {
+    if ((lazyInitBitmap & NULLSAFE_ARGS_LAZY_INIT_BIT) == 0) {
+      synchronized (this) {
+        if ((lazyInitBitmap & NULLSAFE_ARGS_LAZY_INIT_BIT) == 0) {
+          this.nullsafeArgs = Objects.requireNonNull(super.getNullsafeArgs(), "nullsafeArgs");
+          lazyInitBitmap |= NULLSAFE_ARGS_LAZY_INIT_BIT;
+        }
+      }
+    }
+    return nullsafeArgs;
+  }
+
+  private static final long PRETTY_PRINT_LAZY_INIT_BIT = 0x20L;
+
+  @SuppressWarnings("Immutable")
+  private transient Boolean prettyPrint;
+
+  /**
+   * {@inheritDoc}
+   * <p>
+   * Returns a lazily initialized value of the {@link InferConfig#getPrettyPrint() prettyPrint} attribute.
+   * Initialized once and only once and stored for subsequent access with proper synchronization.
+   * @return A lazily initialized value of the {@code prettyPrint} attribute
+   */
+  @Override
+  public Boolean getPrettyPrint() {
+    if ((lazyInitBitmap & PRETTY_PRINT_LAZY_INIT_BIT) == 0) {
+      synchronized (this) {
+        if ((lazyInitBitmap & PRETTY_PRINT_LAZY_INIT_BIT) == 0) {
+          this.prettyPrint = Objects.requireNonNull(super.getPrettyPrint(), "prettyPrint");
+          lazyInitBitmap |= PRETTY_PRINT_LAZY_INIT_BIT;
+        }
+      }
+    }
+    return prettyPrint;
+  }
+
+  private static final long EXECUTE_REMOTELY_LAZY_INIT_BIT = 0x40L;
+
+  @SuppressWarnings("Immutable")
+  private transient Boolean executeRemotely;
+
+  /**
+   * {@inheritDoc}
+   * <p>
+   * Returns a lazily initialized value of the {@link InferConfig#executeRemotely() executeRemotely} attribute.
+   * Initialized once and only once and stored for subsequent access with proper synchronization.
+   * @return A lazily initialized value of the {@code executeRemotely} attribute
+   */
+  @Override
+  public Boolean executeRemotely() {
+    if ((lazyInitBitmap & EXECUTE_REMOTELY_LAZY_INIT_BIT) == 0) {
+      synchronized (this) {
+        if ((lazyInitBitmap & EXECUTE_REMOTELY_LAZY_INIT_BIT) == 0) {
+          this.executeRemotely = Objects.requireNonNull(super.executeRemotely(), "executeRemotely");
+          lazyInitBitmap |= EXECUTE_REMOTELY_LAZY_INIT_BIT;
+        }
+      }
+    }
+    return executeRemotely;
+  }
+
+  /**
+   * Construct a new immutable {@code InferConfig} instance.
+   * @param delegate The value for the {@code delegate} attribute
+   * @return An immutable InferConfig instance
+   */
+  public static ImmutableInferConfig of(BuckConfig delegate) {
+    return new ImmutableInferConfig(delegate);
+  }
+}
@@ -0,0 +1,151 @@
+package com.facebook.buck.infer;
+
+import com.facebook.buck.core.sourcepath.SourcePath;
+import com.facebook.buck.core.toolchain.tool.Tool;
+import com.google.common.base.MoreObjects;
+import com.google.common.primitives.Booleans;
+import com.google.errorprone.annotations.Var;
+import java.util.Objects;
+import java.util.Optional;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import org.immutables.value.Generated;
+
+/**
+ * Immutable implementation of {@link InferPlatform}.
+ * <p>
+ * Use the static factory method to create immutable instances:
+ * {@code ImmutableInferPlatform.of()}.
+ */
+@Generated(from = "InferPlatform", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+final class ImmutableInferPlatform extends InferPlatform {
+  private final Tool inferBin;
+  private final @Nullable String inferVersion;
+  private final @Nullable SourcePath inferConfig;
+  private final @Nullable SourcePath nullsafeThirdPartySignatures;
+  private final boolean executeRemotely;
+
+  @SuppressWarnings("unchecked") // safe covariant cast
+  private ImmutableInferPlatform(
+      Tool inferBin,
+      Optional<String> inferVersion,
+      Optional<? extends SourcePath> inferConfig,
+      Optional<? extends SourcePath> nullsafeThirdPartySignatures,
+      boolean executeRemotely) {
+    this.inferBin = Objects.requireNonNull(inferBin, "inferBin");
+    this.inferVersion = inferVersion.orElse(null);
+    this.inferConfig = inferConfig.orElse(null);
+    this.nullsafeThirdPartySignatures = nullsafeThirdPartySignatures.orElse(null);
+    this.executeRemotely = executeRemotely;
+  }
+
+  /**
+   * @return The value of the {@code inferBin} attribute
+   */
+  @Override
+  Tool getInferBin() {
+    return inferBin;
+  }
+
+  /**
+   * @return The value of the {@code inferVersion} attribute
+   */
+  @Override
+  Optional<String> getInferVersion() {
+    return Optional.ofNullable(inferVersion);
+  }
+
+  /**
+   * @return The value of the {@code inferConfig} attribute
+   */
+  @Override
+  Optional<SourcePath> getInferConfig() {
+    return Optional.ofNullable(inferConfig);
+  }
+
+  /**
+   * @return The value of the {@code nullsafeThirdPartySignatures} attribute
+   */
+  @Override
+  Optional<SourcePath> getNullsafeThirdPartySignatures() {
+    return Optional.ofNullable(nullsafeThirdPartySignatures);
+  }
+
+  /**
+   * @return The value of the {@code executeRemotely} attribute
+   */
+  @Override
+  boolean executeRemotely() {
+    return executeRemotely;
+  }
+
+  /**
+   * This instance is equal to all instances of {@code ImmutableInferPlatform} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof ImmutableInferPlatform
+        && equalTo((ImmutableInferPlatform) another);
+  }
+
+  private boolean equalTo(ImmutableInferPlatform another) {
+    return inferBin.equals(another.inferBin)
+        && Objects.equals(inferVersion, another.inferVersion)
+        && Objects.equals(inferConfig, another.inferConfig)
+        && Objects.equals(nullsafeThirdPartySignatures, another.nullsafeThirdPartySignatures)
+        && executeRemotely == another.executeRemotely;
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code inferBin}, {@code inferVersion}, {@code inferConfig}, {@code nullsafeThirdPartySignatures}, {@code executeRemotely}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    @Var int h = 5381;
+    h += (h << 5) + inferBin.hashCode();
+    h += (h << 5) + Objects.hashCode(inferVersion);
+    h += (h << 5) + Objects.hashCode(inferConfig);
+    h += (h << 5) + Objects.hashCode(nullsafeThirdPartySignatures);
+    h += (h << 5) + Booleans.hashCode(executeRemotely);
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code InferPlatform} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("InferPlatform")
+        .omitNullValues()
+        .add("inferBin", inferBin)
+        .add("inferVersion", inferVersion)
+        .add("inferConfig", inferConfig)
+        .add("nullsafeThirdPartySignatures", nullsafeThirdPartySignatures)
+        .add("executeRemotely", executeRemotely)
+        .toString();
+  }
+
+  /**
+   * Construct a new immutable {@code InferPlatform} instance.
+   * @param inferBin The value for the {@code inferBin} attribute
+   * @param inferVersion The value for the {@code inferVersion} attribute
+   * @param inferConfig The value for the {@code inferConfig} attribute
+   * @param nullsafeThirdPartySignatures The value for the {@code nullsafeThirdPartySignatures} attribute
+   * @param executeRemotely The value for the {@code executeRemotely} attribute
+   * @return An immutable InferPlatform instance
+   */
+  public static ImmutableInferPlatform of(Tool inferBin, Optional<String> inferVersion, Optional<? extends SourcePath> inferConfig, Optional<? extends SourcePath> nullsafeThirdPartySignatures, boolean executeRemotely) {
+    return new ImmutableInferPlatform(inferBin, inferVersion, inferConfig, nullsafeThirdPartySignatures, executeRemotely);
+  }
+}
@@ -0,0 +1,117 @@
+package com.facebook.buck.io.watchman;
+
+import com.google.common.base.MoreObjects;
+import com.google.errorprone.annotations.Var;
+import java.nio.file.Path;
+import java.util.Objects;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import org.immutables.value.Generated;
+
+/**
+ * Immutable implementation of {@link WatchmanMultiplePathEvent.Change}.
+ * <p>
+ * Use the static factory method to create immutable instances:
+ * {@code ImmutableChange.of()}.
+ */
+@Generated(from = "WatchmanMultiplePathEvent.Change", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+final class ImmutableChange extends WatchmanMultiplePathEvent.Change {
+  private final WatchmanEvent.Type type;
+  private final Path path;
+  private final WatchmanEvent.Kind kind;
+
+  private ImmutableChange(
+      WatchmanEvent.Type type,
+      Path path,
+      WatchmanEvent.Kind kind) {
+    this.type = Objects.requireNonNull(type, "type");
+    this.path = Objects.requireNonNull(path, "path");
+    this.kind = Objects.requireNonNull(kind, "kind");
+  }
+
+  /**
+   * @return The value of the {@code type} attribute
+   */
+  @Override
+  public WatchmanEvent.Type getType() {
+    return type;
+  }
+
+  /**
+   * @return The value of the {@code path} attribute
+   */
+  @Override
+  public Path getPath() {
+    return path;
+  }
+
+  /**
+   * @return The value of the {@code kind} attribute
+   */
+  @Override
+  public WatchmanEvent.Kind getKind() {
+    return kind;
+  }
+
+  /**
+   * This instance is equal to all instances of {@code ImmutableChange} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof ImmutableChange
+        && equalTo((ImmutableChange) another);
+  }
+
+  private boolean equalTo(ImmutableChange another) {
+    return type.equals(another.type)
+        && path.equals(another.path)
+        && kind.equals(another.kind);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code type}, {@code path}, {@code kind}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    @Var int h = 5381;
+    h += (h << 5) + type.hashCode();
+    h += (h << 5) + path.hashCode();
+    h += (h << 5) + kind.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code Change} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("Change")
+        .omitNullValues()
+        .add("type", type)
+        .add("path", path)
+        .add("kind", kind)
+        .toString();
+  }
+
+  /**
+   * Construct a new immutable {@code Change} instance.
+   * @param type The value for the {@code type} attribute
+   * @param path The value for the {@code path} attribute
+   * @param kind The value for the {@code kind} attribute
+   * @return An immutable Change instance
+   */
+  public static ImmutableChange of(WatchmanEvent.Type type, Path path, WatchmanEvent.Kind kind) {
+    return new ImmutableChange(type, path, kind);
+  }
+}
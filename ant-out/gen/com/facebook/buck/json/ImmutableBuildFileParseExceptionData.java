@@ -0,0 +1,147 @@
+package com.facebook.buck.json;
+
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.ImmutableList;
+import com.google.errorprone.annotations.Var;
+import java.util.Objects;
+import java.util.Optional;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import org.immutables.value.Generated;
+
+/**
+ * Immutable implementation of {@link BuildFileParseExceptionData}.
+ * <p>
+ * Use the static factory method to create immutable instances:
+ * {@code ImmutableBuildFileParseExceptionData.of()}.
+ */
+@Generated(from = "BuildFileParseExceptionData", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+final class ImmutableBuildFileParseExceptionData
+    implements BuildFileParseExceptionData {
+  private final String type;
+  private final String value;
+  private final @Nullable BuildFileSyntaxError syntaxError;
+  private final ImmutableList<BuildFileParseExceptionStackTraceEntry> stackTrace;
+
+  @SuppressWarnings("unchecked") // safe covariant cast
+  private ImmutableBuildFileParseExceptionData(
+      String type,
+      String value,
+      Optional<? extends BuildFileSyntaxError> syntaxError,
+      Iterable<? extends BuildFileParseExceptionStackTraceEntry> stackTrace) {
+    this.type = Objects.requireNonNull(type, "type");
+    this.value = Objects.requireNonNull(value, "value");
+    this.syntaxError = syntaxError.orElse(null);
+    this.stackTrace = ImmutableList.copyOf(stackTrace);
+  }
+
+  /**
+   * @return The value of the {@code type} attribute
+   */
+  @Override
+  public String getType() {
+    return type;
+  }
+
+  /**
+   * @return The value of the {@code value} attribute
+   */
+  @Override
+  public String getValue() {
+    return value;
+  }
+
+  /**
+   * @return The value of the {@code syntaxError} attribute
+   */
+  @Override
+  public Optional<BuildFileSyntaxError> getSyntaxError() {
+    return Optional.ofNullable(syntaxError);
+  }
+
+  /**
+   * @return The value of the {@code stackTrace} attribute
+   */
+  @Override
+  public ImmutableList<BuildFileParseExceptionStackTraceEntry> getStackTrace() {
+    return stackTrace;
+  }
+
+  /**
+   * This instance is equal to all instances of {@code ImmutableBuildFileParseExceptionData} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof ImmutableBuildFileParseExceptionData
+        && equalTo((ImmutableBuildFileParseExceptionData) another);
+  }
+
+  private boolean equalTo(ImmutableBuildFileParseExceptionData another) {
+    return type.equals(another.type)
+        && value.equals(another.value)
+        && Objects.equals(syntaxError, another.syntaxError)
+        && stackTrace.equals(another.stackTrace);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code type}, {@code value}, {@code syntaxError}, {@code stackTrace}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    @Var int h = 5381;
+    h += (h << 5) + type.hashCode();
+    h += (h << 5) + value.hashCode();
+    h += (h << 5) + Objects.hashCode(syntaxError);
+    h += (h << 5) + stackTrace.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code BuildFileParseExceptionData} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("BuildFileParseExceptionData")
+        .omitNullValues()
+        .add("type", type)
+        .add("value", value)
+        .add("syntaxError", syntaxError)
+        .add("stackTrace", stackTrace)
+        .toString();
+  }
+
+  /**
+   * Construct a new immutable {@code BuildFileParseExceptionData} instance.
+   * @param type The value for the {@code type} attribute
+   * @param value The value for the {@code value} attribute
+   * @param syntaxError The value for the {@code syntaxError} attribute
+   * @param stackTrace The value for the {@code stackTrace} attribute
+   * @return An immutable BuildFileParseExceptionData instance
+   */
+  public static ImmutableBuildFileParseExceptionData of(String type, String value, Optional<BuildFileSyntaxError> syntaxError, ImmutableList<BuildFileParseExceptionStackTraceEntry> stackTrace) {
+    return of(type, value, syntaxError, (Iterable<? extends BuildFileParseExceptionStackTraceEntry>) stackTrace);
+  }
+
+  /**
+   * Construct a new immutable {@code BuildFileParseExceptionData} instance.
+   * @param type The value for the {@code type} attribute
+   * @param value The value for the {@code value} attribute
+   * @param syntaxError The value for the {@code syntaxError} attribute
+   * @param stackTrace The value for the {@code stackTrace} attribute
+   * @return An immutable BuildFileParseExceptionData instance
+   */
+  public static ImmutableBuildFileParseExceptionData of(String type, String value, Optional<? extends BuildFileSyntaxError> syntaxError, Iterable<? extends BuildFileParseExceptionStackTraceEntry> stackTrace) {
+    return new ImmutableBuildFileParseExceptionData(type, value, syntaxError, stackTrace);
+  }
+}
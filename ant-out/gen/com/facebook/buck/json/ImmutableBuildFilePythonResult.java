@@ -0,0 +1,182 @@
+package com.facebook.buck.json;
+
+import com.fasterxml.jackson.annotation.JsonAutoDetect;
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.ImmutableList;
+import com.google.errorprone.annotations.Var;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import org.immutables.value.Generated;
+
+/**
+ * Immutable implementation of {@link BuildFilePythonResult}.
+ * <p>
+ * Use the static factory method to create immutable instances:
+ * {@code ImmutableBuildFilePythonResult.of()}.
+ */
+@Generated(from = "BuildFilePythonResult", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+final class ImmutableBuildFilePythonResult implements BuildFilePythonResult {
+  private final ImmutableList<Map<String, Object>> values;
+  private final ImmutableList<Map<String, Object>> diagnostics;
+  private final @Nullable String profile;
+
+  private ImmutableBuildFilePythonResult(
+      Iterable<? extends Map<String, Object>> values,
+      Iterable<? extends Map<String, Object>> diagnostics,
+      Optional<String> profile) {
+    this.values = ImmutableList.copyOf(values);
+    this.diagnostics = ImmutableList.copyOf(diagnostics);
+    this.profile = profile.orElse(null);
+  }
+
+  /**
+   * @return The value of the {@code values} attribute
+   */
+  @JsonProperty
+  @Override
+  public ImmutableList<Map<String, Object>> getValues() {
+    return values;
+  }
+
+  /**
+   * @return The value of the {@code diagnostics} attribute
+   */
+  @JsonProperty
+  @Override
+  public ImmutableList<Map<String, Object>> getDiagnostics() {
+    return diagnostics;
+  }
+
+  /**
+   * @return The value of the {@code profile} attribute
+   */
+  @JsonProperty
+  @Override
+  public Optional<String> getProfile() {
+    return Optional.ofNullable(profile);
+  }
+
+  /**
+   * This instance is equal to all instances of {@code ImmutableBuildFilePythonResult} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof ImmutableBuildFilePythonResult
+        && equalTo((ImmutableBuildFilePythonResult) another);
+  }
+
+  private boolean equalTo(ImmutableBuildFilePythonResult another) {
+    return values.equals(another.values)
+        && diagnostics.equals(another.diagnostics)
+        && Objects.equals(profile, another.profile);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code values}, {@code diagnostics}, {@code profile}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    @Var int h = 5381;
+    h += (h << 5) + values.hashCode();
+    h += (h << 5) + diagnostics.hashCode();
+    h += (h << 5) + Objects.hashCode(profile);
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code BuildFilePythonResult} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("BuildFilePythonResult")
+        .omitNullValues()
+        .add("values", values)
+        .add("diagnostics", diagnostics)
+        .add("profile", profile)
+        .toString();
+  }
+
+  /**
+   * Utility type used to correctly read immutable object from JSON representation.
+   * @deprecated Do not use this type directly, it exists only for the <em>Jackson</em>-binding infrastructure
+   */
+  @Generated(from = "BuildFilePythonResult", generator = "Immutables")
+  @Deprecated
+  @SuppressWarnings("Immutable")
+  @JsonDeserialize
+  @JsonAutoDetect(fieldVisibility = JsonAutoDetect.Visibility.NONE)
+  static final class Json implements BuildFilePythonResult {
+    @Nullable ImmutableList<Map<String, Object>> values = ImmutableList.of();
+    @Nullable ImmutableList<Map<String, Object>> diagnostics = ImmutableList.of();
+    @Nullable Optional<String> profile = Optional.empty();
+    @JsonProperty
+    public void setValues(ImmutableList<Map<String, Object>> values) {
+      this.values = values;
+    }
+    @JsonProperty
+    public void setDiagnostics(ImmutableList<Map<String, Object>> diagnostics) {
+      this.diagnostics = diagnostics;
+    }
+    @JsonProperty
+    public void setProfile(Optional<String> profile) {
+      this.profile = profile;
+    }
+    @Override
+    public ImmutableList<Map<String, Object>> getValues() { throw new UnsupportedOperationException(); }
+    @Override
+    public ImmutableList<Map<String, Object>> getDiagnostics() { throw new UnsupportedOperationException(); }
+    @Override
+    public Optional<String> getProfile() { throw new UnsupportedOperationException(); }
+  }
+
+  /**
+   * @param json A JSON-bindable data structure
+   * @return An immutable value type
+   * @deprecated Do not use this method directly, it exists only for the <em>Jackson</em>-binding infrastructure
+   */
+  @Deprecated
+  @JsonCreator(mode = JsonCreator.Mode.DELEGATING)
+  static ImmutableBuildFilePythonResult fromJson(Json json) {
+    ImmutableBuildFilePythonResult instance = ImmutableBuildFilePythonResult.of(json.values, json.diagnostics, json.profile);
+    return instance;
+  }
+
+  /**
+   * Construct a new immutable {@code BuildFilePythonResult} instance.
+   * @param values The value for the {@code values} attribute
+   * @param diagnostics The value for the {@code diagnostics} attribute
+   * @param profile The value for the {@code profile} attribute
+   * @return An immutable BuildFilePythonResult instance
+   */
+  public static ImmutableBuildFilePythonResult of(ImmutableList<Map<String, Object>> values, ImmutableList<Map<String, Object>> diagnostics, Optional<String> profile) {
+    return of((Iterable<? extends Map<String, Object>>) values, (Iterable<? extends Map<String, Object>>) diagnostics, profile);
+  }
+
+  /**
+   * Construct a new immutable {@code BuildFilePythonResult} instance.
+   * @param values The value for the {@code values} attribute
+   * @param diagnostics The value for the {@code diagnostics} attribute
+   * @param profile The value for the {@code profile} attribute
+   * @return An immutable BuildFilePythonResult instance
+   */
+  public static ImmutableBuildFilePythonResult of(Iterable<? extends Map<String, Object>> values, Iterable<? extends Map<String, Object>> diagnostics, Optional<String> profile) {
+    return new ImmutableBuildFilePythonResult(values, diagnostics, profile);
+  }
+}
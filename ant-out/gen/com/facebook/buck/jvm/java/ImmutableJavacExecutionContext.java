@@ -0,0 +1,247 @@
+package com.facebook.buck.jvm.java;
+
+import com.facebook.buck.core.cell.CellPathResolver;
+import com.facebook.buck.io.filesystem.ProjectFilesystem;
+import com.facebook.buck.io.filesystem.ProjectFilesystemFactory;
+import com.facebook.buck.jvm.core.JavaPackageFinder;
+import com.facebook.buck.util.ClassLoaderCache;
+import com.facebook.buck.util.ProcessExecutor;
+import com.facebook.buck.util.Verbosity;
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.primitives.Booleans;
+import com.google.errorprone.annotations.Var;
+import java.io.PrintStream;
+import java.util.Map;
+import java.util.Objects;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import org.immutables.value.Generated;
+
+/**
+ * Immutable implementation of {@link JavacExecutionContext}.
+ * <p>
+ * Use the static factory method to create immutable instances:
+ * {@code ImmutableJavacExecutionContext.of()}.
+ */
+@Generated(from = "JavacExecutionContext", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+final class ImmutableJavacExecutionContext implements JavacExecutionContext {
+  private final JavacEventSink eventSink;
+  private final PrintStream stdErr;
+  private final ClassLoaderCache classLoaderCache;
+  private final Verbosity verbosity;
+  private final CellPathResolver cellPathResolver;
+  private final JavaPackageFinder javaPackageFinder;
+  private final ProjectFilesystem projectFilesystem;
+  private final ProjectFilesystemFactory projectFilesystemFactory;
+  private final ImmutableMap<String, String> environment;
+  private final ProcessExecutor processExecutor;
+  private final boolean shouldCacheClasspathJars;
+
+  private ImmutableJavacExecutionContext(
+      JavacEventSink eventSink,
+      PrintStream stdErr,
+      ClassLoaderCache classLoaderCache,
+      Verbosity verbosity,
+      CellPathResolver cellPathResolver,
+      JavaPackageFinder javaPackageFinder,
+      ProjectFilesystem projectFilesystem,
+      ProjectFilesystemFactory projectFilesystemFactory,
+      Map<String, ? extends String> environment,
+      ProcessExecutor processExecutor,
+      boolean shouldCacheClasspathJars) {
+    this.eventSink = Objects.requireNonNull(eventSink, "eventSink");
+    this.stdErr = Objects.requireNonNull(stdErr, "stdErr");
+    this.classLoaderCache = Objects.requireNonNull(classLoaderCache, "classLoaderCache");
+    this.verbosity = Objects.requireNonNull(verbosity, "verbosity");
+    this.cellPathResolver = Objects.requireNonNull(cellPathResolver, "cellPathResolver");
+    this.javaPackageFinder = Objects.requireNonNull(javaPackageFinder, "javaPackageFinder");
+    this.projectFilesystem = Objects.requireNonNull(projectFilesystem, "projectFilesystem");
+    this.projectFilesystemFactory = Objects.requireNonNull(projectFilesystemFactory, "projectFilesystemFactory");
+    this.environment = ImmutableMap.copyOf(environment);
+    this.processExecutor = Objects.requireNonNull(processExecutor, "processExecutor");
+    this.shouldCacheClasspathJars = shouldCacheClasspathJars;
+  }
+
+  /**
+   * @return The value of the {@code eventSink} attribute
+   */
+  @Override
+  public JavacEventSink getEventSink() {
+    return eventSink;
+  }
+
+  /**
+   * @return The value of the {@code stdErr} attribute
+   */
+  @Override
+  public PrintStream getStdErr() {
+    return stdErr;
+  }
+
+  /**
+   * @return The value of the {@code classLoaderCache} attribute
+   */
+  @Override
+  public ClassLoaderCache getClassLoaderCache() {
+    return classLoaderCache;
+  }
+
+  /**
+   * @return The value of the {@code verbosity} attribute
+   */
+  @Override
+  public Verbosity getVerbosity() {
+    return verbosity;
+  }
+
+  /**
+   * @return The value of the {@code cellPathResolver} attribute
+   */
+  @Override
+  public CellPathResolver getCellPathResolver() {
+    return cellPathResolver;
+  }
+
+  /**
+   * @return The value of the {@code javaPackageFinder} attribute
+   */
+  @Override
+  public JavaPackageFinder getJavaPackageFinder() {
+    return javaPackageFinder;
+  }
+
+  /**
+   * @return The value of the {@code projectFilesystem} attribute
+   */
+  @Override
+  public ProjectFilesystem getProjectFilesystem() {
+    return projectFilesystem;
+  }
+
+  /**
+   * @return The value of the {@code projectFilesystemFactory} attribute
+   */
+  @Override
+  public ProjectFilesystemFactory getProjectFilesystemFactory() {
+    return projectFilesystemFactory;
+  }
+
+  /**
+   * @return The value of the {@code environment} attribute
+   */
+  @Override
+  public ImmutableMap<String, String> getEnvironment() {
+    return environment;
+  }
+
+  /**
+   * @return The value of the {@code processExecutor} attribute
+   */
+  @Override
+  public ProcessExecutor getProcessExecutor() {
+    return processExecutor;
+  }
+
+  /**
+   * @return The value of the {@code shouldCacheClasspathJars} attribute
+   */
+  @Override
+  public boolean shouldCacheClasspathJars() {
+    return shouldCacheClasspathJars;
+  }
+
+  /**
+   * This instance is equal to all instances of {@code ImmutableJavacExecutionContext} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof ImmutableJavacExecutionContext
+        && equalTo((ImmutableJavacExecutionContext) another);
+  }
+
+  private boolean equalTo(ImmutableJavacExecutionContext another) {
+    return eventSink.equals(another.eventSink)
+        && stdErr.equals(another.stdErr)
+        && classLoaderCache.equals(another.classLoaderCache)
+        && verbosity.equals(another.verbosity)
+        && cellPathResolver.equals(another.cellPathResolver)
+        && javaPackageFinder.equals(another.javaPackageFinder)
+        && projectFilesystem.equals(another.projectFilesystem)
+        && projectFilesystemFactory.equals(another.projectFilesystemFactory)
+        && environment.equals(another.environment)
+        && processExecutor.equals(another.processExecutor)
+        && shouldCacheClasspathJars == another.shouldCacheClasspathJars;
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code eventSink}, {@code stdErr}, {@code classLoaderCache}, {@code verbosity}, {@code cellPathResolver}, {@code javaPackageFinder}, {@code projectFilesystem}, {@code projectFilesystemFactory}, {@code environment}, {@code processExecutor}, {@code shouldCacheClasspathJars}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    @Var int h = 5381;
+    h += (h << 5) + eventSink.hashCode();
+    h += (h << 5) + stdErr.hashCode();
+    h += (h << 5) + classLoaderCache.hashCode();
+    h += (h << 5) + verbosity.hashCode();
+    h += (h << 5) + cellPathResolver.hashCode();
+    h += (h << 5) + javaPackageFinder.hashCode();
+    h += (h << 5) + projectFilesystem.hashCode();
+    h += (h << 5) + projectFilesystemFactory.hashCode();
+    h += (h << 5) + environment.hashCode();
+    h += (h << 5) + processExecutor.hashCode();
+    h += (h << 5) + Booleans.hashCode(shouldCacheClasspathJars);
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code JavacExecutionContext} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("JavacExecutionContext")
+        .omitNullValues()
+        .add("eventSink", eventSink)
+        .add("stdErr", stdErr)
+        .add("classLoaderCache", classLoaderCache)
+        .add("verbosity", verbosity)
+        .add("cellPathResolver", cellPathResolver)
+        .add("javaPackageFinder", javaPackageFinder)
+        .add("projectFilesystem", projectFilesystem)
+        .add("projectFilesystemFactory", projectFilesystemFactory)
+        .add("environment", environment)
+        .add("processExecutor", processExecutor)
+        .add("shouldCacheClasspathJars", shouldCacheClasspathJars)
+        .toString();
+  }
+
+  /**
+   * Construct a new immutable {@code JavacExecutionContext} instance.
+   * @param eventSink The value for the {@code eventSink} attribute
+   * @param stdErr The value for the {@code stdErr} attribute
+   * @param classLoaderCache The value for the {@code classLoaderCache} attribute
+   * @param verbosity The value for the {@code verbosity} attribute
+   * @param cellPathResolver The value for the {@code cellPathResolver} attribute
+   * @param javaPackageFinder The value for the {@code javaPackageFinder} attribute
+   * @param projectFilesystem The value for the {@code projectFilesystem} attribute
+   * @param projectFilesystemFactory The value for the {@code projectFilesystemFactory} attribute
+   * @param environment The value for the {@code environment} attribute
+   * @param processExecutor The value for the {@code processExecutor} attribute
+   * @param shouldCacheClasspathJars The value for the {@code shouldCacheClasspathJars} attribute
+   * @return An immutable JavacExecutionContext instance
+   */
+  public static ImmutableJavacExecutionContext of(JavacEventSink eventSink, PrintStream stdErr, ClassLoaderCache classLoaderCache, Verbosity verbosity, CellPathResolver cellPathResolver, JavaPackageFinder javaPackageFinder, ProjectFilesystem projectFilesystem, ProjectFilesystemFactory projectFilesystemFactory, Map<String, ? extends String> environment, ProcessExecutor processExecutor, boolean shouldCacheClasspathJars) {
+    return new ImmutableJavacExecutionContext(eventSink, stdErr, classLoaderCache, verbosity, cellPathResolver, javaPackageFinder, projectFilesystem, projectFilesystemFactory, environment, processExecutor, shouldCacheClasspathJars);
+  }
+}
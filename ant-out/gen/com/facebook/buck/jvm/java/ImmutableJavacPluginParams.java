@@ -0,0 +1,270 @@
+package com.facebook.buck.jvm.java;
+
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableSortedSet;
+import com.google.common.primitives.Booleans;
+import com.google.errorprone.annotations.CanIgnoreReturnValue;
+import com.google.errorprone.annotations.Var;
+import java.util.Arrays;
+import java.util.Objects;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+import org.immutables.value.Generated;
+
+/**
+ * Immutable implementation of {@link JavacPluginParams}.
+ * <p>
+ * Use the builder to create immutable instances:
+ * {@code new JavacPluginParams.Builder()}.
+ */
+@Generated(from = "JavacPluginParams", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+final class ImmutableJavacPluginParams extends JavacPluginParams {
+  private final ImmutableList<ResolvedJavacPluginProperties> pluginProperties;
+  private final ImmutableSortedSet<String> parameters;
+  private final boolean processOnly;
+
+  private ImmutableJavacPluginParams(ImmutableJavacPluginParams.Builder builder) {
+    this.pluginProperties = builder.pluginProperties.build();
+    this.parameters = builder.parameters.build();
+    this.processOnly = builder.processOnlyIsSet()
+        ? builder.processOnly
+        : super.getProcessOnly();
+  }
+
+  /**
+   * @return The value of the {@code pluginProperties} attribute
+   */
+  @Override
+  public ImmutableList<ResolvedJavacPluginProperties> getPluginProperties() {
+    return pluginProperties;
+  }
+
+  /**
+   * @return The value of the {@code parameters} attribute
+   */
+  @Override
+  public ImmutableSortedSet<String> getParameters() {
+    return parameters;
+  }
+
+  /**
+   * @return The value of the {@code processOnly} attribute
+   */
+  @Override
+  public boolean getProcessOnly() {
+    return processOnly;
+  }
+
+  /**
+   * This instance is equal to all instances of {@code ImmutableJavacPluginParams} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof ImmutableJavacPluginParams
+        && equalTo((ImmutableJavacPluginParams) another);
+  }
+
+  private boolean equalTo(ImmutableJavacPluginParams another) {
+    return pluginProperties.equals(another.pluginProperties)
+        && parameters.equals(another.parameters)
+        && processOnly == another.processOnly;
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code pluginProperties}, {@code parameters}, {@code processOnly}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    @Var int h = 5381;
+    h += (h << 5) + pluginProperties.hashCode();
+    h += (h << 5) + parameters.hashCode();
+    h += (h << 5) + Booleans.hashCode(processOnly);
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code JavacPluginParams} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("JavacPluginParams")
+        .omitNullValues()
+        .add("pluginProperties", pluginProperties)
+        .add("parameters", parameters)
+        .add("processOnly", processOnly)
+        .toString();
+  }
+
+  /**
+   * Builds instances of type {@link JavacPluginParams JavacPluginParams}.
+   * Initialize attributes and then invoke the {@link #build()} method to create an
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread-safe and generally should not be stored in a field or collection,
+   * but instead used immediately to create instances.</em>
+   */
+  @Generated(from = "JavacPluginParams", generator = "Immutables")
+  @NotThreadSafe
+  public static class Builder {
+    private static final long OPT_BIT_PROCESS_ONLY = 0x1L;
+    private long optBits;
+
+    protected ImmutableList.Builder<ResolvedJavacPluginProperties> pluginProperties = ImmutableList.builder();
+    protected ImmutableSortedSet.Builder<String> parameters = ImmutableSortedSet.naturalOrder();
+    protected boolean processOnly;
+
+    /**
+     * Creates a builder for {@link JavacPluginParams JavacPluginParams} instances.
+     */
+    public Builder() {
+      if (!(this instanceof JavacPluginParams.Builder)) {
+        throw new UnsupportedOperationException("Use: new JavacPluginParams.Builder()");
+      }
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code JavacPluginParams} instance.
+     * Regular attribute values will be replaced with those from the given instance.
+     * Absent optional values will not replace present values.
+     * Collection elements and entries will be added, not replaced.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final JavacPluginParams.Builder from(JavacPluginParams instance) {
+      Objects.requireNonNull(instance, "instance");
+      addAllPluginProperties(instance.getPluginProperties());
+      addAllParameters(instance.getParameters());
+      setProcessOnly(instance.getProcessOnly());
+      return (JavacPluginParams.Builder) this;
+    }
+
+    /**
+     * Adds one element to {@link JavacPluginParams#getPluginProperties() pluginProperties} list.
+     * @param element A pluginProperties element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final JavacPluginParams.Builder addPluginProperties(ResolvedJavacPluginProperties element) {
+      this.pluginProperties.add(element);
+      return (JavacPluginParams.Builder) this;
+    }
+
+    /**
+     * Adds elements to {@link JavacPluginParams#getPluginProperties() pluginProperties} list.
+     * @param elements An array of pluginProperties elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final JavacPluginParams.Builder addPluginProperties(ResolvedJavacPluginProperties... elements) {
+      this.pluginProperties.add(elements);
+      return (JavacPluginParams.Builder) this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link JavacPluginParams#getPluginProperties() pluginProperties} list.
+     * @param elements An iterable of pluginProperties elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final JavacPluginParams.Builder setPluginProperties(Iterable<? extends ResolvedJavacPluginProperties> elements) {
+      this.pluginProperties = ImmutableList.builder();
+      return addAllPluginProperties(elements);
+    }
+
+    /**
+     * Adds elements to {@link JavacPluginParams#getPluginProperties() pluginProperties} list.
+     * @param elements An iterable of pluginProperties elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final JavacPluginParams.Builder addAllPluginProperties(Iterable<? extends ResolvedJavacPluginProperties> elements) {
+      this.pluginProperties.addAll(elements);
+      return (JavacPluginParams.Builder) this;
+    }
+
+    /**
+     * Adds one element to {@link JavacPluginParams#getParameters() parameters} sortedSet.
+     * @param element A parameters element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final JavacPluginParams.Builder addParameters(String element) {
+      this.parameters.add(element);
+      return (JavacPluginParams.Builder) this;
+    }
+
+    /**
+     * Adds elements to {@link JavacPluginParams#getParameters() parameters} sortedSet.
+     * @param elements An array of parameters elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final JavacPluginParams.Builder addParameters(String... elements) {
+      this.parameters.addAll(Arrays.asList(elements));
+      return (JavacPluginParams.Builder) this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link JavacPluginParams#getParameters() parameters} sortedSet.
+     * @param elements An iterable of parameters elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final JavacPluginParams.Builder setParameters(Iterable<String> elements) {
+      this.parameters = ImmutableSortedSet.naturalOrder();
+      return addAllParameters(elements);
+    }
+
+    /**
+     * Adds elements to {@link JavacPluginParams#getParameters() parameters} sortedSet.
+     * @param elements An iterable of parameters elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final JavacPluginParams.Builder addAllParameters(Iterable<String> elements) {
+      this.parameters.addAll(elements);
+      return (JavacPluginParams.Builder) this;
+    }
+
+    /**
+     * Initializes the value for the {@link JavacPluginParams#getProcessOnly() processOnly} attribute.
+     * <p><em>If not set, this attribute will have a default value as returned by the initializer of {@link JavacPluginParams#getProcessOnly() processOnly}.</em>
+     * @param processOnly The value for processOnly 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final JavacPluginParams.Builder setProcessOnly(boolean processOnly) {
+      this.processOnly = processOnly;
+      optBits |= OPT_BIT_PROCESS_ONLY;
+      return (JavacPluginParams.Builder) this;
+    }
+
+    /**
+     * Builds a new {@link JavacPluginParams JavacPluginParams}.
+     * @return An immutable instance of JavacPluginParams
+     * @throws java.lang.IllegalStateException if any required attributes are missing
+     */
+    public JavacPluginParams build() {
+      return new ImmutableJavacPluginParams(this);
+    }
+
+    private boolean processOnlyIsSet() {
+      return (optBits & OPT_BIT_PROCESS_ONLY) != 0;
+    }
+  }
+}
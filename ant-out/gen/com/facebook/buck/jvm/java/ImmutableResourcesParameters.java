@@ -0,0 +1,104 @@
+package com.facebook.buck.jvm.java;
+
+import com.facebook.buck.core.sourcepath.SourcePath;
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.ImmutableSortedMap;
+import com.google.errorprone.annotations.Var;
+import java.util.Objects;
+import java.util.Optional;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import org.immutables.value.Generated;
+
+/**
+ * Immutable implementation of {@link ResourcesParameters}.
+ * <p>
+ * Use the static factory method to create immutable instances:
+ * {@code ImmutableResourcesParameters.of()}.
+ */
+@Generated(from = "ResourcesParameters", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+final class ImmutableResourcesParameters extends ResourcesParameters {
+  private final ImmutableSortedMap<String, SourcePath> resources;
+  private final @Nullable String resourcesRoot;
+
+  private ImmutableResourcesParameters(
+      ImmutableSortedMap<String, SourcePath> resources,
+      Optional<String> resourcesRoot) {
+    this.resources = Objects.requireNonNull(resources, "resources");
+    this.resourcesRoot = resourcesRoot.orElse(null);
+  }
+
+  /**
+   * @return The value of the {@code resources} attribute
+   */
+  @Override
+  public ImmutableSortedMap<String, SourcePath> getResources() {
+    return resources;
+  }
+
+  /**
+   * @return The value of the {@code resourcesRoot} attribute
+   */
+  @Override
+  public Optional<String> getResourcesRoot() {
+    return Optional.ofNullable(resourcesRoot);
+  }
+
+  /**
+   * This instance is equal to all instances of {@code ImmutableResourcesParameters} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof ImmutableResourcesParameters
+        && equalTo((ImmutableResourcesParameters) another);
+  }
+
+  private boolean equalTo(ImmutableResourcesParameters another) {
+    return resources.equals(another.resources)
+        && Objects.equals(resourcesRoot, another.resourcesRoot);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code resources}, {@code resourcesRoot}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    @Var int h = 5381;
+    h += (h << 5) + resources.hashCode();
+    h += (h << 5) + Objects.hashCode(resourcesRoot);
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code ResourcesParameters} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("ResourcesParameters")
+        .omitNullValues()
+        .add("resources", resources)
+        .add("resourcesRoot", resourcesRoot)
+        .toString();
+  }
+
+  /**
+   * Construct a new immutable {@code ResourcesParameters} instance.
+   * @param resources The value for the {@code resources} attribute
+   * @param resourcesRoot The value for the {@code resourcesRoot} attribute
+   * @return An immutable ResourcesParameters instance
+   */
+  public static ImmutableResourcesParameters of(ImmutableSortedMap<String, SourcePath> resources, Optional<String> resourcesRoot) {
+    return new ImmutableResourcesParameters(resources, resourcesRoot);
+  }
+}
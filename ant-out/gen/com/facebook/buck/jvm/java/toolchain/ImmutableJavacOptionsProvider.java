@@ -0,0 +1,87 @@
+package com.facebook.buck.jvm.java.toolchain;
+
+import com.facebook.buck.jvm.java.JavacOptions;
+import com.google.common.base.MoreObjects;
+import com.google.errorprone.annotations.Var;
+import java.util.Objects;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import org.immutables.value.Generated;
+
+/**
+ * Immutable implementation of {@link JavacOptionsProvider}.
+ * <p>
+ * Use the static factory method to create immutable instances:
+ * {@code ImmutableJavacOptionsProvider.of()}.
+ */
+@Generated(from = "JavacOptionsProvider", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+final class ImmutableJavacOptionsProvider
+    implements JavacOptionsProvider {
+  private final JavacOptions javacOptions;
+
+  private ImmutableJavacOptionsProvider(JavacOptions javacOptions) {
+    this.javacOptions = Objects.requireNonNull(javacOptions, "javacOptions");
+  }
+
+  /**
+   * @return The value of the {@code javacOptions} attribute
+   */
+  @Override
+  public JavacOptions getJavacOptions() {
+    return javacOptions;
+  }
+
+  /**
+   * This instance is equal to all instances of {@code ImmutableJavacOptionsProvider} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof ImmutableJavacOptionsProvider
+        && equalTo((ImmutableJavacOptionsProvider) another);
+  }
+
+  private boolean equalTo(ImmutableJavacOptionsProvider another) {
+    return javacOptions.equals(another.javacOptions);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code javacOptions}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    @Var int h = 5381;
+    h += (h << 5) + javacOptions.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code JavacOptionsProvider} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("JavacOptionsProvider")
+        .omitNullValues()
+        .add("javacOptions", javacOptions)
+        .toString();
+  }
+
+  /**
+   * Construct a new immutable {@code JavacOptionsProvider} instance.
+   * @param javacOptions The value for the {@code javacOptions} attribute
+   * @return An immutable JavacOptionsProvider instance
+   */
+  public static ImmutableJavacOptionsProvider of(JavacOptions javacOptions) {
+    return new ImmutableJavacOptionsProvider(javacOptions);
+  }
+}
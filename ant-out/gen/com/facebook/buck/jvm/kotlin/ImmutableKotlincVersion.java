@@ -0,0 +1,72 @@
+package com.facebook.buck.jvm.kotlin;
+
+import com.google.errorprone.annotations.Var;
+import java.util.Objects;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import org.immutables.value.Generated;
+
+/**
+ * Immutable implementation of {@link KotlincVersion}.
+ * <p>
+ * Use the static factory method to create immutable instances:
+ * {@code ImmutableKotlincVersion.of()}.
+ */
+@Generated(from = "KotlincVersion", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+final class ImmutableKotlincVersion extends KotlincVersion {
+  private final String versionString;
+
+  private ImmutableKotlincVersion(String versionString) {
+    this.versionString = Objects.requireNonNull(versionString, "versionString");
+  }
+
+  /**
+   * @return The value of the {@code versionString} attribute
+   */
+  @Override
+  public String getVersionString() {
+    return versionString;
+  }
+
+  /**
+   * This instance is equal to all instances of {@code ImmutableKotlincVersion} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof ImmutableKotlincVersion
+        && equalTo((ImmutableKotlincVersion) another);
+  }
+
+  private boolean equalTo(ImmutableKotlincVersion another) {
+    return versionString.equals(another.versionString);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code versionString}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    @Var int h = 5381;
+    h += (h << 5) + versionString.hashCode();
+    return h;
+  }
+
+  /**
+   * Construct a new immutable {@code KotlincVersion} instance.
+   * @param versionString The value for the {@code versionString} attribute
+   * @return An immutable KotlincVersion instance
+   */
+  public static ImmutableKotlincVersion of(String versionString) {
+    return new ImmutableKotlincVersion(versionString);
+  }
+}
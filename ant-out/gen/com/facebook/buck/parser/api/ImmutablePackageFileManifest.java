@@ -0,0 +1,166 @@
+package com.facebook.buck.parser.api;
+
+import com.facebook.buck.parser.exceptions.ParsingError;
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSortedSet;
+import com.google.errorprone.annotations.Var;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import org.immutables.value.Generated;
+
+/**
+ * Immutable implementation of {@link PackageFileManifest}.
+ * <p>
+ * Use the static factory method to create immutable instances:
+ * {@code ImmutablePackageFileManifest.of()}.
+ */
+@Generated(from = "PackageFileManifest", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+final class ImmutablePackageFileManifest extends PackageFileManifest {
+  private final PackageMetadata getPackage;
+  private final ImmutableSortedSet<String> includes;
+  private final ImmutableMap<String, Object> configs;
+  private final @Nullable ImmutableMap<String, Optional<String>> env;
+  private final ImmutableList<ParsingError> errors;
+
+  @SuppressWarnings("unchecked") // safe covariant cast
+  private ImmutablePackageFileManifest(
+      PackageMetadata getPackage,
+      ImmutableSortedSet<String> includes,
+      Map<String, ? extends Object> configs,
+      Optional<? extends ImmutableMap<String, Optional<String>>> env,
+      Iterable<? extends ParsingError> errors) {
+    this.getPackage = Objects.requireNonNull(getPackage, "getPackage");
+    this.includes = Objects.requireNonNull(includes, "includes");
+    this.configs = ImmutableMap.copyOf(configs);
+    this.env = env.orElse(null);
+    this.errors = ImmutableList.copyOf(errors);
+  }
+
+  /**
+   * @return The value of the {@code getPackage} attribute
+   */
+  @Override
+  public PackageMetadata getPackage() {
+    return getPackage;
+  }
+
+  /**
+   * @return The value of the {@code includes} attribute
+   */
+  @Override
+  public ImmutableSortedSet<String> getIncludes() {
+    return includes;
+  }
+
+  /**
+   * @return The value of the {@code configs} attribute
+   */
+  @Override
+  public ImmutableMap<String, Object> getConfigs() {
+    return configs;
+  }
+
+  /**
+   * @return The value of the {@code env} attribute
+   */
+  @Override
+  public Optional<ImmutableMap<String, Optional<String>>> getEnv() {
+    return Optional.ofNullable(env);
+  }
+
+  /**
+   * @return The value of the {@code errors} attribute
+   */
+  @Override
+  public ImmutableList<ParsingError> getErrors() {
+    return errors;
+  }
+
+  /**
+   * This instance is equal to all instances of {@code ImmutablePackageFileManifest} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof ImmutablePackageFileManifest
+        && equalTo((ImmutablePackageFileManifest) another);
+  }
+
+  private boolean equalTo(ImmutablePackageFileManifest another) {
+    return getPackage.equals(another.getPackage)
+        && includes.equals(another.includes)
+        && configs.equals(another.configs)
+        && Objects.equals(env, another.env)
+        && errors.equals(another.errors);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code getPackage}, {@code includes}, {@code configs}, {@code env}, {@code errors}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    @Var int h = 5381;
+    h += (h << 5) + getPackage.hashCode();
+    h += (h << 5) + includes.hashCode();
+    h += (h << 5) + configs.hashCode();
+    h += (h << 5) + Objects.hashCode(env);
+    h += (h << 5) + errors.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code PackageFileManifest} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("PackageFileManifest")
+        .omitNullValues()
+        .add("package", getPackage)
+        .add("includes", includes)
+        .add("configs", configs)
+        .add("env", env)
+        .add("errors", errors)
+        .toString();
+  }
+
+  /**
+   * Construct a new immutable {@code PackageFileManifest} instance.
+   * @param getPackage The value for the {@code getPackage} attribute
+   * @param includes The value for the {@code includes} attribute
+   * @param configs The value for the {@code configs} attribute
+   * @param env The value for the {@code env} attribute
+   * @param errors The value for the {@code errors} attribute
+   * @return An immutable PackageFileManifest instance
+   */
+  public static ImmutablePackageFileManifest of(PackageMetadata getPackage, ImmutableSortedSet<String> includes, ImmutableMap<String, Object> configs, Optional<ImmutableMap<String, Optional<String>>> env, ImmutableList<ParsingError> errors) {
+    return of(getPackage, includes, configs, env, (Iterable<? extends ParsingError>) errors);
+  }
+
+  /**
+   * Construct a new immutable {@code PackageFileManifest} instance.
+   * @param getPackage The value for the {@code getPackage} attribute
+   * @param includes The value for the {@code includes} attribute
+   * @param configs The value for the {@code configs} attribute
+   * @param env The value for the {@code env} attribute
+   * @param errors The value for the {@code errors} attribute
+   * @return An immutable PackageFileManifest instance
+   */
+  public static ImmutablePackageFileManifest of(PackageMetadata getPackage, ImmutableSortedSet<String> includes, Map<String, ? extends Object> configs, Optional<? extends ImmutableMap<String, Optional<String>>> env, Iterable<? extends ParsingError> errors) {
+    return new ImmutablePackageFileManifest(getPackage, includes, configs, env, errors);
+  }
+}
@@ -0,0 +1,87 @@
+package com.facebook.buck.parser.spec;
+
+import com.google.common.primitives.Booleans;
+import com.google.errorprone.annotations.Var;
+import java.util.Objects;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import org.immutables.value.Generated;
+
+/**
+ * Immutable implementation of {@link TargetNodePredicateSpec}.
+ * <p>
+ * Use the static factory method to create immutable instances:
+ * {@code ImmutableTargetNodePredicateSpec.of()}.
+ */
+@Generated(from = "TargetNodePredicateSpec", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+final class ImmutableTargetNodePredicateSpec
+    extends TargetNodePredicateSpec {
+  private final BuildFileSpec buildFileSpec;
+  private final boolean onlyTests;
+
+  private ImmutableTargetNodePredicateSpec(BuildFileSpec buildFileSpec, boolean onlyTests) {
+    this.buildFileSpec = Objects.requireNonNull(buildFileSpec, "buildFileSpec");
+    this.onlyTests = onlyTests;
+  }
+
+  /**
+   * @return The value of the {@code buildFileSpec} attribute
+   */
+  @Override
+  public BuildFileSpec getBuildFileSpec() {
+    return buildFileSpec;
+  }
+
+  /**
+   * @return The value of the {@code onlyTests} attribute
+   */
+  @Override
+  public boolean onlyTests() {
+    return onlyTests;
+  }
+
+  /**
+   * This instance is equal to all instances of {@code ImmutableTargetNodePredicateSpec} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof ImmutableTargetNodePredicateSpec
+        && equalTo((ImmutableTargetNodePredicateSpec) another);
+  }
+
+  private boolean equalTo(ImmutableTargetNodePredicateSpec another) {
+    return buildFileSpec.equals(another.buildFileSpec)
+        && onlyTests == another.onlyTests;
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code buildFileSpec}, {@code onlyTests}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    @Var int h = 5381;
+    h += (h << 5) + buildFileSpec.hashCode();
+    h += (h << 5) + Booleans.hashCode(onlyTests);
+    return h;
+  }
+
+  /**
+   * Construct a new immutable {@code TargetNodePredicateSpec} instance.
+   * @param buildFileSpec The value for the {@code buildFileSpec} attribute
+   * @param onlyTests The value for the {@code onlyTests} attribute
+   * @return An immutable TargetNodePredicateSpec instance
+   */
+  public static ImmutableTargetNodePredicateSpec of(BuildFileSpec buildFileSpec, boolean onlyTests) {
+    return new ImmutableTargetNodePredicateSpec(buildFileSpec, onlyTests);
+  }
+}
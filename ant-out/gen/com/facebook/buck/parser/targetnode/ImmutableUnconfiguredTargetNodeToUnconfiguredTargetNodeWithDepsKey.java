@@ -0,0 +1,117 @@
+package com.facebook.buck.parser.targetnode;
+
+import com.facebook.buck.core.model.targetgraph.raw.UnconfiguredTargetNode;
+import com.google.common.base.MoreObjects;
+import com.google.errorprone.annotations.Var;
+import java.nio.file.Path;
+import java.util.Objects;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import org.immutables.value.Generated;
+
+/**
+ * Immutable implementation of {@link UnconfiguredTargetNodeToUnconfiguredTargetNodeWithDepsKey}.
+ * <p>
+ * Use the static factory method to create immutable instances:
+ * {@code ImmutableUnconfiguredTargetNodeToUnconfiguredTargetNodeWithDepsKey.of()}.
+ */
+@Generated(from = "UnconfiguredTargetNodeToUnconfiguredTargetNodeWithDepsKey", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+final class ImmutableUnconfiguredTargetNodeToUnconfiguredTargetNodeWithDepsKey
+    extends UnconfiguredTargetNodeToUnconfiguredTargetNodeWithDepsKey {
+  private final UnconfiguredTargetNode unconfiguredTargetNode;
+  private final Path packagePath;
+  private transient final int hashCode;
+
+  private ImmutableUnconfiguredTargetNodeToUnconfiguredTargetNodeWithDepsKey(
+      UnconfiguredTargetNode unconfiguredTargetNode,
+      Path packagePath) {
+    this.unconfiguredTargetNode = Objects.requireNonNull(unconfiguredTargetNode, "unconfiguredTargetNode");
+    this.packagePath = Objects.requireNonNull(packagePath, "packagePath");
+    this.hashCode = computeHashCode();
+  }
+
+  /**
+   * @return The value of the {@code unconfiguredTargetNode} attribute
+   */
+  @Override
+  public UnconfiguredTargetNode getUnconfiguredTargetNode() {
+    return unconfiguredTargetNode;
+  }
+
+  /**
+   * @return The value of the {@code packagePath} attribute
+   */
+  @Override
+  public Path getPackagePath() {
+    return packagePath;
+  }
+
+  /**
+   * This instance is equal to all instances of {@code ImmutableUnconfiguredTargetNodeToUnconfiguredTargetNodeWithDepsKey} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof ImmutableUnconfiguredTargetNodeToUnconfiguredTargetNodeWithDepsKey
+        && equalTo((ImmutableUnconfiguredTargetNodeToUnconfiguredTargetNodeWithDepsKey) another);
+  }
+
+  private boolean equalTo(ImmutableUnconfiguredTargetNodeToUnconfiguredTargetNodeWithDepsKey another) {
+    if (hashCode != another.hashCode) return false;
+    return unconfiguredTargetNode.equals(another.unconfiguredTargetNode)
+        && packagePath.equals(another.packagePath);
+  }
+
+  /**
+   * Returns a precomputed-on-construction hash code from attributes: {@code unconfiguredTargetNode}, {@code packagePath}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    return hashCode;
+  }
+
+  private int computeHashCode() {
+    @Var int h = 5381;
+    h += (h << 5) + unconfiguredTargetNode.hashCode();
+    h += (h << 5) + packagePath.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code UnconfiguredTargetNodeToUnconfiguredTargetNodeWithDepsKey} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("UnconfiguredTargetNodeToUnconfiguredTargetNodeWithDepsKey")
+        .omitNullValues()
+        .add("unconfiguredTargetNode", unconfiguredTargetNode)
+        .add("packagePath", packagePath)
+        .toString();
+  }
+
+  /**
+   * Construct a new immutable {@code UnconfiguredTargetNodeToUnconfiguredTargetNodeWithDepsKey} instance.
+   * @param unconfiguredTargetNode The value for the {@code unconfiguredTargetNode} attribute
+   * @param packagePath The value for the {@code packagePath} attribute
+   * @return An immutable UnconfiguredTargetNodeToUnconfiguredTargetNodeWithDepsKey instance
+   */
+  public static ImmutableUnconfiguredTargetNodeToUnconfiguredTargetNodeWithDepsKey of(UnconfiguredTargetNode unconfiguredTargetNode, Path packagePath) {
+    return validate(new ImmutableUnconfiguredTargetNodeToUnconfiguredTargetNodeWithDepsKey(unconfiguredTargetNode, packagePath));
+  }
+
+
+  private static ImmutableUnconfiguredTargetNodeToUnconfiguredTargetNodeWithDepsKey validate(ImmutableUnconfiguredTargetNodeToUnconfiguredTargetNodeWithDepsKey instance) {
+    instance.check();
+    return instance;
+  }
+}
@@ -0,0 +1,100 @@
+package com.facebook.buck.remoteexecution;
+
+import com.google.common.base.MoreObjects;
+import com.google.errorprone.annotations.Var;
+import java.util.Objects;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import org.immutables.value.Generated;
+
+/**
+ * Immutable implementation of {@link FileBasedWorkerRequirementsProvider.ActionTags}.
+ * <p>
+ * Use the static factory method to create immutable instances:
+ * {@code ImmutableActionTags.of()}.
+ */
+@Generated(from = "FileBasedWorkerRequirementsProvider.ActionTags", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+final class ImmutableActionTags
+    implements FileBasedWorkerRequirementsProvider.ActionTags {
+  private final String ruleName;
+  private final String auxiliaryBuildTag;
+
+  private ImmutableActionTags(String ruleName, String auxiliaryBuildTag) {
+    this.ruleName = Objects.requireNonNull(ruleName, "ruleName");
+    this.auxiliaryBuildTag = Objects.requireNonNull(auxiliaryBuildTag, "auxiliaryBuildTag");
+  }
+
+  /**
+   * @return The value of the {@code ruleName} attribute
+   */
+  @Override
+  public String getRuleName() {
+    return ruleName;
+  }
+
+  /**
+   * @return The value of the {@code auxiliaryBuildTag} attribute
+   */
+  @Override
+  public String getAuxiliaryBuildTag() {
+    return auxiliaryBuildTag;
+  }
+
+  /**
+   * This instance is equal to all instances of {@code ImmutableActionTags} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof ImmutableActionTags
+        && equalTo((ImmutableActionTags) another);
+  }
+
+  private boolean equalTo(ImmutableActionTags another) {
+    return ruleName.equals(another.ruleName)
+        && auxiliaryBuildTag.equals(another.auxiliaryBuildTag);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code ruleName}, {@code auxiliaryBuildTag}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    @Var int h = 5381;
+    h += (h << 5) + ruleName.hashCode();
+    h += (h << 5) + auxiliaryBuildTag.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code ActionTags} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("ActionTags")
+        .omitNullValues()
+        .add("ruleName", ruleName)
+        .add("auxiliaryBuildTag", auxiliaryBuildTag)
+        .toString();
+  }
+
+  /**
+   * Construct a new immutable {@code ActionTags} instance.
+   * @param ruleName The value for the {@code ruleName} attribute
+   * @param auxiliaryBuildTag The value for the {@code auxiliaryBuildTag} attribute
+   * @return An immutable ActionTags instance
+   */
+  public static ImmutableActionTags of(String ruleName, String auxiliaryBuildTag) {
+    return new ImmutableActionTags(ruleName, auxiliaryBuildTag);
+  }
+}
@@ -0,0 +1,100 @@
+package com.facebook.buck.remoteexecution.config;
+
+import com.facebook.buck.core.config.BuckConfig;
+import com.google.common.base.MoreObjects;
+import com.google.errorprone.annotations.Var;
+import java.util.Objects;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import org.immutables.value.Generated;
+
+/**
+ * Immutable implementation of {@link RemoteExecutionConfig}.
+ * <p>
+ * Use the static factory method to create immutable instances:
+ * {@code ImmutableRemoteExecutionConfig.of()}.
+ */
+@Generated(from = "RemoteExecutionConfig", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+final class ImmutableRemoteExecutionConfig
+    extends RemoteExecutionConfig {
+  private transient final RemoteExecutionStrategyConfig strategyConfig;
+  private final BuckConfig delegate;
+
+  private ImmutableRemoteExecutionConfig(BuckConfig delegate) {
+    this.delegate = Objects.requireNonNull(delegate, "delegate");
+    this.strategyConfig = Objects.requireNonNull(super.getStrategyConfig(), "strategyConfig");
+  }
+
+  /**
+   * @return The computed-at-construction value of the {@code strategyConfig} attribute
+   */
+  @Override
+  public RemoteExecutionStrategyConfig getStrategyConfig() {
+    return strategyConfig;
+  }
+
+  /**
+   * @return The value of the {@code delegate} attribute
+   */
+  @Override
+  public BuckConfig getDelegate() {
+    return delegate;
+  }
+
+  /**
+   * This instance is equal to all instances of {@code ImmutableRemoteExecutionConfig} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof ImmutableRemoteExecutionConfig
+        && equalTo((ImmutableRemoteExecutionConfig) another);
+  }
+
+  private boolean equalTo(ImmutableRemoteExecutionConfig another) {
+    return strategyConfig.equals(another.strategyConfig)
+        && delegate.equals(another.delegate);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code strategyConfig}, {@code delegate}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    @Var int h = 5381;
+    h += (h << 5) + strategyConfig.hashCode();
+    h += (h << 5) + delegate.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code RemoteExecutionConfig} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("RemoteExecutionConfig")
+        .omitNullValues()
+        .add("strategyConfig", strategyConfig)
+        .add("delegate", delegate)
+        .toString();
+  }
+
+  /**
+   * Construct a new immutable {@code RemoteExecutionConfig} instance.
+   * @param delegate The value for the {@code delegate} attribute
+   * @return An immutable RemoteExecutionConfig instance
+   */
+  public static ImmutableRemoteExecutionConfig of(BuckConfig delegate) {
+    return new ImmutableRemoteExecutionConfig(delegate);
+  }
+}
@@ -0,0 +1,401 @@
+package com.facebook.buck.remoteexecution.grpc.retry;
+
+import com.google.common.base.MoreObjects;
+import com.google.common.primitives.Booleans;
+import com.google.errorprone.annotations.CanIgnoreReturnValue;
+import com.google.errorprone.annotations.Var;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ScheduledExecutorService;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+import org.immutables.value.Generated;
+
+/**
+ * Immutable implementation of {@link RetryPolicy}.
+ * <p>
+ * Use the builder to create immutable instances:
+ * {@code new RetryPolicy.Builder()}.
+ */
+@Generated(from = "RetryPolicy", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+final class ImmutableRetryPolicy extends RetryPolicy {
+  private final int maxRetries;
+  private final Backoff.Strategy backoffStrategy;
+  private final Runnable beforeRetry;
+  private final boolean restartAllStreamingCalls;
+  private final ScheduledExecutorService executor;
+
+  private ImmutableRetryPolicy(ImmutableRetryPolicy.Builder builder) {
+    if (builder.maxRetriesIsSet()) {
+      initShim.setMaxRetries(builder.maxRetries);
+    }
+    if (builder.backoffStrategy != null) {
+      initShim.setBackoffStrategy(builder.backoffStrategy);
+    }
+    if (builder.beforeRetry != null) {
+      initShim.setBeforeRetry(builder.beforeRetry);
+    }
+    if (builder.restartAllStreamingCallsIsSet()) {
+      initShim.setRestartAllStreamingCalls(builder.restartAllStreamingCalls);
+    }
+    if (builder.executor != null) {
+      initShim.setExecutor(builder.executor);
+    }
+    this.maxRetries = initShim.getMaxRetries();
+    this.backoffStrategy = initShim.getBackoffStrategy();
+    this.beforeRetry = initShim.getBeforeRetry();
+    this.restartAllStreamingCalls = initShim.getRestartAllStreamingCalls();
+    this.executor = initShim.getExecutor();
+    this.initShim = null;
+  }
+
+  private static final byte STAGE_INITIALIZING = -1;
+  private static final byte STAGE_UNINITIALIZED = 0;
+  private static final byte STAGE_INITIALIZED = 1;
+  @SuppressWarnings("Immutable")
+  private transient volatile InitShim initShim = new InitShim();
+
+  @Generated(from = "RetryPolicy", generator = "Immutables")
+  private final class InitShim {
+    private byte maxRetriesBuildStage = STAGE_UNINITIALIZED;
+    private int maxRetries;
+
+    int getMaxRetries() {
+      if (maxRetriesBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (maxRetriesBuildStage == STAGE_UNINITIALIZED) {
+        maxRetriesBuildStage = STAGE_INITIALIZING;
+        this.maxRetries = ImmutableRetryPolicy.super.getMaxRetries();
+        maxRetriesBuildStage = STAGE_INITIALIZED;
+      }
+      return this.maxRetries;
+    }
+
+    void setMaxRetries(int maxRetries) {
+      this.maxRetries = maxRetries;
+      maxRetriesBuildStage = STAGE_INITIALIZED;
+    }
+
+    private byte backoffStrategyBuildStage = STAGE_UNINITIALIZED;
+    private Backoff.Strategy backoffStrategy;
+
+    Backoff.Strategy getBackoffStrategy() {
+      if (backoffStrategyBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (backoffStrategyBuildStage == STAGE_UNINITIALIZED) {
+        backoffStrategyBuildStage = STAGE_INITIALIZING;
+        this.backoffStrategy = Objects.requireNonNull(ImmutableRetryPolicy.super.getBackoffStrategy(), "backoffStrategy");
+        backoffStrategyBuildStage = STAGE_INITIALIZED;
+      }
+      return this.backoffStrategy;
+    }
+
+    void setBackoffStrategy(Backoff.Strategy backoffStrategy) {
+      this.backoffStrategy = backoffStrategy;
+      backoffStrategyBuildStage = STAGE_INITIALIZED;
+    }
+
+    private byte beforeRetryBuildStage = STAGE_UNINITIALIZED;
+    private Runnable beforeRetry;
+
+    Runnable getBeforeRetry() {
+      if (beforeRetryBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (beforeRetryBuildStage == STAGE_UNINITIALIZED) {
+        beforeRetryBuildStage = STAGE_INITIALIZING;
+        this.beforeRetry = Objects.requireNonNull(ImmutableRetryPolicy.super.getBeforeRetry(), "beforeRetry");
+        beforeRetryBuildStage = STAGE_INITIALIZED;
+      }
+      return this.beforeRetry;
+    }
+
+    void setBeforeRetry(Runnable beforeRetry) {
+      this.beforeRetry = beforeRetry;
+      beforeRetryBuildStage = STAGE_INITIALIZED;
+    }
+
+    private byte restartAllStreamingCallsBuildStage = STAGE_UNINITIALIZED;
+    private boolean restartAllStreamingCalls;
+
+    boolean getRestartAllStreamingCalls() {
+      if (restartAllStreamingCallsBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (restartAllStreamingCallsBuildStage == STAGE_UNINITIALIZED) {
+        restartAllStreamingCallsBuildStage = STAGE_INITIALIZING;
+        this.restartAllStreamingCalls = ImmutableRetryPolicy.super.getRestartAllStreamingCalls();
+        restartAllStreamingCallsBuildStage = STAGE_INITIALIZED;
+      }
+      return this.restartAllStreamingCalls;
+    }
+
+    void setRestartAllStreamingCalls(boolean restartAllStreamingCalls) {
+      this.restartAllStreamingCalls = restartAllStreamingCalls;
+      restartAllStreamingCallsBuildStage = STAGE_INITIALIZED;
+    }
+
+    private byte executorBuildStage = STAGE_UNINITIALIZED;
+    private ScheduledExecutorService executor;
+
+    ScheduledExecutorService getExecutor() {
+      if (executorBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (executorBuildStage == STAGE_UNINITIALIZED) {
+        executorBuildStage = STAGE_INITIALIZING;
+        this.executor = Objects.requireNonNull(ImmutableRetryPolicy.super.getExecutor(), "executor");
+        executorBuildStage = STAGE_INITIALIZED;
+      }
+      return this.executor;
+    }
+
+    void setExecutor(ScheduledExecutorService executor) {
+      this.executor = executor;
+      executorBuildStage = STAGE_INITIALIZED;
+    }
+
+    private String formatInitCycleMessage() {
+      List<String> attributes = new ArrayList<>();
+      if (maxRetriesBuildStage == STAGE_INITIALIZING) attributes.add("maxRetries");
+      if (backoffStrategyBuildStage == STAGE_INITIALIZING) attributes.add("backoffStrategy");
+      if (beforeRetryBuildStage == STAGE_INITIALIZING) attributes.add("beforeRetry");
+      if (restartAllStreamingCallsBuildStage == STAGE_INITIALIZING) attributes.add("restartAllStreamingCalls");
+      if (executorBuildStage == STAGE_INITIALIZING) attributes.add("executor");
+      return "Cannot build RetryPolicy, attribute initializers form cycle " + attributes;
+    }
+  }
+
+  /**
+   * @return The value of the {@code maxRetries} attribute
+   */
+  @Override
+  public int getMaxRetries() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.getMaxRetries()
+        : this.maxRetries;
+  }
+
+  /**
+   * @return The value of the {@code backoffStrategy} attribute
+   */
+  @Override
+  public Backoff.Strategy getBackoffStrategy() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.getBackoffStrategy()
+        : this.backoffStrategy;
+  }
+
+  /**
+   * @return The value of the {@code beforeRetry} attribute
+   */
+  @Override
+  public Runnable getBeforeRetry() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.getBeforeRetry()
+        : this.beforeRetry;
+  }
+
+  /**
+   * @return The value of the {@code restartAllStreamingCalls} attribute
+   */
+  @Override
+  public boolean getRestartAllStreamingCalls() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.getRestartAllStreamingCalls()
+        : this.restartAllStreamingCalls;
+  }
+
+  /**
+   * @return The value of the {@code executor} attribute
+   */
+  @Override
+  public ScheduledExecutorService getExecutor() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.getExecutor()
+        : this.executor;
+  }
+
+  /**
+   * This instance is equal to all instances of {@code ImmutableRetryPolicy} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof ImmutableRetryPolicy
+        && equalTo((ImmutableRetryPolicy) another);
+  }
+
+  private boolean equalTo(ImmutableRetryPolicy another) {
+    return maxRetries == another.maxRetries
+        && backoffStrategy.equals(another.backoffStrategy)
+        && beforeRetry.equals(another.beforeRetry)
+        && restartAllStreamingCalls == another.restartAllStreamingCalls
+        && executor.equals(another.executor);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code maxRetries}, {@code backoffStrategy}, {@code beforeRetry}, {@code restartAllStreamingCalls}, {@code executor}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    @Var int h = 5381;
+    h += (h << 5) + maxRetries;
+    h += (h << 5) + backoffStrategy.hashCode();
+    h += (h << 5) + beforeRetry.hashCode();
+    h += (h << 5) + Booleans.hashCode(restartAllStreamingCalls);
+    h += (h << 5) + executor.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code RetryPolicy} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("RetryPolicy")
+        .omitNullValues()
+        .add("maxRetries", maxRetries)
+        .add("backoffStrategy", backoffStrategy)
+        .add("beforeRetry", beforeRetry)
+        .add("restartAllStreamingCalls", restartAllStreamingCalls)
+        .add("executor", executor)
+        .toString();
+  }
+
+  /**
+   * Builds instances of type {@link RetryPolicy RetryPolicy}.
+   * Initialize attributes and then invoke the {@link #build()} method to create an
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread-safe and generally should not be stored in a field or collection,
+   * but instead used immediately to create instances.</em>
+   */
+  @Generated(from = "RetryPolicy", generator = "Immutables")
+  @NotThreadSafe
+  public static class Builder {
+    private static final long OPT_BIT_MAX_RETRIES = 0x1L;
+    private static final long OPT_BIT_RESTART_ALL_STREAMING_CALLS = 0x2L;
+    private long optBits;
+
+    private int maxRetries;
+    private @Nullable Backoff.Strategy backoffStrategy;
+    private @Nullable Runnable beforeRetry;
+    private boolean restartAllStreamingCalls;
+    private @Nullable ScheduledExecutorService executor;
+
+    /**
+     * Creates a builder for {@link RetryPolicy RetryPolicy} instances.
+     */
+    public Builder() {
+      if (!(this instanceof RetryPolicy.Builder)) {
+        throw new UnsupportedOperationException("Use: new RetryPolicy.Builder()");
+      }
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code RetryPolicy} instance.
+     * Regular attribute values will be replaced with those from the given instance.
+     * Absent optional values will not replace present values.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final RetryPolicy.Builder from(RetryPolicy instance) {
+      Objects.requireNonNull(instance, "instance");
+      setMaxRetries(instance.getMaxRetries());
+      setBackoffStrategy(instance.getBackoffStrategy());
+      setBeforeRetry(instance.getBeforeRetry());
+      setRestartAllStreamingCalls(instance.getRestartAllStreamingCalls());
+      setExecutor(instance.getExecutor());
+      return (RetryPolicy.Builder) this;
+    }
+
+    /**
+     * Initializes the value for the {@link RetryPolicy#getMaxRetries() maxRetries} attribute.
+     * <p><em>If not set, this attribute will have a default value as returned by the initializer of {@link RetryPolicy#getMaxRetries() maxRetries}.</em>
+     * @param maxRetries The value for maxRetries 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final RetryPolicy.Builder setMaxRetries(int maxRetries) {
+      this.maxRetries = maxRetries;
+      optBits |= OPT_BIT_MAX_RETRIES;
+      return (RetryPolicy.Builder) this;
+    }
+
+    /**
+     * Initializes the value for the {@link RetryPolicy#getBackoffStrategy() backoffStrategy} attribute.
+     * <p><em>If not set, this attribute will have a default value as returned by the initializer of {@link RetryPolicy#getBackoffStrategy() backoffStrategy}.</em>
+     * @param backoffStrategy The value for backoffStrategy 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final RetryPolicy.Builder setBackoffStrategy(Backoff.Strategy backoffStrategy) {
+      this.backoffStrategy = Objects.requireNonNull(backoffStrategy, "backoffStrategy");
+      return (RetryPolicy.Builder) this;
+    }
+
+    /**
+     * Initializes the value for the {@link RetryPolicy#getBeforeRetry() beforeRetry} attribute.
+     * <p><em>If not set, this attribute will have a default value as returned by the initializer of {@link RetryPolicy#getBeforeRetry() beforeRetry}.</em>
+     * @param beforeRetry The value for beforeRetry 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final RetryPolicy.Builder setBeforeRetry(Runnable beforeRetry) {
+      this.beforeRetry = Objects.requireNonNull(beforeRetry, "beforeRetry");
+      return (RetryPolicy.Builder) this;
+    }
+
+    /**
+     * Initializes the value for the {@link RetryPolicy#getRestartAllStreamingCalls() restartAllStreamingCalls} attribute.
+     * <p><em>If not set, this attribute will have a default value as returned by the initializer of {@link RetryPolicy#getRestartAllStreamingCalls() restartAllStreamingCalls}.</em>
+     * @param restartAllStreamingCalls The value for restartAllStreamingCalls 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final RetryPolicy.Builder setRestartAllStreamingCalls(boolean restartAllStreamingCalls) {
+      this.restartAllStreamingCalls = restartAllStreamingCalls;
+      optBits |= OPT_BIT_RESTART_ALL_STREAMING_CALLS;
+      return (RetryPolicy.Builder) this;
+    }
+
+    /**
+     * Initializes the value for the {@link RetryPolicy#getExecutor() executor} attribute.
+     * <p><em>If not set, this attribute will have a default value as returned by the initializer of {@link RetryPolicy#getExecutor() executor}.</em>
+     * @param executor The value for executor 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final RetryPolicy.Builder setExecutor(ScheduledExecutorService executor) {
+      this.executor = Objects.requireNonNull(executor, "executor");
+      return (RetryPolicy.Builder) this;
+    }
+
+    /**
+     * Builds a new {@link RetryPolicy RetryPolicy}.
+     * @return An immutable instance of RetryPolicy
+     * @throws java.lang.IllegalStateException if any required attributes are missing
+     */
+    public RetryPolicy build() {
+      return new ImmutableRetryPolicy(this);
+    }
+
+    private boolean maxRetriesIsSet() {
+      return (optBits & OPT_BIT_MAX_RETRIES) != 0;
+    }
+
+    private boolean restartAllStreamingCallsIsSet() {
+      return (optBits & OPT_BIT_RESTART_ALL_STREAMING_CALLS) != 0;
+    }
+  }
+}
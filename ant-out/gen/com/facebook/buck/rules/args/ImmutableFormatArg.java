@@ -0,0 +1,99 @@
+package com.facebook.buck.rules.args;
+
+import com.google.common.base.MoreObjects;
+import com.google.errorprone.annotations.Var;
+import java.util.Objects;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import org.immutables.value.Generated;
+
+/**
+ * Immutable implementation of {@link FormatArg}.
+ * <p>
+ * Use the static factory method to create immutable instances:
+ * {@code ImmutableFormatArg.of()}.
+ */
+@Generated(from = "FormatArg", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+final class ImmutableFormatArg extends FormatArg {
+  private final Arg arg;
+  private final String formatString;
+
+  private ImmutableFormatArg(Arg arg, String formatString) {
+    this.arg = Objects.requireNonNull(arg, "arg");
+    this.formatString = Objects.requireNonNull(formatString, "formatString");
+  }
+
+  /**
+   * @return The value of the {@code arg} attribute
+   */
+  @Override
+  public Arg getArg() {
+    return arg;
+  }
+
+  /**
+   * @return The value of the {@code formatString} attribute
+   */
+  @Override
+  public String getFormatString() {
+    return formatString;
+  }
+
+  /**
+   * This instance is equal to all instances of {@code ImmutableFormatArg} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof ImmutableFormatArg
+        && equalTo((ImmutableFormatArg) another);
+  }
+
+  private boolean equalTo(ImmutableFormatArg another) {
+    return arg.equals(another.arg)
+        && formatString.equals(another.formatString);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code arg}, {@code formatString}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    @Var int h = 5381;
+    h += (h << 5) + arg.hashCode();
+    h += (h << 5) + formatString.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code FormatArg} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("FormatArg")
+        .omitNullValues()
+        .add("arg", arg)
+        .add("formatString", formatString)
+        .toString();
+  }
+
+  /**
+   * Construct a new immutable {@code FormatArg} instance.
+   * @param arg The value for the {@code arg} attribute
+   * @param formatString The value for the {@code formatString} attribute
+   * @return An immutable FormatArg instance
+   */
+  public static ImmutableFormatArg of(Arg arg, String formatString) {
+    return new ImmutableFormatArg(arg, formatString);
+  }
+}
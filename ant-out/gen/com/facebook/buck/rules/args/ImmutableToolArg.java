@@ -0,0 +1,86 @@
+package com.facebook.buck.rules.args;
+
+import com.facebook.buck.core.toolchain.tool.Tool;
+import com.google.common.base.MoreObjects;
+import com.google.errorprone.annotations.Var;
+import java.util.Objects;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import org.immutables.value.Generated;
+
+/**
+ * Immutable implementation of {@link ToolArg}.
+ * <p>
+ * Use the static factory method to create immutable instances:
+ * {@code ImmutableToolArg.of()}.
+ */
+@Generated(from = "ToolArg", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+final class ImmutableToolArg implements ToolArg {
+  private final Tool tool;
+
+  private ImmutableToolArg(Tool tool) {
+    this.tool = Objects.requireNonNull(tool, "tool");
+  }
+
+  /**
+   * @return The value of the {@code tool} attribute
+   */
+  @Override
+  public Tool getTool() {
+    return tool;
+  }
+
+  /**
+   * This instance is equal to all instances of {@code ImmutableToolArg} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof ImmutableToolArg
+        && equalTo((ImmutableToolArg) another);
+  }
+
+  private boolean equalTo(ImmutableToolArg another) {
+    return tool.equals(another.tool);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code tool}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    @Var int h = 5381;
+    h += (h << 5) + tool.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code ToolArg} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("ToolArg")
+        .omitNullValues()
+        .add("tool", tool)
+        .toString();
+  }
+
+  /**
+   * Construct a new immutable {@code ToolArg} instance.
+   * @param tool The value for the {@code tool} attribute
+   * @return An immutable ToolArg instance
+   */
+  public static ImmutableToolArg of(Tool tool) {
+    return new ImmutableToolArg(tool);
+  }
+}
@@ -0,0 +1,450 @@
+package com.facebook.buck.rules.coercer;
+
+import com.fasterxml.jackson.annotation.JsonAutoDetect;
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.ImmutableMap;
+import com.google.errorprone.annotations.CanIgnoreReturnValue;
+import com.google.errorprone.annotations.Var;
+import java.util.Objects;
+import java.util.Optional;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+import org.immutables.value.Generated;
+
+/**
+ * Immutable implementation of {@link ManifestEntries}.
+ * <p>
+ * Use the builder to create immutable instances:
+ * {@code new ManifestEntries.Builder()}.
+ */
+@Generated(from = "ManifestEntries", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+final class ImmutableManifestEntries extends ManifestEntries {
+  private final @Nullable Integer minSdkVersion;
+  private final @Nullable Integer targetSdkVersion;
+  private final @Nullable Integer versionCode;
+  private final @Nullable String versionName;
+  private final @Nullable Boolean debugMode;
+  private final @Nullable ImmutableMap<String, String> placeholders;
+
+  private ImmutableManifestEntries(ImmutableManifestEntries.Builder builder) {
+    this.minSdkVersion = builder.minSdkVersion;
+    this.targetSdkVersion = builder.targetSdkVersion;
+    this.versionCode = builder.versionCode;
+    this.versionName = builder.versionName;
+    this.debugMode = builder.debugMode;
+    this.placeholders = builder.placeholders;
+  }
+
+  /**
+   * @return The value of the {@code minSdkVersion} attribute
+   */
+  @JsonProperty
+  @Override
+  public Optional<Integer> getMinSdkVersion() {
+    return Optional.ofNullable(minSdkVersion);
+  }
+
+  /**
+   * @return The value of the {@code targetSdkVersion} attribute
+   */
+  @JsonProperty
+  @Override
+  public Optional<Integer> getTargetSdkVersion() {
+    return Optional.ofNullable(targetSdkVersion);
+  }
+
+  /**
+   * @return The value of the {@code versionCode} attribute
+   */
+  @JsonProperty
+  @Override
+  public Optional<Integer> getVersionCode() {
+    return Optional.ofNullable(versionCode);
+  }
+
+  /**
+   * @return The value of the {@code versionName} attribute
+   */
+  @JsonProperty
+  @Override
+  public Optional<String> getVersionName() {
+    return Optional.ofNullable(versionName);
+  }
+
+  /**
+   * @return The value of the {@code debugMode} attribute
+   */
+  @JsonProperty
+  @Override
+  public Optional<Boolean> getDebugMode() {
+    return Optional.ofNullable(debugMode);
+  }
+
+  /**
+   * @return The value of the {@code placeholders} attribute
+   */
+  @JsonProperty
+  @Override
+  public Optional<ImmutableMap<String, String>> getPlaceholders() {
+    return Optional.ofNullable(placeholders);
+  }
+
+  /**
+   * This instance is equal to all instances of {@code ImmutableManifestEntries} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof ImmutableManifestEntries
+        && equalTo((ImmutableManifestEntries) another);
+  }
+
+  private boolean equalTo(ImmutableManifestEntries another) {
+    return Objects.equals(minSdkVersion, another.minSdkVersion)
+        && Objects.equals(targetSdkVersion, another.targetSdkVersion)
+        && Objects.equals(versionCode, another.versionCode)
+        && Objects.equals(versionName, another.versionName)
+        && Objects.equals(debugMode, another.debugMode)
+        && Objects.equals(placeholders, another.placeholders);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code minSdkVersion}, {@code targetSdkVersion}, {@code versionCode}, {@code versionName}, {@code debugMode}, {@code placeholders}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    @Var int h = 5381;
+    h += (h << 5) + Objects.hashCode(minSdkVersion);
+    h += (h << 5) + Objects.hashCode(targetSdkVersion);
+    h += (h << 5) + Objects.hashCode(versionCode);
+    h += (h << 5) + Objects.hashCode(versionName);
+    h += (h << 5) + Objects.hashCode(debugMode);
+    h += (h << 5) + Objects.hashCode(placeholders);
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code ManifestEntries} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("ManifestEntries")
+        .omitNullValues()
+        .add("minSdkVersion", minSdkVersion)
+        .add("targetSdkVersion", targetSdkVersion)
+        .add("versionCode", versionCode)
+        .add("versionName", versionName)
+        .add("debugMode", debugMode)
+        .add("placeholders", placeholders)
+        .toString();
+  }
+
+  /**
+   * Utility type used to correctly read immutable object from JSON representation.
+   * @deprecated Do not use this type directly, it exists only for the <em>Jackson</em>-binding infrastructure
+   */
+  @Generated(from = "ManifestEntries", generator = "Immutables")
+  @Deprecated
+  @SuppressWarnings("Immutable")
+  @JsonDeserialize
+  @JsonAutoDetect(fieldVisibility = JsonAutoDetect.Visibility.NONE)
+  static final class Json extends ManifestEntries {
+    @Nullable Optional<Integer> minSdkVersion = Optional.empty();
+    @Nullable Optional<Integer> targetSdkVersion = Optional.empty();
+    @Nullable Optional<Integer> versionCode = Optional.empty();
+    @Nullable Optional<String> versionName = Optional.empty();
+    @Nullable Optional<Boolean> debugMode = Optional.empty();
+    @Nullable Optional<ImmutableMap<String, String>> placeholders = Optional.empty();
+    @JsonProperty
+    public void setMinSdkVersion(Optional<Integer> minSdkVersion) {
+      this.minSdkVersion = minSdkVersion;
+    }
+    @JsonProperty
+    public void setTargetSdkVersion(Optional<Integer> targetSdkVersion) {
+      this.targetSdkVersion = targetSdkVersion;
+    }
+    @JsonProperty
+    public void setVersionCode(Optional<Integer> versionCode) {
+      this.versionCode = versionCode;
+    }
+    @JsonProperty
+    public void setVersionName(Optional<String> versionName) {
+      this.versionName = versionName;
+    }
+    @JsonProperty
+    public void setDebugMode(Optional<Boolean> debugMode) {
+      this.debugMode = debugMode;
+    }
+    @JsonProperty
+    public void setPlaceholders(Optional<ImmutableMap<String, String>> placeholders) {
+      this.placeholders = placeholders;
+    }
+    @Override
+    public Optional<Integer> getMinSdkVersion() { throw new UnsupportedOperationException(); }
+    @Override
+    public Optional<Integer> getTargetSdkVersion() { throw new UnsupportedOperationException(); }
+    @Override
+    public Optional<Integer> getVersionCode() { throw new UnsupportedOperationException(); }
+    @Override
+    public Optional<String> getVersionName() { throw new UnsupportedOperationException(); }
+    @Override
+    public Optional<Boolean> getDebugMode() { throw new UnsupportedOperationException(); }
+    @Override
+    public Optional<ImmutableMap<String, String>> getPlaceholders() { throw new UnsupportedOperationException(); }
+  }
+
+  /**
+   * @param json A JSON-bindable data structure
+   * @return An immutable value type
+   * @deprecated Do not use this method directly, it exists only for the <em>Jackson</em>-binding infrastructure
+   */
+  @Deprecated
+  @JsonCreator(mode = JsonCreator.Mode.DELEGATING)
+  static ImmutableManifestEntries fromJson(Json json) {
+    ManifestEntries.Builder builder = new ManifestEntries.Builder();
+    if (json.minSdkVersion != null) {
+      builder.setMinSdkVersion(json.minSdkVersion);
+    }
+    if (json.targetSdkVersion != null) {
+      builder.setTargetSdkVersion(json.targetSdkVersion);
+    }
+    if (json.versionCode != null) {
+      builder.setVersionCode(json.versionCode);
+    }
+    if (json.versionName != null) {
+      builder.setVersionName(json.versionName);
+    }
+    if (json.debugMode != null) {
+      builder.setDebugMode(json.debugMode);
+    }
+    if (json.placeholders != null) {
+      builder.setPlaceholders(json.placeholders);
+    }
+    return (ImmutableManifestEntries) builder.build();
+  }
+
+  /**
+   * Builds instances of type {@link ManifestEntries ManifestEntries}.
+   * Initialize attributes and then invoke the {@link #build()} method to create an
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread-safe and generally should not be stored in a field or collection,
+   * but instead used immediately to create instances.</em>
+   */
+  @Generated(from = "ManifestEntries", generator = "Immutables")
+  @NotThreadSafe
+  public static class Builder {
+    private @Nullable Integer minSdkVersion;
+    private @Nullable Integer targetSdkVersion;
+    private @Nullable Integer versionCode;
+    private @Nullable String versionName;
+    private @Nullable Boolean debugMode;
+    private @Nullable ImmutableMap<String, String> placeholders;
+
+    /**
+     * Creates a builder for {@link ManifestEntries ManifestEntries} instances.
+     */
+    public Builder() {
+      if (!(this instanceof ManifestEntries.Builder)) {
+        throw new UnsupportedOperationException("Use: new ManifestEntries.Builder()");
+      }
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code ManifestEntries} instance.
+     * Regular attribute values will be replaced with those from the given instance.
+     * Absent optional values will not replace present values.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final ManifestEntries.Builder from(ManifestEntries instance) {
+      Objects.requireNonNull(instance, "instance");
+      Optional<Integer> minSdkVersionOptional = instance.getMinSdkVersion();
+      if (minSdkVersionOptional.isPresent()) {
+        setMinSdkVersion(minSdkVersionOptional);
+      }
+      Optional<Integer> targetSdkVersionOptional = instance.getTargetSdkVersion();
+      if (targetSdkVersionOptional.isPresent()) {
+        setTargetSdkVersion(targetSdkVersionOptional);
+      }
+      Optional<Integer> versionCodeOptional = instance.getVersionCode();
+      if (versionCodeOptional.isPresent()) {
+        setVersionCode(versionCodeOptional);
+      }
+      Optional<String> versionNameOptional = instance.getVersionName();
+      if (versionNameOptional.isPresent()) {
+        setVersionName(versionNameOptional);
+      }
+      Optional<Boolean> debugModeOptional = instance.getDebugMode();
+      if (debugModeOptional.isPresent()) {
+        setDebugMode(debugModeOptional);
+      }
+      Optional<ImmutableMap<String, String>> placeholdersOptional = instance.getPlaceholders();
+      if (placeholdersOptional.isPresent()) {
+        setPlaceholders(placeholdersOptional);
+      }
+      return (ManifestEntries.Builder) this;
+    }
+
+    /**
+     * Initializes the optional value {@link ManifestEntries#getMinSdkVersion() minSdkVersion} to minSdkVersion.
+     * @param minSdkVersion The value for minSdkVersion
+     * @return {@code this} builder for chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final ManifestEntries.Builder setMinSdkVersion(int minSdkVersion) {
+      this.minSdkVersion = minSdkVersion;
+      return (ManifestEntries.Builder) this;
+    }
+
+    /**
+     * Initializes the optional value {@link ManifestEntries#getMinSdkVersion() minSdkVersion} to minSdkVersion.
+     * @param minSdkVersion The value for minSdkVersion
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    @JsonProperty
+    public final ManifestEntries.Builder setMinSdkVersion(Optional<Integer> minSdkVersion) {
+      this.minSdkVersion = minSdkVersion.orElse(null);
+      return (ManifestEntries.Builder) this;
+    }
+
+    /**
+     * Initializes the optional value {@link ManifestEntries#getTargetSdkVersion() targetSdkVersion} to targetSdkVersion.
+     * @param targetSdkVersion The value for targetSdkVersion
+     * @return {@code this} builder for chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final ManifestEntries.Builder setTargetSdkVersion(int targetSdkVersion) {
+      this.targetSdkVersion = targetSdkVersion;
+      return (ManifestEntries.Builder) this;
+    }
+
+    /**
+     * Initializes the optional value {@link ManifestEntries#getTargetSdkVersion() targetSdkVersion} to targetSdkVersion.
+     * @param targetSdkVersion The value for targetSdkVersion
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    @JsonProperty
+    public final ManifestEntries.Builder setTargetSdkVersion(Optional<Integer> targetSdkVersion) {
+      this.targetSdkVersion = targetSdkVersion.orElse(null);
+      return (ManifestEntries.Builder) this;
+    }
+
+    /**
+     * Initializes the optional value {@link ManifestEntries#getVersionCode() versionCode} to versionCode.
+     * @param versionCode The value for versionCode
+     * @return {@code this} builder for chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final ManifestEntries.Builder setVersionCode(int versionCode) {
+      this.versionCode = versionCode;
+      return (ManifestEntries.Builder) this;
+    }
+
+    /**
+     * Initializes the optional value {@link ManifestEntries#getVersionCode() versionCode} to versionCode.
+     * @param versionCode The value for versionCode
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    @JsonProperty
+    public final ManifestEntries.Builder setVersionCode(Optional<Integer> versionCode) {
+      this.versionCode = versionCode.orElse(null);
+      return (ManifestEntries.Builder) this;
+    }
+
+    /**
+     * Initializes the optional value {@link ManifestEntries#getVersionName() versionName} to versionName.
+     * @param versionName The value for versionName
+     * @return {@code this} builder for chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final ManifestEntries.Builder setVersionName(String versionName) {
+      this.versionName = Objects.requireNonNull(versionName, "versionName");
+      return (ManifestEntries.Builder) this;
+    }
+
+    /**
+     * Initializes the optional value {@link ManifestEntries#getVersionName() versionName} to versionName.
+     * @param versionName The value for versionName
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    @JsonProperty
+    public final ManifestEntries.Builder setVersionName(Optional<String> versionName) {
+      this.versionName = versionName.orElse(null);
+      return (ManifestEntries.Builder) this;
+    }
+
+    /**
+     * Initializes the optional value {@link ManifestEntries#getDebugMode() debugMode} to debugMode.
+     * @param debugMode The value for debugMode
+     * @return {@code this} builder for chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final ManifestEntries.Builder setDebugMode(boolean debugMode) {
+      this.debugMode = debugMode;
+      return (ManifestEntries.Builder) this;
+    }
+
+    /**
+     * Initializes the optional value {@link ManifestEntries#getDebugMode() debugMode} to debugMode.
+     * @param debugMode The value for debugMode
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    @JsonProperty
+    public final ManifestEntries.Builder setDebugMode(Optional<Boolean> debugMode) {
+      this.debugMode = debugMode.orElse(null);
+      return (ManifestEntries.Builder) this;
+    }
+
+    /**
+     * Initializes the optional value {@link ManifestEntries#getPlaceholders() placeholders} to placeholders.
+     * @param placeholders The value for placeholders
+     * @return {@code this} builder for chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final ManifestEntries.Builder setPlaceholders(ImmutableMap<String, String> placeholders) {
+      this.placeholders = Objects.requireNonNull(placeholders, "placeholders");
+      return (ManifestEntries.Builder) this;
+    }
+
+    /**
+     * Initializes the optional value {@link ManifestEntries#getPlaceholders() placeholders} to placeholders.
+     * @param placeholders The value for placeholders
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    @JsonProperty
+    public final ManifestEntries.Builder setPlaceholders(Optional<? extends ImmutableMap<String, String>> placeholders) {
+      this.placeholders = placeholders.orElse(null);
+      return (ManifestEntries.Builder) this;
+    }
+
+    /**
+     * Builds a new {@link ManifestEntries ManifestEntries}.
+     * @return An immutable instance of ManifestEntries
+     * @throws java.lang.IllegalStateException if any required attributes are missing
+     */
+    public ManifestEntries build() {
+      return new ImmutableManifestEntries(this);
+    }
+  }
+}
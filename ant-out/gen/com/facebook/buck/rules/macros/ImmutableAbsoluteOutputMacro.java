@@ -0,0 +1,85 @@
+package com.facebook.buck.rules.macros;
+
+import com.google.common.base.MoreObjects;
+import com.google.errorprone.annotations.Var;
+import java.util.Objects;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import org.immutables.value.Generated;
+
+/**
+ * Immutable implementation of {@link AbsoluteOutputMacro}.
+ * <p>
+ * Use the static factory method to create immutable instances:
+ * {@code ImmutableAbsoluteOutputMacro.of()}.
+ */
+@Generated(from = "AbsoluteOutputMacro", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+final class ImmutableAbsoluteOutputMacro extends AbsoluteOutputMacro {
+  private final String outputName;
+
+  private ImmutableAbsoluteOutputMacro(String outputName) {
+    this.outputName = Objects.requireNonNull(outputName, "outputName");
+  }
+
+  /**
+   * @return The value of the {@code outputName} attribute
+   */
+  @Override
+  public String getOutputName() {
+    return outputName;
+  }
+
+  /**
+   * This instance is equal to all instances of {@code ImmutableAbsoluteOutputMacro} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof ImmutableAbsoluteOutputMacro
+        && equalTo((ImmutableAbsoluteOutputMacro) another);
+  }
+
+  private boolean equalTo(ImmutableAbsoluteOutputMacro another) {
+    return outputName.equals(another.outputName);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code outputName}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    @Var int h = 5381;
+    h += (h << 5) + outputName.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code AbsoluteOutputMacro} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("AbsoluteOutputMacro")
+        .omitNullValues()
+        .add("outputName", outputName)
+        .toString();
+  }
+
+  /**
+   * Construct a new immutable {@code AbsoluteOutputMacro} instance.
+   * @param outputName The value for the {@code outputName} attribute
+   * @return An immutable AbsoluteOutputMacro instance
+   */
+  public static ImmutableAbsoluteOutputMacro of(String outputName) {
+    return new ImmutableAbsoluteOutputMacro(outputName);
+  }
+}
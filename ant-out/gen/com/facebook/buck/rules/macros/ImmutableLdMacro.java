@@ -0,0 +1,63 @@
+package com.facebook.buck.rules.macros;
+
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import org.immutables.value.Generated;
+
+/**
+ * Immutable implementation of {@link LdMacro}.
+ * <p>
+ * Use the static factory method to get the default singleton instance:
+ * {@code ImmutableLdMacro.of()}.
+ */
+@Generated(from = "LdMacro", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+final class ImmutableLdMacro extends LdMacro {
+
+  private ImmutableLdMacro() {}
+
+  /**
+   * This instance is equal to all instances of {@code ImmutableLdMacro} that have equal attribute values.
+   * As instances of the {@code ImmutableLdMacro} class are interned, the {@code equals} method is implemented
+   * as an efficient reference equality check.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    return this == another;
+  }
+
+  /**
+   * Returns a constant hash code value.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    return -1290502981;
+  }
+
+  /**
+   * Prints the immutable value {@code LdMacro}.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return "LdMacro{}";
+  }
+
+  private static final ImmutableLdMacro INSTANCE = new ImmutableLdMacro();
+
+  /**
+   * Returns the default immutable singleton value of {@code LdMacro}
+   * @return An immutable instance of LdMacro
+   */
+  public static ImmutableLdMacro of() {
+    return INSTANCE;
+  }
+}
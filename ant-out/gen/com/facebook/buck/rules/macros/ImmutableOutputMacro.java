@@ -0,0 +1,85 @@
+package com.facebook.buck.rules.macros;
+
+import com.google.common.base.MoreObjects;
+import com.google.errorprone.annotations.Var;
+import java.util.Objects;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import org.immutables.value.Generated;
+
+/**
+ * Immutable implementation of {@link OutputMacro}.
+ * <p>
+ * Use the static factory method to create immutable instances:
+ * {@code ImmutableOutputMacro.of()}.
+ */
+@Generated(from = "OutputMacro", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+final class ImmutableOutputMacro extends OutputMacro {
+  private final String outputName;
+
+  private ImmutableOutputMacro(String outputName) {
+    this.outputName = Objects.requireNonNull(outputName, "outputName");
+  }
+
+  /**
+   * @return The value of the {@code outputName} attribute
+   */
+  @Override
+  public String getOutputName() {
+    return outputName;
+  }
+
+  /**
+   * This instance is equal to all instances of {@code ImmutableOutputMacro} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof ImmutableOutputMacro
+        && equalTo((ImmutableOutputMacro) another);
+  }
+
+  private boolean equalTo(ImmutableOutputMacro another) {
+    return outputName.equals(another.outputName);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code outputName}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    @Var int h = 5381;
+    h += (h << 5) + outputName.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code OutputMacro} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("OutputMacro")
+        .omitNullValues()
+        .add("outputName", outputName)
+        .toString();
+  }
+
+  /**
+   * Construct a new immutable {@code OutputMacro} instance.
+   * @param outputName The value for the {@code outputName} attribute
+   * @return An immutable OutputMacro instance
+   */
+  public static ImmutableOutputMacro of(String outputName) {
+    return new ImmutableOutputMacro(outputName);
+  }
+}
@@ -0,0 +1,101 @@
+package com.facebook.buck.rules.macros;
+
+import com.facebook.buck.rules.query.Query;
+import com.google.common.base.MoreObjects;
+import com.google.errorprone.annotations.Var;
+import java.util.Objects;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import org.immutables.value.Generated;
+
+/**
+ * Immutable implementation of {@link QueryTargetsAndOutputsMacro}.
+ * <p>
+ * Use the static factory method to create immutable instances:
+ * {@code ImmutableQueryTargetsAndOutputsMacro.of()}.
+ */
+@Generated(from = "QueryTargetsAndOutputsMacro", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+final class ImmutableQueryTargetsAndOutputsMacro
+    extends QueryTargetsAndOutputsMacro {
+  private final String separator;
+  private final Query query;
+
+  private ImmutableQueryTargetsAndOutputsMacro(String separator, Query query) {
+    this.separator = Objects.requireNonNull(separator, "separator");
+    this.query = Objects.requireNonNull(query, "query");
+  }
+
+  /**
+   * @return The value of the {@code separator} attribute
+   */
+  @Override
+  String getSeparator() {
+    return separator;
+  }
+
+  /**
+   * @return The value of the {@code query} attribute
+   */
+  @Override
+  public Query getQuery() {
+    return query;
+  }
+
+  /**
+   * This instance is equal to all instances of {@code ImmutableQueryTargetsAndOutputsMacro} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof ImmutableQueryTargetsAndOutputsMacro
+        && equalTo((ImmutableQueryTargetsAndOutputsMacro) another);
+  }
+
+  private boolean equalTo(ImmutableQueryTargetsAndOutputsMacro another) {
+    return separator.equals(another.separator)
+        && query.equals(another.query);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code separator}, {@code query}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    @Var int h = 5381;
+    h += (h << 5) + separator.hashCode();
+    h += (h << 5) + query.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code QueryTargetsAndOutputsMacro} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("QueryTargetsAndOutputsMacro")
+        .omitNullValues()
+        .add("separator", separator)
+        .add("query", query)
+        .toString();
+  }
+
+  /**
+   * Construct a new immutable {@code QueryTargetsAndOutputsMacro} instance.
+   * @param separator The value for the {@code separator} attribute
+   * @param query The value for the {@code query} attribute
+   * @return An immutable QueryTargetsAndOutputsMacro instance
+   */
+  public static ImmutableQueryTargetsAndOutputsMacro of(String separator, Query query) {
+    return new ImmutableQueryTargetsAndOutputsMacro(separator, query);
+  }
+}
@@ -0,0 +1,195 @@
+package com.facebook.buck.rules.macros;
+
+import com.facebook.buck.core.cell.nameresolver.CellNameResolver;
+import com.facebook.buck.core.model.BuildTarget;
+import com.facebook.buck.core.rules.ActionGraphBuilder;
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import com.google.errorprone.annotations.Var;
+import java.util.HashMap;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Function;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import org.immutables.value.Generated;
+
+/**
+ * Immutable implementation of {@link StringWithMacrosConverter}.
+ * <p>
+ * Use the static factory method to create immutable instances:
+ * {@code ImmutableStringWithMacrosConverter.of()}.
+ */
+@Generated(from = "StringWithMacrosConverter", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+final class ImmutableStringWithMacrosConverter
+    extends StringWithMacrosConverter {
+  private final BuildTarget buildTarget;
+  private final CellNameResolver cellNameResolver;
+  private final ActionGraphBuilder actionGraphBuilder;
+  private final ImmutableList<MacroExpander<? extends Macro, ?>> expanders;
+  private final @Nullable Function<String, String> sanitizer;
+  private final HashMap<Macro, Object> precomputedWorkCache;
+  private transient final ImmutableMap<Class<? extends Macro>, MacroExpander<? extends Macro, ?>> classExpanders;
+
+  @SuppressWarnings("unchecked") // safe covariant cast
+  private ImmutableStringWithMacrosConverter(
+      BuildTarget buildTarget,
+      CellNameResolver cellNameResolver,
+      ActionGraphBuilder actionGraphBuilder,
+      Iterable<? extends MacroExpander<? extends Macro, ?>> expanders,
+      Optional<? extends Function<String, String>> sanitizer,
+      HashMap<Macro, Object> precomputedWorkCache) {
+    this.buildTarget = Objects.requireNonNull(buildTarget, "buildTarget");
+    this.cellNameResolver = Objects.requireNonNull(cellNameResolver, "cellNameResolver");
+    this.actionGraphBuilder = Objects.requireNonNull(actionGraphBuilder, "actionGraphBuilder");
+    this.expanders = ImmutableList.copyOf(expanders);
+    this.sanitizer = sanitizer.orElse(null);
+    this.precomputedWorkCache = Objects.requireNonNull(precomputedWorkCache, "precomputedWorkCache");
+    this.classExpanders = Objects.requireNonNull(super.getClassExpanders(), "classExpanders");
+  }
+
+  /**
+   * @return The value of the {@code buildTarget} attribute
+   */
+  @Override
+  public BuildTarget getBuildTarget() {
+    return buildTarget;
+  }
+
+  /**
+   * @return The value of the {@code cellNameResolver} attribute
+   */
+  @Override
+  protected CellNameResolver getCellNameResolver() {
+    return cellNameResolver;
+  }
+
+  /**
+   * @return The value of the {@code actionGraphBuilder} attribute
+   */
+  @Override
+  public ActionGraphBuilder getActionGraphBuilder() {
+    return actionGraphBuilder;
+  }
+
+  /**
+   * @return The value of the {@code expanders} attribute
+   */
+  @Override
+  public ImmutableList<MacroExpander<? extends Macro, ?>> getExpanders() {
+    return expanders;
+  }
+
+  /**
+   * @return The value of the {@code sanitizer} attribute
+   */
+  @Override
+  public Optional<Function<String, String>> getSanitizer() {
+    return Optional.ofNullable(sanitizer);
+  }
+
+  /**
+   * @return The value of the {@code precomputedWorkCache} attribute
+   */
+  @Override
+  public HashMap<Macro, Object> getPrecomputedWorkCache() {
+    return precomputedWorkCache;
+  }
+
+  /**
+   * @return The computed-at-construction value of the {@code classExpanders} attribute
+   */
+  @Override
+  public ImmutableMap<Class<? extends Macro>, MacroExpander<? extends Macro, ?>> getClassExpanders() {
+    return classExpanders;
+  }
+
+  /**
+   * This instance is equal to all instances of {@code ImmutableStringWithMacrosConverter} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof ImmutableStringWithMacrosConverter
+        && equalTo((ImmutableStringWithMacrosConverter) another);
+  }
+
+  private boolean equalTo(ImmutableStringWithMacrosConverter another) {
+    return buildTarget.equals(another.buildTarget)
+        && cellNameResolver.equals(another.cellNameResolver)
+        && actionGraphBuilder.equals(another.actionGraphBuilder)
+        && expanders.equals(another.expanders)
+        && Objects.equals(sanitizer, another.sanitizer)
+        && classExpanders.equals(another.classExpanders);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code buildTarget}, {@code cellNameResolver}, {@code actionGraphBuilder}, {@code expanders}, {@code sanitizer}, {@code classExpanders}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    @Var int h = 5381;
+    h += (h << 5) + buildTarget.hashCode();
+    h += (h << 5) + cellNameResolver.hashCode();
+    h += (h << 5) + actionGraphBuilder.hashCode();
+    h += (h << 5) + expanders.hashCode();
+    h += (h << 5) + Objects.hashCode(sanitizer);
+    h += (h << 5) + classExpanders.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code StringWithMacrosConverter} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("StringWithMacrosConverter")
+        .omitNullValues()
+        .add("buildTarget", buildTarget)
+        .add("cellNameResolver", cellNameResolver)
+        .add("actionGraphBuilder", actionGraphBuilder)
+        .add("expanders", expanders)
+        .add("sanitizer", sanitizer)
+        .add("classExpanders", classExpanders)
+        .toString();
+  }
+
+  /**
+   * Construct a new immutable {@code StringWithMacrosConverter} instance.
+   * @param buildTarget The value for the {@code buildTarget} attribute
+   * @param cellNameResolver The value for the {@code cellNameResolver} attribute
+   * @param actionGraphBuilder The value for the {@code actionGraphBuilder} attribute
+   * @param expanders The value for the {@code expanders} attribute
+   * @param sanitizer The value for the {@code sanitizer} attribute
+   * @param precomputedWorkCache The value for the {@code precomputedWorkCache} attribute
+   * @return An immutable StringWithMacrosConverter instance
+   */
+  public static ImmutableStringWithMacrosConverter of(BuildTarget buildTarget, CellNameResolver cellNameResolver, ActionGraphBuilder actionGraphBuilder, ImmutableList<MacroExpander<? extends Macro, ?>> expanders, Optional<Function<String, String>> sanitizer, HashMap<Macro, Object> precomputedWorkCache) {
+    return of(buildTarget, cellNameResolver, actionGraphBuilder, (Iterable<? extends MacroExpander<? extends Macro, ?>>) expanders, sanitizer, precomputedWorkCache);
+  }
+
+  /**
+   * Construct a new immutable {@code StringWithMacrosConverter} instance.
+   * @param buildTarget The value for the {@code buildTarget} attribute
+   * @param cellNameResolver The value for the {@code cellNameResolver} attribute
+   * @param actionGraphBuilder The value for the {@code actionGraphBuilder} attribute
+   * @param expanders The value for the {@code expanders} attribute
+   * @param sanitizer The value for the {@code sanitizer} attribute
+   * @param precomputedWorkCache The value for the {@code precomputedWorkCache} attribute
+   * @return An immutable StringWithMacrosConverter instance
+   */
+  public static ImmutableStringWithMacrosConverter of(BuildTarget buildTarget, CellNameResolver cellNameResolver, ActionGraphBuilder actionGraphBuilder, Iterable<? extends MacroExpander<? extends Macro, ?>> expanders, Optional<? extends Function<String, String>> sanitizer, HashMap<Macro, Object> precomputedWorkCache) {
+    return new ImmutableStringWithMacrosConverter(buildTarget, cellNameResolver, actionGraphBuilder, expanders, sanitizer, precomputedWorkCache);
+  }
+}
@@ -0,0 +1,150 @@
+package com.facebook.buck.rules.query;
+
+import com.facebook.buck.core.model.BaseName;
+import com.facebook.buck.core.model.BuildTarget;
+import com.facebook.buck.core.model.TargetConfiguration;
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.ImmutableSortedSet;
+import com.google.common.collect.Ordering;
+import com.google.errorprone.annotations.Var;
+import java.util.Objects;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import org.immutables.value.Generated;
+
+/**
+ * Immutable implementation of {@link Query}.
+ * <p>
+ * Use the static factory method to create immutable instances:
+ * {@code ImmutableQuery.of()}.
+ */
+@Generated(from = "Query", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+final class ImmutableQuery extends Query {
+  private final String query;
+  private final TargetConfiguration targetConfiguration;
+  private final BaseName baseName;
+  private final @Nullable ImmutableSortedSet<BuildTarget> resolvedQuery;
+
+  private ImmutableQuery(
+      String query,
+      TargetConfiguration targetConfiguration,
+      BaseName baseName,
+      @Nullable Iterable<? extends BuildTarget> resolvedQuery) {
+    this.query = Objects.requireNonNull(query, "query");
+    this.targetConfiguration = Objects.requireNonNull(targetConfiguration, "targetConfiguration");
+    this.baseName = Objects.requireNonNull(baseName, "baseName");
+    this.resolvedQuery = resolvedQuery == null ? null : ImmutableSortedSet.copyOf(
+        Ordering.<BuildTarget>natural(),
+        resolvedQuery);
+  }
+
+  /**
+   * @return The value of the {@code query} attribute
+   */
+  @Override
+  public String getQuery() {
+    return query;
+  }
+
+  /**
+   * @return The value of the {@code targetConfiguration} attribute
+   */
+  @Override
+  public TargetConfiguration getTargetConfiguration() {
+    return targetConfiguration;
+  }
+
+  /**
+   * @return The value of the {@code baseName} attribute
+   */
+  @Override
+  public BaseName getBaseName() {
+    return baseName;
+  }
+
+  /**
+   * @return The value of the {@code resolvedQuery} attribute
+   */
+  @Override
+  public @Nullable ImmutableSortedSet<BuildTarget> getResolvedQuery() {
+    return resolvedQuery;
+  }
+
+  /**
+   * This instance is equal to all instances of {@code ImmutableQuery} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof ImmutableQuery
+        && equalTo((ImmutableQuery) another);
+  }
+
+  private boolean equalTo(ImmutableQuery another) {
+    return query.equals(another.query)
+        && targetConfiguration.equals(another.targetConfiguration)
+        && baseName.equals(another.baseName)
+        && Objects.equals(resolvedQuery, another.resolvedQuery);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code query}, {@code targetConfiguration}, {@code baseName}, {@code resolvedQuery}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    @Var int h = 5381;
+    h += (h << 5) + query.hashCode();
+    h += (h << 5) + targetConfiguration.hashCode();
+    h += (h << 5) + baseName.hashCode();
+    h += (h << 5) + Objects.hashCode(resolvedQuery);
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code Query} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("Query")
+        .omitNullValues()
+        .add("query", query)
+        .add("targetConfiguration", targetConfiguration)
+        .add("baseName", baseName)
+        .add("resolvedQuery", resolvedQuery)
+        .toString();
+  }
+
+  /**
+   * Construct a new immutable {@code Query} instance.
+   * @param query The value for the {@code query} attribute
+   * @param targetConfiguration The value for the {@code targetConfiguration} attribute
+   * @param baseName The value for the {@code baseName} attribute
+   * @param resolvedQuery The value for the {@code resolvedQuery} attribute
+   * @return An immutable Query instance
+   */
+  public static ImmutableQuery of(String query, TargetConfiguration targetConfiguration, BaseName baseName, @Nullable ImmutableSortedSet<BuildTarget> resolvedQuery) {
+    return of(query, targetConfiguration, baseName, (Iterable<? extends BuildTarget>) resolvedQuery);
+  }
+
+  /**
+   * Construct a new immutable {@code Query} instance.
+   * @param query The value for the {@code query} attribute
+   * @param targetConfiguration The value for the {@code targetConfiguration} attribute
+   * @param baseName The value for the {@code baseName} attribute
+   * @param resolvedQuery The value for the {@code resolvedQuery} attribute
+   * @return An immutable Query instance
+   */
+  public static ImmutableQuery of(String query, TargetConfiguration targetConfiguration, BaseName baseName, @Nullable Iterable<? extends BuildTarget> resolvedQuery) {
+    return new ImmutableQuery(query, targetConfiguration, baseName, resolvedQuery);
+  }
+}
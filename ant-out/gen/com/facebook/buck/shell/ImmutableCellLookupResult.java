@@ -0,0 +1,101 @@
+package com.facebook.buck.shell;
+
+import com.google.common.base.MoreObjects;
+import com.google.errorprone.annotations.Var;
+import java.nio.file.Path;
+import java.util.Objects;
+import java.util.Optional;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import org.immutables.value.Generated;
+
+/**
+ * Immutable implementation of {@link ShBinary.CellLookupResult}.
+ * <p>
+ * Use the static factory method to create immutable instances:
+ * {@code ImmutableCellLookupResult.of()}.
+ */
+@Generated(from = "ShBinary.CellLookupResult", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+final class ImmutableCellLookupResult implements ShBinary.CellLookupResult {
+  private final @Nullable String alias;
+  private final Path path;
+
+  private ImmutableCellLookupResult(Optional<String> alias, Path path) {
+    this.alias = alias.orElse(null);
+    this.path = Objects.requireNonNull(path, "path");
+  }
+
+  /**
+   * @return The value of the {@code alias} attribute
+   */
+  @Override
+  public Optional<String> getAlias() {
+    return Optional.ofNullable(alias);
+  }
+
+  /**
+   * @return The value of the {@code path} attribute
+   */
+  @Override
+  public Path getPath() {
+    return path;
+  }
+
+  /**
+   * This instance is equal to all instances of {@code ImmutableCellLookupResult} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof ImmutableCellLookupResult
+        && equalTo((ImmutableCellLookupResult) another);
+  }
+
+  private boolean equalTo(ImmutableCellLookupResult another) {
+    return Objects.equals(alias, another.alias)
+        && path.equals(another.path);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code alias}, {@code path}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    @Var int h = 5381;
+    h += (h << 5) + Objects.hashCode(alias);
+    h += (h << 5) + path.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code CellLookupResult} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("CellLookupResult")
+        .omitNullValues()
+        .add("alias", alias)
+        .add("path", path)
+        .toString();
+  }
+
+  /**
+   * Construct a new immutable {@code CellLookupResult} instance.
+   * @param alias The value for the {@code alias} attribute
+   * @param path The value for the {@code path} attribute
+   * @return An immutable CellLookupResult instance
+   */
+  public static ImmutableCellLookupResult of(Optional<String> alias, Path path) {
+    return new ImmutableCellLookupResult(alias, path);
+  }
+}
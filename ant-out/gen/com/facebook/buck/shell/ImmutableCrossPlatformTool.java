@@ -0,0 +1,119 @@
+package com.facebook.buck.shell;
+
+import com.facebook.buck.core.toolchain.tool.Tool;
+import com.facebook.buck.util.environment.Platform;
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.ImmutableSortedMap;
+import com.google.errorprone.annotations.Var;
+import java.util.Objects;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import org.immutables.value.Generated;
+
+/**
+ * Immutable implementation of {@link CommandAlias.CrossPlatformTool}.
+ * <p>
+ * Use the static factory method to create immutable instances:
+ * {@code ImmutableCrossPlatformTool.of()}.
+ */
+@Generated(from = "CommandAlias.CrossPlatformTool", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+final class ImmutableCrossPlatformTool extends CommandAlias.CrossPlatformTool {
+  private final Tool genericTool;
+  private final ImmutableSortedMap<Platform, Tool> platformTools;
+  private final Platform platform;
+
+  private ImmutableCrossPlatformTool(
+      Tool genericTool,
+      ImmutableSortedMap<Platform, Tool> platformTools,
+      Platform platform) {
+    this.genericTool = Objects.requireNonNull(genericTool, "genericTool");
+    this.platformTools = Objects.requireNonNull(platformTools, "platformTools");
+    this.platform = Objects.requireNonNull(platform, "platform");
+  }
+
+  /**
+   * @return The value of the {@code genericTool} attribute
+   */
+  @Override
+  protected Tool getGenericTool() {
+    return genericTool;
+  }
+
+  /**
+   * @return The value of the {@code platformTools} attribute
+   */
+  @Override
+  protected ImmutableSortedMap<Platform, Tool> getPlatformTools() {
+    return platformTools;
+  }
+
+  /**
+   * @return The value of the {@code platform} attribute
+   */
+  @Override
+  protected Platform getPlatform() {
+    return platform;
+  }
+
+  /**
+   * This instance is equal to all instances of {@code ImmutableCrossPlatformTool} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof ImmutableCrossPlatformTool
+        && equalTo((ImmutableCrossPlatformTool) another);
+  }
+
+  private boolean equalTo(ImmutableCrossPlatformTool another) {
+    return genericTool.equals(another.genericTool)
+        && platformTools.equals(another.platformTools)
+        && platform.equals(another.platform);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code genericTool}, {@code platformTools}, {@code platform}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    @Var int h = 5381;
+    h += (h << 5) + genericTool.hashCode();
+    h += (h << 5) + platformTools.hashCode();
+    h += (h << 5) + platform.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code CrossPlatformTool} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("CrossPlatformTool")
+        .omitNullValues()
+        .add("genericTool", genericTool)
+        .add("platformTools", platformTools)
+        .add("platform", platform)
+        .toString();
+  }
+
+  /**
+   * Construct a new immutable {@code CrossPlatformTool} instance.
+   * @param genericTool The value for the {@code genericTool} attribute
+   * @param platformTools The value for the {@code platformTools} attribute
+   * @param platform The value for the {@code platform} attribute
+   * @return An immutable CrossPlatformTool instance
+   */
+  public static ImmutableCrossPlatformTool of(Tool genericTool, ImmutableSortedMap<Platform, Tool> platformTools, Platform platform) {
+    return new ImmutableCrossPlatformTool(genericTool, platformTools, platform);
+  }
+}
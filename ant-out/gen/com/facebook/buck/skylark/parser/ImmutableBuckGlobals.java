@@ -0,0 +1,348 @@
+package com.facebook.buck.skylark.parser;
+
+import com.facebook.buck.core.description.BaseDescription;
+import com.facebook.buck.core.rules.providers.impl.BuiltInProvider;
+import com.facebook.buck.core.starlark.knowntypes.KnownUserDefinedRuleTypes;
+import com.facebook.buck.parser.options.ImplicitNativeRulesState;
+import com.facebook.buck.parser.options.UserDefinedRulesState;
+import com.facebook.buck.skylark.function.SkylarkFunctionModule;
+import com.google.common.base.MoreObjects;
+import com.google.common.cache.LoadingCache;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
+import com.google.devtools.build.lib.cmdline.Label;
+import com.google.devtools.build.lib.syntax.BuiltinFunction;
+import com.google.devtools.build.lib.syntax.ClassObject;
+import com.google.devtools.build.lib.syntax.Environment;
+import com.google.errorprone.annotations.Var;
+import java.util.Objects;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import org.immutables.value.Generated;
+
+/**
+ * Immutable implementation of {@link BuckGlobals}.
+ * <p>
+ * Use the static factory method to create immutable instances:
+ * {@code ImmutableBuckGlobals.of()}.
+ */
+@Generated(from = "BuckGlobals", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+final class ImmutableBuckGlobals extends BuckGlobals {
+  private final SkylarkFunctionModule skylarkFunctionModule;
+  private final ImmutableSet<BaseDescription<?>> descriptions;
+  private final ImplicitNativeRulesState implicitNativeRulesState;
+  private final UserDefinedRulesState userDefinedRulesState;
+  private final RuleFunctionFactory ruleFunctionFactory;
+  private final LoadingCache<String, Label> labelCache;
+  private final KnownUserDefinedRuleTypes knownUserDefinedRuleTypes;
+  private final ImmutableSet<BuiltInProvider<?>> perFeatureProviders;
+
+  private ImmutableBuckGlobals(
+      SkylarkFunctionModule skylarkFunctionModule,
+      Iterable<? extends BaseDescription<?>> descriptions,
+      ImplicitNativeRulesState implicitNativeRulesState,
+      UserDefinedRulesState userDefinedRulesState,
+      RuleFunctionFactory ruleFunctionFactory,
+      LoadingCache<String, Label> labelCache,
+      KnownUserDefinedRuleTypes knownUserDefinedRuleTypes,
+      Iterable<? extends BuiltInProvider<?>> perFeatureProviders) {
+    this.skylarkFunctionModule = Objects.requireNonNull(skylarkFunctionModule, "skylarkFunctionModule");
+    this.descriptions = ImmutableSet.copyOf(descriptions);
+    this.implicitNativeRulesState = Objects.requireNonNull(implicitNativeRulesState, "implicitNativeRulesState");
+    this.userDefinedRulesState = Objects.requireNonNull(userDefinedRulesState, "userDefinedRulesState");
+    this.ruleFunctionFactory = Objects.requireNonNull(ruleFunctionFactory, "ruleFunctionFactory");
+    this.labelCache = Objects.requireNonNull(labelCache, "labelCache");
+    this.knownUserDefinedRuleTypes = Objects.requireNonNull(knownUserDefinedRuleTypes, "knownUserDefinedRuleTypes");
+    this.perFeatureProviders = ImmutableSet.copyOf(perFeatureProviders);
+  }
+
+  /**
+   * @return The value of the {@code skylarkFunctionModule} attribute
+   */
+  @Override
+  SkylarkFunctionModule getSkylarkFunctionModule() {
+    return skylarkFunctionModule;
+  }
+
+  /**
+   * @return The value of the {@code descriptions} attribute
+   */
+  @Override
+  ImmutableSet<BaseDescription<?>> getDescriptions() {
+    return descriptions;
+  }
+
+  /**
+   * @return The value of the {@code implicitNativeRulesState} attribute
+   */
+  @Override
+  ImplicitNativeRulesState getImplicitNativeRulesState() {
+    return implicitNativeRulesState;
+  }
+
+  /**
+   * @return The value of the {@code userDefinedRulesState} attribute
+   */
+  @Override
+  UserDefinedRulesState getUserDefinedRulesState() {
+    return userDefinedRulesState;
+  }
+
+  /**
+   * @return The value of the {@code ruleFunctionFactory} attribute
+   */
+  @Override
+  RuleFunctionFactory getRuleFunctionFactory() {
+    return ruleFunctionFactory;
+  }
+
+  /**
+   * @return The value of the {@code labelCache} attribute
+   */
+  @Override
+  LoadingCache<String, Label> getLabelCache() {
+    return labelCache;
+  }
+
+  /**
+   * @return The value of the {@code knownUserDefinedRuleTypes} attribute
+   */
+  @Override
+  KnownUserDefinedRuleTypes getKnownUserDefinedRuleTypes() {
+    return knownUserDefinedRuleTypes;
+  }
+
+  /**
+   * @return The value of the {@code perFeatureProviders} attribute
+   */
+  @Override
+  ImmutableSet<BuiltInProvider<?>> getPerFeatureProviders() {
+    return perFeatureProviders;
+  }
+
+  /**
+   * This instance is equal to all instances of {@code ImmutableBuckGlobals} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof ImmutableBuckGlobals
+        && equalTo((ImmutableBuckGlobals) another);
+  }
+
+  private boolean equalTo(ImmutableBuckGlobals another) {
+    return skylarkFunctionModule.equals(another.skylarkFunctionModule)
+        && descriptions.equals(another.descriptions)
+        && implicitNativeRulesState.equals(another.implicitNativeRulesState)
+        && userDefinedRulesState.equals(another.userDefinedRulesState)
+        && ruleFunctionFactory.equals(another.ruleFunctionFactory)
+        && labelCache.equals(another.labelCache)
+        && knownUserDefinedRuleTypes.equals(another.knownUserDefinedRuleTypes)
+        && perFeatureProviders.equals(another.perFeatureProviders);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code skylarkFunctionModule}, {@code descriptions}, {@code implicitNativeRulesState}, {@code userDefinedRulesState}, {@code ruleFunctionFactory}, {@code labelCache}, {@code knownUserDefinedRuleTypes}, {@code perFeatureProviders}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    @Var int h = 5381;
+    h += (h << 5) + skylarkFunctionModule.hashCode();
+    h += (h << 5) + descriptions.hashCode();
+    h += (h << 5) + implicitNativeRulesState.hashCode();
+    h += (h << 5) + userDefinedRulesState.hashCode();
+    h += (h << 5) + ruleFunctionFactory.hashCode();
+    h += (h << 5) + labelCache.hashCode();
+    h += (h << 5) + knownUserDefinedRuleTypes.hashCode();
+    h += (h << 5) + perFeatureProviders.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code BuckGlobals} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("BuckGlobals")
+        .omitNullValues()
+        .add("skylarkFunctionModule", skylarkFunctionModule)
+        .add("descriptions", descriptions)
+        .add("implicitNativeRulesState", implicitNativeRulesState)
+        .add("userDefinedRulesState", userDefinedRulesState)
+        .add("ruleFunctionFactory", ruleFunctionFactory)
+        .add("labelCache", labelCache)
+        .add("knownUserDefinedRuleTypes", knownUserDefinedRuleTypes)
+        .add("perFeatureProviders", perFeatureProviders)
+        .toString();
+  }
+
+  @SuppressWarnings("Immutable")
+  private transient volatile long lazyInitBitmap;
+
+  private static final long BUCK_LOAD_CONTEXT_GLOBALS_LAZY_INIT_BIT = 0x1L;
+
+  @SuppressWarnings("Immutable")
+  private transient Environment.GlobalFrame buckLoadContextGlobals;
+
+  /**
+   * {@inheritDoc}
+   * <p>
+   * Returns a lazily initialized value of the {@link BuckGlobals#getBuckLoadContextGlobals() buckLoadContextGlobals} attribute.
+   * Initialized once and only once and stored for subsequent access with proper synchronization.
+   * @return A lazily initialized value of the {@code buckLoadContextGlobals} attribute
+   */
+  @Override
+  public Environment.GlobalFrame getBuckLoadContextGlobals() {
+    if ((lazyInitBitmap & BUCK_LOAD_CONTEXT_GLOBALS_LAZY_INIT_BIT) == 0) {
+      synchronized (this) {
+        if ((lazyInitBitmap & BUCK_LOAD_CONTEXT_GLOBALS_LAZY_INIT_BIT) == 0) {
+          this.buckLoadContextGlobals = Objects.requireNonNull(super.getBuckLoadContextGlobals(), "buckLoadContextGlobals");
+          lazyInitBitmap |= BUCK_LOAD_CONTEXT_GLOBALS_LAZY_INIT_BIT;
+        }
+      }
+    }
+    return buckLoadContextGlobals;
+  }
+
+  private static final long BUCK_BUILD_FILE_CONTEXT_GLOBALS_LAZY_INIT_BIT = 0x2L;
+
+  @SuppressWarnings("Immutable")
+  private transient Environment.GlobalFrame buckBuildFileContextGlobals;
+
+  /**
+   * {@inheritDoc}
+   * <p>
+   * Returns a lazily initialized value of the {@link BuckGlobals#getBuckBuildFileContextGlobals() buckBuildFileContextGlobals} attribute.
+   * Initialized once and only once and stored for subsequent access with proper synchronization.
+   * @return A lazily initialized value of the {@code buckBuildFileContextGlobals} attribute
+   */
+  @Override
+  public Environment.GlobalFrame getBuckBuildFileContextGlobals() {
+    if ((lazyInitBitmap & BUCK_BUILD_FILE_CONTEXT_GLOBALS_LAZY_INIT_BIT) == 0) {
+      synchronized (this) {
+        if ((lazyInitBitmap & BUCK_BUILD_FILE_CONTEXT_GLOBALS_LAZY_INIT_BIT) == 0) {
+          this.buckBuildFileContextGlobals = Objects.requireNonNull(super.getBuckBuildFileContextGlobals(), "buckBuildFileContextGlobals");
+          lazyInitBitmap |= BUCK_BUILD_FILE_CONTEXT_GLOBALS_LAZY_INIT_BIT;
+        }
+      }
+    }
+    return buckBuildFileContextGlobals;
+  }
+
+  private static final long BUCK_RULE_FUNCTIONS_LAZY_INIT_BIT = 0x4L;
+
+  @SuppressWarnings("Immutable")
+  private transient ImmutableMap<String, BuiltinFunction> buckRuleFunctions;
+
+  /**
+   * {@inheritDoc}
+   * <p>
+   * Returns a lazily initialized value of the {@link BuckGlobals#getBuckRuleFunctions() buckRuleFunctions} attribute.
+   * Initialized once and only once and stored for subsequent access with proper synchronization.
+   * @return A lazily initialized value of the {@code buckRuleFunctions} attribute
+   */
+  @Override
+  public ImmutableMap<String, BuiltinFunction> getBuckRuleFunctions() {
+    if ((lazyInitBitmap & BUCK_RULE_FUNCTIONS_LAZY_INIT_BIT) == 0) {
+      synchronized (this) {
+        if ((lazyInitBitmap & BUCK_RULE_FUNCTIONS_LAZY_INIT_BIT) == 0) {
+          this.buckRuleFunctions = Objects.requireNonNull(super.getBuckRuleFunctions(), "buckRuleFunctions");
+          lazyInitBitmap |= BUCK_RULE_FUNCTIONS_LAZY_INIT_BIT;
+        }
+      }
+    }
+    return buckRuleFunctions;
+  }
+
+  private static final long PER_FEATURE_PROVIDERS_FOR_BUILD_FILE_LAZY_INIT_BIT = 0x8L;
+
+  @SuppressWarnings("Immutable")
+  private transient ImmutableMap<String, BuiltInProvider<?>> perFeatureProvidersForBuildFile;
+
+  /**
+   * {@inheritDoc}
+   * <p>
+   * Returns a lazily initialized value of the {@link BuckGlobals#getPerFeatureProvidersForBuildFile() perFeatureProvidersForBuildFile} attribute.
+   * Initialized once and only once and stored for subsequent access with proper synchronization.
+   * @return A lazily initialized value of the {@code perFeatureProvidersForBuildFile} attribute
+   */
+  @Override
+  public ImmutableMap<String, BuiltInProvider<?>> getPerFeatureProvidersForBuildFile() {
+    if ((lazyInitBitmap & PER_FEATURE_PROVIDERS_FOR_BUILD_FILE_LAZY_INIT_BIT) == 0) {
+      synchronized (this) {
+        if ((lazyInitBitmap & PER_FEATURE_PROVIDERS_FOR_BUILD_FILE_LAZY_INIT_BIT) == 0) {
+          this.perFeatureProvidersForBuildFile = Objects.requireNonNull(super.getPerFeatureProvidersForBuildFile(), "perFeatureProvidersForBuildFile");
+          lazyInitBitmap |= PER_FEATURE_PROVIDERS_FOR_BUILD_FILE_LAZY_INIT_BIT;
+        }
+      }
+    }
+    return perFeatureProvidersForBuildFile;
+  }
+
+  private static final long NATIVE_MODULE_LAZY_INIT_BIT = 0x10L;
+
+  @SuppressWarnings("Immutable")
+  private transient ClassObject nativeModule;
+
+  /**
+   * {@inheritDoc}
+   * <p>
+   * Returns a lazily initialized value of the {@link BuckGlobals#getNativeModule() nativeModule} attribute.
+   * Initialized once and only once and stored for subsequent access with proper synchronization.
+   * @return A lazily initialized value of the {@code nativeModule} attribute
+   */
+  @Override
+  public ClassObject getNativeModule() {
+    if ((lazyInitBitmap & NATIVE_MODULE_LAZY_INIT_BIT) == 0) {
+      synchronized (this) {
+        if ((lazyInitBitmap & NATIVE_MODULE_LAZY_INIT_BIT) == 0) {
+          this.nativeModule = Objects.requireNonNull(super.getNativeModule(), "nativeModule");
+          lazyInitBitmap |= NATIVE_MODULE_LAZY_INIT_BIT;
+        }
+      }
+    }
+    return nativeModule;
+  }
+
+  /**
+   * Construct a new immutable {@code BuckGlobals} instance.
+   * @param skylarkFunctionModule The value for the {@code skylarkFunctionModule} attribute
+   * @param descriptions The value for the {@code descriptions} attribute
+   * @param implicitNativeRulesState The value for the {@code implicitNativeRulesState} attribute
+   * @param userDefinedRulesState The value for the {@code userDefinedRulesState} attribute
+   * @param ruleFunctionFactory The value for the {@code ruleFunctionFactory} attribute
+   * @param labelCache The value for the {@code labelCache} attribute
+   * @param knownUserDefinedRuleTypes The value for the {@code knownUserDefinedRuleTypes} attribute
+   * @param perFeatureProviders The value for the {@code perFeatureProviders} attribute
+   * @return An immutable BuckGlobals instance
+   */
+  public static ImmutableBuckGlobals of(SkylarkFunctionModule skylarkFunctionModule, ImmutableSet<BaseDescription<?>> descriptions, ImplicitNativeRulesState implicitNativeRulesState, UserDefinedRulesState userDefinedRulesState, RuleFunctionFactory ruleFunctionFactory, LoadingCache<String, Label> labelCache, KnownUserDefinedRuleTypes knownUserDefinedRuleTypes, ImmutableSet<BuiltInProvider<?>> perFeatureProviders) {
+    return of(skylarkFunctionModule, (Iterable<? extends BaseDescription<?>>) descriptions, implicitNativeRulesState, userDefinedRulesState, ruleFunctionFactory, labelCache, knownUserDefinedRuleTypes, (Iterable<? extends BuiltInProvider<?>>) perFeatureProviders);
+  }
+
+  /**
+   * Construct a new immutable {@code BuckGlobals} instance.
+   * @param skylarkFunctionModule The value for the {@code skylarkFunctionModule} attribute
+   * @param descriptions The value for the {@code descriptions} attribute
+   * @param implicitNativeRulesState The value for the {@code implicitNativeRulesState} attribute
+   * @param userDefinedRulesState The value for the {@code userDefinedRulesState} attribute
+   * @param ruleFunctionFactory The value for the {@code ruleFunctionFactory} attribute
+   * @param labelCache The value for the {@code labelCache} attribute
+   * @param knownUserDefinedRuleTypes The value for the {@code knownUserDefinedRuleTypes} attribute
+   * @param perFeatureProviders The value for the {@code perFeatureProviders} attribute
+   * @return An immutable BuckGlobals instance
+   */
+  public static ImmutableBuckGlobals of(SkylarkFunctionModule skylarkFunctionModule, Iterable<? extends BaseDescription<?>> descriptions, ImplicitNativeRulesState implicitNativeRulesState, UserDefinedRulesState userDefinedRulesState, RuleFunctionFactory ruleFunctionFactory, LoadingCache<String, Label> labelCache, KnownUserDefinedRuleTypes knownUserDefinedRuleTypes, Iterable<? extends BuiltInProvider<?>> perFeatureProviders) {
+    return new ImmutableBuckGlobals(skylarkFunctionModule, descriptions, implicitNativeRulesState, userDefinedRulesState, ruleFunctionFactory, labelCache, knownUserDefinedRuleTypes, perFeatureProviders);
+  }
+}
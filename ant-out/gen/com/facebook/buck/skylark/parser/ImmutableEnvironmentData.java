@@ -0,0 +1,113 @@
+package com.facebook.buck.skylark.parser;
+
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.ImmutableSet;
+import com.google.devtools.build.lib.syntax.Environment;
+import com.google.errorprone.annotations.Var;
+import java.util.Objects;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import org.immutables.value.Generated;
+
+/**
+ * Immutable implementation of {@link EnvironmentData}.
+ * <p>
+ * Use the static factory method to create immutable instances:
+ * {@code ImmutableEnvironmentData.of()}.
+ */
+@Generated(from = "EnvironmentData", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+final class ImmutableEnvironmentData extends EnvironmentData {
+  private final Environment environment;
+  private final ImmutableSet<String> loadedPaths;
+
+  private ImmutableEnvironmentData(
+      Environment environment,
+      Iterable<String> loadedPaths) {
+    this.environment = Objects.requireNonNull(environment, "environment");
+    this.loadedPaths = ImmutableSet.copyOf(loadedPaths);
+  }
+
+  /**
+   * @return The value of the {@code environment} attribute
+   */
+  @Override
+  public Environment getEnvironment() {
+    return environment;
+  }
+
+  /**
+   * @return The value of the {@code loadedPaths} attribute
+   */
+  @Override
+  public ImmutableSet<String> getLoadedPaths() {
+    return loadedPaths;
+  }
+
+  /**
+   * This instance is equal to all instances of {@code ImmutableEnvironmentData} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof ImmutableEnvironmentData
+        && equalTo((ImmutableEnvironmentData) another);
+  }
+
+  private boolean equalTo(ImmutableEnvironmentData another) {
+    return environment.equals(another.environment)
+        && loadedPaths.equals(another.loadedPaths);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code environment}, {@code loadedPaths}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    @Var int h = 5381;
+    h += (h << 5) + environment.hashCode();
+    h += (h << 5) + loadedPaths.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code EnvironmentData} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("EnvironmentData")
+        .omitNullValues()
+        .add("environment", environment)
+        .add("loadedPaths", loadedPaths)
+        .toString();
+  }
+
+  /**
+   * Construct a new immutable {@code EnvironmentData} instance.
+   * @param environment The value for the {@code environment} attribute
+   * @param loadedPaths The value for the {@code loadedPaths} attribute
+   * @return An immutable EnvironmentData instance
+   */
+  public static ImmutableEnvironmentData of(Environment environment, ImmutableSet<String> loadedPaths) {
+    return of(environment, (Iterable<String>) loadedPaths);
+  }
+
+  /**
+   * Construct a new immutable {@code EnvironmentData} instance.
+   * @param environment The value for the {@code environment} attribute
+   * @param loadedPaths The value for the {@code loadedPaths} attribute
+   * @return An immutable EnvironmentData instance
+   */
+  public static ImmutableEnvironmentData of(Environment environment, Iterable<String> loadedPaths) {
+    return new ImmutableEnvironmentData(environment, loadedPaths);
+  }
+}
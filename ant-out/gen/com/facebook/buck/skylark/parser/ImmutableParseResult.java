@@ -0,0 +1,166 @@
+package com.facebook.buck.skylark.parser;
+
+import com.facebook.buck.parser.api.PackageMetadata;
+import com.facebook.buck.skylark.io.GlobSpecWithResult;
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
+import com.google.errorprone.annotations.Var;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import org.immutables.value.Generated;
+
+/**
+ * Immutable implementation of {@link ParseResult}.
+ * <p>
+ * Use the static factory method to create immutable instances:
+ * {@code ImmutableParseResult.of()}.
+ */
+@Generated(from = "ParseResult", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+final class ImmutableParseResult extends ParseResult {
+  private final PackageMetadata getPackage;
+  private final ImmutableMap<String, Map<String, Object>> rawRules;
+  private final ImmutableSet<String> loadedPaths;
+  private final ImmutableMap<String, ImmutableMap<String, Optional<String>>> readConfigurationOptions;
+  private final ImmutableList<GlobSpecWithResult> globManifestWithResult;
+
+  private ImmutableParseResult(
+      PackageMetadata getPackage,
+      Map<String, ? extends Map<String, Object>> rawRules,
+      Iterable<String> loadedPaths,
+      Map<String, ? extends ImmutableMap<String, Optional<String>>> readConfigurationOptions,
+      Iterable<? extends GlobSpecWithResult> globManifestWithResult) {
+    this.getPackage = Objects.requireNonNull(getPackage, "getPackage");
+    this.rawRules = ImmutableMap.copyOf(rawRules);
+    this.loadedPaths = ImmutableSet.copyOf(loadedPaths);
+    this.readConfigurationOptions = ImmutableMap.copyOf(readConfigurationOptions);
+    this.globManifestWithResult = ImmutableList.copyOf(globManifestWithResult);
+  }
+
+  /**
+   * @return The value of the {@code getPackage} attribute
+   */
+  @Override
+  public PackageMetadata getPackage() {
+    return getPackage;
+  }
+
+  /**
+   * @return The value of the {@code rawRules} attribute
+   */
+  @Override
+  public ImmutableMap<String, Map<String, Object>> getRawRules() {
+    return rawRules;
+  }
+
+  /**
+   * @return The value of the {@code loadedPaths} attribute
+   */
+  @Override
+  public ImmutableSet<String> getLoadedPaths() {
+    return loadedPaths;
+  }
+
+  /**
+   * @return The value of the {@code readConfigurationOptions} attribute
+   */
+  @Override
+  public ImmutableMap<String, ImmutableMap<String, Optional<String>>> getReadConfigurationOptions() {
+    return readConfigurationOptions;
+  }
+
+  /**
+   * @return The value of the {@code globManifestWithResult} attribute
+   */
+  @Override
+  public ImmutableList<GlobSpecWithResult> getGlobManifestWithResult() {
+    return globManifestWithResult;
+  }
+
+  /**
+   * This instance is equal to all instances of {@code ImmutableParseResult} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof ImmutableParseResult
+        && equalTo((ImmutableParseResult) another);
+  }
+
+  private boolean equalTo(ImmutableParseResult another) {
+    return getPackage.equals(another.getPackage)
+        && rawRules.equals(another.rawRules)
+        && loadedPaths.equals(another.loadedPaths)
+        && readConfigurationOptions.equals(another.readConfigurationOptions)
+        && globManifestWithResult.equals(another.globManifestWithResult);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code getPackage}, {@code rawRules}, {@code loadedPaths}, {@code readConfigurationOptions}, {@code globManifestWithResult}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    @Var int h = 5381;
+    h += (h << 5) + getPackage.hashCode();
+    h += (h << 5) + rawRules.hashCode();
+    h += (h << 5) + loadedPaths.hashCode();
+    h += (h << 5) + readConfigurationOptions.hashCode();
+    h += (h << 5) + globManifestWithResult.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code ParseResult} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("ParseResult")
+        .omitNullValues()
+        .add("package", getPackage)
+        .add("rawRules", rawRules)
+        .add("loadedPaths", loadedPaths)
+        .add("readConfigurationOptions", readConfigurationOptions)
+        .add("globManifestWithResult", globManifestWithResult)
+        .toString();
+  }
+
+  /**
+   * Construct a new immutable {@code ParseResult} instance.
+   * @param getPackage The value for the {@code getPackage} attribute
+   * @param rawRules The value for the {@code rawRules} attribute
+   * @param loadedPaths The value for the {@code loadedPaths} attribute
+   * @param readConfigurationOptions The value for the {@code readConfigurationOptions} attribute
+   * @param globManifestWithResult The value for the {@code globManifestWithResult} attribute
+   * @return An immutable ParseResult instance
+   */
+  public static ImmutableParseResult of(PackageMetadata getPackage, ImmutableMap<String, Map<String, Object>> rawRules, ImmutableSet<String> loadedPaths, ImmutableMap<String, ImmutableMap<String, Optional<String>>> readConfigurationOptions, ImmutableList<GlobSpecWithResult> globManifestWithResult) {
+    return of(getPackage, rawRules, (Iterable<String>) loadedPaths, readConfigurationOptions, (Iterable<? extends GlobSpecWithResult>) globManifestWithResult);
+  }
+
+  /**
+   * Construct a new immutable {@code ParseResult} instance.
+   * @param getPackage The value for the {@code getPackage} attribute
+   * @param rawRules The value for the {@code rawRules} attribute
+   * @param loadedPaths The value for the {@code loadedPaths} attribute
+   * @param readConfigurationOptions The value for the {@code readConfigurationOptions} attribute
+   * @param globManifestWithResult The value for the {@code globManifestWithResult} attribute
+   * @return An immutable ParseResult instance
+   */
+  public static ImmutableParseResult of(PackageMetadata getPackage, Map<String, ? extends Map<String, Object>> rawRules, Iterable<String> loadedPaths, Map<String, ? extends ImmutableMap<String, Optional<String>>> readConfigurationOptions, Iterable<? extends GlobSpecWithResult> globManifestWithResult) {
+    return new ImmutableParseResult(getPackage, rawRules, loadedPaths, readConfigurationOptions, globManifestWithResult);
+  }
+}
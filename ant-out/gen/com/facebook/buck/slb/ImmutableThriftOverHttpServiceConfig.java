@@ -0,0 +1,100 @@
+package com.facebook.buck.slb;
+
+import com.google.common.base.MoreObjects;
+import com.google.errorprone.annotations.Var;
+import java.util.Objects;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import org.immutables.value.Generated;
+
+/**
+ * Immutable implementation of {@link ThriftOverHttpServiceConfig}.
+ * <p>
+ * Use the static factory method to create immutable instances:
+ * {@code ImmutableThriftOverHttpServiceConfig.of()}.
+ */
+@Generated(from = "ThriftOverHttpServiceConfig", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+final class ImmutableThriftOverHttpServiceConfig
+    extends ThriftOverHttpServiceConfig {
+  private final HttpService service;
+  private final String thriftPath;
+
+  private ImmutableThriftOverHttpServiceConfig(HttpService service, String thriftPath) {
+    this.service = Objects.requireNonNull(service, "service");
+    this.thriftPath = Objects.requireNonNull(thriftPath, "thriftPath");
+  }
+
+  /**
+   * @return The value of the {@code service} attribute
+   */
+  @Override
+  public HttpService getService() {
+    return service;
+  }
+
+  /**
+   * @return The value of the {@code thriftPath} attribute
+   */
+  @Override
+  public String getThriftPath() {
+    return thriftPath;
+  }
+
+  /**
+   * This instance is equal to all instances of {@code ImmutableThriftOverHttpServiceConfig} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof ImmutableThriftOverHttpServiceConfig
+        && equalTo((ImmutableThriftOverHttpServiceConfig) another);
+  }
+
+  private boolean equalTo(ImmutableThriftOverHttpServiceConfig another) {
+    return service.equals(another.service)
+        && thriftPath.equals(another.thriftPath);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code service}, {@code thriftPath}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    @Var int h = 5381;
+    h += (h << 5) + service.hashCode();
+    h += (h << 5) + thriftPath.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code ThriftOverHttpServiceConfig} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("ThriftOverHttpServiceConfig")
+        .omitNullValues()
+        .add("service", service)
+        .add("thriftPath", thriftPath)
+        .toString();
+  }
+
+  /**
+   * Construct a new immutable {@code ThriftOverHttpServiceConfig} instance.
+   * @param service The value for the {@code service} attribute
+   * @param thriftPath The value for the {@code thriftPath} attribute
+   * @return An immutable ThriftOverHttpServiceConfig instance
+   */
+  public static ImmutableThriftOverHttpServiceConfig of(HttpService service, String thriftPath) {
+    return new ImmutableThriftOverHttpServiceConfig(service, thriftPath);
+  }
+}
@@ -0,0 +1,292 @@
+package com.facebook.buck.step;
+
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.ImmutableList;
+import com.google.errorprone.annotations.CanIgnoreReturnValue;
+import com.google.errorprone.annotations.Var;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+import org.immutables.value.Generated;
+
+/**
+ * Immutable implementation of {@link StepExecutionResult}.
+ * <p>
+ * Use the builder to create immutable instances:
+ * {@code new StepExecutionResult.Builder()}.
+ */
+@Generated(from = "StepExecutionResult", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+final class ImmutableStepExecutionResult implements StepExecutionResult {
+  private final int exitCode;
+  private final ImmutableList<String> executedCommand;
+  private final @Nullable String stderr;
+  private final @Nullable Exception cause;
+
+  private ImmutableStepExecutionResult(ImmutableStepExecutionResult.Builder builder) {
+    this.exitCode = builder.exitCode;
+    this.executedCommand = builder.executedCommand.build();
+    this.stderr = builder.stderr;
+    this.cause = builder.cause;
+  }
+
+  /**
+   * @return The value of the {@code exitCode} attribute
+   */
+  @Override
+  public int getExitCode() {
+    return exitCode;
+  }
+
+  /**
+   * @return The value of the {@code executedCommand} attribute
+   */
+  @Override
+  public ImmutableList<String> getExecutedCommand() {
+    return executedCommand;
+  }
+
+  /**
+   * @return The value of the {@code stderr} attribute
+   */
+  @Override
+  public Optional<String> getStderr() {
+    return Optional.ofNullable(stderr);
+  }
+
+  /**
+   * @return The value of the {@code cause} attribute
+   */
+  @Override
+  public Optional<Exception> getCause() {
+    return Optional.ofNullable(cause);
+  }
+
+  /**
+   * This instance is equal to all instances of {@code ImmutableStepExecutionResult} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof ImmutableStepExecutionResult
+        && equalTo((ImmutableStepExecutionResult) another);
+  }
+
+  private boolean equalTo(ImmutableStepExecutionResult another) {
+    return exitCode == another.exitCode
+        && executedCommand.equals(another.executedCommand)
+        && Objects.equals(stderr, another.stderr)
+        && Objects.equals(cause, another.cause);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code exitCode}, {@code executedCommand}, {@code stderr}, {@code cause}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    @Var int h = 5381;
+    h += (h << 5) + exitCode;
+    h += (h << 5) + executedCommand.hashCode();
+    h += (h << 5) + Objects.hashCode(stderr);
+    h += (h << 5) + Objects.hashCode(cause);
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code StepExecutionResult} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("StepExecutionResult")
+        .omitNullValues()
+        .add("exitCode", exitCode)
+        .add("executedCommand", executedCommand)
+        .add("stderr", stderr)
+        .add("cause", cause)
+        .toString();
+  }
+
+  /**
+   * Builds instances of type {@link StepExecutionResult StepExecutionResult}.
+   * Initialize attributes and then invoke the {@link #build()} method to create an
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread-safe and generally should not be stored in a field or collection,
+   * but instead used immediately to create instances.</em>
+   */
+  @Generated(from = "StepExecutionResult", generator = "Immutables")
+  @NotThreadSafe
+  public static class Builder {
+    private static final long INIT_BIT_EXIT_CODE = 0x1L;
+    private long initBits = 0x1L;
+
+    private int exitCode;
+    private ImmutableList.Builder<String> executedCommand = ImmutableList.builder();
+    private @Nullable String stderr;
+    private @Nullable Exception cause;
+
+    /**
+     * Creates a builder for {@link StepExecutionResult StepExecutionResult} instances.
+     */
+    public Builder() {
+      if (!(this instanceof StepExecutionResult.Builder)) {
+        throw new UnsupportedOperationException("Use: new StepExecutionResult.Builder()");
+      }
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code StepExecutionResult} instance.
+     * Regular attribute values will be replaced with those from the given instance.
+     * Absent optional values will not replace present values.
+     * Collection elements and entries will be added, not replaced.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final StepExecutionResult.Builder from(StepExecutionResult instance) {
+      Objects.requireNonNull(instance, "instance");
+      setExitCode(instance.getExitCode());
+      addAllExecutedCommand(instance.getExecutedCommand());
+      Optional<String> stderrOptional = instance.getStderr();
+      if (stderrOptional.isPresent()) {
+        setStderr(stderrOptional);
+      }
+      Optional<Exception> causeOptional = instance.getCause();
+      if (causeOptional.isPresent()) {
+        setCause(causeOptional);
+      }
+      return (StepExecutionResult.Builder) this;
+    }
+
+    /**
+     * Initializes the value for the {@link StepExecutionResult#getExitCode() exitCode} attribute.
+     * @param exitCode The value for exitCode 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final StepExecutionResult.Builder setExitCode(int exitCode) {
+      this.exitCode = exitCode;
+      initBits &= ~INIT_BIT_EXIT_CODE;
+      return (StepExecutionResult.Builder) this;
+    }
+
+    /**
+     * Adds one element to {@link StepExecutionResult#getExecutedCommand() executedCommand} list.
+     * @param element A executedCommand element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final StepExecutionResult.Builder addExecutedCommand(String element) {
+      this.executedCommand.add(element);
+      return (StepExecutionResult.Builder) this;
+    }
+
+    /**
+     * Adds elements to {@link StepExecutionResult#getExecutedCommand() executedCommand} list.
+     * @param elements An array of executedCommand elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final StepExecutionResult.Builder addExecutedCommand(String... elements) {
+      this.executedCommand.add(elements);
+      return (StepExecutionResult.Builder) this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link StepExecutionResult#getExecutedCommand() executedCommand} list.
+     * @param elements An iterable of executedCommand elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final StepExecutionResult.Builder setExecutedCommand(Iterable<String> elements) {
+      this.executedCommand = ImmutableList.builder();
+      return addAllExecutedCommand(elements);
+    }
+
+    /**
+     * Adds elements to {@link StepExecutionResult#getExecutedCommand() executedCommand} list.
+     * @param elements An iterable of executedCommand elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final StepExecutionResult.Builder addAllExecutedCommand(Iterable<String> elements) {
+      this.executedCommand.addAll(elements);
+      return (StepExecutionResult.Builder) this;
+    }
+
+    /**
+     * Initializes the optional value {@link StepExecutionResult#getStderr() stderr} to stderr.
+     * @param stderr The value for stderr
+     * @return {@code this} builder for chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final StepExecutionResult.Builder setStderr(String stderr) {
+      this.stderr = Objects.requireNonNull(stderr, "stderr");
+      return (StepExecutionResult.Builder) this;
+    }
+
+    /**
+     * Initializes the optional value {@link StepExecutionResult#getStderr() stderr} to stderr.
+     * @param stderr The value for stderr
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final StepExecutionResult.Builder setStderr(Optional<String> stderr) {
+      this.stderr = stderr.orElse(null);
+      return (StepExecutionResult.Builder) this;
+    }
+
+    /**
+     * Initializes the optional value {@link StepExecutionResult#getCause() cause} to cause.
+     * @param cause The value for cause
+     * @return {@code this} builder for chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final StepExecutionResult.Builder setCause(Exception cause) {
+      this.cause = Objects.requireNonNull(cause, "cause");
+      return (StepExecutionResult.Builder) this;
+    }
+
+    /**
+     * Initializes the optional value {@link StepExecutionResult#getCause() cause} to cause.
+     * @param cause The value for cause
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final StepExecutionResult.Builder setCause(Optional<? extends Exception> cause) {
+      this.cause = cause.orElse(null);
+      return (StepExecutionResult.Builder) this;
+    }
+
+    /**
+     * Builds a new {@link StepExecutionResult StepExecutionResult}.
+     * @return An immutable instance of StepExecutionResult
+     * @throws java.lang.IllegalStateException if any required attributes are missing
+     */
+    public StepExecutionResult build() {
+      if (initBits != 0) {
+        throw new IllegalStateException(formatRequiredAttributesMessage());
+      }
+      return new ImmutableStepExecutionResult(this);
+    }
+
+    private String formatRequiredAttributesMessage() {
+      List<String> attributes = new ArrayList<>();
+      if ((initBits & INIT_BIT_EXIT_CODE) != 0) attributes.add("exitCode");
+      return "Cannot build StepExecutionResult, some of required attributes are not set " + attributes;
+    }
+  }
+}
@@ -0,0 +1,86 @@
+package com.facebook.buck.step.fs;
+
+import com.facebook.buck.io.BuildCellRelativePath;
+import com.google.common.base.MoreObjects;
+import com.google.errorprone.annotations.Var;
+import java.util.Objects;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import org.immutables.value.Generated;
+
+/**
+ * Immutable implementation of {@link MkdirStep}.
+ * <p>
+ * Use the static factory method to create immutable instances:
+ * {@code ImmutableMkdirStep.of()}.
+ */
+@Generated(from = "MkdirStep", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+final class ImmutableMkdirStep extends MkdirStep {
+  private final BuildCellRelativePath path;
+
+  private ImmutableMkdirStep(BuildCellRelativePath path) {
+    this.path = Objects.requireNonNull(path, "path");
+  }
+
+  /**
+   * @return The value of the {@code path} attribute
+   */
+  @Override
+  public BuildCellRelativePath getPath() {
+    return path;
+  }
+
+  /**
+   * This instance is equal to all instances of {@code ImmutableMkdirStep} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof ImmutableMkdirStep
+        && equalTo((ImmutableMkdirStep) another);
+  }
+
+  private boolean equalTo(ImmutableMkdirStep another) {
+    return path.equals(another.path);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code path}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    @Var int h = 5381;
+    h += (h << 5) + path.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code MkdirStep} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("MkdirStep")
+        .omitNullValues()
+        .add("path", path)
+        .toString();
+  }
+
+  /**
+   * Construct a new immutable {@code MkdirStep} instance.
+   * @param path The value for the {@code path} attribute
+   * @return An immutable MkdirStep instance
+   */
+  public static ImmutableMkdirStep of(BuildCellRelativePath path) {
+    return new ImmutableMkdirStep(path);
+  }
+}
@@ -0,0 +1,100 @@
+package com.facebook.buck.support.bgtasks;
+
+import com.facebook.buck.core.model.BuildId;
+import com.google.common.base.MoreObjects;
+import com.google.errorprone.annotations.Var;
+import java.util.Objects;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import org.immutables.value.Generated;
+
+/**
+ * Immutable implementation of {@link ManagedBackgroundTask.TaskId}.
+ * <p>
+ * Use the static factory method to create immutable instances:
+ * {@code ImmutableTaskId.of()}.
+ */
+@Generated(from = "ManagedBackgroundTask.TaskId", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+final class ImmutableTaskId extends ManagedBackgroundTask.TaskId {
+  private final String name;
+  private final BuildId buildId;
+
+  private ImmutableTaskId(String name, BuildId buildId) {
+    this.name = Objects.requireNonNull(name, "name");
+    this.buildId = Objects.requireNonNull(buildId, "buildId");
+  }
+
+  /**
+   * @return The value of the {@code name} attribute
+   */
+  @Override
+  String name() {
+    return name;
+  }
+
+  /**
+   * @return The value of the {@code buildId} attribute
+   */
+  @Override
+  BuildId buildId() {
+    return buildId;
+  }
+
+  /**
+   * This instance is equal to all instances of {@code ImmutableTaskId} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof ImmutableTaskId
+        && equalTo((ImmutableTaskId) another);
+  }
+
+  private boolean equalTo(ImmutableTaskId another) {
+    return name.equals(another.name)
+        && buildId.equals(another.buildId);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code name}, {@code buildId}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    @Var int h = 5381;
+    h += (h << 5) + name.hashCode();
+    h += (h << 5) + buildId.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code TaskId} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("TaskId")
+        .omitNullValues()
+        .add("name", name)
+        .add("buildId", buildId)
+        .toString();
+  }
+
+  /**
+   * Construct a new immutable {@code TaskId} instance.
+   * @param name The value for the {@code name} attribute
+   * @param buildId The value for the {@code buildId} attribute
+   * @return An immutable TaskId instance
+   */
+  public static ImmutableTaskId of(String name, BuildId buildId) {
+    return new ImmutableTaskId(name, buildId);
+  }
+}
@@ -0,0 +1,101 @@
+package com.facebook.buck.support.bgtasks;
+
+import com.google.common.base.MoreObjects;
+import com.google.common.primitives.Longs;
+import com.google.errorprone.annotations.Var;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import org.immutables.value.Generated;
+
+/**
+ * Immutable implementation of {@link BackgroundTask.Timeout}.
+ * <p>
+ * Use the static factory method to create immutable instances:
+ * {@code ImmutableTimeout.of()}.
+ */
+@Generated(from = "BackgroundTask.Timeout", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+final class ImmutableTimeout extends BackgroundTask.Timeout {
+  private final long timeout;
+  private final TimeUnit unit;
+
+  private ImmutableTimeout(long timeout, TimeUnit unit) {
+    this.timeout = timeout;
+    this.unit = Objects.requireNonNull(unit, "unit");
+  }
+
+  /**
+   * @return The value of the {@code timeout} attribute
+   */
+  @Override
+  long timeout() {
+    return timeout;
+  }
+
+  /**
+   * @return The value of the {@code unit} attribute
+   */
+  @Override
+  TimeUnit unit() {
+    return unit;
+  }
+
+  /**
+   * This instance is equal to all instances of {@code ImmutableTimeout} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof ImmutableTimeout
+        && equalTo((ImmutableTimeout) another);
+  }
+
+  private boolean equalTo(ImmutableTimeout another) {
+    return timeout == another.timeout
+        && unit.equals(another.unit);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code timeout}, {@code unit}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    @Var int h = 5381;
+    h += (h << 5) + Longs.hashCode(timeout);
+    h += (h << 5) + unit.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code Timeout} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("Timeout")
+        .omitNullValues()
+        .add("timeout", timeout)
+        .add("unit", unit)
+        .toString();
+  }
+
+  /**
+   * Construct a new immutable {@code Timeout} instance.
+   * @param timeout The value for the {@code timeout} attribute
+   * @param unit The value for the {@code unit} attribute
+   * @return An immutable Timeout instance
+   */
+  public static ImmutableTimeout of(long timeout, TimeUnit unit) {
+    return new ImmutableTimeout(timeout, unit);
+  }
+}
@@ -0,0 +1,149 @@
+package com.facebook.buck.support.build.report;
+
+import com.facebook.buck.util.config.Config;
+import com.facebook.buck.util.versioncontrol.FullVersionControlStats;
+import com.fasterxml.jackson.annotation.JsonAutoDetect;
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.google.common.base.MoreObjects;
+import com.google.errorprone.annotations.Var;
+import java.util.Objects;
+import java.util.Optional;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import org.immutables.value.Generated;
+
+/**
+ * Immutable implementation of {@link FullBuildReport}.
+ * <p>
+ * Use the static factory method to create immutable instances:
+ * {@code ImmutableFullBuildReport.of()}.
+ */
+@Generated(from = "FullBuildReport", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+final class ImmutableFullBuildReport implements FullBuildReport {
+  private final Config currentConfig;
+  private final @Nullable FullVersionControlStats versionControlStats;
+
+  @SuppressWarnings("unchecked") // safe covariant cast
+  private ImmutableFullBuildReport(
+      Config currentConfig,
+      Optional<? extends FullVersionControlStats> versionControlStats) {
+    this.currentConfig = Objects.requireNonNull(currentConfig, "currentConfig");
+    this.versionControlStats = versionControlStats.orElse(null);
+  }
+
+  /**
+   * @return The value of the {@code currentConfig} attribute
+   */
+  @JsonProperty
+  @Override
+  public Config currentConfig() {
+    return currentConfig;
+  }
+
+  /**
+   * @return The value of the {@code versionControlStats} attribute
+   */
+  @JsonProperty
+  @Override
+  public Optional<FullVersionControlStats> versionControlStats() {
+    return Optional.ofNullable(versionControlStats);
+  }
+
+  /**
+   * This instance is equal to all instances of {@code ImmutableFullBuildReport} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof ImmutableFullBuildReport
+        && equalTo((ImmutableFullBuildReport) another);
+  }
+
+  private boolean equalTo(ImmutableFullBuildReport another) {
+    return currentConfig.equals(another.currentConfig)
+        && Objects.equals(versionControlStats, another.versionControlStats);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code currentConfig}, {@code versionControlStats}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    @Var int h = 5381;
+    h += (h << 5) + currentConfig.hashCode();
+    h += (h << 5) + Objects.hashCode(versionControlStats);
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code FullBuildReport} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("FullBuildReport")
+        .omitNullValues()
+        .add("currentConfig", currentConfig)
+        .add("versionControlStats", versionControlStats)
+        .toString();
+  }
+
+  /**
+   * Utility type used to correctly read immutable object from JSON representation.
+   * @deprecated Do not use this type directly, it exists only for the <em>Jackson</em>-binding infrastructure
+   */
+  @Generated(from = "FullBuildReport", generator = "Immutables")
+  @Deprecated
+  @SuppressWarnings("Immutable")
+  @JsonDeserialize
+  @JsonAutoDetect(fieldVisibility = JsonAutoDetect.Visibility.NONE)
+  static final class Json implements FullBuildReport {
+    @Nullable Config currentConfig;
+    @Nullable Optional<FullVersionControlStats> versionControlStats = Optional.empty();
+    @JsonProperty
+    public void setCurrentConfig(Config currentConfig) {
+      this.currentConfig = currentConfig;
+    }
+    @JsonProperty
+    public void setVersionControlStats(Optional<FullVersionControlStats> versionControlStats) {
+      this.versionControlStats = versionControlStats;
+    }
+    @Override
+    public Config currentConfig() { throw new UnsupportedOperationException(); }
+    @Override
+    public Optional<FullVersionControlStats> versionControlStats() { throw new UnsupportedOperationException(); }
+  }
+
+  /**
+   * @param json A JSON-bindable data structure
+   * @return An immutable value type
+   * @deprecated Do not use this method directly, it exists only for the <em>Jackson</em>-binding infrastructure
+   */
+  @Deprecated
+  @JsonCreator(mode = JsonCreator.Mode.DELEGATING)
+  static ImmutableFullBuildReport fromJson(Json json) {
+    ImmutableFullBuildReport instance = ImmutableFullBuildReport.of(json.currentConfig, json.versionControlStats);
+    return instance;
+  }
+
+  /**
+   * Construct a new immutable {@code FullBuildReport} instance.
+   * @param currentConfig The value for the {@code currentConfig} attribute
+   * @param versionControlStats The value for the {@code versionControlStats} attribute
+   * @return An immutable FullBuildReport instance
+   */
+  public static ImmutableFullBuildReport of(Config currentConfig, Optional<? extends FullVersionControlStats> versionControlStats) {
+    return new ImmutableFullBuildReport(currentConfig, versionControlStats);
+  }
+}
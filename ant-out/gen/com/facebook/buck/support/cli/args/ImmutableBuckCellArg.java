@@ -0,0 +1,113 @@
+package com.facebook.buck.support.cli.args;
+
+import com.google.common.base.MoreObjects;
+import com.google.errorprone.annotations.Var;
+import java.util.Objects;
+import java.util.Optional;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import org.immutables.value.Generated;
+
+/**
+ * Immutable implementation of {@link BuckCellArg}.
+ * <p>
+ * Use the static factory method to create immutable instances:
+ * {@code ImmutableBuckCellArg.of()}.
+ */
+@Generated(from = "BuckCellArg", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+final class ImmutableBuckCellArg extends BuckCellArg {
+  private final @Nullable String cellName;
+  private final String arg;
+  private transient final String basePath;
+
+  private ImmutableBuckCellArg(Optional<String> cellName, String arg) {
+    this.cellName = cellName.orElse(null);
+    this.arg = Objects.requireNonNull(arg, "arg");
+    this.basePath = Objects.requireNonNull(super.getBasePath(), "basePath");
+  }
+
+  /**
+   * @return The value of the {@code cellName} attribute
+   */
+  @Override
+  public Optional<String> getCellName() {
+    return Optional.ofNullable(cellName);
+  }
+
+  /**
+   * @return The value of the {@code arg} attribute
+   */
+  @Override
+  public String getArg() {
+    return arg;
+  }
+
+  /**
+   * @return The computed-at-construction value of the {@code basePath} attribute
+   */
+  @Override
+  public String getBasePath() {
+    return basePath;
+  }
+
+  /**
+   * This instance is equal to all instances of {@code ImmutableBuckCellArg} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof ImmutableBuckCellArg
+        && equalTo((ImmutableBuckCellArg) another);
+  }
+
+  private boolean equalTo(ImmutableBuckCellArg another) {
+    return Objects.equals(cellName, another.cellName)
+        && arg.equals(another.arg)
+        && basePath.equals(another.basePath);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code cellName}, {@code arg}, {@code basePath}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    @Var int h = 5381;
+    h += (h << 5) + Objects.hashCode(cellName);
+    h += (h << 5) + arg.hashCode();
+    h += (h << 5) + basePath.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code BuckCellArg} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("BuckCellArg")
+        .omitNullValues()
+        .add("cellName", cellName)
+        .add("arg", arg)
+        .add("basePath", basePath)
+        .toString();
+  }
+
+  /**
+   * Construct a new immutable {@code BuckCellArg} instance.
+   * @param cellName The value for the {@code cellName} attribute
+   * @param arg The value for the {@code arg} attribute
+   * @return An immutable BuckCellArg instance
+   */
+  public static ImmutableBuckCellArg of(Optional<String> cellName, String arg) {
+    return new ImmutableBuckCellArg(cellName, arg);
+  }
+}
@@ -0,0 +1,341 @@
+package com.facebook.buck.support.fix;
+
+import com.facebook.buck.core.model.BuildId;
+import com.fasterxml.jackson.annotation.JsonAutoDetect;
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.databind.PropertyNamingStrategy;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.fasterxml.jackson.databind.annotation.JsonNaming;
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.primitives.Booleans;
+import com.google.errorprone.annotations.Var;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import org.immutables.value.Generated;
+
+/**
+ * Immutable implementation of {@link BuckFixSpec}.
+ * <p>
+ * Use the static factory method to create immutable instances:
+ * {@code ImmutableBuckFixSpec.of()}.
+ */
+@Generated(from = "BuckFixSpec", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+@JsonNaming(PropertyNamingStrategy.SnakeCaseStrategy.class)
+final class ImmutableBuckFixSpec extends BuckFixSpec {
+  private final BuildId buildId;
+  private final String command;
+  private final int exitCode;
+  private final ImmutableList<String> userArgs;
+  private final ImmutableList<String> expandedArgs;
+  private final boolean manuallyInvoked;
+  private final @Nullable Object commandData;
+  private final ImmutableMap<String, ImmutableList<String>> buckProvidedScripts;
+  private final ImmutableMap<String, Optional<Path>> logs;
+
+  @SuppressWarnings("unchecked") // safe covariant cast
+  private ImmutableBuckFixSpec(
+      BuildId buildId,
+      String command,
+      int exitCode,
+      Iterable<String> userArgs,
+      Iterable<String> expandedArgs,
+      boolean manuallyInvoked,
+      Optional<? extends Object> commandData,
+      Map<String, ? extends ImmutableList<String>> buckProvidedScripts,
+      Map<String, ? extends Optional<Path>> logs) {
+    this.buildId = Objects.requireNonNull(buildId, "buildId");
+    this.command = Objects.requireNonNull(command, "command");
+    this.exitCode = exitCode;
+    this.userArgs = ImmutableList.copyOf(userArgs);
+    this.expandedArgs = ImmutableList.copyOf(expandedArgs);
+    this.manuallyInvoked = manuallyInvoked;
+    this.commandData = commandData.orElse(null);
+    this.buckProvidedScripts = ImmutableMap.copyOf(buckProvidedScripts);
+    this.logs = ImmutableMap.copyOf(logs);
+  }
+
+  /**
+   * @return The value of the {@code buildId} attribute
+   */
+  @JsonProperty
+  @Override
+  public BuildId getBuildId() {
+    return buildId;
+  }
+
+  /**
+   * @return The value of the {@code command} attribute
+   */
+  @JsonProperty
+  @Override
+  public String getCommand() {
+    return command;
+  }
+
+  /**
+   * @return The value of the {@code exitCode} attribute
+   */
+  @JsonProperty
+  @Override
+  public int getExitCode() {
+    return exitCode;
+  }
+
+  /**
+   * @return The value of the {@code userArgs} attribute
+   */
+  @JsonProperty
+  @Override
+  public ImmutableList<String> getUserArgs() {
+    return userArgs;
+  }
+
+  /**
+   * @return The value of the {@code expandedArgs} attribute
+   */
+  @JsonProperty
+  @Override
+  public ImmutableList<String> getExpandedArgs() {
+    return expandedArgs;
+  }
+
+  /**
+   * @return The value of the {@code manuallyInvoked} attribute
+   */
+  @JsonProperty
+  @Override
+  public boolean getManuallyInvoked() {
+    return manuallyInvoked;
+  }
+
+  /**
+   * @return The value of the {@code commandData} attribute
+   */
+  @JsonProperty
+  @Override
+  public Optional<Object> getCommandData() {
+    return Optional.ofNullable(commandData);
+  }
+
+  /**
+   * @return The value of the {@code buckProvidedScripts} attribute
+   */
+  @JsonProperty
+  @Override
+  public ImmutableMap<String, ImmutableList<String>> getBuckProvidedScripts() {
+    return buckProvidedScripts;
+  }
+
+  /**
+   * @return The value of the {@code logs} attribute
+   */
+  @JsonProperty
+  @JsonInclude(JsonInclude.Include.ALWAYS)
+  @Override
+  public ImmutableMap<String, Optional<Path>> getLogs() {
+    return logs;
+  }
+
+  /**
+   * This instance is equal to all instances of {@code ImmutableBuckFixSpec} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof ImmutableBuckFixSpec
+        && equalTo((ImmutableBuckFixSpec) another);
+  }
+
+  private boolean equalTo(ImmutableBuckFixSpec another) {
+    return buildId.equals(another.buildId)
+        && command.equals(another.command)
+        && exitCode == another.exitCode
+        && userArgs.equals(another.userArgs)
+        && expandedArgs.equals(another.expandedArgs)
+        && manuallyInvoked == another.manuallyInvoked
+        && Objects.equals(commandData, another.commandData)
+        && buckProvidedScripts.equals(another.buckProvidedScripts)
+        && logs.equals(another.logs);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code buildId}, {@code command}, {@code exitCode}, {@code userArgs}, {@code expandedArgs}, {@code manuallyInvoked}, {@code commandData}, {@code buckProvidedScripts}, {@code logs}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    @Var int h = 5381;
+    h += (h << 5) + buildId.hashCode();
+    h += (h << 5) + command.hashCode();
+    h += (h << 5) + exitCode;
+    h += (h << 5) + userArgs.hashCode();
+    h += (h << 5) + expandedArgs.hashCode();
+    h += (h << 5) + Booleans.hashCode(manuallyInvoked);
+    h += (h << 5) + Objects.hashCode(commandData);
+    h += (h << 5) + buckProvidedScripts.hashCode();
+    h += (h << 5) + logs.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code BuckFixSpec} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("BuckFixSpec")
+        .omitNullValues()
+        .add("buildId", buildId)
+        .add("command", command)
+        .add("exitCode", exitCode)
+        .add("userArgs", userArgs)
+        .add("expandedArgs", expandedArgs)
+        .add("manuallyInvoked", manuallyInvoked)
+        .add("commandData", commandData)
+        .add("buckProvidedScripts", buckProvidedScripts)
+        .add("logs", logs)
+        .toString();
+  }
+
+  /**
+   * Utility type used to correctly read immutable object from JSON representation.
+   * @deprecated Do not use this type directly, it exists only for the <em>Jackson</em>-binding infrastructure
+   */
+  @Generated(from = "BuckFixSpec", generator = "Immutables")
+  @Deprecated
+  @SuppressWarnings("Immutable")
+  @JsonDeserialize
+  @JsonAutoDetect(fieldVisibility = JsonAutoDetect.Visibility.NONE)
+  static final class Json extends BuckFixSpec {
+    @Nullable BuildId buildId;
+    @Nullable String command;
+    int exitCode;
+    boolean exitCodeIsSet;
+    @Nullable ImmutableList<String> userArgs = ImmutableList.of();
+    @Nullable ImmutableList<String> expandedArgs = ImmutableList.of();
+    boolean manuallyInvoked;
+    boolean manuallyInvokedIsSet;
+    @Nullable Optional<Object> commandData = Optional.empty();
+    @Nullable ImmutableMap<String, ImmutableList<String>> buckProvidedScripts = ImmutableMap.of();
+    @Nullable ImmutableMap<String, Optional<Path>> logs = ImmutableMap.of();
+    @JsonProperty
+    public void setBuildId(BuildId buildId) {
+      this.buildId = buildId;
+    }
+    @JsonProperty
+    public void setCommand(String command) {
+      this.command = command;
+    }
+    @JsonProperty
+    public void setExitCode(int exitCode) {
+      this.exitCode = exitCode;
+      this.exitCodeIsSet = true;
+    }
+    @JsonProperty
+    public void setUserArgs(ImmutableList<String> userArgs) {
+      this.userArgs = userArgs;
+    }
+    @JsonProperty
+    public void setExpandedArgs(ImmutableList<String> expandedArgs) {
+      this.expandedArgs = expandedArgs;
+    }
+    @JsonProperty
+    public void setManuallyInvoked(boolean manuallyInvoked) {
+      this.manuallyInvoked = manuallyInvoked;
+      this.manuallyInvokedIsSet = true;
+    }
+    @JsonProperty
+    public void setCommandData(Optional<Object> commandData) {
+      this.commandData = commandData;
+    }
+    @JsonProperty
+    public void setBuckProvidedScripts(ImmutableMap<String, ImmutableList<String>> buckProvidedScripts) {
+      this.buckProvidedScripts = buckProvidedScripts;
+    }
+    @JsonProperty
+    @JsonInclude(JsonInclude.Include.ALWAYS)
+    public void setLogs(ImmutableMap<String, Optional<Path>> logs) {
+      this.logs = logs;
+    }
+    @Override
+    public BuildId getBuildId() { throw new UnsupportedOperationException(); }
+    @Override
+    public String getCommand() { throw new UnsupportedOperationException(); }
+    @Override
+    public int getExitCode() { throw new UnsupportedOperationException(); }
+    @Override
+    public ImmutableList<String> getUserArgs() { throw new UnsupportedOperationException(); }
+    @Override
+    public ImmutableList<String> getExpandedArgs() { throw new UnsupportedOperationException(); }
+    @Override
+    public boolean getManuallyInvoked() { throw new UnsupportedOperationException(); }
+    @Override
+    public Optional<Object> getCommandData() { throw new UnsupportedOperationException(); }
+    @Override
+    public ImmutableMap<String, ImmutableList<String>> getBuckProvidedScripts() { throw new UnsupportedOperationException(); }
+    @Override
+    public ImmutableMap<String, Optional<Path>> getLogs() { throw new UnsupportedOperationException(); }
+  }
+
+  /**
+   * @param json A JSON-bindable data structure
+   * @return An immutable value type
+   * @deprecated Do not use this method directly, it exists only for the <em>Jackson</em>-binding infrastructure
+   */
+  @Deprecated
+  @JsonCreator(mode = JsonCreator.Mode.DELEGATING)
+  static ImmutableBuckFixSpec fromJson(Json json) {
+    ImmutableBuckFixSpec instance = ImmutableBuckFixSpec.of(json.buildId, json.command, json.exitCode, json.userArgs, json.expandedArgs, json.manuallyInvoked, json.commandData, json.buckProvidedScripts, json.logs);
+    return instance;
+  }
+
+  /**
+   * Construct a new immutable {@code BuckFixSpec} instance.
+   * @param buildId The value for the {@code buildId} attribute
+   * @param command The value for the {@code command} attribute
+   * @param exitCode The value for the {@code exitCode} attribute
+   * @param userArgs The value for the {@code userArgs} attribute
+   * @param expandedArgs The value for the {@code expandedArgs} attribute
+   * @param manuallyInvoked The value for the {@code manuallyInvoked} attribute
+   * @param commandData The value for the {@code commandData} attribute
+   * @param buckProvidedScripts The value for the {@code buckProvidedScripts} attribute
+   * @param logs The value for the {@code logs} attribute
+   * @return An immutable BuckFixSpec instance
+   */
+  public static ImmutableBuckFixSpec of(BuildId buildId, String command, int exitCode, ImmutableList<String> userArgs, ImmutableList<String> expandedArgs, boolean manuallyInvoked, Optional<Object> commandData, ImmutableMap<String, ImmutableList<String>> buckProvidedScripts, ImmutableMap<String, Optional<Path>> logs) {
+    return of(buildId, command, exitCode, (Iterable<String>) userArgs, (Iterable<String>) expandedArgs, manuallyInvoked, commandData, buckProvidedScripts, logs);
+  }
+
+  /**
+   * Construct a new immutable {@code BuckFixSpec} instance.
+   * @param buildId The value for the {@code buildId} attribute
+   * @param command The value for the {@code command} attribute
+   * @param exitCode The value for the {@code exitCode} attribute
+   * @param userArgs The value for the {@code userArgs} attribute
+   * @param expandedArgs The value for the {@code expandedArgs} attribute
+   * @param manuallyInvoked The value for the {@code manuallyInvoked} attribute
+   * @param commandData The value for the {@code commandData} attribute
+   * @param buckProvidedScripts The value for the {@code buckProvidedScripts} attribute
+   * @param logs The value for the {@code logs} attribute
+   * @return An immutable BuckFixSpec instance
+   */
+  public static ImmutableBuckFixSpec of(BuildId buildId, String command, int exitCode, Iterable<String> userArgs, Iterable<String> expandedArgs, boolean manuallyInvoked, Optional<? extends Object> commandData, Map<String, ? extends ImmutableList<String>> buckProvidedScripts, Map<String, ? extends Optional<Path>> logs) {
+    return new ImmutableBuckFixSpec(buildId, command, exitCode, userArgs, expandedArgs, manuallyInvoked, commandData, buckProvidedScripts, logs);
+  }
+}
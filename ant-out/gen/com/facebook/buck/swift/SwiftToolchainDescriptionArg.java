@@ -0,0 +1,858 @@
+package com.facebook.buck.swift;
+
+import com.facebook.buck.core.description.arg.BuildRuleArg;
+import com.facebook.buck.core.description.arg.ConstructorArg;
+import com.facebook.buck.core.model.UnconfiguredBuildTarget;
+import com.facebook.buck.core.sourcepath.SourcePath;
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.ImmutableSortedSet;
+import com.google.errorprone.annotations.CanIgnoreReturnValue;
+import com.google.errorprone.annotations.Var;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+import org.immutables.value.Generated;
+
+/**
+ * swift_toolchain defines swiftc and swift-stdlib-tool with their flags to construct
+ * SwiftPlatform.
+ */
+@Generated(from = "SwiftToolchainDescription.AbstractSwiftToolchainDescriptionArg", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+public final class SwiftToolchainDescriptionArg
+    implements SwiftToolchainDescription.AbstractSwiftToolchainDescriptionArg {
+  private final SourcePath swiftc;
+  private final ImmutableList<String> swiftcFlags;
+  private final @Nullable SourcePath swiftStdlibTool;
+  private final ImmutableList<String> swiftStdlibToolFlags;
+  private final ImmutableList<SourcePath> runtimePathsForBundling;
+  private final ImmutableList<SourcePath> runtimePathsForLinking;
+  private final ImmutableList<SourcePath> staticRuntimePaths;
+  private final ImmutableList<SourcePath> runtimeRunPaths;
+  private final ImmutableSet<SourcePath> licenses;
+  private final ImmutableSortedSet<String> labels;
+  private final @Nullable UnconfiguredBuildTarget defaultTargetPlatform;
+  private final ImmutableList<UnconfiguredBuildTarget> compatibleWith;
+  private final String name;
+
+  private SwiftToolchainDescriptionArg(SwiftToolchainDescriptionArg.Builder builder) {
+    this.swiftc = builder.swiftc;
+    this.swiftcFlags = builder.swiftcFlags.build();
+    this.swiftStdlibTool = builder.swiftStdlibTool;
+    this.swiftStdlibToolFlags = builder.swiftStdlibToolFlags.build();
+    this.runtimePathsForBundling = builder.runtimePathsForBundling.build();
+    this.runtimePathsForLinking = builder.runtimePathsForLinking.build();
+    this.staticRuntimePaths = builder.staticRuntimePaths.build();
+    this.runtimeRunPaths = builder.runtimeRunPaths.build();
+    this.licenses = builder.licenses.build();
+    this.labels = builder.labels.build();
+    this.defaultTargetPlatform = builder.defaultTargetPlatform;
+    this.compatibleWith = builder.compatibleWith.build();
+    this.name = builder.name;
+  }
+
+  /**
+   *Swift compiler binary. 
+   */
+  @Override
+  public SourcePath getSwiftc() {
+    return swiftc;
+  }
+
+  /**
+   *Flags for Swift compiler. 
+   */
+  @Override
+  public ImmutableList<String> getSwiftcFlags() {
+    return swiftcFlags;
+  }
+
+  /**
+   *Swift stdlib tool binary. 
+   */
+  @Override
+  public Optional<SourcePath> getSwiftStdlibTool() {
+    return Optional.ofNullable(swiftStdlibTool);
+  }
+
+  /**
+   *Flags for Swift stdlib tool. 
+   */
+  @Override
+  public ImmutableList<String> getSwiftStdlibToolFlags() {
+    return swiftStdlibToolFlags;
+  }
+
+  /**
+   *Runtime paths for bundling. 
+   */
+  @Override
+  public ImmutableList<SourcePath> getRuntimePathsForBundling() {
+    return runtimePathsForBundling;
+  }
+
+  /**
+   *Runtime paths for linking. 
+   */
+  @Override
+  public ImmutableList<SourcePath> getRuntimePathsForLinking() {
+    return runtimePathsForLinking;
+  }
+
+  /**
+   *Static runtime paths. 
+   */
+  @Override
+  public ImmutableList<SourcePath> getStaticRuntimePaths() {
+    return staticRuntimePaths;
+  }
+
+  /**
+   *Runtime run paths. 
+   */
+  @Override
+  public ImmutableList<SourcePath> getRuntimeRunPaths() {
+    return runtimeRunPaths;
+  }
+
+  /**
+   * @return The value of the {@code licenses} attribute
+   */
+  @Override
+  public ImmutableSet<SourcePath> getLicenses() {
+    return licenses;
+  }
+
+  /**
+   * @return The value of the {@code labels} attribute
+   */
+  @Override
+  public ImmutableSortedSet<String> getLabels() {
+    return labels;
+  }
+
+  /**
+   * The name of build target default "new" platform: it is used when a platform is not specified
+   * either globally or in a target which used this target as a dependency.
+   * <p>The value is a build target, but we specify it as string, because this function is not
+   * actually called, but the attr is fetched by name from the raw (unconfigured) target node.
+   */
+  @Override
+  public Optional<UnconfiguredBuildTarget> getDefaultTargetPlatform() {
+    return Optional.ofNullable(defaultTargetPlatform);
+  }
+
+  /**
+   *A list of {@code config_setting} a target is compatible with. 
+   */
+  @Override
+  public ImmutableList<UnconfiguredBuildTarget> getCompatibleWith() {
+    return compatibleWith;
+  }
+
+  /**
+   *Each rule has a name 
+   */
+  @Override
+  public String getName() {
+    return name;
+  }
+
+  /**
+   * This instance is equal to all instances of {@code SwiftToolchainDescriptionArg} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof SwiftToolchainDescriptionArg
+        && equalTo((SwiftToolchainDescriptionArg) another);
+  }
+
+  private boolean equalTo(SwiftToolchainDescriptionArg another) {
+    return swiftc.equals(another.swiftc)
+        && swiftcFlags.equals(another.swiftcFlags)
+        && Objects.equals(swiftStdlibTool, another.swiftStdlibTool)
+        && swiftStdlibToolFlags.equals(another.swiftStdlibToolFlags)
+        && runtimePathsForBundling.equals(another.runtimePathsForBundling)
+        && runtimePathsForLinking.equals(another.runtimePathsForLinking)
+        && staticRuntimePaths.equals(another.staticRuntimePaths)
+        && runtimeRunPaths.equals(another.runtimeRunPaths)
+        && licenses.equals(another.licenses)
+        && labels.equals(another.labels)
+        && Objects.equals(defaultTargetPlatform, another.defaultTargetPlatform)
+        && compatibleWith.equals(another.compatibleWith)
+        && name.equals(another.name);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code swiftc}, {@code swiftcFlags}, {@code swiftStdlibTool}, {@code swiftStdlibToolFlags}, {@code runtimePathsForBundling}, {@code runtimePathsForLinking}, {@code staticRuntimePaths}, {@code runtimeRunPaths}, {@code licenses}, {@code labels}, {@code defaultTargetPlatform}, {@code compatibleWith}, {@code name}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    @Var int h = 5381;
+    h += (h << 5) + swiftc.hashCode();
+    h += (h << 5) + swiftcFlags.hashCode();
+    h += (h << 5) + Objects.hashCode(swiftStdlibTool);
+    h += (h << 5) + swiftStdlibToolFlags.hashCode();
+    h += (h << 5) + runtimePathsForBundling.hashCode();
+    h += (h << 5) + runtimePathsForLinking.hashCode();
+    h += (h << 5) + staticRuntimePaths.hashCode();
+    h += (h << 5) + runtimeRunPaths.hashCode();
+    h += (h << 5) + licenses.hashCode();
+    h += (h << 5) + labels.hashCode();
+    h += (h << 5) + Objects.hashCode(defaultTargetPlatform);
+    h += (h << 5) + compatibleWith.hashCode();
+    h += (h << 5) + name.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code SwiftToolchainDescriptionArg} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("SwiftToolchainDescriptionArg")
+        .omitNullValues()
+        .add("swiftc", swiftc)
+        .add("swiftcFlags", swiftcFlags)
+        .add("swiftStdlibTool", swiftStdlibTool)
+        .add("swiftStdlibToolFlags", swiftStdlibToolFlags)
+        .add("runtimePathsForBundling", runtimePathsForBundling)
+        .add("runtimePathsForLinking", runtimePathsForLinking)
+        .add("staticRuntimePaths", staticRuntimePaths)
+        .add("runtimeRunPaths", runtimeRunPaths)
+        .add("licenses", licenses)
+        .add("labels", labels)
+        .add("defaultTargetPlatform", defaultTargetPlatform)
+        .add("compatibleWith", compatibleWith)
+        .add("name", name)
+        .toString();
+  }
+
+  /**
+   * Creates a builder for {@link SwiftToolchainDescriptionArg SwiftToolchainDescriptionArg}.
+   * @return A new SwiftToolchainDescriptionArg builder
+   */
+  public static SwiftToolchainDescriptionArg.Builder builder() {
+    return new SwiftToolchainDescriptionArg.Builder();
+  }
+
+  /**
+   * Builds instances of type {@link SwiftToolchainDescriptionArg SwiftToolchainDescriptionArg}.
+   * Initialize attributes and then invoke the {@link #build()} method to create an
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread-safe and generally should not be stored in a field or collection,
+   * but instead used immediately to create instances.</em>
+   */
+  @Generated(from = "SwiftToolchainDescription.AbstractSwiftToolchainDescriptionArg", generator = "Immutables")
+  @NotThreadSafe
+  public static final class Builder {
+    private static final long INIT_BIT_SWIFTC = 0x1L;
+    private static final long INIT_BIT_NAME = 0x2L;
+    private long initBits = 0x3L;
+
+    private @Nullable SourcePath swiftc;
+    private ImmutableList.Builder<String> swiftcFlags = ImmutableList.builder();
+    private @Nullable SourcePath swiftStdlibTool;
+    private ImmutableList.Builder<String> swiftStdlibToolFlags = ImmutableList.builder();
+    private ImmutableList.Builder<SourcePath> runtimePathsForBundling = ImmutableList.builder();
+    private ImmutableList.Builder<SourcePath> runtimePathsForLinking = ImmutableList.builder();
+    private ImmutableList.Builder<SourcePath> staticRuntimePaths = ImmutableList.builder();
+    private ImmutableList.Builder<SourcePath> runtimeRunPaths = ImmutableList.builder();
+    private ImmutableSet.Builder<SourcePath> licenses = ImmutableSet.builder();
+    private ImmutableSortedSet.Builder<String> labels = ImmutableSortedSet.naturalOrder();
+    private @Nullable UnconfiguredBuildTarget defaultTargetPlatform;
+    private ImmutableList.Builder<UnconfiguredBuildTarget> compatibleWith = ImmutableList.builder();
+    private @Nullable String name;
+
+    private Builder() {
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code SwiftToolchainDescriptionArg} instance.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder from(SwiftToolchainDescriptionArg instance) {
+      Objects.requireNonNull(instance, "instance");
+      from((Object) instance);
+      return this;
+    }
+
+    /**
+     * Copy abstract value type {@code AbstractSwiftToolchainDescriptionArg} instance into builder.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder from(SwiftToolchainDescription.AbstractSwiftToolchainDescriptionArg instance) {
+      Objects.requireNonNull(instance, "instance");
+      from((Object) instance);
+      return this;
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code com.facebook.buck.core.description.arg.BuildRuleArg} instance.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder from(BuildRuleArg instance) {
+      Objects.requireNonNull(instance, "instance");
+      from((Object) instance);
+      return this;
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code com.facebook.buck.core.description.arg.ConstructorArg} instance.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder from(ConstructorArg instance) {
+      Objects.requireNonNull(instance, "instance");
+      from((Object) instance);
+      return this;
+    }
+
+    private void from(Object object) {
+      if (object instanceof SwiftToolchainDescription.AbstractSwiftToolchainDescriptionArg) {
+        SwiftToolchainDescription.AbstractSwiftToolchainDescriptionArg instance = (SwiftToolchainDescription.AbstractSwiftToolchainDescriptionArg) object;
+        addAllStaticRuntimePaths(instance.getStaticRuntimePaths());
+        addAllRuntimePathsForBundling(instance.getRuntimePathsForBundling());
+        setSwiftc(instance.getSwiftc());
+        addAllRuntimePathsForLinking(instance.getRuntimePathsForLinking());
+        addAllSwiftStdlibToolFlags(instance.getSwiftStdlibToolFlags());
+        addAllSwiftcFlags(instance.getSwiftcFlags());
+        addAllRuntimeRunPaths(instance.getRuntimeRunPaths());
+        Optional<SourcePath> swiftStdlibToolOptional = instance.getSwiftStdlibTool();
+        if (swiftStdlibToolOptional.isPresent()) {
+          setSwiftStdlibTool(swiftStdlibToolOptional);
+        }
+      }
+      if (object instanceof BuildRuleArg) {
+        BuildRuleArg instance = (BuildRuleArg) object;
+        addAllLicenses(instance.getLicenses());
+        addAllCompatibleWith(instance.getCompatibleWith());
+        addAllLabels(instance.getLabels());
+        Optional<UnconfiguredBuildTarget> defaultTargetPlatformOptional = instance.getDefaultTargetPlatform();
+        if (defaultTargetPlatformOptional.isPresent()) {
+          setDefaultTargetPlatform(defaultTargetPlatformOptional);
+        }
+      }
+      if (object instanceof ConstructorArg) {
+        ConstructorArg instance = (ConstructorArg) object;
+        setName(instance.getName());
+      }
+    }
+
+    /**
+     * Initializes the value for the {@link SwiftToolchainDescriptionArg#getSwiftc() swiftc} attribute.
+     * @param swiftc The value for swiftc 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setSwiftc(SourcePath swiftc) {
+      this.swiftc = Objects.requireNonNull(swiftc, "swiftc");
+      initBits &= ~INIT_BIT_SWIFTC;
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link SwiftToolchainDescriptionArg#getSwiftcFlags() swiftcFlags} list.
+     * @param element A swiftcFlags element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addSwiftcFlags(String element) {
+      this.swiftcFlags.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link SwiftToolchainDescriptionArg#getSwiftcFlags() swiftcFlags} list.
+     * @param elements An array of swiftcFlags elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addSwiftcFlags(String... elements) {
+      this.swiftcFlags.add(elements);
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link SwiftToolchainDescriptionArg#getSwiftcFlags() swiftcFlags} list.
+     * @param elements An iterable of swiftcFlags elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setSwiftcFlags(Iterable<String> elements) {
+      this.swiftcFlags = ImmutableList.builder();
+      return addAllSwiftcFlags(elements);
+    }
+
+    /**
+     * Adds elements to {@link SwiftToolchainDescriptionArg#getSwiftcFlags() swiftcFlags} list.
+     * @param elements An iterable of swiftcFlags elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addAllSwiftcFlags(Iterable<String> elements) {
+      this.swiftcFlags.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link SwiftToolchainDescriptionArg#getSwiftStdlibTool() swiftStdlibTool} to swiftStdlibTool.
+     * @param swiftStdlibTool The value for swiftStdlibTool
+     * @return {@code this} builder for chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setSwiftStdlibTool(SourcePath swiftStdlibTool) {
+      this.swiftStdlibTool = Objects.requireNonNull(swiftStdlibTool, "swiftStdlibTool");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link SwiftToolchainDescriptionArg#getSwiftStdlibTool() swiftStdlibTool} to swiftStdlibTool.
+     * @param swiftStdlibTool The value for swiftStdlibTool
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setSwiftStdlibTool(Optional<? extends SourcePath> swiftStdlibTool) {
+      this.swiftStdlibTool = swiftStdlibTool.orElse(null);
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link SwiftToolchainDescriptionArg#getSwiftStdlibToolFlags() swiftStdlibToolFlags} list.
+     * @param element A swiftStdlibToolFlags element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addSwiftStdlibToolFlags(String element) {
+      this.swiftStdlibToolFlags.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link SwiftToolchainDescriptionArg#getSwiftStdlibToolFlags() swiftStdlibToolFlags} list.
+     * @param elements An array of swiftStdlibToolFlags elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addSwiftStdlibToolFlags(String... elements) {
+      this.swiftStdlibToolFlags.add(elements);
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link SwiftToolchainDescriptionArg#getSwiftStdlibToolFlags() swiftStdlibToolFlags} list.
+     * @param elements An iterable of swiftStdlibToolFlags elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setSwiftStdlibToolFlags(Iterable<String> elements) {
+      this.swiftStdlibToolFlags = ImmutableList.builder();
+      return addAllSwiftStdlibToolFlags(elements);
+    }
+
+    /**
+     * Adds elements to {@link SwiftToolchainDescriptionArg#getSwiftStdlibToolFlags() swiftStdlibToolFlags} list.
+     * @param elements An iterable of swiftStdlibToolFlags elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addAllSwiftStdlibToolFlags(Iterable<String> elements) {
+      this.swiftStdlibToolFlags.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link SwiftToolchainDescriptionArg#getRuntimePathsForBundling() runtimePathsForBundling} list.
+     * @param element A runtimePathsForBundling element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addRuntimePathsForBundling(SourcePath element) {
+      this.runtimePathsForBundling.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link SwiftToolchainDescriptionArg#getRuntimePathsForBundling() runtimePathsForBundling} list.
+     * @param elements An array of runtimePathsForBundling elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addRuntimePathsForBundling(SourcePath... elements) {
+      this.runtimePathsForBundling.add(elements);
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link SwiftToolchainDescriptionArg#getRuntimePathsForBundling() runtimePathsForBundling} list.
+     * @param elements An iterable of runtimePathsForBundling elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setRuntimePathsForBundling(Iterable<? extends SourcePath> elements) {
+      this.runtimePathsForBundling = ImmutableList.builder();
+      return addAllRuntimePathsForBundling(elements);
+    }
+
+    /**
+     * Adds elements to {@link SwiftToolchainDescriptionArg#getRuntimePathsForBundling() runtimePathsForBundling} list.
+     * @param elements An iterable of runtimePathsForBundling elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addAllRuntimePathsForBundling(Iterable<? extends SourcePath> elements) {
+      this.runtimePathsForBundling.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link SwiftToolchainDescriptionArg#getRuntimePathsForLinking() runtimePathsForLinking} list.
+     * @param element A runtimePathsForLinking element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addRuntimePathsForLinking(SourcePath element) {
+      this.runtimePathsForLinking.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link SwiftToolchainDescriptionArg#getRuntimePathsForLinking() runtimePathsForLinking} list.
+     * @param elements An array of runtimePathsForLinking elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addRuntimePathsForLinking(SourcePath... elements) {
+      this.runtimePathsForLinking.add(elements);
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link SwiftToolchainDescriptionArg#getRuntimePathsForLinking() runtimePathsForLinking} list.
+     * @param elements An iterable of runtimePathsForLinking elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setRuntimePathsForLinking(Iterable<? extends SourcePath> elements) {
+      this.runtimePathsForLinking = ImmutableList.builder();
+      return addAllRuntimePathsForLinking(elements);
+    }
+
+    /**
+     * Adds elements to {@link SwiftToolchainDescriptionArg#getRuntimePathsForLinking() runtimePathsForLinking} list.
+     * @param elements An iterable of runtimePathsForLinking elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addAllRuntimePathsForLinking(Iterable<? extends SourcePath> elements) {
+      this.runtimePathsForLinking.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link SwiftToolchainDescriptionArg#getStaticRuntimePaths() staticRuntimePaths} list.
+     * @param element A staticRuntimePaths element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addStaticRuntimePaths(SourcePath element) {
+      this.staticRuntimePaths.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link SwiftToolchainDescriptionArg#getStaticRuntimePaths() staticRuntimePaths} list.
+     * @param elements An array of staticRuntimePaths elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addStaticRuntimePaths(SourcePath... elements) {
+      this.staticRuntimePaths.add(elements);
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link SwiftToolchainDescriptionArg#getStaticRuntimePaths() staticRuntimePaths} list.
+     * @param elements An iterable of staticRuntimePaths elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setStaticRuntimePaths(Iterable<? extends SourcePath> elements) {
+      this.staticRuntimePaths = ImmutableList.builder();
+      return addAllStaticRuntimePaths(elements);
+    }
+
+    /**
+     * Adds elements to {@link SwiftToolchainDescriptionArg#getStaticRuntimePaths() staticRuntimePaths} list.
+     * @param elements An iterable of staticRuntimePaths elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addAllStaticRuntimePaths(Iterable<? extends SourcePath> elements) {
+      this.staticRuntimePaths.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link SwiftToolchainDescriptionArg#getRuntimeRunPaths() runtimeRunPaths} list.
+     * @param element A runtimeRunPaths element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addRuntimeRunPaths(SourcePath element) {
+      this.runtimeRunPaths.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link SwiftToolchainDescriptionArg#getRuntimeRunPaths() runtimeRunPaths} list.
+     * @param elements An array of runtimeRunPaths elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addRuntimeRunPaths(SourcePath... elements) {
+      this.runtimeRunPaths.add(elements);
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link SwiftToolchainDescriptionArg#getRuntimeRunPaths() runtimeRunPaths} list.
+     * @param elements An iterable of runtimeRunPaths elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setRuntimeRunPaths(Iterable<? extends SourcePath> elements) {
+      this.runtimeRunPaths = ImmutableList.builder();
+      return addAllRuntimeRunPaths(elements);
+    }
+
+    /**
+     * Adds elements to {@link SwiftToolchainDescriptionArg#getRuntimeRunPaths() runtimeRunPaths} list.
+     * @param elements An iterable of runtimeRunPaths elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addAllRuntimeRunPaths(Iterable<? extends SourcePath> elements) {
+      this.runtimeRunPaths.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link SwiftToolchainDescriptionArg#getLicenses() licenses} set.
+     * @param element A licenses element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addLicenses(SourcePath element) {
+      this.licenses.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link SwiftToolchainDescriptionArg#getLicenses() licenses} set.
+     * @param elements An array of licenses elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addLicenses(SourcePath... elements) {
+      this.licenses.add(elements);
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link SwiftToolchainDescriptionArg#getLicenses() licenses} set.
+     * @param elements An iterable of licenses elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setLicenses(Iterable<? extends SourcePath> elements) {
+      this.licenses = ImmutableSet.builder();
+      return addAllLicenses(elements);
+    }
+
+    /**
+     * Adds elements to {@link SwiftToolchainDescriptionArg#getLicenses() licenses} set.
+     * @param elements An iterable of licenses elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addAllLicenses(Iterable<? extends SourcePath> elements) {
+      this.licenses.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link SwiftToolchainDescriptionArg#getLabels() labels} sortedSet.
+     * @param element A labels element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addLabels(String element) {
+      this.labels.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link SwiftToolchainDescriptionArg#getLabels() labels} sortedSet.
+     * @param elements An array of labels elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addLabels(String... elements) {
+      this.labels.addAll(Arrays.asList(elements));
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link SwiftToolchainDescriptionArg#getLabels() labels} sortedSet.
+     * @param elements An iterable of labels elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setLabels(Iterable<String> elements) {
+      this.labels = ImmutableSortedSet.naturalOrder();
+      return addAllLabels(elements);
+    }
+
+    /**
+     * Adds elements to {@link SwiftToolchainDescriptionArg#getLabels() labels} sortedSet.
+     * @param elements An iterable of labels elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addAllLabels(Iterable<String> elements) {
+      this.labels.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link SwiftToolchainDescriptionArg#getDefaultTargetPlatform() defaultTargetPlatform} to defaultTargetPlatform.
+     * @param defaultTargetPlatform The value for defaultTargetPlatform
+     * @return {@code this} builder for chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setDefaultTargetPlatform(UnconfiguredBuildTarget defaultTargetPlatform) {
+      this.defaultTargetPlatform = Objects.requireNonNull(defaultTargetPlatform, "defaultTargetPlatform");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link SwiftToolchainDescriptionArg#getDefaultTargetPlatform() defaultTargetPlatform} to defaultTargetPlatform.
+     * @param defaultTargetPlatform The value for defaultTargetPlatform
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setDefaultTargetPlatform(Optional<? extends UnconfiguredBuildTarget> defaultTargetPlatform) {
+      this.defaultTargetPlatform = defaultTargetPlatform.orElse(null);
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link SwiftToolchainDescriptionArg#getCompatibleWith() compatibleWith} list.
+     * @param element A compatibleWith element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addCompatibleWith(UnconfiguredBuildTarget element) {
+      this.compatibleWith.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link SwiftToolchainDescriptionArg#getCompatibleWith() compatibleWith} list.
+     * @param elements An array of compatibleWith elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addCompatibleWith(UnconfiguredBuildTarget... elements) {
+      this.compatibleWith.add(elements);
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link SwiftToolchainDescriptionArg#getCompatibleWith() compatibleWith} list.
+     * @param elements An iterable of compatibleWith elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setCompatibleWith(Iterable<? extends UnconfiguredBuildTarget> elements) {
+      this.compatibleWith = ImmutableList.builder();
+      return addAllCompatibleWith(elements);
+    }
+
+    /**
+     * Adds elements to {@link SwiftToolchainDescriptionArg#getCompatibleWith() compatibleWith} list.
+     * @param elements An iterable of compatibleWith elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addAllCompatibleWith(Iterable<? extends UnconfiguredBuildTarget> elements) {
+      this.compatibleWith.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link SwiftToolchainDescriptionArg#getName() name} attribute.
+     * @param name The value for name 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setName(String name) {
+      this.name = Objects.requireNonNull(name, "name");
+      initBits &= ~INIT_BIT_NAME;
+      return this;
+    }
+
+    /**
+     * Builds a new {@link SwiftToolchainDescriptionArg SwiftToolchainDescriptionArg}.
+     * @return An immutable instance of SwiftToolchainDescriptionArg
+     * @throws java.lang.IllegalStateException if any required attributes are missing
+     */
+    public SwiftToolchainDescriptionArg build() {
+      if (initBits != 0) {
+        throw new IllegalStateException(formatRequiredAttributesMessage());
+      }
+      return new SwiftToolchainDescriptionArg(this);
+    }
+
+    private String formatRequiredAttributesMessage() {
+      List<String> attributes = new ArrayList<>();
+      if ((initBits & INIT_BIT_SWIFTC) != 0) attributes.add("swiftc");
+      if ((initBits & INIT_BIT_NAME) != 0) attributes.add("name");
+      return "Cannot build SwiftToolchainDescriptionArg, some of required attributes are not set " + attributes;
+    }
+  }
+}
@@ -0,0 +1,338 @@
+package com.facebook.buck.util.environment;
+
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.primitives.Longs;
+import com.google.errorprone.annotations.Var;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import org.immutables.value.Generated;
+
+/**
+ * Immutable implementation of {@link BuildEnvironmentDescription}.
+ * <p>
+ * Use the static factory method to create immutable instances:
+ * {@code ImmutableBuildEnvironmentDescription.of()}.
+ */
+@Generated(from = "BuildEnvironmentDescription", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+final class ImmutableBuildEnvironmentDescription
+    extends BuildEnvironmentDescription {
+  private final String user;
+  private final String hostname;
+  private final String os;
+  private final int availableCores;
+  private final long systemMemory;
+  private final @Nullable Boolean buckDirty;
+  private final String buckCommit;
+  private final String javaVersion;
+  private final ImmutableList<String> cacheModes;
+  private final ImmutableMap<String, String> extraData;
+  private final int jsonProtocolVersion;
+  private final String buildType;
+
+  private ImmutableBuildEnvironmentDescription(
+      String user,
+      String hostname,
+      String os,
+      int availableCores,
+      long systemMemory,
+      Optional<Boolean> buckDirty,
+      String buckCommit,
+      String javaVersion,
+      Iterable<String> cacheModes,
+      Map<String, ? extends String> extraData,
+      int jsonProtocolVersion,
+      String buildType) {
+    this.user = Objects.requireNonNull(user, "user");
+    this.hostname = Objects.requireNonNull(hostname, "hostname");
+    this.os = Objects.requireNonNull(os, "os");
+    this.availableCores = availableCores;
+    this.systemMemory = systemMemory;
+    this.buckDirty = buckDirty.orElse(null);
+    this.buckCommit = Objects.requireNonNull(buckCommit, "buckCommit");
+    this.javaVersion = Objects.requireNonNull(javaVersion, "javaVersion");
+    this.cacheModes = ImmutableList.copyOf(cacheModes);
+    this.extraData = ImmutableMap.copyOf(extraData);
+    this.jsonProtocolVersion = jsonProtocolVersion;
+    this.buildType = Objects.requireNonNull(buildType, "buildType");
+    this.initShim = null;
+  }
+
+  private static final byte STAGE_INITIALIZING = -1;
+  private static final byte STAGE_UNINITIALIZED = 0;
+  private static final byte STAGE_INITIALIZED = 1;
+  @SuppressWarnings("Immutable")
+  private transient volatile InitShim initShim = new InitShim();
+
+  @Generated(from = "BuildEnvironmentDescription", generator = "Immutables")
+  private final class InitShim {
+    private byte jsonProtocolVersionBuildStage = STAGE_UNINITIALIZED;
+    private int jsonProtocolVersion;
+
+    int getJsonProtocolVersion() {
+      if (jsonProtocolVersionBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (jsonProtocolVersionBuildStage == STAGE_UNINITIALIZED) {
+        jsonProtocolVersionBuildStage = STAGE_INITIALIZING;
+        this.jsonProtocolVersion = ImmutableBuildEnvironmentDescription.super.getJsonProtocolVersion();
+        jsonProtocolVersionBuildStage = STAGE_INITIALIZED;
+      }
+      return this.jsonProtocolVersion;
+    }
+
+    void setJsonProtocolVersion(int jsonProtocolVersion) {
+      this.jsonProtocolVersion = jsonProtocolVersion;
+      jsonProtocolVersionBuildStage = STAGE_INITIALIZED;
+    }
+
+    private byte buildTypeBuildStage = STAGE_UNINITIALIZED;
+    private String buildType;
+
+    String getBuildType() {
+      if (buildTypeBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (buildTypeBuildStage == STAGE_UNINITIALIZED) {
+        buildTypeBuildStage = STAGE_INITIALIZING;
+        this.buildType = Objects.requireNonNull(ImmutableBuildEnvironmentDescription.super.getBuildType(), "buildType");
+        buildTypeBuildStage = STAGE_INITIALIZED;
+      }
+      return this.buildType;
+    }
+
+    void setBuildType(String buildType) {
+      this.buildType = buildType;
+      buildTypeBuildStage = STAGE_INITIALIZED;
+    }
+
+    private String formatInitCycleMessage() {
+      List<String> attributes = new ArrayList<>();
+      if (jsonProtocolVersionBuildStage == STAGE_INITIALIZING) attributes.add("jsonProtocolVersion");
+      if (buildTypeBuildStage == STAGE_INITIALIZING) attributes.add("buildType");
+      return "Cannot build BuildEnvironmentDescription, attribute initializers form cycle " + attributes;
+    }
+  }
+
+  /**
+   * @return The value of the {@code user} attribute
+   */
+  @Override
+  public String getUser() {
+    return user;
+  }
+
+  /**
+   * @return The value of the {@code hostname} attribute
+   */
+  @Override
+  public String getHostname() {
+    return hostname;
+  }
+
+  /**
+   * @return The value of the {@code os} attribute
+   */
+  @Override
+  public String getOs() {
+    return os;
+  }
+
+  /**
+   * @return The value of the {@code availableCores} attribute
+   */
+  @Override
+  public int getAvailableCores() {
+    return availableCores;
+  }
+
+  /**
+   * @return The value of the {@code systemMemory} attribute
+   */
+  @Override
+  public long getSystemMemory() {
+    return systemMemory;
+  }
+
+  /**
+   * @return The value of the {@code buckDirty} attribute
+   */
+  @Override
+  public Optional<Boolean> getBuckDirty() {
+    return Optional.ofNullable(buckDirty);
+  }
+
+  /**
+   * @return The value of the {@code buckCommit} attribute
+   */
+  @Override
+  public String getBuckCommit() {
+    return buckCommit;
+  }
+
+  /**
+   * @return The value of the {@code javaVersion} attribute
+   */
+  @Override
+  public String getJavaVersion() {
+    return javaVersion;
+  }
+
+  /**
+   * @return The value of the {@code cacheModes} attribute
+   */
+  @Override
+  public ImmutableList<String> getCacheModes() {
+    return cacheModes;
+  }
+
+  /**
+   * @return The value of the {@code extraData} attribute
+   */
+  @Override
+  public ImmutableMap<String, String> getExtraData() {
+    return extraData;
+  }
+
+  /**
+   * @return The value of the {@code jsonProtocolVersion} attribute
+   */
+  @Override
+  public int getJsonProtocolVersion() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.getJsonProtocolVersion()
+        : this.jsonProtocolVersion;
+  }
+
+  /**
+   * @return The value of the {@code buildType} attribute
+   */
+  @Override
+  public String getBuildType() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.getBuildType()
+        : this.buildType;
+  }
+
+  /**
+   * This instance is equal to all instances of {@code ImmutableBuildEnvironmentDescription} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof ImmutableBuildEnvironmentDescription
+        && equalTo((ImmutableBuildEnvironmentDescription) another);
+  }
+
+  private boolean equalTo(ImmutableBuildEnvironmentDescription another) {
+    return user.equals(another.user)
+        && hostname.equals(another.hostname)
+        && os.equals(another.os)
+        && availableCores == another.availableCores
+        && systemMemory == another.systemMemory
+        && Objects.equals(buckDirty, another.buckDirty)
+        && buckCommit.equals(another.buckCommit)
+        && javaVersion.equals(another.javaVersion)
+        && cacheModes.equals(another.cacheModes)
+        && extraData.equals(another.extraData)
+        && jsonProtocolVersion == another.jsonProtocolVersion
+        && buildType.equals(another.buildType);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code user}, {@code hostname}, {@code os}, {@code availableCores}, {@code systemMemory}, {@code buckDirty}, {@code buckCommit}, {@code javaVersion}, {@code cacheModes}, {@code extraData}, {@code jsonProtocolVersion}, {@code buildType}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    @Var int h = 5381;
+    h += (h << 5) + user.hashCode();
+    h += (h << 5) + hostname.hashCode();
+    h += (h << 5) + os.hashCode();
+    h += (h << 5) + availableCores;
+    h += (h << 5) + Longs.hashCode(systemMemory);
+    h += (h << 5) + Objects.hashCode(buckDirty);
+    h += (h << 5) + buckCommit.hashCode();
+    h += (h << 5) + javaVersion.hashCode();
+    h += (h << 5) + cacheModes.hashCode();
+    h += (h << 5) + extraData.hashCode();
+    h += (h << 5) + jsonProtocolVersion;
+    h += (h << 5) + buildType.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code BuildEnvironmentDescription} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("BuildEnvironmentDescription")
+        .omitNullValues()
+        .add("user", user)
+        .add("hostname", hostname)
+        .add("os", os)
+        .add("availableCores", availableCores)
+        .add("systemMemory", systemMemory)
+        .add("buckDirty", buckDirty)
+        .add("buckCommit", buckCommit)
+        .add("javaVersion", javaVersion)
+        .add("cacheModes", cacheModes)
+        .add("extraData", extraData)
+        .add("jsonProtocolVersion", jsonProtocolVersion)
+        .add("buildType", buildType)
+        .toString();
+  }
+
+  /**
+   * Construct a new immutable {@code BuildEnvironmentDescription} instance.
+   * @param user The value for the {@code user} attribute
+   * @param hostname The value for the {@code hostname} attribute
+   * @param os The value for the {@code os} attribute
+   * @param availableCores The value for the {@code availableCores} attribute
+   * @param systemMemory The value for the {@code systemMemory} attribute
+   * @param buckDirty The value for the {@code buckDirty} attribute
+   * @param buckCommit The value for the {@code buckCommit} attribute
+   * @param javaVersion The value for the {@code javaVersion} attribute
+   * @param cacheModes The value for the {@code cacheModes} attribute
+   * @param extraData The value for the {@code extraData} attribute
+   * @param jsonProtocolVersion The value for the {@code jsonProtocolVersion} attribute
+   * @param buildType The value for the {@code buildType} attribute
+   * @return An immutable BuildEnvironmentDescription instance
+   */
+  public static ImmutableBuildEnvironmentDescription of(String user, String hostname, String os, int availableCores, long systemMemory, Optional<Boolean> buckDirty, String buckCommit, String javaVersion, ImmutableList<String> cacheModes, ImmutableMap<String, String> extraData, int jsonProtocolVersion, String buildType) {
+    return of(user, hostname, os, availableCores, systemMemory, buckDirty, buckCommit, javaVersion, (Iterable<String>) cacheModes, extraData, jsonProtocolVersion, buildType);
+  }
+
+  /**
+   * Construct a new immutable {@code BuildEnvironmentDescription} instance.
+   * @param user The value for the {@code user} attribute
+   * @param hostname The value for the {@code hostname} attribute
+   * @param os The value for the {@code os} attribute
+   * @param availableCores The value for the {@code availableCores} attribute
+   * @param systemMemory The value for the {@code systemMemory} attribute
+   * @param buckDirty The value for the {@code buckDirty} attribute
+   * @param buckCommit The value for the {@code buckCommit} attribute
+   * @param javaVersion The value for the {@code javaVersion} attribute
+   * @param cacheModes The value for the {@code cacheModes} attribute
+   * @param extraData The value for the {@code extraData} attribute
+   * @param jsonProtocolVersion The value for the {@code jsonProtocolVersion} attribute
+   * @param buildType The value for the {@code buildType} attribute
+   * @return An immutable BuildEnvironmentDescription instance
+   */
+  public static ImmutableBuildEnvironmentDescription of(String user, String hostname, String os, int availableCores, long systemMemory, Optional<Boolean> buckDirty, String buckCommit, String javaVersion, Iterable<String> cacheModes, Map<String, ? extends String> extraData, int jsonProtocolVersion, String buildType) {
+    return new ImmutableBuildEnvironmentDescription(user, hostname, os, availableCores, systemMemory, buckDirty, buckCommit, javaVersion, cacheModes, extraData, jsonProtocolVersion, buildType);
+  }
+}
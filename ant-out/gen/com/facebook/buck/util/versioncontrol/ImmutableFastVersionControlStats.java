@@ -0,0 +1,145 @@
+package com.facebook.buck.util.versioncontrol;
+
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.ImmutableSet;
+import com.google.errorprone.annotations.Var;
+import java.util.Objects;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import org.immutables.value.Generated;
+
+/**
+ * Immutable implementation of {@link FastVersionControlStats}.
+ * <p>
+ * Use the static factory method to create immutable instances:
+ * {@code ImmutableFastVersionControlStats.of()}.
+ */
+@Generated(from = "FastVersionControlStats", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+final class ImmutableFastVersionControlStats
+    implements FastVersionControlStats {
+  private final String currentRevisionId;
+  private final ImmutableSet<String> baseBookmarks;
+  private final String branchedFromMasterRevisionId;
+  private final Long branchedFromMasterTS;
+
+  private ImmutableFastVersionControlStats(
+      String currentRevisionId,
+      Iterable<String> baseBookmarks,
+      String branchedFromMasterRevisionId,
+      Long branchedFromMasterTS) {
+    this.currentRevisionId = Objects.requireNonNull(currentRevisionId, "currentRevisionId");
+    this.baseBookmarks = ImmutableSet.copyOf(baseBookmarks);
+    this.branchedFromMasterRevisionId = Objects.requireNonNull(branchedFromMasterRevisionId, "branchedFromMasterRevisionId");
+    this.branchedFromMasterTS = Objects.requireNonNull(branchedFromMasterTS, "branchedFromMasterTS");
+  }
+
+  /**
+   * @return The value of the {@code currentRevisionId} attribute
+   */
+  @Override
+  public String getCurrentRevisionId() {
+    return currentRevisionId;
+  }
+
+  /**
+   * @return The value of the {@code baseBookmarks} attribute
+   */
+  @Override
+  public ImmutableSet<String> getBaseBookmarks() {
+    return baseBookmarks;
+  }
+
+  /**
+   * @return The value of the {@code branchedFromMasterRevisionId} attribute
+   */
+  @Override
+  public String getBranchedFromMasterRevisionId() {
+    return branchedFromMasterRevisionId;
+  }
+
+  /**
+   * @return The value of the {@code branchedFromMasterTS} attribute
+   */
+  @Override
+  public Long getBranchedFromMasterTS() {
+    return branchedFromMasterTS;
+  }
+
+  /**
+   * This instance is equal to all instances of {@code ImmutableFastVersionControlStats} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof ImmutableFastVersionControlStats
+        && equalTo((ImmutableFastVersionControlStats) another);
+  }
+
+  private boolean equalTo(ImmutableFastVersionControlStats another) {
+    return currentRevisionId.equals(another.currentRevisionId)
+        && baseBookmarks.equals(another.baseBookmarks)
+        && branchedFromMasterRevisionId.equals(another.branchedFromMasterRevisionId)
+        && branchedFromMasterTS.equals(another.branchedFromMasterTS);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code currentRevisionId}, {@code baseBookmarks}, {@code branchedFromMasterRevisionId}, {@code branchedFromMasterTS}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    @Var int h = 5381;
+    h += (h << 5) + currentRevisionId.hashCode();
+    h += (h << 5) + baseBookmarks.hashCode();
+    h += (h << 5) + branchedFromMasterRevisionId.hashCode();
+    h += (h << 5) + branchedFromMasterTS.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code FastVersionControlStats} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("FastVersionControlStats")
+        .omitNullValues()
+        .add("currentRevisionId", currentRevisionId)
+        .add("baseBookmarks", baseBookmarks)
+        .add("branchedFromMasterRevisionId", branchedFromMasterRevisionId)
+        .add("branchedFromMasterTS", branchedFromMasterTS)
+        .toString();
+  }
+
+  /**
+   * Construct a new immutable {@code FastVersionControlStats} instance.
+   * @param currentRevisionId The value for the {@code currentRevisionId} attribute
+   * @param baseBookmarks The value for the {@code baseBookmarks} attribute
+   * @param branchedFromMasterRevisionId The value for the {@code branchedFromMasterRevisionId} attribute
+   * @param branchedFromMasterTS The value for the {@code branchedFromMasterTS} attribute
+   * @return An immutable FastVersionControlStats instance
+   */
+  public static ImmutableFastVersionControlStats of(String currentRevisionId, ImmutableSet<String> baseBookmarks, String branchedFromMasterRevisionId, Long branchedFromMasterTS) {
+    return of(currentRevisionId, (Iterable<String>) baseBookmarks, branchedFromMasterRevisionId, branchedFromMasterTS);
+  }
+
+  /**
+   * Construct a new immutable {@code FastVersionControlStats} instance.
+   * @param currentRevisionId The value for the {@code currentRevisionId} attribute
+   * @param baseBookmarks The value for the {@code baseBookmarks} attribute
+   * @param branchedFromMasterRevisionId The value for the {@code branchedFromMasterRevisionId} attribute
+   * @param branchedFromMasterTS The value for the {@code branchedFromMasterTS} attribute
+   * @return An immutable FastVersionControlStats instance
+   */
+  public static ImmutableFastVersionControlStats of(String currentRevisionId, Iterable<String> baseBookmarks, String branchedFromMasterRevisionId, Long branchedFromMasterTS) {
+    return new ImmutableFastVersionControlStats(currentRevisionId, baseBookmarks, branchedFromMasterRevisionId, branchedFromMasterTS);
+  }
+}
@@ -0,0 +1,101 @@
+package com.facebook.buck.util.zip.collect;
+
+import com.google.common.base.MoreObjects;
+import com.google.errorprone.annotations.Var;
+import java.nio.file.Path;
+import java.util.Objects;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import org.immutables.value.Generated;
+
+/**
+ * Immutable implementation of {@link FileZipEntrySource}.
+ * <p>
+ * Use the static factory method to create immutable instances:
+ * {@code ImmutableFileZipEntrySource.of()}.
+ */
+@Generated(from = "FileZipEntrySource", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+final class ImmutableFileZipEntrySource
+    implements FileZipEntrySource {
+  private final Path sourceFilePath;
+  private final String entryName;
+
+  private ImmutableFileZipEntrySource(Path sourceFilePath, String entryName) {
+    this.sourceFilePath = Objects.requireNonNull(sourceFilePath, "sourceFilePath");
+    this.entryName = Objects.requireNonNull(entryName, "entryName");
+  }
+
+  /**
+   * @return The value of the {@code sourceFilePath} attribute
+   */
+  @Override
+  public Path getSourceFilePath() {
+    return sourceFilePath;
+  }
+
+  /**
+   * @return The value of the {@code entryName} attribute
+   */
+  @Override
+  public String getEntryName() {
+    return entryName;
+  }
+
+  /**
+   * This instance is equal to all instances of {@code ImmutableFileZipEntrySource} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof ImmutableFileZipEntrySource
+        && equalTo((ImmutableFileZipEntrySource) another);
+  }
+
+  private boolean equalTo(ImmutableFileZipEntrySource another) {
+    return sourceFilePath.equals(another.sourceFilePath)
+        && entryName.equals(another.entryName);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code sourceFilePath}, {@code entryName}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    @Var int h = 5381;
+    h += (h << 5) + sourceFilePath.hashCode();
+    h += (h << 5) + entryName.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code FileZipEntrySource} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("FileZipEntrySource")
+        .omitNullValues()
+        .add("sourceFilePath", sourceFilePath)
+        .add("entryName", entryName)
+        .toString();
+  }
+
+  /**
+   * Construct a new immutable {@code FileZipEntrySource} instance.
+   * @param sourceFilePath The value for the {@code sourceFilePath} attribute
+   * @param entryName The value for the {@code entryName} attribute
+   * @return An immutable FileZipEntrySource instance
+   */
+  public static ImmutableFileZipEntrySource of(Path sourceFilePath, String entryName) {
+    return new ImmutableFileZipEntrySource(sourceFilePath, entryName);
+  }
+}
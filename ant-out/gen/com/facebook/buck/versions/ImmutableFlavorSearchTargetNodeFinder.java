@@ -0,0 +1,177 @@
+package com.facebook.buck.versions;
+
+import com.facebook.buck.core.model.BuildTarget;
+import com.facebook.buck.core.model.Flavor;
+import com.facebook.buck.core.model.UnflavoredBuildTarget;
+import com.facebook.buck.core.model.targetgraph.TargetNode;
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
+import com.google.errorprone.annotations.Var;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import org.immutables.value.Generated;
+
+/**
+ * Immutable implementation of {@link FlavorSearchTargetNodeFinder}.
+ * <p>
+ * Use the static factory method to create immutable instances:
+ * {@code ImmutableFlavorSearchTargetNodeFinder.of()}.
+ */
+@Generated(from = "FlavorSearchTargetNodeFinder", generator = "Immutables")
+@SuppressWarnings({"rawtypes", "all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+final class ImmutableFlavorSearchTargetNodeFinder
+    extends FlavorSearchTargetNodeFinder {
+  private final ImmutableMap<BuildTarget, TargetNode> baseTargetIndex;
+  private transient final ImmutableMap<BuildTarget, TargetNode> buildTargetIndex;
+  private transient final ImmutableMap<UnflavoredBuildTarget, ImmutableSet<ImmutableSet<Flavor>>> baseTargetFlavorMap;
+
+  private ImmutableFlavorSearchTargetNodeFinder(
+      Map<? extends BuildTarget, ? extends TargetNode> baseTargetIndex) {
+    this.baseTargetIndex = ImmutableMap.copyOf(baseTargetIndex);
+    this.buildTargetIndex = initShim.getBuildTargetIndex();
+    this.baseTargetFlavorMap = initShim.getBaseTargetFlavorMap();
+    this.initShim = null;
+  }
+
+  private static final byte STAGE_INITIALIZING = -1;
+  private static final byte STAGE_UNINITIALIZED = 0;
+  private static final byte STAGE_INITIALIZED = 1;
+  @SuppressWarnings("Immutable")
+  private transient volatile InitShim initShim = new InitShim();
+
+  @Generated(from = "FlavorSearchTargetNodeFinder", generator = "Immutables")
+  private final class InitShim {
+    private byte buildTargetIndexBuildStage = STAGE_UNINITIALIZED;
+    private ImmutableMap<BuildTarget, TargetNode> buildTargetIndex;
+
+    ImmutableMap<BuildTarget, TargetNode> getBuildTargetIndex() {
+      if (buildTargetIndexBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (buildTargetIndexBuildStage == STAGE_UNINITIALIZED) {
+        buildTargetIndexBuildStage = STAGE_INITIALIZING;
+        this.buildTargetIndex = Objects.requireNonNull(ImmutableFlavorSearchTargetNodeFinder.super.getBuildTargetIndex(), "buildTargetIndex");
+        buildTargetIndexBuildStage = STAGE_INITIALIZED;
+      }
+      return this.buildTargetIndex;
+    }
+
+    private byte baseTargetFlavorMapBuildStage = STAGE_UNINITIALIZED;
+    private ImmutableMap<UnflavoredBuildTarget, ImmutableSet<ImmutableSet<Flavor>>> baseTargetFlavorMap;
+
+    ImmutableMap<UnflavoredBuildTarget, ImmutableSet<ImmutableSet<Flavor>>> getBaseTargetFlavorMap() {
+      if (baseTargetFlavorMapBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (baseTargetFlavorMapBuildStage == STAGE_UNINITIALIZED) {
+        baseTargetFlavorMapBuildStage = STAGE_INITIALIZING;
+        this.baseTargetFlavorMap = Objects.requireNonNull(ImmutableFlavorSearchTargetNodeFinder.super.getBaseTargetFlavorMap(), "baseTargetFlavorMap");
+        baseTargetFlavorMapBuildStage = STAGE_INITIALIZED;
+      }
+      return this.baseTargetFlavorMap;
+    }
+
+    private String formatInitCycleMessage() {
+      List<String> attributes = new ArrayList<>();
+      if (buildTargetIndexBuildStage == STAGE_INITIALIZING) attributes.add("buildTargetIndex");
+      if (baseTargetFlavorMapBuildStage == STAGE_INITIALIZING) attributes.add("baseTargetFlavorMap");
+      return "Cannot build FlavorSearchTargetNodeFinder, attribute initializers form cycle " + attributes;
+    }
+  }
+
+  /**
+   * @return The value of the {@code baseTargetIndex} attribute
+   */
+  @Override
+  ImmutableMap<BuildTarget, TargetNode> getBaseTargetIndex() {
+    return baseTargetIndex;
+  }
+
+  /**
+   * @return The computed-at-construction value of the {@code buildTargetIndex} attribute
+   */
+  @Override
+  ImmutableMap<BuildTarget, TargetNode> getBuildTargetIndex() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.getBuildTargetIndex()
+        : this.buildTargetIndex;
+  }
+
+  /**
+   * @return The computed-at-construction value of the {@code baseTargetFlavorMap} attribute
+   */
+  @Override
+  ImmutableMap<UnflavoredBuildTarget, ImmutableSet<ImmutableSet<Flavor>>> getBaseTargetFlavorMap() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.getBaseTargetFlavorMap()
+        : this.baseTargetFlavorMap;
+  }
+
+  /**
+   * This instance is equal to all instances of {@code ImmutableFlavorSearchTargetNodeFinder} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof ImmutableFlavorSearchTargetNodeFinder
+        && equalTo((ImmutableFlavorSearchTargetNodeFinder) another);
+  }
+
+  private boolean equalTo(ImmutableFlavorSearchTargetNodeFinder another) {
+    return baseTargetIndex.equals(another.baseTargetIndex)
+        && buildTargetIndex.equals(another.buildTargetIndex)
+        && baseTargetFlavorMap.equals(another.baseTargetFlavorMap);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code baseTargetIndex}, {@code buildTargetIndex}, {@code baseTargetFlavorMap}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    @Var int h = 5381;
+    h += (h << 5) + baseTargetIndex.hashCode();
+    h += (h << 5) + buildTargetIndex.hashCode();
+    h += (h << 5) + baseTargetFlavorMap.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code FlavorSearchTargetNodeFinder} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("FlavorSearchTargetNodeFinder")
+        .omitNullValues()
+        .add("baseTargetIndex", baseTargetIndex)
+        .add("buildTargetIndex", buildTargetIndex)
+        .add("baseTargetFlavorMap", baseTargetFlavorMap)
+        .toString();
+  }
+
+  /**
+   * Construct a new immutable {@code FlavorSearchTargetNodeFinder} instance.
+   * @param baseTargetIndex The value for the {@code baseTargetIndex} attribute
+   * @return An immutable FlavorSearchTargetNodeFinder instance
+   */
+  public static ImmutableFlavorSearchTargetNodeFinder of(Map<? extends BuildTarget, ? extends TargetNode> baseTargetIndex) {
+    return validate(new ImmutableFlavorSearchTargetNodeFinder(baseTargetIndex));
+  }
+
+
+  private static ImmutableFlavorSearchTargetNodeFinder validate(ImmutableFlavorSearchTargetNodeFinder instance) {
+    instance.check();
+    return instance;
+  }
+}
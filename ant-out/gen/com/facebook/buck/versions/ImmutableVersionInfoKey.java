@@ -0,0 +1,94 @@
+package com.facebook.buck.versions;
+
+import com.facebook.buck.core.model.targetgraph.TargetNode;
+import com.google.common.base.MoreObjects;
+import com.google.errorprone.annotations.Var;
+import java.util.Objects;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import org.immutables.value.Generated;
+
+/**
+ * Immutable implementation of {@link AsyncVersionedTargetGraphBuilder.VersionInfoKey}.
+ * <p>
+ * Use the static factory method to create immutable instances:
+ * {@code ImmutableVersionInfoKey.of()}.
+ */
+@Generated(from = "AsyncVersionedTargetGraphBuilder.VersionInfoKey", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+final class ImmutableVersionInfoKey
+    extends AsyncVersionedTargetGraphBuilder.VersionInfoKey {
+  private final TargetNode<?> targetNode;
+  private transient final int hashCode;
+
+  private ImmutableVersionInfoKey(TargetNode<?> targetNode) {
+    this.targetNode = Objects.requireNonNull(targetNode, "targetNode");
+    this.hashCode = computeHashCode();
+  }
+
+  /**
+   * @return The value of the {@code targetNode} attribute
+   */
+  @Override
+  public TargetNode<?> getTargetNode() {
+    return targetNode;
+  }
+
+  /**
+   * This instance is equal to all instances of {@code ImmutableVersionInfoKey} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof ImmutableVersionInfoKey
+        && equalTo((ImmutableVersionInfoKey) another);
+  }
+
+  private boolean equalTo(ImmutableVersionInfoKey another) {
+    if (hashCode != another.hashCode) return false;
+    return targetNode.equals(another.targetNode);
+  }
+
+  /**
+   * Returns a precomputed-on-construction hash code from attributes: {@code targetNode}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    return hashCode;
+  }
+
+  private int computeHashCode() {
+    @Var int h = 5381;
+    h += (h << 5) + targetNode.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code VersionInfoKey} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("VersionInfoKey")
+        .omitNullValues()
+        .add("targetNode", targetNode)
+        .toString();
+  }
+
+  /**
+   * Construct a new immutable {@code VersionInfoKey} instance.
+   * @param targetNode The value for the {@code targetNode} attribute
+   * @return An immutable VersionInfoKey instance
+   */
+  public static ImmutableVersionInfoKey of(TargetNode<?> targetNode) {
+    return new ImmutableVersionInfoKey(targetNode);
+  }
+}
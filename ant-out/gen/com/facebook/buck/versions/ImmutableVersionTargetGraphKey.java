@@ -0,0 +1,126 @@
+package com.facebook.buck.versions;
+
+import com.facebook.buck.core.model.BuildTarget;
+import com.facebook.buck.core.model.targetgraph.TargetNode;
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.ImmutableMap;
+import com.google.errorprone.annotations.Var;
+import java.util.Objects;
+import java.util.Optional;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import org.immutables.value.Generated;
+
+/**
+ * Immutable implementation of {@link AsyncVersionedTargetGraphBuilder.VersionTargetGraphKey}.
+ * <p>
+ * Use the static factory method to create immutable instances:
+ * {@code ImmutableVersionTargetGraphKey.of()}.
+ */
+@Generated(from = "AsyncVersionedTargetGraphBuilder.VersionTargetGraphKey", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+final class ImmutableVersionTargetGraphKey
+    extends AsyncVersionedTargetGraphBuilder.VersionTargetGraphKey {
+  private final TargetNode<?> targetNode;
+  private final @Nullable ImmutableMap<BuildTarget, Version> selectedVersions;
+  private final @Nullable TargetNodeTranslator targetNodeTranslator;
+  private transient final int hashCode;
+
+  @SuppressWarnings("unchecked") // safe covariant cast
+  private ImmutableVersionTargetGraphKey(
+      TargetNode<?> targetNode,
+      Optional<? extends ImmutableMap<BuildTarget, Version>> selectedVersions,
+      Optional<? extends TargetNodeTranslator> targetNodeTranslator) {
+    this.targetNode = Objects.requireNonNull(targetNode, "targetNode");
+    this.selectedVersions = selectedVersions.orElse(null);
+    this.targetNodeTranslator = targetNodeTranslator.orElse(null);
+    this.hashCode = computeHashCode();
+  }
+
+  /**
+   * @return The value of the {@code targetNode} attribute
+   */
+  @Override
+  public TargetNode<?> getTargetNode() {
+    return targetNode;
+  }
+
+  /**
+   * @return The value of the {@code selectedVersions} attribute
+   */
+  @Override
+  public Optional<ImmutableMap<BuildTarget, Version>> getSelectedVersions() {
+    return Optional.ofNullable(selectedVersions);
+  }
+
+  /**
+   * @return The value of the {@code targetNodeTranslator} attribute
+   */
+  @Override
+  public Optional<TargetNodeTranslator> targetNodeTranslator() {
+    return Optional.ofNullable(targetNodeTranslator);
+  }
+
+  /**
+   * This instance is equal to all instances of {@code ImmutableVersionTargetGraphKey} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof ImmutableVersionTargetGraphKey
+        && equalTo((ImmutableVersionTargetGraphKey) another);
+  }
+
+  private boolean equalTo(ImmutableVersionTargetGraphKey another) {
+    if (hashCode != another.hashCode) return false;
+    return targetNode.equals(another.targetNode)
+        && Objects.equals(selectedVersions, another.selectedVersions);
+  }
+
+  /**
+   * Returns a precomputed-on-construction hash code from attributes: {@code targetNode}, {@code selectedVersions}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    return hashCode;
+  }
+
+  private int computeHashCode() {
+    @Var int h = 5381;
+    h += (h << 5) + targetNode.hashCode();
+    h += (h << 5) + Objects.hashCode(selectedVersions);
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code VersionTargetGraphKey} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("VersionTargetGraphKey")
+        .omitNullValues()
+        .add("targetNode", targetNode)
+        .add("selectedVersions", selectedVersions)
+        .toString();
+  }
+
+  /**
+   * Construct a new immutable {@code VersionTargetGraphKey} instance.
+   * @param targetNode The value for the {@code targetNode} attribute
+   * @param selectedVersions The value for the {@code selectedVersions} attribute
+   * @param targetNodeTranslator The value for the {@code targetNodeTranslator} attribute
+   * @return An immutable VersionTargetGraphKey instance
+   */
+  public static ImmutableVersionTargetGraphKey of(TargetNode<?> targetNode, Optional<? extends ImmutableMap<BuildTarget, Version>> selectedVersions, Optional<? extends TargetNodeTranslator> targetNodeTranslator) {
+    return new ImmutableVersionTargetGraphKey(targetNode, selectedVersions, targetNodeTranslator);
+  }
+}
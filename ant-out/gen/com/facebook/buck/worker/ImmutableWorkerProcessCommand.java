@@ -0,0 +1,114 @@
+package com.facebook.buck.worker;
+
+import com.google.common.base.MoreObjects;
+import com.google.errorprone.annotations.Var;
+import java.nio.file.Path;
+import java.util.Objects;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import org.immutables.value.Generated;
+
+/**
+ * Immutable implementation of {@link WorkerProcessCommand}.
+ * <p>
+ * Use the static factory method to create immutable instances:
+ * {@code ImmutableWorkerProcessCommand.of()}.
+ */
+@Generated(from = "WorkerProcessCommand", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+final class ImmutableWorkerProcessCommand implements WorkerProcessCommand {
+  private final Path argsPath;
+  private final Path stdOutPath;
+  private final Path stdErrPath;
+
+  private ImmutableWorkerProcessCommand(Path argsPath, Path stdOutPath, Path stdErrPath) {
+    this.argsPath = Objects.requireNonNull(argsPath, "argsPath");
+    this.stdOutPath = Objects.requireNonNull(stdOutPath, "stdOutPath");
+    this.stdErrPath = Objects.requireNonNull(stdErrPath, "stdErrPath");
+  }
+
+  /**
+   * @return The value of the {@code argsPath} attribute
+   */
+  @Override
+  public Path getArgsPath() {
+    return argsPath;
+  }
+
+  /**
+   * @return The value of the {@code stdOutPath} attribute
+   */
+  @Override
+  public Path getStdOutPath() {
+    return stdOutPath;
+  }
+
+  /**
+   * @return The value of the {@code stdErrPath} attribute
+   */
+  @Override
+  public Path getStdErrPath() {
+    return stdErrPath;
+  }
+
+  /**
+   * This instance is equal to all instances of {@code ImmutableWorkerProcessCommand} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof ImmutableWorkerProcessCommand
+        && equalTo((ImmutableWorkerProcessCommand) another);
+  }
+
+  private boolean equalTo(ImmutableWorkerProcessCommand another) {
+    return argsPath.equals(another.argsPath)
+        && stdOutPath.equals(another.stdOutPath)
+        && stdErrPath.equals(another.stdErrPath);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code argsPath}, {@code stdOutPath}, {@code stdErrPath}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    @Var int h = 5381;
+    h += (h << 5) + argsPath.hashCode();
+    h += (h << 5) + stdOutPath.hashCode();
+    h += (h << 5) + stdErrPath.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code WorkerProcessCommand} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("WorkerProcessCommand")
+        .omitNullValues()
+        .add("argsPath", argsPath)
+        .add("stdOutPath", stdOutPath)
+        .add("stdErrPath", stdErrPath)
+        .toString();
+  }
+
+  /**
+   * Construct a new immutable {@code WorkerProcessCommand} instance.
+   * @param argsPath The value for the {@code argsPath} attribute
+   * @param stdOutPath The value for the {@code stdOutPath} attribute
+   * @param stdErrPath The value for the {@code stdErrPath} attribute
+   * @return An immutable WorkerProcessCommand instance
+   */
+  public static ImmutableWorkerProcessCommand of(Path argsPath, Path stdOutPath, Path stdErrPath) {
+    return new ImmutableWorkerProcessCommand(argsPath, stdOutPath, stdErrPath);
+  }
+}
@@ -0,0 +1,182 @@
+package com.facebook.buck.worker;
+
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.primitives.Booleans;
+import com.google.errorprone.annotations.Var;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import org.immutables.value.Generated;
+
+/**
+ * Immutable implementation of {@link WorkerProcessParams}.
+ * <p>
+ * Use the static factory method to create immutable instances:
+ * {@code ImmutableWorkerProcessParams.of()}.
+ */
+@Generated(from = "WorkerProcessParams", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+final class ImmutableWorkerProcessParams implements WorkerProcessParams {
+  private final Path tempDir;
+  private final ImmutableList<String> startupCommand;
+  private final ImmutableMap<String, String> startupEnvironment;
+  private final int maxWorkers;
+  private final boolean async;
+  private final @Nullable WorkerProcessIdentity workerProcessIdentity;
+
+  @SuppressWarnings("unchecked") // safe covariant cast
+  private ImmutableWorkerProcessParams(
+      Path tempDir,
+      Iterable<String> startupCommand,
+      Map<String, ? extends String> startupEnvironment,
+      int maxWorkers,
+      boolean async,
+      Optional<? extends WorkerProcessIdentity> workerProcessIdentity) {
+    this.tempDir = Objects.requireNonNull(tempDir, "tempDir");
+    this.startupCommand = ImmutableList.copyOf(startupCommand);
+    this.startupEnvironment = ImmutableMap.copyOf(startupEnvironment);
+    this.maxWorkers = maxWorkers;
+    this.async = async;
+    this.workerProcessIdentity = workerProcessIdentity.orElse(null);
+  }
+
+  /**
+   * @return The value of the {@code tempDir} attribute
+   */
+  @Override
+  public Path getTempDir() {
+    return tempDir;
+  }
+
+  /**
+   * @return The value of the {@code startupCommand} attribute
+   */
+  @Override
+  public ImmutableList<String> getStartupCommand() {
+    return startupCommand;
+  }
+
+  /**
+   * @return The value of the {@code startupEnvironment} attribute
+   */
+  @Override
+  public ImmutableMap<String, String> getStartupEnvironment() {
+    return startupEnvironment;
+  }
+
+  /**
+   * @return The value of the {@code maxWorkers} attribute
+   */
+  @Override
+  public int getMaxWorkers() {
+    return maxWorkers;
+  }
+
+  /**
+   * @return The value of the {@code async} attribute
+   */
+  @Override
+  public boolean isAsync() {
+    return async;
+  }
+
+  /**
+   * @return The value of the {@code workerProcessIdentity} attribute
+   */
+  @Override
+  public Optional<WorkerProcessIdentity> getWorkerProcessIdentity() {
+    return Optional.ofNullable(workerProcessIdentity);
+  }
+
+  /**
+   * This instance is equal to all instances of {@code ImmutableWorkerProcessParams} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof ImmutableWorkerProcessParams
+        && equalTo((ImmutableWorkerProcessParams) another);
+  }
+
+  private boolean equalTo(ImmutableWorkerProcessParams another) {
+    return tempDir.equals(another.tempDir)
+        && startupCommand.equals(another.startupCommand)
+        && startupEnvironment.equals(another.startupEnvironment)
+        && maxWorkers == another.maxWorkers
+        && async == another.async
+        && Objects.equals(workerProcessIdentity, another.workerProcessIdentity);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code tempDir}, {@code startupCommand}, {@code startupEnvironment}, {@code maxWorkers}, {@code async}, {@code workerProcessIdentity}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    @Var int h = 5381;
+    h += (h << 5) + tempDir.hashCode();
+    h += (h << 5) + startupCommand.hashCode();
+    h += (h << 5) + startupEnvironment.hashCode();
+    h += (h << 5) + maxWorkers;
+    h += (h << 5) + Booleans.hashCode(async);
+    h += (h << 5) + Objects.hashCode(workerProcessIdentity);
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code WorkerProcessParams} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("WorkerProcessParams")
+        .omitNullValues()
+        .add("tempDir", tempDir)
+        .add("startupCommand", startupCommand)
+        .add("startupEnvironment", startupEnvironment)
+        .add("maxWorkers", maxWorkers)
+        .add("async", async)
+        .add("workerProcessIdentity", workerProcessIdentity)
+        .toString();
+  }
+
+  /**
+   * Construct a new immutable {@code WorkerProcessParams} instance.
+   * @param tempDir The value for the {@code tempDir} attribute
+   * @param startupCommand The value for the {@code startupCommand} attribute
+   * @param startupEnvironment The value for the {@code startupEnvironment} attribute
+   * @param maxWorkers The value for the {@code maxWorkers} attribute
+   * @param async The value for the {@code async} attribute
+   * @param workerProcessIdentity The value for the {@code workerProcessIdentity} attribute
+   * @return An immutable WorkerProcessParams instance
+   */
+  public static ImmutableWorkerProcessParams of(Path tempDir, ImmutableList<String> startupCommand, ImmutableMap<String, String> startupEnvironment, int maxWorkers, boolean async, Optional<WorkerProcessIdentity> workerProcessIdentity) {
+    return of(tempDir, (Iterable<String>) startupCommand, startupEnvironment, maxWorkers, async, workerProcessIdentity);
+  }
+
+  /**
+   * Construct a new immutable {@code WorkerProcessParams} instance.
+   * @param tempDir The value for the {@code tempDir} attribute
+   * @param startupCommand The value for the {@code startupCommand} attribute
+   * @param startupEnvironment The value for the {@code startupEnvironment} attribute
+   * @param maxWorkers The value for the {@code maxWorkers} attribute
+   * @param async The value for the {@code async} attribute
+   * @param workerProcessIdentity The value for the {@code workerProcessIdentity} attribute
+   * @return An immutable WorkerProcessParams instance
+   */
+  public static ImmutableWorkerProcessParams of(Path tempDir, Iterable<String> startupCommand, Map<String, ? extends String> startupEnvironment, int maxWorkers, boolean async, Optional<? extends WorkerProcessIdentity> workerProcessIdentity) {
+    return new ImmutableWorkerProcessParams(tempDir, startupCommand, startupEnvironment, maxWorkers, async, workerProcessIdentity);
+  }
+}
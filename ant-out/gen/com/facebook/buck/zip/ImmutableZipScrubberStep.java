@@ -0,0 +1,92 @@
+package com.facebook.buck.zip;
+
+import com.google.common.base.MoreObjects;
+import com.google.errorprone.annotations.Var;
+import java.nio.file.Path;
+import java.util.Objects;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import org.immutables.value.Generated;
+
+/**
+ * Immutable implementation of {@link ZipScrubberStep}.
+ * <p>
+ * Use the static factory method to create immutable instances:
+ * {@code ImmutableZipScrubberStep.of()}.
+ */
+@Generated(from = "ZipScrubberStep", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+final class ImmutableZipScrubberStep extends ZipScrubberStep {
+  private final Path zipAbsolutePath;
+
+  private ImmutableZipScrubberStep(Path zipAbsolutePath) {
+    this.zipAbsolutePath = Objects.requireNonNull(zipAbsolutePath, "zipAbsolutePath");
+  }
+
+  /**
+   * @return The value of the {@code zipAbsolutePath} attribute
+   */
+  @Override
+  public Path getZipAbsolutePath() {
+    return zipAbsolutePath;
+  }
+
+  /**
+   * This instance is equal to all instances of {@code ImmutableZipScrubberStep} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof ImmutableZipScrubberStep
+        && equalTo((ImmutableZipScrubberStep) another);
+  }
+
+  private boolean equalTo(ImmutableZipScrubberStep another) {
+    return zipAbsolutePath.equals(another.zipAbsolutePath);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code zipAbsolutePath}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    @Var int h = 5381;
+    h += (h << 5) + zipAbsolutePath.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code ZipScrubberStep} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("ZipScrubberStep")
+        .omitNullValues()
+        .add("zipAbsolutePath", zipAbsolutePath)
+        .toString();
+  }
+
+  /**
+   * Construct a new immutable {@code ZipScrubberStep} instance.
+   * @param zipAbsolutePath The value for the {@code zipAbsolutePath} attribute
+   * @return An immutable ZipScrubberStep instance
+   */
+  public static ImmutableZipScrubberStep of(Path zipAbsolutePath) {
+    return validate(new ImmutableZipScrubberStep(zipAbsolutePath));
+  }
+
+
+  private static ImmutableZipScrubberStep validate(ImmutableZipScrubberStep instance) {
+    instance.check();
+    return instance;
+  }
+}
@@ -90,9 +90,9 @@ public class Aapt2Compile extends ModernBuildRule<Aapt2Compile.Impl> {
       Path outputPath = outputPathResolver.resolvePath(output);
       SourcePathResolverAdapter sourcePathResolverAdapter = buildContext.getSourcePathResolver();
 
-      Aapt2CompileStep aapt2CompileStep =
-          new Aapt2CompileStep(
-              filesystem.getRootPath(),
+      CachingAapt2CompileStep aapt2CompileStep =
+          new CachingAapt2CompileStep(
+              filesystem,
               aapt2ExecutableTool.getCommandPrefix(sourcePathResolverAdapter),
               sourcePathResolverAdapter.getRelativePath(resDir),
               outputPath,
@@ -103,9 +103,14 @@ public class Aapt2Compile extends ModernBuildRule<Aapt2Compile.Impl> {
     }
   }
 
-  private static class Aapt2CompileStep extends ShellStep {
+  /**
+   * Compiles the given inputs, which are either {@code --dir} and a resource directory, or resource
+   * files. The output is a zip of the compiled files for a directory, and a directory to put the
+   * compiled files in otherwise.
+   */
+  static class Aapt2CompileStep extends ShellStep {
     private final ImmutableList<String> commandPrefix;
-    private final Path resDirPath;
+    private final ImmutableList<String> inputs;
     private final Path outputPath;
     private final boolean skipCrunchPngs;
     private final boolean failOnLegacyErrors;
@@ -113,13 +118,13 @@ public class Aapt2Compile extends ModernBuildRule<Aapt2Compile.Impl> {
     Aapt2CompileStep(
         AbsPath workingDirectory,
         ImmutableList<String> commandPrefix,
-        Path resDirPath,
+        ImmutableList<String> inputs,
         Path outputPath,
         boolean skipCrunchPngs,
         boolean failOnLegacyErrors) {
       super(workingDirectory);
       this.commandPrefix = commandPrefix;
-      this.resDirPath = resDirPath;
+      this.inputs = inputs;
       this.outputPath = outputPath;
       this.skipCrunchPngs = skipCrunchPngs;
       this.failOnLegacyErrors = failOnLegacyErrors;
@@ -130,8 +135,8 @@ public class Aapt2Compile extends ModernBuildRule<Aapt2Compile.Impl> {
       return "aapt2_compile";
     }
 
-    @Override
-    protected ImmutableList<String> getShellCommandInternal(ExecutionContext context) {
+    /** Returns the command without the output and the inputs. */
+    ImmutableList<String> getOptions() {
       ImmutableList.Builder<String> builder = ImmutableList.builder();
       builder.addAll(commandPrefix);
       builder.add("compile");
@@ -141,10 +146,16 @@ public class Aapt2Compile extends ModernBuildRule<Aapt2Compile.Impl> {
       if (skipCrunchPngs) {
         builder.add("--no-crunch");
       }
+      return builder.build();
+    }
+
+    @Override
+    protected ImmutableList<String> getShellCommandInternal(ExecutionContext context) {
+      ImmutableList.Builder<String> builder = ImmutableList.builder();
+      builder.addAll(getOptions());
       builder.add("-o");
       builder.add(outputPath.toString());
-      builder.add("--dir");
-      builder.add(resDirPath.toString());
+      builder.addAll(inputs);
       return builder.build();
     }
   }
@@ -0,0 +1,158 @@
+/*
+ * Copyright (c) Facebook, Inc. and its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.facebook.buck.android;
+
+import com.facebook.buck.io.file.MostFiles;
+import com.google.common.hash.HashCode;
+import com.google.common.hash.Hasher;
+import com.google.common.hash.Hashing;
+import com.google.common.io.MoreFiles;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * A content-addressed store of the files compiled by "aapt2 compile". Each entry holds the compiled
+ * file of a single resource file, keyed by the contents and path of the resource file and by the
+ * aapt2 binary and options it was compiled with.
+ *
+ * <p>Entries are never modified once they are written, so the directory can be shared between
+ * checkouts, and trimmed or deleted at any time.
+ */
+class Aapt2CompileCache {
+  /** Changes whenever the key or the layout of the entries does. */
+  private static final int FORMAT_VERSION = 1;
+
+  private final Path root;
+
+  Aapt2CompileCache(Path root) {
+    this.root = root;
+  }
+
+  /**
+   * Returns the part of the key that is shared by all the files compiled with the given command,
+   * or empty if the command doesn't name the aapt2 binary, whose contents stand in for its version.
+   *
+   * @param command the arguments of "aapt2 compile" other than the output and the inputs.
+   */
+  static Optional<HashCode> computeOptionsKey(List<String> command) throws IOException {
+    Hasher hasher = Hashing.sha1().newHasher();
+    hasher.putInt(FORMAT_VERSION);
+    hasher.putInt(command.size());
+    boolean hasBinary = false;
+    for (String arg : command) {
+      Path path = Paths.get(arg);
+      if (path.isAbsolute() && Files.isRegularFile(path)) {
+        hasBinary = true;
+        hasher.putBoolean(true);
+        hasher.putBytes(MoreFiles.asByteSource(path).hash(Hashing.sha1()).asBytes());
+      } else {
+        hasher.putBoolean(false);
+        putString(hasher, arg);
+      }
+    }
+    return hasBinary ? Optional.of(hasher.hash()) : Optional.empty();
+  }
+
+  /**
+   * Returns the key of the file compiled from a resource file.
+   *
+   * @param path the path of the resource file relative to its resource directory, such as {@code
+   *     drawable-hdpi/icon.png}, which aapt2 reads the type and configuration from.
+   */
+  static HashCode computeKey(HashCode optionsKey, String path, HashCode contentHash) {
+    Hasher hasher = Hashing.sha1().newHasher();
+    hasher.putInt(FORMAT_VERSION);
+    hasher.putBytes(optionsKey.asBytes());
+    putString(hasher, path);
+    hasher.putBytes(contentHash.asBytes());
+    return hasher.hash();
+  }
+
+  private static void putString(Hasher hasher, String string) {
+    hasher.putInt(string.length());
+    hasher.putString(string, StandardCharsets.UTF_8);
+  }
+
+  /**
+   * Copies the compiled file stored under the given key to {@code dir}, under the name aapt2 gave
+   * it.
+   *
+   * @return whether there was an entry for the key.
+   */
+  boolean fetch(HashCode key, Path dir) throws IOException {
+    Path entry = getEntry(key);
+    if (!Files.isDirectory(entry)) {
+      return false;
+    }
+    try {
+      List<Path> files;
+      try (Stream<Path> entryFiles = Files.list(entry)) {
+        files = entryFiles.collect(Collectors.toList());
+      }
+      if (files.isEmpty()) {
+        return false;
+      }
+      for (Path file : files) {
+        Files.copy(
+            file,
+            dir.resolve(file.getFileName().toString()),
+            StandardCopyOption.REPLACE_EXISTING);
+      }
+      return true;
+    } catch (NoSuchFileException e) {
+      // The entry was deleted while being read.
+      return false;
+    }
+  }
+
+  /** Stores a compiled file under the given key, unless there is an entry for it already. */
+  void store(HashCode key, Path compiledFile) throws IOException {
+    Path entry = getEntry(key);
+    if (Files.isDirectory(entry)) {
+      return;
+    }
+
+    // Entries are written to a temporary directory first, so that they appear all at once.
+    Files.createDirectories(entry.getParent());
+    Path tmp = Files.createTempDirectory(entry.getParent(), "tmp-");
+    try {
+      Files.copy(compiledFile, tmp.resolve(compiledFile.getFileName().toString()));
+      Files.move(tmp, entry, StandardCopyOption.ATOMIC_MOVE);
+    } catch (IOException e) {
+      // Another build may have stored the same entry first.
+      if (!Files.isDirectory(entry)) {
+        throw e;
+      }
+    } finally {
+      MostFiles.deleteRecursivelyIfExists(tmp);
+    }
+  }
+
+  private Path getEntry(HashCode key) {
+    String hash = key.toString();
+    return root.resolve(hash.substring(0, 2)).resolve(hash);
+  }
+}
@@ -0,0 +1,279 @@
+/*
+ * Copyright (c) Facebook, Inc. and its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.facebook.buck.android;
+
+import com.android.apksig.apk.ApkFormatException;
+import com.android.apksig.apk.ApkUtils;
+import com.android.apksig.internal.zip.CentralDirectoryRecord;
+import com.android.apksig.internal.zip.EocdRecord;
+import com.android.apksig.internal.zip.LocalFileRecord;
+import com.android.apksig.util.DataSink;
+import com.android.apksig.util.DataSource;
+import com.android.apksig.util.DataSources;
+import com.android.apksig.zip.ZipFormatException;
+import com.google.common.base.Preconditions;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A view of an APK as zipalign would write it, with the data of each uncompressed entry starting
+ * at a multiple of the alignment. Only the local file headers and the central directory are
+ * rewritten, in memory: the data of the entries is read from the APK as it is, so that signing
+ * this view writes the aligned, signed APK without an aligned copy of it being written first.
+ *
+ * <p>The padding goes in the alignment extra field that apksig uses, so that {@link
+ * com.android.apksig.ApkSigner} keeps the data aligned when it moves entries.
+ *
+ * <p>The zip records are parsed and rewritten with {@link CentralDirectoryRecord}, {@link
+ * LocalFileRecord} and {@link EocdRecord}, which ApkSigner itself uses. They are in apksig's
+ * {@code internal.zip} package, so they are not part of its API and may change in any release:
+ * updating third-party/java/aosp/apksig.jar needs this class checked against the new version,
+ * which ApkSignerStepTest does by signing an APK with unaligned entries.
+ */
+class AlignedApkDataSource implements DataSource {
+  // See ApkSigner in apksig, which reads and writes this field when it signs an APK.
+  private static final int ALIGNMENT_EXTRA_ID = 0xd935;
+  private static final int ALIGNMENT_EXTRA_MIN_SIZE = 6;
+
+  private static final int LOCAL_FILE_HEADER_EXTRA_LENGTH_OFFSET = 28;
+
+  /** The parts of the view, one after another, and the offsets at which they start. */
+  private final DataSource[] parts;
+
+  private final long[] offsets;
+  private final long size;
+
+  private AlignedApkDataSource(DataSource[] parts, long[] offsets, long size) {
+    this.parts = parts;
+    this.offsets = offsets;
+    this.size = size;
+  }
+
+  /** Returns a view of the given APK with its uncompressed entries aligned to {@code alignment}. */
+  static DataSource create(DataSource apk, int alignment) throws IOException, ApkFormatException {
+    try {
+      ApkUtils.ZipSections sections = ApkUtils.findZipSections(apk);
+      ByteBuffer centralDirectory =
+          apk.getByteBuffer(
+                  sections.getZipCentralDirectoryOffset(),
+                  (int) sections.getZipCentralDirectorySizeBytes())
+              .order(ByteOrder.LITTLE_ENDIAN);
+      List<CentralDirectoryRecord> records = new ArrayList<>();
+      for (int i = 0; i < sections.getZipCentralDirectoryRecordCount(); i++) {
+        records.add(CentralDirectoryRecord.getRecord(centralDirectory));
+      }
+
+      // Lay the entries out in the order they are in the APK, so that it is read sequentially.
+      List<CentralDirectoryRecord> recordsByOffset = new ArrayList<>(records);
+      recordsByOffset.sort(CentralDirectoryRecord.BY_LOCAL_FILE_HEADER_OFFSET_COMPARATOR);
+      List<DataSource> parts = new ArrayList<>(records.size() * 2 + 2);
+      Map<CentralDirectoryRecord, Long> newOffsets = new IdentityHashMap<>();
+      long offset = 0;
+      for (CentralDirectoryRecord record : recordsByOffset) {
+        LocalFileRecord localRecord =
+            LocalFileRecord.getRecord(apk, record, sections.getZipCentralDirectoryOffset());
+        long recordStart = localRecord.getStartOffsetInArchive();
+        newOffsets.put(record, offset);
+
+        if (localRecord.isDataCompressed()) {
+          parts.add(apk.slice(recordStart, localRecord.getSize()));
+          offset += localRecord.getSize();
+          continue;
+        }
+
+        int headerSize = localRecord.getExtraFieldStartOffsetInsideRecord();
+        ByteBuffer extra = getAligningExtra(localRecord.getExtra(), offset + headerSize, alignment);
+        ByteBuffer header =
+            ByteBuffer.allocate(headerSize + extra.remaining()).order(ByteOrder.LITTLE_ENDIAN);
+        apk.copyTo(recordStart, headerSize, header);
+        header.put(extra);
+        header.putShort(LOCAL_FILE_HEADER_EXTRA_LENGTH_OFFSET, (short) extra.capacity());
+        header.flip();
+        parts.add(DataSources.asDataSource(header));
+        offset += header.remaining();
+
+        long dataStart = recordStart + localRecord.getDataStartOffsetInRecord();
+        long dataSize = localRecord.getSize() - localRecord.getDataStartOffsetInRecord();
+        parts.add(apk.slice(dataStart, dataSize));
+        offset += dataSize;
+      }
+
+      // The central directory keeps its order, with the records pointing at the new headers.
+      long centralDirectoryOffset = offset;
+      List<CentralDirectoryRecord> newRecords = new ArrayList<>(records.size());
+      long centralDirectorySize = 0;
+      for (CentralDirectoryRecord record : records) {
+        CentralDirectoryRecord newRecord =
+            record.createWithModifiedLocalFileHeaderOffset(newOffsets.get(record));
+        newRecords.add(newRecord);
+        centralDirectorySize += newRecord.getSize();
+      }
+      ByteBuffer newCentralDirectory =
+          ByteBuffer.allocate((int) centralDirectorySize).order(ByteOrder.LITTLE_ENDIAN);
+      for (CentralDirectoryRecord record : newRecords) {
+        record.copyTo(newCentralDirectory);
+      }
+      newCentralDirectory.flip();
+      parts.add(DataSources.asDataSource(newCentralDirectory));
+      parts.add(
+          DataSources.asDataSource(
+              EocdRecord.createWithModifiedCentralDirectoryInfo(
+                  sections.getZipEndOfCentralDirectory(),
+                  newRecords.size(),
+                  centralDirectorySize,
+                  centralDirectoryOffset)));
+
+      long[] offsets = new long[parts.size()];
+      long size = 0;
+      for (int i = 0; i < parts.size(); i++) {
+        offsets[i] = size;
+        size += parts.get(i).size();
+      }
+      return new AlignedApkDataSource(parts.toArray(new DataSource[0]), offsets, size);
+    } catch (ZipFormatException e) {
+      throw new ApkFormatException("Malformed APK: " + e.getMessage(), e);
+    }
+  }
+
+  /**
+   * Returns the given extra field without any alignment padding, followed by an alignment field
+   * that pads it so that the data after it, at {@code extraOffset} plus its size, is aligned.
+   */
+  private static ByteBuffer getAligningExtra(ByteBuffer extra, long extraOffset, int alignment) {
+    ByteBuffer original = extra.slice().order(ByteOrder.LITTLE_ENDIAN);
+    ByteBuffer fields = ByteBuffer.allocate(original.remaining()).order(ByteOrder.LITTLE_ENDIAN);
+    while (original.remaining() >= 4) {
+      int id = original.getShort() & 0xffff;
+      int size = original.getShort() & 0xffff;
+      if (size > original.remaining()) {
+        // Not a field, but padding like the zeros that zipalign pads entries with.
+        break;
+      }
+      if (id == ALIGNMENT_EXTRA_ID || (id == 0 && size == 0)) {
+        original.position(original.position() + size);
+        continue;
+      }
+      fields.putShort((short) id).putShort((short) size);
+      fields.put((ByteBuffer) original.slice().limit(size));
+      original.position(original.position() + size);
+    }
+    fields.flip();
+
+    long unpaddedEnd = extraOffset + fields.remaining() + ALIGNMENT_EXTRA_MIN_SIZE;
+    int padding = (int) ((alignment - unpaddedEnd % alignment) % alignment);
+    ByteBuffer result =
+        ByteBuffer.allocate(fields.remaining() + ALIGNMENT_EXTRA_MIN_SIZE + padding)
+            .order(ByteOrder.LITTLE_ENDIAN);
+    result.put(fields);
+    result.putShort((short) ALIGNMENT_EXTRA_ID);
+    result.putShort((short) (2 + padding));
+    result.putShort((short) alignment);
+    result.position(result.capacity());
+    result.flip();
+    return result;
+  }
+
+  @Override
+  public long size() {
+    return size;
+  }
+
+  @Override
+  public void feed(long offset, long size, DataSink sink) throws IOException {
+    checkRange(offset, size);
+    for (int i = getPart(offset); size > 0; i++) {
+      long partOffset = offset - offsets[i];
+      long partSize = Math.min(size, parts[i].size() - partOffset);
+      parts[i].feed(partOffset, partSize, sink);
+      offset += partSize;
+      size -= partSize;
+    }
+  }
+
+  @Override
+  public ByteBuffer getByteBuffer(long offset, int size) throws IOException {
+    checkRange(offset, size);
+    int part = getPart(offset);
+    if (offset + size <= offsets[part] + parts[part].size()) {
+      return parts[part].getByteBuffer(offset - offsets[part], size);
+    }
+    ByteBuffer buffer = ByteBuffer.allocate(size);
+    copyTo(offset, size, buffer);
+    buffer.flip();
+    return buffer;
+  }
+
+  @Override
+  public void copyTo(long offset, int size, ByteBuffer dest) throws IOException {
+    checkRange(offset, size);
+    for (int i = getPart(offset); size > 0; i++) {
+      long partOffset = offset - offsets[i];
+      int partSize = (int) Math.min(size, parts[i].size() - partOffset);
+      parts[i].copyTo(partOffset, partSize, dest);
+      offset += partSize;
+      size -= partSize;
+    }
+  }
+
+  @Override
+  public DataSource slice(long offset, long size) {
+    checkRange(offset, size);
+    if (size == 0) {
+      return DataSources.asDataSource(ByteBuffer.allocate(0));
+    }
+    int first = getPart(offset);
+    int last = getPart(offset + size - 1);
+    if (first == last) {
+      return parts[first].slice(offset - offsets[first], size);
+    }
+    DataSource[] sliceParts = Arrays.copyOfRange(parts, first, last + 1);
+    long[] sliceOffsets = new long[sliceParts.length];
+    sliceParts[0] = parts[first].slice(offset - offsets[first], offsets[first + 1] - offset);
+    for (int i = 1; i < sliceParts.length; i++) {
+      sliceOffsets[i] = offsets[first + i] - offset;
+    }
+    sliceParts[sliceParts.length - 1] = parts[last].slice(0, offset + size - offsets[last]);
+    return new AlignedApkDataSource(sliceParts, sliceOffsets, size);
+  }
+
+  private void checkRange(long offset, long size) {
+    Preconditions.checkArgument(offset >= 0 && size >= 0, "Negative offset or size");
+    if (offset + size > this.size) {
+      throw new IndexOutOfBoundsException(
+          String.format("%d bytes at %d are past the end of %d bytes", size, offset, this.size));
+    }
+  }
+
+  /** Returns the index of the part that the byte at the given offset is in. */
+  private int getPart(long offset) {
+    int index = Arrays.binarySearch(offsets, offset);
+    if (index < 0) {
+      return -index - 2;
+    }
+    // Skip empty parts, which start where the next part starts.
+    while (parts[index].size() == 0) {
+      index++;
+    }
+    return index;
+  }
+}
@@ -354,20 +354,10 @@ class AndroidBinaryBuildable implements AddsToRuleKey {
     }
 
     if (isApk) {
-      Path zipalignedApkPath = getZipalignedApkPath();
-      steps.add(
-          new ZipalignStep(
-              getProjectFilesystem().getRootPath(),
-              androidPlatformTarget,
-              apkToAlign,
-              zipalignedApkPath));
+      // The signer zipaligns the APK as it writes it.
       steps.add(
           new ApkSignerStep(
-              getProjectFilesystem(),
-              zipalignedApkPath,
-              v2SignedApkPath,
-              keystoreProperties,
-              applyRedex));
+              getProjectFilesystem(), apkToAlign, v2SignedApkPath, keystoreProperties, applyRedex));
 
     } else {
       steps.add(
@@ -798,14 +788,6 @@ class AndroidBinaryBuildable implements AddsToRuleKey {
             .replaceAll("\\.unsigned\\.aab$", ".signed.aab"));
   }
 
-  /** The APK at this path will be zipaligned and jar signed. */
-  private Path getZipalignedApkPath() {
-    return Paths.get(
-        getUnsignedApkPath()
-            .replaceAll("\\.unsigned\\.apk$", ".zipaligned.apk")
-            .replaceAll("\\.unsigned\\.aab$", ".signed.aab"));
-  }
-
   /** The APK at this path will be zipaligned and v2 signed. */
   Path getFinalApkPath() {
     return Paths.get(
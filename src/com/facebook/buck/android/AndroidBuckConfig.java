@@ -20,6 +20,7 @@ import com.facebook.buck.android.toolchain.ndk.NdkCompilerType;
 import com.facebook.buck.android.toolchain.ndk.NdkCxxRuntime;
 import com.facebook.buck.android.toolchain.ndk.NdkCxxRuntimeType;
 import com.facebook.buck.android.toolchain.ndk.NdkTargetArchAbi;
+import com.facebook.buck.core.build.execution.context.ExecutionContext;
 import com.facebook.buck.core.config.BuckConfig;
 import com.facebook.buck.core.exceptions.HumanReadableException;
 import com.facebook.buck.core.model.BuildTarget;
@@ -89,6 +90,12 @@ public class AndroidBuckConfig {
     this.platform = platform;
   }
 
+  /** @return The android config of the build that steps run in the given context for. */
+  public static AndroidBuckConfig of(ExecutionContext context) {
+    return new AndroidBuckConfig(
+        context.getCells().getRootCell().getBuckConfig(), context.getPlatform());
+  }
+
   /** Whether to skip crunching pngs by default in aapt2 compile. */
   public Optional<Boolean> getSkipCrunchPngsDefault() {
     return delegate.getBoolean("android", "aapt_compile_skip_crunch_pngs_default");
@@ -99,6 +106,28 @@ public class AndroidBuckConfig {
     return delegate.getBoolean("android", "aapt_fail_on_legacy_errors").orElse(false);
   }
 
+  /**
+   * The directory of the content-addressed cache of files compiled by aapt2. When set, resource
+   * directories are compiled one file at a time, so that only the files that changed are compiled
+   * again.
+   */
+  public Optional<Path> getAapt2CompileCacheDir() {
+    return delegate
+        .getValue("android", "aapt2_compile_cache_dir")
+        .map(dir -> delegate.resolvePathThatMayBeOutsideTheProjectFilesystem(Paths.get(dir)));
+  }
+
+  /**
+   * The directory of the index of the linear alloc estimates and member references of the classes
+   * split into dex files, keyed by their contents, so that only the classes that changed are
+   * analyzed again.
+   */
+  public Optional<Path> getDalvikStatsIndexDir() {
+    return delegate
+        .getValue("android", "dalvik_stats_index_dir")
+        .map(dir -> delegate.resolvePathThatMayBeOutsideTheProjectFilesystem(Paths.get(dir)));
+  }
+
   /** Whether to disable resource removal in aapt2. */
   public boolean getAaptNoResourceRemoval() {
     return delegate.getBoolean("android", "aapt_no_resource_removal").orElse(false);
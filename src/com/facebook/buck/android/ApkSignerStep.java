@@ -17,6 +17,7 @@
 package com.facebook.buck.android;
 
 import com.android.apksig.ApkSigner;
+import com.android.apksig.util.DataSources;
 import com.android.sdklib.build.ApkCreationException;
 import com.facebook.buck.core.build.execution.context.ExecutionContext;
 import com.facebook.buck.io.filesystem.ProjectFilesystem;
@@ -25,6 +26,7 @@ import com.facebook.buck.step.StepExecutionResult;
 import com.facebook.buck.step.StepExecutionResults;
 import com.google.common.collect.ImmutableList;
 import java.io.File;
+import java.io.RandomAccessFile;
 import java.nio.file.Path;
 import java.security.KeyStore;
 import java.security.KeyStoreException;
@@ -36,9 +38,15 @@ import java.util.List;
 import java.util.Objects;
 import java.util.function.Supplier;
 
-/** Use Google apksigner to v1/v2/v3 sign the final APK */
+/**
+ * Use Google apksigner to v1/v2/v3 sign the final APK, zipaligning it as it is written so that the
+ * aligned and signed APK is written once.
+ */
 class ApkSignerStep implements Step {
 
+  // The alignment of uncompressed entries, as `zipalign 4` aligns them.
+  private static final int ALIGNMENT = 4;
+
   private final ProjectFilesystem filesystem;
   private final Path inputApkPath;
   private final Path outputApkPath;
@@ -72,7 +80,10 @@ class ApkSignerStep implements Step {
     return StepExecutionResults.SUCCESS;
   }
 
-  /** Sign the APK using Google's {@link com.android.apksig.ApkSigner} */
+  /**
+   * Sign the APK using Google's {@link com.android.apksig.ApkSigner}, reading it through an {@link
+   * AlignedApkDataSource} so that the signed APK is zipaligned.
+   */
   private void signApkFile(
       File inputApk, File outputApk, ImmutableList<ApkSigner.SignerConfig> signerConfigs)
       throws ApkCreationException {
@@ -83,12 +94,12 @@ class ApkSignerStep implements Step {
     if (isRedexBuild) {
       apkSignerBuilder.setMinSdkVersion(1);
     }
-    try {
+    try (RandomAccessFile input = new RandomAccessFile(inputApk, "r")) {
       apkSignerBuilder
           .setV1SigningEnabled(true)
           .setV2SigningEnabled(true)
           .setV3SigningEnabled(false)
-          .setInputApk(inputApk)
+          .setInputApk(AlignedApkDataSource.create(DataSources.asDataSource(input), ALIGNMENT))
           .setOutputApk(outputApk)
           .build()
           .sign();
@@ -0,0 +1,388 @@
+/*
+ * Copyright (c) Facebook, Inc. and its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.facebook.buck.android;
+
+import com.facebook.buck.core.build.execution.context.ExecutionContext;
+import com.facebook.buck.core.util.log.Logger;
+import com.facebook.buck.io.file.MostFiles;
+import com.facebook.buck.io.filesystem.ProjectFilesystem;
+import com.facebook.buck.io.pathformat.PathFormatter;
+import com.facebook.buck.step.Step;
+import com.facebook.buck.step.StepExecutionResult;
+import com.facebook.buck.step.StepExecutionResults;
+import com.facebook.buck.util.concurrent.ExecutorPool;
+import com.facebook.buck.util.concurrent.MoreFutures;
+import com.facebook.buck.util.zip.CustomZipOutputStream;
+import com.facebook.buck.util.zip.ZipConstants;
+import com.facebook.buck.util.zip.ZipOutputStreams;
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.base.Throwables;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableSortedSet;
+import com.google.common.collect.Lists;
+import com.google.common.collect.Ordering;
+import com.google.common.hash.HashCode;
+import com.google.common.hash.Hashing;
+import com.google.common.io.MoreFiles;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+import java.util.zip.ZipEntry;
+
+/**
+ * Runs "aapt2 compile" over a resource directory. With {@code [android] aapt2_compile_cache_dir},
+ * the files are compiled one at a time, and the compiled files are kept in an {@link
+ * Aapt2CompileCache}, so that only the files that changed are compiled again. The files missing
+ * from the cache are compiled in shards that run concurrently, and all the compiled files are then
+ * zipped into the same output as compiling the whole directory at once.
+ *
+ * <p>Problems reading or writing the cache are logged and the compile carries on without it.
+ */
+class CachingAapt2CompileStep implements Step {
+  private static final Logger LOG = Logger.get(CachingAapt2CompileStep.class);
+
+  /** The number of aapt2 processes that steps are running on top of one each. */
+  private static final AtomicInteger EXTRA_COMPILES = new AtomicInteger();
+
+  private final ProjectFilesystem filesystem;
+  private final ImmutableList<String> commandPrefix;
+  private final Path resDirPath;
+  private final Path outputPath;
+  private final boolean skipCrunchPngs;
+  private final boolean failOnLegacyErrors;
+
+  CachingAapt2CompileStep(
+      ProjectFilesystem filesystem,
+      ImmutableList<String> commandPrefix,
+      Path resDirPath,
+      Path outputPath,
+      boolean skipCrunchPngs,
+      boolean failOnLegacyErrors) {
+    this.filesystem = filesystem;
+    this.commandPrefix = commandPrefix;
+    this.resDirPath = resDirPath;
+    this.outputPath = outputPath;
+    this.skipCrunchPngs = skipCrunchPngs;
+    this.failOnLegacyErrors = failOnLegacyErrors;
+  }
+
+  @Override
+  public StepExecutionResult execute(ExecutionContext context)
+      throws IOException, InterruptedException {
+    Optional<Path> cacheDir = AndroidBuckConfig.of(context).getAapt2CompileCacheDir();
+    Optional<HashCode> optionsKey = Optional.empty();
+    if (cacheDir.isPresent()) {
+      optionsKey =
+          Aapt2CompileCache.computeOptionsKey(
+              createCompileStep(ImmutableList.of(), outputPath).getOptions());
+    }
+    if (!optionsKey.isPresent()) {
+      return createCompileStep(ImmutableList.of("--dir", resDirPath.toString()), outputPath)
+          .execute(context);
+    }
+
+    Path tmpDir = filesystem.resolve(filesystem.getBuckPaths().getTmpDir());
+    Files.createDirectories(tmpDir);
+    Path scratchDir = Files.createTempDirectory(tmpDir, "aapt2-compile");
+    try {
+      return executePerFile(
+          context, new Aapt2CompileCache(cacheDir.get()), optionsKey.get(), scratchDir);
+    } finally {
+      MostFiles.deleteRecursivelyIfExists(scratchDir);
+    }
+  }
+
+  private StepExecutionResult executePerFile(
+      ExecutionContext context, Aapt2CompileCache cache, HashCode optionsKey, Path scratchDir)
+      throws IOException, InterruptedException {
+    Path resDir = filesystem.resolve(resDirPath);
+    Path compiledDir = scratchDir.resolve("compiled");
+    Files.createDirectories(compiledDir);
+
+    SortedMap<Path, HashCode> keysToCompile = new TreeMap<>();
+    for (Path file : getResourceFiles(resDir)) {
+      HashCode key =
+          Aapt2CompileCache.computeKey(
+              optionsKey,
+              PathFormatter.pathWithUnixSeparators(file),
+              MoreFiles.asByteSource(resDir.resolve(file)).hash(Hashing.sha1()));
+      if (!fetch(cache, key, compiledDir)) {
+        keysToCompile.put(file, key);
+      }
+    }
+
+    int threadLimit = context.getConcurrencyLimit().threadLimit;
+    int extraCompiles =
+        reserveExtraCompiles(Math.min(keysToCompile.size(), threadLimit) - 1, threadLimit - 1);
+    try {
+      ImmutableList<ImmutableList<Path>> shards =
+          getShards(keysToCompile.keySet(), extraCompiles + 1);
+      StepExecutionResult result =
+          compileShards(context, shards, extraCompiles + 1, scratchDir);
+      if (!result.isSuccess()) {
+        return result;
+      }
+      storeShards(cache, keysToCompile, shards, scratchDir, compiledDir);
+    } finally {
+      EXTRA_COMPILES.addAndGet(-extraCompiles);
+    }
+
+    try (CustomZipOutputStream output =
+        ZipOutputStreams.newOutputStream(filesystem.resolve(outputPath))) {
+      for (Path compiledFile : listFiles(compiledDir)) {
+        ZipEntry entry = new ZipEntry(compiledFile.getFileName().toString());
+        entry.setTime(ZipConstants.getFakeTime());
+        output.putNextEntry(entry);
+        Files.copy(compiledFile, output);
+        output.closeEntry();
+      }
+    }
+    return StepExecutionResults.SUCCESS;
+  }
+
+  /**
+   * Reserves up to {@code wanted} aapt2 processes on top of the one of the step's own build
+   * thread, with at most {@code limit} of them across all the steps, so that rules compiling at the
+   * same time don't each start as many processes as the build has threads.
+   */
+  private static int reserveExtraCompiles(int wanted, int limit) {
+    while (true) {
+      int reserved = EXTRA_COMPILES.get();
+      int extra = Math.max(0, Math.min(wanted, limit - reserved));
+      if (extra == 0 || EXTRA_COMPILES.compareAndSet(reserved, reserved + extra)) {
+        return extra;
+      }
+    }
+  }
+
+  /**
+   * Compiles the shards on the build's CPU executor, with at most {@code concurrency} of them
+   * compiling at a time, and returns the first failure, if any.
+   */
+  private StepExecutionResult compileShards(
+      ExecutionContext context,
+      ImmutableList<ImmutableList<Path>> shards,
+      int concurrency,
+      Path scratchDir)
+      throws IOException, InterruptedException {
+    List<Callable<StepExecutionResult>> workers = new ArrayList<>();
+    for (int worker = 0; worker < Math.min(concurrency, shards.size()); worker++) {
+      int firstShard = worker;
+      workers.add(
+          () -> {
+            for (int shard = firstShard; shard < shards.size(); shard += concurrency) {
+              StepExecutionResult result =
+                  compileShard(context, shards.get(shard), scratchDir.resolve("shard-" + shard));
+              if (!result.isSuccess()) {
+                return result;
+              }
+            }
+            return StepExecutionResults.SUCCESS;
+          });
+    }
+    List<StepExecutionResult> results;
+    try {
+      results =
+          MoreFutures.getAll(
+              Objects.requireNonNull(context.getExecutors().get(ExecutorPool.CPU)), workers);
+    } catch (ExecutionException e) {
+      Throwables.throwIfInstanceOf(e.getCause(), IOException.class);
+      Throwables.throwIfInstanceOf(e.getCause(), InterruptedException.class);
+      Throwables.throwIfUnchecked(e.getCause());
+      throw new RuntimeException(e.getCause());
+    }
+    for (StepExecutionResult result : results) {
+      if (!result.isSuccess()) {
+        return result;
+      }
+    }
+    return StepExecutionResults.SUCCESS;
+  }
+
+  private static void storeShards(
+      Aapt2CompileCache cache,
+      Map<Path, HashCode> keysToCompile,
+      ImmutableList<ImmutableList<Path>> shards,
+      Path scratchDir,
+      Path compiledDir)
+      throws IOException {
+
+    for (int shard = 0; shard < shards.size(); shard++) {
+      Path shardDir = scratchDir.resolve("shard-" + shard);
+      for (Path compiledFile : listFiles(shardDir)) {
+        Optional<Path> file = getResourceFile(shards.get(shard), compiledFile);
+        if (file.isPresent()) {
+          store(cache, keysToCompile.get(file.get()), compiledFile);
+        }
+        Files.move(
+            compiledFile,
+            compiledDir.resolve(compiledFile.getFileName().toString()),
+            StandardCopyOption.REPLACE_EXISTING);
+      }
+    }
+  }
+
+  private StepExecutionResult compileShard(
+      ExecutionContext context, ImmutableList<Path> files, Path shardDir)
+      throws IOException, InterruptedException {
+    Files.createDirectories(shardDir);
+    ImmutableList.Builder<String> inputs = ImmutableList.builder();
+    for (Path file : files) {
+      inputs.add(resDirPath.resolve(file).toString());
+    }
+    return createCompileStep(inputs.build(), shardDir).execute(context);
+  }
+
+  private Aapt2Compile.Aapt2CompileStep createCompileStep(
+      ImmutableList<String> inputs, Path output) {
+    return new Aapt2Compile.Aapt2CompileStep(
+        filesystem.getRootPath(),
+        commandPrefix,
+        inputs,
+        output,
+        skipCrunchPngs,
+        failOnLegacyErrors);
+  }
+
+  private static boolean fetch(Aapt2CompileCache cache, HashCode key, Path dir) {
+    try {
+      return cache.fetch(key, dir);
+    } catch (IOException e) {
+      LOG.warn(e, "Could not read %s from the aapt2 compile cache.", key);
+      return false;
+    }
+  }
+
+  private static void store(Aapt2CompileCache cache, HashCode key, Path compiledFile) {
+    try {
+      cache.store(key, compiledFile);
+    } catch (IOException e) {
+      LOG.warn(e, "Could not write %s to the aapt2 compile cache.", compiledFile.getFileName());
+    }
+  }
+
+  /**
+   * Returns the files of the resource directory relative to it, skipping the files aapt2 ignores.
+   * Resource files are always in a subdirectory named after their type and configuration.
+   */
+  private static ImmutableSortedSet<Path> getResourceFiles(Path resDir) throws IOException {
+    ImmutableSortedSet.Builder<Path> files = ImmutableSortedSet.naturalOrder();
+    for (Path dir : listFiles(resDir)) {
+      if (!Files.isDirectory(dir) || isIgnored(dir, true)) {
+        continue;
+      }
+      for (Path file : listFiles(dir)) {
+        if (Files.isRegularFile(file) && !isIgnored(file, false)) {
+          files.add(resDir.relativize(file));
+        }
+      }
+    }
+    return files.build();
+  }
+
+  /**
+   * Whether aapt2 ignores the file, with its default ignore pattern of
+   * "!.svn:!.git:!.ds_store:!*.scc:.*:&lt;dir&gt;_*:!CVS:!thumbs.db:!picasa.ini:!*~", which is
+   * matched ignoring case.
+   */
+  @VisibleForTesting
+  static boolean isIgnored(Path path, boolean isDirectory) {
+    String name = path.getFileName().toString().toLowerCase(Locale.US);
+    return name.startsWith(".")
+        || name.endsWith("~")
+        || name.endsWith(".scc")
+        || name.equals("cvs")
+        || name.equals("thumbs.db")
+        || name.equals("picasa.ini")
+        || (isDirectory && name.startsWith("_"));
+  }
+
+  private static ImmutableSortedSet<Path> listFiles(Path dir) throws IOException {
+    try (Stream<Path> files = Files.list(dir)) {
+      return files.collect(ImmutableSortedSet.toImmutableSortedSet(Ordering.natural()));
+    }
+  }
+
+  /**
+   * Splits the files into about {@code shardCount} shards. The files of a shard are all in the same
+   * directory, so that the compiled files can be told apart by name, see {@link #getResourceFile}.
+   */
+  @VisibleForTesting
+  static ImmutableList<ImmutableList<Path>> getShards(Collection<Path> files, int shardCount) {
+    Map<Path, List<Path>> filesByDir = new TreeMap<>();
+    for (Path file : files) {
+      filesByDir.computeIfAbsent(file.getParent(), dir -> new ArrayList<>()).add(file);
+    }
+    int shardSize = Math.max(1, (files.size() + shardCount - 1) / Math.max(1, shardCount));
+    ImmutableList.Builder<ImmutableList<Path>> shards = ImmutableList.builder();
+    for (List<Path> dirFiles : filesByDir.values()) {
+      for (List<Path> shard : Lists.partition(dirFiles, shardSize)) {
+        shards.add(ImmutableList.copyOf(shard));
+      }
+    }
+    return shards.build();
+  }
+
+  /**
+   * Returns the resource file that aapt2 compiled into the given file. aapt2 names compiled files
+   * after their directory, with the configuration normalized, and their file name, with the
+   * extension of values files replaced by "arsc": {@code drawable-hdpi/icon.png} is compiled into
+   * {@code drawable-hdpi-v4_icon.png.flat} and {@code values/strings.xml} into {@code
+   * values_strings.arsc.flat}. Neither the directory names nor the configurations have underscores.
+   *
+   * @param files resource files in the same directory.
+   */
+  @VisibleForTesting
+  static Optional<Path> getResourceFile(Collection<Path> files, Path compiledFile) {
+    String compiledName = compiledFile.getFileName().toString();
+    String name = compiledName.substring(compiledName.indexOf('_') + 1);
+    for (Path file : files) {
+      String fileName = file.getFileName().toString();
+      int extension = fileName.indexOf('.');
+      String stem = extension < 0 ? fileName : fileName.substring(0, extension);
+      if (name.equals(fileName + ".flat") || name.equals(stem + ".arsc.flat")) {
+        return Optional.of(file);
+      }
+    }
+    return Optional.empty();
+  }
+
+  @Override
+  public String getShortName() {
+    return "aapt2_compile";
+  }
+
+  @Override
+  public String getDescription(ExecutionContext context) {
+    return createCompileStep(ImmutableList.of("--dir", resDirPath.toString()), outputPath)
+        .getDescription(context);
+  }
+}
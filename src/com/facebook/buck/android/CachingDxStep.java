@@ -0,0 +1,133 @@
+/*
+ * Copyright (c) Facebook, Inc. and its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.facebook.buck.android;
+
+import com.facebook.buck.core.build.execution.context.ExecutionContext;
+import com.facebook.buck.core.util.log.Logger;
+import com.facebook.buck.step.Step;
+import com.facebook.buck.step.StepExecutionResult;
+import com.facebook.buck.util.function.ThrowingFunction;
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableSortedMap;
+import com.google.common.hash.HashCode;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Collection;
+import java.util.Optional;
+import java.util.SortedMap;
+import javax.annotation.Nullable;
+
+/**
+ * Runs a {@link DxStep} unless the {@link PreDexCache} configured by {@code [dx]
+ * pre_dex_cache_dir} already has its output, and stores the output there otherwise. With {@code
+ * [dx] pre_dex_per_class}, the classes are dexed one class file at a time on a miss, so that only
+ * the class files that changed are dexed again, see {@link PerClassDexer}.
+ *
+ * <p>Problems reading or writing the cache are logged and the dexing carries on without it.
+ */
+class CachingDxStep implements Step {
+  private static final Logger LOG = Logger.get(CachingDxStep.class);
+
+  private final DxStep dx;
+  private final ThrowingFunction<SortedMap<String, HashCode>, Optional<HashCode>, IOException>
+      computeKey;
+  private final SortedMap<String, HashCode> classNamesToHashes;
+
+  @Nullable private Collection<String> resourcesReferencedInCode;
+
+  /**
+   * @param computeKey computes the key of the dex file that {@code dx} produces from the given
+   *     classes, see {@link PreDexCache#computeKey}.
+   * @param classNamesToHashes the classes that {@code dx} dexes.
+   */
+  CachingDxStep(
+      DxStep dx,
+      ThrowingFunction<SortedMap<String, HashCode>, Optional<HashCode>, IOException> computeKey,
+      SortedMap<String, HashCode> classNamesToHashes) {
+    this.dx = dx;
+    this.computeKey = computeKey;
+    this.classNamesToHashes = classNamesToHashes;
+  }
+
+  @Override
+  public StepExecutionResult execute(ExecutionContext context)
+      throws IOException, InterruptedException {
+    DxConfig dxConfig = DxConfig.of(context);
+    Optional<Path> cacheDir = dxConfig.getPreDexCacheDir();
+    Optional<HashCode> cacheKey = Optional.empty();
+    Optional<HashCode> optionsKey = Optional.empty();
+    @Nullable PreDexCache cache = null;
+    if (cacheDir.isPresent()) {
+      cache = new PreDexCache(cacheDir.get());
+      try {
+        cacheKey = computeKey.apply(classNamesToHashes);
+        if (cacheKey.isPresent()) {
+          Optional<ImmutableList<String>> cached =
+              cache.fetch(cacheKey.get(), dx.getOutputDexFile());
+          if (cached.isPresent()) {
+            resourcesReferencedInCode = cached.get();
+            return StepExecutionResult.of(DxStep.SUCCESS_EXIT_CODE);
+          }
+          if (dxConfig.isPreDexPerClassEnabled() && dx.canDexPerClass()) {
+            optionsKey = computeKey.apply(ImmutableSortedMap.of());
+          }
+        }
+      } catch (IOException e) {
+        LOG.warn(e, "Could not read the pre-dex cache in %s.", cacheDir.get());
+      }
+    }
+
+    StepExecutionResult result =
+        cache != null && optionsKey.isPresent()
+            ? dx.executePerClass(context, cache, optionsKey.get(), classNamesToHashes)
+            : dx.execute(context);
+    resourcesReferencedInCode = dx.getResourcesReferencedInCode();
+    if (cache != null
+        && cacheKey.isPresent()
+        && result.isSuccess()
+        && resourcesReferencedInCode != null) {
+      try {
+        cache.store(cacheKey.get(), dx.getOutputDexFile(), resourcesReferencedInCode);
+      } catch (IOException e) {
+        LOG.warn(e, "Could not write to the pre-dex cache in %s.", cacheDir.get());
+      }
+    }
+    return result;
+  }
+
+  @VisibleForTesting
+  DxStep getDxStep() {
+    return dx;
+  }
+
+  /** Returns the names of the resources referenced in the dexed code, see {@link DxStep}. */
+  @Nullable
+  Collection<String> getResourcesReferencedInCode() {
+    return resourcesReferencedInCode;
+  }
+
+  @Override
+  public String getShortName() {
+    return dx.getShortName();
+  }
+
+  @Override
+  public String getDescription(ExecutionContext context) {
+    return dx.getDescription(context);
+  }
+}
@@ -0,0 +1,343 @@
+/*
+ * Copyright (c) Facebook, Inc. and its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.facebook.buck.android;
+
+import com.android.tools.r8.CompilationFailedException;
+import com.android.tools.r8.CompilationMode;
+import com.android.tools.r8.D8Command;
+import com.android.tools.r8.DiagnosticsHandler;
+import com.android.tools.r8.OutputMode;
+import com.android.tools.r8.utils.AbortException;
+import com.android.tools.r8.utils.InternalOptions;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableSet;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Stream;
+import javax.annotation.Nullable;
+
+/**
+ * A single run of D8, which {@link DxStep} either runs in-process or sends to a {@link
+ * D8WorkerMain} process as a list of arguments. All paths are absolute.
+ */
+final class D8Invocation {
+  private static final String OUTPUT = "--output";
+  private static final String LIB = "--lib";
+  private static final String INPUT = "--input";
+  private static final String CLASSPATH = "--classpath";
+  private static final String INTERMEDIATE = "--intermediate";
+  private static final String DEBUG = "--debug";
+  private static final String NO_DESUGARING = "--no-desugaring";
+  private static final String FORCE_JUMBO = "--force-jumbo";
+  private static final String BUCKET_ID = "--bucket-id";
+  private static final String MIN_API = "--min-api";
+  private static final String PER_CLASS_FILE = "--per-class-file";
+
+  private final Path outputDexFile;
+  private final Path androidJar;
+  private final ImmutableSet<Path> filesToDex;
+  private final ImmutableSet<Path> classpathFiles;
+  private final boolean intermediate;
+  private final boolean debug;
+  private final boolean disableDesugaring;
+  private final boolean forceJumbo;
+  private final Optional<String> bucketId;
+  private final Optional<Integer> minApiLevel;
+  private final boolean perClassFile;
+
+  D8Invocation(
+      Path outputDexFile,
+      Path androidJar,
+      ImmutableSet<Path> filesToDex,
+      ImmutableSet<Path> classpathFiles,
+      boolean intermediate,
+      boolean debug,
+      boolean disableDesugaring,
+      boolean forceJumbo,
+      Optional<String> bucketId,
+      Optional<Integer> minApiLevel) {
+    this(
+        outputDexFile,
+        androidJar,
+        filesToDex,
+        classpathFiles,
+        intermediate,
+        debug,
+        disableDesugaring,
+        forceJumbo,
+        bucketId,
+        minApiLevel,
+        false);
+  }
+
+  private D8Invocation(
+      Path outputDexFile,
+      Path androidJar,
+      ImmutableSet<Path> filesToDex,
+      ImmutableSet<Path> classpathFiles,
+      boolean intermediate,
+      boolean debug,
+      boolean disableDesugaring,
+      boolean forceJumbo,
+      Optional<String> bucketId,
+      Optional<Integer> minApiLevel,
+      boolean perClassFile) {
+    this.outputDexFile = outputDexFile;
+    this.androidJar = androidJar;
+    this.filesToDex = filesToDex;
+    this.classpathFiles = classpathFiles;
+    this.intermediate = intermediate;
+    this.debug = debug;
+    this.disableDesugaring = disableDesugaring;
+    this.forceJumbo = forceJumbo;
+    this.bucketId = bucketId;
+    this.minApiLevel = minApiLevel;
+    this.perClassFile = perClassFile;
+  }
+
+  /**
+   * Returns an invocation with the same options that dexes other files.
+   *
+   * @param output the dex file to write, or the directory to write one dex file per class file to
+   *     if {@code perClassFile} is set.
+   * @param additionalClasspathFiles jars to read on top of this invocation's classpath.
+   */
+  D8Invocation withFilesToDex(
+      Path output,
+      ImmutableSet<Path> filesToDex,
+      ImmutableSet<Path> additionalClasspathFiles,
+      boolean perClassFile) {
+    return new D8Invocation(
+        output,
+        androidJar,
+        filesToDex,
+        ImmutableSet.<Path>builder()
+            .addAll(classpathFiles)
+            .addAll(additionalClasspathFiles)
+            .build(),
+        intermediate,
+        debug,
+        disableDesugaring,
+        forceJumbo,
+        bucketId,
+        minApiLevel,
+        perClassFile);
+  }
+
+  Path getOutputDexFile() {
+    return outputDexFile;
+  }
+
+  ImmutableSet<Path> getFilesToDex() {
+    return filesToDex;
+  }
+
+  /** Returns the arguments that {@link #fromArgs} turns back into this invocation. */
+  ImmutableList<String> toArgs() {
+    ImmutableList.Builder<String> args = ImmutableList.builder();
+    args.add(OUTPUT, outputDexFile.toString());
+    args.add(LIB, androidJar.toString());
+    for (Path fileToDex : filesToDex) {
+      args.add(INPUT, fileToDex.toString());
+    }
+    for (Path classpathFile : classpathFiles) {
+      args.add(CLASSPATH, classpathFile.toString());
+    }
+    if (intermediate) {
+      args.add(INTERMEDIATE);
+    }
+    if (debug) {
+      args.add(DEBUG);
+    }
+    if (disableDesugaring) {
+      args.add(NO_DESUGARING);
+    }
+    if (forceJumbo) {
+      args.add(FORCE_JUMBO);
+    }
+    bucketId.ifPresent(id -> args.add(BUCKET_ID, id));
+    minApiLevel.ifPresent(minApi -> args.add(MIN_API, minApi.toString()));
+    if (perClassFile) {
+      args.add(PER_CLASS_FILE);
+    }
+    return args.build();
+  }
+
+  /** Parses the arguments written by {@link #toArgs}. */
+  static D8Invocation fromArgs(List<String> args) {
+    @Nullable Path outputDexFile = null;
+    @Nullable Path androidJar = null;
+    ImmutableSet.Builder<Path> filesToDex = ImmutableSet.builder();
+    ImmutableSet.Builder<Path> classpathFiles = ImmutableSet.builder();
+    boolean intermediate = false;
+    boolean debug = false;
+    boolean disableDesugaring = false;
+    boolean forceJumbo = false;
+    Optional<String> bucketId = Optional.empty();
+    Optional<Integer> minApiLevel = Optional.empty();
+    boolean perClassFile = false;
+
+    Iterator<String> iterator = args.iterator();
+    while (iterator.hasNext()) {
+      String arg = iterator.next();
+      switch (arg) {
+        case OUTPUT:
+          outputDexFile = Paths.get(nextValue(arg, iterator));
+          break;
+        case LIB:
+          androidJar = Paths.get(nextValue(arg, iterator));
+          break;
+        case INPUT:
+          filesToDex.add(Paths.get(nextValue(arg, iterator)));
+          break;
+        case CLASSPATH:
+          classpathFiles.add(Paths.get(nextValue(arg, iterator)));
+          break;
+        case INTERMEDIATE:
+          intermediate = true;
+          break;
+        case DEBUG:
+          debug = true;
+          break;
+        case NO_DESUGARING:
+          disableDesugaring = true;
+          break;
+        case FORCE_JUMBO:
+          forceJumbo = true;
+          break;
+        case BUCKET_ID:
+          bucketId = Optional.of(nextValue(arg, iterator));
+          break;
+        case MIN_API:
+          minApiLevel = Optional.of(Integer.parseInt(nextValue(arg, iterator)));
+          break;
+        case PER_CLASS_FILE:
+          perClassFile = true;
+          break;
+        default:
+          throw new IllegalArgumentException("Unknown D8 argument: " + arg);
+      }
+    }
+    if (outputDexFile == null || androidJar == null) {
+      throw new IllegalArgumentException(
+          "Missing " + (outputDexFile == null ? OUTPUT : LIB) + " argument");
+    }
+
+    return new D8Invocation(
+        outputDexFile,
+        androidJar,
+        filesToDex.build(),
+        classpathFiles.build(),
+        intermediate,
+        debug,
+        disableDesugaring,
+        forceJumbo,
+        bucketId,
+        minApiLevel,
+        perClassFile);
+  }
+
+  private static String nextValue(String arg, Iterator<String> iterator) {
+    if (!iterator.hasNext()) {
+      throw new IllegalArgumentException("Missing value for " + arg);
+    }
+    return iterator.next();
+  }
+
+  /** Runs invocations, either in-process or in a {@link D8WorkerMain} process. */
+  interface Runner {
+    /** @return the names of the resources referenced in the dexed code. */
+    Collection<String> run(D8Invocation invocation)
+        throws CompilationFailedException, IOException, InterruptedException;
+  }
+
+  /**
+   * Runs D8, reporting problems to the given handler.
+   *
+   * @return the names of the resources referenced in the dexed code.
+   */
+  Collection<String> run(DiagnosticsHandler diagnosticsHandler)
+      throws CompilationFailedException, IOException {
+    Set<Path> inputs = new HashSet<>();
+    for (Path toDex : filesToDex) {
+      if (Files.isRegularFile(toDex)) {
+        inputs.add(toDex);
+      } else {
+        try (Stream<Path> paths = Files.walk(toDex)) {
+          paths.filter(path -> path.toFile().isFile()).forEach(inputs::add);
+        }
+      }
+    }
+
+    // D8 only outputs to dex if the output path is a directory. So we output to a temporary dir
+    // and move it over to the final location
+    boolean outputToDex = !perClassFile && outputDexFile.getFileName().toString().endsWith(".dex");
+    Path output = outputToDex ? Files.createTempDirectory("buck-d8") : outputDexFile;
+    if (perClassFile) {
+      Files.createDirectories(output);
+    }
+
+    D8Command.Builder builder =
+        D8Command.builder(diagnosticsHandler)
+            .addProgramFiles(inputs)
+            .setIntermediate(intermediate)
+            .addLibraryFiles(androidJar)
+            .setMode(debug ? CompilationMode.DEBUG : CompilationMode.RELEASE)
+            .setOutput(
+                output, perClassFile ? OutputMode.DexFilePerClassFile : OutputMode.DexIndexed)
+            .setDisableDesugaring(disableDesugaring)
+            .setInternalOptionsModifier(
+                (InternalOptions opt) -> {
+                  opt.testing.forceJumboStringProcessing = forceJumbo;
+                });
+
+    bucketId.ifPresent(builder::setBucketId);
+    minApiLevel.ifPresent(builder::setMinApiLevel);
+
+    if (!classpathFiles.isEmpty()) {
+      // classpathFiles is needed only for D8 java 8 desugar
+      builder.addClasspathFiles(classpathFiles);
+    }
+    D8Command d8Command = builder.build();
+    com.android.tools.r8.D8.run(d8Command);
+
+    if (outputToDex) {
+      File[] outputs = output.toFile().listFiles();
+      if (outputs != null && (outputs.length > 0)) {
+        Files.move(outputs[0].toPath(), outputDexFile, StandardCopyOption.REPLACE_EXISTING);
+      }
+    }
+
+    return d8Command.getDexItemFactory().computeReferencedResources();
+  }
+
+  /** Returns whether D8 failed because the classes don't fit in a single dex file. */
+  static boolean isOverloadedDexException(CompilationFailedException e) {
+    return e.getCause() instanceof AbortException
+        && e.getCause().getMessage().contains("Cannot fit requested classes in a single dex file");
+  }
+}
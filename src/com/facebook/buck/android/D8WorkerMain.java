@@ -0,0 +1,186 @@
+/*
+ * Copyright (c) Facebook, Inc. and its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.facebook.buck.android;
+
+import com.android.tools.r8.CompilationFailedException;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.FileDescriptor;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Collection;
+import javax.annotation.Nullable;
+
+/**
+ * Runs D8 in a worker process that stays up between jobs, so that dexing doesn't pay for JIT warm
+ * up and D8's class loading over and over, and its heap is kept apart from buck's.
+ *
+ * <p>Speaks protocol zero of the worker process protocol, see {@link
+ * com.facebook.buck.worker.WorkerProcessProtocolZero}. Each job's args file holds the arguments of
+ * a {@link D8Invocation}, one per line. The names of the resources referenced in the dexed code are
+ * written to the job's stdout file, one per line, and any errors to its stderr file. The exit code
+ * is the one {@link DxStep} returns when running D8 in-process.
+ */
+public class D8WorkerMain {
+  private static final String TYPE_HANDSHAKE = "handshake";
+  private static final String TYPE_COMMAND = "command";
+  private static final String TYPE_RESULT = "result";
+  private static final String TYPE_ERROR = "error";
+  private static final String PROTOCOL_VERSION = "0";
+
+  private final JsonReader reader;
+  private final JsonWriter writer;
+
+  D8WorkerMain(JsonReader reader, JsonWriter writer) {
+    this.reader = reader;
+    this.writer = writer;
+  }
+
+  public static void main(String[] args) throws IOException {
+    // Anything D8 prints would corrupt the messages sent to buck.
+    FileOutputStream protocolOut = new FileOutputStream(FileDescriptor.out);
+    System.setOut(System.err);
+
+    new D8WorkerMain(
+            new JsonReader(
+                new BufferedReader(
+                    new InputStreamReader(
+                        new FileInputStream(FileDescriptor.in), StandardCharsets.UTF_8))),
+            new JsonWriter(
+                new BufferedWriter(new OutputStreamWriter(protocolOut, StandardCharsets.UTF_8))))
+        .run();
+  }
+
+  /** Answers the handshake, then runs jobs until buck closes the protocol. */
+  void run() throws IOException {
+    reader.beginArray();
+    Message handshake = readMessage();
+    writer.beginArray();
+    writer.beginObject();
+    writer.name("id").value(handshake.id);
+    writer.name("type").value(TYPE_HANDSHAKE);
+    writer.name("protocol_version").value(PROTOCOL_VERSION);
+    // No capabilities: stay on protocol zero.
+    writer.name("capabilities").beginArray().endArray();
+    writer.endObject();
+    writer.flush();
+
+    while (reader.hasNext()) {
+      Message message = readMessage();
+      Path argsPath = message.argsPath;
+      Path stdoutPath = message.stdoutPath;
+      Path stderrPath = message.stderrPath;
+      String type = TYPE_RESULT;
+      int exitCode;
+      if (!TYPE_COMMAND.equals(message.type)) {
+        type = TYPE_ERROR;
+        exitCode = 1;
+      } else if (argsPath == null || stdoutPath == null || stderrPath == null) {
+        type = TYPE_ERROR;
+        exitCode = 2;
+      } else {
+        exitCode = runJob(argsPath, stdoutPath, stderrPath);
+      }
+
+      writer.beginObject();
+      writer.name("id").value(message.id);
+      writer.name("type").value(type);
+      writer.name("exit_code").value(exitCode);
+      writer.endObject();
+      writer.flush();
+    }
+    reader.endArray();
+    writer.endArray();
+    writer.close();
+  }
+
+  private static int runJob(Path argsPath, Path stdoutPath, Path stderrPath) throws IOException {
+    DxStep.D8DiagnosticsHandler diagnosticsHandler = new DxStep.D8DiagnosticsHandler();
+    try (PrintStream stdout = new PrintStream(Files.newOutputStream(stdoutPath), false, "UTF-8");
+        PrintStream stderr = new PrintStream(Files.newOutputStream(stderrPath), false, "UTF-8")) {
+      try {
+        D8Invocation invocation =
+            D8Invocation.fromArgs(Files.readAllLines(argsPath, StandardCharsets.UTF_8));
+        Collection<String> referencedResources = invocation.run(diagnosticsHandler);
+        for (String resource : referencedResources) {
+          stdout.println(resource);
+        }
+        return DxStep.SUCCESS_EXIT_CODE;
+      } catch (CompilationFailedException e) {
+        if (D8Invocation.isOverloadedDexException(e)) {
+          stderr.print(e.getMessage());
+          return DxStep.DEX_REFERENCE_OVERFLOW_EXIT_CODE;
+        }
+        reportFailure(stderr, diagnosticsHandler, e);
+        return DxStep.FAILURE_EXIT_CODE;
+      } catch (IOException | RuntimeException e) {
+        reportFailure(stderr, diagnosticsHandler, e);
+        return DxStep.FAILURE_EXIT_CODE;
+      }
+    }
+  }
+
+  private static void reportFailure(
+      PrintStream stderr, DxStep.D8DiagnosticsHandler diagnosticsHandler, Exception e) {
+    String messages = diagnosticsHandler.getMessages();
+    if (!messages.isEmpty()) {
+      stderr.println(messages);
+    }
+    e.printStackTrace(stderr);
+  }
+
+  private Message readMessage() throws IOException {
+    Message message = new Message();
+    reader.beginObject();
+    while (reader.hasNext()) {
+      String property = reader.nextName();
+      if (property.equals("id")) {
+        message.id = reader.nextInt();
+      } else if (property.equals("type")) {
+        message.type = reader.nextString();
+      } else if (property.equals("args_path")) {
+        message.argsPath = Paths.get(reader.nextString());
+      } else if (property.equals("stdout_path")) {
+        message.stdoutPath = Paths.get(reader.nextString());
+      } else if (property.equals("stderr_path")) {
+        message.stderrPath = Paths.get(reader.nextString());
+      } else {
+        reader.skipValue();
+      }
+    }
+    reader.endObject();
+    return message;
+  }
+
+  private static class Message {
+    private int id = -1;
+    @Nullable private String type;
+    @Nullable private Path argsPath;
+    @Nullable private Path stdoutPath;
+    @Nullable private Path stderrPath;
+  }
+}
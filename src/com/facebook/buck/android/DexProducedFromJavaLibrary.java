@@ -189,7 +189,7 @@ public class DexProducedFromJavaLibrary extends ModernBuildRule<DexProducedFromJ
       boolean hasClassesToDx = !classNamesToHashes.isEmpty();
       Supplier<Integer> weightEstimate;
 
-      @Nullable DxStep dx;
+      @Nullable CachingDxStep dx;
 
       Path pathToDex = outputPathResolver.resolvePath(outputDex);
       if (hasClassesToDx) {
@@ -209,19 +209,32 @@ public class DexProducedFromJavaLibrary extends ModernBuildRule<DexProducedFromJ
         if (!desugarEnabled) {
           options.add(Option.NO_DESUGAR);
         }
+        boolean intermediate = dexTool.equals(DxStep.D8);
+        Collection<Path> classpathFiles = getAbsolutePaths(desugarDeps, sourcePathResolverAdapter);
         dx =
-            new DxStep(
-                filesystem,
-                androidPlatformTarget,
-                pathToDex,
-                Collections.singleton(pathToOutputFile),
-                options,
-                Optional.empty(),
-                dexTool,
-                dexTool.equals(DxStep.D8),
-                getAbsolutePaths(desugarDeps, sourcePathResolverAdapter),
-                Optional.empty(),
-                Optional.empty() /* minSdkVersion */);
+            new CachingDxStep(
+                new DxStep(
+                    filesystem,
+                    androidPlatformTarget,
+                    pathToDex,
+                    Collections.singleton(pathToOutputFile),
+                    options,
+                    Optional.empty(),
+                    dexTool,
+                    intermediate,
+                    classpathFiles,
+                    Optional.empty(),
+                    Optional.empty() /* minSdkVersion */),
+                classes ->
+                    PreDexCache.computeKey(
+                        dexTool,
+                        options,
+                        intermediate,
+                        Optional.empty(),
+                        androidPlatformTarget.getAndroidJar(),
+                        classes,
+                        classpathFiles),
+                classNamesToHashes);
         steps.add(dx);
 
         // The `DxStep` delegates to android tools to build a ZIP with timestamps in it, making
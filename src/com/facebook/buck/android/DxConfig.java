@@ -16,7 +16,10 @@
 
 package com.facebook.buck.android;
 
+import com.facebook.buck.core.build.execution.context.ExecutionContext;
 import com.facebook.buck.core.config.BuckConfig;
+import java.nio.file.Path;
+import java.nio.file.Paths;
 import java.util.Optional;
 import java.util.OptionalInt;
 
@@ -28,6 +31,11 @@ public class DxConfig {
     this.delegate = delegate;
   }
 
+  /** @return The dx config of the build that steps run in the given context for. */
+  public static DxConfig of(ExecutionContext context) {
+    return new DxConfig(context.getCells().getRootCell().getBuckConfig());
+  }
+
   /** @return The upper heap size limit for out of process dx if specified. */
   public Optional<String> getDxMaxHeapSize() {
     return delegate.getValue("dx", "max_heap_size");
@@ -46,4 +54,37 @@ public class DxConfig {
   public OptionalInt getDxMaxThreadCount() {
     return delegate.getInteger("dx", "max_threads");
   }
+
+  /**
+   * @return How many persistent worker processes to run D8 in. Zero, the default, runs D8 in buck's
+   *     own process.
+   */
+  public int getD8WorkerCount() {
+    return delegate.getInteger("dx", "d8_workers").orElse(0);
+  }
+
+  /** @return The upper heap size limit for D8 worker processes if specified. */
+  public Optional<String> getD8WorkerMaxHeapSize() {
+    Optional<String> maxHeapSize = delegate.getValue("dx", "d8_worker_max_heap_size");
+    return maxHeapSize.isPresent() ? maxHeapSize : getDxMaxHeapSize();
+  }
+
+  /**
+   * @return The directory of the content-addressed cache of pre-dexed libraries, which lets
+   *     libraries that are pre-dexed by several targets or configurations be dexed once.
+   */
+  public Optional<Path> getPreDexCacheDir() {
+    return delegate
+        .getValue("dx", "pre_dex_cache_dir")
+        .map(dir -> delegate.resolvePathThatMayBeOutsideTheProjectFilesystem(Paths.get(dir)));
+  }
+
+  /**
+   * @return Whether libraries that are not in the pre-dex cache are dexed one class file at a time,
+   *     keeping the dex file of each class file in the cache, so that only the class files that
+   *     changed are dexed again.
+   */
+  public boolean isPreDexPerClassEnabled() {
+    return delegate.getBooleanValue("dx", "pre_dex_per_class", false);
+  }
 }
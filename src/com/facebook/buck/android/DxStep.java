@@ -17,26 +17,33 @@
 package com.facebook.buck.android;
 
 import com.android.tools.r8.CompilationFailedException;
-import com.android.tools.r8.CompilationMode;
-import com.android.tools.r8.D8Command;
 import com.android.tools.r8.Diagnostic;
 import com.android.tools.r8.DiagnosticsHandler;
-import com.android.tools.r8.OutputMode;
-import com.android.tools.r8.utils.AbortException;
-import com.android.tools.r8.utils.InternalOptions;
 import com.facebook.buck.android.toolchain.AndroidPlatformTarget;
 import com.facebook.buck.core.build.execution.context.ExecutionContext;
+import com.facebook.buck.core.util.log.Logger;
 import com.facebook.buck.event.ConsoleEvent;
 import com.facebook.buck.io.filesystem.ProjectFilesystem;
 import com.facebook.buck.shell.ShellStep;
 import com.facebook.buck.step.StepExecutionResult;
 import com.facebook.buck.util.Verbosity;
+import com.facebook.buck.util.env.BuckClasspath;
+import com.facebook.buck.worker.WorkerJobResult;
+import com.facebook.buck.worker.WorkerProcessIdentity;
+import com.facebook.buck.worker.WorkerProcessParams;
+import com.facebook.buck.worker.WorkerProcessPool;
+import com.facebook.buck.worker.WorkerProcessPoolFactory;
 import com.google.common.annotations.VisibleForTesting;
 import com.google.common.base.Preconditions;
+import com.google.common.base.Splitter;
 import com.google.common.base.Strings;
+import com.google.common.base.Throwables;
 import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.ImmutableSet;
 import com.google.common.collect.Sets;
+import com.google.common.hash.HashCode;
+import com.google.common.hash.Hashing;
 import java.io.BufferedWriter;
 import java.io.ByteArrayOutputStream;
 import java.io.File;
@@ -44,19 +51,23 @@ import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.OutputStreamWriter;
 import java.io.PrintStream;
-import java.nio.file.Files;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Path;
-import java.nio.file.StandardCopyOption;
+import java.nio.file.Paths;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.EnumSet;
-import java.util.HashSet;
 import java.util.List;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.SortedMap;
+import java.util.concurrent.ExecutionException;
+import java.util.stream.Collectors;
 import javax.annotation.Nullable;
 
 public class DxStep extends ShellStep {
+  private static final Logger LOG = Logger.get(DxStep.class);
 
   /** Options to pass to {@code dx}. */
   public enum Option {
@@ -99,6 +110,8 @@ public class DxStep extends ShellStep {
    */
   private static final int ARG_MAX = 32768;
 
+  private static final String D8_WORKER_KEY = "d8";
+
   private final ProjectFilesystem filesystem;
   private final AndroidPlatformTarget androidPlatformTarget;
   @VisibleForTesting final @Nullable Collection<Path> classpathFiles;
@@ -324,88 +337,119 @@ public class DxStep extends ShellStep {
   @Override
   public StepExecutionResult execute(ExecutionContext context)
       throws IOException, InterruptedException {
-    if (isRunningInProc()) {
+    if (D8.equals(dexTool) && DxConfig.of(context).getD8WorkerCount() > 0) {
+      return StepExecutionResult.of(runD8(context, d8 -> d8.run(newD8Invocation())));
+    } else if (isRunningInProc()) {
       return StepExecutionResult.of(executeInProcess(context));
     } else {
       return super.execute(context);
     }
   }
 
-  private int executeInProcess(ExecutionContext context) {
-    if (D8.equals(dexTool)) {
-
-      D8DiagnosticsHandler diagnosticsHandler = new D8DiagnosticsHandler();
+  private D8Invocation newD8Invocation() {
+    ImmutableSet.Builder<Path> absoluteClasspathFiles = ImmutableSet.builder();
+    if (classpathFiles != null) {
+      for (Path classpathFile : classpathFiles) {
+        absoluteClasspathFiles.add(filesystem.getPathForRelativeExistingPath(classpathFile));
+      }
+    }
+    return new D8Invocation(
+        outputDexFile,
+        androidPlatformTarget.getAndroidJar(),
+        filesToDex.stream().map(filesystem::resolve).collect(ImmutableSet.toImmutableSet()),
+        absoluteClasspathFiles.build(),
+        intermediate,
+        options.contains(Option.NO_OPTIMIZE),
+        options.contains(Option.NO_DESUGAR),
+        options.contains(Option.FORCE_JUMBO),
+        bucketId,
+        minSdkVersion);
+  }
 
+  /** Sends invocations to the D8 worker processes, which are kept running between jobs. */
+  private D8Invocation.Runner newD8WorkerRunner(ExecutionContext context, DxConfig dxConfig)
+      throws IOException {
+    WorkerProcessPool pool =
+        new WorkerProcessPoolFactory(filesystem)
+            .getWorkerProcessPool(context, getD8WorkerParams(dxConfig));
+    return invocation -> {
+      WorkerJobResult result;
       try {
-        Set<Path> inputs = new HashSet<>();
-        for (Path rawFile : filesToDex) {
-          Path toDex = filesystem.resolve(rawFile);
-          if (Files.isRegularFile(toDex)) {
-            inputs.add(toDex);
-          } else {
-            Files.walk(toDex).filter(path -> path.toFile().isFile()).forEach(inputs::add);
-          }
+        result = pool.submitJob(String.join("\n", invocation.toArgs())).get();
+      } catch (ExecutionException e) {
+        Throwable cause = e.getCause();
+        if (cause instanceof InterruptedException) {
+          throw (InterruptedException) cause;
         }
-
-        // D8 only outputs to dex if the output path is a directory. So we output to a temporary dir
-        // and move it over to the final location
-        boolean outputToDex = outputDexFile.getFileName().toString().endsWith(".dex");
-        Path output = outputToDex ? Files.createTempDirectory("buck-d8") : outputDexFile;
-
-        D8Command.Builder builder =
-            D8Command.builder(diagnosticsHandler)
-                .addProgramFiles(inputs)
-                .setIntermediate(intermediate)
-                .addLibraryFiles(androidPlatformTarget.getAndroidJar())
-                .setMode(
-                    options.contains(Option.NO_OPTIMIZE)
-                        ? CompilationMode.DEBUG
-                        : CompilationMode.RELEASE)
-                .setOutput(output, OutputMode.DexIndexed)
-                .setDisableDesugaring(options.contains(Option.NO_DESUGAR))
-                .setInternalOptionsModifier(
-                    (InternalOptions opt) -> {
-                      opt.testing.forceJumboStringProcessing = options.contains(Option.FORCE_JUMBO);
-                    });
-
-        bucketId.ifPresent(builder::setBucketId);
-        minSdkVersion.ifPresent(builder::setMinApiLevel);
-
-        if (classpathFiles != null && !classpathFiles.isEmpty()) {
-          // classpathFiles is needed only for D8 java 8 desugar
-          ImmutableSet.Builder<Path> absolutePaths = ImmutableSet.builder();
-          for (Path classpathFile : classpathFiles) {
-            absolutePaths.add(filesystem.getPathForRelativeExistingPath(classpathFile));
-          }
-          builder.addClasspathFiles(absolutePaths.build());
-        }
-        D8Command d8Command = builder.build();
-        com.android.tools.r8.D8.run(d8Command);
-
-        if (outputToDex) {
-          File[] outputs = output.toFile().listFiles();
-          if (outputs != null && (outputs.length > 0)) {
-            Files.move(outputs[0].toPath(), outputDexFile, StandardCopyOption.REPLACE_EXISTING);
-          }
+        if (cause != null) {
+          Throwables.throwIfUnchecked(cause);
         }
+        // The worker couldn't run the job, e.g. because it died: fail the step, not the build.
+        LOG.warn(e, "The D8 worker failed to dex %s.", outputDexFile);
+        throw new D8WorkerFailedException(
+            FAILURE_EXIT_CODE, String.format("The D8 worker failed: %s", cause));
+      }
+      if (result.getExitCode() != SUCCESS_EXIT_CODE) {
+        throw new D8WorkerFailedException(result.getExitCode(), result.getStderr().orElse(""));
+      }
+      return Splitter.on('\n').omitEmptyStrings().splitToList(result.getStdout().orElse(""));
+    };
+  }
 
-        resourcesReferencedInCode = d8Command.getDexItemFactory().computeReferencedResources();
-        return SUCCESS_EXIT_CODE;
-      } catch (CompilationFailedException e) {
-        if (isOverloadedDexException(e)) {
-          context.getConsole().printErrorText(e.getMessage());
-          return DEX_REFERENCE_OVERFLOW_EXIT_CODE;
-        } else {
-          postCompilationFailureToConsole(context, diagnosticsHandler);
-          e.printStackTrace(context.getStdErr());
-          return FAILURE_EXIT_CODE;
-        }
-      } catch (IOException e) {
-        postCompilationFailureToConsole(context, diagnosticsHandler);
-        e.printStackTrace(context.getStdErr());
+  private WorkerProcessParams getD8WorkerParams(DxConfig dxConfig) throws IOException {
+    ImmutableList.Builder<String> command = ImmutableList.builder();
+    command.add(
+        Paths.get(Objects.requireNonNull(System.getProperty("java.home")), "bin", "java")
+            .toString());
+    dxConfig.getD8WorkerMaxHeapSize().ifPresent(size -> command.add("-Xmx" + size));
+    command.add(
+        "-cp",
+        BuckClasspath.getClasspath().stream()
+            .map(Path::toString)
+            .collect(Collectors.joining(File.pathSeparator)),
+        D8WorkerMain.class.getName());
+    ImmutableList<String> startupCommand = command.build();
+
+    // Identifying the pool lets buckd keep the workers running across commands.
+    return WorkerProcessParams.of(
+        filesystem.getBuckPaths().getScratchDir().resolve("d8__worker"),
+        startupCommand,
+        ImmutableMap.of(),
+        dxConfig.getD8WorkerCount(),
+        false,
+        Optional.of(
+            WorkerProcessIdentity.of(
+                D8_WORKER_KEY,
+                Hashing.sha256()
+                    .hashString(String.join(" ", startupCommand), StandardCharsets.UTF_8))));
+  }
 
-        return FAILURE_EXIT_CODE;
-      }
+  /** Whether {@link #executePerClass} can be used, which needs D8 to output intermediates. */
+  boolean canDexPerClass() {
+    return D8.equals(dexTool) && intermediate;
+  }
+
+  /**
+   * Runs D8 one class file at a time, reusing the dex files of the class files that are in the
+   * given cache already. See {@link PerClassDexer}.
+   *
+   * @param optionsKey the key {@link PreDexCache#computeKey} returns for no classes.
+   */
+  StepExecutionResult executePerClass(
+      ExecutionContext context,
+      PreDexCache cache,
+      HashCode optionsKey,
+      SortedMap<String, HashCode> classNamesToHashes)
+      throws InterruptedException {
+    Preconditions.checkState(canDexPerClass());
+    PerClassDexer dexer =
+        new PerClassDexer(filesystem, cache, optionsKey, newD8Invocation(), classNamesToHashes);
+    return StepExecutionResult.of(runD8(context, dexer::run));
+  }
+
+  private int executeInProcess(ExecutionContext context) throws InterruptedException {
+    if (D8.equals(dexTool)) {
+      return runD8(context, d8 -> d8.run(newD8Invocation()));
     } else if (DX.equals(dexTool)) {
       ImmutableList<String> argv = getShellCommandInternal(context);
 
@@ -444,20 +488,61 @@ public class DxStep extends ShellStep {
     }
   }
 
-  private boolean isOverloadedDexException(CompilationFailedException e) {
-    return e.getCause() instanceof AbortException
-        && e.getCause().getMessage().contains("Cannot fit requested classes in a single dex file");
+  /** Runs D8 in the D8 worker processes if there are any, or in-process. */
+  private int runD8(ExecutionContext context, D8Run run) throws InterruptedException {
+    D8DiagnosticsHandler diagnosticsHandler = new D8DiagnosticsHandler();
+
+    try {
+      DxConfig dxConfig = DxConfig.of(context);
+      D8Invocation.Runner d8 =
+          dxConfig.getD8WorkerCount() > 0
+              ? newD8WorkerRunner(context, dxConfig)
+              : invocation -> invocation.run(diagnosticsHandler);
+      resourcesReferencedInCode = run.run(d8);
+      return SUCCESS_EXIT_CODE;
+    } catch (D8WorkerFailedException e) {
+      if (e.exitCode == DEX_REFERENCE_OVERFLOW_EXIT_CODE) {
+        context.getConsole().printErrorText(e.getMessage());
+      } else {
+        context.postEvent(ConsoleEvent.severe("%s", e.getMessage()));
+      }
+      return e.exitCode;
+    } catch (CompilationFailedException e) {
+      if (D8Invocation.isOverloadedDexException(e)) {
+        context.getConsole().printErrorText(e.getMessage());
+        return DEX_REFERENCE_OVERFLOW_EXIT_CODE;
+      } else {
+        postCompilationFailureToConsole(context, diagnosticsHandler);
+        e.printStackTrace(context.getStdErr());
+        return FAILURE_EXIT_CODE;
+      }
+    } catch (IOException e) {
+      postCompilationFailureToConsole(context, diagnosticsHandler);
+      e.printStackTrace(context.getStdErr());
+
+      return FAILURE_EXIT_CODE;
+    }
+  }
+
+  /** A run of D8 that returns the names of the resources referenced in the dexed code. */
+  private interface D8Run {
+    Collection<String> run(D8Invocation.Runner d8)
+        throws CompilationFailedException, IOException, InterruptedException;
+  }
+
+  /** A D8 worker failed to dex, with the given exit code and error output. */
+  private static class D8WorkerFailedException extends CompilationFailedException {
+    private final int exitCode;
+
+    D8WorkerFailedException(int exitCode, String stderr) {
+      super(stderr);
+      this.exitCode = exitCode;
+    }
   }
 
   private void postCompilationFailureToConsole(
       ExecutionContext context, D8DiagnosticsHandler diagnosticsHandler) {
-    context.postEvent(
-        ConsoleEvent.severe(
-            String.join(
-                System.lineSeparator(),
-                diagnosticsHandler.diagnostics.stream()
-                    .map(Diagnostic::getDiagnosticMessage)
-                    .collect(ImmutableList.toImmutableList()))));
+    context.postEvent(ConsoleEvent.severe(diagnosticsHandler.getMessages()));
   }
 
   @Override
@@ -477,8 +562,8 @@ public class DxStep extends ShellStep {
 
   /**
    * Return the names of resources referenced in the code that was dexed. This is only valid after
-   * the step executes successfully and only when in-process dexing is used. It only returns
-   * resources referenced in java classes being dexed, not merged dex files.
+   * the step executes successfully and only when in-process or D8 worker dexing is used. It only
+   * returns resources referenced in java classes being dexed, not merged dex files.
    */
   @Nullable
   Collection<String> getResourcesReferencedInCode() {
@@ -506,7 +591,8 @@ public class DxStep extends ShellStep {
     return path.toAbsolutePath().toString();
   }
 
-  private static class D8DiagnosticsHandler implements DiagnosticsHandler {
+  /** Collects D8's warnings, to be reported if dexing fails. */
+  static class D8DiagnosticsHandler implements DiagnosticsHandler {
 
     private final List<Diagnostic> diagnostics = new ArrayList<>();
 
@@ -517,6 +603,12 @@ public class DxStep extends ShellStep {
 
     @Override
     public void info(Diagnostic info) {}
+
+    String getMessages() {
+      return diagnostics.stream()
+          .map(Diagnostic::getDiagnosticMessage)
+          .collect(Collectors.joining(System.lineSeparator()));
+    }
   }
 
   private static class CharsCountingStringList extends ArrayList<String> {
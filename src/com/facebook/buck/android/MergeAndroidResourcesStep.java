@@ -31,6 +31,7 @@ import com.facebook.buck.step.Step;
 import com.facebook.buck.step.StepExecutionResult;
 import com.facebook.buck.step.StepExecutionResults;
 import com.facebook.buck.util.ThrowingPrintWriter;
+import com.facebook.buck.util.function.ThrowingConsumer;
 import com.facebook.buck.util.json.ObjectMappers;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.google.common.annotations.VisibleForTesting;
@@ -43,6 +44,8 @@ import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.ImmutableSet;
 import com.google.common.collect.ImmutableSetMultimap;
 import com.google.common.collect.ImmutableSortedSet;
+import com.google.common.collect.Interner;
+import com.google.common.collect.Interners;
 import com.google.common.collect.SetMultimap;
 import com.google.common.collect.Sets;
 import com.google.common.collect.SortedSetMultimap;
@@ -64,6 +67,7 @@ import java.util.Map.Entry;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.SortedSet;
 import java.util.stream.Collectors;
 
 public class MergeAndroidResourcesStep implements Step {
@@ -334,70 +338,78 @@ public class MergeAndroidResourcesStep implements Step {
   void writePerPackageRDotJava(
       SortedSetMultimap<String, RDotTxtEntry> packageToResources, ProjectFilesystem filesystem)
       throws IOException {
-    for (String rDotJavaPackage : packageToResources.keySet()) {
-      Path outputFile = getPathToRDotJava(rDotJavaPackage);
-      filesystem.mkdirs(outputFile.getParent());
-      try (ThrowingPrintWriter writer =
-          new ThrowingPrintWriter(filesystem.newFileOutputStream(outputFile))) {
-        writer.format("package %s;\n\n", rDotJavaPackage);
-        writer.format("public class %s {\n", rName);
-
-        ImmutableList.Builder<String> customDrawablesBuilder = ImmutableList.builder();
-        ImmutableList.Builder<String> grayscaleImagesBuilder = ImmutableList.builder();
-        RType lastType = null;
-
-        for (RDotTxtEntry res : packageToResources.get(rDotJavaPackage)) {
-          RType type = res.type;
-          if (!type.equals(lastType)) {
-            // If the previous type needs to be closed, close it.
-            if (lastType != null) {
-              writer.println("  }\n");
-            }
+    // Each package has its own R.java, so they're written in parallel.
+    ThrowingConsumer.wrapAsUnchecked(
+        packageToResources.keySet().parallelStream()::forEach,
+        rDotJavaPackage ->
+            writeRDotJava(rDotJavaPackage, packageToResources.get(rDotJavaPackage), filesystem));
+  }
 
-            // Now start the block for the new type.
-            writer.format("  public static class %s {\n", type);
-            lastType = type;
+  private void writeRDotJava(
+      String rDotJavaPackage, SortedSet<RDotTxtEntry> resources, ProjectFilesystem filesystem)
+      throws IOException {
+    Path outputFile = getPathToRDotJava(rDotJavaPackage);
+    filesystem.mkdirs(outputFile.getParent());
+    try (ThrowingPrintWriter writer =
+        new ThrowingPrintWriter(filesystem.newFileOutputStream(outputFile))) {
+      writer.format("package %s;\n\n", rDotJavaPackage);
+      writer.format("public class %s {\n", rName);
+
+      ImmutableList.Builder<String> customDrawablesBuilder = ImmutableList.builder();
+      ImmutableList.Builder<String> grayscaleImagesBuilder = ImmutableList.builder();
+      RType lastType = null;
+
+      for (RDotTxtEntry res : resources) {
+        RType type = res.type;
+        if (!type.equals(lastType)) {
+          // If the previous type needs to be closed, close it.
+          if (lastType != null) {
+            writer.println("  }\n");
           }
 
-          // Write out the resource.
-          // Write as an int.
-          writer.format(
-              "    public static%s%s %s=%s;\n",
-              forceFinalResourceIds ? " final " : " ", res.idType, res.name, res.idValue);
-
-          if (type == RType.DRAWABLE && res.customType == RDotTxtEntry.CustomDrawableType.CUSTOM) {
-            customDrawablesBuilder.add(res.idValue);
-          } else if (type == RType.DRAWABLE
-              && res.customType == RDotTxtEntry.CustomDrawableType.GRAYSCALE_IMAGE) {
-            grayscaleImagesBuilder.add(res.idValue);
-          }
+          // Now start the block for the new type.
+          writer.format("  public static class %s {\n", type);
+          lastType = type;
         }
 
-        // If some type was written (e.g., the for loop was entered), then the last type needs to be
-        // closed.
-        if (lastType != null) {
-          writer.println("  }\n");
+        // Write out the resource.
+        // Write as an int.
+        writer.format(
+            "    public static%s%s %s=%s;\n",
+            forceFinalResourceIds ? " final " : " ", res.idType, res.name, res.idValue);
+
+        if (type == RType.DRAWABLE && res.customType == RDotTxtEntry.CustomDrawableType.CUSTOM) {
+          customDrawablesBuilder.add(res.idValue);
+        } else if (type == RType.DRAWABLE
+            && res.customType == RDotTxtEntry.CustomDrawableType.GRAYSCALE_IMAGE) {
+          grayscaleImagesBuilder.add(res.idValue);
         }
+      }
 
-        ImmutableList<String> customDrawables = customDrawablesBuilder.build();
-        if (customDrawables.size() > 0) {
-          // Add a new field for the custom drawables.
-          writer.format("  public static final int[] custom_drawables = ");
-          writer.format("{ %s };\n", Joiner.on(",").join(customDrawables));
-          writer.format("\n");
-        }
+      // If some type was written (e.g., the for loop was entered), then the last type needs to be
+      // closed.
+      if (lastType != null) {
+        writer.println("  }\n");
+      }
 
-        ImmutableList<String> grayscaleImages = grayscaleImagesBuilder.build();
-        if (grayscaleImages.size() > 0) {
-          // Add a new field for the custom drawables.
-          writer.format("  public static final int[] grayscale_images = ");
-          writer.format("{ %s };\n", Joiner.on(",").join(grayscaleImages));
-          writer.format("\n");
-        }
+      ImmutableList<String> customDrawables = customDrawablesBuilder.build();
+      if (customDrawables.size() > 0) {
+        // Add a new field for the custom drawables.
+        writer.format("  public static final int[] custom_drawables = ");
+        writer.format("{ %s };\n", Joiner.on(",").join(customDrawables));
+        writer.format("\n");
+      }
 
-        // Close the class definition.
-        writer.println("}");
+      ImmutableList<String> grayscaleImages = grayscaleImagesBuilder.build();
+      if (grayscaleImages.size() > 0) {
+        // Add a new field for the custom drawables.
+        writer.format("  public static final int[] grayscale_images = ");
+        writer.format("{ %s };\n", Joiner.on(",").join(grayscaleImages));
+        writer.format("\n");
       }
+
+      // Close the class definition.
+      writer.println("}");
     }
   }
 
@@ -444,25 +456,22 @@ public class MergeAndroidResourcesStep implements Step {
                   ovr.put(pkg, entries.stream().collect(Collectors.toMap(k -> k, v -> v))));
     }
 
+    Map<Path, ImmutableList<RDotTxtEntry>> symbolsFileToEntries =
+        readSymbolsFiles(symbolsFileToRDotJavaPackage.keySet(), filesystem);
+
+    // The ids are assigned in the order of the symbols files, which keeps them deterministic.
     for (Map.Entry<Path, String> entry : symbolsFileToRDotJavaPackage.entrySet()) {
       Path symbolsFile = entry.getKey();
-      // Read the symbols file and parse each line as a Resource.
-      List<RDotTxtEntry> linesInSymbolsFile;
-      try {
-        linesInSymbolsFile =
-            filesystem.readLines(symbolsFile).stream()
-                .filter(input -> !Strings.isNullOrEmpty(input))
-                .map(MergeAndroidResourcesStep::parseEntryOrThrow)
-                .collect(Collectors.toList());
-      } catch (IOException e) {
-        throw new RuntimeException(e);
-      }
+      // Each file is only needed until its resources are merged.
+      List<RDotTxtEntry> linesInSymbolsFile =
+          Objects.requireNonNull(symbolsFileToEntries.remove(symbolsFile));
 
       String packageName = entry.getValue();
       Map<RDotTxtEntry, RDotTxtEntry> packageOverrides =
           expandedPackageOverrides.getOrDefault(packageName, ImmutableMap.of());
 
       if (!packageOverrides.isEmpty()) {
+        linesInSymbolsFile = new ArrayList<>(linesInSymbolsFile);
         // RDotTxtEntry computes hash codes and checks equality only based on type and name,
         // so we can use simple map lookup to find the overridden resource entry.
         for (int i = 0; i < linesInSymbolsFile.size(); i++) {
@@ -581,6 +590,63 @@ public class MergeAndroidResourcesStep implements Step {
     return rDotJavaPackageToSymbolsFiles;
   }
 
+  /**
+   * Reads the symbols files in parallel and parses each line as a resource. A library's symbols
+   * file repeats the resources of its dependencies, so the entries are interned: the files share a
+   * single entry for each distinct resource, and the lines themselves aren't kept.
+   */
+  private static Map<Path, ImmutableList<RDotTxtEntry>> readSymbolsFiles(
+      Collection<Path> symbolsFiles, ProjectFilesystem filesystem) {
+    Interner<InternedEntry> interner = Interners.newStrongInterner();
+    return symbolsFiles.parallelStream()
+        .collect(
+            Collectors.toConcurrentMap(
+                symbolsFile -> symbolsFile,
+                symbolsFile -> {
+                  try {
+                    return filesystem.readLines(symbolsFile).stream()
+                        .filter(input -> !Strings.isNullOrEmpty(input))
+                        .map(line -> interner.intern(new InternedEntry(parseEntryOrThrow(line))))
+                        .map(interned -> interned.entry)
+                        .collect(ImmutableList.toImmutableList());
+                  } catch (IOException e) {
+                    throw new RuntimeException(e);
+                  }
+                }));
+  }
+
+  /**
+   * An entry that is equal to the entries with the same contents. {@link RDotTxtEntry} only
+   * compares the type and the name, which would merge entries with different ids.
+   */
+  private static class InternedEntry {
+    private final RDotTxtEntry entry;
+
+    private InternedEntry(RDotTxtEntry entry) {
+      this.entry = entry;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+      if (!(obj instanceof InternedEntry)) {
+        return false;
+      }
+      RDotTxtEntry other = ((InternedEntry) obj).entry;
+      return entry.idType == other.idType
+          && entry.type == other.type
+          && entry.name.equals(other.name)
+          && entry.idValue.equals(other.idValue)
+          && Objects.equals(entry.parent, other.parent)
+          && entry.customType == other.customType;
+    }
+
+    @Override
+    public int hashCode() {
+      return Objects.hash(
+          entry.idType, entry.type, entry.name, entry.idValue, entry.parent, entry.customType);
+    }
+  }
+
   private static boolean duplicateIsWhitelisted(RDotTxtEntry resource, Set<String> whitelist) {
     return whitelist.contains(resource.type.toString().toLowerCase() + " " + resource.name);
   }
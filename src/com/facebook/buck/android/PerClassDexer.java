@@ -0,0 +1,245 @@
+/*
+ * Copyright (c) Facebook, Inc. and its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.facebook.buck.android;
+
+import com.android.tools.r8.CompilationFailedException;
+import com.facebook.buck.core.util.log.Logger;
+import com.facebook.buck.io.file.MostFiles;
+import com.facebook.buck.io.filesystem.ProjectFilesystem;
+import com.facebook.buck.jvm.java.classes.ClasspathTraversal;
+import com.facebook.buck.jvm.java.classes.FileLike;
+import com.facebook.buck.jvm.java.classes.FileLikes;
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableSet;
+import com.google.common.hash.HashCode;
+import com.google.common.io.ByteStreams;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.SortedMap;
+import java.util.SortedSet;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import org.objectweb.asm.ClassReader;
+
+/**
+ * Dexes a library one class file at a time, reusing the dex files of the class files that the
+ * {@link PreDexCache} has already, then merges the dex files of all the class files into the dex
+ * file of the library.
+ *
+ * <p>When a class of a large library changes, only that class and the classes that extend or
+ * implement it are dexed again, and merging dex files is much cheaper than dexing class files.
+ * Since the merged dex file is sorted by D8, it doesn't depend on which class files were reused.
+ */
+final class PerClassDexer {
+  private static final Logger LOG = Logger.get(PerClassDexer.class);
+
+  private final ProjectFilesystem filesystem;
+  private final PreDexCache cache;
+  private final HashCode optionsKey;
+  private final D8Invocation invocation;
+  private final SortedMap<String, HashCode> classNamesToHashes;
+
+  /**
+   * @param optionsKey the key {@link PreDexCache#computeKey} returns for no classes.
+   * @param invocation dexes the whole library into its dex file.
+   * @param classNamesToHashes the classes of the library.
+   */
+  PerClassDexer(
+      ProjectFilesystem filesystem,
+      PreDexCache cache,
+      HashCode optionsKey,
+      D8Invocation invocation,
+      SortedMap<String, HashCode> classNamesToHashes) {
+    this.filesystem = filesystem;
+    this.cache = cache;
+    this.optionsKey = optionsKey;
+    this.invocation = invocation;
+    this.classNamesToHashes = classNamesToHashes;
+  }
+
+  /**
+   * Runs the D8 invocations with the given runner.
+   *
+   * @return the names of the resources referenced in the dexed code.
+   */
+  Collection<String> run(D8Invocation.Runner d8)
+      throws CompilationFailedException, IOException, InterruptedException {
+    Path tmpDir = filesystem.resolve(filesystem.getBuckPaths().getTmpDir());
+    Files.createDirectories(tmpDir);
+    Path scratchDir = Files.createTempDirectory(tmpDir, "d8-per-class");
+    try {
+      return run(d8, scratchDir);
+    } finally {
+      MostFiles.deleteRecursivelyIfExists(scratchDir);
+    }
+  }
+
+  private Collection<String> run(D8Invocation.Runner d8, Path scratchDir)
+      throws CompilationFailedException, IOException, InterruptedException {
+    Map<String, byte[]> classFiles = readClassFiles();
+    Map<String, ImmutableList<String>> supertypes = new HashMap<>();
+    for (Map.Entry<String, byte[]> classFile : classFiles.entrySet()) {
+      supertypes.put(classFile.getKey(), getDirectSupertypes(classFile.getValue()));
+    }
+
+    Path dexDir = scratchDir.resolve("dex");
+    SortedMap<String, HashCode> keysToDex = new TreeMap<>();
+    for (Map.Entry<String, HashCode> entry : classNamesToHashes.entrySet()) {
+      String className = entry.getKey();
+      ImmutableList.Builder<HashCode> supertypeHashes = ImmutableList.builder();
+      for (String supertype : getSupertypesInLibrary(className, supertypes)) {
+        supertypeHashes.add(Objects.requireNonNull(classNamesToHashes.get(supertype)));
+      }
+      HashCode key =
+          PreDexCache.computeClassKey(
+              optionsKey, className, entry.getValue(), supertypeHashes.build());
+      if (!fetch(key, getDexFile(dexDir, className))) {
+        keysToDex.put(className, key);
+      }
+    }
+
+    if (!keysToDex.isEmpty()) {
+      dexClassFiles(d8, scratchDir, dexDir, classFiles, keysToDex);
+    }
+
+    // Every class has a dex file by now, either from the cache or from D8.
+    ImmutableSet.Builder<Path> dexFiles = ImmutableSet.builder();
+    for (String className : classNamesToHashes.keySet()) {
+      dexFiles.add(getDexFile(dexDir, className));
+    }
+    return d8.run(
+        invocation.withFilesToDex(
+            invocation.getOutputDexFile(), dexFiles.build(), ImmutableSet.of(), false));
+  }
+
+  /** Dexes the given class files into {@code dexDir}, and stores their dex files in the cache. */
+  private void dexClassFiles(
+      D8Invocation.Runner d8,
+      Path scratchDir,
+      Path dexDir,
+      Map<String, byte[]> classFiles,
+      SortedMap<String, HashCode> keysToDex)
+      throws CompilationFailedException, IOException, InterruptedException {
+    Path classesDir = scratchDir.resolve("classes");
+    ImmutableSet.Builder<Path> filesToDex = ImmutableSet.builder();
+    for (String className : keysToDex.keySet()) {
+      byte[] classFile = classFiles.get(className);
+      if (classFile == null) {
+        throw new IOException(
+            String.format("%s is not in %s.", className, invocation.getFilesToDex()));
+      }
+      Path path = classesDir.resolve(className + ".class");
+      Files.createDirectories(path.getParent());
+      Files.write(path, classFile);
+      filesToDex.add(path);
+    }
+
+    // The whole library goes on the classpath, as desugaring a class reads its supertypes.
+    Path outputDir = scratchDir.resolve("out");
+    d8.run(
+        invocation.withFilesToDex(
+            outputDir, filesToDex.build(), invocation.getFilesToDex(), true));
+
+    for (Map.Entry<String, HashCode> entry : keysToDex.entrySet()) {
+      Path output = getDexFile(outputDir, entry.getKey());
+      if (!Files.isRegularFile(output)) {
+        // Merging the dex files that are there would silently leave the class out.
+        throw new IOException(
+            String.format("D8 did not write a dex file for %s to %s.", entry.getKey(), output));
+      }
+      try {
+        cache.storeClassDex(entry.getValue(), output);
+      } catch (IOException e) {
+        LOG.warn(e, "Could not write the dex file of %s to the pre-dex cache.", entry.getKey());
+      }
+      Path dexFile = getDexFile(dexDir, entry.getKey());
+      Files.createDirectories(dexFile.getParent());
+      Files.move(output, dexFile);
+    }
+  }
+
+  private boolean fetch(HashCode key, Path dexFile) {
+    try {
+      return cache.fetchClassDex(key, dexFile);
+    } catch (IOException e) {
+      LOG.warn(e, "Could not read %s from the pre-dex cache.", dexFile.getFileName());
+      return false;
+    }
+  }
+
+  /** D8 names the dex file of each class file after the class. */
+  private static Path getDexFile(Path dir, String className) {
+    return dir.resolve(className + ".dex");
+  }
+
+  private Map<String, byte[]> readClassFiles() throws IOException {
+    Map<String, byte[]> classFiles = new HashMap<>();
+    new ClasspathTraversal(invocation.getFilesToDex(), filesystem) {
+      @Override
+      public void visit(FileLike fileLike) throws IOException {
+        if (!FileLikes.isClassFile(fileLike)) {
+          return;
+        }
+        String className = FileLikes.getFileNameWithoutClassSuffix(fileLike);
+        if (classNamesToHashes.containsKey(className)) {
+          try (InputStream input = fileLike.getInput()) {
+            classFiles.put(className, ByteStreams.toByteArray(input));
+          }
+        }
+      }
+    }.traverse();
+    return classFiles;
+  }
+
+  private static ImmutableList<String> getDirectSupertypes(byte[] classFile) {
+    ClassReader reader = new ClassReader(classFile);
+    ImmutableList.Builder<String> supertypes = ImmutableList.builder();
+    if (reader.getSuperName() != null) {
+      supertypes.add(reader.getSuperName());
+    }
+    supertypes.add(reader.getInterfaces());
+    return supertypes.build();
+  }
+
+  /**
+   * Returns the transitive supertypes of the given class that are defined by the library, in order.
+   * The ones outside of the library are on the classpath, which the options key covers already.
+   */
+  @VisibleForTesting
+  static SortedSet<String> getSupertypesInLibrary(
+      String className, Map<String, ImmutableList<String>> directSupertypes) {
+    SortedSet<String> supertypes = new TreeSet<>();
+    Deque<String> toVisit =
+        new ArrayDeque<>(directSupertypes.getOrDefault(className, ImmutableList.of()));
+    while (!toVisit.isEmpty()) {
+      String supertype = toVisit.pop();
+      if (directSupertypes.containsKey(supertype) && supertypes.add(supertype)) {
+        toVisit.addAll(directSupertypes.get(supertype));
+      }
+    }
+    return supertypes;
+  }
+}
@@ -0,0 +1,312 @@
+/*
+ * Copyright (c) Facebook, Inc. and its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.facebook.buck.android;
+
+import com.facebook.buck.core.util.log.Logger;
+import com.facebook.buck.io.file.MostFiles;
+import com.facebook.buck.util.function.ThrowingConsumer;
+import com.google.common.base.Throwables;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.Ordering;
+import com.google.common.hash.HashCode;
+import com.google.common.hash.Hasher;
+import com.google.common.hash.Hashing;
+import com.google.common.io.ByteSource;
+import com.google.common.io.MoreFiles;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.SortedMap;
+import java.util.concurrent.ExecutionException;
+
+/**
+ * A content-addressed store of pre-dexed libraries. Entries are keyed by the hashes of the classes
+ * that were dexed and of everything else that affects the dex file, rather than by build target, so
+ * a library that several apps or target configurations depend on is only dexed once.
+ *
+ * <p>Libraries that are dexed one class file at a time also keep the dex file of each class file
+ * here, so that only the class files that changed are dexed again.
+ *
+ * <p>Entries are never modified once they are written, so the directory can be shared between
+ * checkouts, and trimmed or deleted at any time. Each file of an entry is stored with its hash,
+ * and entries whose files don't match it are treated as missing and deleted.
+ */
+class PreDexCache {
+  private static final Logger LOG = Logger.get(PreDexCache.class);
+
+  /** Changes whenever the key or the layout of the entries does. */
+  private static final int FORMAT_VERSION = 2;
+
+  private static final String DEX_FILE = "dex.jar";
+  private static final String REFERENCED_RESOURCES_FILE = "referenced_resources";
+  private static final String CLASS_DEX_FILE = "class.dex";
+  private static final String HASH_SUFFIX = ".sha1";
+
+  /**
+   * The hashes of the {@code android.jar} files that keys are computed from, by path, size and
+   * modification time, as every library is keyed by the same large file.
+   */
+  private static final Cache<String, HashCode> ANDROID_JAR_HASHES =
+      CacheBuilder.newBuilder().maximumSize(16).build();
+
+  private final Path root;
+
+  PreDexCache(Path root) {
+    this.root = root;
+  }
+
+  /**
+   * Returns the key of the dex file the given options produce from the given classes, or empty if
+   * it can't be computed from the contents of the inputs.
+   *
+   * @param androidJar the {@code android.jar} of the Android platform D8 is run against.
+   * @param classNamesToHashes the classes to dex.
+   * @param classpathFiles jars read by D8 when desugaring.
+   */
+  static Optional<HashCode> computeKey(
+      String dexTool,
+      Set<DxStep.Option> options,
+      boolean intermediate,
+      Optional<Integer> minSdkVersion,
+      Path androidJar,
+      SortedMap<String, HashCode> classNamesToHashes,
+      Collection<Path> classpathFiles)
+      throws IOException {
+    Hasher hasher = Hashing.sha1().newHasher();
+    hasher.putInt(FORMAT_VERSION);
+    putString(hasher, dexTool);
+    putString(
+        hasher,
+        DxStep.D8.equals(dexTool)
+            ? com.android.tools.r8.Version.LABEL
+            : com.android.dx.Version.VERSION);
+    hasher.putInt(options.size());
+    for (DxStep.Option option : options) {
+      putString(hasher, option.name());
+    }
+    hasher.putBoolean(intermediate);
+    hasher.putInt(minSdkVersion.orElse(-1));
+    if (!Files.isRegularFile(androidJar)) {
+      return Optional.empty();
+    }
+    hasher.putBytes(hashAndroidJar(androidJar).asBytes());
+
+    hasher.putInt(classNamesToHashes.size());
+    for (Map.Entry<String, HashCode> entry : classNamesToHashes.entrySet()) {
+      putString(hasher, entry.getKey());
+      hasher.putBytes(entry.getValue().asBytes());
+    }
+
+    hasher.putInt(classpathFiles.size());
+    for (Path classpathFile : classpathFiles) {
+      if (!Files.isRegularFile(classpathFile)) {
+        return Optional.empty();
+      }
+      hasher.putBytes(MoreFiles.asByteSource(classpathFile).hash(Hashing.sha1()).asBytes());
+    }
+    return Optional.of(hasher.hash());
+  }
+
+  /**
+   * Returns the key of the dex file D8 produces from a single class file.
+   *
+   * @param optionsKey the key {@link #computeKey} returns for no classes, which covers the options
+   *     and the classpath.
+   * @param supertypeHashes the hashes of the supertypes of the class that are in the same library,
+   *     which desugaring reads, in a stable order.
+   */
+  static HashCode computeClassKey(
+      HashCode optionsKey,
+      String className,
+      HashCode classHash,
+      Collection<HashCode> supertypeHashes) {
+    Hasher hasher = Hashing.sha1().newHasher();
+    hasher.putInt(FORMAT_VERSION);
+    putString(hasher, CLASS_DEX_FILE);
+    hasher.putBytes(optionsKey.asBytes());
+    putString(hasher, className);
+    hasher.putBytes(classHash.asBytes());
+    hasher.putInt(supertypeHashes.size());
+    for (HashCode supertypeHash : supertypeHashes) {
+      hasher.putBytes(supertypeHash.asBytes());
+    }
+    return hasher.hash();
+  }
+
+  private static HashCode hashAndroidJar(Path androidJar) throws IOException {
+    BasicFileAttributes attributes = Files.readAttributes(androidJar, BasicFileAttributes.class);
+    String stamp =
+        androidJar + ":" + attributes.size() + ":" + attributes.lastModifiedTime().toMillis();
+    try {
+      return ANDROID_JAR_HASHES.get(
+          stamp, () -> MoreFiles.asByteSource(androidJar).hash(Hashing.sha1()));
+    } catch (ExecutionException e) {
+      Throwables.throwIfInstanceOf(e.getCause(), IOException.class);
+      throw new RuntimeException(e.getCause());
+    }
+  }
+
+  private static void putString(Hasher hasher, String string) {
+    hasher.putInt(string.length());
+    hasher.putString(string, StandardCharsets.UTF_8);
+  }
+
+  /**
+   * Copies the dex file stored under the given key to {@code dexFile}.
+   *
+   * @return the names of the resources referenced by the dex file, or empty if there is no entry
+   *     for the key.
+   */
+  Optional<ImmutableList<String>> fetch(HashCode key, Path dexFile) throws IOException {
+    Path entry = getEntry(key);
+    if (!Files.isDirectory(entry)) {
+      return Optional.empty();
+    }
+    try {
+      ByteSource referencedResources =
+          ByteSource.wrap(Files.readAllBytes(entry.resolve(REFERENCED_RESOURCES_FILE)));
+      if (!hasStoredHash(entry, REFERENCED_RESOURCES_FILE, referencedResources)
+          || !copyVerified(entry, DEX_FILE, dexFile)) {
+        return Optional.empty();
+      }
+      return Optional.of(referencedResources.asCharSource(StandardCharsets.UTF_8).readLines());
+    } catch (NoSuchFileException e) {
+      // The entry was deleted while being read.
+      return Optional.empty();
+    }
+  }
+
+  /** Stores the given dex file under the given key, unless there is an entry for it already. */
+  void store(HashCode key, Path dexFile, Collection<String> referencedResources)
+      throws IOException {
+    storeEntry(
+        key,
+        tmp -> {
+          writeWithHash(tmp, DEX_FILE, dexFile);
+          Path referencedResourcesFile = tmp.resolve(REFERENCED_RESOURCES_FILE);
+          Files.write(
+              referencedResourcesFile,
+              Ordering.natural().sortedCopy(referencedResources),
+              StandardCharsets.UTF_8);
+          writeHash(
+              tmp, REFERENCED_RESOURCES_FILE, MoreFiles.asByteSource(referencedResourcesFile));
+        });
+  }
+
+  /**
+   * Copies the dex file of a single class file stored under the given key to {@code dexFile}.
+   *
+   * @return whether there was an entry for the key.
+   */
+  boolean fetchClassDex(HashCode key, Path dexFile) throws IOException {
+    Path entry = getEntry(key);
+    if (!Files.isDirectory(entry)) {
+      return false;
+    }
+    try {
+      return copyVerified(entry, CLASS_DEX_FILE, dexFile);
+    } catch (NoSuchFileException e) {
+      // The entry was deleted while being read.
+      return false;
+    }
+  }
+
+  /**
+   * Stores the dex file of a single class file under the given key, unless there is an entry for
+   * it already.
+   */
+  void storeClassDex(HashCode key, Path dexFile) throws IOException {
+    storeEntry(key, tmp -> writeWithHash(tmp, CLASS_DEX_FILE, dexFile));
+  }
+
+  /**
+   * Copies a file of an entry to {@code destination}, and checks the copy against the hash stored
+   * with the file, so that a truncated or corrupt entry never makes it into a build's output.
+   *
+   * @return whether the copy matched the hash. The copy and the entry are deleted if not.
+   */
+  private boolean copyVerified(Path entry, String name, Path destination) throws IOException {
+    Files.createDirectories(destination.getParent());
+    Files.copy(entry.resolve(name), destination, StandardCopyOption.REPLACE_EXISTING);
+    if (hasStoredHash(entry, name, MoreFiles.asByteSource(destination))) {
+      return true;
+    }
+    Files.delete(destination);
+    return false;
+  }
+
+  /** Returns whether the given contents of a file of an entry match the hash stored with it. */
+  private boolean hasStoredHash(Path entry, String name, ByteSource contents) throws IOException {
+    String storedHash =
+        new String(Files.readAllBytes(entry.resolve(name + HASH_SUFFIX)), StandardCharsets.UTF_8);
+    if (contents.hash(Hashing.sha1()).toString().equals(storedHash)) {
+      return true;
+    }
+    LOG.warn("Deleting %s from the pre-dex cache, as it does not match its hash.", entry);
+    MostFiles.deleteRecursivelyIfExists(entry);
+    return false;
+  }
+
+  private static void writeWithHash(Path entry, String name, Path source) throws IOException {
+    Files.copy(source, entry.resolve(name));
+    writeHash(entry, name, MoreFiles.asByteSource(entry.resolve(name)));
+  }
+
+  private static void writeHash(Path entry, String name, ByteSource contents) throws IOException {
+    Files.write(
+        entry.resolve(name + HASH_SUFFIX),
+        contents.hash(Hashing.sha1()).toString().getBytes(StandardCharsets.UTF_8));
+  }
+
+  private void storeEntry(HashCode key, ThrowingConsumer<Path, IOException> writeEntry)
+      throws IOException {
+    Path entry = getEntry(key);
+    if (Files.isDirectory(entry)) {
+      return;
+    }
+
+    // Entries are written to a temporary directory first, so that they appear all at once.
+    Files.createDirectories(entry.getParent());
+    Path tmp = Files.createTempDirectory(entry.getParent(), "tmp-");
+    try {
+      writeEntry.accept(tmp);
+      Files.move(tmp, entry, StandardCopyOption.ATOMIC_MOVE);
+    } catch (IOException e) {
+      // Another build may have stored the same entry first.
+      if (!Files.isDirectory(entry)) {
+        throw e;
+      }
+    } finally {
+      MostFiles.deleteRecursivelyIfExists(tmp);
+    }
+  }
+
+  private Path getEntry(HashCode key) {
+    String hash = key.toString();
+    return root.resolve(hash.substring(0, 2)).resolve(hash);
+  }
+}
@@ -20,7 +20,6 @@ import com.facebook.buck.jvm.java.classes.FileLike;
 import com.facebook.buck.util.zip.DeterministicZipBuilder;
 import com.google.common.base.Charsets;
 import com.google.common.base.Preconditions;
-import com.google.common.collect.Sets;
 import com.google.common.io.ByteStreams;
 import java.io.IOException;
 import java.io.InputStream;
@@ -43,8 +42,8 @@ public class DalvikAwareOutputStreamHelper implements ZipOutputStreamHelper {
   private final Writer reportFileWriter;
   private final DalvikStatsCache dalvikStatsCache;
 
-  private final Set<DalvikMemberReference> currentMethodReferences = new HashSet<>();
-  private final Set<DalvikMemberReference> currentFieldReferences = new HashSet<>();
+  private final MemberReferenceSet currentMethodReferences = new MemberReferenceSet();
+  private final MemberReferenceSet currentFieldReferences = new MemberReferenceSet();
   private long currentLinearAllocSize;
 
   DalvikAwareOutputStreamHelper(
@@ -59,15 +58,15 @@ public class DalvikAwareOutputStreamHelper implements ZipOutputStreamHelper {
   }
 
   private boolean isEntryTooBig(FileLike entry) {
-    DalvikStatsTool.Stats stats = dalvikStatsCache.getStats(entry);
+    DalvikStatsCache.ClassStats stats = dalvikStatsCache.getStats(entry);
     if (currentLinearAllocSize + stats.estimatedLinearAllocSize > linearAllocLimit) {
       return true;
     }
-    int newMethodRefs = Sets.difference(stats.methodReferences, currentMethodReferences).size();
+    int newMethodRefs = currentMethodReferences.countMissing(stats.methodReferences);
     if (currentMethodReferences.size() + newMethodRefs > MAX_METHOD_REFERENCES) {
       return true;
     }
-    int newFieldRefs = Sets.difference(stats.fieldReferences, currentFieldReferences).size();
+    int newFieldRefs = currentFieldReferences.countMissing(stats.fieldReferences);
     return currentFieldReferences.size() + newFieldRefs > MAX_FIELD_REFERENCES;
   }
 
@@ -94,7 +93,7 @@ public class DalvikAwareOutputStreamHelper implements ZipOutputStreamHelper {
       }
 
       // Make sure FileLike#getSize didn't lie (or we forgot to call canPutEntry).
-      DalvikStatsTool.Stats stats = dalvikStatsCache.getStats(fileLike);
+      DalvikStatsCache.ClassStats stats = dalvikStatsCache.getStats(fileLike);
       Preconditions.checkState(
           !isEntryTooBig(fileLike),
           "Putting entry %s (%s) exceeded maximum size of %s",
@@ -108,8 +107,8 @@ public class DalvikAwareOutputStreamHelper implements ZipOutputStreamHelper {
           String.format(
               "%d %d %d %s\n",
               stats.estimatedLinearAllocSize,
-              stats.methodReferences.size(),
-              stats.fieldReferences.size(),
+              stats.methodReferences.length,
+              stats.fieldReferences.length,
               name);
       reportFileWriter.append(report);
     }
@@ -40,6 +40,7 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Optional;
 import java.util.Set;
 import java.util.function.Predicate;
 import javax.annotation.Nullable;
@@ -48,7 +49,9 @@ import javax.annotation.Nullable;
  * Implementation of {@link ZipSplitter} that uses estimates from {@link DalvikStatsTool} to
  * determine how many classes to pack into a dex.
  *
- * <p>It does three passes through the .class files:
+ * <p>The stats of all the .class files are computed first, concurrently, and kept in a {@link
+ * DalvikStatsIndex} when there is a directory for it, so that only the .class files that changed
+ * are analyzed again. It then does three passes through the .class files:
  *
  * <ul>
  *   <li>During the first pass, it uses the {@code requiredInPrimaryZip} predicate to filter the set
@@ -98,7 +101,8 @@ public class DalvikAwareZipSplitter implements ZipSplitter {
       ImmutableMultimap<APKModule, String> additionalDexStoreSets,
       APKModule rootAPKModule,
       DexSplitStrategy dexSplitStrategy,
-      Path reportDir) {
+      Path reportDir,
+      Optional<Path> statsIndexDir) {
     if (linearAllocLimit <= 0) {
       throw new HumanReadableException("linear_alloc_hard_limit must be greater than zero.");
     }
@@ -127,7 +131,7 @@ public class DalvikAwareZipSplitter implements ZipSplitter {
     this.reportDir = reportDir;
     this.dexSplitStrategy = dexSplitStrategy;
     this.linearAllocLimit = linearAllocLimit;
-    this.dalvikStatsCache = new DalvikStatsCache();
+    this.dalvikStatsCache = new DalvikStatsCache(statsIndexDir.map(DalvikStatsIndex::new));
   }
 
   public static DalvikAwareZipSplitter splitZip(
@@ -145,7 +149,8 @@ public class DalvikAwareZipSplitter implements ZipSplitter {
       ImmutableMultimap<APKModule, String> additionalDexStoreSets,
       APKModule rootAPKModule,
       DexSplitStrategy dexSplitStrategy,
-      Path reportDir) {
+      Path reportDir,
+      Optional<Path> statsIndexDir) {
     return new DalvikAwareZipSplitter(
         filesystem,
         inFiles,
@@ -161,7 +166,8 @@ public class DalvikAwareZipSplitter implements ZipSplitter {
         additionalDexStoreSets,
         rootAPKModule,
         dexSplitStrategy,
-        reportDir);
+        reportDir,
+        statsIndexDir);
   }
 
   @Override
@@ -169,6 +175,9 @@ public class DalvikAwareZipSplitter implements ZipSplitter {
     ClasspathTraverser classpathTraverser = new DefaultClasspathTraverser();
     Set<String> secondaryTail = new HashSet<String>();
 
+    LOG.verbose("Computing the stats of the classpath");
+    dalvikStatsCache.computeStats(filesystem, inFiles);
+
     // Start out by writing the primary zip and recording which entries were added to it.
     primaryOut = newZipOutput(outPrimary);
     secondaryDexWriter.reset();
@@ -21,6 +21,7 @@ import com.facebook.buck.io.filesystem.ProjectFilesystem;
 import com.google.common.collect.ImmutableMultimap;
 import com.google.common.collect.ImmutableSet;
 import java.nio.file.Path;
+import java.util.Optional;
 import java.util.Set;
 import java.util.function.Predicate;
 
@@ -28,10 +29,17 @@ public class DalvikAwareZipSplitterFactory implements ZipSplitterFactory {
 
   private final long linearAllocLimit;
   private final Set<String> wantedInPrimaryZip;
+  private final Optional<Path> statsIndexDir;
 
-  public DalvikAwareZipSplitterFactory(long linearAllocLimit, Set<String> wantedInPrimaryZip) {
+  /**
+   * @param statsIndexDir the directory of the {@link DalvikStatsIndex} of the classes being split,
+   *     if there is one.
+   */
+  public DalvikAwareZipSplitterFactory(
+      long linearAllocLimit, Set<String> wantedInPrimaryZip, Optional<Path> statsIndexDir) {
     this.linearAllocLimit = linearAllocLimit;
     this.wantedInPrimaryZip = wantedInPrimaryZip;
+    this.statsIndexDir = statsIndexDir;
   }
 
   @Override
@@ -64,6 +72,7 @@ public class DalvikAwareZipSplitterFactory implements ZipSplitterFactory {
         additionalDexStoreSets,
         rootAPKModule,
         dexSplitStrategy,
-        reportDir);
+        reportDir,
+        statsIndexDir);
   }
 }
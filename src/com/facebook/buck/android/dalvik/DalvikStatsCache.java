@@ -16,45 +16,241 @@
 
 package com.facebook.buck.android.dalvik;
 
+import com.facebook.buck.core.util.log.Logger;
+import com.facebook.buck.io.filesystem.ProjectFilesystem;
+import com.facebook.buck.jvm.java.classes.ClasspathTraversal;
+import com.facebook.buck.jvm.java.classes.DefaultClasspathTraverser;
 import com.facebook.buck.jvm.java.classes.FileLike;
-import com.google.common.collect.MapMaker;
+import com.google.common.hash.HashCode;
+import com.google.common.hash.Hashing;
+import com.google.common.io.ByteStreams;
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
+import javax.annotation.Nullable;
 
-/** Cache to memoize results from DalvikStatsTool. */
+/**
+ * Cache to memoize results from DalvikStatsTool, with the member references made by the classes as
+ * 64-bit fingerprints, so that the references of a dex can be tracked in a {@link
+ * MemberReferenceSet}.
+ *
+ * <p>The stats of all the classes being split can be computed at once, concurrently, with {@link
+ * #computeStats}, which uses a {@link DalvikStatsIndex} if there is one.
+ */
 class DalvikStatsCache {
+  private static final Logger LOG = Logger.get(DalvikStatsCache.class);
+
+  /** Analyzed class files are kept in memory until there are this many to analyze concurrently. */
+  private static final int BATCH_SIZE = 4096;
 
-  private final ConcurrentMap<FileLike, DalvikStatsTool.Stats> cache;
+  /** {@link DalvikStatsTool.Stats} with the member references as their fingerprints. */
+  static class ClassStats {
+    static final ClassStats ZERO = new ClassStats(0, new long[0], new long[0]);
 
-  DalvikStatsCache() {
-    cache = new MapMaker().weakKeys().makeMap();
+    final int estimatedLinearAllocSize;
+    final long[] methodReferences;
+    final long[] fieldReferences;
+
+    ClassStats(int estimatedLinearAllocSize, long[] methodReferences, long[] fieldReferences) {
+      this.estimatedLinearAllocSize = estimatedLinearAllocSize;
+      this.methodReferences = methodReferences;
+      this.fieldReferences = fieldReferences;
+    }
   }
 
-  DalvikStatsTool.Stats getStats(FileLike entry) {
+  private final Optional<DalvikStatsIndex> index;
+  private final ConcurrentMap<Path, ConcurrentMap<String, ClassStats>> cache =
+      new ConcurrentHashMap<>();
+
+  DalvikStatsCache(Optional<DalvikStatsIndex> index) {
+    this.index = index;
+  }
+
+  ClassStats getStats(FileLike entry) {
     String[] pathParts = entry.getRelativePath().split("/");
     String name = pathParts[pathParts.length-1];
-    if (!name.endsWith(".class") || name.equals("module-info.class")) {
+    if (!isClassFile(name)) {
       // Probably something like a pom.properties file in a JAR: this does not contribute
       // to the linear alloc size, so return zero.
       // skipping special class files like module descriptor - here no classes will be
       // declared and class visitor throws error.
-      return DalvikStatsTool.Stats.ZERO;
+      return ClassStats.ZERO;
     }
 
-    DalvikStatsTool.Stats stats = cache.get(entry);
+    ConcurrentMap<String, ClassStats> containerStats = getContainerStats(entry.getContainer());
+    ClassStats stats = containerStats.get(entry.getRelativePath());
     if (stats != null) {
       return stats;
     }
 
     try (InputStream is = entry.getInput()) {
-      stats = DalvikStatsTool.getEstimate(is);
-      cache.put(entry, stats);
+      stats = getStats(name, ByteStreams.toByteArray(is));
+      containerStats.put(entry.getRelativePath(), stats);
       return stats;
     } catch (IOException e) {
       throw new RuntimeException(String.format("Error calculating size for %s.", name), e);
-    } catch (RuntimeException e) {
+    }
+  }
+
+  /**
+   * Computes the stats of all the classes in the given jars and directories. The classes that are
+   * not in the index are analyzed concurrently, and the index is updated with them.
+   */
+  void computeStats(ProjectFilesystem filesystem, Set<Path> inFiles) throws IOException {
+    Map<Path, ContainerIndex> containerIndexes = new HashMap<>();
+    List<Pending> batch = new ArrayList<>();
+    new DefaultClasspathTraverser()
+        .traverse(
+            new ClasspathTraversal(inFiles, filesystem) {
+              @Override
+              public void visit(FileLike entry) throws IOException {
+                String relativePath = entry.getRelativePath();
+                if (!isClassFile(relativePath.substring(relativePath.lastIndexOf('/') + 1))) {
+                  return;
+                }
+                ContainerIndex containerIndex =
+                    containerIndexes.computeIfAbsent(entry.getContainer(), ContainerIndex::new);
+                byte[] contents;
+                try (InputStream is = entry.getInput()) {
+                  contents = ByteStreams.toByteArray(is);
+                }
+                // Classes are only hashed to be looked up in and added to the index.
+                HashCode hash = null;
+                if (index.isPresent()) {
+                  hash = Hashing.sha1().hashBytes(contents);
+                  ClassStats stats = containerIndex.indexed.get(hash);
+                  if (stats != null) {
+                    containerIndex.put(relativePath, hash, stats);
+                    return;
+                  }
+                  containerIndex.changed = true;
+                }
+                batch.add(new Pending(containerIndex, relativePath, hash, contents));
+                if (batch.size() >= BATCH_SIZE) {
+                  analyze(batch);
+                }
+              }
+            });
+    analyze(batch);
+
+    for (ContainerIndex containerIndex : containerIndexes.values()) {
+      if (index.isPresent()
+          && (containerIndex.changed
+              || containerIndex.used.size() != containerIndex.indexed.size())) {
+        try {
+          index.get().write(containerIndex.container, containerIndex.used);
+        } catch (IOException e) {
+          LOG.warn(e, "Could not write the dalvik stats index of %s.", containerIndex.container);
+        }
+      }
+    }
+  }
+
+  private void analyze(List<Pending> batch) {
+    batch.parallelStream()
+        .forEach(
+            pending ->
+                pending.containerIndex.put(
+                    pending.relativePath,
+                    pending.hash,
+                    getStats(pending.relativePath, pending.contents)));
+    batch.clear();
+  }
+
+  private static ClassStats getStats(String name, byte[] contents) {
+    DalvikStatsTool.Stats stats;
+    try {
+      stats = DalvikStatsTool.getEstimate(new ByteArrayInputStream(contents));
+    } catch (IOException | RuntimeException e) {
       throw new RuntimeException(String.format("Error calculating size for %s.", name), e);
     }
+    return new ClassStats(
+        stats.estimatedLinearAllocSize,
+        stats.methodReferences.stream().mapToLong(DalvikStatsCache::getFingerprint).toArray(),
+        stats.fieldReferences.stream().mapToLong(DalvikStatsCache::getFingerprint).toArray());
+  }
+
+  private ConcurrentMap<String, ClassStats> getContainerStats(Path container) {
+    return cache.computeIfAbsent(container, c -> new ConcurrentHashMap<>());
+  }
+
+  private static boolean isClassFile(String name) {
+    return name.endsWith(".class") && !name.equals("module-info.class");
+  }
+
+  /**
+   * Returns the 64-bit FNV-1a hash of the given member reference. Fingerprints stand in for the
+   * references, which makes tracking the references of a dex much cheaper, at the cost of a chance
+   * of two references colliding that is negligible next to the other estimates that are made.
+   */
+  static long getFingerprint(DalvikMemberReference reference) {
+    long hash = 0xcbf29ce484222325L;
+    hash = fingerprint(hash, reference.getClassName());
+    hash = fingerprint(hash, reference.getMemberName());
+    return fingerprint(hash, reference.getDescriptor());
+  }
+
+  private static long fingerprint(long hash, String string) {
+    for (int i = 0; i < string.length(); i++) {
+      hash = (hash ^ string.charAt(i)) * 0x100000001b3L;
+    }
+    // Ends the string with a NUL, which member references never contain.
+    return hash * 0x100000001b3L;
+  }
+
+  /** The stats of the classes of a jar or directory, and those in its index. */
+  private class ContainerIndex {
+    final Path container;
+    final Map<HashCode, ClassStats> indexed;
+    final Map<HashCode, ClassStats> used = new ConcurrentHashMap<>();
+    boolean changed;
+
+    ContainerIndex(Path container) {
+      this.container = container;
+      Map<HashCode, ClassStats> indexed = new HashMap<>();
+      if (index.isPresent()) {
+        try {
+          indexed = index.get().read(container);
+        } catch (IOException | RuntimeException e) {
+          LOG.warn(e, "Could not read the dalvik stats index of %s.", container);
+        }
+      }
+      this.indexed = indexed;
+    }
+
+    void put(String relativePath, @Nullable HashCode hash, ClassStats stats) {
+      getContainerStats(container).put(relativePath, stats);
+      if (hash != null) {
+        used.put(hash, stats);
+      }
+    }
+  }
+
+  /** A class file that is not in the index, waiting to be analyzed. */
+  private static class Pending {
+    final ContainerIndex containerIndex;
+    final String relativePath;
+    @Nullable final HashCode hash;
+    final byte[] contents;
+
+    Pending(
+        ContainerIndex containerIndex,
+        String relativePath,
+        @Nullable HashCode hash,
+        byte[] contents) {
+      this.containerIndex = containerIndex;
+      this.relativePath = relativePath;
+      this.hash = hash;
+      this.contents = contents;
+    }
   }
 }
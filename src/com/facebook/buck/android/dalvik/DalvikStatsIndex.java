@@ -0,0 +1,135 @@
+/*
+ * Copyright (c) Facebook, Inc. and its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.facebook.buck.android.dalvik;
+
+import com.google.common.hash.HashCode;
+import com.google.common.hash.Hashing;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * A persistent index of the {@link DalvikStatsCache.ClassStats} of the class files of a jar or
+ * directory, keyed by the hashes of their contents, so that only the class files that changed
+ * since the last split have to be analyzed again.
+ *
+ * <p>There is one index file per jar or directory, which holds the linear alloc estimate and the
+ * fingerprints of the member references of each class file. Index files are replaced at once, so
+ * the directory can be shared, and trimmed or deleted at any time.
+ */
+class DalvikStatsIndex {
+  /** Changes whenever the stats or the layout of the index files do. */
+  private static final int FORMAT_VERSION = 1;
+
+  private final Path root;
+
+  DalvikStatsIndex(Path root) {
+    this.root = root;
+  }
+
+  /**
+   * Reads the stats of the class files of the given jar or directory.
+   *
+   * @return the stats keyed by the hashes of the class files, or an empty map if there is no index.
+   */
+  Map<HashCode, DalvikStatsCache.ClassStats> read(Path container) throws IOException {
+    Map<HashCode, DalvikStatsCache.ClassStats> stats = new HashMap<>();
+    try (DataInputStream in =
+        new DataInputStream(new BufferedInputStream(Files.newInputStream(getFile(container))))) {
+      if (in.readInt() != FORMAT_VERSION) {
+        return stats;
+      }
+      int classCount = in.readInt();
+      byte[] hash = new byte[Hashing.sha1().bits() / 8];
+      for (int i = 0; i < classCount; i++) {
+        in.readFully(hash);
+        int estimatedLinearAllocSize = in.readInt();
+        long[] methodReferences = readReferences(in);
+        long[] fieldReferences = readReferences(in);
+        stats.put(
+            HashCode.fromBytes(hash),
+            new DalvikStatsCache.ClassStats(
+                estimatedLinearAllocSize, methodReferences, fieldReferences));
+      }
+    } catch (NoSuchFileException e) {
+      // There is no index for the container yet.
+    }
+    return stats;
+  }
+
+  private static long[] readReferences(DataInputStream in) throws IOException {
+    long[] references = new long[in.readInt()];
+    for (int i = 0; i < references.length; i++) {
+      references[i] = in.readLong();
+    }
+    return references;
+  }
+
+  /** Replaces the index of the given jar or directory. */
+  void write(Path container, Map<HashCode, DalvikStatsCache.ClassStats> stats)
+      throws IOException {
+    // Index files are written to a temporary file first, so that they are replaced all at once.
+    Path file = getFile(container);
+    Files.createDirectories(file.getParent());
+    Path tmp = Files.createTempFile(file.getParent(), "tmp-", "");
+    try {
+      try (DataOutputStream out =
+          new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(tmp)))) {
+        out.writeInt(FORMAT_VERSION);
+        out.writeInt(stats.size());
+        for (Map.Entry<HashCode, DalvikStatsCache.ClassStats> entry : stats.entrySet()) {
+          DalvikStatsCache.ClassStats classStats = entry.getValue();
+          out.write(entry.getKey().asBytes());
+          out.writeInt(classStats.estimatedLinearAllocSize);
+          writeReferences(out, classStats.methodReferences);
+          writeReferences(out, classStats.fieldReferences);
+        }
+      }
+      Files.move(tmp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    } finally {
+      Files.deleteIfExists(tmp);
+    }
+  }
+
+  private static void writeReferences(DataOutputStream out, long[] references)
+      throws IOException {
+    out.writeInt(references.length);
+    for (long reference : references) {
+      out.writeLong(reference);
+    }
+  }
+
+  private Path getFile(Path container) {
+    String hash =
+        Hashing.sha1()
+            .newHasher()
+            .putInt(FORMAT_VERSION)
+            .putString(container.toAbsolutePath().toString(), StandardCharsets.UTF_8)
+            .hash()
+            .toString();
+    return root.resolve(hash.substring(0, 2)).resolve(hash);
+  }
+}
@@ -0,0 +1,116 @@
+/*
+ * Copyright (c) Facebook, Inc. and its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.facebook.buck.android.dalvik;
+
+/**
+ * A set of member references, as the fingerprints {@link DalvikStatsCache} gives them, kept in an
+ * open addressing table of longs so that checking whether a class fits in a dex doesn't allocate.
+ */
+class MemberReferenceSet {
+  private static final long EMPTY = 0;
+
+  private long[] table = new long[1024];
+  private boolean containsEmpty;
+  private int size;
+
+  int size() {
+    return size;
+  }
+
+  boolean contains(long reference) {
+    if (reference == EMPTY) {
+      return containsEmpty;
+    }
+    int mask = table.length - 1;
+    for (int i = index(reference, mask); ; i = (i + 1) & mask) {
+      if (table[i] == reference) {
+        return true;
+      }
+      if (table[i] == EMPTY) {
+        return false;
+      }
+    }
+  }
+
+  /** @return whether the reference was not in the set already. */
+  boolean add(long reference) {
+    if (reference == EMPTY) {
+      if (containsEmpty) {
+        return false;
+      }
+      containsEmpty = true;
+      size++;
+      return true;
+    }
+    int mask = table.length - 1;
+    int i = index(reference, mask);
+    while (table[i] != EMPTY) {
+      if (table[i] == reference) {
+        return false;
+      }
+      i = (i + 1) & mask;
+    }
+    table[i] = reference;
+    size++;
+    // Keep the table at most half full, so that probe sequences stay short.
+    if (size * 2 > table.length) {
+      grow();
+    }
+    return true;
+  }
+
+  /** Returns how many of the given references are not in the set. */
+  int countMissing(long[] references) {
+    int count = 0;
+    for (long reference : references) {
+      if (!contains(reference)) {
+        count++;
+      }
+    }
+    return count;
+  }
+
+  /** Adds the given references and returns how many of them were not in the set already. */
+  int addAll(long[] references) {
+    int count = 0;
+    for (long reference : references) {
+      if (add(reference)) {
+        count++;
+      }
+    }
+    return count;
+  }
+
+  private void grow() {
+    long[] oldTable = table;
+    table = new long[oldTable.length * 2];
+    int mask = table.length - 1;
+    for (long reference : oldTable) {
+      if (reference != EMPTY) {
+        int i = index(reference, mask);
+        while (table[i] != EMPTY) {
+          i = (i + 1) & mask;
+        }
+        table[i] = reference;
+      }
+    }
+  }
+
+  private static int index(long reference, int mask) {
+    return (int) ((reference ^ (reference >>> 32)) * 0x9E3779B97F4A7C15L >>> 32) & mask;
+  }
+}
@@ -56,9 +56,8 @@ public class ExopackageInstaller {
   private static final Logger LOG = Logger.get(ExopackageInstaller.class);
 
   public static final Path EXOPACKAGE_INSTALL_ROOT = Paths.get("/data/local/tmp/exopackage/");
-  public static final String SECONDARY_DEX_TYPE = "secondary_dex";
-  public static final String NATIVE_LIBRARY_TYPE = "native_library";
   public static final String RESOURCES_TYPE = "resources";
+  public static final String EXOPACKAGE_FILES_TYPE = "exopackage_files";
 
   private final ProjectFilesystem projectFilesystem;
   private final BuckEventBus eventBus;
@@ -128,59 +127,40 @@ public class ExopackageInstaller {
     }
   }
 
+  /**
+   * Deletes the files that are no longer wanted and installs the metadata files. The metadata is
+   * always installed, because only the names of the files on the device are known: the other
+   * files are named after their contents, so the ones with the right names don't need installing.
+   */
   public void finishExoFileInstallation(
       ImmutableSortedSet<Path> presentFiles, ExopackageInfo exoInfo) throws Exception {
-    ImmutableSet.Builder<Path> wantedPaths = ImmutableSet.builder();
-    ImmutableMap.Builder<Path, String> metadata = ImmutableMap.builder();
-
-    if (exoInfo.getDexInfo().isPresent()) {
-      DexExoHelper dexExoHelper =
-          new DexExoHelper(pathResolver, projectFilesystem, exoInfo.getDexInfo().get());
-      wantedPaths.addAll(dexExoHelper.getFilesToInstall().keySet());
-      metadata.putAll(dexExoHelper.getMetadataToInstall());
-    }
-
-    if (exoInfo.getNativeLibsInfo().isPresent()) {
-      NativeExoHelper nativeExoHelper =
-          new NativeExoHelper(
-              () -> {
-                try {
-                  return device.getDeviceAbis();
-                } catch (Exception e) {
-                  throw new HumanReadableException("Unable to communicate with device", e);
-                }
-              },
-              pathResolver,
-              projectFilesystem,
-              exoInfo.getNativeLibsInfo().get());
-      wantedPaths.addAll(nativeExoHelper.getFilesToInstall().keySet());
-      metadata.putAll(nativeExoHelper.getMetadataToInstall());
-    }
-
-    if (exoInfo.getResourcesInfo().isPresent()) {
-      ResourcesExoHelper resourcesExoHelper =
-          new ResourcesExoHelper(pathResolver, projectFilesystem, exoInfo.getResourcesInfo().get());
-      wantedPaths.addAll(resourcesExoHelper.getFilesToInstall().keySet());
-      metadata.putAll(resourcesExoHelper.getMetadataToInstall());
-    }
-
-    if (exoInfo.getModuleInfo().isPresent()) {
-      ModuleExoHelper moduleExoHelper =
-          new ModuleExoHelper(pathResolver, projectFilesystem, exoInfo.getModuleInfo().get());
-      wantedPaths.addAll(moduleExoHelper.getFilesToInstall().keySet());
-      metadata.putAll(moduleExoHelper.getMetadataToInstall());
-    }
-
-    deleteUnwantedFiles(presentFiles, wantedPaths.build());
-    installMetadata(metadata.build());
+    ExoFiles exoFiles = getExoFiles(exoInfo);
+    deleteUnwantedFiles(presentFiles, exoFiles.files.build().keySet());
+    installMetadata(exoFiles.metadata.build());
   }
 
+  /**
+   * Installs the files of all the kinds of exopackage files that are missing from the device at
+   * once, which only starts the install agent on the device once.
+   */
   public void installMissingExopackageFiles(
       ImmutableSortedSet<Path> presentFiles, ExopackageInfo exoInfo) throws Exception {
+    installMissingFiles(presentFiles, getExoFiles(exoInfo).files.build(), EXOPACKAGE_FILES_TYPE);
+  }
+
+  /** The files and metadata of all the kinds of exopackage files, keyed by their device path. */
+  private static class ExoFiles {
+    final ImmutableMap.Builder<Path, Path> files = ImmutableMap.builder();
+    final ImmutableMap.Builder<Path, String> metadata = ImmutableMap.builder();
+  }
+
+  private ExoFiles getExoFiles(ExopackageInfo exoInfo) throws Exception {
+    ExoFiles exoFiles = new ExoFiles();
     if (exoInfo.getDexInfo().isPresent()) {
       DexExoHelper dexExoHelper =
           new DexExoHelper(pathResolver, projectFilesystem, exoInfo.getDexInfo().get());
-      installMissingFiles(presentFiles, dexExoHelper.getFilesToInstall(), SECONDARY_DEX_TYPE);
+      exoFiles.files.putAll(dexExoHelper.getFilesToInstall());
+      exoFiles.metadata.putAll(dexExoHelper.getMetadataToInstall());
     }
 
     if (exoInfo.getNativeLibsInfo().isPresent()) {
@@ -196,20 +176,24 @@ public class ExopackageInstaller {
               pathResolver,
               projectFilesystem,
               exoInfo.getNativeLibsInfo().get());
-      installMissingFiles(presentFiles, nativeExoHelper.getFilesToInstall(), NATIVE_LIBRARY_TYPE);
+      exoFiles.files.putAll(nativeExoHelper.getFilesToInstall());
+      exoFiles.metadata.putAll(nativeExoHelper.getMetadataToInstall());
     }
 
     if (exoInfo.getResourcesInfo().isPresent()) {
       ResourcesExoHelper resourcesExoHelper =
           new ResourcesExoHelper(pathResolver, projectFilesystem, exoInfo.getResourcesInfo().get());
-      installMissingFiles(presentFiles, resourcesExoHelper.getFilesToInstall(), RESOURCES_TYPE);
+      exoFiles.files.putAll(resourcesExoHelper.getFilesToInstall());
+      exoFiles.metadata.putAll(resourcesExoHelper.getMetadataToInstall());
     }
 
     if (exoInfo.getModuleInfo().isPresent()) {
       ModuleExoHelper moduleExoHelper =
           new ModuleExoHelper(pathResolver, projectFilesystem, exoInfo.getModuleInfo().get());
-      installMissingFiles(presentFiles, moduleExoHelper.getFilesToInstall(), "modular_dex");
+      exoFiles.files.putAll(moduleExoHelper.getFilesToInstall());
+      exoFiles.metadata.putAll(moduleExoHelper.getMetadataToInstall());
     }
+    return exoFiles;
   }
 
   /**
@@ -310,6 +294,9 @@ public class ExopackageInstaller {
 
   private void installFiles(String filesType, ImmutableMap<Path, Path> filesToInstall)
       throws Exception {
+    if (filesToInstall.isEmpty()) {
+      return;
+    }
     try (SimplePerfEvent.Scope ignored =
             SimplePerfEvent.scope(eventBus, "multi_install_" + filesType);
         AutoCloseable ignored1 = device.createForward()) {
@@ -59,6 +59,7 @@ import com.google.common.collect.ImmutableSet;
 import com.google.common.collect.ImmutableSortedSet;
 import com.google.common.collect.Sets;
 import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.StandardOpenOption;
@@ -213,23 +214,25 @@ class RelinkerRule extends AbstractBuildRule implements OverrideScheduleRule {
               public StepExecutionResult execute(ExecutionContext context)
                   throws IOException, InterruptedException {
                 ImmutableSet<String> symbolsNeeded = readSymbolsNeeded();
+                Symbols baseSymbols = getSymbols(context.getProcessExecutor(), getBaseLibPath());
+                Symbols libSymbols;
                 if (linker == null) {
                   getProjectFilesystem().copyFile(getBaseLibPath(), getLibFilePath());
                   buildableContext.recordArtifact(getLibFilePath());
+                  // The library is copied as it is, so it has the symbols of the base library.
+                  libSymbols = baseSymbols;
                 } else {
-                  writeVersionScript(context.getProcessExecutor(), symbolsNeeded);
+                  writeVersionScript(baseSymbols, symbolsNeeded);
                   for (Step s : relinkerSteps.build()) {
                     StepExecutionResult executionResult = s.execute(context);
                     if (!executionResult.isSuccess()) {
                       return StepExecutionResults.ERROR;
                     }
                   }
+                  libSymbols = getSymbols(context.getProcessExecutor(), getLibFilePath());
                 }
                 writeSymbols(
-                    getSymbolsNeededOutPath(),
-                    Sets.union(
-                        symbolsNeeded,
-                        getSymbols(context.getProcessExecutor(), getLibFilePath()).undefined));
+                    getSymbolsNeededOutPath(), Sets.union(symbolsNeeded, libSymbols.undefined));
                 return StepExecutionResults.SUCCESS;
               }
             })
@@ -279,9 +282,8 @@ class RelinkerRule extends AbstractBuildRule implements OverrideScheduleRule {
     return getScratchFilePath("__version.exp");
   }
 
-  private void writeVersionScript(ProcessExecutor executor, ImmutableSet<String> symbolsNeeded)
-      throws IOException, InterruptedException {
-    Symbols sym = getSymbols(executor, getBaseLibPath());
+  private void writeVersionScript(Symbols sym, ImmutableSet<String> symbolsNeeded)
+      throws IOException {
     Set<String> defined = Sets.difference(sym.all, sym.undefined);
     String versionScript = getVersionScript(symbolsNeeded, defined, symbolWhitelist);
 
@@ -308,12 +310,27 @@ class RelinkerRule extends AbstractBuildRule implements OverrideScheduleRule {
   }
 
   private ImmutableSet<String> readSymbolsNeeded() throws IOException {
-    ImmutableSet.Builder<String> symbolsNeeded = ImmutableSet.builder();
-    for (SourcePath source : symbolsNeededPaths) {
-      symbolsNeeded.addAll(
-          Files.readAllLines(pathResolver.getAbsolutePath(source), Charsets.UTF_8));
+    ImmutableList<Path> paths =
+        symbolsNeededPaths.stream()
+            .map(pathResolver::getAbsolutePath)
+            .collect(ImmutableList.toImmutableList());
+    // A library that many others link against has as many symbol files to read, so read them
+    // concurrently.
+    try {
+      return paths
+          .parallelStream()
+          .flatMap(
+              path -> {
+                try {
+                  return Files.readAllLines(path, Charsets.UTF_8).stream();
+                } catch (IOException e) {
+                  throw new UncheckedIOException(e);
+                }
+              })
+          .collect(ImmutableSet.toImmutableSet());
+    } catch (UncheckedIOException e) {
+      throw e.getCause();
     }
-    return symbolsNeeded.build();
   }
 
   @Override
@@ -18,22 +18,36 @@ package com.facebook.buck.android.relinker;
 
 import com.facebook.buck.core.sourcepath.resolver.SourcePathResolverAdapter;
 import com.facebook.buck.core.toolchain.tool.Tool;
+import com.facebook.buck.core.util.log.Logger;
+import com.facebook.buck.cxx.toolchain.elf.Elf;
+import com.facebook.buck.cxx.toolchain.elf.ElfSection;
+import com.facebook.buck.cxx.toolchain.elf.ElfSymbolTable;
 import com.facebook.buck.util.ProcessExecutor;
 import com.facebook.buck.util.ProcessExecutorParams;
+import com.facebook.buck.util.environment.Platform;
 import com.facebook.buck.util.types.Unit;
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableSet;
 import com.google.common.io.CharStreams;
 import com.google.common.io.LineProcessor;
 import java.io.BufferedReader;
+import java.io.EOFException;
 import java.io.IOException;
 import java.io.InputStreamReader;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
 import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 import javax.annotation.Nullable;
 
 public class Symbols {
+  private static final Logger LOG = Logger.get(Symbols.class);
+
+  // Section index of the symbols that are not defined by the library.
+  private static final int SHN_UNDEF = 0;
+
   public ImmutableSet<String> undefined;
   public ImmutableSet<String> global;
   public ImmutableSet<String> all;
@@ -88,12 +102,86 @@ public class Symbols {
         m.group("name"), "*UND*".equals(m.group("section")), "gu!".contains(m.group("global")));
   }
 
+  /**
+   * Returns the dynamic symbols of the given library, read from its ELF {@code .dynsym} section
+   * directly, or listed by {@code objdump -T} if the library can't be read that way.
+   */
   public static Symbols getDynamicSymbols(
       ProcessExecutor executor, Tool objdump, SourcePathResolverAdapter resolver, Path lib)
       throws IOException, InterruptedException {
+    try {
+      return readDynamicSymbols(lib);
+    } catch (IOException | RuntimeException e) {
+      LOG.debug(e, "Could not read the dynamic symbols of %s, falling back to objdump.", lib);
+    }
     return getSymbols(executor, objdump, resolver, lib, "-T");
   }
 
+  /**
+   * Reads the dynamic symbols of the given library from its {@code .dynsym} section, as {@code
+   * objdump -T} would list them, without starting a process. The library is mapped, so that only
+   * the symbol and string tables are read in.
+   */
+  static Symbols readDynamicSymbols(Path lib) throws IOException {
+    ImmutableSet.Builder<String> undefined = ImmutableSet.builder();
+    ImmutableSet.Builder<String> global = ImmutableSet.builder();
+    ImmutableSet.Builder<String> all = ImmutableSet.builder();
+
+    try (FileChannel channel = FileChannel.open(lib, StandardOpenOption.READ)) {
+      ByteBuffer buffer = mapOrRead(lib, channel);
+      if (!Elf.isElf(buffer)) {
+        throw new IOException(String.format("%s is not an ELF file", lib));
+      }
+      Elf elf = new Elf(buffer);
+      ElfSection section = elf.getMandatorySectionByName(lib, ".dynsym").getSection();
+      ElfSection strings = elf.getSectionByIndex((int) section.header.sh_link);
+      ElfSymbolTable table = ElfSymbolTable.parse(elf.header.ei_class, section.body);
+
+      // The first entry is the reserved null symbol, which objdump doesn't list.
+      for (ElfSymbolTable.Entry entry : table.entries.subList(1, table.entries.size())) {
+        String symbol;
+        if (entry.st_info.st_type == ElfSymbolTable.Entry.Info.Type.STT_SECTION) {
+          // objdump names section symbols after their section.
+          symbol = elf.getSectionName(elf.getSectionByIndex(entry.st_shndx).header);
+        } else {
+          symbol = strings.lookupString(entry.st_name);
+        }
+        if (symbol.isEmpty()) {
+          continue;
+        }
+        if (entry.st_shndx == SHN_UNDEF) {
+          undefined.add(symbol);
+        } else if (entry.st_info.st_bind == ElfSymbolTable.Entry.Info.Bind.STB_GLOBAL) {
+          global.add(symbol);
+        }
+        all.add(symbol);
+      }
+    } catch (InternalError e) {
+      // Accessing a mapped file that was truncated in the meantime throws an InternalError.
+      throw new IOException(lib + " changed while it was read", e);
+    }
+
+    return new Symbols(undefined.build(), global.build(), all.build());
+  }
+
+  /**
+   * Maps the library in, except on Windows, where a mapped file can't be deleted or replaced until
+   * the mapping is garbage collected. The library is read there instead.
+   */
+  private static ByteBuffer mapOrRead(Path lib, FileChannel channel) throws IOException {
+    if (Platform.detect() != Platform.WINDOWS) {
+      return channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+    }
+    ByteBuffer buffer = ByteBuffer.allocate(Math.toIntExact(channel.size()));
+    while (buffer.hasRemaining()) {
+      if (channel.read(buffer) < 0) {
+        throw new EOFException(String.format("%s changed while it was read", lib));
+      }
+    }
+    buffer.flip();
+    return buffer;
+  }
+
   public static Symbols getNormalSymbols(
       ProcessExecutor executor, Tool objdump, SourcePathResolverAdapter resolver, Path lib)
       throws IOException, InterruptedException {
@@ -18,6 +18,7 @@ package com.facebook.buck.android.resources;
 
 import com.facebook.buck.io.file.MostFiles;
 import com.facebook.buck.util.MoreSuppliers;
+import com.facebook.buck.util.environment.Platform;
 import com.facebook.buck.util.stream.RichStream;
 import com.google.common.base.Charsets;
 import com.google.common.collect.ImmutableList;
@@ -29,8 +30,14 @@ import com.google.common.io.ByteStreams;
 import java.io.ByteArrayInputStream;
 import java.io.Closeable;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.SequenceInputStream;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
@@ -107,6 +114,8 @@ import java.util.zip.ZipFile;
  * different package ids.
  */
 public class ExoResourcesRewriter {
+  private static final String RESOURCES_ARSC = "resources.arsc";
+
   private ExoResourcesRewriter() {}
 
   public static void rewrite(
@@ -136,12 +145,7 @@ public class ExoResourcesRewriter {
       // Write the full (rearranged) resources to the exo resources.
       try (ResourcesZipBuilder zipBuilder = new ResourcesZipBuilder(exoResources)) {
         for (ZipEntry entry : apkZip.getEntries()) {
-          addEntry(
-              zipBuilder,
-              entry.getName(),
-              apkZip.getContent(entry.getName()),
-              entry.getMethod() == ZipEntry.STORED ? 0 : Deflater.BEST_COMPRESSION,
-              false);
+          apkZip.copyEntry(zipBuilder, entry);
         }
       }
       // Then, slice out the resources needed for the primary apk.
@@ -152,20 +156,12 @@ public class ExoResourcesRewriter {
                 ImmutableMap.copyOf(Maps.transformValues(closure.idsByType, Set::size)));
         addEntry(
             zipBuilder,
-            "resources.arsc",
+            RESOURCES_ARSC,
             primaryResourceTable.serialize(),
-            apkZip.getEntry("resources.arsc").getMethod() == ZipEntry.STORED
-                ? 0
-                : Deflater.BEST_COMPRESSION,
+            getCompressionLevel(apkZip.getEntry(RESOURCES_ARSC)),
             false);
         for (String path : RichStream.from(closure.files).sorted().toOnceIterable()) {
-          ZipEntry entry = apkZip.getEntry(path);
-          addEntry(
-              zipBuilder,
-              entry.getName(),
-              apkZip.getContent(entry.getName()),
-              entry.getMethod() == ZipEntry.STORED ? 0 : Deflater.BEST_COMPRESSION,
-              false);
+          apkZip.copyEntry(zipBuilder, apkZip.getEntry(path));
         }
       }
       return resMapping;
@@ -258,14 +254,46 @@ public class ExoResourcesRewriter {
         isDirectory);
   }
 
+  private static void addEntry(
+      ResourcesZipBuilder zipBuilder, String name, List<ByteBuffer> content, int compressionLevel)
+      throws IOException {
+    CRC32 crc32 = new CRC32();
+    long size = 0;
+    List<InputStream> inputs = new ArrayList<>();
+    for (ByteBuffer part : content) {
+      crc32.update(ResChunk.slice(part, 0));
+      size += part.limit();
+      inputs.add(new ByteBufferInputStream(ResChunk.slice(part, 0)));
+    }
+    zipBuilder.addEntry(
+        new SequenceInputStream(Collections.enumeration(inputs)),
+        size,
+        crc32.getValue(),
+        name,
+        compressionLevel,
+        false);
+  }
+
+  private static int getCompressionLevel(ZipEntry entry) {
+    return entry.getMethod() == ZipEntry.STORED ? 0 : Deflater.BEST_COMPRESSION;
+  }
+
+  /**
+   * The contents of the apk. Only the resource table and the compiled .xml files are read, as
+   * they're the ones that get rewritten, and the resource table is mapped rather than read when
+   * it's stored uncompressed. Other files are streamed from the apk when they're copied.
+   */
   private static class ApkZip implements Closeable, UsedResourcesFinder.ApkContentProvider {
+    private final Path inputPath;
     private final ZipFile zipFile;
     private final SortedMap<String, ZipEntry> entries;
     private final Map<String, byte[]> entryContents;
     private final Map<String, ResourcesXml> xmlEntries;
+    private final Supplier<ByteBuffer> resourceTableData;
     private final Supplier<ResourceTable> resourceTable;
 
     public ApkZip(Path inputPath) throws IOException {
+      this.inputPath = inputPath;
       this.zipFile = new ZipFile(inputPath.toFile());
       this.entries =
           Collections.list(zipFile.entries()).stream()
@@ -274,9 +302,72 @@ public class ExoResourcesRewriter {
                       Ordering.natural(), ZipEntry::getName, e -> e));
       this.entryContents = new HashMap<>();
       this.xmlEntries = new HashMap<>();
-      this.resourceTable =
-          MoreSuppliers.memoize(
-              () -> ResourceTable.get(ResChunk.wrap(getContent("resources.arsc"))));
+      this.resourceTableData = MoreSuppliers.memoize(this::readResourceTable);
+      this.resourceTable = MoreSuppliers.memoize(this::getResourceTableFromData);
+    }
+
+    /**
+     * aapt stores resources.arsc uncompressed, in which case it is mapped read-only straight from
+     * the apk rather than read. Windows doesn't let a mapped file be deleted until the mapping is
+     * garbage collected, so the table is always read there.
+     */
+    private ByteBuffer readResourceTable() {
+      ZipEntry entry = entries.get(RESOURCES_ARSC);
+      if (entry.getMethod() == ZipEntry.STORED && Platform.detect() != Platform.WINDOWS) {
+        try (org.apache.commons.compress.archivers.zip.ZipFile zip =
+                new org.apache.commons.compress.archivers.zip.ZipFile(inputPath.toFile());
+            FileChannel channel = FileChannel.open(inputPath, StandardOpenOption.READ)) {
+          long offset = zip.getEntry(RESOURCES_ARSC).getDataOffset();
+          ByteBuffer data = channel.map(FileChannel.MapMode.READ_ONLY, offset, entry.getSize());
+          data.order(ByteOrder.LITTLE_ENDIAN);
+          return data;
+        } catch (IOException e) {
+          // Mapping the table only saves copying it, so read it instead.
+        }
+      }
+      return ResChunk.wrap(getContent(RESOURCES_ARSC));
+    }
+
+    /** The package of a mapped table is copied, as it's the part that gets rewritten. */
+    private ResourceTable getResourceTableFromData() {
+      ByteBuffer data = resourceTableData.get();
+      ResourceTable table = ResourceTable.get(ResChunk.slice(data, 0));
+      return data.isReadOnly() ? table.withPackageCopy() : table;
+    }
+
+    /**
+     * Returns the contents of the rewritten resource table. A table that was read was rewritten in
+     * place, while a mapped one is made of the unchanged part of the mapping and the copied
+     * package, which comes last.
+     */
+    private List<ByteBuffer> getRewrittenResourceTable() {
+      ByteBuffer data = resourceTableData.get();
+      if (!data.isReadOnly()) {
+        return ImmutableList.of(data);
+      }
+      ByteBuffer resPackage = ResChunk.wrap(getResourceTable().getPackage().serialize());
+      return ImmutableList.of(
+          ResChunk.slice(data, 0, data.limit() - resPackage.limit()), resPackage);
+    }
+
+    /**
+     * Adds the entry to the zip, with the rewritten contents if it was rewritten, and streamed from
+     * the apk otherwise.
+     */
+    void copyEntry(ResourcesZipBuilder zipBuilder, ZipEntry entry) throws IOException {
+      String name = entry.getName();
+      int compressionLevel = getCompressionLevel(entry);
+      byte[] content = entryContents.get(name);
+      if (name.equals(RESOURCES_ARSC)) {
+        addEntry(zipBuilder, name, getRewrittenResourceTable(), compressionLevel);
+      } else if (content != null) {
+        addEntry(zipBuilder, name, content, compressionLevel, false);
+      } else {
+        try (InputStream input = zipFile.getInputStream(entry)) {
+          zipBuilder.addEntry(
+              input, entry.getSize(), entry.getCrc(), name, compressionLevel, false);
+        }
+      }
     }
 
     @Override
@@ -339,4 +430,31 @@ public class ExoResourcesRewriter {
       }
     }
   }
+
+  /** Reads the remaining bytes of a buffer, which may be a mapped file. */
+  private static class ByteBufferInputStream extends InputStream {
+    private final ByteBuffer buffer;
+
+    ByteBufferInputStream(ByteBuffer buffer) {
+      this.buffer = buffer;
+    }
+
+    @Override
+    public int read() {
+      return buffer.hasRemaining() ? buffer.get() & 0xFF : -1;
+    }
+
+    @Override
+    public int read(byte[] bytes, int offset, int length) {
+      if (length == 0) {
+        return 0;
+      }
+      if (!buffer.hasRemaining()) {
+        return -1;
+      }
+      int count = Math.min(length, buffer.remaining());
+      buffer.get(bytes, offset, count);
+      return count;
+    }
+  }
 }
@@ -132,8 +132,14 @@ public abstract class ResChunk {
 
   // These are some utilities used widely by subclasses for dealing with ByteBuffers.
   static ByteBuffer copy(ByteBuffer buf) {
-    return wrap(
-        Arrays.copyOfRange(buf.array(), buf.arrayOffset(), buf.arrayOffset() + buf.limit()));
+    if (buf.hasArray()) {
+      return wrap(
+          Arrays.copyOfRange(buf.array(), buf.arrayOffset(), buf.arrayOffset() + buf.limit()));
+    }
+    // The buffer is a mapped file rather than an array.
+    byte[] data = new byte[buf.limit()];
+    slice(buf, 0).get(data);
+    return wrap(data);
   }
 
   public static ByteBuffer wrap(byte[] data) {
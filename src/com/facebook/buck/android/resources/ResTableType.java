@@ -69,7 +69,13 @@ public class ResTableType extends ResChunk {
         entryOffsets.putInt(i * 4, currentOffset);
         int dataSize = type.getEntrySizeAtOffset(offset);
         currentOffset += dataSize;
-        output.write(type.entryData.array(), type.entryData.arrayOffset() + offset, dataSize);
+        if (type.entryData.hasArray()) {
+          output.write(type.entryData.array(), type.entryData.arrayOffset() + offset, dataSize);
+        } else {
+          byte[] entry = new byte[dataSize];
+          slice(type.entryData, offset, dataSize).get(entry);
+          output.write(entry, 0, dataSize);
+        }
       }
     }
 
@@ -84,6 +84,15 @@ public class ResourceTable extends ResChunk {
     resPackage.reassignIds(refMapping);
   }
 
+  /**
+   * Returns this table with a copy of its package, for tables read from a read-only buffer (e.g. a
+   * mapped file). Reassigning ids only changes the package, so the strings are left where they
+   * are.
+   */
+  public ResourceTable withPackageCopy() {
+    return new ResourceTable(strings, ResTablePackage.get(wrap(resPackage.serialize())));
+  }
+
   public static ResourceTable slice(ResourceTable table, Map<Integer, Integer> countsToExtract) {
     ResTablePackage newPackage = ResTablePackage.slice(table.resPackage, countsToExtract);
 
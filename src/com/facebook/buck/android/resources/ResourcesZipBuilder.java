@@ -22,6 +22,7 @@ import java.io.Closeable;
 import java.io.IOException;
 import java.io.InputStream;
 import java.nio.file.Path;
+import java.util.concurrent.ForkJoinPool;
 import java.util.zip.CRC32;
 import java.util.zip.Deflater;
 
@@ -42,7 +43,7 @@ public class ResourcesZipBuilder implements Closeable {
   private DeterministicZipBuilder builder;
 
   public ResourcesZipBuilder(Path path) throws IOException {
-    builder = new DeterministicZipBuilder(path);
+    builder = new DeterministicZipBuilder(path, ForkJoinPool.commonPool());
     hasManifest = false;
   }
 
@@ -36,6 +36,7 @@ import com.facebook.buck.core.rulekey.config.RuleKeyConfig;
 import com.facebook.buck.core.util.log.Logger;
 import com.facebook.buck.event.BuckEventListener;
 import com.facebook.buck.event.ConsoleEvent;
+import com.facebook.buck.jvm.java.JavaBuckConfig;
 import com.facebook.buck.log.LogConfigSetup;
 import com.facebook.buck.parser.ParsingContext;
 import com.facebook.buck.parser.config.ParserConfig;
@@ -433,6 +434,10 @@ public abstract class AbstractCommand extends CommandWithPluginManager {
             .setPersistentWorkerPools(params.getPersistentWorkerPools())
             .setProjectFilesystemFactory(params.getProjectFilesystemFactory())
             .setTruncateFailingCommandEnabled(cliConfig.getEnableFailingCommandTruncation());
+    if (buckConfig.getView(JavaBuckConfig.class).shouldShareClassLoadersAcrossCommands()) {
+      // The context's reference is released when the context is closed.
+      builder.setClassLoaderCache(params.getGlobalState().getClassLoaderCache().addRef());
+    }
     return builder;
   }
 
@@ -61,6 +61,7 @@ import com.facebook.buck.rules.keys.DefaultRuleKeyFactory;
 import com.facebook.buck.rules.keys.RuleKeyCacheRecycler;
 import com.facebook.buck.rules.keys.RuleKeyCacheScope;
 import com.facebook.buck.rules.keys.RuleKeyFieldLoader;
+import com.facebook.buck.shell.WorkerToolWarmUp;
 import com.facebook.buck.support.cli.config.AliasConfig;
 import com.facebook.buck.support.cli.config.CliConfig;
 import com.facebook.buck.util.CommandLineException;
@@ -928,6 +929,16 @@ public class BuildCommand extends AbstractCommand {
             params.getTargetConfigurationSerializer(),
             remoteExecutionAutoEnabled,
             isRemoteExecutionForceDisabled());
+    Optional<WorkerToolWarmUp> workerToolWarmUp = Optional.empty();
+    if (WorkerToolWarmUp.isEnabled(params.getBuckConfig())) {
+      workerToolWarmUp =
+          Optional.of(
+              WorkerToolWarmUp.of(
+                  getExecutionContext(),
+                  actionGraphAndBuilder.getActionGraphBuilder().getSourcePathResolver(),
+                  actionGraphAndBuilder.getActionGraph().getNodes()));
+      params.getBuckEventBus().register(workerToolWarmUp.get());
+    }
     // TODO(buck_team): use try-with-resources instead
     try {
       buildReference.set(builder.getBuild());
@@ -944,6 +955,10 @@ public class BuildCommand extends AbstractCommand {
       return builder.buildTargets(targets, getPathToBuildReport(params.getBuckConfig()));
     } finally {
       builder.shutdown();
+      if (workerToolWarmUp.isPresent()) {
+        params.getBuckEventBus().unregister(workerToolWarmUp.get());
+        workerToolWarmUp.get().close();
+      }
     }
   }
 
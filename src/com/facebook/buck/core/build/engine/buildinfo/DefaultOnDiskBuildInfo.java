@@ -211,6 +211,10 @@ public class DefaultOnDiskBuildInfo implements OnDiskBuildInfo {
     ImmutableSortedSet.Builder<Path> allPaths = ImmutableSortedSet.naturalOrder();
     for (Path path : paths) {
       allPaths.add(path);
+      if (!projectFilesystem.exists(path)) {
+        // An output that a build strategy left in remote storage, whose hash it has seeded.
+        continue;
+      }
       projectFilesystem.walkRelativeFileTree(
           path,
           new SimpleFileVisitor<Path>() {
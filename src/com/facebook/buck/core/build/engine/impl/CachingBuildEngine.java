@@ -29,6 +29,7 @@ import com.facebook.buck.core.build.engine.RuleDepsCache;
 import com.facebook.buck.core.build.engine.buildinfo.BuildInfo;
 import com.facebook.buck.core.build.engine.buildinfo.BuildInfoRecorder;
 import com.facebook.buck.core.build.engine.buildinfo.BuildInfoStore;
+import com.facebook.buck.core.build.engine.buildinfo.DefaultOnDiskBuildInfo;
 import com.facebook.buck.core.build.engine.buildinfo.OnDiskBuildInfo;
 import com.facebook.buck.core.build.engine.cache.manager.BuildInfoStoreManager;
 import com.facebook.buck.core.build.engine.config.ResourceAwareSchedulingInfo;
@@ -47,6 +48,7 @@ import com.facebook.buck.core.rules.BuildRuleResolver;
 import com.facebook.buck.core.rules.attr.HasRuntimeDeps;
 import com.facebook.buck.core.rules.build.strategy.BuildRuleStrategy;
 import com.facebook.buck.event.BuckEventBus;
+import com.facebook.buck.io.filesystem.ProjectFilesystem;
 import com.facebook.buck.rules.keys.RuleKeyDiagnostics;
 import com.facebook.buck.rules.keys.RuleKeyFactories;
 import com.facebook.buck.rules.keys.hasher.StringRuleKeyHasher;
@@ -68,8 +70,11 @@ import com.google.common.util.concurrent.MoreExecutors;
 import com.google.common.util.concurrent.SettableFuture;
 import java.io.Closeable;
 import java.io.IOException;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.Deque;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
@@ -241,6 +246,7 @@ public class CachingBuildEngine implements BuildEngine, Closeable {
   public void close() {
     try {
       if (customBuildRuleStrategy.isPresent()) {
+        forgetRulesWithDeferredOutputs(customBuildRuleStrategy.get());
         customBuildRuleStrategy.get().close();
       }
       terminateBuildWithFailure(new CancellationException("Cancelling due to engine shutdown."));
@@ -252,6 +258,19 @@ public class CachingBuildEngine implements BuildEngine, Closeable {
     }
   }
 
+  /**
+   * The outputs that the custom strategy still has deferred are dropped when it is closed. Forget
+   * that their rules were built, or the next build would find their rule keys matching while the
+   * outputs aren't on disk.
+   */
+  private void forgetRulesWithDeferredOutputs(BuildRuleStrategy strategy) throws IOException {
+    for (BuildTarget target : strategy.getTargetsWithDeferredOutputs()) {
+      ProjectFilesystem filesystem = resolver.getRule(target).getProjectFilesystem();
+      new DefaultOnDiskBuildInfo(target, filesystem, buildInfoStoreManager.get(filesystem))
+          .deleteExistingMetadata();
+    }
+  }
+
   /// We might want to share rule-key calculation with other parts of code.
   public ParallelRuleKeyCalculator<RuleKey> getRuleKeyCalculator() {
     return ruleKeyCalculator;
@@ -446,9 +465,47 @@ public class CachingBuildEngine implements BuildEngine, Closeable {
     registerTopLevelRule(rule, buildContext.getEventBus());
     ListenableFuture<BuildResult> resultFuture =
         getBuildRuleResultWithRuntimeDeps(rule, buildContext, executionContext);
+    if (customBuildRuleStrategy.isPresent()) {
+      resultFuture =
+          Futures.transformAsync(
+              resultFuture,
+              result -> materializeTopLevelOutputs(rule, result),
+              MoreExecutors.directExecutor());
+    }
     return BuildEngine.BuildEngineResult.of(resultFuture);
   }
 
+  /**
+   * The custom strategy may have left outputs in remote storage. Top-level rules and their runtime
+   * deps are what the user asked for, so make sure those are on disk.
+   */
+  private ListenableFuture<BuildResult> materializeTopLevelOutputs(
+      BuildRule rule, BuildResult result) {
+    if (!result.isSuccess()) {
+      return Futures.immediateFuture(result);
+    }
+    Set<BuildRule> rules = new LinkedHashSet<>();
+    Deque<BuildRule> toVisit = new ArrayDeque<>();
+    toVisit.add(rule);
+    while (!toVisit.isEmpty()) {
+      BuildRule next = toVisit.pop();
+      if (rules.add(next) && next instanceof HasRuntimeDeps) {
+        ((HasRuntimeDeps) next)
+            .getRuntimeDeps(resolver)
+            .map(resolver::getRule)
+            .forEach(toVisit::add);
+      }
+    }
+    return Futures.catching(
+        Futures.transform(
+            customBuildRuleStrategy.get().materializeOutputs(rules),
+            ignored -> result,
+            MoreExecutors.directExecutor()),
+        Throwable.class,
+        t -> BuildResult.failure(rule, t),
+        MoreExecutors.directExecutor());
+  }
+
   @Nullable
   @Override
   public BuildResult getBuildRuleResult(BuildTarget buildTarget)
@@ -389,6 +389,12 @@ class CachingBuildRuleBuilder {
             },
             MoreExecutors.directExecutor());
 
+    buildResult =
+        Futures.transformAsync(
+            buildResult,
+            this::materializeOutputsReadWhenFinalizing,
+            MoreExecutors.directExecutor());
+
     buildResult =
         Futures.transformAsync(
             buildResult,
@@ -485,6 +491,26 @@ class CachingBuildRuleBuilder {
     }
   }
 
+  /**
+   * The custom strategy may have left the outputs of the rule in remote storage, with their hashes
+   * seeded into the file hash cache. That is enough for recording the output hashes, but
+   * post-build steps, dep files and initializing the rule from disk read the outputs themselves.
+   */
+  private ListenableFuture<BuildResult> materializeOutputsReadWhenFinalizing(BuildResult result) {
+    if (!result.isSuccess()
+        || !customBuildRuleStrategy.isPresent()
+        || !customBuildRuleStrategy.get().hasDeferredOutputs(rule)
+        || !(rule instanceof InitializableFromDisk
+            || rule instanceof HasPostBuildSteps
+            || dependencyFileRuleKeyManager.useDependencyFileRuleKey())) {
+      return Futures.immediateFuture(result);
+    }
+    return Futures.transform(
+        customBuildRuleStrategy.get().materializeOutputs(ImmutableList.of(rule)),
+        ignored -> result,
+        MoreExecutors.directExecutor());
+  }
+
   private ListenableFuture<BuildResult> finalizeBuildRule(BuildResult input) throws IOException {
     try {
       // If we weren't successful, exit now.
@@ -638,9 +664,16 @@ class CachingBuildRuleBuilder {
       executePostBuildSteps(((HasPostBuildSteps) rule).getPostBuildSteps(buildRuleBuildContext));
     }
 
-    // Invalidate any cached hashes for the output paths, since we've updated them.
+    // Invalidate any cached hashes for the output paths, since we've updated them. Outputs that
+    // the custom strategy left in remote storage aren't on disk, and the hashes that it seeded for
+    // them are the only ones there are.
+    boolean hasDeferredOutputs =
+        customBuildRuleStrategy.isPresent()
+            && customBuildRuleStrategy.get().hasDeferredOutputs(rule);
     for (Path path : getBuildInfoRecorder().getRecordedPaths()) {
-      fileHashCache.invalidate(rule.getProjectFilesystem().resolve(path));
+      if (!hasDeferredOutputs || rule.getProjectFilesystem().exists(path)) {
+        fileHashCache.invalidate(rule.getProjectFilesystem().resolve(path));
+      }
     }
 
     // Doing this here is probably not strictly necessary, however in the case of
@@ -819,6 +852,13 @@ class CachingBuildRuleBuilder {
               buildCacheArtifactUploader.shouldUploadToCache(success, outputSize.get());
         }
 
+        // Outputs that were left in the strategy's remote storage can't be uploaded.
+        if (shouldUploadToCache.equals(UploadToCacheResultType.CACHEABLE)
+            && customBuildRuleStrategy.isPresent()
+            && customBuildRuleStrategy.get().hasDeferredOutputs(rule)) {
+          shouldUploadToCache = UploadToCacheResultType.UNCACHEABLE;
+        }
+
         // Upload it to the cache.
         if (shouldUploadToCache.equals(UploadToCacheResultType.CACHEABLE)) {
           uploadToCache(success);
@@ -850,6 +890,19 @@ class CachingBuildRuleBuilder {
         new BuildStrategyContext() {
           @Override
           public ListenableFuture<Optional<BuildResult>> runWithDefaultBehavior() {
+            if (customBuildRuleStrategy.isPresent()) {
+              // The strategy may have left outputs of our deps in remote storage, and the local
+              // build needs them on disk.
+              ListenableFuture<?> inputsMaterialized =
+                  customBuildRuleStrategy.get().materializeInputs(rule);
+              if (!inputsMaterialized.isDone()) {
+                return Futures.transformAsync(inputsMaterialized, ignored -> runLocally(), service);
+              }
+            }
+            return runLocally();
+          }
+
+          private ListenableFuture<Optional<BuildResult>> runLocally() {
             if (SupportsPipelining.isSupported(rule)
                 && ((SupportsPipelining<?>) rule).useRulePipelining()) {
               return pipelinesRunner.runPipelineStartingAt(
@@ -18,7 +18,10 @@ package com.facebook.buck.core.rules.build.strategy;
 
 import com.facebook.buck.core.build.engine.BuildResult;
 import com.facebook.buck.core.build.engine.BuildStrategyContext;
+import com.facebook.buck.core.model.BuildTarget;
 import com.facebook.buck.core.rules.BuildRule;
+import com.google.common.collect.ImmutableSet;
+import com.google.common.util.concurrent.Futures;
 import com.google.common.util.concurrent.ListenableFuture;
 import java.io.Closeable;
 import java.io.IOException;
@@ -35,6 +38,42 @@ public interface BuildRuleStrategy extends Closeable {
   /** A rule will be built by the custom strategy only if canBuild() returns true. */
   boolean canBuild(BuildRule instance);
 
+  /**
+   * A strategy may leave some outputs of the rules it builds in remote storage rather than writing
+   * them to disk. Returns whether any outputs of this rule are currently in that state.
+   */
+  @SuppressWarnings("unused")
+  default boolean hasDeferredOutputs(BuildRule rule) {
+    return false;
+  }
+
+  /**
+   * Writes the deferred outputs of the rule's transitive build deps to disk. The engine waits for
+   * this before building a rule with the default (local) behavior.
+   */
+  @SuppressWarnings("unused")
+  default ListenableFuture<?> materializeInputs(BuildRule rule) {
+    return Futures.immediateFuture(null);
+  }
+
+  /**
+   * Writes the deferred outputs of the given rules (but not of their deps) to disk. The engine
+   * calls this for the top-level rules of a build and their runtime deps.
+   */
+  @SuppressWarnings("unused")
+  default ListenableFuture<?> materializeOutputs(Iterable<BuildRule> rules) {
+    return Futures.immediateFuture(null);
+  }
+
+  /**
+   * Returns the targets of the rules whose outputs are still deferred. Those outputs are dropped
+   * when the strategy is closed, so the engine calls this before closing it to forget that these
+   * rules were built.
+   */
+  default ImmutableSet<BuildTarget> getTargetsWithDeferredOutputs() {
+    return ImmutableSet.of();
+  }
+
   /** A simple interface for build results exposing an explicit cancellation. */
   interface StrategyBuildResult {
     /**
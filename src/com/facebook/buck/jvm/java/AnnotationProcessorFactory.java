@@ -60,13 +60,22 @@ class AnnotationProcessorFactory implements AutoCloseable {
 
   private Stream<Processor> createProcessorsWithCommonClasspath(JavacPluginJsr199Fields fields) {
     ClassLoader classLoader = getClassLoaderForProcessorGroup(fields);
-    return fields.getProcessorNames().stream().map(name -> createProcessor(classLoader, name));
+    // A processor that crashes may leave static state behind, so a reused class loader isn't
+    // handed out again after one of its processors has crashed.
+    Runnable onCrash =
+        fields.getCanReuseClassLoader()
+            ? () ->
+                globalClassLoaderCache.invalidate(
+                    compilerClassLoader, ImmutableList.copyOf(fields.getClasspath()))
+            : () -> {};
+    return fields.getProcessorNames().stream()
+        .map(name -> createProcessor(classLoader, name, onCrash));
   }
 
-  private Processor createProcessor(ClassLoader classLoader, String name) {
+  private Processor createProcessor(ClassLoader classLoader, String name, Runnable onCrash) {
     try {
       Class<? extends Processor> aClass = classLoader.loadClass(name).asSubclass(Processor.class);
-      return new TracingProcessorWrapper(eventSink, target, aClass.newInstance());
+      return new TracingProcessorWrapper(eventSink, target, aClass.newInstance(), onCrash);
     } catch (ReflectiveOperationException e) {
       // If this happens, then the build is really in trouble. Better warn the user.
       throw new HumanReadableException(
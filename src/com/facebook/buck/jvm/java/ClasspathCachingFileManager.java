@@ -0,0 +1,246 @@
+/*
+ * Copyright (c) Facebook, Inc. and its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.facebook.buck.jvm.java;
+
+import com.facebook.buck.core.util.log.Logger;
+import com.facebook.buck.jvm.java.ClasspathJarCache.Jar;
+import com.facebook.buck.jvm.java.ClasspathJarCache.JarIndex;
+import com.facebook.buck.util.zip.JarBuilder;
+import com.google.common.collect.ImmutableList;
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.Reader;
+import java.io.StringReader;
+import java.io.Writer;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import javax.tools.FileObject;
+import javax.tools.JavaFileObject;
+import javax.tools.StandardJavaFileManager;
+import javax.tools.StandardLocation;
+
+/**
+ * A {@link StandardJavaFileManager} that serves the jars on the classpath from the process-wide
+ * {@link ClasspathJarCache} instead of opening and reading them again for every compilation.
+ *
+ * <p>The bootclasspath is only served from the cache when it was given explicitly with {@code
+ * -bootclasspath}, as for Android. Otherwise javac may be reading the platform classes from ct.sym
+ * or a module image, which must be left to the standard file manager.
+ */
+class ClasspathCachingFileManager extends ForwardingStandardJavaFileManager {
+  private static final Logger LOG = Logger.get(ClasspathCachingFileManager.class);
+  private static final ImmutableList<JavaFileObject.Kind> LISTED_KINDS =
+      ImmutableList.of(
+          JavaFileObject.Kind.CLASS, JavaFileObject.Kind.SOURCE, JavaFileObject.Kind.HTML);
+
+  private final ClasspathJarCache cache;
+  // Jars don't change during a compilation, so they're only opened once, and closed with the file
+  // manager.
+  private final Map<Path, Optional<Jar>> jars = new HashMap<>();
+  private boolean hasExplicitBootClasspath = false;
+
+  ClasspathCachingFileManager(StandardJavaFileManager fileManager, ClasspathJarCache cache) {
+    super(fileManager);
+    this.cache = cache;
+  }
+
+  @Override
+  public boolean handleOption(String current, Iterator<String> remaining) {
+    if (current.equals("-bootclasspath") || current.equals("--boot-class-path")) {
+      hasExplicitBootClasspath = true;
+    }
+    return super.handleOption(current, remaining);
+  }
+
+  @Override
+  public Iterable<JavaFileObject> list(
+      Location location, String packageName, Set<JavaFileObject.Kind> kinds, boolean recurse)
+      throws IOException {
+    Iterable<? extends File> path = shouldCache(location) ? getLocation(location) : null;
+    if (path == null) {
+      return super.list(location, packageName, kinds, recurse);
+    }
+
+    // Entries are listed in classpath order, so that the first definition of a class wins.
+    List<JavaFileObject> results = new ArrayList<>();
+    String directory = packageName.replace('.', '/');
+    for (File file : path) {
+      if (file.isDirectory()) {
+        listDirectory(file, directory, kinds, recurse, results);
+      } else if (file.isFile()) {
+        Optional<Jar> jar = getJar(file.toPath().toAbsolutePath().normalize());
+        if (!jar.isPresent()) {
+          return super.list(location, packageName, kinds, recurse);
+        }
+        JarIndex index = jar.get().getIndex();
+        for (String entryName :
+            recurse ? index.getEntriesRecursively(directory) : index.getEntries(directory)) {
+          JavaFileObject.Kind kind = getKind(entryName);
+          if (kinds.contains(kind)) {
+            results.add(new CachedJarEntryFileObject(jar.get(), entryName, kind));
+          }
+        }
+      }
+    }
+    return results;
+  }
+
+  @Override
+  public String inferBinaryName(Location location, JavaFileObject file) {
+    if (file instanceof CachedJarEntryFileObject) {
+      return ((CachedJarEntryFileObject) file).getBinaryName();
+    }
+    return super.inferBinaryName(location, file);
+  }
+
+  @Override
+  public boolean isSameFile(FileObject a, FileObject b) {
+    if (a instanceof CachedJarEntryFileObject || b instanceof CachedJarEntryFileObject) {
+      return a.toUri().equals(b.toUri());
+    }
+    return super.isSameFile(a, b);
+  }
+
+  @Override
+  public void close() throws IOException {
+    try {
+      for (Optional<Jar> jar : jars.values()) {
+        if (jar.isPresent()) {
+          jar.get().close();
+        }
+      }
+      jars.clear();
+    } finally {
+      super.close();
+    }
+  }
+
+  private boolean shouldCache(Location location) {
+    return location == StandardLocation.CLASS_PATH
+        || (location == StandardLocation.PLATFORM_CLASS_PATH && hasExplicitBootClasspath);
+  }
+
+  private void listDirectory(
+      File root,
+      String directory,
+      Set<JavaFileObject.Kind> kinds,
+      boolean recurse,
+      List<JavaFileObject> results) {
+    File[] files = new File(root, directory).listFiles();
+    if (files == null) {
+      return;
+    }
+    for (File file : files) {
+      if (file.isDirectory()) {
+        if (recurse) {
+          listDirectory(root, directory + "/" + file.getName(), kinds, recurse, results);
+        }
+      } else if (kinds.contains(getKind(file.getName()))) {
+        for (JavaFileObject fileObject : getJavaFileObjects(file)) {
+          results.add(fileObject);
+        }
+      }
+    }
+  }
+
+  private Optional<Jar> getJar(Path jarPath) {
+    return jars.computeIfAbsent(
+        jarPath,
+        path -> {
+          try {
+            return Optional.of(cache.openJar(path));
+          } catch (IOException e) {
+            LOG.debug(e, "Unable to index %s, not using the classpath cache.", path);
+            return Optional.empty();
+          }
+        });
+  }
+
+  private static JavaFileObject.Kind getKind(String name) {
+    for (JavaFileObject.Kind kind : LISTED_KINDS) {
+      if (name.endsWith(kind.extension)) {
+        return kind;
+      }
+    }
+    return JavaFileObject.Kind.OTHER;
+  }
+
+  /**
+   * An entry of a cached jar. Its URI has the same form as the ones javac uses for jar entries, so
+   * that {@link ClassUsageTracker} records it the same way.
+   */
+  private class CachedJarEntryFileObject extends JarFileObject {
+    private final Jar jar;
+
+    CachedJarEntryFileObject(Jar jar, String entryName, Kind kind) {
+      super(
+          URI.create("jar:" + jar.getPath().toUri().normalize() + "!/" + entryName),
+          entryName,
+          kind);
+      this.jar = jar;
+    }
+
+    String getBinaryName() {
+      return pathInJar.substring(0, pathInJar.length() - kind.extension.length()).replace('/', '.');
+    }
+
+    @Override
+    public InputStream openInputStream() throws IOException {
+      return new ByteArrayInputStream(getContents());
+    }
+
+    @Override
+    public OutputStream openOutputStream() {
+      throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public Reader openReader(boolean ignoreEncodingErrors) throws IOException {
+      return new StringReader(getCharContent(ignoreEncodingErrors).toString());
+    }
+
+    @Override
+    public CharSequence getCharContent(boolean ignoreEncodingErrors) throws IOException {
+      return new String(getContents(), StandardCharsets.UTF_8);
+    }
+
+    @Override
+    public Writer openWriter() {
+      throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void writeToJar(JarBuilder jarBuilder, String owner) {
+      throw new UnsupportedOperationException();
+    }
+
+    private byte[] getContents() throws IOException {
+      return cache.getContents(jar, pathInJar);
+    }
+  }
+}
@@ -0,0 +1,348 @@
+/*
+ * Copyright (c) Facebook, Inc. and its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.facebook.buck.jvm.java;
+
+import com.facebook.buck.core.util.log.Logger;
+import com.facebook.buck.util.environment.Platform;
+import com.facebook.buck.util.zip.MappedZipFile;
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableListMultimap;
+import com.google.common.hash.HashCode;
+import com.google.common.hash.Hashing;
+import com.google.common.io.ByteStreams;
+import com.google.common.io.MoreFiles;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.Collection;
+import java.util.Enumeration;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Supplier;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+import javax.annotation.Nullable;
+
+/**
+ * A process-wide cache of the contents of classpath jars, shared by all the in-process javac
+ * invocations of a daemon.
+ *
+ * <p>javac reads every package it resolves from every jar on the classpath, so compiling a small
+ * library against a large classpath spends much of its time opening jars, listing their entries
+ * and inflating class files that it has already read for the previous library. This cache keeps an
+ * index of each jar's entries by package, and the most recently used class files. Indexes and class
+ * files are keyed by the hash of the jar's contents, so a jar that is rebuilt with the same
+ * contents (or the same third-party jar at a different path) is still a hit. Hashes are remembered
+ * by path, size, modification time and file key (the inode, where there is one), so unchanged jars
+ * are only hashed once, and a jar that is replaced or rewritten is hashed again.
+ *
+ * <p>The cache only holds data on the heap. Jars are opened by each compilation and closed at its
+ * end, so that the daemon never keeps a mapping or a handle to a jar that may be deleted or
+ * rewritten between builds.
+ */
+class ClasspathJarCache {
+  private static final Logger LOG = Logger.get(ClasspathJarCache.class);
+
+  private static final long MAX_CONTENTS_WEIGHT_BYTES = 128 * 1024 * 1024;
+  private static final int MAX_INDEXES = 20000;
+  private static final int MAX_STAMPS = 20000;
+
+  // Files that are mapped can't be deleted or replaced on Windows until the mapping is collected.
+  private static final ClasspathJarCache INSTANCE =
+      new ClasspathJarCache(MAX_CONTENTS_WEIGHT_BYTES, Platform.detect() != Platform.WINDOWS);
+
+  /** The entries of a jar, grouped by the directory that contains them. */
+  static class JarIndex {
+    private final HashCode hash;
+    private final ImmutableListMultimap<String, String> entriesByDirectory;
+
+    private JarIndex(HashCode hash, ImmutableListMultimap<String, String> entriesByDirectory) {
+      this.hash = hash;
+      this.entriesByDirectory = entriesByDirectory;
+    }
+
+    HashCode getHash() {
+      return hash;
+    }
+
+    /** Returns the entries directly in the given directory, which is "" for the root. */
+    ImmutableList<String> getEntries(String directory) {
+      return entriesByDirectory.get(directory);
+    }
+
+    /** Returns the entries in the given directory and all of its subdirectories. */
+    ImmutableList<String> getEntriesRecursively(String directory) {
+      ImmutableList.Builder<String> entries = ImmutableList.builder();
+      String prefix = directory.isEmpty() ? "" : directory + "/";
+      for (Map.Entry<String, Collection<String>> entry : entriesByDirectory.asMap().entrySet()) {
+        if (entry.getKey().equals(directory) || entry.getKey().startsWith(prefix)) {
+          entries.addAll(entry.getValue());
+        }
+      }
+      return entries.build();
+    }
+  }
+
+  /**
+   * A jar opened by a compilation. It's read through a mapping when the cache uses mapped files,
+   * and through {@link ZipFile} otherwise or once the mapping has faulted.
+   */
+  static class Jar implements Closeable {
+    private final Path path;
+    private final JarIndex index;
+    @Nullable private MappedZipFile mappedZipFile;
+    @Nullable private ZipFile zipFile;
+    private boolean changed = false;
+
+    private Jar(
+        Path path,
+        JarIndex index,
+        @Nullable MappedZipFile mappedZipFile,
+        @Nullable ZipFile zipFile) {
+      this.path = path;
+      this.index = index;
+      this.mappedZipFile = mappedZipFile;
+      this.zipFile = zipFile;
+    }
+
+    Path getPath() {
+      return path;
+    }
+
+    JarIndex getIndex() {
+      return index;
+    }
+
+    /** Whether the jar was found to have changed since it was indexed. */
+    synchronized boolean hasChanged() {
+      return changed;
+    }
+
+    private synchronized byte[] read(String entryName) throws IOException {
+      if (mappedZipFile != null) {
+        try {
+          MappedZipFile.Entry entry = mappedZipFile.getEntry(entryName);
+          if (entry == null) {
+            throw new IOException(String.format("%s is missing from %s", entryName, path));
+          }
+          return mappedZipFile.read(entry);
+        } catch (InternalError e) {
+          // Reading a mapping past the end of a file that was truncated since it was mapped faults.
+          LOG.debug(e, "%s changed while it was mapped, reading it with ZipFile instead.", path);
+          mappedZipFile = null;
+          changed = true;
+        }
+      }
+      if (zipFile == null) {
+        zipFile = new ZipFile(path.toFile());
+      }
+      ZipEntry entry = zipFile.getEntry(entryName);
+      if (entry == null) {
+        throw new IOException(String.format("%s is missing from %s", entryName, path));
+      }
+      try (InputStream inputStream = zipFile.getInputStream(entry)) {
+        return ByteStreams.toByteArray(inputStream);
+      }
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+      mappedZipFile = null;
+      if (zipFile != null) {
+        zipFile.close();
+        zipFile = null;
+      }
+    }
+  }
+
+  /** The hash of a jar at a given path, valid for as long as its attributes are unchanged. */
+  private static class Stamp {
+    private final long size;
+    private final long lastModifiedMillis;
+    @Nullable private final Object fileKey;
+    private final HashCode hash;
+
+    private Stamp(BasicFileAttributes attributes, HashCode hash) {
+      this.size = attributes.size();
+      this.lastModifiedMillis = attributes.lastModifiedTime().toMillis();
+      this.fileKey = attributes.fileKey();
+      this.hash = hash;
+    }
+
+    private boolean matches(BasicFileAttributes attributes) {
+      return size == attributes.size()
+          && lastModifiedMillis == attributes.lastModifiedTime().toMillis()
+          && Objects.equals(fileKey, attributes.fileKey());
+    }
+  }
+
+  private static class ContentsKey {
+    private final HashCode jarHash;
+    private final String entryName;
+
+    private ContentsKey(HashCode jarHash, String entryName) {
+      this.jarHash = jarHash;
+      this.entryName = entryName;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+      if (!(other instanceof ContentsKey)) {
+        return false;
+      }
+      ContentsKey that = (ContentsKey) other;
+      return jarHash.equals(that.jarHash) && entryName.equals(that.entryName);
+    }
+
+    @Override
+    public int hashCode() {
+      return Objects.hash(jarHash, entryName);
+    }
+  }
+
+  private final boolean useMappedFiles;
+  private final Cache<Path, Stamp> stamps =
+      CacheBuilder.newBuilder().maximumSize(MAX_STAMPS).build();
+  private final Cache<HashCode, JarIndex> indexes =
+      CacheBuilder.newBuilder().maximumSize(MAX_INDEXES).build();
+  private final Cache<ContentsKey, byte[]> contents;
+
+  @VisibleForTesting
+  ClasspathJarCache(long maxContentsWeightBytes, boolean useMappedFiles) {
+    this.useMappedFiles = useMappedFiles;
+    this.contents =
+        CacheBuilder.newBuilder()
+            .maximumWeight(maxContentsWeightBytes)
+            .<ContentsKey, byte[]>weigher((key, value) -> value.length + key.entryName.length() * 2)
+            .build();
+  }
+
+  static ClasspathJarCache getInstance() {
+    return INSTANCE;
+  }
+
+  /**
+   * Opens the jar at the given absolute path, hashing and indexing it if it isn't cached or has
+   * changed since. The caller has to close it.
+   */
+  Jar openJar(Path jarPath) throws IOException {
+    BasicFileAttributes attributes = Files.readAttributes(jarPath, BasicFileAttributes.class);
+    Stamp stamp = stamps.getIfPresent(jarPath);
+    Optional<JarIndex> index =
+        stamp != null && stamp.matches(attributes)
+            ? Optional.ofNullable(indexes.getIfPresent(stamp.hash))
+            : Optional.empty();
+
+    if (useMappedFiles) {
+      Optional<MappedZipFile> mappedZipFile = MappedZipFile.openIfSupported(jarPath);
+      if (mappedZipFile.isPresent()) {
+        try {
+          JarIndex jarIndex =
+              index.isPresent()
+                  ? index.get()
+                  : getIndex(
+                      mappedZipFile.get().hash(Hashing.sha1()),
+                      () ->
+                          mappedZipFile.get().getEntries().stream()
+                              .filter(entry -> !entry.isDirectory())
+                              .map(MappedZipFile.Entry::getName)
+                              .collect(ImmutableList.toImmutableList()));
+          remember(jarPath, attributes, jarIndex);
+          return new Jar(jarPath, jarIndex, mappedZipFile.get(), null);
+        } catch (InternalError e) {
+          LOG.debug(e, "%s changed while it was mapped, reading it with ZipFile instead.", jarPath);
+          index = Optional.empty();
+        }
+      }
+    }
+
+    ZipFile zipFile = new ZipFile(jarPath.toFile());
+    try {
+      JarIndex jarIndex =
+          index.isPresent()
+              ? index.get()
+              : getIndex(
+                  MoreFiles.asByteSource(jarPath).hash(Hashing.sha1()), () -> getNames(zipFile));
+      remember(jarPath, attributes, jarIndex);
+      return new Jar(jarPath, jarIndex, null, zipFile);
+    } catch (IOException | RuntimeException e) {
+      zipFile.close();
+      throw e;
+    }
+  }
+
+  /** Returns the contents of an entry of the jar, reading it if it isn't cached. */
+  byte[] getContents(Jar jar, String entryName) throws IOException {
+    ContentsKey key = new ContentsKey(jar.index.getHash(), entryName);
+    byte[] cached = contents.getIfPresent(key);
+    if (cached != null) {
+      return cached;
+    }
+    byte[] read = jar.read(entryName);
+    if (jar.hasChanged()) {
+      // The contents no longer match the hash, so they mustn't be cached under it.
+      stamps.invalidate(jar.getPath());
+    } else {
+      contents.put(key, read);
+    }
+    return read;
+  }
+
+  private void remember(Path jarPath, BasicFileAttributes attributes, JarIndex index) {
+    stamps.put(jarPath, new Stamp(attributes, index.getHash()));
+    indexes.put(index.getHash(), index);
+  }
+
+  /** Returns the cached index of the jar with the given hash, or indexes the given entry names. */
+  private JarIndex getIndex(HashCode hash, Supplier<ImmutableList<String>> names) {
+    JarIndex index = indexes.getIfPresent(hash);
+    return index != null ? index : index(hash, names.get());
+  }
+
+  private static ImmutableList<String> getNames(ZipFile zipFile) {
+    ImmutableList.Builder<String> names = ImmutableList.builder();
+    Set<String> seen = new HashSet<>();
+    Enumeration<? extends ZipEntry> entries = zipFile.entries();
+    while (entries.hasMoreElements()) {
+      ZipEntry entry = entries.nextElement();
+      // Like MappedZipFile, keep the first of repeated names.
+      if (!entry.isDirectory() && seen.add(entry.getName())) {
+        names.add(entry.getName());
+      }
+    }
+    return names.build();
+  }
+
+  private static JarIndex index(HashCode hash, ImmutableList<String> names) {
+    ImmutableListMultimap.Builder<String, String> entriesByDirectory =
+        ImmutableListMultimap.builder();
+    for (String name : names) {
+      int lastSlash = name.lastIndexOf('/');
+      entriesByDirectory.put(lastSlash < 0 ? "" : name.substring(0, lastSlash), name);
+    }
+    return new JarIndex(hash, entriesByDirectory.build());
+  }
+}
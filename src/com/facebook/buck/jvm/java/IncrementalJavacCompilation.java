@@ -0,0 +1,500 @@
+/*
+ * Copyright (c) Facebook, Inc. and its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.facebook.buck.jvm.java;
+
+import com.facebook.buck.core.model.BuildTarget;
+import com.facebook.buck.core.model.impl.BuildTargetPaths;
+import com.facebook.buck.core.util.log.Logger;
+import com.facebook.buck.io.file.MostFiles;
+import com.facebook.buck.io.filesystem.ProjectFilesystem;
+import com.facebook.buck.jvm.core.JavaAbis;
+import com.facebook.buck.jvm.java.abi.StubJar;
+import com.facebook.buck.util.json.ObjectMappers;
+import com.facebook.buck.util.zip.MappedZipFile;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.ImmutableSortedSet;
+import com.google.common.hash.Hasher;
+import com.google.common.hash.Hashing;
+import com.google.common.io.ByteStreams;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Enumeration;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.SortedMap;
+import java.util.SortedSet;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.function.Predicate;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+import javax.annotation.Nullable;
+import org.objectweb.asm.ClassReader;
+import org.objectweb.asm.ClassVisitor;
+import org.objectweb.asm.Opcodes;
+
+/**
+ * Compiles a java library incrementally, by recompiling only the sources that changed since its
+ * previous build and reusing the classes of the others.
+ *
+ * <p>The state of the previous build (the hashes of its sources, its classes and its class usage)
+ * is kept in a scratch directory of the library that isn't cleaned between builds. An incremental
+ * build is only attempted when the compiler options and the contents of the classpath are the
+ * same as last time and no source was added or removed. Every class of the previous build must be
+ * attributable to exactly one source through its package and SourceFile attribute, so that the
+ * classes of the changed sources can be dropped.
+ *
+ * <p>The recompiled classes are then checked against the ABI of the classes they replace, using
+ * the same stubs as {@link CalculateClassAbiStep}. Other sources may depend on that ABI, including
+ * through inlined constants that leave no trace in the class files, so if it changed the library
+ * is rebuilt from scratch. The same happens whenever anything else goes wrong, so the output is
+ * always the one a full build would have produced.
+ */
+class IncrementalJavacCompilation {
+  private static final Logger LOG = Logger.get(IncrementalJavacCompilation.class);
+
+  private static final String STATE_FILE = "state";
+  private static final String CLASSES_JAR = "classes.jar";
+  private static final String USED_CLASSES_FILE = "used-classes.json";
+  private static final String UNCHANGED_CLASSES_DIR = "unchanged";
+  private static final String ABI_DIR = "abi";
+  private static final String CLASS_SUFFIX = ".class";
+
+  // Beyond this, recompiling the changed sources and checking their ABI isn't much faster than
+  // recompiling everything.
+  private static final double MAX_CHANGED_SOURCES_FRACTION = 0.5;
+
+  /** The sources to recompile, and the classes of the previous build that they replace. */
+  static class Plan {
+    private final ImmutableSortedSet<Path> changedSources;
+    private final ImmutableSet<String> staleClasses;
+    private final ImmutableSet<String> unchangedClasses;
+
+    private Plan(
+        ImmutableSortedSet<Path> changedSources,
+        ImmutableSet<String> staleClasses,
+        ImmutableSet<String> unchangedClasses) {
+      this.changedSources = changedSources;
+      this.staleClasses = staleClasses;
+      this.unchangedClasses = unchangedClasses;
+    }
+
+    ImmutableSortedSet<Path> getChangedSources() {
+      return changedSources;
+    }
+  }
+
+  private final ProjectFilesystem filesystem;
+  private final BuildTarget target;
+  private final CompilerParameters compilerParameters;
+  private final JarParameters libraryJarParameters;
+  private final Path stateDir;
+
+  @Nullable private String fingerprint;
+  @Nullable private Map<Path, String> sourceHashes;
+
+  IncrementalJavacCompilation(
+      ProjectFilesystem filesystem,
+      BuildTarget target,
+      CompilerParameters compilerParameters,
+      JarParameters libraryJarParameters) {
+    this.filesystem = filesystem;
+    this.target = target;
+    this.compilerParameters = compilerParameters;
+    this.libraryJarParameters = libraryJarParameters;
+    this.stateDir =
+        filesystem.resolve(
+            BuildTargetPaths.getScratchPath(filesystem, target, "lib__%s__incremental"));
+  }
+
+  /**
+   * Returns whether the given compilation can be done incrementally. Annotation processors and
+   * plugins can generate or inspect anything, so they rule it out, as does anything but a library
+   * compiled in-process straight to a jar.
+   */
+  static boolean isSupported(BuildTarget target, JavacPipelineState pipeline) {
+    JavacOptions javacOptions = pipeline.getJavacOptions();
+    return javacOptions.isIncrementalCompilationEnabled()
+        && JavaAbis.isLibraryTarget(target)
+        && pipeline.getJavac() instanceof JdkProvidedInMemoryJavac
+        && pipeline.getLibraryJarParameters().isPresent()
+        && !pipeline.getAbiJarParameters().isPresent()
+        && javacOptions.getJavaAnnotationProcessorParams().isEmpty()
+        && javacOptions.getStandardJavacPluginParams().isEmpty()
+        && !pipeline.getCompilerParameters().getSourceFilePaths().isEmpty();
+  }
+
+  /**
+   * Compares the sources and classpath with those of the previous build and returns the sources
+   * that need recompiling, or nothing if the library should be rebuilt from scratch.
+   */
+  Optional<Plan> plan(List<String> javacOptions) throws IOException {
+    fingerprint = computeFingerprint(javacOptions);
+    sourceHashes = new HashMap<>();
+    for (Path source : compilerParameters.getSourceFilePaths()) {
+      sourceHashes.put(source, filesystem.computeSha1(source).getHash());
+    }
+
+    Path stateFile = stateDir.resolve(STATE_FILE);
+    Path classesJar = stateDir.resolve(CLASSES_JAR);
+    if (fingerprint == null
+        || !Files.isRegularFile(stateFile)
+        || !Files.isRegularFile(classesJar)) {
+      return Optional.empty();
+    }
+    List<String> state = Files.readAllLines(stateFile, StandardCharsets.UTF_8);
+    if (state.isEmpty() || !state.get(0).equals(fingerprint)) {
+      LOG.debug("The options or classpath of %s changed, rebuilding it.", target);
+      return Optional.empty();
+    }
+    Map<Path, String> previousSourceHashes = new HashMap<>();
+    for (String line : state.subList(1, state.size())) {
+      int space = line.indexOf(' ');
+      previousSourceHashes.put(
+          filesystem.getPath(line.substring(space + 1)), line.substring(0, space));
+    }
+    if (!previousSourceHashes.keySet().equals(sourceHashes.keySet())) {
+      LOG.debug("Sources were added to or removed from %s, rebuilding it.", target);
+      return Optional.empty();
+    }
+
+    ImmutableSortedSet.Builder<Path> changedSources = ImmutableSortedSet.naturalOrder();
+    for (Map.Entry<Path, String> entry : sourceHashes.entrySet()) {
+      if (!entry.getValue().equals(previousSourceHashes.get(entry.getKey()))) {
+        changedSources.add(entry.getKey());
+      }
+    }
+    ImmutableSortedSet<Path> changed = changedSources.build();
+    if (changed.isEmpty() || changed.size() > sourceHashes.size() * MAX_CHANGED_SOURCES_FRACTION) {
+      return Optional.empty();
+    }
+
+    ImmutableSet.Builder<String> staleClasses = ImmutableSet.builder();
+    ImmutableSet.Builder<String> unchangedClasses = ImmutableSet.builder();
+    boolean allSourcesFound =
+        readEntries(
+            classesJar,
+            name -> name.endsWith(CLASS_SUFFIX),
+            (name, contents) -> {
+              Optional<Path> source = findSource(name, contents);
+              if (!source.isPresent()) {
+                LOG.debug(
+                    "Unable to tell which source %s comes from, rebuilding %s.", name, target);
+                return false;
+              }
+              (changed.contains(source.get()) ? staleClasses : unchangedClasses).add(name);
+              return true;
+            });
+    if (!allSourcesFound) {
+      return Optional.empty();
+    }
+    Plan plan = new Plan(changed, staleClasses.build(), unchangedClasses.build());
+    if (isShadowedByClasspath(plan.unchangedClasses)) {
+      return Optional.empty();
+    }
+    return Optional.of(plan);
+  }
+
+  /**
+   * Extracts the unchanged classes of the previous build and returns a pipeline that compiles the
+   * changed sources against them and jars them together.
+   */
+  JavacPipelineState prepare(JavacPipelineState pipeline, Plan plan) throws IOException {
+    Path unchangedClassesDir = stateDir.resolve(UNCHANGED_CLASSES_DIR);
+    extract(stateDir.resolve(CLASSES_JAR), plan.unchangedClasses::contains, unchangedClassesDir);
+    return pipeline.withParameters(
+        CompilerParameters.builder()
+            .from(compilerParameters)
+            .setSourceFilePaths(plan.changedSources)
+            .setClasspathEntries(
+                ImmutableSortedSet.<Path>naturalOrder()
+                    .addAll(compilerParameters.getClasspathEntries())
+                    .add(unchangedClassesDir)
+                    .build())
+            .build(),
+        JarParameters.builder()
+            .from(libraryJarParameters)
+            .setEntriesToJar(
+                ImmutableSortedSet.<Path>naturalOrder()
+                    .addAll(libraryJarParameters.getEntriesToJar())
+                    .add(unchangedClassesDir)
+                    .build())
+            .build());
+  }
+
+  /**
+   * Checks the output of a successful incremental build and completes its class usage file.
+   * Returns false if the library must be rebuilt from scratch instead.
+   */
+  boolean finishIncrementalBuild(Plan plan) throws IOException {
+    if (!isAbiUnchanged(plan)) {
+      LOG.info("The ABI of %s changed, rebuilding it.", plan.changedSources);
+      return false;
+    }
+    if (compilerParameters.shouldTrackClassUsage() && !mergeClassUsage()) {
+      return false;
+    }
+    saveState();
+    return true;
+  }
+
+  /** Records the output of a successful full build for the next one. */
+  void finishFullBuild() throws IOException {
+    saveState();
+  }
+
+  @Nullable
+  private String computeFingerprint(List<String> javacOptions) throws IOException {
+    Hasher hasher = Hashing.sha1().newHasher();
+    hasher.putString(System.getProperty("java.version"), StandardCharsets.UTF_8);
+    for (String option : javacOptions) {
+      hasher.putByte((byte) 0).putString(option, StandardCharsets.UTF_8);
+    }
+    for (Path entry : compilerParameters.getClasspathEntries()) {
+      Path path = filesystem.resolve(entry).normalize();
+      if (!Files.isRegularFile(path)) {
+        // Directories can't be hashed cheaply, so their contents can't be tracked.
+        return null;
+      }
+      try (ClasspathJarCache.Jar jar = ClasspathJarCache.getInstance().openJar(path)) {
+        hasher.putBytes(jar.getIndex().getHash().asBytes());
+      }
+    }
+    return hasher.hash().toString();
+  }
+
+  /**
+   * Finds the source that a class was compiled from: the one named by its SourceFile attribute in
+   * the directory matching its package. Returns nothing if there isn't exactly one.
+   */
+  private Optional<Path> findSource(String entryName, byte[] classFile) {
+    String[] sourceFile = new String[1];
+    new ClassReader(classFile)
+        .accept(
+            new ClassVisitor(Opcodes.ASM7) {
+              @Override
+              public void visitSource(String source, String debug) {
+                sourceFile[0] = source;
+              }
+            },
+            ClassReader.SKIP_CODE | ClassReader.SKIP_FRAMES);
+    if (sourceFile[0] == null) {
+      return Optional.empty();
+    }
+    int lastSlash = entryName.lastIndexOf('/');
+    Path packagePath = filesystem.getPath(lastSlash < 0 ? "" : entryName.substring(0, lastSlash));
+
+    Path match = null;
+    for (Path source : compilerParameters.getSourceFilePaths()) {
+      Path fileName = source.getFileName();
+      Path parent = source.getParent();
+      if (fileName == null || !fileName.toString().equals(sourceFile[0])) {
+        continue;
+      }
+      if (packagePath.toString().isEmpty() || (parent != null && parent.endsWith(packagePath))) {
+        if (match != null) {
+          return Optional.empty();
+        }
+        match = source;
+      }
+    }
+    return Optional.ofNullable(match);
+  }
+
+  /**
+   * Returns whether any of the given classes is also on the classpath. javac prefers a class
+   * being compiled over one on the classpath, but the unchanged classes are only on the classpath,
+   * where the order of the entries would decide.
+   */
+  private boolean isShadowedByClasspath(ImmutableSet<String> classes) throws IOException {
+    Map<String, Set<String>> classesByDirectory = new HashMap<>();
+    for (String name : classes) {
+      int lastSlash = name.lastIndexOf('/');
+      classesByDirectory
+          .computeIfAbsent(lastSlash < 0 ? "" : name.substring(0, lastSlash), k -> new HashSet<>())
+          .add(name);
+    }
+    for (Path entry : compilerParameters.getClasspathEntries()) {
+      ClasspathJarCache.JarIndex index;
+      try (ClasspathJarCache.Jar jar =
+          ClasspathJarCache.getInstance().openJar(filesystem.resolve(entry).normalize())) {
+        index = jar.getIndex();
+      }
+      for (Map.Entry<String, Set<String>> directory : classesByDirectory.entrySet()) {
+        for (String name : index.getEntries(directory.getKey())) {
+          if (directory.getValue().contains(name)) {
+            LOG.debug("%s is also in %s, rebuilding %s.", name, entry, target);
+            return true;
+          }
+        }
+      }
+    }
+    return false;
+  }
+
+  /** Compares the stubs of the classes that were replaced with those of the new ones. */
+  private boolean isAbiUnchanged(Plan plan) throws IOException {
+    Path abiDir = stateDir.resolve(ABI_DIR);
+    MostFiles.deleteRecursivelyIfExists(abiDir);
+    Path previousClassesDir = abiDir.resolve("previous");
+    Path currentClassesDir = abiDir.resolve("current");
+    extract(stateDir.resolve(CLASSES_JAR), plan.staleClasses::contains, previousClassesDir);
+
+    extract(
+        filesystem.resolve(libraryJarParameters.getJarPath()),
+        name -> name.endsWith(CLASS_SUFFIX) && !plan.unchangedClasses.contains(name),
+        currentClassesDir);
+
+    return new StubJar(previousClassesDir)
+        .computeAbiHash()
+        .equals(new StubJar(currentClassesDir).computeAbiHash());
+  }
+
+  /**
+   * Adds the class usage of the previous build to that of the incremental one, which only covers
+   * the changed sources. The unchanged classes are in a directory, which isn't tracked.
+   */
+  private boolean mergeClassUsage() throws IOException {
+    Path previousUsedClasses = stateDir.resolve(USED_CLASSES_FILE);
+    Path usedClasses = filesystem.resolve(CompilerOutputPaths.getDepFilePath(target, filesystem));
+    if (!Files.isRegularFile(previousUsedClasses) || !Files.isRegularFile(usedClasses)) {
+      return false;
+    }
+    SortedMap<String, SortedSet<String>> merged = new TreeMap<>();
+    for (Path path : new Path[] {previousUsedClasses, usedClasses}) {
+      Map<String, List<String>> usage =
+          ObjectMappers.readValue(path, new TypeReference<Map<String, List<String>>>() {});
+      for (Map.Entry<String, List<String>> entry : usage.entrySet()) {
+        merged.computeIfAbsent(entry.getKey(), k -> new TreeSet<>()).addAll(entry.getValue());
+      }
+    }
+    ObjectMappers.WRITER.writeValue(usedClasses.toFile(), merged);
+    return true;
+  }
+
+  /**
+   * Keeps the output of the build for the next one. The state file is removed first and written
+   * last, so that an interrupted save leaves no usable state behind.
+   */
+  private void saveState() throws IOException {
+    Path stateFile = stateDir.resolve(STATE_FILE);
+    Files.deleteIfExists(stateFile);
+    MostFiles.deleteRecursivelyIfExists(stateDir.resolve(UNCHANGED_CLASSES_DIR));
+    MostFiles.deleteRecursivelyIfExists(stateDir.resolve(ABI_DIR));
+    if (fingerprint == null) {
+      return;
+    }
+
+    Files.createDirectories(stateDir);
+    Files.copy(
+        filesystem.resolve(libraryJarParameters.getJarPath()),
+        stateDir.resolve(CLASSES_JAR),
+        StandardCopyOption.REPLACE_EXISTING);
+    if (compilerParameters.shouldTrackClassUsage()) {
+      Files.copy(
+          filesystem.resolve(CompilerOutputPaths.getDepFilePath(target, filesystem)),
+          stateDir.resolve(USED_CLASSES_FILE),
+          StandardCopyOption.REPLACE_EXISTING);
+    }
+
+    List<String> state = new ArrayList<>();
+    state.add(fingerprint);
+    for (Map.Entry<Path, String> entry : Objects.requireNonNull(sourceHashes).entrySet()) {
+      state.add(entry.getValue() + " " + entry.getKey());
+    }
+    Files.write(stateFile, state, StandardCharsets.UTF_8);
+  }
+
+  @VisibleForTesting
+  Path getStateDir() {
+    return stateDir;
+  }
+
+  private static void extract(Path jar, Predicate<String> filter, Path directory)
+      throws IOException {
+    MostFiles.deleteRecursivelyIfExists(directory);
+    Files.createDirectories(directory);
+    readEntries(
+        jar,
+        filter,
+        (name, contents) -> {
+          Path path = directory.resolve(name);
+          Files.createDirectories(Objects.requireNonNull(path.getParent()));
+          Files.write(path, contents);
+          return true;
+        });
+  }
+
+  /**
+   * Passes the entries of the jar that the filter accepts to the visitor until it returns false,
+   * and returns whether it never did. The jar is mapped where {@link
+   * MappedZipFile#openIfSupported} allows it and read with {@link ZipFile} otherwise. A mapped jar
+   * that is truncated while it is read faults, which is thrown as an {@link IOException} so that
+   * the rule is rebuilt from scratch.
+   */
+  private static boolean readEntries(Path jar, Predicate<String> filter, EntryVisitor visitor)
+      throws IOException {
+    Optional<MappedZipFile> mappedJar = MappedZipFile.openIfSupported(jar);
+    if (mappedJar.isPresent()) {
+      try {
+        for (MappedZipFile.Entry entry : mappedJar.get().getEntries()) {
+          if (filter.test(entry.getName())
+              && !visitor.visit(entry.getName(), mappedJar.get().read(entry))) {
+            return false;
+          }
+        }
+        return true;
+      } catch (InternalError e) {
+        throw new IOException(jar + " changed while it was read", e);
+      }
+    }
+
+    try (ZipFile zipFile = new ZipFile(jar.toFile())) {
+      for (Enumeration<? extends ZipEntry> entries = zipFile.entries();
+          entries.hasMoreElements(); ) {
+        ZipEntry entry = entries.nextElement();
+        if (!filter.test(entry.getName())) {
+          continue;
+        }
+        byte[] contents;
+        try (InputStream in = zipFile.getInputStream(entry)) {
+          contents = ByteStreams.toByteArray(in);
+        }
+        if (!visitor.visit(entry.getName(), contents)) {
+          return false;
+        }
+      }
+      return true;
+    }
+  }
+
+  private interface EntryVisitor {
+    boolean visit(String name, byte[] contents) throws IOException;
+  }
+}
@@ -16,13 +16,19 @@
 
 package com.facebook.buck.jvm.java;
 
+import com.google.common.io.ByteStreams;
 import com.google.common.io.Files;
 import difflib.DiffUtils;
 import difflib.Patch;
 import java.io.IOException;
+import java.io.InputStream;
 import java.nio.file.Path;
+import java.util.Arrays;
 import java.util.Collections;
+import java.util.Enumeration;
 import java.util.List;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
 
 public final class JarDiffer {
   private final Path left;
@@ -44,7 +50,7 @@ public final class JarDiffer {
   }
 
   public List<String> diff() throws IOException {
-    if (Files.equal(left.toFile(), right.toFile())) {
+    if (Files.equal(left.toFile(), right.toFile()) || haveSameEntries(left, right)) {
       return Collections.emptyList();
     }
 
@@ -54,4 +60,33 @@ public final class JarDiffer {
     Patch<String> diff = DiffUtils.diff(leftDump, rightDump);
     return DiffUtils.generateUnifiedDiff(left.toString(), right.toString(), leftDump, diff, 4);
   }
+
+  /**
+   * Whether the jars have the same entries, in the same order and with the same contents. Their
+   * dumps are then the same, so they needn't be made. Jars with the same ABI that were written by
+   * different rules usually only differ in how their entries were stored.
+   */
+  private static boolean haveSameEntries(Path left, Path right) throws IOException {
+    try (ZipFile leftZip = new ZipFile(left.toFile());
+        ZipFile rightZip = new ZipFile(right.toFile())) {
+      Enumeration<? extends ZipEntry> leftEntries = leftZip.entries();
+      Enumeration<? extends ZipEntry> rightEntries = rightZip.entries();
+      while (leftEntries.hasMoreElements() && rightEntries.hasMoreElements()) {
+        ZipEntry leftEntry = leftEntries.nextElement();
+        ZipEntry rightEntry = rightEntries.nextElement();
+        if (!leftEntry.getName().equals(rightEntry.getName())
+            || leftEntry.getSize() != rightEntry.getSize()) {
+          return false;
+        }
+        try (InputStream leftStream = leftZip.getInputStream(leftEntry);
+            InputStream rightStream = rightZip.getInputStream(rightEntry)) {
+          if (!Arrays.equals(
+              ByteStreams.toByteArray(leftStream), ByteStreams.toByteArray(rightStream))) {
+            return false;
+          }
+        }
+      }
+      return !leftEntries.hasMoreElements() && !rightEntries.hasMoreElements();
+    }
+  }
 }
@@ -24,6 +24,7 @@ import com.facebook.buck.util.zip.JarBuilder;
 import com.google.common.base.Joiner;
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.concurrent.ForkJoinPool;
 
 /** Creates a JAR file from a collection of directories/ZIP/JAR files. */
 public class JarDirectoryStep implements Step {
@@ -86,6 +87,7 @@ public class JarDirectoryStep implements Step {
             .setShouldDisallowAllDuplicates(parameters.getDisallowAllDuplicates())
             .setShouldHashEntries(parameters.getHashEntries())
             .setRemoveEntryPredicate(parameters.getRemoveEntryPredicate())
+            .setCompressionExecutor(ForkJoinPool.commonPool())
             .createJarFile(filesystem.resolve(parameters.getJarPath())));
   }
 }
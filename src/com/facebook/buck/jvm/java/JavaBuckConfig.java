@@ -112,6 +112,10 @@ public class JavaBuckConfig implements ConfigView<BuckConfig> {
     if (trackJavacPhaseEvents.isPresent()) {
       builder.setTrackJavacPhaseEvents(trackJavacPhaseEvents.get());
     }
+    builder.setIncrementalCompilationEnabled(
+        delegate.getBooleanValue(SECTION, "incremental_compilation", false));
+    builder.setClasspathJarCacheEnabled(
+        delegate.getBooleanValue(SECTION, "cache_classpath_jars", false));
 
     Optional<JavacOptions.SpoolMode> spoolMode =
         delegate.getEnum(SECTION, "jar_spool_mode", JavacOptions.SpoolMode.class);
@@ -224,6 +228,14 @@ public class JavaBuckConfig implements ConfigView<BuckConfig> {
     return delegate.getBooleanValue(SECTION, "cache_binaries", true);
   }
 
+  /**
+   * Whether commands run by buckd should share the class loaders of compilers and reusable
+   * annotation processors, instead of each loading them again.
+   */
+  public boolean shouldShareClassLoadersAcrossCommands() {
+    return delegate.getBooleanValue(SECTION, "share_class_loaders_across_commands", false);
+  }
+
   public OptionalInt getDxThreadCount() {
     return delegate.getInteger(SECTION, "dx_threads");
   }
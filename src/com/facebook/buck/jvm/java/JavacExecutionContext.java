@@ -48,4 +48,7 @@ public interface JavacExecutionContext {
   ImmutableMap<String, String> getEnvironment();
 
   ProcessExecutor getProcessExecutor();
+
+  /** Whether in-process javac reads the class path through the {@link ClasspathJarCache}. */
+  boolean shouldCacheClasspathJars();
 }
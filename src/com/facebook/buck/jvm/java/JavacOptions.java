@@ -131,6 +131,26 @@ public abstract class JavacOptions implements AddsToRuleKey {
     return false;
   }
 
+  /**
+   * Whether libraries may be compiled incrementally, reusing the classes of the previous build for
+   * the sources that haven't changed. This doesn't change the output, so it's not in the rule key.
+   */
+  @Value.Default
+  @CustomFieldBehavior(DefaultFieldSerialization.class)
+  public boolean isIncrementalCompilationEnabled() {
+    return false;
+  }
+
+  /**
+   * Whether in-process javac reads the class path through the daemon-wide {@link
+   * ClasspathJarCache}. This doesn't change the output, so it's not in the rule key.
+   */
+  @Value.Default
+  @CustomFieldBehavior(DefaultFieldSerialization.class)
+  public boolean isClasspathJarCacheEnabled() {
+    return false;
+  }
+
   public void validateOptions(Function<String, Boolean> classpathChecker) throws IOException {
     if (getBootclasspath().isPresent()) {
       String bootclasspath = getBootclasspath().get();
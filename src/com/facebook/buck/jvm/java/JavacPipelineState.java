@@ -110,7 +110,8 @@ public class JavacPipelineState implements RulePipelineState {
               filesystem,
               context.getProjectFilesystemFactory(),
               firstOrderContext.getEnvironment(),
-              firstOrderContext.getProcessExecutor());
+              firstOrderContext.getProcessExecutor(),
+              javacOptions.isClasspathJarCacheEnabled());
 
       ImmutableList<JavacPluginJsr199Fields> annotationProcessors =
           ImmutableList.copyOf(
@@ -266,6 +267,23 @@ public class JavacPipelineState implements RulePipelineState {
     return builder.build();
   }
 
+  /** Returns a pipeline state that compiles with the same javac and options, but other inputs. */
+  JavacPipelineState withParameters(
+      CompilerParameters compilerParameters, JarParameters libraryJarParameters) {
+    return new JavacPipelineState(
+        javac,
+        javacOptions,
+        invokingRule,
+        classpathChecker,
+        compilerParameters,
+        abiJarParameters,
+        libraryJarParameters);
+  }
+
+  JavacOptions getJavacOptions() {
+    return javacOptions;
+  }
+
   CompilerParameters getCompilerParameters() {
     return compilerParameters;
   }
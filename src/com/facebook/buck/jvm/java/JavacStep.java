@@ -19,6 +19,7 @@ package com.facebook.buck.jvm.java;
 import com.facebook.buck.core.build.execution.context.ExecutionContext;
 import com.facebook.buck.core.model.BuildTarget;
 import com.facebook.buck.core.sourcepath.resolver.SourcePathResolverAdapter;
+import com.facebook.buck.core.util.log.Logger;
 import com.facebook.buck.event.BuckEventBus;
 import com.facebook.buck.event.CompilerErrorEvent;
 import com.facebook.buck.event.ConsoleEvent;
@@ -39,6 +40,7 @@ import javax.annotation.Nullable;
 
 /** Command used to compile java libraries with a variety of ways to handle dependencies. */
 public class JavacStep implements Step {
+  private static final Logger LOG = Logger.get(JavacStep.class);
 
   private final JavacPipelineState pipeline;
 
@@ -97,6 +99,18 @@ public class JavacStep implements Step {
   @Override
   public final StepExecutionResult execute(ExecutionContext context)
       throws IOException, InterruptedException {
+    if (ownsPipelineObject && IncrementalJavacCompilation.isSupported(invokingRule, pipeline)) {
+      return executeIncrementally(context);
+    }
+    return execute(pipeline, ownsPipelineObject, true, context);
+  }
+
+  private StepExecutionResult execute(
+      JavacPipelineState pipeline,
+      boolean ownsPipelineObject,
+      boolean reportFailure,
+      ExecutionContext context)
+      throws IOException, InterruptedException {
     int declaredDepsBuildResult;
     String firstOrderStdout;
     String firstOrderStderr;
@@ -117,7 +131,7 @@ public class JavacStep implements Step {
         pipeline.close();
       }
     }
-    if (declaredDepsBuildResult != StepExecutionResults.SUCCESS_EXIT_CODE) {
+    if (declaredDepsBuildResult != StepExecutionResults.SUCCESS_EXIT_CODE && reportFailure) {
       returnedStderr =
           processBuildFailure(context.getBuckEventBus(), firstOrderStdout, firstOrderStderr);
     } else {
@@ -129,6 +143,42 @@ public class JavacStep implements Step {
         .build();
   }
 
+  /**
+   * Recompiles only the changed sources if {@link IncrementalJavacCompilation} allows it, and falls
+   * back to a full build if it doesn't or if the result can't be used. Errors of the incremental
+   * attempt aren't reported, since the full build reports them again.
+   */
+  private StepExecutionResult executeIncrementally(ExecutionContext context)
+      throws IOException, InterruptedException {
+    IncrementalJavacCompilation incremental =
+        new IncrementalJavacCompilation(
+            filesystem,
+            invokingRule,
+            pipeline.getCompilerParameters(),
+            pipeline.getLibraryJarParameters().get());
+    try {
+      Optional<IncrementalJavacCompilation.Plan> plan =
+          incremental.plan(getOptions(context, getClasspathEntries()));
+      if (plan.isPresent()) {
+        LOG.debug("Recompiling %s of %s.", plan.get().getChangedSources(), invokingRule);
+        StepExecutionResult result =
+            execute(incremental.prepare(pipeline, plan.get()), true, false, context);
+        if (result.isSuccess() && incremental.finishIncrementalBuild(plan.get())) {
+          pipeline.close();
+          return result;
+        }
+      }
+    } catch (IOException e) {
+      LOG.warn(e, "Unable to compile %s incrementally, rebuilding it.", invokingRule);
+    }
+
+    StepExecutionResult result = execute(pipeline, true, true, context);
+    if (result.isSuccess()) {
+      incremental.finishFullBuild();
+    }
+    return result;
+  }
+
   private Optional<String> processBuildFailure(
       BuckEventBus buckEventBus, String firstOrderStdout, String firstOrderStderr) {
     ImmutableList.Builder<String> errorMessage = ImmutableList.builder();
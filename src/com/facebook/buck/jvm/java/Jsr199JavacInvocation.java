@@ -505,6 +505,11 @@ class Jsr199JavacInvocation implements Javac.Invocation {
 
           StandardJavaFileManager standardFileManager =
               compiler.getStandardFileManager(null, null, null);
+          if (context.shouldCacheClasspathJars()) {
+            standardFileManager =
+                new ClasspathCachingFileManager(
+                    standardFileManager, ClasspathJarCache.getInstance());
+          }
           addCloseable(standardFileManager);
 
           // Ensure plugins are loaded from their own classloader.
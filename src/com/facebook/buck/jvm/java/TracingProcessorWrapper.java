@@ -39,16 +39,18 @@ class TracingProcessorWrapper implements Processor {
   private final Processor innerProcessor;
   private final BuildTarget buildTarget;
   private final String annotationProcessorName;
+  private final Runnable onCrash;
 
   private int roundNumber = 0;
   private boolean isLastRound = false;
 
   public TracingProcessorWrapper(
-      JavacEventSink eventSink, BuildTarget buildTarget, Processor processor) {
+      JavacEventSink eventSink, BuildTarget buildTarget, Processor processor, Runnable onCrash) {
     this.eventSink = eventSink;
     this.buildTarget = buildTarget;
     innerProcessor = processor;
     annotationProcessorName = innerProcessor.getClass().getName();
+    this.onCrash = onCrash;
   }
 
   @Override
@@ -101,6 +103,7 @@ class TracingProcessorWrapper implements Processor {
   }
 
   private HumanReadableException wrapAnnotationProcessorCrashException(Throwable e) {
+    onCrash.run();
     List<String> filteredStackTraceLines = getStackTraceEndingAtAnnotationProcessor(e);
 
     int maxLineLength = filteredStackTraceLines.stream().mapToInt(String::length).max().orElse(75);
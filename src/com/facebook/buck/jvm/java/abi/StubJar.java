@@ -17,15 +17,33 @@
 package com.facebook.buck.jvm.java.abi;
 
 import com.facebook.buck.io.filesystem.ProjectFilesystem;
+import com.facebook.buck.io.pathformat.PathFormatter;
 import com.facebook.buck.jvm.java.lang.model.ElementsExtended;
+import com.facebook.buck.util.function.ThrowingConsumer;
+import com.facebook.buck.util.function.ThrowingSupplier;
 import com.facebook.buck.util.zip.JarBuilder;
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.collect.Iterables;
+import com.google.common.collect.Lists;
+import com.google.common.hash.HashCode;
+import com.google.common.hash.Hasher;
+import com.google.common.hash.Hashing;
+import com.google.common.io.ByteStreams;
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.Comparator;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.function.Supplier;
+import java.util.jar.JarFile;
 import java.util.stream.Collectors;
 import javax.annotation.Nullable;
 import javax.annotation.processing.Messager;
@@ -34,8 +52,14 @@ import javax.lang.model.element.Element;
 import javax.lang.model.util.Types;
 
 public class StubJar {
+  // Below this, stubbing is fast enough that splitting it up isn't worth it.
+  @VisibleForTesting static final int MIN_PARALLEL_ENTRIES = 256;
+  // Stubs are generated in parallel this many at a time, so that only that many are held in memory.
+  private static final int PARALLEL_BATCH_SIZE = 1024;
+
   private final Supplier<LibraryReader> libraryReaderSupplier;
   @Nullable private AbiGenerationMode compatibilityMode = null;
+  private boolean parallelStubbingEnabled = true;
 
   public StubJar(Path toMirror) {
     libraryReaderSupplier = () -> LibraryReader.of(toMirror);
@@ -76,6 +100,13 @@ public class StubJar {
     return this;
   }
 
+  /** Stubs the entries one at a time, however large the library is. */
+  @VisibleForTesting
+  StubJar disableParallelStubbing() {
+    this.parallelStubbingEnabled = false;
+    return this;
+  }
+
   public void writeTo(ProjectFilesystem filesystem, Path path) throws IOException {
     // The order of these declarations is important -- FilesystemStubJarWriter actually uses
     // the LibraryReader in its close method, and try-with-resources closes the items in the
@@ -93,26 +124,132 @@ public class StubJar {
     }
   }
 
+  /**
+   * Returns a hash of the stubs, computed in the same pass that generates them and without writing
+   * or reading back a jar. Two libraries have the same hash if their stub jars have the same
+   * entries apart from the manifest, which makes it a cheap way to tell whether an ABI changed.
+   */
+  public HashCode computeAbiHash() throws IOException {
+    try (LibraryReader input = libraryReaderSupplier.get()) {
+      Hasher hasher = Hashing.sha1().newHasher();
+      stub(
+          input,
+          stub -> {
+            String name = PathFormatter.pathWithUnixSeparators(stub.path);
+            if (!name.equals(JarFile.MANIFEST_NAME)) {
+              hasher
+                  .putString(name, StandardCharsets.UTF_8)
+                  .putInt(stub.contents.length)
+                  .putBytes(stub.contents);
+            }
+          });
+      return hasher.hash();
+    }
+  }
+
   private void writeTo(LibraryReader input, StubJarWriter writer) throws IOException {
+    stub(
+        input,
+        stub -> writer.writeEntry(stub.path, () -> new ByteArrayInputStream(stub.contents)));
+  }
+
+  /**
+   * Generates the stubs of all the entries of the library and passes them to the consumer, in a
+   * deterministic order. Classes are independent of each other unless they're Kotlin, so large
+   * libraries are stubbed in parallel, a batch at a time.
+   */
+  private void stub(LibraryReader input, ThrowingConsumer<Stub, IOException> consumer)
+      throws IOException {
     List<Path> relativePaths = input.getRelativePaths();
     Comparator<Path> visitOuterClassesFirst = Comparator.comparing(StubJar::pathWithoutClassSuffix);
     List<Path> paths =
         relativePaths.stream().sorted(visitOuterClassesFirst).collect(Collectors.toList());
 
-    Map<String, List<String>> inlineFunctions = new HashMap<>();
-
     boolean isKotlinModule = isKotlinModule(relativePaths);
+    if (!isKotlinModule
+        && parallelStubbingEnabled
+        && input.supportsConcurrentReads()
+        && paths.size() >= MIN_PARALLEL_ENTRIES) {
+      for (List<Path> batch : Lists.partition(paths, PARALLEL_BATCH_SIZE)) {
+        for (Stub stub : stubInParallel(input, batch)) {
+          consumer.accept(stub);
+        }
+      }
+      return;
+    }
+
+    Map<String, List<String>> inlineFunctions = new HashMap<>();
     for (Path path : paths) {
       StubJarEntry entry =
           StubJarEntry.of(input, path, compatibilityMode, isKotlinModule, inlineFunctions);
       if (entry == null) {
         continue;
       }
-      entry.write(writer);
+      consumer.accept(stub(entry));
       inlineFunctions.put(pathWithoutClassSuffix(path), entry.getInlineMethods());
     }
   }
 
+  private List<Stub> stubInParallel(LibraryReader input, List<Path> paths) throws IOException {
+    try {
+      // An ordered parallel stream runs on the common ForkJoin pool but keeps the order of paths.
+      return paths.parallelStream()
+          .map(
+              path -> {
+                try {
+                  return stub(
+                      StubJarEntry.of(
+                          input, path, compatibilityMode, false, Collections.emptyMap()));
+                } catch (IOException e) {
+                  throw new UncheckedIOException(e);
+                }
+              })
+          .filter(Objects::nonNull)
+          .collect(Collectors.toList());
+    } catch (UncheckedIOException e) {
+      throw e.getCause();
+    }
+  }
+
+  @Nullable
+  private static Stub stub(@Nullable StubJarEntry entry) throws IOException {
+    if (entry == null) {
+      return null;
+    }
+    List<Stub> stubs = new ArrayList<>(1);
+    try {
+      entry.write(
+          new StubJarWriter() {
+            @Override
+            public void writeEntry(
+                Path relativePath, ThrowingSupplier<InputStream, IOException> streamSupplier) {
+              try (InputStream stream = streamSupplier.get()) {
+                stubs.add(new Stub(relativePath, ByteStreams.toByteArray(stream)));
+              } catch (IOException e) {
+                throw new UncheckedIOException(e);
+              }
+            }
+
+            @Override
+            public void close() {}
+          });
+    } catch (UncheckedIOException e) {
+      throw e.getCause();
+    }
+    return Iterables.getOnlyElement(stubs);
+  }
+
+  /** The contents of an entry of a stub jar. */
+  private static class Stub {
+    private final Path path;
+    private final byte[] contents;
+
+    private Stub(Path path, byte[] contents) {
+      this.path = path;
+      this.contents = contents;
+    }
+  }
+
   private boolean isKotlinModule(List<Path> relativePaths) {
     return relativePaths.stream().anyMatch(path -> path.toString().endsWith(".kotlin_module"));
   }
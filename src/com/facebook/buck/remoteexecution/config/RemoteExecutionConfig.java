@@ -60,9 +60,13 @@ public abstract class RemoteExecutionConfig implements ConfigView<BuckConfig> {
   public static final int DEFAULT_REMOTE_CONCURRENT_EXECUTIONS = 80;
   public static final int DEFAULT_REMOTE_CONCURRENT_RESULT_HANDLING = 6;
   public static final int DEFAULT_REMOTE_OUTPUT_MATERIALIZATION_THREADS = 4;
+  public static final int DEFAULT_CAS_FIND_MISSING_BATCH_SIZE = 1000;
+  public static final int DEFAULT_CAS_UPLOAD_BATCH_SIZE_BYTES = 10 * 1024 * 1024;
   public static final boolean DEFAULT_IS_LOCAL_FALLBACK_ENABLED = false;
   public static final boolean DEFAULT_IS_LOCAL_FALLBACK_DISABLED_ON_CORRUPT_ARTIFACTS = false;
   public static final boolean DEFAULT_IS_LOCAL_FALLBACK_ENABLED_FOR_COMPLETED_ACTION = true;
+  public static final boolean DEFAULT_IS_LAZY_OUTPUT_MATERIALIZATION_ENABLED = false;
+  public static final long DEFAULT_LOCAL_CAS_MAX_SIZE_BYTES = 10L * 1024 * 1024 * 1024;
 
   private static final String CONFIG_CERT = "cert";
   private static final String CONFIG_KEY = "key";
@@ -83,6 +87,16 @@ public abstract class RemoteExecutionConfig implements ConfigView<BuckConfig> {
   public static final String CONCURRENT_RESULT_HANDLING_KEY = "concurrent_result_handling";
   /** Number of threads to handle output materialization. */
   public static final String OUTPUT_MATERIALIZATION_THREADS_KEY = "output_materialization_threads";
+  /**
+   * Maximum number of digests in a request for the ones missing from the CAS. The digests of all
+   * the rules waiting for uploads go out together, up to this many at a time.
+   */
+  public static final String CAS_FIND_MISSING_BATCH_SIZE_KEY = "cas_find_missing_batch_size";
+  /**
+   * Maximum size of the blobs uploaded to the CAS in a single request. Larger blobs are streamed on
+   * their own.
+   */
+  public static final String CAS_UPLOAD_BATCH_SIZE_BYTES_KEY = "cas_upload_batch_size_bytes";
   /** Whether failed remote executions are retried locally. */
   public static final String IS_LOCAL_FALLBACK_ENABLED_KEY = "is_local_fallback_enabled";
   /** Whether failed remote executions are retried locally if the artifacts are corrupted. */
@@ -103,6 +117,22 @@ public abstract class RemoteExecutionConfig implements ConfigView<BuckConfig> {
    * action computations until uploads finish.
    */
   public static final String CONCURRENT_PENDING_UPLOADS_KEY = "concurrent_pending_uploads";
+  /**
+   * Whether output files of remotely executed rules are left in the CAS until something needs them
+   * on disk: a rule that is built locally or a top-level rule of the build. Outputs that nothing
+   * needed are never downloaded, and their rules are rebuilt by the next build that needs them.
+   */
+  public static final String LAZY_OUTPUT_MATERIALIZATION_KEY = "lazy_output_materialization";
+  /**
+   * Directory of a persistent CAS used by the debug_grpc_in_process and debug_grpc_local
+   * implementations. If unset, a temporary directory is used and deleted at the end of the build.
+   */
+  public static final String LOCAL_CAS_DIR_KEY = "local_cas_dir";
+  /**
+   * Size budget of the persistent local CAS. Least recently used blobs are evicted in the
+   * background once it is exceeded.
+   */
+  public static final String LOCAL_CAS_MAX_SIZE_BYTES_KEY = "local_cas_max_size_bytes";
   /** URL format string for debug UI on the super console */
   public static final String DEBUG_FORMAT_STRING_URL_KEY = "debug_format_string_url";
   /**
@@ -250,6 +280,19 @@ public abstract class RemoteExecutionConfig implements ConfigView<BuckConfig> {
     return getDelegate().getBooleanValue(SECTION, "cas_insecure", false);
   }
 
+  /** Directory of the persistent local CAS, if one is configured. */
+  public Optional<Path> getLocalCasDir() {
+    return getValue(LOCAL_CAS_DIR_KEY)
+        .map(Paths::get)
+        .map(getDelegate()::resolveNonNullPathOutsideTheProjectFilesystem);
+  }
+
+  public long getLocalCasMaxSizeBytes() {
+    return getDelegate()
+        .getLong(SECTION, LOCAL_CAS_MAX_SIZE_BYTES_KEY)
+        .orElse(DEFAULT_LOCAL_CAS_MAX_SIZE_BYTES);
+  }
+
   /** client TLS certificate file in PEM format */
   public Optional<Path> getCertFile() {
     return getPathWithEnv(CONFIG_CERT);
@@ -332,6 +375,16 @@ public abstract class RemoteExecutionConfig implements ConfigView<BuckConfig> {
             .getInteger(SECTION, OUTPUT_MATERIALIZATION_THREADS_KEY)
             .orElse(DEFAULT_REMOTE_OUTPUT_MATERIALIZATION_THREADS);
 
+    int casFindMissingBatchSize =
+        getDelegate()
+            .getInteger(SECTION, CAS_FIND_MISSING_BATCH_SIZE_KEY)
+            .orElse(DEFAULT_CAS_FIND_MISSING_BATCH_SIZE);
+
+    int casUploadBatchSizeBytes =
+        getDelegate()
+            .getInteger(SECTION, CAS_UPLOAD_BATCH_SIZE_BYTES_KEY)
+            .orElse(DEFAULT_CAS_UPLOAD_BATCH_SIZE_BYTES);
+
     boolean isLocalFallbackEnabled =
         getDelegate()
             .getBooleanValue(
@@ -351,6 +404,13 @@ public abstract class RemoteExecutionConfig implements ConfigView<BuckConfig> {
                 IS_LOCAL_FALLBACK_ENABLED_FOR_COMPLETED_ACTION_KEY,
                 DEFAULT_IS_LOCAL_FALLBACK_ENABLED_FOR_COMPLETED_ACTION);
 
+    boolean isLazyOutputMaterializationEnabled =
+        getDelegate()
+            .getBooleanValue(
+                SECTION,
+                LAZY_OUTPUT_MATERIALIZATION_KEY,
+                DEFAULT_IS_LAZY_OUTPUT_MATERIALIZATION_ENABLED);
+
     OptionalLong maxInputSizeBytes =
         getDelegate()
             .getValue(SECTION, MAX_INPUT_SIZE_BYTES)
@@ -438,6 +498,16 @@ public abstract class RemoteExecutionConfig implements ConfigView<BuckConfig> {
         return outputMaterializationThreads;
       }
 
+      @Override
+      public int getCasFindMissingBatchSize() {
+        return casFindMissingBatchSize;
+      }
+
+      @Override
+      public int getCasUploadBatchSizeBytes() {
+        return casUploadBatchSizeBytes;
+      }
+
       @Override
       public boolean isLocalFallbackEnabled() {
         return isLocalFallbackEnabled;
@@ -453,6 +523,11 @@ public abstract class RemoteExecutionConfig implements ConfigView<BuckConfig> {
         return isLocalFallbackEnabledForCompletedAction;
       }
 
+      @Override
+      public boolean isLazyOutputMaterializationEnabled() {
+        return isLazyOutputMaterializationEnabled;
+      }
+
       @Override
       public OptionalLong maxInputSizeBytes() {
         return maxInputSizeBytes;
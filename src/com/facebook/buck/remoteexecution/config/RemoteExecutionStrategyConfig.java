@@ -32,6 +32,12 @@ public interface RemoteExecutionStrategyConfig {
 
   int getOutputMaterializationThreads();
 
+  /** Maximum number of digests in a request for the ones missing from the CAS. */
+  int getCasFindMissingBatchSize();
+
+  /** Maximum size of the blobs uploaded to the CAS in a single request. */
+  int getCasUploadBatchSizeBytes();
+
   int getMaxConcurrentPendingUploads();
 
   boolean isLocalFallbackEnabled();
@@ -40,6 +46,9 @@ public interface RemoteExecutionStrategyConfig {
 
   boolean isLocalFallbackEnabledForCompletedAction();
 
+  /** Whether output files are only downloaded from the CAS once something needs them on disk. */
+  boolean isLazyOutputMaterializationEnabled();
+
   OptionalLong maxInputSizeBytes();
 
   OptionalLong largeBlobSizeBytes();
@@ -0,0 +1,73 @@
+/*
+ * Copyright (c) Facebook, Inc. and its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.facebook.buck.remoteexecution.event;
+
+import com.facebook.buck.event.AbstractBuckEvent;
+import com.facebook.buck.event.BuckEventBus;
+import com.facebook.buck.event.EventKey;
+import com.google.common.annotations.VisibleForTesting;
+
+/**
+ * Event sent when a request for the digests missing from the CAS is sent, with how long its
+ * digests waited to be sent.
+ */
+public class CasFindMissingEvent extends AbstractBuckEvent {
+  private final int digestCount;
+  private final long totalQueueTimeMs;
+  private final long maxQueueTimeMs;
+
+  @VisibleForTesting
+  CasFindMissingEvent(int digestCount, long totalQueueTimeMs, long maxQueueTimeMs) {
+    super(EventKey.unique());
+    this.digestCount = digestCount;
+    this.totalQueueTimeMs = totalQueueTimeMs;
+    this.maxQueueTimeMs = maxQueueTimeMs;
+  }
+
+  /** Posts a new CasFindMissingEvent into the {@link BuckEventBus}. */
+  public static void postEvent(
+      BuckEventBus eventBus, int digestCount, long totalQueueTimeMs, long maxQueueTimeMs) {
+    eventBus.post(new CasFindMissingEvent(digestCount, totalQueueTimeMs, maxQueueTimeMs));
+  }
+
+  /** Number of digests in the request. */
+  public int getDigestCount() {
+    return digestCount;
+  }
+
+  /** Sum of the time each digest of the request waited before it was sent. */
+  public long getTotalQueueTimeMs() {
+    return totalQueueTimeMs;
+  }
+
+  /** Longest time a digest of the request waited before it was sent. */
+  public long getMaxQueueTimeMs() {
+    return maxQueueTimeMs;
+  }
+
+  @Override
+  public String getEventName() {
+    return CasFindMissingEvent.class.getSimpleName();
+  }
+
+  @Override
+  protected String getValueString() {
+    return String.format(
+        "Digests=[%d] TotalQueueTimeMs=[%d] MaxQueueTimeMs=[%d]",
+        digestCount, totalQueueTimeMs, maxQueueTimeMs);
+  }
+}
@@ -37,6 +37,15 @@ public interface RemoteExecutionStatsProvider {
   /** Total of uploaded bytes to CAS. */
   long getCasUploadSizeBytes();
 
+  /** Total number of requests for the digests missing from the CAS. */
+  int getCasFindMissingRequests();
+
+  /** Total time digests waited for a request for the ones missing from the CAS, in millis. */
+  long getCasFindMissingQueueTimeMs();
+
+  /** Longest time a digest waited for a request for the ones missing from the CAS, in millis. */
+  long getMaxCasFindMissingQueueTimeMs();
+
   /** Get the total number of BuildRules that are finished. (both local and remote) */
   int getTotalRulesBuilt();
 
@@ -20,6 +20,7 @@ import com.facebook.buck.core.build.event.BuildRuleEvent;
 import com.facebook.buck.event.BuckEventListener;
 import com.facebook.buck.remoteexecution.event.CasBlobDownloadEvent;
 import com.facebook.buck.remoteexecution.event.CasBlobUploadEvent.Finished;
+import com.facebook.buck.remoteexecution.event.CasFindMissingEvent;
 import com.facebook.buck.remoteexecution.event.LocalFallbackEvent;
 import com.facebook.buck.remoteexecution.event.LocalFallbackEvent.Result;
 import com.facebook.buck.remoteexecution.event.LocalFallbackStats;
@@ -37,6 +38,7 @@ import java.util.Map.Entry;
 import java.util.Objects;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAccumulator;
 import java.util.concurrent.atomic.LongAdder;
 import java.util.stream.Collectors;
 
@@ -51,6 +53,10 @@ public class RemoteExecutionEventListener
   private final LongAdder uploads;
   private final LongAdder uploadBytes;
 
+  private final LongAdder findMissingRequests;
+  private final LongAdder findMissingQueueTimeMs;
+  private final LongAccumulator maxFindMissingQueueTimeMs;
+
   private final LongAdder remoteCpuTimeMs;
   private final LongAdder remoteQueueTimeMs;
   private final LongAdder totalRemoteTimeMs;
@@ -66,6 +72,9 @@ public class RemoteExecutionEventListener
     this.downloadBytes = new LongAdder();
     this.uploads = new LongAdder();
     this.uploadBytes = new LongAdder();
+    this.findMissingRequests = new LongAdder();
+    this.findMissingQueueTimeMs = new LongAdder();
+    this.maxFindMissingQueueTimeMs = new LongAccumulator(Math::max, 0);
     this.remoteCpuTimeMs = new LongAdder();
     this.remoteQueueTimeMs = new LongAdder();
     this.totalRemoteTimeMs = new LongAdder();
@@ -96,6 +105,15 @@ public class RemoteExecutionEventListener
     uploadBytes.add(event.getStartedEvent().getSizeBytes());
   }
 
+  /** Event specific subscriber method. */
+  @Subscribe
+  public void onCasFindMissingEvent(CasFindMissingEvent event) {
+    hasFirstRemoteActionStarted.set(true);
+    findMissingRequests.increment();
+    findMissingQueueTimeMs.add(event.getTotalQueueTimeMs());
+    maxFindMissingQueueTimeMs.accumulate(event.getMaxQueueTimeMs());
+  }
+
   /** Event specific subscriber method. */
   @Subscribe
   public void onCasDownloadEvent(CasBlobDownloadEvent.Finished event) {
@@ -204,6 +222,21 @@ public class RemoteExecutionEventListener
     return uploadBytes.intValue();
   }
 
+  @Override
+  public int getCasFindMissingRequests() {
+    return findMissingRequests.intValue();
+  }
+
+  @Override
+  public long getCasFindMissingQueueTimeMs() {
+    return findMissingQueueTimeMs.sum();
+  }
+
+  @Override
+  public long getMaxCasFindMissingQueueTimeMs() {
+    return maxFindMissingQueueTimeMs.get();
+  }
+
   @Override
   public int getTotalRulesBuilt() {
     return totalBuildRules.intValue();
@@ -235,13 +268,18 @@ public class RemoteExecutionEventListener
 
   @Override
   public ImmutableMap<String, String> exportFieldsToMap() {
-    ImmutableMap.Builder<String, String> retval = ImmutableMap.builderWithExpectedSize(16);
+    ImmutableMap.Builder<String, String> retval = ImmutableMap.builderWithExpectedSize(19);
 
     retval
         .put("cas_downloads_count", Integer.toString(getCasDownloads()))
         .put("cas_downloads_bytes", Long.toString(getCasDownloadSizeBytes()))
         .put("cas_uploads_count", Integer.toString(getCasUploads()))
         .put("cas_uploads_bytes", Long.toString(getCasUploadSizeBytes()))
+        .put("cas_find_missing_count", Integer.toString(getCasFindMissingRequests()))
+        .put("cas_find_missing_queue_time_ms", Long.toString(getCasFindMissingQueueTimeMs()))
+        .put(
+            "cas_find_missing_max_queue_time_ms",
+            Long.toString(getMaxCasFindMissingQueueTimeMs()))
         .put("localfallback_totally_executed_rules", localFallbackTotalExecutions.toString())
         .put("localfallback_locally_executed_rules", localFallbackLocalExecutions.toString())
         .put(
@@ -37,9 +37,13 @@ import com.google.bytestream.ByteStreamProto;
 import com.google.common.base.Throwables;
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableSet;
+import com.google.common.io.ByteStreams;
+import com.google.common.util.concurrent.ListenableFuture;
 import com.google.common.util.concurrent.SettableFuture;
 import com.google.protobuf.ByteString;
 import io.grpc.Status;
+import io.grpc.stub.ClientCallStreamObserver;
+import io.grpc.stub.ClientResponseObserver;
 import io.grpc.stub.StreamObserver;
 import java.io.IOException;
 import java.io.InputStream;
@@ -52,6 +56,8 @@ public class GrpcCasBlobUploader implements CasBlobUploader {
 
   private static final Logger LOG = Logger.get(GrpcCasBlobUploader.class);
   private static final int CHUNK_SIZE = 65536; // 64 KiB
+  private static final int MAX_ATTEMPTS_WITHOUT_PROGRESS = 3;
+  private static final long READY_POLL_INTERVAL_MS = 100;
 
   private final ContentAddressableStorageFutureStub storageStub;
   private final BuckEventBus buckEventBus;
@@ -126,45 +132,114 @@ public class GrpcCasBlobUploader implements CasBlobUploader {
     }
   }
 
+  /**
+   * Uploads the blob through the ByteStream API in chunks. Chunks are only sent when the stream is
+   * ready to accept them, so memory use is bounded regardless of the size of the blob. If the
+   * upload fails with a transient error, it is resumed from the size the server reports as
+   * committed.
+   */
   @Override
   public UploadResult uploadFromStream(UploadDataSupplier blob) throws IOException {
     long uploadSize = blob.getDigest().getSize();
     try (Scope ignored = CasBlobUploadEvent.sendEvent(buckEventBus, 1, uploadSize)) {
-      InputStream dataStream = blob.get();
       String name = GrpcRemoteExecutionClients.getResourceName(instanceName, blob.getDigest());
+      long committedSize = 0;
+      int attemptsWithoutProgress = 0;
+      while (true) {
+        UploadResult result = writeFromOffset(blob, name, committedSize);
+        if (result.status == Status.OK.getCode().value()
+            || !GrpcRemoteExecutionClients.isResumable(Status.fromCodeValue(result.status))) {
+          return result;
+        }
+        ByteStreamProto.QueryWriteStatusResponse writeStatus;
+        try {
+          writeStatus = queryWriteStatus(name).get();
+        } catch (ExecutionException e) {
+          LOG.debug("Unable to query the status of the write of %s.", blob.getDigest());
+          return result;
+        }
+        if (writeStatus.getComplete()) {
+          return new UploadResult(blob.getDigest(), Status.OK.getCode().value(), "");
+        }
+        attemptsWithoutProgress =
+            writeStatus.getCommittedSize() > committedSize ? 0 : attemptsWithoutProgress + 1;
+        if (attemptsWithoutProgress >= MAX_ATTEMPTS_WITHOUT_PROGRESS) {
+          return result;
+        }
+        committedSize = writeStatus.getCommittedSize();
+        LOG.debug("Resuming write of %s at offset %d.", blob.getDigest(), committedSize);
+      }
+    } catch (InterruptedException | ExecutionException e) {
+      MoreThrowables.throwIfInitialCauseInstanceOf(e, BuckUncheckedExecutionException.class);
+      throw new BuckUncheckedExecutionException(
+          e, "When uploading a blob: <%s>. Digests: %s.", blob.describe(), blob.getDigest());
+    }
+  }
+
+  private UploadResult writeFromOffset(UploadDataSupplier blob, String name, long offset)
+      throws IOException, InterruptedException, ExecutionException {
+    SettableFuture<UploadResult> result = SettableFuture.create();
+    Object readyLock = new Object();
+    Runnable notifyReady =
+        () -> {
+          synchronized (readyLock) {
+            readyLock.notifyAll();
+          }
+        };
+    ClientResponseObserver<ByteStreamProto.WriteRequest, ByteStreamProto.WriteResponse>
+        responseObserver =
+            new ClientResponseObserver<
+                ByteStreamProto.WriteRequest, ByteStreamProto.WriteResponse>() {
+              @Override
+              public void beforeStart(
+                  ClientCallStreamObserver<ByteStreamProto.WriteRequest> requestStream) {
+                requestStream.setOnReadyHandler(notifyReady);
+              }
+
+              @Override
+              public void onNext(ByteStreamProto.WriteResponse value) {}
 
-      SettableFuture<UploadResult> result = SettableFuture.create();
-      StreamObserver<ByteStreamProto.WriteResponse> responseObserver =
-          new StreamObserver<ByteStreamProto.WriteResponse>() {
-            @Override
-            public void onNext(ByteStreamProto.WriteResponse value) {}
-
-            @Override
-            public void onError(Throwable t) {
-              Status status = Status.fromThrowable(t);
-              LOG.warn(
-                  "Writing Digest "
-                      + blob.getDigest()
-                      + " to byte stream service failed: "
-                      + status);
-              result.set(
-                  new UploadResult(blob.getDigest(), status.getCode().value(), t.getMessage()));
-            }
-
-            @Override
-            public void onCompleted() {
-              result.set(new UploadResult(blob.getDigest(), Status.OK.getCode().value(), ""));
-            }
-          };
-      StreamObserver<ByteStreamProto.WriteRequest> requestObserver =
-          byteStreamStub.write(responseObserver);
+              @Override
+              public void onError(Throwable t) {
+                Status status = Status.fromThrowable(t);
+                LOG.warn(
+                    "Writing Digest "
+                        + blob.getDigest()
+                        + " to byte stream service failed: "
+                        + status);
+                result.set(
+                    new UploadResult(blob.getDigest(), status.getCode().value(), t.getMessage()));
+                notifyReady.run();
+              }
 
+              @Override
+              public void onCompleted() {
+                result.set(new UploadResult(blob.getDigest(), Status.OK.getCode().value(), ""));
+                notifyReady.run();
+              }
+            };
+    ClientCallStreamObserver<ByteStreamProto.WriteRequest> requestObserver =
+        (ClientCallStreamObserver<ByteStreamProto.WriteRequest>)
+            byteStreamStub.write(responseObserver);
+
+    try (InputStream dataStream = blob.get()) {
+      ByteStreams.skipFully(dataStream, offset);
       // ByteString's readFrom InputStream will drain the stream - since these are large objects we
       // want read and send chunks at a time. So read byte[CHUNK_SIZE] from the InputStream and copy
-      // them into the ByteString for upload.
+      // them into the ByteString for upload, waiting for the previous chunks to be sent first.
       byte[] buffer = new byte[CHUNK_SIZE];
-      int len, writeOffset = 0;
+      long writeOffset = offset;
+      int len;
       while ((len = dataStream.read(buffer)) > 0) {
+        synchronized (readyLock) {
+          while (!requestObserver.isReady() && !result.isDone()) {
+            readyLock.wait(READY_POLL_INTERVAL_MS);
+          }
+        }
+        if (result.isDone()) {
+          // The server ended the call early, there's no point in sending the rest.
+          return result.get();
+        }
         requestObserver.onNext(
             ByteStreamProto.WriteRequest.newBuilder()
                 .setResourceName(name)
@@ -173,17 +248,41 @@ public class GrpcCasBlobUploader implements CasBlobUploader {
                 .build());
         writeOffset += len;
       }
-      requestObserver.onNext(
-          ByteStreamProto.WriteRequest.newBuilder()
-              .setResourceName(name)
-              .setFinishWrite(true)
-              .build());
-      requestObserver.onCompleted();
-      return result.get();
-    } catch (InterruptedException | ExecutionException e) {
-      MoreThrowables.throwIfInitialCauseInstanceOf(e, BuckUncheckedExecutionException.class);
-      throw new BuckUncheckedExecutionException(
-          e, "When uploading a blob: <%s>. Digests: %s.", blob.describe(), blob.getDigest());
+    } catch (IOException | RuntimeException | InterruptedException e) {
+      requestObserver.cancel("Unable to read the data to upload.", e);
+      throw e;
     }
+    requestObserver.onNext(
+        ByteStreamProto.WriteRequest.newBuilder()
+            .setResourceName(name)
+            .setWriteOffset(blob.getDigest().getSize())
+            .setFinishWrite(true)
+            .build());
+    requestObserver.onCompleted();
+    return result.get();
+  }
+
+  private ListenableFuture<ByteStreamProto.QueryWriteStatusResponse> queryWriteStatus(
+      String name) {
+    SettableFuture<ByteStreamProto.QueryWriteStatusResponse> future = SettableFuture.create();
+    byteStreamStub.queryWriteStatus(
+        ByteStreamProto.QueryWriteStatusRequest.newBuilder().setResourceName(name).build(),
+        new StreamObserver<ByteStreamProto.QueryWriteStatusResponse>() {
+          @Override
+          public void onNext(ByteStreamProto.QueryWriteStatusResponse value) {
+            future.set(value);
+          }
+
+          @Override
+          public void onError(Throwable t) {
+            future.setException(t);
+          }
+
+          @Override
+          public void onCompleted() {
+            future.setException(new IOException("No response to the write status query."));
+          }
+        });
+    return future;
   }
 }
@@ -40,7 +40,6 @@ import java.util.List;
 public class GrpcContentAddressableStorageClient implements ContentAddressedStorageClient {
 
   private static final int SIZE_LIMIT = 10 * 1024 * 1024; // 10MB
-  private static final int FIND_MISSING_CHECK_LIMIT = 1000;
   private static final int EXECUTOR_THREADS = 4;
 
   private final MultiThreadedBlobUploader uploader;
@@ -55,14 +54,17 @@ public class GrpcContentAddressableStorageClient implements ContentAddressedStor
       Protocol protocol,
       BuckEventBus buckEventBus,
       RemoteExecutionMetadata metadata,
-      int outputMaterializationThreads) {
+      int outputMaterializationThreads,
+      int findMissingBatchSize,
+      int uploadBatchSizeBytes) {
     this.uploader =
         new MultiThreadedBlobUploader(
-            FIND_MISSING_CHECK_LIMIT,
-            SIZE_LIMIT,
+            findMissingBatchSize,
+            uploadBatchSizeBytes,
             MostExecutors.newMultiThreadExecutor("blob-uploader", EXECUTOR_THREADS),
             new GrpcCasBlobUploader(
-                instanceName, storageStub, byteStreamStub, buckEventBus, metadata));
+                instanceName, storageStub, byteStreamStub, buckEventBus, metadata),
+            buckEventBus);
 
     this.fetcher =
         new GrpcAsyncBlobFetcher(
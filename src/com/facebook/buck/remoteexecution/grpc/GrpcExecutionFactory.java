@@ -38,6 +38,7 @@ import io.grpc.netty.shaded.io.netty.handler.ssl.SslContextBuilder;
 import java.io.IOException;
 import java.nio.file.Path;
 import java.util.Optional;
+import java.util.OptionalLong;
 import javax.net.ssl.SSLException;
 
 /** Factory for creating grpc-based strategies. */
@@ -50,18 +51,29 @@ public class GrpcExecutionFactory {
 
   /**
    * The in-process strategy starts up a grpc remote execution service in process and connects to it
-   * directly.
+   * directly. If casDir is present the service's CAS is kept there across builds, bounded to
+   * casMaxSizeBytes.
    */
   public static RemoteExecutionClients createInProcess(
-      BuckEventBus buckEventBus, RemoteExecutionStrategyConfig strategyConfig) throws IOException {
+      BuckEventBus buckEventBus,
+      RemoteExecutionStrategyConfig strategyConfig,
+      Optional<Path> casDir,
+      long casMaxSizeBytes)
+      throws IOException {
     NamedTemporaryDirectory workDir = new NamedTemporaryDirectory("__remote__");
-    GrpcRemoteExecutionServiceServer remoteExecution =
-        new GrpcRemoteExecutionServiceServer(
-            new LocalContentAddressedStorage(
+    LocalContentAddressedStorage storage =
+        casDir.isPresent()
+            ? new LocalContentAddressedStorage(
+                casDir.get(),
+                GrpcRemoteExecutionClients.PROTOCOL,
+                buckEventBus,
+                OptionalLong.of(casMaxSizeBytes))
+            : new LocalContentAddressedStorage(
                 workDir.getPath().resolve("__cache__"),
                 GrpcRemoteExecutionClients.PROTOCOL,
-                buckEventBus),
-            workDir.getPath().resolve("__work__"));
+                buckEventBus);
+    GrpcRemoteExecutionServiceServer remoteExecution =
+        new GrpcRemoteExecutionServiceServer(storage, workDir.getPath().resolve("__work__"));
 
     InProcessServerBuilder builder = InProcessServerBuilder.forName("unique");
     remoteExecution.getServices().forEach(builder::addService);
@@ -81,6 +93,7 @@ public class GrpcExecutionFactory {
         try (Closer closer = Closer.create()) {
           closer.register(server::shutdown);
           closer.register(workDir);
+          closer.register(storage::close);
           closer.register(super::close);
         }
         try {
@@ -23,6 +23,7 @@ import build.bazel.remote.execution.v2.ExecutionGrpc;
 import build.bazel.remote.execution.v2.ExecutionGrpc.ExecutionStub;
 import com.facebook.buck.core.exceptions.BuckUncheckedExecutionException;
 import com.facebook.buck.core.util.immutables.BuckStyleValue;
+import com.facebook.buck.core.util.log.Logger;
 import com.facebook.buck.event.BuckEventBus;
 import com.facebook.buck.remoteexecution.ContentAddressedStorageClient;
 import com.facebook.buck.remoteexecution.RemoteExecutionClients;
@@ -36,18 +37,33 @@ import com.google.bytestream.ByteStreamGrpc;
 import com.google.bytestream.ByteStreamGrpc.ByteStreamStub;
 import com.google.bytestream.ByteStreamProto.ReadRequest;
 import com.google.bytestream.ByteStreamProto.ReadResponse;
+import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.Sets;
 import com.google.common.hash.HashCode;
 import com.google.common.util.concurrent.ListenableFuture;
 import com.google.common.util.concurrent.SettableFuture;
 import com.google.protobuf.ByteString;
 import io.grpc.ManagedChannel;
-import io.grpc.stub.StreamObserver;
+import io.grpc.Status;
+import io.grpc.stub.ClientCallStreamObserver;
+import io.grpc.stub.ClientResponseObserver;
 import java.io.IOException;
 import java.security.MessageDigest;
+import java.util.Objects;
 import java.util.concurrent.TimeUnit;
+import javax.annotation.Nullable;
 
 /** A RemoteExecution that sends jobs to a grpc-based remote execution service. */
 public class GrpcRemoteExecutionClients implements RemoteExecutionClients {
+  private static final Logger LOG = Logger.get(GrpcRemoteExecutionClients.class);
+  private static final int MAX_ATTEMPTS_WITHOUT_PROGRESS = 3;
+  private static final ImmutableSet<Status.Code> RESUMABLE_CODES =
+      Sets.immutableEnumSet(
+          Status.Code.UNAVAILABLE,
+          Status.Code.DEADLINE_EXCEEDED,
+          Status.Code.ABORTED,
+          Status.Code.RESOURCE_EXHAUSTED);
+
   public static final Protocol PROTOCOL = new GrpcProtocol();
   private final ContentAddressedStorageClient storage;
   private final GrpcRemoteExecutionServiceClient executionService;
@@ -95,58 +111,138 @@ public class GrpcRemoteExecutionClients implements RemoteExecutionClients {
     return String.format("%s/blobs/%s/%d", instanceName, digest.getHash(), digest.getSize());
   }
 
-  /** Reads a ByteStream onto the arg consumer. */
+  /**
+   * Reads a ByteStream onto the arg consumer. The consumer sees each chunk as it arrives, so memory
+   * use is bounded by the chunk size rather than by the size of the blob.
+   *
+   * <p>If the stream fails with a transient error, the read is resumed from the first byte that
+   * wasn't received yet rather than restarted, so the consumer never sees any byte twice.
+   */
   public static ListenableFuture<Unit> readByteStream(
       String instanceName,
       Protocol.Digest digest,
       ByteStreamStub byteStreamStub,
       ThrowingConsumer<ByteString, IOException> dataConsumer,
       int casDeadline) {
-    String name = getResourceName(instanceName, digest);
-    SettableFuture<Unit> future = SettableFuture.create();
-    byteStreamStub
-        .withDeadlineAfter(casDeadline, TimeUnit.SECONDS)
-        .read(
-            ReadRequest.newBuilder().setResourceName(name).setReadLimit(0).setReadOffset(0).build(),
-            new StreamObserver<ReadResponse>() {
-              int size = 0;
-              MessageDigest messageDigest = PROTOCOL.getMessageDigest();
-
-              @Override
-              public void onNext(ReadResponse value) {
-                try {
-                  ByteString data = value.getData();
-                  size += data.size();
-                  messageDigest.update(data.asReadOnlyByteBuffer());
-                  dataConsumer.accept(data);
-                } catch (IOException e) {
-                  onError(e);
+    ResumableRead read =
+        new ResumableRead(
+            getResourceName(instanceName, digest),
+            digest,
+            byteStreamStub,
+            dataConsumer,
+            casDeadline);
+    read.start();
+    return read.future;
+  }
+
+  /** Whether a ByteStream call that failed with the given status is worth resuming. */
+  static boolean isResumable(Status status) {
+    return RESUMABLE_CODES.contains(status.getCode());
+  }
+
+  /** A ByteStream read that resumes from the current offset after transient failures. */
+  private static class ResumableRead {
+    private final String resourceName;
+    private final Protocol.Digest digest;
+    private final ByteStreamStub byteStreamStub;
+    private final ThrowingConsumer<ByteString, IOException> dataConsumer;
+    private final int casDeadline;
+    private final SettableFuture<Unit> future = SettableFuture.create();
+    private final MessageDigest messageDigest = PROTOCOL.getMessageDigest();
+
+    // Only accessed from the callbacks of the current call, which are serialized.
+    private long offset = 0;
+    private int attemptsWithoutProgress = 0;
+
+    ResumableRead(
+        String resourceName,
+        Protocol.Digest digest,
+        ByteStreamStub byteStreamStub,
+        ThrowingConsumer<ByteString, IOException> dataConsumer,
+        int casDeadline) {
+      this.resourceName = resourceName;
+      this.digest = digest;
+      this.byteStreamStub = byteStreamStub;
+      this.dataConsumer = dataConsumer;
+      this.casDeadline = casDeadline;
+    }
+
+    void start() {
+      long startOffset = offset;
+      byteStreamStub
+          .withDeadlineAfter(casDeadline, TimeUnit.SECONDS)
+          .read(
+              ReadRequest.newBuilder()
+                  .setResourceName(resourceName)
+                  .setReadLimit(0)
+                  .setReadOffset(startOffset)
+                  .build(),
+              new ClientResponseObserver<ReadRequest, ReadResponse>() {
+                @Nullable private ClientCallStreamObserver<ReadRequest> requestStream;
+                private boolean failed = false;
+
+                @Override
+                public void beforeStart(ClientCallStreamObserver<ReadRequest> requestStream) {
+                  this.requestStream = requestStream;
+                }
+
+                @Override
+                public void onNext(ReadResponse value) {
+                  if (failed) {
+                    return;
+                  }
+                  try {
+                    ByteString data = value.getData();
+                    offset += data.size();
+                    messageDigest.update(data.asReadOnlyByteBuffer());
+                    dataConsumer.accept(data);
+                  } catch (IOException e) {
+                    failed = true;
+                    future.setException(e);
+                    Objects.requireNonNull(requestStream).cancel("Unable to consume data.", e);
+                  }
                 }
-              }
-
-              @Override
-              public void onError(Throwable t) {
-                future.setException(t);
-              }
-
-              @Override
-              public void onCompleted() {
-                String digestHash = HashCode.fromBytes(messageDigest.digest()).toString();
-                if (size == digest.getSize() && digestHash.equals(digest.getHash())) {
-                  future.set(null);
-                } else {
-                  future.setException(
-                      new BuckUncheckedExecutionException(
-                          "Digest of received bytes: "
-                              + digestHash
-                              + ":"
-                              + size
-                              + " doesn't match expected digest: "
-                              + digest));
+
+                @Override
+                public void onError(Throwable t) {
+                  if (failed) {
+                    return;
+                  }
+                  attemptsWithoutProgress =
+                      offset > startOffset ? 0 : attemptsWithoutProgress + 1;
+                  if (isResumable(Status.fromThrowable(t))
+                      && offset < digest.getSize()
+                      && attemptsWithoutProgress < MAX_ATTEMPTS_WITHOUT_PROGRESS) {
+                    LOG.debug(
+                        "Resuming read of %s at offset %d after error: %s",
+                        digest, offset, t.getMessage());
+                    start();
+                  } else {
+                    future.setException(t);
+                  }
+                }
+
+                @Override
+                public void onCompleted() {
+                  if (failed) {
+                    return;
+                  }
+                  String digestHash = HashCode.fromBytes(messageDigest.digest()).toString();
+                  if (offset == digest.getSize() && digestHash.equals(digest.getHash())) {
+                    future.set(null);
+                  } else {
+                    future.setException(
+                        new BuckUncheckedExecutionException(
+                            "Digest of received bytes: "
+                                + digestHash
+                                + ":"
+                                + offset
+                                + " doesn't match expected digest: "
+                                + digest));
+                  }
                 }
-              }
-            });
-    return future;
+              });
+    }
   }
 
   @Override
@@ -195,6 +291,8 @@ public class GrpcRemoteExecutionClients implements RemoteExecutionClients {
         protocol,
         buckEventBus,
         metadataProvider.get(),
-        strategyConfig.getOutputMaterializationThreads());
+        strategyConfig.getOutputMaterializationThreads(),
+        strategyConfig.getCasFindMissingBatchSize(),
+        strategyConfig.getCasUploadBatchSizeBytes());
   }
 }
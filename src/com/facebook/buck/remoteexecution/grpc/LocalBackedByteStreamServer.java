@@ -27,6 +27,7 @@ import com.google.bytestream.ByteStreamProto.ReadResponse;
 import com.google.bytestream.ByteStreamProto.WriteRequest;
 import com.google.bytestream.ByteStreamProto.WriteResponse;
 import com.google.common.base.Preconditions;
+import com.google.common.io.ByteStreams;
 import com.google.protobuf.ByteString;
 import io.grpc.stub.StreamObserver;
 import java.io.InputStream;
@@ -68,11 +69,15 @@ class LocalBackedByteStreamServer extends ByteStreamImplBase {
           parseResourceName(request.getResourceName());
       byte[] buffer = new byte[BYTESTREAM_READ_CHUNK_SIZE];
       try (InputStream data = storage.getData(new GrpcDigest(parsedResource.getDigest()))) {
-        while (true) {
-          int read = data.read(buffer);
+        // Honor the offset and limit so that interrupted reads can be resumed.
+        ByteStreams.skipFully(data, request.getReadOffset());
+        long remaining = request.getReadLimit() > 0 ? request.getReadLimit() : Long.MAX_VALUE;
+        while (remaining > 0) {
+          int read = data.read(buffer, 0, (int) Math.min(buffer.length, remaining));
           if (read == -1) {
             break;
           }
+          remaining -= read;
           responseObserver.onNext(
               ReadResponse.newBuilder().setData(ByteString.copyFrom(buffer, 0, read)).build());
         }
@@ -29,22 +29,40 @@ import io.grpc.netty.shaded.io.grpc.netty.NettyServerBuilder;
 import io.grpc.netty.shaded.io.netty.channel.ChannelOption;
 import java.io.Closeable;
 import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.OptionalLong;
 import java.util.concurrent.TimeUnit;
 
 /** A simple remote execution server. */
 public class GrpcServer implements Closeable {
   private final Server server;
   private final NamedTemporaryDirectory workDir;
+  private final LocalContentAddressedStorage storage;
 
   public GrpcServer(int port) throws IOException {
+    this(port, Optional.empty(), 0);
+  }
+
+  /**
+   * If casDir is present the server's CAS is kept there across runs, bounded to casMaxSizeBytes.
+   */
+  public GrpcServer(int port, Optional<Path> casDir, long casMaxSizeBytes) throws IOException {
     workDir = new NamedTemporaryDirectory("__remote__");
-    GrpcRemoteExecutionServiceServer remoteExecution =
-        new GrpcRemoteExecutionServiceServer(
-            new LocalContentAddressedStorage(
+    DefaultBuckEventBus eventBus = new DefaultBuckEventBus(new DefaultClock(true), new BuildId());
+    storage =
+        casDir.isPresent()
+            ? new LocalContentAddressedStorage(
+                casDir.get(),
+                GrpcRemoteExecutionClients.PROTOCOL,
+                eventBus,
+                OptionalLong.of(casMaxSizeBytes))
+            : new LocalContentAddressedStorage(
                 workDir.getPath().resolve("__cache__"),
                 GrpcRemoteExecutionClients.PROTOCOL,
-                new DefaultBuckEventBus(new DefaultClock(true), new BuildId())),
-            workDir.getPath().resolve("__work__"));
+                eventBus);
+    GrpcRemoteExecutionServiceServer remoteExecution =
+        new GrpcRemoteExecutionServiceServer(storage, workDir.getPath().resolve("__work__"));
     NettyServerBuilder builder = NettyServerBuilder.forPort(port);
 
     builder.maxMessageSize(500 * 1024 * 1024);
@@ -62,6 +80,7 @@ public class GrpcServer implements Closeable {
     try (Closer closer = Closer.create()) {
       closer.register(server::shutdown);
       closer.register(workDir);
+      closer.register(storage::close);
     }
     try {
       server.awaitTermination(3, TimeUnit.SECONDS);
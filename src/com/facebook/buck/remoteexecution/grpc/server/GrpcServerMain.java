@@ -18,13 +18,18 @@ package com.facebook.buck.remoteexecution.grpc.server;
 
 import com.google.common.base.Preconditions;
 import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Optional;
 
 /** Runs the GrpcServer remote execution server. */
 public class GrpcServerMain {
-  /** Server entry point. */
+  /** Server entry point: {@code <port> [<persistent cas dir> <cas max size bytes>]}. */
   public static void main(String[] args) throws IOException, InterruptedException {
-    Preconditions.checkState(args.length == 1);
-    try (GrpcServer server = new GrpcServer(Integer.parseInt(args[0]))) {
+    Preconditions.checkState(args.length == 1 || args.length == 3);
+    Optional<Path> casDir = args.length == 3 ? Optional.of(Paths.get(args[1])) : Optional.empty();
+    long casMaxSizeBytes = args.length == 3 ? Long.parseLong(args[2]) : 0;
+    try (GrpcServer server = new GrpcServer(Integer.parseInt(args[0]), casDir, casMaxSizeBytes)) {
       server.awaitTermination();
     }
   }
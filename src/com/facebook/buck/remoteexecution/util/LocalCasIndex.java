@@ -0,0 +1,302 @@
+/*
+ * Copyright (c) Facebook, Inc. and its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.facebook.buck.remoteexecution.util;
+
+import com.facebook.buck.core.util.log.Logger;
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.base.Preconditions;
+import com.google.common.base.Splitter;
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.LongSupplier;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+
+/**
+ * A size-bounded LRU index over the blobs of a {@link LocalContentAddressedStorage}.
+ *
+ * <p>The index records the size and last access time of each blob and is saved to a file in the
+ * cache directory, so that the cache can be reused by later builds. When the total size goes over
+ * the budget, the least recently used blobs are deleted on a background executor until the total is
+ * back under a low watermark.
+ *
+ * <p>Blobs that have been accessed since the index was opened are never evicted: actions that are
+ * still in flight may depend on them, and the uploader remembers them as present. This means a
+ * single session that touches more data than the budget will temporarily exceed it.
+ */
+class LocalCasIndex {
+  private static final Logger LOG = Logger.get(LocalCasIndex.class);
+
+  static final String INDEX_FILE_NAME = "lru.index";
+  private static final String EXECUTABLE_SUFFIX = ".x";
+  private static final String TEMP_SUFFIX = ".tmp";
+  private static final double LOW_WATERMARK = 0.9;
+
+  /** Filesystem operations on the blobs, provided by the storage. */
+  interface Blobs {
+    /** Returns the size of the blob on disk, including any executable copy of it. */
+    long getSize(String hash) throws IOException;
+
+    /**
+     * Deletes the blob (and its executable copy), unless it was used again since it was picked for
+     * eviction and {@code isTracked} returns true for it.
+     */
+    void delete(String hash, Predicate<String> isTracked) throws IOException;
+  }
+
+  private static class Entry {
+    private long sizeBytes;
+    private long lastAccessMillis;
+
+    Entry(long sizeBytes, long lastAccessMillis) {
+      this.sizeBytes = sizeBytes;
+      this.lastAccessMillis = lastAccessMillis;
+    }
+  }
+
+  private final Path indexFile;
+  private final long maxSizeBytes;
+  private final Blobs blobs;
+  private final Executor evictionExecutor;
+  private final LongSupplier clock;
+  private final long sessionStartMillis;
+  private final AtomicBoolean evictionPending = new AtomicBoolean();
+
+  // Guarded by this. Iterates from the least to the most recently accessed blob.
+  private final LinkedHashMap<String, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+  private long totalSizeBytes = 0;
+
+  private LocalCasIndex(
+      Path indexFile,
+      long maxSizeBytes,
+      Blobs blobs,
+      Executor evictionExecutor,
+      LongSupplier clock) {
+    Preconditions.checkArgument(maxSizeBytes > 0);
+    this.indexFile = indexFile;
+    this.maxSizeBytes = maxSizeBytes;
+    this.blobs = blobs;
+    this.evictionExecutor = evictionExecutor;
+    this.clock = clock;
+    this.sessionStartMillis = clock.getAsLong();
+  }
+
+  /**
+   * Opens the index of the storage in cacheDir. If there's no saved index (or it can't be read),
+   * it is rebuilt from the blobs on disk, using their modification times as access times.
+   */
+  static LocalCasIndex open(
+      Path cacheDir,
+      long maxSizeBytes,
+      Blobs blobs,
+      Executor evictionExecutor,
+      LongSupplier clock)
+      throws IOException {
+    LocalCasIndex index =
+        new LocalCasIndex(
+            cacheDir.resolve(INDEX_FILE_NAME), maxSizeBytes, blobs, evictionExecutor, clock);
+    Map<String, Entry> loaded;
+    try {
+      loaded = index.load();
+    } catch (IOException | RuntimeException e) {
+      LOG.warn(e, "Unable to read local CAS index %s, rebuilding it.", index.indexFile);
+      loaded = scan(cacheDir);
+    }
+    index.addAll(loaded);
+    index.maybeScheduleEviction();
+    return index;
+  }
+
+  /** Records that a blob of the given size was written to the storage. */
+  void recordWrite(String hash, long sizeBytes) {
+    synchronized (this) {
+      Entry entry = entries.get(hash);
+      if (entry == null) {
+        entries.put(hash, new Entry(sizeBytes, clock.getAsLong()));
+      } else {
+        entry.sizeBytes += sizeBytes;
+        entry.lastAccessMillis = clock.getAsLong();
+      }
+      totalSizeBytes += sizeBytes;
+    }
+    maybeScheduleEviction();
+  }
+
+  /** Records that a blob which is present in the storage was used. */
+  void recordAccess(String hash) {
+    synchronized (this) {
+      Entry entry = entries.get(hash);
+      if (entry != null) {
+        entry.lastAccessMillis = clock.getAsLong();
+        return;
+      }
+    }
+    // The blob was written by a session that didn't get to save the index. Start tracking it.
+    long sizeBytes;
+    try {
+      sizeBytes = blobs.getSize(hash);
+    } catch (IOException e) {
+      return;
+    }
+    recordWrite(hash, sizeBytes);
+  }
+
+  synchronized boolean isTracked(String hash) {
+    return entries.containsKey(hash);
+  }
+
+  synchronized long getTotalSizeBytes() {
+    return totalSizeBytes;
+  }
+
+  private void maybeScheduleEviction() {
+    if (getTotalSizeBytes() > maxSizeBytes && evictionPending.compareAndSet(false, true)) {
+      evictionExecutor.execute(
+          () -> {
+            try {
+              evict();
+            } finally {
+              evictionPending.set(false);
+            }
+          });
+    }
+  }
+
+  /** Evicts least recently used blobs until the storage is back under the low watermark. */
+  @VisibleForTesting
+  void evict() {
+    List<String> evicted = new ArrayList<>();
+    synchronized (this) {
+      long targetSizeBytes = (long) (maxSizeBytes * LOW_WATERMARK);
+      Iterator<Map.Entry<String, Entry>> iterator = entries.entrySet().iterator();
+      while (totalSizeBytes > targetSizeBytes && iterator.hasNext()) {
+        Map.Entry<String, Entry> next = iterator.next();
+        // Everything after this has been accessed even more recently.
+        if (next.getValue().lastAccessMillis >= sessionStartMillis) {
+          break;
+        }
+        evicted.add(next.getKey());
+        totalSizeBytes -= next.getValue().sizeBytes;
+        iterator.remove();
+      }
+    }
+    for (String hash : evicted) {
+      try {
+        blobs.delete(hash, this::isTracked);
+      } catch (IOException e) {
+        LOG.warn(e, "Unable to evict %s from the local CAS.", hash);
+      }
+    }
+    if (!evicted.isEmpty()) {
+      LOG.debug("Evicted %d blobs from the local CAS.", evicted.size());
+      save();
+    }
+  }
+
+  /** Writes the index to disk. Failures are logged, the index will be rebuilt if it's unusable. */
+  void save() {
+    List<String> lines = new ArrayList<>();
+    synchronized (this) {
+      entries.forEach(
+          (hash, entry) -> lines.add(hash + " " + entry.sizeBytes + " " + entry.lastAccessMillis));
+    }
+    Path tempFile = indexFile.resolveSibling(indexFile.getFileName() + TEMP_SUFFIX);
+    try {
+      try (BufferedWriter writer = Files.newBufferedWriter(tempFile, StandardCharsets.UTF_8)) {
+        for (String line : lines) {
+          writer.write(line);
+          writer.newLine();
+        }
+      }
+      Files.move(tempFile, indexFile, StandardCopyOption.REPLACE_EXISTING);
+    } catch (IOException e) {
+      LOG.warn(e, "Unable to save local CAS index %s.", indexFile);
+    }
+  }
+
+  private synchronized void addAll(Map<String, Entry> loaded) {
+    loaded.entrySet().stream()
+        .sorted(Comparator.comparingLong(e -> e.getValue().lastAccessMillis))
+        .forEach(
+            e -> {
+              entries.put(e.getKey(), e.getValue());
+              totalSizeBytes += e.getValue().sizeBytes;
+            });
+  }
+
+  private Map<String, Entry> load() throws IOException {
+    Map<String, Entry> loaded = new HashMap<>();
+    if (!Files.exists(indexFile)) {
+      throw new IOException("Index file doesn't exist.");
+    }
+    try (BufferedReader reader = Files.newBufferedReader(indexFile, StandardCharsets.UTF_8)) {
+      String line;
+      while ((line = reader.readLine()) != null) {
+        List<String> parts = Splitter.on(' ').splitToList(line);
+        Preconditions.checkState(parts.size() == 3, "Malformed index line: %s", line);
+        loaded.put(
+            parts.get(0), new Entry(Long.parseLong(parts.get(1)), Long.parseLong(parts.get(2))));
+      }
+    }
+    return loaded;
+  }
+
+  private static Map<String, Entry> scan(Path cacheDir) throws IOException {
+    Map<String, Entry> scanned = new HashMap<>();
+    if (!Files.isDirectory(cacheDir)) {
+      return scanned;
+    }
+    try (Stream<Path> files = Files.walk(cacheDir)) {
+      for (Path path : (Iterable<Path>) files::iterator) {
+        String name = path.getFileName().toString();
+        if (!Files.isRegularFile(path)
+            || name.endsWith(TEMP_SUFFIX)
+            || name.equals(INDEX_FILE_NAME)) {
+          continue;
+        }
+        String hash =
+            name.endsWith(EXECUTABLE_SUFFIX)
+                ? name.substring(0, name.length() - EXECUTABLE_SUFFIX.length())
+                : name;
+        long sizeBytes = Files.size(path);
+        long lastModifiedMillis = Files.getLastModifiedTime(path).toMillis();
+        Entry entry = scanned.get(hash);
+        if (entry == null) {
+          scanned.put(hash, new Entry(sizeBytes, lastModifiedMillis));
+        } else {
+          entry.sizeBytes += sizeBytes;
+          entry.lastAccessMillis = Math.max(entry.lastAccessMillis, lastModifiedMillis);
+        }
+      }
+    }
+    return scanned;
+  }
+}
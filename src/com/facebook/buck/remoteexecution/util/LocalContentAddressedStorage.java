@@ -17,6 +17,7 @@
 package com.facebook.buck.remoteexecution.util;
 
 import com.facebook.buck.core.exceptions.BuckUncheckedExecutionException;
+import com.facebook.buck.core.util.log.Logger;
 import com.facebook.buck.event.BuckEventBus;
 import com.facebook.buck.io.file.MorePaths;
 import com.facebook.buck.io.windowsfs.WindowsFS;
@@ -63,16 +64,31 @@ import java.nio.file.Paths;
 import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.OptionalLong;
 import java.util.Set;
 import java.util.concurrent.Callable;
 import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.Consumer;
+import java.util.function.Predicate;
 import java.util.stream.Stream;
 
-/** A simple, on-disk content addressed storage. */
+/**
+ * A simple, on-disk content addressed storage.
+ *
+ * <p>If it is given a size budget, the storage keeps a persistent {@link LocalCasIndex} and evicts
+ * least recently used blobs in the background, so that it can be used as a long-lived cache.
+ */
 public class LocalContentAddressedStorage implements ContentAddressedStorageClient {
+  private static final Logger LOG = Logger.get(LocalContentAddressedStorage.class);
+
   private final Path cacheDir;
   private final StripedKeyedLocker<String> fileLock = new StripedKeyedLocker<>(8);
+  private final Optional<LocalCasIndex> index;
+  private final Optional<ExecutorService> evictionService;
+  // Cleared the first time a hard link fails (e.g. when the sandbox is on another device).
+  private final AtomicBoolean hardLinksSupported = new AtomicBoolean(true);
 
   private static final int MISSING_CHECK_LIMIT = 1000;
   private static final int SIZE_LIMIT = 10 * 1024 * 1024;
@@ -84,8 +100,25 @@ public class LocalContentAddressedStorage implements ContentAddressedStorageClie
   private final AsyncBlobFetcher fetcher;
 
   public LocalContentAddressedStorage(Path cacheDir, Protocol protocol, BuckEventBus buckEventBus) {
+    this(cacheDir, protocol, buckEventBus, OptionalLong.empty());
+  }
+
+  /**
+   * @param maxSizeBytes if present, least recently used blobs are evicted once the storage grows
+   *     over this size.
+   */
+  public LocalContentAddressedStorage(
+      Path cacheDir, Protocol protocol, BuckEventBus buckEventBus, OptionalLong maxSizeBytes) {
     this.cacheDir = cacheDir;
     this.protocol = protocol;
+    this.evictionService =
+        maxSizeBytes.isPresent()
+            ? Optional.of(MostExecutors.newSingleThreadExecutor("local-cas-eviction"))
+            : Optional.empty();
+    this.index =
+        maxSizeBytes.isPresent()
+            ? Optional.of(openIndex(maxSizeBytes.getAsLong(), evictionService.get()))
+            : Optional.empty();
     ExecutorService uploadService = MostExecutors.newMultiThreadExecutor("local-cas-write", 4);
     this.uploader =
         new MultiThreadedBlobUploader(
@@ -112,7 +145,8 @@ public class LocalContentAddressedStorage implements ContentAddressedStorageClie
                     .map(Protocol.Digest::getHash)
                     .collect(ImmutableSet.toImmutableSet());
               }
-            });
+            },
+            buckEventBus);
     this.fetcher =
         new AsyncBlobFetcher() {
           @Override
@@ -183,6 +217,8 @@ public class LocalContentAddressedStorage implements ContentAddressedStorageClie
                         Files.copy(path, tempPath);
                         Preconditions.checkState(tempPath.toFile().setExecutable(true));
                         Files.move(tempPath, exePath);
+                        String hash = file.getDigest().getHash();
+                        index.ifPresent(i -> i.recordWrite(hash, file.getDigest().getSize()));
                       }
                     }
                   }
@@ -192,7 +228,7 @@ public class LocalContentAddressedStorage implements ContentAddressedStorageClie
                 Path normalized = target.normalize();
                 Preconditions.checkState(
                     normalized.startsWith(root), "%s doesn't start with %s.", normalized, root);
-                Files.createLink(target, path);
+                linkOrCopy(path, target, file.getIsExecutable());
               }
 
               @Override
@@ -211,6 +247,7 @@ public class LocalContentAddressedStorage implements ContentAddressedStorageClie
         Path path = ensureParent(getPath(hash));
         try (AutoUnlocker ignored = fileLock.writeLock(hash)) {
           if (Files.exists(path)) {
+            index.ifPresent(i -> i.recordAccess(hash));
             continue;
           }
           Path tempPath = path.getParent().resolve(path.getFileName() + ".tmp");
@@ -220,6 +257,7 @@ public class LocalContentAddressedStorage implements ContentAddressedStorageClie
             ByteStreams.copy(dataStream, outputStream);
           }
           Files.move(tempPath, path);
+          index.ifPresent(i -> i.recordWrite(hash, data.getDigest().getSize()));
         }
         responseBuilder.add(new UploadResult(data.getDigest(), 0, null));
       } catch (IOException e) {
@@ -363,9 +401,84 @@ public class LocalContentAddressedStorage implements ContentAddressedStorageClie
   public FileInputStream getFileInputStream(Protocol.Digest digest) throws IOException {
     Path path = getPath(digest.getHash());
     Preconditions.checkState(Files.exists(path), "Couldn't find %s.", path);
+    index.ifPresent(i -> i.recordAccess(digest.getHash()));
     return new FileInputStream(path.toFile());
   }
 
+  /**
+   * Waits for any running eviction and saves the LRU index (if any) so that the next storage opened
+   * on this directory can use it.
+   */
+  public void close() {
+    if (evictionService.isPresent()) {
+      evictionService.get().shutdown();
+      try {
+        if (!evictionService.get().awaitTermination(1, TimeUnit.MINUTES)) {
+          LOG.warn("Timed out waiting for local CAS eviction in %s.", cacheDir);
+        }
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+    }
+    index.ifPresent(LocalCasIndex::save);
+  }
+
+  private LocalCasIndex openIndex(long maxSizeBytes, ExecutorService evictionService) {
+    try {
+      return LocalCasIndex.open(
+          cacheDir,
+          maxSizeBytes,
+          new LocalCasIndex.Blobs() {
+            @Override
+            public long getSize(String hash) throws IOException {
+              Path path = getPath(hash);
+              Path exePath = path.resolveSibling(path.getFileName() + ".x");
+              return Files.size(path) + (Files.exists(exePath) ? Files.size(exePath) : 0);
+            }
+
+            @Override
+            public void delete(String hash, Predicate<String> isTracked) throws IOException {
+              try (AutoUnlocker ignored = fileLock.writeLock(hash)) {
+                // The blob may have been written or used again since it was picked for eviction.
+                if (isTracked.test(hash)) {
+                  return;
+                }
+                Path path = getPath(hash);
+                Files.deleteIfExists(path.resolveSibling(path.getFileName() + ".x"));
+                Files.deleteIfExists(path);
+              }
+            }
+          },
+          evictionService,
+          System::currentTimeMillis);
+    } catch (IOException e) {
+      throw new BuckUncheckedExecutionException(e, "When opening local CAS index in %s.", cacheDir);
+    }
+  }
+
+  /**
+   * Hard links a blob into a sandbox. Links share the blob's inode, so this falls back to a copy if
+   * the filesystem doesn't support them (or the sandbox is on another device).
+   */
+  private void linkOrCopy(Path blob, Path target, boolean executable) throws IOException {
+    if (hardLinksSupported.get()) {
+      try {
+        Files.createLink(target, blob);
+        return;
+      } catch (UnsupportedOperationException | IOException e) {
+        if (Files.exists(target)) {
+          throw e;
+        }
+        LOG.info(e, "Unable to hard link local CAS blobs into %s, copying instead.", target);
+        hardLinksSupported.set(false);
+      }
+    }
+    Files.copy(blob, target);
+    if (executable) {
+      Preconditions.checkState(target.toFile().setExecutable(true));
+    }
+  }
+
   private static Path ensureParent(Path path) throws IOException {
     MoreFiles.createParentDirectories(path);
     return path;
@@ -379,6 +492,19 @@ public class LocalContentAddressedStorage implements ContentAddressedStorageClie
   }
 
   public Stream<Protocol.Digest> findMissing(Iterable<Protocol.Digest> digests) {
-    return RichStream.from(digests).filter(digest -> !Files.exists(getPath(digest.getHash())));
+    return RichStream.from(digests)
+        .filter(
+            digest -> {
+              String hash = digest.getHash();
+              // Under the blob's lock, so that eviction either deletes it before we look or sees
+              // that it was used in this session and keeps it until it has been read.
+              try (AutoUnlocker ignored = fileLock.writeLock(hash)) {
+                if (!Files.exists(getPath(hash))) {
+                  return true;
+                }
+                index.ifPresent(i -> i.recordAccess(hash));
+                return false;
+              }
+            });
   }
 }
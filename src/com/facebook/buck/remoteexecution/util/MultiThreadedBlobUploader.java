@@ -20,9 +20,11 @@ import static com.google.common.util.concurrent.MoreExecutors.directExecutor;
 
 import com.facebook.buck.core.exceptions.ThrowableCauseIterable;
 import com.facebook.buck.core.util.log.Logger;
+import com.facebook.buck.event.BuckEventBus;
 import com.facebook.buck.remoteexecution.CasBlobUploader;
 import com.facebook.buck.remoteexecution.CasBlobUploader.UploadResult;
 import com.facebook.buck.remoteexecution.UploadDataSupplier;
+import com.facebook.buck.remoteexecution.event.CasFindMissingEvent;
 import com.facebook.buck.remoteexecution.interfaces.Protocol.Digest;
 import com.facebook.buck.util.concurrent.MoreFutures;
 import com.facebook.buck.util.types.Unit;
@@ -45,6 +47,7 @@ import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.LinkedBlockingDeque;
 import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -58,6 +61,9 @@ import java.util.stream.Stream;
  * does/doesn't contain. Any that are missing will be added to a queue to be uploaded. Work threads
  * will then pull those off and upload them. When the upload is finished, the future for that digest
  * will be fulfilled.
+ *
+ * <p>How long the items waited for their missing check is reported with a {@link
+ * CasFindMissingEvent} for each request.
  */
 public class MultiThreadedBlobUploader {
   private static final Logger LOG = Logger.get(MultiThreadedBlobUploader.class);
@@ -75,10 +81,12 @@ public class MultiThreadedBlobUploader {
 
   private final ExecutorService uploadService;
   private final CasBlobUploader asyncBlobUploader;
+  private final BuckEventBus buckEventBus;
 
   private static class PendingUpload {
     private final UploadDataSupplier uploadData;
     private final SettableFuture<Unit> future;
+    private final long enqueuedNanos = System.nanoTime();
 
     PendingUpload(UploadDataSupplier uploadData, SettableFuture<Unit> future) {
       this.uploadData = uploadData;
@@ -98,11 +106,13 @@ public class MultiThreadedBlobUploader {
       int missingCheckLimit,
       int uploadSizeLimit,
       ExecutorService uploadService,
-      CasBlobUploader delegate) {
+      CasBlobUploader delegate,
+      BuckEventBus buckEventBus) {
     this.missingCheckLimit = missingCheckLimit;
     this.uploadSizeLimit = uploadSizeLimit;
     this.uploadService = uploadService;
     this.asyncBlobUploader = delegate;
+    this.buckEventBus = buckEventBus;
   }
 
   public boolean containsDigest(Digest digest) {
@@ -178,6 +188,7 @@ public class MultiThreadedBlobUploader {
     }
 
     ImmutableList<PendingUpload> data = dataBuilder.build();
+    postFindMissingEvent(data);
 
     try {
       Set<Digest> requiredDigests =
@@ -203,6 +214,18 @@ public class MultiThreadedBlobUploader {
     }
   }
 
+  private void postFindMissingEvent(ImmutableList<PendingUpload> data) {
+    long now = System.nanoTime();
+    long totalQueueTimeMs = 0;
+    long maxQueueTimeMs = 0;
+    for (PendingUpload entry : data) {
+      long queueTimeMs = TimeUnit.NANOSECONDS.toMillis(now - entry.enqueuedNanos);
+      totalQueueTimeMs += queueTimeMs;
+      maxQueueTimeMs = Math.max(maxQueueTimeMs, queueTimeMs);
+    }
+    CasFindMissingEvent.postEvent(buckEventBus, data.size(), totalQueueTimeMs, maxQueueTimeMs);
+  }
+
   private void processUploads() {
     processMissing();
     ImmutableMap.Builder<String, PendingUpload> dataBuilder = ImmutableMap.builder();
@@ -45,6 +45,7 @@ import java.io.IOException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.Optional;
+import java.util.OptionalLong;
 
 /** IsolatedExecution implementation that will run buildrules in a subprocess. */
 public class OutOfProcessIsolatedExecutionClients implements RemoteExecutionClients {
@@ -59,15 +60,32 @@ public class OutOfProcessIsolatedExecutionClients implements RemoteExecutionClie
    */
   public static OutOfProcessIsolatedExecutionClients create(
       Protocol protocol, BuckEventBus eventBus) throws IOException {
-    return new OutOfProcessIsolatedExecutionClients(protocol, eventBus);
+    return new OutOfProcessIsolatedExecutionClients(protocol, eventBus, Optional.empty(), 0);
   }
 
-  private OutOfProcessIsolatedExecutionClients(final Protocol protocol, BuckEventBus eventBus)
+  /**
+   * Like {@link #create(Protocol, BuckEventBus)}, but if casDir is present the CAS is kept there
+   * across builds, bounded to casMaxSizeBytes.
+   */
+  public static OutOfProcessIsolatedExecutionClients create(
+      Protocol protocol, BuckEventBus eventBus, Optional<Path> casDir, long casMaxSizeBytes)
+      throws IOException {
+    return new OutOfProcessIsolatedExecutionClients(protocol, eventBus, casDir, casMaxSizeBytes);
+  }
+
+  private OutOfProcessIsolatedExecutionClients(
+      final Protocol protocol,
+      BuckEventBus eventBus,
+      Optional<Path> casDir,
+      long casMaxSizeBytes)
       throws IOException {
     this.workDir = new NamedTemporaryDirectory("__work__");
     this.storage =
-        new LocalContentAddressedStorage(
-            workDir.getPath().resolve("__cache__"), protocol, eventBus);
+        casDir.isPresent()
+            ? new LocalContentAddressedStorage(
+                casDir.get(), protocol, eventBus, OptionalLong.of(casMaxSizeBytes))
+            : new LocalContentAddressedStorage(
+                workDir.getPath().resolve("__cache__"), protocol, eventBus);
     this.protocol = protocol;
     this.executionService =
         (actionDigest, ruleName, metadataProvider) -> {
@@ -176,6 +194,7 @@ public class OutOfProcessIsolatedExecutionClients implements RemoteExecutionClie
 
   @Override
   public void close() throws IOException {
+    storage.close();
     workDir.close();
   }
 }
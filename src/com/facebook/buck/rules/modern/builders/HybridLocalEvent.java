@@ -19,6 +19,7 @@ package com.facebook.buck.rules.modern.builders;
 import com.facebook.buck.core.model.BuildTarget;
 import com.facebook.buck.event.AbstractBuckEvent;
 import com.facebook.buck.event.EventKey;
+import java.util.OptionalLong;
 
 /** Tracks events related to {@link HybridLocalStrategy}. */
 public abstract class HybridLocalEvent extends AbstractBuckEvent {
@@ -30,6 +31,20 @@ public abstract class HybridLocalEvent extends AbstractBuckEvent {
     return new Stolen(buildTarget);
   }
 
+  public static Scheduled createScheduled(
+      BuildTarget buildTarget,
+      Placement placement,
+      OptionalLong predictedLocalNanos,
+      OptionalLong predictedDelegateNanos) {
+    return new Scheduled(buildTarget, placement, predictedLocalNanos, predictedDelegateNanos);
+  }
+
+  /** Where the HybridLocalStrategy builds a rule. */
+  public enum Placement {
+    LOCAL,
+    DELEGATE,
+  }
+
   @Override
   public String getEventName() {
     return getClass().getSimpleName();
@@ -52,4 +67,53 @@ public abstract class HybridLocalEvent extends AbstractBuckEvent {
       return String.format("BuildTarget=[%s]", buildTarget.getFullyQualifiedName());
     }
   }
+
+  /**
+   * When the HybridLocalStrategy, in adaptive mode, decides where to build a rule that could be
+   * built either locally or by the delegate. The predictions are the measured build times of rules
+   * of the same type, if any.
+   */
+  public static class Scheduled extends HybridLocalEvent {
+    private final BuildTarget buildTarget;
+    private final Placement placement;
+    private final OptionalLong predictedLocalNanos;
+    private final OptionalLong predictedDelegateNanos;
+
+    private Scheduled(
+        BuildTarget buildTarget,
+        Placement placement,
+        OptionalLong predictedLocalNanos,
+        OptionalLong predictedDelegateNanos) {
+      this.buildTarget = buildTarget;
+      this.placement = placement;
+      this.predictedLocalNanos = predictedLocalNanos;
+      this.predictedDelegateNanos = predictedDelegateNanos;
+    }
+
+    public BuildTarget getBuildTarget() {
+      return buildTarget;
+    }
+
+    public Placement getPlacement() {
+      return placement;
+    }
+
+    public OptionalLong getPredictedLocalNanos() {
+      return predictedLocalNanos;
+    }
+
+    public OptionalLong getPredictedDelegateNanos() {
+      return predictedDelegateNanos;
+    }
+
+    @Override
+    protected String getValueString() {
+      return String.format(
+          "BuildTarget=[%s] Placement=[%s] PredictedLocalNanos=[%s] PredictedDelegateNanos=[%s]",
+          buildTarget.getFullyQualifiedName(),
+          placement,
+          predictedLocalNanos,
+          predictedDelegateNanos);
+    }
+  }
 }
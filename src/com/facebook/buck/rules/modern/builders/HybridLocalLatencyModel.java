@@ -0,0 +1,110 @@
+/*
+ * Copyright (c) Facebook, Inc. and its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.facebook.buck.rules.modern.builders;
+
+import com.facebook.buck.rules.modern.builders.HybridLocalEvent.Placement;
+import java.util.OptionalLong;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Measures how long rules take when built locally and when built by the delegate of a {@link
+ * HybridLocalStrategy}, and predicts where a rule will finish sooner.
+ *
+ * <p>Execution times are tracked per rule type, queue times per placement. All of them are
+ * exponentially weighted moving averages so that the model follows changes in load over the course
+ * of a build. Delegate execution times cover the whole round trip (uploading inputs, running
+ * remotely and downloading outputs), since that's what the build waits for.
+ */
+class HybridLocalLatencyModel {
+  private static final double WEIGHT = 0.25;
+
+  private static class MovingAverage {
+    private double value;
+    private boolean hasValue = false;
+
+    synchronized void add(long sample) {
+      value = hasValue ? value + WEIGHT * (sample - value) : sample;
+      hasValue = true;
+    }
+
+    synchronized OptionalLong get() {
+      return hasValue ? OptionalLong.of((long) value) : OptionalLong.empty();
+    }
+  }
+
+  private final ConcurrentMap<String, MovingAverage> localExecutionNanos =
+      new ConcurrentHashMap<>();
+  private final ConcurrentMap<String, MovingAverage> delegateExecutionNanos =
+      new ConcurrentHashMap<>();
+  private final MovingAverage localQueueNanos = new MovingAverage();
+  private final MovingAverage delegateQueueNanos = new MovingAverage();
+
+  /** Records how long a job waited before being started with the given placement. */
+  void recordQueued(Placement placement, long nanos) {
+    (placement == Placement.LOCAL ? localQueueNanos : delegateQueueNanos).add(nanos);
+  }
+
+  /** Records how long a successful job of the given rule type took with the given placement. */
+  void recordExecuted(Placement placement, String ruleType, long nanos) {
+    getExecutionNanos(placement)
+        .computeIfAbsent(ruleType, ignored -> new MovingAverage())
+        .add(nanos);
+  }
+
+  OptionalLong predictExecutionNanos(Placement placement, String ruleType) {
+    MovingAverage average = getExecutionNanos(placement).get(ruleType);
+    return average == null ? OptionalLong.empty() : average.get();
+  }
+
+  long predictQueueNanos(Placement placement) {
+    return (placement == Placement.LOCAL ? localQueueNanos : delegateQueueNanos).get().orElse(0);
+  }
+
+  /**
+   * Returns how much sooner a rule of the given type is expected to finish if it's started locally
+   * right now instead of being sent to the delegate, which would start it after delegateWaitNanos.
+   * Negative values mean that the delegate is expected to be faster. If either side hasn't built
+   * this type of rule yet, both are assumed to take the same time.
+   */
+  long getLocalAdvantageNanos(String ruleType, long delegateWaitNanos) {
+    OptionalLong local = predictExecutionNanos(Placement.LOCAL, ruleType);
+    OptionalLong delegate = predictExecutionNanos(Placement.DELEGATE, ruleType);
+    if (!local.isPresent() || !delegate.isPresent()) {
+      return delegateWaitNanos;
+    }
+    return delegateWaitNanos + delegate.getAsLong() - local.getAsLong();
+  }
+
+  /**
+   * Returns whether a rule of the given type that has been running on the delegate for
+   * elapsedNanos is expected to finish sooner if it's restarted locally. With no data, stealing is
+   * assumed to be worth it.
+   */
+  boolean isStealingWorthwhile(String ruleType, long elapsedNanos) {
+    OptionalLong local = predictExecutionNanos(Placement.LOCAL, ruleType);
+    OptionalLong delegate = predictExecutionNanos(Placement.DELEGATE, ruleType);
+    if (!local.isPresent() || !delegate.isPresent()) {
+      return true;
+    }
+    return local.getAsLong() < delegate.getAsLong() - elapsedNanos;
+  }
+
+  private ConcurrentMap<String, MovingAverage> getExecutionNanos(Placement placement) {
+    return placement == Placement.LOCAL ? localExecutionNanos : delegateExecutionNanos;
+  }
+}
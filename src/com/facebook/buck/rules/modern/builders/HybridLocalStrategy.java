@@ -20,15 +20,21 @@ import com.facebook.buck.core.build.engine.BuildResult;
 import com.facebook.buck.core.build.engine.BuildStrategyContext;
 import com.facebook.buck.core.build.engine.DelegatingBuildStrategyContext;
 import com.facebook.buck.core.exceptions.BuckUncheckedExecutionException;
+import com.facebook.buck.core.model.BuildTarget;
 import com.facebook.buck.core.rules.BuildRule;
 import com.facebook.buck.core.rules.build.strategy.BuildRuleStrategy;
 import com.facebook.buck.core.util.log.Logger;
 import com.facebook.buck.event.BuckEventBus;
 import com.facebook.buck.remoteexecution.WorkerRequirementsProvider;
 import com.facebook.buck.remoteexecution.proto.WorkerRequirements;
+import com.facebook.buck.rules.modern.builders.HybridLocalEvent.Placement;
 import com.facebook.buck.util.Scope;
+import com.facebook.buck.util.timing.Clock;
+import com.facebook.buck.util.timing.DefaultClock;
 import com.facebook.buck.util.types.Unit;
+import com.google.common.annotations.VisibleForTesting;
 import com.google.common.base.Verify;
+import com.google.common.collect.ImmutableSet;
 import com.google.common.util.concurrent.FutureCallback;
 import com.google.common.util.concurrent.Futures;
 import com.google.common.util.concurrent.ListenableFuture;
@@ -36,14 +42,20 @@ import com.google.common.util.concurrent.ListeningExecutorService;
 import com.google.common.util.concurrent.MoreExecutors;
 import com.google.common.util.concurrent.SettableFuture;
 import java.io.IOException;
+import java.util.Iterator;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.concurrent.CancellationException;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentLinkedDeque;
 import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.Executors;
 import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Supplier;
+import java.util.function.ToLongFunction;
 import javax.annotation.Nullable;
 
 /**
@@ -53,6 +65,12 @@ import javax.annotation.Nullable;
  * <p>It has a configurable limit for the number of active jobs to allow locally, and for the number
  * to allow to the delegate. It prefers to send them locally if the limit there hasn't been reached.
  * If both are at the limit, the jobs will be queued until space becomes available.
+ *
+ * <p>In adaptive mode, it measures how long each type of rule takes locally and on the delegate
+ * (see {@link HybridLocalLatencyModel}). A free local slot then picks the type of job that gains
+ * the most from running locally, and leaves jobs that are expected to finish sooner on the delegate
+ * (including its queueing time) alone. Delegate jobs are only stolen when restarting them locally
+ * is expected to finish sooner than waiting for the delegate.
  */
 public class HybridLocalStrategy implements BuildRuleStrategy {
   private static final Logger LOG = Logger.get(HybridLocalStrategy.class);
@@ -62,7 +80,7 @@ public class HybridLocalStrategy implements BuildRuleStrategy {
   // Queue for Jobs that cannot be run on the delegate
   private final ConcurrentLinkedQueue<Job> pendingLocalQueue;
   // Queue for Jobs that can be run on the delegate or locally
-  private final ConcurrentLinkedQueue<Job> pendingDelegateOrLocalQueue;
+  private final FlexibleJobQueue pendingDelegateOrLocalQueue;
   // Queue for Jobs that can only be run on delegate
   private final ConcurrentLinkedQueue<Job> pendingDelegateOnlyQueue;
 
@@ -73,6 +91,11 @@ public class HybridLocalStrategy implements BuildRuleStrategy {
 
   private final DelegateJobTracker tracker = new DelegateJobTracker();
 
+  // Present in adaptive mode.
+  private final Optional<HybridLocalLatencyModel> latencyModel;
+  private final Clock clock;
+  private final AtomicLong jobSequenceNumber = new AtomicLong();
+
   private final ListeningExecutorService scheduler =
       MoreExecutors.listeningDecorator(Executors.newSingleThreadExecutor());
 
@@ -85,7 +108,7 @@ public class HybridLocalStrategy implements BuildRuleStrategy {
   // If this is non-null, we've hit some unexpected unrecoverable condition.
   @Nullable private volatile Throwable hardFailure;
 
-  private static class DelegateJobTracker {
+  private class DelegateJobTracker {
     ConcurrentLinkedDeque<Job> delegateJobs = new ConcurrentLinkedDeque<>();
 
     void register(Job job) {
@@ -94,11 +117,13 @@ public class HybridLocalStrategy implements BuildRuleStrategy {
 
     @Nullable
     ListenableFuture<?> stealFromDelegate(BuckEventBus eventBus) {
-      while (true) {
-        Job job = delegateJobs.pollLast();
-        if (job == null) {
-          return null;
+      Iterator<Job> candidates = delegateJobs.descendingIterator();
+      while (candidates.hasNext()) {
+        Job job = candidates.next();
+        if (!job.future.isDone() && !isStealingWorthwhile(job)) {
+          continue;
         }
+        candidates.remove();
         try {
           ListenableFuture<?> listenableFuture =
               job.rescheduleLocally(new CancellationException("Job is being stolen."));
@@ -117,6 +142,123 @@ public class HybridLocalStrategy implements BuildRuleStrategy {
           return null;
         }
       }
+      return null;
+    }
+
+    private boolean isStealingWorthwhile(Job job) {
+      return latencyModel
+          .map(
+              model ->
+                  model.isStealingWorthwhile(
+                      job.rule.getType(), clock.nanoTime() - job.delegateStartedNanos))
+          .orElse(true);
+    }
+  }
+
+  /**
+   * Jobs that can be built either locally or by the delegate, grouped by rule type. Without a
+   * latency model, jobs are handed out in the order they were added to whichever side asks. With
+   * one, each side gets the type of job that it's expected to build the fastest relative to the
+   * other side.
+   */
+  private class FlexibleJobQueue {
+    // Only the scheduler thread polls from the queues.
+    private final ConcurrentMap<String, ConcurrentLinkedQueue<Job>> jobsByType =
+        new ConcurrentHashMap<>();
+
+    void add(Job job) {
+      jobsByType
+          .computeIfAbsent(job.rule.getType(), ignored -> new ConcurrentLinkedQueue<>())
+          .add(job);
+    }
+
+    /** Returns the oldest job. */
+    @Nullable
+    Job poll() {
+      return pollBest(ignored -> 0L);
+    }
+
+    /**
+     * Returns the job that gains the most from being built locally right now, or null if every
+     * queued job is expected to finish sooner on the delegate.
+     */
+    @Nullable
+    Job pollForLocal() {
+      if (!latencyModel.isPresent()) {
+        return poll();
+      }
+      HybridLocalLatencyModel model = latencyModel.get();
+      long delegateWaitNanos =
+          delegateSemaphore.availablePermits() > 0
+              ? 0
+              : model.predictQueueNanos(Placement.DELEGATE);
+      ToLongFunction<String> localAdvantage =
+          type -> model.getLocalAdvantageNanos(type, delegateWaitNanos);
+      ConcurrentLinkedQueue<Job> best = selectQueue(localAdvantage);
+      if (best == null || localAdvantage.applyAsLong(getType(best)) < 0) {
+        return null;
+      }
+      return postDecision(best.poll(), Placement.LOCAL);
+    }
+
+    /** Returns the job that gains the most from being built by the delegate. */
+    @Nullable
+    Job pollForDelegate() {
+      if (!latencyModel.isPresent()) {
+        return poll();
+      }
+      HybridLocalLatencyModel model = latencyModel.get();
+      return postDecision(
+          pollBest(type -> -model.getLocalAdvantageNanos(type, 0)), Placement.DELEGATE);
+    }
+
+    @Nullable
+    private Job pollBest(ToLongFunction<String> score) {
+      ConcurrentLinkedQueue<Job> best = selectQueue(score);
+      return best == null ? null : best.poll();
+    }
+
+    // Picks the queue with the highest score for its type, breaking ties by the age of its oldest
+    // job.
+    @Nullable
+    private ConcurrentLinkedQueue<Job> selectQueue(ToLongFunction<String> score) {
+      ConcurrentLinkedQueue<Job> best = null;
+      long bestScore = 0;
+      long bestSequenceNumber = 0;
+      for (Map.Entry<String, ConcurrentLinkedQueue<Job>> entry : jobsByType.entrySet()) {
+        Job head = entry.getValue().peek();
+        if (head == null) {
+          continue;
+        }
+        long typeScore = score.applyAsLong(entry.getKey());
+        if (best == null
+            || typeScore > bestScore
+            || (typeScore == bestScore && head.sequenceNumber < bestSequenceNumber)) {
+          best = entry.getValue();
+          bestScore = typeScore;
+          bestSequenceNumber = head.sequenceNumber;
+        }
+      }
+      return best;
+    }
+
+    private String getType(ConcurrentLinkedQueue<Job> queue) {
+      return Objects.requireNonNull(queue.peek()).rule.getType();
+    }
+
+    @Nullable
+    private Job postDecision(@Nullable Job job, Placement placement) {
+      if (job != null) {
+        HybridLocalLatencyModel model = latencyModel.get();
+        String type = job.rule.getType();
+        eventBus.post(
+            HybridLocalEvent.createScheduled(
+                job.rule.getBuildTarget(),
+                placement,
+                model.predictExecutionNanos(Placement.LOCAL, type),
+                model.predictExecutionNanos(Placement.DELEGATE, type)));
+      }
+      return job;
     }
   }
 
@@ -129,6 +271,53 @@ public class HybridLocalStrategy implements BuildRuleStrategy {
       Optional<WorkerRequirements.WorkerSize> maxWorkerSizeToStealFrom,
       String auxiliaryBuildTag,
       BuckEventBus eventBus) {
+    this(
+        numLocalJobs,
+        numLocalDelegateJobs,
+        numDelegateJobs,
+        delegate,
+        workerRequirementsProvider,
+        maxWorkerSizeToStealFrom,
+        auxiliaryBuildTag,
+        false,
+        eventBus);
+  }
+
+  public HybridLocalStrategy(
+      int numLocalJobs,
+      int numLocalDelegateJobs,
+      int numDelegateJobs,
+      BuildRuleStrategy delegate,
+      WorkerRequirementsProvider workerRequirementsProvider,
+      Optional<WorkerRequirements.WorkerSize> maxWorkerSizeToStealFrom,
+      String auxiliaryBuildTag,
+      boolean adaptiveScheduling,
+      BuckEventBus eventBus) {
+    this(
+        numLocalJobs,
+        numLocalDelegateJobs,
+        numDelegateJobs,
+        delegate,
+        workerRequirementsProvider,
+        maxWorkerSizeToStealFrom,
+        auxiliaryBuildTag,
+        adaptiveScheduling ? Optional.of(new HybridLocalLatencyModel()) : Optional.empty(),
+        new DefaultClock(),
+        eventBus);
+  }
+
+  @VisibleForTesting
+  HybridLocalStrategy(
+      int numLocalJobs,
+      int numLocalDelegateJobs,
+      int numDelegateJobs,
+      BuildRuleStrategy delegate,
+      WorkerRequirementsProvider workerRequirementsProvider,
+      Optional<WorkerRequirements.WorkerSize> maxWorkerSizeToStealFrom,
+      String auxiliaryBuildTag,
+      Optional<HybridLocalLatencyModel> latencyModel,
+      Clock clock,
+      BuckEventBus eventBus) {
     this.delegate = delegate;
     this.workerRequirementsProvider = workerRequirementsProvider;
     this.maxWorkerSizeToStealFrom = maxWorkerSizeToStealFrom;
@@ -137,8 +326,10 @@ public class HybridLocalStrategy implements BuildRuleStrategy {
     this.localDelegateSemaphore = new Semaphore(numLocalDelegateJobs);
     this.delegateSemaphore = new Semaphore(numDelegateJobs);
     this.eventBus = eventBus;
+    this.latencyModel = latencyModel;
+    this.clock = clock;
     this.pendingLocalQueue = new ConcurrentLinkedQueue<>();
-    this.pendingDelegateOrLocalQueue = new ConcurrentLinkedQueue<>();
+    this.pendingDelegateOrLocalQueue = new FlexibleJobQueue();
     this.pendingDelegateOnlyQueue = new ConcurrentLinkedQueue<>();
   }
 
@@ -161,6 +352,9 @@ public class HybridLocalStrategy implements BuildRuleStrategy {
     final BuildStrategyContext strategyContext;
     final BuildRule rule;
     final SettableFuture<Optional<BuildResult>> future;
+    final long sequenceNumber;
+    final long createdNanos;
+    volatile long delegateStartedNanos;
 
     // The delegateResult is null if we either (1) haven't schedule the delegate yet or (2) have (or
     // are in the process of) cancelling the delegate.
@@ -172,6 +366,8 @@ public class HybridLocalStrategy implements BuildRuleStrategy {
       this.strategyContext = strategyContext;
       this.rule = rule;
       this.future = SettableFuture.create();
+      this.sequenceNumber = jobSequenceNumber.getAndIncrement();
+      this.createdNanos = clock.nanoTime();
       this.cancelledOnDelegate = false;
       this.canBuildOnDelegate = canBuildOnDelegate;
     }
@@ -185,6 +381,10 @@ public class HybridLocalStrategy implements BuildRuleStrategy {
           return Futures.immediateFuture(Unit.UNIT);
         }
 
+        long startedNanos = clock.nanoTime();
+        if (!cancelledOnDelegate) {
+          recordQueued(Placement.LOCAL, startedNanos - createdNanos);
+        }
         ListenableFuture<Optional<BuildResult>> localFuture =
             Futures.transform(
                 Futures.submitAsync(
@@ -199,6 +399,7 @@ public class HybridLocalStrategy implements BuildRuleStrategy {
                                     + (cancelledOnDelegate ? " - stolen" : ""))
                             .build()),
                 MoreExecutors.directExecutor());
+        recordExecutedWhenDone(Placement.LOCAL, localFuture, startedNanos);
         future.setFuture(localFuture);
         return localFuture;
       }
@@ -209,6 +410,8 @@ public class HybridLocalStrategy implements BuildRuleStrategy {
         if (future.isDone()) {
           return Futures.immediateFuture(null);
         }
+        delegateStartedNanos = clock.nanoTime();
+        recordQueued(Placement.DELEGATE, delegateStartedNanos - createdNanos);
         StrategyBuildResult capturedDelegateResult =
             delegate.build(rule, new DelegatingContextWithNoOpRuleScope(strategyContext));
         delegateResult = capturedDelegateResult;
@@ -221,10 +424,43 @@ public class HybridLocalStrategy implements BuildRuleStrategy {
         ListenableFuture<Optional<BuildResult>> buildResult =
             capturedDelegateResult.getBuildResult();
         buildResult.addListener(this::handleDelegateResult, MoreExecutors.directExecutor());
+        recordExecutedWhenDone(Placement.DELEGATE, buildResult, delegateStartedNanos);
         return buildResult;
       }
     }
 
+    private void recordQueued(Placement placement, long nanos) {
+      latencyModel.ifPresent(model -> model.recordQueued(placement, nanos));
+    }
+
+    // Only successful builds are recorded, failures and cancellations say nothing about how long
+    // the rule takes to build.
+    private void recordExecutedWhenDone(
+        Placement placement, ListenableFuture<Optional<BuildResult>> result, long startedNanos) {
+      if (!latencyModel.isPresent()) {
+        return;
+      }
+      Futures.addCallback(
+          result,
+          new FutureCallback<Optional<BuildResult>>() {
+            @Override
+            public void onSuccess(@Nullable Optional<BuildResult> buildResult) {
+              if (buildResult != null
+                  && buildResult.isPresent()
+                  && buildResult.get().isSuccess()
+                  && !(placement == Placement.DELEGATE && cancelledOnDelegate)) {
+                latencyModel
+                    .get()
+                    .recordExecuted(placement, rule.getType(), clock.nanoTime() - startedNanos);
+              }
+            }
+
+            @Override
+            public void onFailure(Throwable t) {}
+          },
+          MoreExecutors.directExecutor());
+    }
+
     private void handleDelegateResult() {
       // If this.delegateResult is null, we either cancelled the delegate or are in the process of
       // doing so. Either way we ignore it.
@@ -363,7 +599,7 @@ public class HybridLocalStrategy implements BuildRuleStrategy {
               return job.scheduleLocally();
             } else {
               if (localDelegateSemaphore.tryAcquire()) {
-                job = pendingDelegateOrLocalQueue.poll();
+                job = pendingDelegateOrLocalQueue.pollForLocal();
                 ListenableFuture<?> future;
                 if (job != null) {
                   future = job.scheduleLocally();
@@ -408,7 +644,7 @@ public class HybridLocalStrategy implements BuildRuleStrategy {
             Job job = pendingDelegateOnlyQueue.poll();
 
             if (job == null) {
-              job = pendingDelegateOrLocalQueue.poll();
+              job = pendingDelegateOrLocalQueue.pollForDelegate();
             }
             return job == null ? null : job.scheduleWithDelegate();
           });
@@ -428,7 +664,10 @@ public class HybridLocalStrategy implements BuildRuleStrategy {
 
   private void cancelAllPendingJobs() {
     // Only the scheduling thread pulls from the queue, so polling from queues is safe.
-    cancelAllJobsInQueue(pendingDelegateOrLocalQueue);
+    Job job;
+    while ((job = pendingDelegateOrLocalQueue.poll()) != null) {
+      job.cancel(Objects.requireNonNull(hardFailure));
+    }
     cancelAllJobsInQueue(pendingDelegateOnlyQueue);
     cancelAllJobsInQueue(pendingLocalQueue);
   }
@@ -464,6 +703,26 @@ public class HybridLocalStrategy implements BuildRuleStrategy {
     return true;
   }
 
+  @Override
+  public boolean hasDeferredOutputs(BuildRule rule) {
+    return delegate.hasDeferredOutputs(rule);
+  }
+
+  @Override
+  public ListenableFuture<?> materializeInputs(BuildRule rule) {
+    return delegate.materializeInputs(rule);
+  }
+
+  @Override
+  public ListenableFuture<?> materializeOutputs(Iterable<BuildRule> rules) {
+    return delegate.materializeOutputs(rules);
+  }
+
+  @Override
+  public ImmutableSet<BuildTarget> getTargetsWithDeferredOutputs() {
+    return delegate.getTargetsWithDeferredOutputs();
+  }
+
   @Override
   public void close() throws IOException {
     delegate.close();
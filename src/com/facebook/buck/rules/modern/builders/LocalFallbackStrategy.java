@@ -20,6 +20,7 @@ import com.facebook.buck.core.build.engine.BuildResult;
 import com.facebook.buck.core.build.engine.BuildRuleStatus;
 import com.facebook.buck.core.build.engine.BuildStrategyContext;
 import com.facebook.buck.core.exceptions.ThrowableCauseIterable;
+import com.facebook.buck.core.model.BuildTarget;
 import com.facebook.buck.core.rules.BuildRule;
 import com.facebook.buck.core.rules.build.strategy.BuildRuleStrategy;
 import com.facebook.buck.core.util.log.Logger;
@@ -33,6 +34,7 @@ import com.facebook.buck.remoteexecution.util.MultiThreadedBlobUploader;
 import com.facebook.buck.step.StepFailedException;
 import com.google.common.base.Preconditions;
 import com.google.common.base.Stopwatch;
+import com.google.common.collect.ImmutableSet;
 import com.google.common.util.concurrent.Futures;
 import com.google.common.util.concurrent.ListenableFuture;
 import com.google.common.util.concurrent.MoreExecutors;
@@ -90,6 +92,26 @@ public class LocalFallbackStrategy implements BuildRuleStrategy {
     return mainBuildRuleStrategy.canBuild(instance);
   }
 
+  @Override
+  public boolean hasDeferredOutputs(BuildRule rule) {
+    return mainBuildRuleStrategy.hasDeferredOutputs(rule);
+  }
+
+  @Override
+  public ListenableFuture<?> materializeInputs(BuildRule rule) {
+    return mainBuildRuleStrategy.materializeInputs(rule);
+  }
+
+  @Override
+  public ListenableFuture<?> materializeOutputs(Iterable<BuildRule> rules) {
+    return mainBuildRuleStrategy.materializeOutputs(rules);
+  }
+
+  @Override
+  public ImmutableSet<BuildTarget> getTargetsWithDeferredOutputs() {
+    return mainBuildRuleStrategy.getTargetsWithDeferredOutputs();
+  }
+
   /** Thrown when execution needs to be halted because of cancellation */
   public static class RemoteActionCancelledException extends Exception {
     RemoteActionCancelledException(String message) {
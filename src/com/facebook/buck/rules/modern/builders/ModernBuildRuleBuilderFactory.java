@@ -34,7 +34,7 @@ import com.facebook.buck.remoteexecution.interfaces.MetadataProvider;
 import com.facebook.buck.rules.modern.config.HybridLocalBuildStrategyConfig;
 import com.facebook.buck.rules.modern.config.ModernBuildRuleBuildStrategy;
 import com.facebook.buck.rules.modern.config.ModernBuildRuleStrategyConfig;
-import com.facebook.buck.util.hashing.FileHashLoader;
+import com.facebook.buck.util.cache.FileHashCache;
 import com.google.common.util.concurrent.Futures;
 import java.io.IOException;
 import java.util.Optional;
@@ -53,7 +53,7 @@ public class ModernBuildRuleBuilderFactory {
       BuildRuleResolver resolver,
       Cell rootCell,
       CellPathResolver cellResolver,
-      FileHashLoader hashLoader,
+      FileHashCache hashLoader,
       BuckEventBus eventBus,
       MetadataProvider metadataProvider,
       boolean remoteExecutionAutoEnabled,
@@ -114,7 +114,7 @@ public class ModernBuildRuleBuilderFactory {
       BuildRuleResolver resolver,
       Cell rootCell,
       CellPathResolver cellResolver,
-      FileHashLoader hashLoader,
+      FileHashCache hashLoader,
       BuckEventBus eventBus,
       MetadataProvider metadataProvider,
       boolean remoteExecutionAutoEnabled,
@@ -142,6 +142,7 @@ public class ModernBuildRuleBuilderFactory {
         workerRequirementsProvider,
         remoteExecutionConfig.getMaxWorkerSizeToStealFrom(),
         remoteExecutionConfig.getAuxiliaryBuildTag(),
+        hybridLocalConfig.isAdaptiveSchedulingEnabled(),
         eventBus);
   }
 
@@ -38,6 +38,7 @@ import com.facebook.buck.remoteexecution.interfaces.Protocol.Digest;
 import com.facebook.buck.remoteexecution.interfaces.Protocol.Directory;
 import com.facebook.buck.remoteexecution.interfaces.Protocol.DirectoryNode;
 import com.facebook.buck.remoteexecution.interfaces.Protocol.FileNode;
+import com.facebook.buck.remoteexecution.interfaces.Protocol.OutputFile;
 import com.facebook.buck.remoteexecution.interfaces.Protocol.SymlinkNode;
 import com.facebook.buck.remoteexecution.proto.WorkerRequirements;
 import com.facebook.buck.remoteexecution.util.MerkleTreeNodeCache;
@@ -83,6 +84,7 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.BiPredicate;
@@ -130,6 +132,11 @@ public class ModernBuildRuleRemoteExecutionHelper implements RemoteExecutionHelp
         .getFirst();
   }
 
+  /** Gets the shared path prefix of all the cells loaded by the root cell. */
+  static Path getCellPathPrefix(Cell rootCell) {
+    return getCellPathPrefix(rootCell.getCellPathResolver(), getCellNames(rootCell));
+  }
+
   /** Gets all the canonical cell names. */
   private static ImmutableSet<CanonicalCellName> getCellNames(Cell rootCell) {
     return rootCell.getCellProvider().getLoadedCells().values().stream()
@@ -191,6 +198,7 @@ public class ModernBuildRuleRemoteExecutionHelper implements RemoteExecutionHelp
 
   private final Protocol protocol;
   private final Memoizer<Digest> emptyDirectoryDigestMemoizer = new Memoizer<>();
+  private final Optional<RemoteOutputsStore> remoteOutputsStore;
 
   public ModernBuildRuleRemoteExecutionHelper(
       BuckEventBus eventBus,
@@ -199,7 +207,24 @@ public class ModernBuildRuleRemoteExecutionHelper implements RemoteExecutionHelp
       Cell rootCell,
       FileHashLoader fileHasher,
       ImmutableSet<PathMatcher> ignorePaths) {
+    this(eventBus, protocol, ruleFinder, rootCell, fileHasher, ignorePaths, Optional.empty());
+  }
+
+  /**
+   * @param remoteOutputsStore if present, inputs that are deferred outputs of other remotely
+   *     executed rules are added to actions by their recorded digest instead of being read from
+   *     disk.
+   */
+  ModernBuildRuleRemoteExecutionHelper(
+      BuckEventBus eventBus,
+      Protocol protocol,
+      SourcePathRuleFinder ruleFinder,
+      Cell rootCell,
+      FileHashLoader fileHasher,
+      ImmutableSet<PathMatcher> ignorePaths,
+      Optional<RemoteOutputsStore> remoteOutputsStore) {
     this.ignorePaths = ignorePaths;
+    this.remoteOutputsStore = remoteOutputsStore;
     ImmutableSet<CanonicalCellName> cellNames = getCellNames(rootCell);
     this.cellResolver = rootCell.getCellPathResolver();
     this.cellPathPrefix = getCellPathPrefix(cellResolver, cellNames);
@@ -467,6 +492,10 @@ public class ModernBuildRuleRemoteExecutionHelper implements RemoteExecutionHelp
       Consumer<UploadDataSupplier> dataConsumer) {
     inputsMerkleTree.forAllFiles(
         (path, fileNode) -> {
+          // Deferred outputs of other rules are already in the CAS and aren't on disk.
+          if (getDeferredFile(cellPathPrefix.resolve(path)).isPresent()) {
+            return;
+          }
           if (requiredDataPredicate.test(fileNode.getDigest(), path.toString())) {
             dataConsumer.accept(
                 new UploadDataSupplier() {
@@ -559,13 +588,24 @@ public class ModernBuildRuleRemoteExecutionHelper implements RemoteExecutionHelp
                             return;
                           }
                         }
+                        Optional<OutputFile> deferred = getDeferredFile(path);
                         files.put(
                             cellPathPrefix.relativize(path),
-                            protocol.newFileNode(
-                                protocol.newDigest(
-                                    fileHasher.get(path).toString(), (int) Files.size(path)),
-                                path.getFileName().toString(),
-                                Files.isExecutable(path)));
+                            deferred.isPresent()
+                                ? protocol.newFileNode(
+                                    deferred.get().getDigest(),
+                                    path.getFileName().toString(),
+                                    deferred.get().getIsExecutable())
+                                : protocol.newFileNode(
+                                    protocol.newDigest(
+                                        fileHasher.get(path).toString(), (int) Files.size(path)),
+                                    path.getFileName().toString(),
+                                    Files.isExecutable(path)));
+                      }
+
+                      @Override
+                      public boolean isRegularFile(Path path) {
+                        return super.isRegularFile(path) || getDeferredFile(path).isPresent();
                       }
 
                       @Override
@@ -600,6 +640,10 @@ public class ModernBuildRuleRemoteExecutionHelper implements RemoteExecutionHelp
         });
   }
 
+  private Optional<OutputFile> getDeferredFile(Path path) {
+    return remoteOutputsStore.flatMap(store -> store.getDeferredFile(path));
+  }
+
   private Digest getEmptyDirectoryDigest() {
     return emptyDirectoryDigestMemoizer.get(
         () -> {
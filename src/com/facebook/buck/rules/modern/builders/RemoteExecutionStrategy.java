@@ -52,12 +52,13 @@ import com.facebook.buck.step.StepExecutionResult;
 import com.facebook.buck.step.StepExecutionResults;
 import com.facebook.buck.step.StepFailedException;
 import com.facebook.buck.util.Scope;
+import com.facebook.buck.util.cache.FileHashCache;
 import com.facebook.buck.util.concurrent.JobLimiter;
 import com.facebook.buck.util.concurrent.MostExecutors;
-import com.facebook.buck.util.hashing.FileHashLoader;
 import com.facebook.buck.util.types.Unit;
 import com.google.common.base.Preconditions;
 import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableSet;
 import com.google.common.collect.Lists;
 import com.google.common.collect.Streams;
 import com.google.common.util.concurrent.FutureCallback;
@@ -69,12 +70,17 @@ import io.grpc.Status;
 import java.io.IOException;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Path;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.OptionalInt;
 import java.util.OptionalLong;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicReference;
 import javax.annotation.Nullable;
 
@@ -92,6 +98,8 @@ public class RemoteExecutionStrategy extends AbstractModernBuildRuleStrategy {
   private final BuckEventBus eventBus;
   private final RemoteExecutionClients executionClients;
   private final RemoteExecutionHelper mbrHelper;
+  private final Optional<RemoteOutputsStore> remoteOutputsStore;
+  private final Set<BuildRule> rulesWithMaterializedInputs = ConcurrentHashMap.newKeySet();
 
   private final ListeningExecutorService service;
 
@@ -114,7 +122,8 @@ public class RemoteExecutionStrategy extends AbstractModernBuildRuleStrategy {
       RemoteExecutionHelper mbrHelper,
       WorkerRequirementsProvider requirementsProvider,
       ListeningExecutorService service,
-      String auxiliaryBuildTag) {
+      String auxiliaryBuildTag,
+      Optional<RemoteOutputsStore> remoteOutputsStore) {
     this.executionClients = executionClients;
     this.service = service;
     this.computeActionLimiter = new JobLimiter(strategyConfig.getMaxConcurrentActionComputations());
@@ -128,6 +137,7 @@ public class RemoteExecutionStrategy extends AbstractModernBuildRuleStrategy {
     this.mbrHelper = mbrHelper;
     this.requirementsProvider = requirementsProvider;
     this.auxiliaryBuildTag = auxiliaryBuildTag;
+    this.remoteOutputsStore = remoteOutputsStore;
     this.remoteExecutionSessionStartedEvent = RemoteExecutionSessionEvent.started();
     this.eventBus.post(remoteExecutionSessionStartedEvent);
   }
@@ -143,10 +153,18 @@ public class RemoteExecutionStrategy extends AbstractModernBuildRuleStrategy {
       RemoteExecutionClients clients,
       SourcePathRuleFinder ruleFinder,
       Cell rootCell,
-      FileHashLoader fileHasher,
+      FileHashCache fileHasher,
       MetadataProvider metadataProvider,
       WorkerRequirementsProvider workerRequirementsProvider) {
     RemoteExecutionStrategyConfig strategyConfig = remoteExecutionConfig.getStrategyConfig();
+    Optional<RemoteOutputsStore> remoteOutputsStore =
+        strategyConfig.isLazyOutputMaterializationEnabled()
+            ? Optional.of(
+                new RemoteOutputsStore(
+                    clients.getContentAddressedStorage(),
+                    fileHasher,
+                    ModernBuildRuleRemoteExecutionHelper.getCellPathPrefix(rootCell)))
+            : Optional.empty();
     return new LocalFallbackStrategy(
         new RemoteExecutionStrategy(
             eventBus,
@@ -159,11 +177,13 @@ public class RemoteExecutionStrategy extends AbstractModernBuildRuleStrategy {
                 ruleFinder,
                 rootCell,
                 fileHasher,
-                strategyConfig.getIgnorePaths()),
+                strategyConfig.getIgnorePaths(),
+                remoteOutputsStore),
             workerRequirementsProvider,
             MoreExecutors.listeningDecorator(
                 MostExecutors.newMultiThreadExecutor("remote-exec", strategyConfig.getThreads())),
-            remoteExecutionConfig.getAuxiliaryBuildTag()),
+            remoteExecutionConfig.getAuxiliaryBuildTag(),
+            remoteOutputsStore),
         eventBus,
         strategyConfig.isLocalFallbackEnabled(),
         strategyConfig.isLocalFallbackDisabledOnCorruptedArtifacts(),
@@ -178,10 +198,76 @@ public class RemoteExecutionStrategy extends AbstractModernBuildRuleStrategy {
 
   @Override
   public void close() throws IOException {
+    // Nothing remembers which outputs were deferred once this build is over, and nothing asked for
+    // the ones that are left, so they aren't downloaded. The engine has already forgotten that
+    // their rules were built, so the next build treats them as cache misses.
+    if (remoteOutputsStore.isPresent()) {
+      remoteOutputsStore.get().dropDeferredOutputs();
+    }
     executionClients.close();
     eventBus.post(RemoteExecutionSessionEvent.finished(remoteExecutionSessionStartedEvent));
   }
 
+  @Override
+  public ImmutableSet<BuildTarget> getTargetsWithDeferredOutputs() {
+    return remoteOutputsStore.isPresent()
+        ? remoteOutputsStore.get().getTargetsWithDeferredOutputs()
+        : ImmutableSet.of();
+  }
+
+  @Override
+  public boolean hasDeferredOutputs(BuildRule rule) {
+    return remoteOutputsStore.isPresent()
+        && remoteOutputsStore.get().hasDeferredOutputs(rule.getBuildTarget());
+  }
+
+  @Override
+  public ListenableFuture<?> materializeInputs(BuildRule rule) {
+    if (!remoteOutputsStore.isPresent() || remoteOutputsStore.get().isEmpty()) {
+      return Futures.immediateFuture(null);
+    }
+    // Rules that already went through here had all of their transitive deps materialized, so
+    // there's no need to walk below them again.
+    List<ListenableFuture<Unit>> materializations = new ArrayList<>();
+    Set<BuildRule> seen = new HashSet<>();
+    Deque<BuildRule> toVisit = new ArrayDeque<>(rule.getBuildDeps());
+    while (!toVisit.isEmpty()) {
+      BuildRule dep = toVisit.pop();
+      if (!seen.add(dep) || rulesWithMaterializedInputs.contains(dep)) {
+        continue;
+      }
+      if (remoteOutputsStore.get().hasDeferredOutputs(dep.getBuildTarget())) {
+        materializations.add(remoteOutputsStore.get().materialize(dep.getBuildTarget()));
+      }
+      toVisit.addAll(dep.getBuildDeps());
+    }
+    ListenableFuture<List<Unit>> result = Futures.allAsList(materializations);
+    Futures.addCallback(
+        result,
+        new FutureCallback<List<Unit>>() {
+          @Override
+          public void onSuccess(@Nullable List<Unit> ignored) {
+            rulesWithMaterializedInputs.add(rule);
+          }
+
+          @Override
+          public void onFailure(Throwable t) {}
+        },
+        MoreExecutors.directExecutor());
+    return result;
+  }
+
+  @Override
+  public ListenableFuture<?> materializeOutputs(Iterable<BuildRule> rules) {
+    if (!remoteOutputsStore.isPresent()) {
+      return Futures.immediateFuture(null);
+    }
+    return Futures.allAsList(
+        Streams.stream(rules)
+            .map(rule -> remoteOutputsStore.get().materialize(rule.getBuildTarget()))
+            .collect(ImmutableList.toImmutableList()));
+  }
+
   /** StrategyBuildResult for Remote Execution Strategy which includes RuleContext */
   public interface RemoteExecutionStrategyBuildResult extends StrategyBuildResult {
     RemoteRuleContext getRuleContext();
@@ -575,6 +661,11 @@ public class RemoteExecutionStrategy extends AbstractModernBuildRuleStrategy {
 
     List<Protocol.OutputFile> files = new ArrayList<>();
     ListenableFuture<Unit> metadata = stripMetadata(result.getOutputFiles(), files, buildRule);
+    if (remoteOutputsStore.isPresent()) {
+      // Output directories are still materialized right away, only the files are deferred.
+      remoteOutputsStore.get().defer(buildTarget, files);
+      files = ImmutableList.of();
+    }
     ListenableFuture<Unit> materializationFuture =
         executionClients
             .getContentAddressedStorage()
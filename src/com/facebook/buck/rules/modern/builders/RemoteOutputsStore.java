@@ -0,0 +1,157 @@
+/*
+ * Copyright (c) Facebook, Inc. and its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.facebook.buck.rules.modern.builders;
+
+import com.facebook.buck.core.model.BuildTarget;
+import com.facebook.buck.remoteexecution.ContentAddressedStorageClient;
+import com.facebook.buck.remoteexecution.interfaces.Protocol.OutputFile;
+import com.facebook.buck.remoteexecution.util.OutputsMaterializer.FilesystemFileMaterializer;
+import com.facebook.buck.util.cache.FileHashCache;
+import com.facebook.buck.util.types.Unit;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableSet;
+import com.google.common.hash.HashCode;
+import com.google.common.util.concurrent.FutureCallback;
+import com.google.common.util.concurrent.Futures;
+import com.google.common.util.concurrent.ListenableFuture;
+import com.google.common.util.concurrent.MoreExecutors;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import javax.annotation.Nullable;
+
+/**
+ * Tracks the output files of remotely executed rules that have been left in the CAS instead of
+ * being written to disk.
+ *
+ * <p>When an output is deferred, its hash is seeded into the {@link FileHashCache} so that rule
+ * keys and remote actions of dependents can be computed without the file being present. The file is
+ * written to disk the first time something asks for it to be materialized. Outputs that nothing
+ * asked for by the end of the build are dropped, and their seeded hashes invalidated.
+ */
+class RemoteOutputsStore {
+  private final ContentAddressedStorageClient storage;
+  private final FileHashCache fileHashCache;
+  private final Path cellPathPrefix;
+
+  private final ConcurrentMap<BuildTarget, ImmutableList<OutputFile>> deferredByTarget =
+      new ConcurrentHashMap<>();
+  private final ConcurrentMap<Path, OutputFile> deferredByPath = new ConcurrentHashMap<>();
+  private final ConcurrentMap<BuildTarget, ListenableFuture<Unit>> materializations =
+      new ConcurrentHashMap<>();
+
+  RemoteOutputsStore(
+      ContentAddressedStorageClient storage, FileHashCache fileHashCache, Path cellPathPrefix) {
+    this.storage = storage;
+    this.fileHashCache = fileHashCache;
+    this.cellPathPrefix = cellPathPrefix;
+  }
+
+  /** Records the rule's output files (with paths relative to the cell path prefix) as deferred. */
+  void defer(BuildTarget target, List<OutputFile> files) throws IOException {
+    if (files.isEmpty()) {
+      return;
+    }
+    for (OutputFile file : files) {
+      Path path = cellPathPrefix.resolve(file.getPath());
+      fileHashCache.set(path, HashCode.fromString(file.getDigest().getHash()));
+      deferredByPath.put(path, file);
+    }
+    deferredByTarget.put(target, ImmutableList.copyOf(files));
+  }
+
+  boolean isEmpty() {
+    return deferredByTarget.isEmpty();
+  }
+
+  boolean hasDeferredOutputs(BuildTarget target) {
+    return deferredByTarget.containsKey(target);
+  }
+
+  /** Returns the deferred file at the given absolute path, if it hasn't been materialized yet. */
+  Optional<OutputFile> getDeferredFile(Path path) {
+    return Optional.ofNullable(deferredByPath.get(path));
+  }
+
+  /**
+   * Writes the rule's deferred outputs to disk. Concurrent requests share a single download. A
+   * download that failed is forgotten, so that the next request tries again.
+   */
+  ListenableFuture<Unit> materialize(BuildTarget target) {
+    ImmutableList<OutputFile> files = deferredByTarget.get(target);
+    if (files == null) {
+      return Futures.immediateFuture(null);
+    }
+    ListenableFuture<Unit> materialization =
+        materializations.computeIfAbsent(target, ignored -> startMaterialization(target, files));
+    Futures.addCallback(
+        materialization,
+        new FutureCallback<Unit>() {
+          @Override
+          public void onSuccess(@Nullable Unit result) {}
+
+          @Override
+          public void onFailure(Throwable t) {
+            materializations.remove(target, materialization);
+          }
+        },
+        MoreExecutors.directExecutor());
+    return materialization;
+  }
+
+  /** Returns the targets of the rules that have outputs which haven't been materialized. */
+  ImmutableSet<BuildTarget> getTargetsWithDeferredOutputs() {
+    return ImmutableSet.copyOf(deferredByTarget.keySet());
+  }
+
+  /**
+   * Forgets the outputs that are still deferred. Their files were never written, so the hashes that
+   * were seeded for them are invalidated rather than left for later builds to find.
+   */
+  void dropDeferredOutputs() {
+    for (Path path : deferredByPath.keySet()) {
+      fileHashCache.invalidate(path);
+    }
+    deferredByPath.clear();
+    deferredByTarget.clear();
+  }
+
+  private ListenableFuture<Unit> startMaterialization(
+      BuildTarget target, ImmutableList<OutputFile> files) {
+    ListenableFuture<Unit> materialized;
+    try {
+      materialized =
+          storage.materializeOutputs(
+              ImmutableList.of(), files, new FilesystemFileMaterializer(cellPathPrefix));
+    } catch (IOException e) {
+      return Futures.immediateFailedFuture(e);
+    }
+    return Futures.transform(
+        materialized,
+        ignored -> {
+          for (OutputFile file : files) {
+            deferredByPath.remove(cellPathPrefix.resolve(file.getPath()));
+          }
+          deferredByTarget.remove(target);
+          return null;
+        },
+        MoreExecutors.directExecutor());
+  }
+}
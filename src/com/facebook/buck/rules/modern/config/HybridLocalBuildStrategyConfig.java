@@ -22,16 +22,19 @@ public class HybridLocalBuildStrategyConfig {
   private final int localDelegateJobs;
   private final int delegateJobs;
   private final ModernBuildRuleStrategyConfig delegate;
+  private final boolean adaptiveScheduling;
 
   public HybridLocalBuildStrategyConfig(
       int localJobs,
       int localDelegateJobs,
       int delegateJobs,
-      ModernBuildRuleStrategyConfig delegate) {
+      ModernBuildRuleStrategyConfig delegate,
+      boolean adaptiveScheduling) {
     this.localJobs = localJobs;
     this.localDelegateJobs = localDelegateJobs;
     this.delegateJobs = delegateJobs;
     this.delegate = delegate;
+    this.adaptiveScheduling = adaptiveScheduling;
   }
 
   public ModernBuildRuleStrategyConfig getDelegateConfig() {
@@ -49,4 +52,12 @@ public class HybridLocalBuildStrategyConfig {
   public int getDelegateJobs() {
     return delegateJobs;
   }
+
+  /**
+   * Whether jobs should be placed based on measured local and delegate build times rather than
+   * always preferring local.
+   */
+  public boolean isAdaptiveSchedulingEnabled() {
+    return adaptiveScheduling;
+  }
 }
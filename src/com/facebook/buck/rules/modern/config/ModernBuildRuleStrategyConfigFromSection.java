@@ -76,8 +76,10 @@ public class ModernBuildRuleStrategyConfigFromSection implements ModernBuildRule
         delegate.getInteger(section, "delegate_jobs").orElseThrow(requires("delegate_jobs"));
     String delegateFlavor =
         delegate.getValue(section, "delegate").orElseThrow(requires("delegate"));
+    boolean adaptiveScheduling = delegate.getBooleanValue(section, "adaptive_scheduling", false);
     ModernBuildRuleStrategyConfig delegate = getFlavoredStrategyConfig(delegateFlavor);
-    return new HybridLocalBuildStrategyConfig(localJobs, localDelegateJobs, remoteJobs, delegate);
+    return new HybridLocalBuildStrategyConfig(
+        localJobs, localDelegateJobs, remoteJobs, delegate, adaptiveScheduling);
   }
 
   private Supplier<HumanReadableException> requires(String key) {
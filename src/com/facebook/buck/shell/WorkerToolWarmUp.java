@@ -0,0 +1,131 @@
+/*
+ * Copyright (c) Facebook, Inc. and its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.facebook.buck.shell;
+
+import com.facebook.buck.core.build.engine.BuildRuleStatus;
+import com.facebook.buck.core.build.event.BuildRuleEvent;
+import com.facebook.buck.core.build.execution.context.ExecutionContext;
+import com.facebook.buck.core.config.BuckConfig;
+import com.facebook.buck.core.model.BuildTarget;
+import com.facebook.buck.core.rules.BuildRule;
+import com.facebook.buck.core.sourcepath.resolver.SourcePathResolverAdapter;
+import com.facebook.buck.core.toolchain.tool.Tool;
+import com.facebook.buck.core.util.log.Logger;
+import com.facebook.buck.util.concurrent.MostExecutors;
+import com.facebook.buck.worker.WorkerProcessParams;
+import com.facebook.buck.worker.WorkerProcessPoolFactory;
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.eventbus.Subscribe;
+import java.io.Closeable;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Starts the worker processes of a worker tool as soon as the tool is built, so that starting them
+ * overlaps with the rest of the build instead of delaying the first rules that use the tool.
+ *
+ * <p>As many workers are started as there are rules using the tool in the action graph, up to its
+ * {@code max_workers}. Persistent workers are left alone: their pools are keyed by the rules using
+ * them, and buckd already keeps them running across commands.
+ */
+public class WorkerToolWarmUp implements Closeable {
+  private static final Logger LOG = Logger.get(WorkerToolWarmUp.class);
+
+  private static final String CONFIG_SECTION = "worker";
+  private static final String CONFIG_WARM_UP_KEY = "warm_up";
+
+  private final ExecutionContext context;
+  private final SourcePathResolverAdapter pathResolver;
+  private final ImmutableMap<BuildTarget, Integer> usersByTool;
+  private final ExecutorService executor;
+
+  @VisibleForTesting
+  WorkerToolWarmUp(
+      ExecutionContext context,
+      SourcePathResolverAdapter pathResolver,
+      ImmutableMap<BuildTarget, Integer> usersByTool) {
+    this.context = context;
+    this.pathResolver = pathResolver;
+    this.usersByTool = usersByTool;
+    this.executor = MostExecutors.newMultiThreadExecutor("worker-warm-up", 4);
+  }
+
+  /** Returns whether {@code [worker] warm_up} is enabled. */
+  public static boolean isEnabled(BuckConfig buckConfig) {
+    return buckConfig.getBooleanValue(CONFIG_SECTION, CONFIG_WARM_UP_KEY, false);
+  }
+
+  /** Creates a warm-up for the worker tools used by the given rules. */
+  public static WorkerToolWarmUp of(
+      ExecutionContext context, SourcePathResolverAdapter pathResolver, Iterable<BuildRule> rules) {
+    Map<BuildTarget, Integer> usersByTool = new HashMap<>();
+    for (BuildRule rule : rules) {
+      for (BuildRule dep : rule.getBuildDeps()) {
+        if (dep instanceof ProvidesWorkerTool) {
+          usersByTool.merge(dep.getBuildTarget(), 1, Integer::sum);
+        }
+      }
+    }
+    return new WorkerToolWarmUp(context, pathResolver, ImmutableMap.copyOf(usersByTool));
+  }
+
+  @Subscribe
+  public void ruleFinished(BuildRuleEvent.Finished finished) {
+    BuildRule rule = finished.getBuildRule();
+    Integer users = usersByTool.get(rule.getBuildTarget());
+    if (users == null
+        || finished.getStatus() != BuildRuleStatus.SUCCESS
+        || !(rule instanceof ProvidesWorkerTool)) {
+      return;
+    }
+    WorkerTool workerTool = ((ProvidesWorkerTool) rule).getWorkerTool();
+    if (workerTool.isPersistent()) {
+      return;
+    }
+
+    Tool tool = workerTool.getTool();
+    WorkerProcessParams params =
+        WorkerProcessParams.of(
+            workerTool.getTempDir(rule.getProjectFilesystem()),
+            tool.getCommandPrefix(pathResolver),
+            tool.getEnvironment(pathResolver),
+            workerTool.getMaxWorkers(),
+            workerTool.isAsync(),
+            Optional.empty());
+    LOG.debug("Warming up %d workers of %s.", users, rule.getBuildTarget());
+    new WorkerProcessPoolFactory(rule.getProjectFilesystem())
+        .getWorkerProcessPool(context, params)
+        .warmUp(users, executor);
+  }
+
+  /** Waits for the workers being started, so that their pools can be closed. */
+  @Override
+  public void close() {
+    executor.shutdown();
+    try {
+      if (!executor.awaitTermination(1, TimeUnit.MINUTES)) {
+        LOG.warn("Timed out waiting for worker processes to start.");
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+}
@@ -34,6 +34,7 @@ import com.facebook.buck.parser.DaemonicParserState;
 import com.facebook.buck.parser.manifest.BuildFileManifestCache;
 import com.facebook.buck.rules.coercer.TypeCoercerFactory;
 import com.facebook.buck.rules.keys.RuleKeyCacheRecycler;
+import com.facebook.buck.util.ClassLoaderCache;
 import com.facebook.buck.util.cache.ProjectFileHashCache;
 import com.facebook.buck.util.cache.impl.WatchedFileHashCache;
 import com.facebook.buck.util.timing.Clock;
@@ -74,6 +75,7 @@ public final class BuckGlobalState implements Closeable {
   private final EventBus fileEventBus;
   private final Optional<WebServer> webServer;
   private final ConcurrentMap<String, WorkerProcessPool> persistentWorkerPools;
+  private final ClassLoaderCache classLoaderCache;
   private final VersionedTargetGraphCache versionedTargetGraphCache;
   private final ActionGraphCache actionGraphCache;
   private final RuleKeyCacheRecycler<RuleKey> defaultRuleKeyFactoryCacheRecycler;
@@ -111,6 +113,7 @@ public final class BuckGlobalState implements Closeable {
     this.fileEventBus = fileEventBus;
     this.webServer = webServer;
     this.persistentWorkerPools = persistentWorkerPools;
+    this.classLoaderCache = ClassLoaderCache.newSharedCache();
     this.versionedTargetGraphCache = versionedTargetGraphCache;
     this.actionGraphCache = actionGraphCache;
     this.defaultRuleKeyFactoryCacheRecycler = defaultRuleKeyFactoryCacheRecycler;
@@ -176,6 +179,11 @@ public final class BuckGlobalState implements Closeable {
     return persistentWorkerPools;
   }
 
+  /** Return the class loader cache that commands share, each holding a reference to it. */
+  public ClassLoaderCache getClassLoaderCache() {
+    return classLoaderCache;
+  }
+
   public RuleKeyCacheRecycler<RuleKey> getDefaultRuleKeyFactoryCacheRecycler() {
     return defaultRuleKeyFactoryCacheRecycler;
   }
@@ -248,6 +256,16 @@ public final class BuckGlobalState implements Closeable {
   public void close() {
     shutdownPersistentWorkerPools();
     shutdownWebServer();
+    closeClassLoaderCache();
+  }
+
+  private void closeClassLoaderCache() {
+    try {
+      // Commands that are still running hold their own references to the cache.
+      classLoaderCache.close();
+    } catch (IOException e) {
+      LOG.error(e);
+    }
   }
 
   private void shutdownPersistentWorkerPools() {
@@ -27,6 +27,7 @@ import com.facebook.buck.util.unarchive.ExistingFileMode;
 import java.io.IOException;
 import java.nio.file.Path;
 import java.util.Optional;
+import java.util.concurrent.ForkJoinPool;
 
 /** A step that extracts arbitrary archives */
 public abstract class UnarchiveStep implements Step {
@@ -73,6 +74,7 @@ public abstract class UnarchiveStep implements Step {
 
     format
         .getUnarchiver()
+        .withExecutor(ForkJoinPool.commonPool())
         .extractArchive(
             context.getProjectFilesystemFactory(),
             archive,
@@ -18,27 +18,83 @@ package com.facebook.buck.util;
 
 import com.google.common.annotations.VisibleForTesting;
 import com.google.common.collect.ImmutableList;
+import com.google.common.hash.HashCode;
+import com.google.common.hash.Hashing;
+import com.google.common.io.MoreFiles;
 import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URISyntaxException;
 import java.net.URL;
 import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 import javax.annotation.Nullable;
 
 /**
  * Maintain a cache mapping class paths to class loaders that load from these class paths. The class
  * loaders remain active until ClassLoaderCache itself is unloaded.
+ *
+ * <p>A cache created with {@link #newSharedCache()} is meant to outlive commands, with every
+ * command holding a reference to it. Its class loaders are keyed by the contents of the jars on
+ * their class path as well as by the class path, so that a jar rebuilt with the same contents keeps
+ * its class loader, and one rebuilt with different contents gets a new one. Class loaders that are
+ * no longer current, or that haven't been used for a while, are closed once no command holds a
+ * reference.
  */
 public final class ClassLoaderCache implements AutoCloseable {
 
-  private final Map<ClassLoader, Map<ImmutableList<URL>, ClassLoader>> cache = new HashMap<>();
+  /** Commands a class loader in a shared cache can go unused before it's closed. */
+  private static final int MAX_IDLE_COMMANDS = 10;
+
+  /**
+   * Fraction of the maximum heap size that, when in use after a command, closes the class loaders
+   * of a shared cache that the command didn't use.
+   */
+  private static final double MEMORY_PRESSURE_THRESHOLD = 0.75;
+
+  private static final HashCode MISSING_FILE = HashCode.fromInt(0);
+
+  private final Map<ClassLoader, Map<ImmutableList<URL>, CachedClassLoader>> cache =
+      new HashMap<>();
+
+  /** Class loaders that have been replaced, and have to be closed once no command uses them. */
+  private final List<ClassLoader> retiredClassLoaders = new ArrayList<>();
+
+  /**
+   * The contents of the jars on class paths, by path, for shared caches. It's concurrent because
+   * jars are stat'ed and hashed outside of the lock that guards everything else.
+   */
+  @Nullable private final Map<Path, FileContents> fileContents;
 
   private int referenceCount = 1;
+  private long commands = 0;
+
+  public ClassLoaderCache() {
+    this(false);
+  }
 
-  private synchronized Map<ImmutableList<URL>, ClassLoader> getCacheForParent(
+  private ClassLoaderCache(boolean shared) {
+    this.fileContents = shared ? new ConcurrentHashMap<>() : null;
+  }
+
+  /** Creates a cache that is shared by commands, each of which should hold a reference to it. */
+  public static ClassLoaderCache newSharedCache() {
+    return new ClassLoaderCache(true);
+  }
+
+  private synchronized Map<ImmutableList<URL>, CachedClassLoader> getCacheForParent(
       @Nullable ClassLoader parentClassLoader) {
-    Map<ImmutableList<URL>, ClassLoader> cacheForParent = cache.get(parentClassLoader);
+    Map<ImmutableList<URL>, CachedClassLoader> cacheForParent = cache.get(parentClassLoader);
 
     if (cacheForParent == null) {
       cacheForParent = new HashMap<>();
@@ -48,19 +104,43 @@ public final class ClassLoaderCache implements AutoCloseable {
     return cacheForParent;
   }
 
-  public synchronized ClassLoader getClassLoaderForClassPath(
+  public ClassLoader getClassLoaderForClassPath(
       @Nullable ClassLoader parentClassLoader, ImmutableList<URL> classPath) {
+    // Hashing the class path can take a while, so it's done before taking the lock, to not hold up
+    // the compilations that are looking up other class loaders.
+    ImmutableList<HashCode> contents = getContents(classPath);
 
-    Map<ImmutableList<URL>, ClassLoader> cacheForParent = getCacheForParent(parentClassLoader);
+    synchronized (this) {
+      Map<ImmutableList<URL>, CachedClassLoader> cacheForParent =
+          getCacheForParent(parentClassLoader);
+
+      CachedClassLoader cached = cacheForParent.get(classPath);
+      if (cached != null && !cached.contents.equals(contents)) {
+        retiredClassLoaders.add(cached.classLoader);
+        cached = null;
+      }
+      if (cached == null) {
+        URL[] urls = classPath.toArray(new URL[0]);
+        cached =
+            new CachedClassLoader(new CachedURLClassLoader(urls, parentClassLoader), contents);
+        cacheForParent.put(classPath, cached);
+      }
+      cached.lastUsed = commands;
 
-    ClassLoader classLoader = cacheForParent.get(classPath);
-    if (classLoader == null) {
-      URL[] urls = classPath.toArray(new URL[0]);
-      classLoader = new CachedURLClassLoader(urls, parentClassLoader);
-      cacheForParent.put(classPath, classLoader);
+      return cached.classLoader;
     }
+  }
 
-    return classLoader;
+  /**
+   * Stops handing out the class loader for the given class path, for instance because code loaded
+   * by it has crashed and may have left it in a bad state. It's closed once no command uses it.
+   */
+  public synchronized void invalidate(
+      @Nullable ClassLoader parentClassLoader, ImmutableList<URL> classPath) {
+    CachedClassLoader cached = getCacheForParent(parentClassLoader).remove(classPath);
+    if (cached != null) {
+      retiredClassLoaders.add(cached.classLoader);
+    }
   }
 
   @VisibleForTesting
@@ -68,13 +148,19 @@ public final class ClassLoaderCache implements AutoCloseable {
       @Nullable ClassLoader parentClassLoader,
       ImmutableList<URL> classPath,
       ClassLoader injectedClassLoader) {
-    Map<ImmutableList<URL>, ClassLoader> cacheForParent = getCacheForParent(parentClassLoader);
+    Map<ImmutableList<URL>, CachedClassLoader> cacheForParent =
+        getCacheForParent(parentClassLoader);
 
-    cacheForParent.put(classPath, injectedClassLoader);
+    cacheForParent.put(
+        classPath, new CachedClassLoader(injectedClassLoader, getContents(classPath)));
   }
 
   public synchronized ClassLoaderCache addRef() {
     referenceCount += 1;
+    if (referenceCount == 2) {
+      // A command has started using the cache.
+      commands += 1;
+    }
     return this;
   }
 
@@ -82,23 +168,60 @@ public final class ClassLoaderCache implements AutoCloseable {
   public synchronized void close() throws IOException {
     if (referenceCount > 1) {
       referenceCount -= 1;
+      if (referenceCount == 1 && fileContents != null) {
+        closeUnusedClassLoaders();
+      }
       return;
     }
 
+    List<ClassLoader> classLoaders = new ArrayList<>(retiredClassLoaders);
+    for (Map<ImmutableList<URL>, CachedClassLoader> cacheForParent : cache.values()) {
+      for (CachedClassLoader cached : cacheForParent.values()) {
+        classLoaders.add(cached.classLoader);
+      }
+    }
+    closeClassLoaders(classLoaders);
+  }
+
+  /**
+   * Closes the retired class loaders of a shared cache, along with those that haven't been used
+   * recently or, if memory is running low, by the last command.
+   */
+  private void closeUnusedClassLoaders() throws IOException {
+    Runtime runtime = Runtime.getRuntime();
+    boolean lowOnMemory =
+        runtime.totalMemory() - runtime.freeMemory()
+            > runtime.maxMemory() * MEMORY_PRESSURE_THRESHOLD;
+    long oldestToKeep = lowOnMemory ? commands : commands - MAX_IDLE_COMMANDS + 1;
+
+    List<ClassLoader> classLoaders = new ArrayList<>(retiredClassLoaders);
+    retiredClassLoaders.clear();
+    for (Map<ImmutableList<URL>, CachedClassLoader> cacheForParent : cache.values()) {
+      Iterator<CachedClassLoader> iterator = cacheForParent.values().iterator();
+      while (iterator.hasNext()) {
+        CachedClassLoader cached = iterator.next();
+        if (cached.lastUsed < oldestToKeep) {
+          classLoaders.add(cached.classLoader);
+          iterator.remove();
+        }
+      }
+    }
+    closeClassLoaders(classLoaders);
+  }
+
+  private static void closeClassLoaders(List<ClassLoader> classLoaders) throws IOException {
     Optional<IOException> caughtEx = Optional.empty();
 
-    for (Map<ImmutableList<URL>, ClassLoader> cacheForParent : cache.values()) {
-      for (ClassLoader cl : cacheForParent.values()) {
-        try {
-          if (cl instanceof CachedURLClassLoader) {
-            ((CachedURLClassLoader) cl).reallyClose();
-          }
-        } catch (IOException ex) {
-          if (caughtEx.isPresent()) {
-            caughtEx.get().addSuppressed(ex);
-          } else {
-            caughtEx = Optional.of(ex);
-          }
+    for (ClassLoader cl : classLoaders) {
+      try {
+        if (cl instanceof CachedURLClassLoader) {
+          ((CachedURLClassLoader) cl).reallyClose();
+        }
+      } catch (IOException ex) {
+        if (caughtEx.isPresent()) {
+          caughtEx.get().addSuppressed(ex);
+        } else {
+          caughtEx = Optional.of(ex);
         }
       }
     }
@@ -108,6 +231,99 @@ public final class ClassLoaderCache implements AutoCloseable {
     }
   }
 
+  /**
+   * Returns what the class loader for the given class path is keyed by besides the class path: the
+   * hashes of the jars on it for shared caches, and nothing otherwise.
+   */
+  private ImmutableList<HashCode> getContents(ImmutableList<URL> classPath) {
+    if (fileContents == null) {
+      return ImmutableList.of();
+    }
+
+    ImmutableList.Builder<HashCode> contents =
+        ImmutableList.builderWithExpectedSize(classPath.size());
+    for (URL url : classPath) {
+      contents.add(getContents(url));
+    }
+    return contents.build();
+  }
+
+  private HashCode getContents(URL url) {
+    Map<Path, FileContents> fileContents = Objects.requireNonNull(this.fileContents);
+    Path path = toPath(url);
+    if (path == null) {
+      return MISSING_FILE;
+    }
+    BasicFileAttributes attributes;
+    try {
+      attributes = Files.readAttributes(path, BasicFileAttributes.class);
+    } catch (IOException e) {
+      return MISSING_FILE;
+    }
+
+    if (!attributes.isRegularFile()) {
+      // Directories can't be hashed cheaply, so their class loaders are only reused within a
+      // command.
+      return HashCode.fromLong(getCommands());
+    }
+
+    FileContents contents = fileContents.get(path);
+    if (contents == null
+        || contents.size != attributes.size()
+        || contents.lastModified != attributes.lastModifiedTime().toMillis()) {
+      try {
+        contents =
+            new FileContents(
+                attributes.size(),
+                attributes.lastModifiedTime().toMillis(),
+                MoreFiles.asByteSource(path).hash(Hashing.sha1()));
+      } catch (IOException e) {
+        throw new UncheckedIOException(e);
+      }
+      fileContents.put(path, contents);
+    }
+    return contents.hash;
+  }
+
+  private synchronized long getCommands() {
+    return commands;
+  }
+
+  @Nullable
+  private static Path toPath(URL url) {
+    if (!"file".equals(url.getProtocol())) {
+      return null;
+    }
+    try {
+      return Paths.get(url.toURI());
+    } catch (URISyntaxException | IllegalArgumentException e) {
+      return null;
+    }
+  }
+
+  private static class CachedClassLoader {
+    private final ClassLoader classLoader;
+    private final ImmutableList<HashCode> contents;
+    private long lastUsed;
+
+    private CachedClassLoader(ClassLoader classLoader, ImmutableList<HashCode> contents) {
+      this.classLoader = classLoader;
+      this.contents = contents;
+    }
+  }
+
+  private static class FileContents {
+    private final long size;
+    private final long lastModified;
+    private final HashCode hash;
+
+    private FileContents(long size, long lastModified, HashCode hash) {
+      this.size = size;
+      this.lastModified = lastModified;
+      this.hash = hash;
+    }
+  }
+
   private static class CachedURLClassLoader extends URLClassLoader {
     public CachedURLClassLoader(URL[] urls, @Nullable ClassLoader parent) {
       super(urls, parent);
@@ -71,7 +71,11 @@ class LimitedFileHashCacheEngine implements FileHashCacheEngine {
     private volatile long size = -1;
 
     private Data(Path path) {
-      this.fileType = loadType(path);
+      this(path, loadType(path));
+    }
+
+    private Data(Path path, byte fileType) {
+      this.fileType = fileType;
       this.path = path;
     }
 
@@ -189,6 +193,14 @@ class LimitedFileHashCacheEngine implements FileHashCacheEngine {
 
   @Override
   public void put(Path path, HashCodeAndFileType value) {
+    if (value.getType() != HashCodeAndFileType.TYPE_DIRECTORY && !filesystem.exists(path)) {
+      // The hash of a file that isn't written yet, like an output left in remote storage. There
+      // are no attributes to read its type from, so it is cached as a regular file.
+      Data data = new Data(path, FILE_TYPE_FILE);
+      data.set(value);
+      fileSystemMap.put(path, data);
+      return;
+    }
     fileSystemMap.get(path).set(value);
   }
 
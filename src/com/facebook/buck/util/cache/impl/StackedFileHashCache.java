@@ -166,11 +166,20 @@ public class StackedFileHashCache implements FileHashCache {
     return found.get().getFirst().getForArchiveMember(found.get().getSecond(), memberPath);
   }
 
+  /**
+   * Seeds the hash of the path into the first cache that handles it. Unlike the lookups, this
+   * doesn't need the file to exist yet, so that the hashes of outputs which are left in remote
+   * storage can be seeded before they are written.
+   */
   @Override
   public void set(Path path, HashCode hashCode) throws IOException {
-    Optional<Pair<ProjectFileHashCache, Path>> found = lookup(path);
-    if (found.isPresent()) {
-      found.get().getFirst().set(found.get().getSecond(), hashCode);
+    Preconditions.checkArgument(path.isAbsolute());
+    for (ProjectFileHashCache cache : caches) {
+      Optional<Path> relativePath = cache.getFilesystem().getPathRelativeToProjectRoot(path);
+      if (relativePath.isPresent() && !cache.isIgnored(relativePath.get())) {
+        cache.set(relativePath.get(), hashCode);
+        return;
+      }
     }
   }
 
@@ -221,10 +230,7 @@ public class StackedFileHashCache implements FileHashCache {
 
   @Override
   public void set(ProjectFilesystem filesystem, Path path, HashCode hashCode) throws IOException {
-    Optional<? extends ProjectFileHashCache> cache = lookup(filesystem, path);
-    if (cache.isPresent()) {
-      cache.get().set(path, hashCode);
-    }
+    set(filesystem.resolve(path), hashCode);
   }
 
   public StackedFileHashCache newDecoratedFileHashCache(
@@ -27,10 +27,20 @@ import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.Optional;
+import java.util.concurrent.Executor;
 
 /** Simple interface to extract archives of varying types */
 public abstract class Unarchiver {
 
+  /**
+   * Returns an unarchiver that may use the given executor to extract entries concurrently.
+   * Unarchivers that can only extract entries one at a time return themselves.
+   */
+  @SuppressWarnings("unused")
+  public Unarchiver withExecutor(Executor executor) {
+    return this;
+  }
+
   /**
    * Extract a given archive to a destination
    *
@@ -21,9 +21,11 @@ import com.facebook.buck.io.file.MostFiles;
 import com.facebook.buck.io.filesystem.ProjectFilesystem;
 import com.facebook.buck.util.PatternsMatcher;
 import com.google.common.base.Charsets;
+import com.google.common.base.Throwables;
 import com.google.common.collect.ImmutableSet;
 import com.google.common.collect.Iterables;
 import com.google.common.io.ByteStreams;
+import com.google.common.util.concurrent.Uninterruptibles;
 import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
@@ -37,17 +39,50 @@ import java.nio.file.Paths;
 import java.nio.file.attribute.PosixFilePermission;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Queue;
 import java.util.Set;
 import java.util.SortedMap;
 import java.util.TreeMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.zip.ZipError;
+import javax.annotation.Nullable;
 import org.apache.commons.compress.archivers.zip.ZipArchiveEntry;
 import org.apache.commons.compress.archivers.zip.ZipFile;
 
-/** A simple utility class that extracts zip files */
+/**
+ * A simple utility class that extracts zip files
+ *
+ * <p>When given an {@link Executor}, files are written concurrently, once all directories have been
+ * created.
+ */
 public class Unzip extends Unarchiver {
 
+  /** The most files written at the same time, including by the thread extracting the archive. */
+  private static final int MAX_CONCURRENT_WRITES = 8;
+
+  @Nullable private final Executor executor;
+
+  /** Creates an {@link Unzip} that writes files one at a time. */
+  public Unzip() {
+    this.executor = null;
+  }
+
+  /** Creates an {@link Unzip} that writes files concurrently on the given executor. */
+  public Unzip(Executor executor) {
+    this.executor = executor;
+  }
+
+  @Override
+  public Unarchiver withExecutor(Executor executor) {
+    return new Unzip(executor);
+  }
+
   private void writeZipContents(
       ZipFile zip, ZipArchiveEntry entry, ProjectFilesystem filesystem, Path target)
       throws IOException {
@@ -168,13 +203,8 @@ public class Unzip extends Unarchiver {
     }
   }
 
-  private void extractFile(
-      ImmutableSet.Builder<Path> filesWritten,
-      ZipFile zip,
-      DirectoryCreator creator,
-      Path target,
-      ZipArchiveEntry entry)
-      throws IOException {
+  /** Makes way for a file to be written at {@code target}, creating its parent if needed. */
+  private void prepareFile(DirectoryCreator creator, Path target) throws IOException {
     ProjectFilesystem filesystem = creator.getFilesystem();
     if (filesystem.isFile(target, LinkOption.NOFOLLOW_LINKS)) { // NOPMD for clarity
       // pass
@@ -183,8 +213,56 @@ public class Unzip extends Unarchiver {
     } else if (target.getParent() != null) {
       creator.forcefullyCreateDirs(target.getParent());
     }
-    filesWritten.add(target);
-    writeZipContents(zip, entry, filesystem, target);
+  }
+
+  /**
+   * Writes the given files, on the executor's threads as well as this one if there's an executor.
+   *
+   * <p>This thread takes files from the same queue as the executor's threads, so all files get
+   * written even if the executor never runs the tasks given to it.
+   */
+  private void writeFiles(
+      ZipFile zip, ProjectFilesystem filesystem, List<Map.Entry<Path, ZipArchiveEntry>> files)
+      throws IOException {
+    if (executor == null || files.size() < 2) {
+      for (Map.Entry<Path, ZipArchiveEntry> file : files) {
+        writeZipContents(zip, file.getValue(), filesystem, file.getKey());
+      }
+      return;
+    }
+
+    Queue<Map.Entry<Path, ZipArchiveEntry>> queue = new ConcurrentLinkedQueue<>(files);
+    CountDownLatch remaining = new CountDownLatch(files.size());
+    AtomicReference<Exception> failure = new AtomicReference<>();
+    Runnable writer =
+        () -> {
+          for (Map.Entry<Path, ZipArchiveEntry> file = queue.poll();
+              file != null;
+              file = queue.poll()) {
+            try {
+              if (failure.get() == null) {
+                writeZipContents(zip, file.getValue(), filesystem, file.getKey());
+              }
+            } catch (IOException | RuntimeException e) {
+              failure.compareAndSet(null, e);
+            } finally {
+              remaining.countDown();
+            }
+          }
+        };
+    for (int i = 1; i < Math.min(files.size(), MAX_CONCURRENT_WRITES); i++) {
+      executor.execute(writer);
+    }
+    writer.run();
+    // Only files that are being written are left, so this doesn't wait long.
+    Uninterruptibles.awaitUninterruptibly(remaining);
+
+    Exception e = failure.get();
+    if (e != null) {
+      Throwables.throwIfInstanceOf(e, IOException.class);
+      Throwables.throwIfUnchecked(e);
+      throw new IllegalStateException(e);
+    }
   }
 
   private void extractDirectory(
@@ -296,15 +374,25 @@ public class Unzip extends Unarchiver {
 
       DirectoryCreator creator = new DirectoryCreator(filesystem);
 
+      // Every directory is created before any file is written, so that files can be written in
+      // any order.
+      List<Map.Entry<Path, ZipArchiveEntry>> files = new ArrayList<>();
       for (SortedMap.Entry<Path, ZipArchiveEntry> p : pathMap.entrySet()) {
         Path target = p.getKey();
         ZipArchiveEntry entry = p.getValue();
         if (entry.isDirectory()) {
           extractDirectory(existingFileMode, pathMap, creator, target);
         } else {
-          extractFile(filesWritten, zip, creator, target, entry);
+          prepareFile(creator, target);
+          files.add(p);
         }
       }
+      // A file whose path is also used by a directory would have been replaced by the directory.
+      files.removeIf(file -> creator.recordedDirectories().contains(file.getKey()));
+      for (Map.Entry<Path, ZipArchiveEntry> file : files) {
+        filesWritten.add(file.getKey());
+      }
+      writeFiles(zip, filesystem, files);
     }
     return filesWritten.build();
   }
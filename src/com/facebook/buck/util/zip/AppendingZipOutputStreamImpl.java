@@ -19,6 +19,7 @@ package com.facebook.buck.util.zip;
 import com.facebook.buck.util.timing.Clock;
 import java.io.IOException;
 import java.io.OutputStream;
+import java.nio.ByteBuffer;
 import java.util.HashSet;
 import java.util.LinkedList;
 import java.util.List;
@@ -74,6 +75,13 @@ class AppendingZipOutputStreamImpl implements CustomZipOutputStream.Impl {
     currentOffset += currentEntry.writeLocalFileHeader(delegate);
   }
 
+  @Override
+  public void actuallyPutRawEntry(ZipEntry entry, ByteBuffer rawData) throws IOException {
+    actuallyPutNextEntry(entry);
+    currentOffset += Objects.requireNonNull(currentEntry).writeRawAndFinish(delegate, rawData);
+    currentEntry = null;
+  }
+
   @Override
   public void actuallyCloseEntry() throws IOException {
     if (currentEntry == null) {
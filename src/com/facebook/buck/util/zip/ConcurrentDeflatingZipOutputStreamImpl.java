@@ -0,0 +1,230 @@
+/*
+ * Copyright (c) Facebook, Inc. and its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.facebook.buck.util.zip;
+
+import com.facebook.buck.util.timing.Clock;
+import com.google.common.base.Throwables;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipException;
+import javax.annotation.Nullable;
+
+/**
+ * An implementation of {@link CustomZipOutputStream.Impl} that deflates entries concurrently on an
+ * {@link Executor}, while still writing them in the order they were added.
+ *
+ * <p>Each entry is buffered until it is closed, and is then deflated on its own. Deflating an entry
+ * in one go produces the same bytes as deflating it as it is written, so the zip is byte-for-byte
+ * the same as the one {@link AppendingZipOutputStreamImpl} writes. Entries too large to be
+ * buffered are deflated on the writing thread once the entries before them have been written.
+ */
+class ConcurrentDeflatingZipOutputStreamImpl implements CustomZipOutputStream.Impl {
+
+  /** Entries larger than this are deflated as they are written, instead of being buffered. */
+  private static final int MAX_BUFFERED_ENTRY_SIZE = 8 * 1024 * 1024;
+
+  /** Once this many uncompressed bytes are waiting, wait for entries to be written. */
+  private static final long MAX_PENDING_BYTES = 64 * 1024 * 1024;
+
+  private final OutputStream delegate;
+  private final boolean throwExceptionsOnDuplicate;
+  private final Clock clock;
+  private final Executor executor;
+  private long currentOffset = 0;
+  private List<EntryAccounting> entries = new LinkedList<>();
+  private Set<String> seenNames = new HashSet<>();
+  private Deque<PendingEntry> pendingEntries = new ArrayDeque<>();
+  private long pendingBytes = 0;
+  @Nullable private EntryAccounting currentEntry = null;
+
+  /** The data of the current entry, or null once the entry is being written directly. */
+  @Nullable private ByteArrayOutputStream currentData = null;
+
+  public ConcurrentDeflatingZipOutputStreamImpl(
+      Clock clock, OutputStream stream, boolean throwExceptionsOnDuplicate, Executor executor) {
+    this.delegate = stream;
+    this.clock = clock;
+    this.throwExceptionsOnDuplicate = throwExceptionsOnDuplicate;
+    this.executor = executor;
+  }
+
+  @Override
+  public void actuallyWrite(byte[] b, int off, int len) throws IOException {
+    EntryAccounting entry = Objects.requireNonNull(currentEntry);
+    if (currentData != null) {
+      if (currentData.size() + len <= MAX_BUFFERED_ENTRY_SIZE) {
+        currentData.write(b, off, len);
+        return;
+      }
+
+      writePendingEntries(true);
+      writeLocalFileHeader(entry);
+      entry.write(delegate, currentData.toByteArray(), 0, currentData.size());
+      currentData = null;
+    }
+    entry.write(delegate, b, off, len);
+  }
+
+  @Override
+  public void actuallyPutNextEntry(ZipEntry entry) throws IOException {
+    if (throwExceptionsOnDuplicate && !seenNames.add(entry.getName())) {
+      // Same exception as ZipOutputStream.
+      throw new ZipException("duplicate entry: " + entry.getName());
+    }
+
+    // The offset is set once the entries before this one have been written.
+    currentEntry = new EntryAccounting(clock, entry, -1);
+    entries.add(currentEntry);
+    currentData = new ByteArrayOutputStream();
+  }
+
+  @Override
+  public void actuallyPutRawEntry(ZipEntry entry, ByteBuffer rawData) throws IOException {
+    actuallyPutNextEntry(entry);
+    EntryAccounting rawEntry = Objects.requireNonNull(currentEntry);
+    currentEntry = null;
+    currentData = null;
+
+    if (pendingEntries.isEmpty()) {
+      writeLocalFileHeader(rawEntry);
+      currentOffset += rawEntry.writeRawAndFinish(delegate, rawData);
+      return;
+    }
+
+    // There's nothing to deflate, but the entry still has to wait for the ones before it.
+    ByteArrayOutputStream data = new ByteArrayOutputStream(rawData.remaining() + 32);
+    rawEntry.writeRawAndFinish(data, rawData);
+    pendingEntries.add(
+        new PendingEntry(
+            rawEntry, data.size(), CompletableFuture.completedFuture(data.toByteArray())));
+    pendingBytes += data.size();
+    writePendingEntries(false);
+  }
+
+  @Override
+  public void actuallyCloseEntry() throws IOException {
+    if (currentEntry == null) {
+      return; // no-op
+    }
+
+    EntryAccounting entry = currentEntry;
+    currentEntry = null;
+    if (currentData == null) {
+      currentOffset += entry.finish(delegate);
+      return;
+    }
+
+    byte[] data = currentData.toByteArray();
+    currentData = null;
+    pendingEntries.add(
+        new PendingEntry(
+            entry,
+            data.length,
+            CompletableFuture.supplyAsync(() -> compress(entry, data), executor)));
+    pendingBytes += data.length;
+    writePendingEntries(false);
+  }
+
+  @Override
+  public void actuallyClose() throws IOException {
+    writePendingEntries(true);
+    new CentralDirectory().writeCentralDirectory(delegate, currentOffset, entries);
+
+    delegate.close();
+  }
+
+  /**
+   * Writes the pending entries that are ready, in order, and waits for more of them while too many
+   * bytes are pending, or for all of them if {@code all} is set.
+   */
+  private void writePendingEntries(boolean all) throws IOException {
+    while (!pendingEntries.isEmpty()
+        && (all
+            || pendingBytes > MAX_PENDING_BYTES
+            || pendingEntries.peek().compressedData.isDone())) {
+      PendingEntry pending = pendingEntries.remove();
+      pendingBytes -= pending.size;
+
+      byte[] compressedData = getCompressedData(pending.compressedData);
+      writeLocalFileHeader(pending.entry);
+      delegate.write(compressedData);
+      currentOffset += compressedData.length;
+    }
+  }
+
+  private void writeLocalFileHeader(EntryAccounting entry) throws IOException {
+    entry.setOffset(currentOffset);
+    currentOffset += entry.writeLocalFileHeader(delegate);
+  }
+
+  /**
+   * Returns the entry's data as it is written after its local file header. The entry's deflater is
+   * created and ended here, so entries waiting for their turn only hold their uncompressed data.
+   */
+  private static byte[] compress(EntryAccounting entry, byte[] data) {
+    ByteArrayOutputStream out = new ByteArrayOutputStream(data.length / 2 + 64);
+    try {
+      entry.write(out, data, 0, data.length);
+      entry.finish(out);
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+    return out.toByteArray();
+  }
+
+  private static byte[] getCompressedData(CompletableFuture<byte[]> compressedData)
+      throws IOException {
+    try {
+      // Unlike get(), join() lets the ForkJoin pool compensate when called from one of its threads.
+      return compressedData.join();
+    } catch (CompletionException e) {
+      Throwable cause = e.getCause();
+      if (cause instanceof UncheckedIOException) {
+        throw ((UncheckedIOException) cause).getCause();
+      }
+      Throwables.throwIfUnchecked(cause);
+      throw e;
+    }
+  }
+
+  private static class PendingEntry {
+    private final EntryAccounting entry;
+    private final long size;
+    private final CompletableFuture<byte[]> compressedData;
+
+    private PendingEntry(
+        EntryAccounting entry, long size, CompletableFuture<byte[]> compressedData) {
+      this.entry = entry;
+      this.size = size;
+      this.compressedData = compressedData;
+    }
+  }
+}
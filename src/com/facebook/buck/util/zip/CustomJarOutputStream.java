@@ -21,6 +21,7 @@ import com.google.common.hash.Hasher;
 import com.google.common.hash.Hashing;
 import java.io.IOException;
 import java.io.OutputStream;
+import java.nio.ByteBuffer;
 import java.util.jar.JarFile;
 import java.util.zip.ZipEntry;
 import javax.annotation.Nullable;
@@ -85,6 +86,14 @@ public class CustomJarOutputStream extends CustomZipOutputStream {
       currentEntry = entry;
     }
 
+    @Override
+    public void actuallyPutRawEntry(ZipEntry entry, ByteBuffer rawData) throws IOException {
+      if (shouldHashEntries && !entry.isDirectory()) {
+        throw new IllegalStateException("Entries can't be hashed without inflating them.");
+      }
+      inner.actuallyPutRawEntry(entry, rawData);
+    }
+
     @Override
     public void actuallyWrite(byte[] b, int off, int len) throws IOException {
       inner.actuallyWrite(b, off, len);
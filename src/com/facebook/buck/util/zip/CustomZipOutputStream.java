@@ -21,6 +21,7 @@ import com.google.common.io.ByteStreams;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.nio.ByteBuffer;
 import java.util.zip.ZipEntry;
 import java.util.zip.ZipException;
 
@@ -54,6 +55,16 @@ public class CustomZipOutputStream extends OutputStream {
      */
     void actuallyWrite(byte b[], int off, int len) throws IOException;
 
+    /**
+     * Called by {@link CustomZipOutputStream#putRawEntry(ZipEntry, ByteBuffer)} to write an entry
+     * whose data is already compressed. It is guaranteed that the stream will be open and that
+     * there's no current entry open.
+     */
+    @SuppressWarnings("unused")
+    default void actuallyPutRawEntry(ZipEntry entry, ByteBuffer rawData) throws IOException {
+      throw new UnsupportedOperationException("Raw entries are not supported by " + this);
+    }
+
     void actuallyClose() throws IOException;
   }
 
@@ -77,6 +88,25 @@ public class CustomZipOutputStream extends OutputStream {
     entryOpen = true;
   }
 
+  /**
+   * Writes a whole entry whose data is already compressed, such as an entry copied from another
+   * zip, without inflating and deflating it again. The entry's method, crc, size and compressed
+   * size must describe {@code rawData}, which is the data as it's stored in a zip file.
+   */
+  public final void putRawEntry(ZipEntry entry, ByteBuffer rawData) throws IOException {
+    Preconditions.checkState(state != State.CLOSED, "Stream has been closed.");
+    Preconditions.checkArgument(
+        entry.getCrc() != -1
+            && entry.getSize() != -1
+            && entry.getCompressedSize() == rawData.remaining(),
+        "Raw entries need a crc and sizes matching their data.");
+
+    state = State.OPEN;
+    closeEntry();
+    validateEntry(entry);
+    impl.actuallyPutRawEntry(entry, rawData);
+  }
+
   private void validateEntry(ZipEntry entry) {
     if (entry.getMethod() == ZipEntry.STORED) {
       Preconditions.checkState(
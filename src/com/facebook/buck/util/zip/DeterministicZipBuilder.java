@@ -22,6 +22,7 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.concurrent.Executor;
 import java.util.zip.CRC32;
 
 public class DeterministicZipBuilder implements Closeable {
@@ -33,6 +34,13 @@ public class DeterministicZipBuilder implements Closeable {
     this.output = ZipOutputStreams.newOutputStream(path);
   }
 
+  /** Creates a builder that deflates entries concurrently on {@code compressionExecutor}. */
+  public DeterministicZipBuilder(Path path, Executor compressionExecutor) throws IOException {
+    this.output =
+        ZipOutputStreams.newConcurrentOutputStream(
+            path, ZipOutputStreams.HandleDuplicates.THROW_EXCEPTION, compressionExecutor);
+  }
+
   public void addEntry(
       InputStream data,
       long dataLength,
@@ -24,6 +24,7 @@ import com.google.common.hash.Hashing;
 import com.google.common.io.CountingOutputStream;
 import java.io.IOException;
 import java.io.OutputStream;
+import java.nio.ByteBuffer;
 import java.util.Calendar;
 import java.util.Locale;
 import java.util.zip.Deflater;
@@ -68,8 +69,16 @@ class EntryAccounting {
    */
   private int flags = UTF8_NAMES_FLAG;
 
-  @Nullable private Deflater deflater = new Deflater(Deflater.DEFAULT_COMPRESSION, true);
-  @Nullable private byte[] buffer = new byte[ARBITRARY_SIZE];
+  private int compressionLevel = Deflater.DEFAULT_COMPRESSION;
+  private boolean finished = false;
+
+  /**
+   * Created when the entry is first deflated, and ended when it is finished, so that entries
+   * waiting to be deflated don't hold on to the native memory of a deflater.
+   */
+  @Nullable private Deflater deflater = null;
+
+  @Nullable private byte[] buffer = null;
 
   public EntryAccounting(Clock clock, ZipEntry entry, long currentOffset) {
     this.entry = entry;
@@ -81,7 +90,7 @@ class EntryAccounting {
     }
 
     if (entry instanceof CustomZipEntry) {
-      deflater.setLevel(((CustomZipEntry) entry).getCompressionLevel());
+      compressionLevel = ((CustomZipEntry) entry).getCompressionLevel();
       externalAttributes = ((CustomZipEntry) entry).getExternalAttributes();
     }
   }
@@ -255,8 +264,16 @@ class EntryAccounting {
     return out.getCount();
   }
 
-  private int deflate(OutputStream out) throws IOException {
-    Preconditions.checkState(deflater != null);
+  private Deflater getDeflater() {
+    Preconditions.checkState(!finished);
+    if (deflater == null) {
+      deflater = new Deflater(compressionLevel, true);
+      buffer = new byte[ARBITRARY_SIZE];
+    }
+    return deflater;
+  }
+
+  private int deflate(Deflater deflater, OutputStream out) throws IOException {
     Preconditions.checkState(buffer != null);
     int written = deflater.deflate(buffer, 0, buffer.length);
     if (written > 0) {
@@ -275,11 +292,11 @@ class EntryAccounting {
       out.write(b, off, len);
       length += len;
     } else if (method == Method.DEFLATE) {
-      Preconditions.checkState(deflater != null);
+      Deflater deflater = getDeflater();
       Preconditions.checkState(!deflater.finished());
       deflater.setInput(b, off, len);
       while (!deflater.needsInput()) {
-        deflate(out);
+        deflate(deflater, out);
       }
     }
   }
@@ -289,7 +306,7 @@ class EntryAccounting {
    * local file header, but counting the data descriptor if present). Must be called exactly once.
    */
   public long finish(OutputStream out) throws IOException {
-    Preconditions.checkState(deflater != null);
+    Preconditions.checkState(!finished);
     if (method == Method.STORE) {
       Preconditions.checkState(
           entry.getSize() == length && entry.getCompressedSize() == length,
@@ -298,9 +315,10 @@ class EntryAccounting {
           entry.getCrc() == calculateCrc(),
           "CRC of bytes written differs from what is specified in the entry.");
     } else if (method == Method.DEFLATE) {
+      Deflater deflater = getDeflater();
       deflater.finish();
       while (!deflater.finished()) {
-        deflate(out);
+        deflate(deflater, out);
       }
       entry.setSize(deflater.getBytesRead());
       entry.setCompressedSize(deflater.getBytesWritten());
@@ -311,13 +329,48 @@ class EntryAccounting {
     long dataDescriptorLength = writeDataDescriptor(out);
 
     // regardless of the method used, end the deflater to free native resources.
-    deflater.end();
-    deflater = null;
-    buffer = null;
+    end();
+
+    return entry.getCompressedSize() + dataDescriptorLength;
+  }
+
+  /**
+   * Writes data that is already compressed with the entry's method, and finishes the entry. The
+   * entry's crc and sizes must already be set. Returns the same as {@link #finish(OutputStream)}.
+   */
+  public long writeRawAndFinish(OutputStream out, ByteBuffer data) throws IOException {
+    Preconditions.checkState(!finished);
+    Preconditions.checkState(
+        data.remaining() == entry.getCompressedSize(),
+        "Number of bytes written differs from what is specified in the entry.");
+    if (data.hasArray()) {
+      out.write(data.array(), data.arrayOffset() + data.position(), data.remaining());
+    } else {
+      ByteBuffer source = data.duplicate();
+      byte[] buffer = new byte[ARBITRARY_SIZE];
+      while (source.hasRemaining()) {
+        int length = Math.min(buffer.length, source.remaining());
+        source.get(buffer, 0, length);
+        out.write(buffer, 0, length);
+      }
+    }
+
+    long dataDescriptorLength = writeDataDescriptor(out);
+
+    end();
 
     return entry.getCompressedSize() + dataDescriptorLength;
   }
 
+  private void end() {
+    finished = true;
+    if (deflater != null) {
+      deflater.end();
+      deflater = null;
+    }
+    buffer = null;
+  }
+
   private boolean requiresDataDescriptor() {
     return method == Method.DEFLATE;
   }
@@ -26,6 +26,7 @@ import com.google.common.io.CharStreams;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
+import java.nio.ByteBuffer;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.ArrayList;
@@ -37,6 +38,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.Executor;
 import java.util.function.Predicate;
 import java.util.jar.Attributes;
 import java.util.jar.JarFile;
@@ -68,6 +70,7 @@ public class JarBuilder {
   private boolean shouldDisallowAllDuplicates;
   private boolean shouldHashEntries;
   private Predicate<? super CustomZipEntry> removeEntryPredicate = entry -> false;
+  @Nullable private Executor compressionExecutor;
   private List<JarEntryContainer> sourceContainers = new ArrayList<>();
   private Set<String> alreadyAddedEntries = new HashSet<>();
   private Map<String, Set<String>> services = new HashMap<>();
@@ -132,11 +135,23 @@ public class JarBuilder {
     return this;
   }
 
+  /**
+   * Deflates entries concurrently on the given executor. The jar is the same, but entries are
+   * buffered in memory until they are deflated.
+   */
+  public JarBuilder setCompressionExecutor(@Nullable Executor compressionExecutor) {
+    this.compressionExecutor = compressionExecutor;
+    return this;
+  }
+
   public int createJarFile(Path outputFile) throws IOException {
     Preconditions.checkArgument(outputFile.isAbsolute());
     try (CustomJarOutputStream jar =
-        ZipOutputStreams.newJarOutputStream(
-            outputFile, ZipOutputStreams.HandleDuplicates.APPEND_TO_ZIP)) {
+        compressionExecutor == null
+            ? ZipOutputStreams.newJarOutputStream(
+                outputFile, ZipOutputStreams.HandleDuplicates.APPEND_TO_ZIP)
+            : ZipOutputStreams.newConcurrentJarOutputStream(
+                outputFile, ZipOutputStreams.HandleDuplicates.APPEND_TO_ZIP, compressionExecutor)) {
       jar.setEntryHashingEnabled(shouldHashEntries);
       this.outputFile = outputFile;
 
@@ -275,6 +290,14 @@ public class JarBuilder {
       return;
     }
 
+    // Entries copied from other zips are copied as they're stored, unless they have to be hashed.
+    ByteBuffer rawData = shouldHashEntries ? null : entrySupplier.getRawDataSupplier().get();
+    if (rawData != null) {
+      entry.setCompressedSize(rawData.remaining());
+      jar.putRawEntry(entry, rawData);
+      return;
+    }
+
     jar.putNextEntry(entry);
     try (InputStream entryInputStream = entrySupplier.getInputStreamSupplier().get()) {
       if (entryInputStream != null) {
@@ -19,6 +19,7 @@ package com.facebook.buck.util.zip;
 import com.facebook.buck.util.function.ThrowingSupplier;
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.ByteBuffer;
 
 /**
  * Encapsulates a file or directory to be added as a single entry to a jar by {@link JarBuilder}.
@@ -27,14 +28,28 @@ public class JarEntrySupplier {
   private final CustomZipEntry entry;
   private final String owner;
   private final ThrowingSupplier<InputStream, IOException> inputStreamSupplier;
+  private final ThrowingSupplier<ByteBuffer, IOException> rawDataSupplier;
 
   public JarEntrySupplier(
       CustomZipEntry entry,
       String owner,
       ThrowingSupplier<InputStream, IOException> inputStreamSupplier) {
+    this(entry, owner, inputStreamSupplier, () -> null);
+  }
+
+  /**
+   * @param rawDataSupplier supplies the entry's data as it's stored in a zip, if it's compressed
+   *     with the entry's method and can be copied as is, or null.
+   */
+  public JarEntrySupplier(
+      CustomZipEntry entry,
+      String owner,
+      ThrowingSupplier<InputStream, IOException> inputStreamSupplier,
+      ThrowingSupplier<ByteBuffer, IOException> rawDataSupplier) {
     this.entry = entry;
     this.owner = owner;
     this.inputStreamSupplier = inputStreamSupplier;
+    this.rawDataSupplier = rawDataSupplier;
   }
 
   public CustomZipEntry getEntry() {
@@ -48,4 +63,8 @@ public class JarEntrySupplier {
   public ThrowingSupplier<InputStream, IOException> getInputStreamSupplier() {
     return inputStreamSupplier;
   }
+
+  public ThrowingSupplier<ByteBuffer, IOException> getRawDataSupplier() {
+    return rawDataSupplier;
+  }
 }
@@ -0,0 +1,345 @@
+/*
+ * Copyright (c) Facebook, Inc. and its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.facebook.buck.util.zip;
+
+import com.facebook.buck.core.util.log.Logger;
+import com.facebook.buck.util.environment.Platform;
+import com.google.common.collect.ImmutableCollection;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.hash.HashCode;
+import com.google.common.hash.HashFunction;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Calendar;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.zip.DataFormatException;
+import java.util.zip.Inflater;
+import java.util.zip.ZipEntry;
+import javax.annotation.Nullable;
+
+/**
+ * A read-only zip file that is memory-mapped once and whose central directory is parsed up front,
+ * so that looking up and reading entries doesn't go back to the filesystem.
+ *
+ * <p>Instances can be shared between threads. The mapping stays valid after the file is deleted or
+ * replaced by a rename, but not if the file is rewritten in place, so callers should only keep an
+ * instance for as long as they know the file is unchanged. Zip64 archives aren't supported.
+ */
+public class MappedZipFile {
+  private static final Logger LOG = Logger.get(MappedZipFile.class);
+
+  /** An entry in the central directory. */
+  public static class Entry {
+    private final String name;
+    private final int method;
+    private final int dosTime;
+    private final long crc;
+    private final int compressedSize;
+    private final int size;
+    private final int localHeaderOffset;
+
+    private Entry(
+        String name,
+        int method,
+        int dosTime,
+        long crc,
+        int compressedSize,
+        int size,
+        int localHeaderOffset) {
+      this.name = name;
+      this.method = method;
+      this.dosTime = dosTime;
+      this.crc = crc;
+      this.compressedSize = compressedSize;
+      this.size = size;
+      this.localHeaderOffset = localHeaderOffset;
+    }
+
+    public String getName() {
+      return name;
+    }
+
+    public boolean isDirectory() {
+      return name.endsWith("/");
+    }
+
+    /** Returns {@link ZipEntry#STORED} or {@link ZipEntry#DEFLATED}. */
+    public int getMethod() {
+      return method;
+    }
+
+    /** Returns the modification time of the entry, like {@link ZipEntry#getTime()}. */
+    public long getTime() {
+      Calendar calendar = Calendar.getInstance(Locale.US);
+      calendar.clear();
+      calendar.set(
+          1980 + ((dosTime >> 25) & 0x7f),
+          ((dosTime >> 21) & 0x0f) - 1,
+          (dosTime >> 16) & 0x1f,
+          (dosTime >> 11) & 0x1f,
+          (dosTime >> 5) & 0x3f,
+          (dosTime << 1) & 0x3e);
+      return calendar.getTimeInMillis();
+    }
+
+    public long getCrc() {
+      return crc;
+    }
+
+    public int getCompressedSize() {
+      return compressedSize;
+    }
+
+    public int getSize() {
+      return size;
+    }
+
+    /**
+     * Returns a new entry with the same name, time, method, crc and sizes, which can be passed to
+     * {@link CustomZipOutputStream#putRawEntry} with the data from {@link #getRawData(Entry)}.
+     */
+    public CustomZipEntry toCustomZipEntry() {
+      CustomZipEntry entry = new CustomZipEntry(name);
+      entry.setMethod(method);
+      entry.setTime(getTime());
+      entry.setCrc(crc);
+      entry.setSize(size);
+      entry.setCompressedSize(compressedSize);
+      return entry;
+    }
+  }
+
+  private final Path path;
+  private final ByteBuffer buffer;
+  private final ImmutableList<Entry> allEntries;
+  private final ImmutableMap<String, Entry> entries;
+
+  private MappedZipFile(Path path, ByteBuffer buffer, ImmutableList<Entry> allEntries) {
+    this.path = path;
+    this.buffer = buffer;
+    this.allEntries = allEntries;
+    Map<String, Entry> entries = new LinkedHashMap<>();
+    for (Entry entry : allEntries) {
+      entries.putIfAbsent(entry.name, entry);
+    }
+    this.entries = ImmutableMap.copyOf(entries);
+  }
+
+  /** Maps the zip file at the given path and reads its central directory. */
+  public static MappedZipFile open(Path path) throws IOException {
+    ByteBuffer buffer;
+    try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+      if (channel.size() > Integer.MAX_VALUE) {
+        throw new UnsupportedZipException(String.format("%s is too large to be mapped", path));
+      }
+      buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+    }
+    buffer.order(ByteOrder.LITTLE_ENDIAN);
+    return new MappedZipFile(path, buffer, readCentralDirectory(path, buffer));
+  }
+
+  /**
+   * Like {@link #open(Path)}, but returns an empty optional when the file shouldn't be mapped, so
+   * that callers can fall back to {@link java.util.zip.ZipFile}: on Windows, where a mapped file
+   * can't be deleted or replaced until the mapping is garbage collected, for zip64 files and files
+   * too large to be mapped, and when the file is truncated while its central directory is read.
+   *
+   * <p>Reading the mapping of a file that was truncated since it was mapped throws {@link
+   * InternalError}, so callers reading files that other builds may rewrite have to catch it too.
+   */
+  public static Optional<MappedZipFile> openIfSupported(Path path) throws IOException {
+    if (Platform.detect() == Platform.WINDOWS) {
+      return Optional.empty();
+    }
+    try {
+      return Optional.of(open(path));
+    } catch (UnsupportedZipException e) {
+      return Optional.empty();
+    } catch (InternalError e) {
+      LOG.debug(e, "%s changed while it was mapped, reading it with ZipFile instead.", path);
+      return Optional.empty();
+    }
+  }
+
+  public Path getPath() {
+    return path;
+  }
+
+  /** Returns the entries in central directory order. If a name repeats, the first one is kept. */
+  public ImmutableCollection<Entry> getEntries() {
+    return entries.values();
+  }
+
+  /** Returns all the entries in central directory order, including repeated names. */
+  public ImmutableList<Entry> getAllEntries() {
+    return allEntries;
+  }
+
+  @Nullable
+  public Entry getEntry(String name) {
+    return entries.get(name);
+  }
+
+  /** Hashes the whole file. */
+  public HashCode hash(HashFunction hashFunction) {
+    return hashFunction.newHasher().putBytes(buffer.duplicate()).hash();
+  }
+
+  /** Returns the data of the entry as it's stored in the file, without decompressing it. */
+  public ByteBuffer getRawData(Entry entry) throws IOException {
+    int offset = entry.localHeaderOffset;
+    check(
+        offset + ZipEntry.LOCHDR <= buffer.limit() && buffer.getInt(offset) == ZipEntry.LOCSIG,
+        "expected local header signature",
+        entry);
+    int dataOffset =
+        offset
+            + ZipEntry.LOCHDR
+            + Short.toUnsignedInt(buffer.getShort(offset + ZipEntry.LOCNAM))
+            + Short.toUnsignedInt(buffer.getShort(offset + ZipEntry.LOCEXT));
+    check(dataOffset + entry.compressedSize <= buffer.limit(), "entry data is truncated", entry);
+    ByteBuffer data = buffer.duplicate();
+    data.position(dataOffset);
+    data.limit(dataOffset + entry.compressedSize);
+    return data.slice();
+  }
+
+  /**
+   * Like {@link #getRawData}, but copied out of the mapping, so that a fault from the file having
+   * been truncated since it was mapped is thrown here rather than wherever the data is written.
+   */
+  public ByteBuffer copyRawData(Entry entry) throws IOException {
+    ByteBuffer mappedData = getRawData(entry);
+    ByteBuffer data = ByteBuffer.allocate(mappedData.remaining());
+    data.put(mappedData);
+    data.flip();
+    return data;
+  }
+
+  /** Returns the decompressed contents of the entry. */
+  public byte[] read(Entry entry) throws IOException {
+    ByteBuffer data = getRawData(entry);
+    byte[] contents = new byte[entry.size];
+    if (entry.method == ZipEntry.STORED) {
+      check(entry.compressedSize == entry.size, "stored entry has mismatched sizes", entry);
+      data.get(contents);
+      return contents;
+    }
+    check(entry.method == ZipEntry.DEFLATED, "unsupported compression method", entry);
+    byte[] compressed = new byte[entry.compressedSize];
+    data.get(compressed);
+    Inflater inflater = new Inflater(true);
+    try {
+      inflater.setInput(compressed);
+      int read = 0;
+      while (read < contents.length) {
+        int inflated = inflater.inflate(contents, read, contents.length - read);
+        if (inflated == 0 && (inflater.finished() || inflater.needsInput())) {
+          break;
+        }
+        read += inflated;
+      }
+      check(read == contents.length, "entry is shorter than its size", entry);
+    } catch (DataFormatException e) {
+      throw new IOException(String.format("%s in %s is corrupt", entry.name, path), e);
+    } finally {
+      inflater.end();
+    }
+    return contents;
+  }
+
+  private static ImmutableList<Entry> readCentralDirectory(Path path, ByteBuffer buffer)
+      throws IOException {
+    // Search backwards from the end of the file for the EOCD signature. The EOCD is followed by a
+    // comment of at most 64k.
+    int eocdOffset = buffer.limit() - ZipEntry.ENDHDR;
+    int minEocdOffset = Math.max(0, eocdOffset - 0xffff);
+    while (eocdOffset >= minEocdOffset && buffer.getInt(eocdOffset) != ZipEntry.ENDSIG) {
+      eocdOffset--;
+    }
+    if (eocdOffset < minEocdOffset) {
+      throw new IOException(String.format("%s is not a zip file", path));
+    }
+
+    int entryCount = Short.toUnsignedInt(buffer.getShort(eocdOffset + ZipEntry.ENDTOT));
+    long cdOffset = Integer.toUnsignedLong(buffer.getInt(eocdOffset + ZipEntry.ENDOFF));
+    if (entryCount == ZipConstants.ZIP64_MAGICCOUNT || cdOffset == ZipConstants.ZIP64_MAGICVAL) {
+      throw new UnsupportedZipException(String.format("%s is a zip64 file", path));
+    }
+
+    ImmutableList.Builder<Entry> entries = ImmutableList.builderWithExpectedSize(entryCount);
+    int offset = (int) cdOffset;
+    for (int i = 0; i < entryCount; i++) {
+      if (offset + ZipEntry.CENHDR > eocdOffset || buffer.getInt(offset) != ZipEntry.CENSIG) {
+        throw new IOException(
+            String.format("%s: expected central directory header signature", path));
+      }
+      int nameLength = Short.toUnsignedInt(buffer.getShort(offset + ZipEntry.CENNAM));
+      byte[] nameBytes = new byte[nameLength];
+      ByteBuffer name = buffer.duplicate();
+      name.position(offset + ZipEntry.CENHDR);
+      name.get(nameBytes);
+      long compressedSize = Integer.toUnsignedLong(buffer.getInt(offset + ZipEntry.CENSIZ));
+      long size = Integer.toUnsignedLong(buffer.getInt(offset + ZipEntry.CENLEN));
+      long localHeaderOffset = Integer.toUnsignedLong(buffer.getInt(offset + ZipEntry.CENOFF));
+      if (compressedSize >= Integer.MAX_VALUE
+          || size >= Integer.MAX_VALUE
+          || localHeaderOffset >= Integer.MAX_VALUE) {
+        throw new UnsupportedZipException(String.format("%s is a zip64 file", path));
+      }
+      Entry entry =
+          new Entry(
+              new String(nameBytes, StandardCharsets.UTF_8),
+              Short.toUnsignedInt(buffer.getShort(offset + ZipEntry.CENHOW)),
+              buffer.getInt(offset + ZipEntry.CENTIM),
+              Integer.toUnsignedLong(buffer.getInt(offset + ZipEntry.CENCRC)),
+              (int) compressedSize,
+              (int) size,
+              (int) localHeaderOffset);
+      entries.add(entry);
+
+      offset +=
+          ZipEntry.CENHDR
+              + nameLength
+              + Short.toUnsignedInt(buffer.getShort(offset + ZipEntry.CENEXT))
+              + Short.toUnsignedInt(buffer.getShort(offset + ZipEntry.CENCOM));
+    }
+    return entries.build();
+  }
+
+  private void check(boolean expression, String message, Entry entry) throws IOException {
+    if (!expression) {
+      throw new IOException(String.format("%s in %s: %s", entry.name, path, message));
+    }
+  }
+
+  /** Thrown for valid zip files that can't be mapped. */
+  private static class UnsupportedZipException extends IOException {
+    UnsupportedZipException(String message) {
+      super(message);
+    }
+  }
+}
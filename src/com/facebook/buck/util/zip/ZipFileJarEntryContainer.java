@@ -16,8 +16,10 @@
 
 package com.facebook.buck.util.zip;
 
+import com.facebook.buck.core.util.log.Logger;
 import java.io.File;
 import java.io.IOException;
+import java.nio.ByteBuffer;
 import java.nio.file.Path;
 import java.util.jar.JarFile;
 import java.util.jar.Manifest;
@@ -27,9 +29,13 @@ import javax.annotation.Nullable;
 
 /** Provides all entries of a given zip or jar file, so they can be added to another jar. */
 class ZipFileJarEntryContainer implements JarEntryContainer {
+  private static final Logger LOG = Logger.get(ZipFileJarEntryContainer.class);
+
   private final String owner;
   private final Path jarFilePath;
   @Nullable private JarFile jar;
+  @Nullable private MappedZipFile mappedZip;
+  private boolean triedMapping = false;
 
   public ZipFileJarEntryContainer(Path jarFilePath) {
     this.jarFilePath = jarFilePath;
@@ -48,7 +54,10 @@ class ZipFileJarEntryContainer implements JarEntryContainer {
         .map(
             entry ->
                 new JarEntrySupplier(
-                    makeCustomEntry(entry), owner, () -> getJarFile().getInputStream(entry)));
+                    makeCustomEntry(entry),
+                    owner,
+                    () -> getJarFile().getInputStream(entry),
+                    () -> getRawData(entry)));
   }
 
   @Override
@@ -57,6 +66,39 @@ class ZipFileJarEntryContainer implements JarEntryContainer {
       jar.close();
       jar = null;
     }
+    mappedZip = null;
+    triedMapping = false;
+  }
+
+  /**
+   * Returns the data of the entry as it's stored in the zip, so that it can be copied without
+   * inflating and deflating it again, or null if the zip can't be mapped or was truncated since it
+   * was mapped, in which case the entry is inflated from the {@link JarFile} instead.
+   */
+  @Nullable
+  private ByteBuffer getRawData(ZipEntry entry) throws IOException {
+    if (!triedMapping) {
+      mappedZip = MappedZipFile.openIfSupported(jarFilePath).orElse(null);
+      triedMapping = true;
+    }
+    if (mappedZip == null) {
+      return null;
+    }
+    MappedZipFile.Entry mappedEntry = mappedZip.getEntry(entry.getName());
+    if (mappedEntry == null
+        || (entry.getMethod() != ZipEntry.STORED && entry.getMethod() != ZipEntry.DEFLATED)
+        || mappedEntry.getMethod() != entry.getMethod()
+        || mappedEntry.getCrc() != entry.getCrc()
+        || mappedEntry.getSize() != entry.getSize()) {
+      return null;
+    }
+    try {
+      return mappedZip.copyRawData(mappedEntry);
+    } catch (InternalError e) {
+      LOG.debug(e, "%s changed while it was mapped, reading it with ZipFile instead.", owner);
+      mappedZip = null;
+      return null;
+    }
   }
 
   private JarFile getJarFile() throws IOException {
@@ -19,11 +19,13 @@ package com.facebook.buck.util.zip;
 import com.facebook.buck.core.exceptions.HumanReadableException;
 import com.facebook.buck.util.timing.Clock;
 import com.facebook.buck.util.timing.DefaultClock;
+import com.google.common.base.Preconditions;
 import java.io.BufferedOutputStream;
 import java.io.IOException;
 import java.io.OutputStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.concurrent.Executor;
 
 public class ZipOutputStreams {
 
@@ -111,6 +113,44 @@ public class ZipOutputStreams {
     return new CustomJarOutputStream(newImpl(out, mode, clock));
   }
 
+  /**
+   * Create a new {@link CustomZipOutputStream} that deflates entries concurrently on {@code
+   * executor}. The zip is the same as the one written by {@link #newOutputStream(Path,
+   * HandleDuplicates)}, but entries are buffered in memory until they are deflated.
+   *
+   * @param zipFile The file to write to.
+   * @param mode How to handle duplicate entries. Overwriting them is not supported.
+   * @param executor The executor to deflate entries on.
+   */
+  public static CustomZipOutputStream newConcurrentOutputStream(
+      Path zipFile, HandleDuplicates mode, Executor executor) throws IOException {
+    return newConcurrentOutputStream(
+        new BufferedOutputStream(Files.newOutputStream(zipFile), FILE_BUFFER_SIZE), mode, executor);
+  }
+
+  public static CustomZipOutputStream newConcurrentOutputStream(
+      OutputStream out, HandleDuplicates mode, Executor executor) {
+    return new CustomZipOutputStream(newConcurrentImpl(out, mode, executor));
+  }
+
+  public static CustomJarOutputStream newConcurrentJarOutputStream(
+      Path jarFile, HandleDuplicates mode, Executor executor) throws IOException {
+    return new CustomJarOutputStream(
+        newConcurrentImpl(
+            new BufferedOutputStream(Files.newOutputStream(jarFile), FILE_BUFFER_SIZE),
+            mode,
+            executor));
+  }
+
+  private static CustomZipOutputStream.Impl newConcurrentImpl(
+      OutputStream out, HandleDuplicates mode, Executor executor) {
+    Preconditions.checkArgument(
+        mode != HandleDuplicates.OVERWRITE_EXISTING,
+        "Zips overwriting duplicate entries can't be deflated concurrently.");
+    return new ConcurrentDeflatingZipOutputStreamImpl(
+        new DefaultClock(), out, mode == HandleDuplicates.THROW_EXCEPTION, executor);
+  }
+
   protected static CustomZipOutputStream.Impl newImpl(
       OutputStream out, HandleDuplicates mode, Clock clock) {
     CustomZipOutputStream.Impl impl;
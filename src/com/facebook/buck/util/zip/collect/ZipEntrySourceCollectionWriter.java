@@ -16,18 +16,22 @@
 
 package com.facebook.buck.util.zip.collect;
 
+import com.facebook.buck.core.util.log.Logger;
 import com.facebook.buck.io.filesystem.ProjectFilesystem;
 import com.facebook.buck.io.pathformat.PathFormatter;
 import com.facebook.buck.util.zip.CustomZipEntry;
 import com.facebook.buck.util.zip.CustomZipOutputStream;
+import com.facebook.buck.util.zip.MappedZipFile;
 import com.facebook.buck.util.zip.ZipOutputStreams;
 import com.google.common.collect.HashMultimap;
+import com.google.common.collect.ImmutableList;
 import com.google.common.collect.Multimap;
 import com.google.common.io.ByteStreams;
 import java.io.BufferedInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.nio.ByteBuffer;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
@@ -36,12 +40,14 @@ import java.util.Deque;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
 import java.util.zip.ZipEntry;
 import java.util.zip.ZipInputStream;
 
 /** Writes a {@link ZipEntrySourceCollection} to a zip file. */
 public class ZipEntrySourceCollectionWriter {
+  private static final Logger LOG = Logger.get(ZipEntrySourceCollectionWriter.class);
 
   private final ProjectFilesystem projectFilesystem;
 
@@ -130,13 +136,52 @@ public class ZipEntrySourceCollectionWriter {
       Set<Path> seenFiles,
       Multimap<String, Integer> allowedEntries)
       throws IOException {
+    Optional<MappedZipFile> zip = MappedZipFile.openIfSupported(from);
+    if (!zip.isPresent()) {
+      copyZipInflating(out, from, seenFiles, allowedEntries, 0);
+      return;
+    }
+
+    // Entries are copied as they're stored, without inflating and deflating them again.
+    ImmutableList<MappedZipFile.Entry> entries = zip.get().getAllEntries();
+    for (int position = 0; position < entries.size(); position++) {
+      MappedZipFile.Entry entry = entries.get(position);
+      if (!allowedEntries.containsEntry(entry.getName(), position)) {
+        continue;
+      }
+      ByteBuffer data;
+      try {
+        data = zip.get().copyRawData(entry);
+      } catch (InternalError e) {
+        // The zip was truncated since it was mapped. Nothing of the entry was written yet.
+        LOG.debug(e, "%s changed while it was mapped, inflating the rest of it.", from);
+        copyZipInflating(out, from, seenFiles, allowedEntries, position);
+        return;
+      }
+      if (entry.isDirectory()) {
+        seenFiles.add(Paths.get(entry.getName()));
+      }
+      CustomZipEntry customEntry = entry.toCustomZipEntry();
+      customEntry.setFakeTime();
+      out.putRawEntry(customEntry, data);
+    }
+  }
+
+  /** Copies the allowed entries of the zip, starting at the given position, by inflating them. */
+  private static void copyZipInflating(
+      CustomZipOutputStream out,
+      Path from,
+      Set<Path> seenFiles,
+      Multimap<String, Integer> allowedEntries,
+      int firstPosition)
+      throws IOException {
     try (ZipInputStream in =
         new ZipInputStream(new BufferedInputStream(Files.newInputStream(from)))) {
       int position = 0;
       for (ZipEntry entry = in.getNextEntry();
           entry != null;
           entry = in.getNextEntry(), position++) {
-        if (!allowedEntries.containsKey(entry.getName())) {
+        if (position < firstPosition || !allowedEntries.containsKey(entry.getName())) {
           continue;
         }
         if (!allowedEntries.get(entry.getName()).contains(position)) {
@@ -37,6 +37,7 @@ import java.util.HashSet;
 import java.util.Optional;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
 import javax.annotation.Nullable;
 import javax.annotation.concurrent.ThreadSafe;
 
@@ -62,9 +63,9 @@ public class WorkerProcess implements Closeable {
   /**
    * Worker process is a process that stays alive and receives commands which describe jobs. Worker
    * processes may be combined into pools so they can perform different jobs concurrently. It
-   * communicates via JSON stream and via files. Submitted job blocks the calling thread until it
-   * receives the result back. Worker process must understand the protocol that Buck will use to
-   * communicate with it.
+   * communicates via JSON stream, or binary frames if the worker supports them, and via files.
+   * Submitted job blocks the calling thread until it receives the result back. Worker process must
+   * understand the protocol that Buck will use to communicate with it.
    *
    * @param executor Process executor that will start worker process.
    * @param processParams Arguments for process executor.
@@ -102,20 +103,29 @@ public class WorkerProcess implements Closeable {
         "Starting up process %d using command: '%s'",
         this.hashCode(), Joiner.on(' ').join(processParams.getCommand()));
     launchedProcess = executor.launchProcess(processParams);
-    protocol =
+    Runnable onClose =
+        () -> {
+          if (launchedProcess != null) {
+            executor.destroyLaunchedProcess(launchedProcess);
+          }
+        };
+    Supplier<Boolean> isAlive = () -> launchedProcess != null && launchedProcess.isAlive();
+    WorkerProcessProtocolZero.CommandSender protocolZero =
         new WorkerProcessProtocolZero.CommandSender(
-            launchedProcess.getStdin(),
-            launchedProcess.getStdout(),
-            stdErr,
-            () -> {
-              if (launchedProcess != null) {
-                executor.destroyLaunchedProcess(launchedProcess);
-              }
-            },
-            () -> launchedProcess != null && launchedProcess.isAlive());
+            launchedProcess.getStdin(), launchedProcess.getStdout(), stdErr, onClose, isAlive);
 
     LOG.debug("Handshaking with process %d", this.hashCode());
-    protocol.handshake(currentMessageID.getAndIncrement());
+    protocolZero.handshake(currentMessageID.getAndIncrement());
+    // The worker doesn't write anything between its handshake and the first response, so nothing
+    // past the handshake can be left buffered in protocol zero's reader.
+    if (protocolZero.getWorkerCapabilities().contains(WorkerProcessProtocolOne.CAPABILITY)) {
+      LOG.debug("Using binary frames with process %d", this.hashCode());
+      protocol =
+          new WorkerProcessProtocolOne.CommandSender(
+              launchedProcess.getStdin(), launchedProcess.getStdout(), onClose, isAlive);
+    } else {
+      protocol = protocolZero;
+    }
     handshakePerformed = true;
     readerThread.start();
   }
@@ -131,6 +141,14 @@ public class WorkerProcess implements Closeable {
 
     SettableFuture<Integer> exitCodeFuture = SettableFuture.create();
     commandExitCodes.put(messageID, exitCodeFuture);
+    // The response still arrives and is dropped, but the worker can stop working on the job.
+    exitCodeFuture.addListener(
+        () -> {
+          if (exitCodeFuture.isCancelled()) {
+            cancelJob(messageID);
+          }
+        },
+        MoreExecutors.directExecutor());
 
     try {
       synchronized (this) {
@@ -176,6 +194,18 @@ public class WorkerProcess implements Closeable {
         MoreExecutors.directExecutor());
   }
 
+  private synchronized void cancelJob(int messageID) {
+    if (protocol == null || shutdownReaderThread) {
+      return;
+    }
+    LOG.debug("Cancelling job %d of process %d", messageID, this.hashCode());
+    try {
+      protocol.cancel(messageID);
+    } catch (IOException e) {
+      LOG.debug(e, "Could not cancel job %d of process %d", messageID, this.hashCode());
+    }
+  }
+
   @Override
   public synchronized void close() {
     LOG.debug("Closing process %d", this.hashCode());
@@ -20,6 +20,8 @@ import com.google.common.hash.HashCode;
 import com.google.common.util.concurrent.ListenableFuture;
 import java.io.Closeable;
 import java.io.IOException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
 
 public interface WorkerProcessPool extends Closeable {
   HashCode getPoolHash();
@@ -29,6 +31,17 @@ public interface WorkerProcessPool extends Closeable {
   ListenableFuture<WorkerJobResult> submitJob(String expandedJobArgs)
       throws IOException, InterruptedException;
 
+  /**
+   * Starts up to {@code workers} worker processes on the given executor, so that the jobs submitted
+   * later don't wait for them to start.
+   */
+  void warmUp(int workers, Executor executor);
+
+  /** Stops the worker processes that haven't run a job for at least {@code idleTime}. */
+  void stopIdleWorkers(long idleTime, TimeUnit unit);
+
+  WorkerProcessPoolCounters getCounters();
+
   @Override
   void close();
 }
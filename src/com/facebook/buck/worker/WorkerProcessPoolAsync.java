@@ -16,20 +16,29 @@
 
 package com.facebook.buck.worker;
 
+import com.facebook.buck.core.util.log.Logger;
 import com.facebook.buck.util.function.ThrowingSupplier;
+import com.google.common.base.Preconditions;
 import com.google.common.hash.HashCode;
 import com.google.common.util.concurrent.ListenableFuture;
 import com.google.common.util.concurrent.MoreExecutors;
 import java.io.IOException;
+import java.util.concurrent.Executor;
 import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
 import javax.annotation.Nullable;
 
 public class WorkerProcessPoolAsync implements WorkerProcessPool {
+  private static final Logger LOG = Logger.get(WorkerProcessPoolAsync.class);
 
   private final HashCode poolHash;
   private final int maxRequests;
   private final ThrowingSupplier<WorkerProcess, IOException> startWorkerProcess;
   private final Semaphore concurrencyLimiter;
+  private final WorkerProcessPoolCounters counters;
+  private boolean isClosed = false;
+  private int runningJobs = 0;
+  private long lastUsedNanos = System.nanoTime();
   @Nullable private WorkerProcess workerProcess;
 
   public WorkerProcessPoolAsync(
@@ -38,7 +47,8 @@ public class WorkerProcessPoolAsync implements WorkerProcessPool {
       ThrowingSupplier<WorkerProcess, IOException> startWorkerProcess) {
     this.poolHash = poolHash;
     this.maxRequests = maxRequests;
-    this.startWorkerProcess = startWorkerProcess;
+    this.counters = new WorkerProcessPoolCounters(poolHash);
+    this.startWorkerProcess = counters.timeSpawns(startWorkerProcess);
     this.concurrencyLimiter = new Semaphore(maxRequests <= 0 ? Integer.MAX_VALUE : maxRequests);
   }
 
@@ -55,26 +65,80 @@ public class WorkerProcessPoolAsync implements WorkerProcessPool {
   @Override
   public ListenableFuture<WorkerJobResult> submitJob(String expandedJobArgs)
       throws IOException, InterruptedException {
+    concurrencyLimiter.acquire();
     synchronized (this) {
-      if (workerProcess == null || !workerProcess.isAlive()) {
-        workerProcess = startWorkerProcess.get();
-      }
+      runningJobs++;
     }
-
-    concurrencyLimiter.acquire();
     try {
-      ListenableFuture<WorkerJobResult> result = workerProcess.submitJob(expandedJobArgs);
-      result.addListener(concurrencyLimiter::release, MoreExecutors.directExecutor());
+      WorkerProcess process;
+      synchronized (this) {
+        counters.recordJob(isRunning());
+        process = start();
+      }
+      ListenableFuture<WorkerJobResult> result = process.submitJob(expandedJobArgs);
+      result.addListener(this::jobFinished, MoreExecutors.directExecutor());
       return result;
     } catch (Throwable t) {
-      concurrencyLimiter.release();
+      jobFinished();
       throw t;
     }
   }
 
+  private void jobFinished() {
+    synchronized (this) {
+      runningJobs--;
+      lastUsedNanos = System.nanoTime();
+    }
+    concurrencyLimiter.release();
+  }
+
+  private synchronized boolean isRunning() {
+    return workerProcess != null && workerProcess.isAlive();
+  }
+
+  private synchronized WorkerProcess start() throws IOException {
+    Preconditions.checkState(!isClosed, "Worker pool was already closed");
+    if (!isRunning()) {
+      workerProcess = startWorkerProcess.get();
+    }
+    return workerProcess;
+  }
+
+  @Override
+  public void warmUp(int workers, Executor executor) {
+    if (workers > 0 && !isRunning()) {
+      executor.execute(
+          () -> {
+            try {
+              start();
+            } catch (Exception e) {
+              // The first job will fail to start the worker again and report why.
+              LOG.debug(e, "Failed to warm up worker process.");
+            }
+          });
+    }
+  }
+
+  @Override
+  public synchronized void stopIdleWorkers(long idleTime, TimeUnit unit) {
+    if (workerProcess != null
+        && runningJobs == 0
+        && System.nanoTime() - lastUsedNanos >= unit.toNanos(idleTime)) {
+      LOG.debug("Stopping idle worker process.");
+      workerProcess.close();
+      workerProcess = null;
+    }
+  }
+
+  @Override
+  public WorkerProcessPoolCounters getCounters() {
+    return counters;
+  }
+
   @Override
   public void close() {
     synchronized (this) {
+      isClosed = true;
       if (workerProcess != null) {
         workerProcess.close();
       }
@@ -0,0 +1,91 @@
+/*
+ * Copyright (c) Facebook, Inc. and its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.facebook.buck.worker;
+
+import com.facebook.buck.core.model.BuildId;
+import com.facebook.buck.counters.CounterRegistry;
+import com.facebook.buck.counters.IntegerCounter;
+import com.facebook.buck.counters.SamplingCounter;
+import com.facebook.buck.event.BuckEventBus;
+import com.facebook.buck.util.function.ThrowingSupplier;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.hash.HashCode;
+import java.io.IOException;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Counts how well a {@link WorkerProcessPool} serves its jobs: how many found a running worker and
+ * how long starting the others took.
+ *
+ * <p>Pools can outlive a command in buckd, so the counters are registered again with every command
+ * that uses the pool.
+ */
+public class WorkerProcessPoolCounters {
+  private static final String COUNTER_CATEGORY = "buck_worker_process_pool";
+
+  private final IntegerCounter jobs;
+  private final IntegerCounter warmJobs;
+  private final SamplingCounter spawnTimeMs;
+  private final AtomicReference<BuildId> registeredWith = new AtomicReference<>();
+
+  public WorkerProcessPoolCounters(HashCode poolHash) {
+    ImmutableMap<String, String> tags = ImmutableMap.of("pool", poolHash.toString());
+    jobs = new IntegerCounter(COUNTER_CATEGORY, "jobs", tags);
+    warmJobs = new IntegerCounter(COUNTER_CATEGORY, "warm_jobs", tags);
+    spawnTimeMs = new SamplingCounter(COUNTER_CATEGORY, "spawn_time_ms", tags);
+  }
+
+  /** Registers the counters with the command running on the given event bus, once per command. */
+  public void registerWith(BuckEventBus eventBus) {
+    BuildId buildId = eventBus.getBuildId();
+    if (!Objects.equals(registeredWith.getAndSet(buildId), buildId)) {
+      eventBus.post(
+          new CounterRegistry.AsyncCounterRegistrationEvent(
+              ImmutableList.of(jobs, warmJobs, spawnTimeMs)));
+    }
+  }
+
+  /** Records a job, which either found a running worker or had to wait for one to start. */
+  void recordJob(boolean foundRunningWorker) {
+    jobs.inc();
+    if (foundRunningWorker) {
+      warmJobs.inc();
+    }
+  }
+
+  /** Wraps a worker supplier to record how long starting each worker takes. */
+  ThrowingSupplier<WorkerProcess, IOException> timeSpawns(
+      ThrowingSupplier<WorkerProcess, IOException> startWorkerProcess) {
+    return () -> {
+      long start = System.nanoTime();
+      WorkerProcess process = startWorkerProcess.get();
+      spawnTimeMs.addSample(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+      return process;
+    };
+  }
+
+  long getJobs() {
+    return jobs.get();
+  }
+
+  long getWarmJobs() {
+    return warmJobs.get();
+  }
+}
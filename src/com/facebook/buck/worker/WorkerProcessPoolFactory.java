@@ -17,6 +17,7 @@
 package com.facebook.buck.worker;
 
 import com.facebook.buck.core.build.execution.context.ExecutionContext;
+import com.facebook.buck.core.util.log.Logger;
 import com.facebook.buck.event.ConsoleEvent;
 import com.facebook.buck.io.filesystem.ProjectFilesystem;
 import com.facebook.buck.util.Escaper;
@@ -25,17 +26,24 @@ import com.facebook.buck.util.environment.Platform;
 import com.facebook.buck.util.function.ThrowingSupplier;
 import com.google.common.annotations.VisibleForTesting;
 import com.google.common.base.Joiner;
+import com.google.common.base.Splitter;
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableMap;
 import com.google.common.hash.HashCode;
 import com.google.common.hash.Hashing;
+import com.sun.management.OperatingSystemMXBean;
 import java.io.IOException;
+import java.lang.management.ManagementFactory;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.Paths;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.OptionalLong;
 import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Collectors;
 
@@ -46,6 +54,18 @@ import java.util.stream.Collectors;
  * perform your job.
  */
 public class WorkerProcessPoolFactory {
+  private static final Logger LOG = Logger.get(WorkerProcessPoolFactory.class);
+
+  /** Workers that haven't run a job for this long are stopped, until a job needs them again. */
+  private static final long IDLE_TIMEOUT_MINUTES = 10;
+
+  /** How long workers of other tools may stay idle while the machine is low on memory. */
+  private static final long LOW_MEMORY_IDLE_TIMEOUT_MINUTES = 1;
+
+  /** Below this share of available physical memory, idle workers are stopped sooner. */
+  private static final double LOW_MEMORY_RATIO = 0.05;
+
+  private static final Path PROC_MEMINFO = Paths.get("/proc/meminfo");
 
   private final ProjectFilesystem filesystem;
 
@@ -85,6 +105,8 @@ public class WorkerProcessPoolFactory {
     if (pool == null) {
       pool = createWorkerProcessPool(context, paramsToUse, processPoolMap, key, workerHash);
     }
+    pool.getCounters().registerWith(context.getBuckEventBus());
+    stopIdleWorkers(processPoolMap, pool);
 
     int poolCapacity = pool.getCapacity();
     if (poolCapacity != paramsToUse.getMaxWorkers()) {
@@ -106,6 +128,50 @@ public class WorkerProcessPoolFactory {
     return pool;
   }
 
+  /**
+   * Stops idle workers, so that pools kept alive across commands by buckd don't hold on to memory
+   * indefinitely.
+   */
+  private static void stopIdleWorkers(
+      ConcurrentMap<String, WorkerProcessPool> processPoolMap, WorkerProcessPool poolInUse) {
+    long othersIdleTimeout =
+        isLowOnMemory() ? LOW_MEMORY_IDLE_TIMEOUT_MINUTES : IDLE_TIMEOUT_MINUTES;
+    for (WorkerProcessPool pool : processPoolMap.values()) {
+      pool.stopIdleWorkers(
+          pool == poolInUse ? IDLE_TIMEOUT_MINUTES : othersIdleTimeout, TimeUnit.MINUTES);
+    }
+  }
+
+  private static boolean isLowOnMemory() {
+    OperatingSystemMXBean osBean =
+        (OperatingSystemMXBean) ManagementFactory.getOperatingSystemMXBean();
+    long availableMemory = getMemAvailable().orElseGet(osBean::getFreePhysicalMemorySize);
+    return availableMemory < osBean.getTotalPhysicalMemorySize() * LOW_MEMORY_RATIO;
+  }
+
+  /**
+   * Returns the memory Linux estimates is available without swapping, in bytes. Unlike the free
+   * memory, it counts the page cache that can be reclaimed, which is most of the memory of a
+   * machine that has been building for a while.
+   */
+  private static OptionalLong getMemAvailable() {
+    if (Platform.detect() != Platform.LINUX) {
+      return OptionalLong.empty();
+    }
+    try {
+      for (String line : Files.readAllLines(PROC_MEMINFO)) {
+        if (line.startsWith("MemAvailable:")) {
+          // The line looks like "MemAvailable:   12345678 kB".
+          List<String> parts = Splitter.on(' ').omitEmptyStrings().splitToList(line);
+          return OptionalLong.of(Long.parseLong(parts.get(1)) * 1024);
+        }
+      }
+    } catch (IOException | RuntimeException e) {
+      LOG.debug(e, "Could not read MemAvailable from %s.", PROC_MEMINFO);
+    }
+    return OptionalLong.empty();
+  }
+
   private WorkerProcessPool createWorkerProcessPool(
       ExecutionContext context,
       WorkerProcessParams paramsToUse,
@@ -31,9 +31,11 @@ import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Executor;
 import java.util.concurrent.TimeUnit;
 import java.util.function.Consumer;
 import javax.annotation.Nullable;
@@ -48,6 +50,7 @@ public class WorkerProcessPoolSync implements Closeable, WorkerProcessPool {
   private final BlockingQueue<WorkerLifecycle> availableWorkers;
   private final WorkerLifecycle[] workerLifecycles;
   private final HashCode poolHash;
+  private final WorkerProcessPoolCounters counters;
 
   public WorkerProcessPoolSync(
       int maxWorkers,
@@ -57,10 +60,13 @@ public class WorkerProcessPoolSync implements Closeable, WorkerProcessPool {
     availableWorkers = new LinkedBlockingStack<>();
     workerLifecycles = new WorkerLifecycle[maxWorkers];
     this.poolHash = poolHash;
+    this.counters = new WorkerProcessPoolCounters(poolHash);
 
+    ThrowingSupplier<WorkerProcess, IOException> timedStart =
+        counters.timeSpawns(startWorkerProcess);
     Arrays.setAll(
         workerLifecycles,
-        ignored -> new WorkerLifecycle(startWorkerProcess, availableWorkers::add));
+        ignored -> new WorkerLifecycle(timedStart, counters, availableWorkers::add));
     Collections.addAll(availableWorkers, workerLifecycles);
   }
 
@@ -102,6 +108,58 @@ public class WorkerProcessPoolSync implements Closeable, WorkerProcessPool {
         .map(BorrowedWorkerProcess::new);
   }
 
+  /**
+   * Starts up to {@code workers} workers that aren't running yet. Since available workers are kept
+   * in a stack, the started ones are the first to be borrowed.
+   */
+  @Override
+  public void warmUp(int workers, Executor executor) {
+    List<WorkerLifecycle> toStart = new ArrayList<>();
+    List<WorkerLifecycle> running = new ArrayList<>();
+    for (int i = 0; i < workers; i++) {
+      WorkerLifecycle lifecycle = availableWorkers.poll();
+      if (lifecycle == null) {
+        break;
+      }
+      if (lifecycle.isRunning()) {
+        running.add(lifecycle);
+      } else {
+        toStart.add(lifecycle);
+      }
+    }
+    running.forEach(WorkerLifecycle::makeAvailable);
+    for (WorkerLifecycle lifecycle : toStart) {
+      executor.execute(
+          () -> {
+            try {
+              lifecycle.start();
+            } catch (Exception e) {
+              // The job that borrows this worker will fail to start it again and report why.
+              LOG.debug(e, "Failed to warm up worker process.");
+            } finally {
+              lifecycle.makeAvailable();
+            }
+          });
+    }
+  }
+
+  /**
+   * Stops the workers that haven't run a job for at least {@code idleTime}. They are started again
+   * when a job needs them.
+   */
+  @Override
+  public void stopIdleWorkers(long idleTime, TimeUnit unit) {
+    long idleSince = System.nanoTime() - unit.toNanos(idleTime);
+    for (WorkerLifecycle lifecycle : workerLifecycles) {
+      lifecycle.stopIfIdleSince(idleSince);
+    }
+  }
+
+  @Override
+  public WorkerProcessPoolCounters getCounters() {
+    return counters;
+  }
+
   @Override
   public synchronized void close() {
     Throwable caughtWhileClosing = null;
@@ -148,20 +206,36 @@ public class WorkerProcessPoolSync implements Closeable, WorkerProcessPool {
       implements Closeable, ThrowingSupplier<WorkerProcess, IOException> {
 
     private final ThrowingSupplier<WorkerProcess, IOException> startWorkerProcess;
+    private final WorkerProcessPoolCounters counters;
     private final Consumer<WorkerLifecycle> onWorkerProcessReturn;
     private boolean isClosed = false;
+    private boolean inUse = false;
+    private long lastUsedNanos = System.nanoTime();
     @Nullable private WorkerProcess workerProcess;
 
     private WorkerLifecycle(
         ThrowingSupplier<WorkerProcess, IOException> startWorkerProcess,
+        WorkerProcessPoolCounters counters,
         Consumer<WorkerLifecycle> onWorkerProcessReturn) {
       this.startWorkerProcess = startWorkerProcess;
+      this.counters = counters;
       this.onWorkerProcessReturn = onWorkerProcessReturn;
     }
 
     /** Allows to retrieve the wrapped worker process, starting it up if necessary. */
     @Override
     public synchronized WorkerProcess get() throws IOException {
+      inUse = true;
+      counters.recordJob(isRunning());
+      return start();
+    }
+
+    private synchronized boolean isRunning() {
+      return workerProcess != null && workerProcess.isAlive();
+    }
+
+    /** Starts the wrapped worker process if it isn't running. */
+    private synchronized WorkerProcess start() throws IOException {
       Preconditions.checkState(!isClosed, "Worker was already terminated");
       // If the worker is broken, destroy it
       if (workerProcess != null && !workerProcess.isAlive()) {
@@ -183,9 +257,25 @@ public class WorkerProcessPoolSync implements Closeable, WorkerProcessPool {
     }
 
     public void makeAvailable() {
+      synchronized (this) {
+        inUse = false;
+        lastUsedNanos = System.nanoTime();
+      }
       onWorkerProcessReturn.accept(this);
     }
 
+    /**
+     * Stops the worker process if it isn't running a job and hasn't run one since the given time.
+     * A worker borrowed in the meantime starts it again in {@link #get()}.
+     */
+    private synchronized void stopIfIdleSince(long nanoTime) {
+      if (workerProcess != null && !inUse && lastUsedNanos - nanoTime < 0) {
+        LOG.debug("Stopping idle worker process.");
+        workerProcess.close();
+        workerProcess = null;
+      }
+    }
+
     @Override
     public synchronized void close() {
       isClosed = true;
@@ -43,6 +43,13 @@ public interface WorkerProcessProtocol {
 
     void send(int messageId, WorkerProcessCommand command) throws IOException;
 
+    /**
+     * Tells the worker that nobody waits for the result of the command anymore. Its response still
+     * has to be received, workers may ignore it or reply early with a failure.
+     */
+    @SuppressWarnings("unused")
+    default void cancel(int messageId) throws IOException {}
+
     CommandResponse receiveNextCommandResponse() throws IOException;
 
     /** Instructs the CommandReceiver to shut itself down. */
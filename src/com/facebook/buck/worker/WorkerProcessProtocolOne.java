@@ -0,0 +1,158 @@
+/*
+ * Copyright (c) Facebook, Inc. and its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.facebook.buck.worker;
+
+import com.facebook.buck.core.exceptions.HumanReadableException;
+import com.facebook.buck.core.util.log.Logger;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.function.Supplier;
+
+/**
+ * A binary version of the worker protocol, used once both sides advertised {@link #CAPABILITY} in
+ * the {@link WorkerProcessProtocolZero} handshake.
+ *
+ * <p>Every message is a frame made of a big-endian {@code int} length, followed by that many bytes:
+ * a {@code byte} type, an {@code int} message id and the payload of the type. Commands carry their
+ * args, stdout and stderr paths as modified UTF-8 strings, and results and errors carry an {@code
+ * int} exit code. Cancellations have no payload. Buck closes the worker's stdin to shut it down.
+ *
+ * <p>Responses are matched to commands by id only, so a worker may run any number of commands
+ * concurrently and reply in any order. Unlike the JSON stream, frames need no parsing beyond their
+ * header, which keeps the per-job overhead low enough for a single worker to serve many jobs.
+ */
+public class WorkerProcessProtocolOne {
+
+  private static final Logger LOG = Logger.get(WorkerProcessProtocolOne.class);
+
+  /** The handshake capability that switches to this protocol after the handshake. */
+  public static final String CAPABILITY = "binary_frames";
+
+  static final byte TYPE_COMMAND = 1;
+  static final byte TYPE_CANCEL = 2;
+  static final byte TYPE_RESULT = 3;
+  static final byte TYPE_ERROR = 4;
+
+  /** Frames are tiny, anything larger means the stream is out of sync. */
+  private static final int MAX_FRAME_LENGTH = 1 << 20;
+
+  private static final int HEADER_LENGTH = 5;
+
+  public static class CommandSender implements WorkerProcessProtocol.CommandSender {
+    private final DataOutputStream processStdin;
+    private final DataInputStream processStdout;
+    private final Runnable onClose;
+    private final Supplier<Boolean> isAlive;
+    private boolean isClosed = false;
+
+    public CommandSender(
+        OutputStream processStdin,
+        InputStream processStdout,
+        Runnable onClose,
+        Supplier<Boolean> isAlive) {
+      this.processStdin = new DataOutputStream(new BufferedOutputStream(processStdin));
+      this.processStdout = new DataInputStream(new BufferedInputStream(processStdout));
+      this.onClose = onClose;
+      this.isAlive = isAlive;
+    }
+
+    /** The handshake is done with {@link WorkerProcessProtocolZero}, which negotiates this one. */
+    @Override
+    public void handshake(int messageId) {
+      throw new IllegalStateException("Protocol one is negotiated during the JSON handshake.");
+    }
+
+    @Override
+    public void send(int messageId, WorkerProcessCommand command) throws IOException {
+      ByteArrayOutputStream payload = new ByteArrayOutputStream();
+      try (DataOutputStream payloadStream = new DataOutputStream(payload)) {
+        payloadStream.writeUTF(command.getArgsPath().toString());
+        payloadStream.writeUTF(command.getStdOutPath().toString());
+        payloadStream.writeUTF(command.getStdErrPath().toString());
+      }
+      writeFrame(TYPE_COMMAND, messageId, payload.toByteArray());
+    }
+
+    @Override
+    public void cancel(int messageId) throws IOException {
+      writeFrame(TYPE_CANCEL, messageId, new byte[0]);
+    }
+
+    @Override
+    public WorkerProcessProtocol.CommandResponse receiveNextCommandResponse() throws IOException {
+      int length = processStdout.readInt();
+      if (length < HEADER_LENGTH + Integer.BYTES || length > MAX_FRAME_LENGTH) {
+        throw new HumanReadableException(
+            "Invalid frame length %d received from external process.", length);
+      }
+      byte type = processStdout.readByte();
+      int id = processStdout.readInt();
+      if (type != TYPE_RESULT && type != TYPE_ERROR) {
+        throw new HumanReadableException(
+            "Expected response's type to be one of [%d,%d], got %d instead.",
+            TYPE_RESULT, TYPE_ERROR, type);
+      }
+      int exitCode = processStdout.readInt();
+      // Leave room for extending responses.
+      int remaining = length - HEADER_LENGTH - Integer.BYTES;
+      if (processStdout.skipBytes(remaining) != remaining) {
+        throw new EOFException();
+      }
+      return new WorkerProcessProtocol.CommandResponse(id, exitCode);
+    }
+
+    private void writeFrame(byte type, int messageId, byte[] payload) throws IOException {
+      // Cancellations may come from any thread, while a command is being sent.
+      synchronized (processStdin) {
+        processStdin.writeInt(HEADER_LENGTH + payload.length);
+        processStdin.writeByte(type);
+        processStdin.writeInt(messageId);
+        processStdin.write(payload);
+        processStdin.flush();
+      }
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+      if (isClosed) {
+        return;
+      }
+      try {
+        synchronized (processStdin) {
+          processStdin.close();
+        }
+        processStdout.close();
+      } catch (IOException e) {
+        if (!isAlive.get()) {
+          LOG.warn(e, "Streams already closed when closing protocol.");
+        } else {
+          throw e;
+        }
+      } finally {
+        onClose.run();
+        isClosed = true;
+      }
+    }
+  }
+}
@@ -19,6 +19,8 @@ package com.facebook.buck.worker;
 import com.facebook.buck.core.exceptions.HumanReadableException;
 import com.facebook.buck.core.util.log.Logger;
 import com.google.common.annotations.VisibleForTesting;
+import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.Sets;
 import com.google.gson.stream.JsonReader;
 import com.google.gson.stream.JsonWriter;
 import java.io.BufferedReader;
@@ -43,6 +45,7 @@ public class WorkerProcessProtocolZero {
     private final Runnable onClose;
     private boolean isClosed = false;
     private final Supplier<Boolean> isAlive;
+    private ImmutableSet<String> workerCapabilities = ImmutableSet.of();
 
     public CommandSender(
         OutputStream processStdin,
@@ -72,7 +75,12 @@ public class WorkerProcessProtocolZero {
     @Override
     public void handshake(int messageId) throws IOException {
       sendHandshake(processStdinWriter, messageId);
-      receiveHandshake(processStdoutReader, messageId, stdErr);
+      workerCapabilities = receiveHandshake(processStdoutReader, messageId, stdErr);
+    }
+
+    /** The capabilities the worker replied with, out of the ones offered in the handshake. */
+    public ImmutableSet<String> getWorkerCapabilities() {
+      return workerCapabilities;
     }
 
     /*
@@ -198,6 +206,8 @@ public class WorkerProcessProtocolZero {
   private static final String PROTOCOL_VERSION = "0";
   private static final String TYPE_RESULT = "result";
   private static final String TYPE_ERROR = "error";
+  private static final ImmutableSet<String> CAPABILITIES =
+      ImmutableSet.of(WorkerProcessProtocolOne.CAPABILITY);
 
   /*
    Sends a message that looks like this:
@@ -206,7 +216,7 @@ public class WorkerProcessProtocolZero {
          id: 0,
          type: 'handshake',
          protocol_version: '0',
-         capabilities: []
+         capabilities: ['binary_frames']
        }
   */
   private static void sendHandshake(JsonWriter writer, int messageId) throws IOException {
@@ -215,7 +225,11 @@ public class WorkerProcessProtocolZero {
     writer.name("id").value(messageId);
     writer.name("type").value(TYPE_HANDSHAKE);
     writer.name("protocol_version").value(PROTOCOL_VERSION);
-    writer.name("capabilities").beginArray().endArray();
+    writer.name("capabilities").beginArray();
+    for (String capability : CAPABILITIES) {
+      writer.value(capability);
+    }
+    writer.endArray();
     writer.endObject();
     writer.flush();
   }
@@ -227,14 +241,15 @@ public class WorkerProcessProtocolZero {
          id: 0,
          type: 'handshake',
          protocol_version: '0',
-         capabilities: []
+         capabilities: [<capabilities the worker accepts>]
        }
   */
-  private static void receiveHandshake(JsonReader reader, int messageId, Path stdErr)
-      throws IOException {
+  private static ImmutableSet<String> receiveHandshake(
+      JsonReader reader, int messageId, Path stdErr) throws IOException {
     int id = -1;
     String type = "";
     String protocolVersion = "";
+    ImmutableSet.Builder<String> capabilities = ImmutableSet.builder();
 
     try {
       reader.beginArray();
@@ -250,10 +265,13 @@ public class WorkerProcessProtocolZero {
         } else if (property.equals("capabilities")) {
           try {
             reader.beginArray();
+            while (reader.hasNext()) {
+              capabilities.add(reader.nextString());
+            }
             reader.endArray();
           } catch (IllegalStateException e) {
             throw new HumanReadableException(
-                "Expected handshake response's \"capabilities\" to " + "be an empty array.");
+                "Expected handshake response's \"capabilities\" to " + "be an array of strings.");
           }
         } else {
           reader.skipValue();
@@ -287,6 +305,7 @@ public class WorkerProcessProtocolZero {
                   + "\"protocol_version\" to be \"%s\", got \"%s\" instead.",
               PROTOCOL_VERSION, protocolVersion));
     }
+    return ImmutableSet.copyOf(Sets.intersection(capabilities.build(), CAPABILITIES));
   }
 
   private static String getStdErrorOutput(Path stdErr) throws IOException {
@@ -17,12 +17,14 @@
 package com.facebook.buck.zip;
 
 import com.facebook.buck.core.build.execution.context.ExecutionContext;
+import com.facebook.buck.core.util.log.Logger;
 import com.facebook.buck.io.filesystem.ProjectFilesystem;
 import com.facebook.buck.step.Step;
 import com.facebook.buck.step.StepExecutionResult;
 import com.facebook.buck.step.StepExecutionResults;
 import com.facebook.buck.util.zip.CustomZipEntry;
 import com.facebook.buck.util.zip.CustomZipOutputStream;
+import com.facebook.buck.util.zip.MappedZipFile;
 import com.facebook.buck.util.zip.ZipCompressionLevel;
 import com.facebook.buck.util.zip.ZipOutputStreams;
 import com.google.common.collect.ImmutableSet;
@@ -35,6 +37,7 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.Optional;
 import java.util.zip.ZipEntry;
 import java.util.zip.ZipInputStream;
 
@@ -46,6 +49,7 @@ import java.util.zip.ZipInputStream;
  * compressed.
  */
 public class RepackZipEntriesStep implements Step {
+  private static final Logger LOG = Logger.get(RepackZipEntriesStep.class);
 
   private final ProjectFilesystem filesystem;
   private final Path inputPath;
@@ -91,6 +95,19 @@ public class RepackZipEntriesStep implements Step {
   public StepExecutionResult execute(ExecutionContext context) throws IOException {
     Path inputFile = filesystem.getPathForRelativePath(inputPath);
     Path outputFile = filesystem.getPathForRelativePath(outputPath);
+    Optional<MappedZipFile> mappedInput = MappedZipFile.openIfSupported(inputFile);
+    if (mappedInput.isPresent()) {
+      try {
+        repack(mappedInput.get(), outputFile);
+        return StepExecutionResults.SUCCESS;
+      } catch (InternalError e) {
+        // Reading a mapping past the end of a file that was truncated since it was mapped faults.
+        // The output is written again from scratch below.
+        LOG.debug(
+            e, "%s changed while it was mapped, repacking it without the mapping.", inputFile);
+      }
+    }
+
     try (ZipInputStream in =
             new ZipInputStream(new BufferedInputStream(Files.newInputStream(inputFile)));
         CustomZipOutputStream out = ZipOutputStreams.newOutputStream(outputFile)) {
@@ -124,6 +141,31 @@ public class RepackZipEntriesStep implements Step {
     }
   }
 
+  /** Copies the entries that aren't repacked as they're stored, without inflating them. */
+  private void repack(MappedZipFile in, Path outputFile) throws IOException {
+    try (CustomZipOutputStream out = ZipOutputStreams.newOutputStream(outputFile)) {
+      for (MappedZipFile.Entry entry : in.getAllEntries()) {
+        CustomZipEntry customEntry = entry.toCustomZipEntry();
+        if (!entries.contains(entry.getName())) {
+          out.putRawEntry(customEntry, in.getRawData(entry));
+          continue;
+        }
+
+        byte[] bytes = in.read(entry);
+        customEntry.setCompressionLevel(compressionLevel.getValue());
+        // STORED entries need their CRC and sizes before they're written.
+        if (customEntry.getMethod() == ZipEntry.STORED) {
+          customEntry.setCrc(entry.getCrc());
+          customEntry.setSize(bytes.length);
+          customEntry.setCompressedSize(bytes.length);
+        }
+        out.putNextEntry(customEntry);
+        out.write(bytes);
+        out.closeEntry();
+      }
+    }
+  }
+
   @Override
   public String getShortName() {
     return "repack zip";
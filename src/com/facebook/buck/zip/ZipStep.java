@@ -38,6 +38,7 @@ import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.TreeMap;
+import java.util.concurrent.ForkJoinPool;
 
 /** A {@link com.facebook.buck.step.Step} that creates a ZIP archive.. */
 @SuppressWarnings("PMD.AvoidUsingOctalValues")
@@ -94,7 +95,9 @@ public class ZipStep implements Step {
 
     try (BufferedOutputStream baseOut =
             new BufferedOutputStream(filesystem.newFileOutputStream(pathToZipFile));
-        CustomZipOutputStream out = ZipOutputStreams.newOutputStream(baseOut, THROW_EXCEPTION)) {
+        CustomZipOutputStream out =
+            ZipOutputStreams.newConcurrentOutputStream(
+                baseOut, THROW_EXCEPTION, ForkJoinPool.commonPool())) {
       /* TODO: Make this logic to avoid using exceptions.
        * If walking the file directory throws, then an empty jar file is still created.
        */
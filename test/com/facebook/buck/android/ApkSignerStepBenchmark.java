@@ -0,0 +1,148 @@
+/*
+ * Copyright (c) Facebook, Inc. and its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.facebook.buck.android;
+
+import com.android.apksig.apk.ApkFormatException;
+import com.android.apksig.util.DataSinks;
+import com.android.apksig.util.DataSource;
+import com.android.apksig.util.DataSources;
+import com.facebook.buck.io.file.MostFiles;
+import com.facebook.buck.io.filesystem.ProjectFilesystem;
+import com.facebook.buck.io.filesystem.TestProjectFilesystems;
+import com.facebook.buck.step.StepExecutionResult;
+import com.facebook.buck.step.TestExecutionContext;
+import com.facebook.buck.testutil.integration.TestDataHelper;
+import com.google.common.base.Strings;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.RandomAccessFile;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.CRC32;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+import org.openjdk.jmh.Main;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.RunnerException;
+
+/**
+ * Compares writing a zipaligned copy of a large APK and signing the copy, as zipalign and the
+ * signer used to, with signing the APK as it is aligned.
+ */
+@State(Scope.Benchmark)
+@Warmup(iterations = 1)
+@Measurement(iterations = 3)
+@Fork(1)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class ApkSignerStepBenchmark {
+  @Param({"200"})
+  private int megabytes;
+
+  @Param({"false", "true"})
+  private boolean alignWhileSigning;
+
+  private Path root;
+  private ProjectFilesystem filesystem;
+  private KeystoreProperties keystoreProperties;
+
+  @Setup
+  public void setUp() throws IOException {
+    root = Files.createTempDirectory("apk-signer-step-benchmark");
+    filesystem = TestProjectFilesystems.createProjectFilesystem(root);
+    Files.copy(
+        TestDataHelper.getTestDataDirectory(ApkSignerStepBenchmark.class)
+            .resolve("ndk_toolchain/debug.keystore"),
+        root.resolve("debug.keystore"));
+    keystoreProperties =
+        new KeystoreProperties(Paths.get("debug.keystore"), "android", "android", "my_alias");
+
+    // Mostly uncompressed entries of odd sizes, like native libraries and images, that need to be
+    // aligned, and many small compressed ones, like the rest of an app.
+    Random random = new Random(0);
+    try (OutputStream out = Files.newOutputStream(root.resolve("in.apk"));
+        ZipOutputStream zip = new ZipOutputStream(out)) {
+      long written = 0;
+      for (int i = 0; written < megabytes * 1024L * 1024L; i++) {
+        ZipEntry entry;
+        byte[] contents;
+        if (i % 10 == 0) {
+          contents = new byte[1024 * 1024 + random.nextInt(4096)];
+          random.nextBytes(contents);
+          entry = new ZipEntry(String.format("lib/x86/lib%d.so", i));
+          CRC32 crc = new CRC32();
+          crc.update(contents);
+          entry.setMethod(ZipEntry.STORED);
+          entry.setSize(contents.length);
+          entry.setCrc(crc.getValue());
+        } else {
+          contents =
+              Strings.repeat(String.format("entry %d %d\n", i, random.nextInt()), 100)
+                  .getBytes(StandardCharsets.UTF_8);
+          entry = new ZipEntry(String.format("assets/%d.txt", i));
+        }
+        zip.putNextEntry(entry);
+        zip.write(contents);
+        zip.closeEntry();
+        written += contents.length;
+      }
+    }
+  }
+
+  @TearDown
+  public void tearDown() throws IOException {
+    MostFiles.deleteRecursively(root);
+  }
+
+  @Benchmark
+  public StepExecutionResult sign() throws IOException, ApkFormatException {
+    Path apk = Paths.get("in.apk");
+    if (!alignWhileSigning) {
+      // What zipalign did: write an aligned copy of the APK for the signer to read.
+      Path alignedApk = Paths.get("aligned.apk");
+      try (RandomAccessFile in = new RandomAccessFile(root.resolve(apk).toFile(), "r");
+          RandomAccessFile out = new RandomAccessFile(root.resolve(alignedApk).toFile(), "rw")) {
+        out.setLength(0);
+        DataSource aligned = AlignedApkDataSource.create(DataSources.asDataSource(in), 4);
+        aligned.feed(0, aligned.size(), DataSinks.asDataSink(out));
+      }
+      apk = alignedApk;
+    }
+    return new ApkSignerStep(
+            filesystem, apk, Paths.get("out.apk"), () -> keystoreProperties, true)
+        .execute(TestExecutionContext.newInstance());
+  }
+
+  public static void main(String[] args) throws IOException, RunnerException {
+    Main.main(new String[] {ApkSignerStepBenchmark.class.getName()});
+  }
+}
@@ -0,0 +1,121 @@
+/*
+ * Copyright (c) Facebook, Inc. and its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.facebook.buck.android;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import com.android.apksig.ApkVerifier;
+import com.android.apksig.apk.ApkUtils;
+import com.android.apksig.internal.zip.CentralDirectoryRecord;
+import com.android.apksig.internal.zip.LocalFileRecord;
+import com.android.apksig.util.DataSource;
+import com.android.apksig.util.DataSources;
+import com.facebook.buck.io.filesystem.ProjectFilesystem;
+import com.facebook.buck.io.filesystem.TestProjectFilesystems;
+import com.facebook.buck.step.StepExecutionResults;
+import com.facebook.buck.step.TestExecutionContext;
+import com.facebook.buck.testutil.TemporaryPaths;
+import com.facebook.buck.testutil.integration.TestDataHelper;
+import com.google.common.hash.HashCode;
+import com.google.common.hash.Hashing;
+import com.google.common.io.ByteStreams;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Enumeration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+import org.junit.Rule;
+import org.junit.Test;
+
+public class ApkSignerStepTest {
+  @Rule public TemporaryPaths tmp = new TemporaryPaths();
+
+  @Test
+  public void signedApkIsZipaligned() throws Exception {
+    ProjectFilesystem filesystem = TestProjectFilesystems.createProjectFilesystem(tmp.getRoot());
+    Path testdata = TestDataHelper.getTestDataDirectory(this);
+    Files.copy(
+        testdata.resolve("ndk_toolchain/debug.keystore"), tmp.getRoot().resolve("debug.keystore"));
+    KeystoreProperties keystoreProperties =
+        new KeystoreProperties(Paths.get("debug.keystore"), "android", "android", "my_alias");
+    // An APK from aapt, whose uncompressed entries are not aligned.
+    Path inApk = tmp.getRoot().resolve("in.apk");
+    Files.copy(testdata.resolve("apk_signer/example.apk"), inApk);
+
+    assertEquals(
+        StepExecutionResults.SUCCESS,
+        new ApkSignerStep(
+                filesystem,
+                Paths.get("in.apk"),
+                Paths.get("out.apk"),
+                () -> keystoreProperties,
+                /* isRedexBuild */ false)
+            .execute(TestExecutionContext.newInstance()));
+
+    Path outApk = tmp.getRoot().resolve("out.apk");
+    ApkVerifier.Result result = new ApkVerifier.Builder(outApk.toFile()).build().verify();
+    assertTrue(result.getErrors().toString(), result.isVerified());
+    assertTrue(result.isVerifiedUsingV1Scheme());
+    assertTrue(result.isVerifiedUsingV2Scheme());
+
+    assertEquals(getEntries(inApk), getEntries(outApk));
+
+    try (RandomAccessFile file = new RandomAccessFile(outApk.toFile(), "r")) {
+      DataSource apk = DataSources.asDataSource(file);
+      ApkUtils.ZipSections sections = ApkUtils.findZipSections(apk);
+      ByteBuffer centralDirectory =
+          apk.getByteBuffer(
+                  sections.getZipCentralDirectoryOffset(),
+                  (int) sections.getZipCentralDirectorySizeBytes())
+              .order(ByteOrder.LITTLE_ENDIAN);
+      for (int i = 0; i < sections.getZipCentralDirectoryRecordCount(); i++) {
+        CentralDirectoryRecord record = CentralDirectoryRecord.getRecord(centralDirectory);
+        LocalFileRecord localRecord =
+            LocalFileRecord.getRecord(apk, record, sections.getZipCentralDirectoryOffset());
+        if (!localRecord.isDataCompressed()) {
+          long dataOffset =
+              localRecord.getStartOffsetInArchive() + localRecord.getDataStartOffsetInRecord();
+          assertEquals(record.getName(), 0, dataOffset % 4);
+        }
+      }
+    }
+  }
+
+  private static Map<String, HashCode> getEntries(Path apk) throws IOException {
+    Map<String, HashCode> entries = new HashMap<>();
+    try (ZipFile zip = new ZipFile(apk.toFile())) {
+      for (Enumeration<? extends ZipEntry> e = zip.entries(); e.hasMoreElements(); ) {
+        ZipEntry entry = e.nextElement();
+        if (!entry.getName().startsWith("META-INF/")) {
+          try (InputStream is = zip.getInputStream(entry)) {
+            entries.put(entry.getName(), Hashing.sha1().hashBytes(ByteStreams.toByteArray(is)));
+          }
+        }
+      }
+    }
+    return entries;
+  }
+}
@@ -0,0 +1,209 @@
+/*
+ * Copyright (c) Facebook, Inc. and its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.facebook.buck.android;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assume.assumeTrue;
+
+import com.facebook.buck.core.build.execution.context.ExecutionContext;
+import com.facebook.buck.core.cell.TestCellBuilder;
+import com.facebook.buck.core.config.FakeBuckConfig;
+import com.facebook.buck.io.filesystem.ProjectFilesystem;
+import com.facebook.buck.io.filesystem.TestProjectFilesystems;
+import com.facebook.buck.step.TestExecutionContext;
+import com.facebook.buck.testutil.TemporaryPaths;
+import com.facebook.buck.testutil.TestConsole;
+import com.facebook.buck.testutil.integration.ZipInspector;
+import com.facebook.buck.util.DefaultProcessExecutor;
+import com.facebook.buck.util.environment.Platform;
+import com.facebook.buck.util.zip.ZipConstants;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.Ordering;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Collections;
+import java.util.Optional;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+import org.junit.Rule;
+import org.junit.Test;
+
+public class CachingAapt2CompileStepTest {
+  @Rule public TemporaryPaths tmp = new TemporaryPaths();
+
+  @Test
+  public void shardsKeepTheFilesOfADirectoryTogether() {
+    ImmutableList<Path> files =
+        ImmutableList.of(
+            Paths.get("drawable/a.png"),
+            Paths.get("drawable/b.png"),
+            Paths.get("drawable/c.png"),
+            Paths.get("values/strings.xml"));
+
+    assertEquals(
+        ImmutableList.of(
+            ImmutableList.of(Paths.get("drawable/a.png"), Paths.get("drawable/b.png")),
+            ImmutableList.of(Paths.get("drawable/c.png")),
+            ImmutableList.of(Paths.get("values/strings.xml"))),
+        CachingAapt2CompileStep.getShards(files, 2));
+  }
+
+  @Test
+  public void compiledFilesAreMatchedWithTheirResourceFiles() {
+    ImmutableList<Path> files =
+        ImmutableList.of(
+            Paths.get("values-hdpi/strings.xml"),
+            Paths.get("values-hdpi/icon_names.xml"),
+            Paths.get("values-hdpi/icon.9.png"));
+
+    assertEquals(
+        Optional.of(Paths.get("values-hdpi/strings.xml")),
+        CachingAapt2CompileStep.getResourceFile(
+            files, Paths.get("values-hdpi-v4_strings.arsc.flat")));
+    assertEquals(
+        Optional.of(Paths.get("values-hdpi/icon_names.xml")),
+        CachingAapt2CompileStep.getResourceFile(
+            files, Paths.get("values-hdpi-v4_icon_names.arsc.flat")));
+    assertEquals(
+        Optional.of(Paths.get("values-hdpi/icon.9.png")),
+        CachingAapt2CompileStep.getResourceFile(
+            files, Paths.get("values-hdpi-v4_icon.9.png.flat")));
+    assertEquals(
+        Optional.empty(),
+        CachingAapt2CompileStep.getResourceFile(files, Paths.get("values-hdpi-v4_icon.flat")));
+  }
+
+  @Test
+  public void onlyTheFilesThatChangedAreCompiledAgain() throws Exception {
+    assumeTrue(Platform.detect() != Platform.WINDOWS);
+    ProjectFilesystem filesystem = TestProjectFilesystems.createProjectFilesystem(tmp.getRoot());
+    Path log = tmp.getRoot().resolve("aapt2.log");
+    // Compiles a file by copying it, and logs the files it compiles.
+    Path aapt2 = tmp.newFile("aapt2");
+    Files.write(
+        aapt2,
+        ImmutableList.of(
+            "#!/bin/sh",
+            "shift",
+            "while [ \"$1\" != -o ]; do shift; done",
+            "out=$2",
+            "shift 2",
+            "for f in \"$@\"; do",
+            "  echo \"$f\" >> " + log,
+            "  dir=$(basename $(dirname \"$f\"))",
+            "  name=$(basename \"$f\")",
+            "  case \"$dir\" in",
+            "    values*) name=${name%%.*}.arsc ;;",
+            "  esac",
+            "  cp \"$f\" \"$out/${dir}_$name.flat\"",
+            "done"),
+        StandardCharsets.UTF_8);
+    assertTrue(aapt2.toFile().setExecutable(true));
+
+    writeResource(filesystem, "res/drawable/icon.png", "icon");
+    writeResource(filesystem, "res/drawable/.hidden", "hidden");
+    writeResource(filesystem, "res/drawable/icon.png~", "backup");
+    writeResource(filesystem, "res/drawable/Thumbs.db", "thumbnails");
+    writeResource(filesystem, "res/_private/icon.png", "private");
+    writeResource(filesystem, "res/values/strings.xml", "strings");
+    writeResource(filesystem, "res/values/colors.xml", "colors");
+
+    compile(filesystem, aapt2, "first.flata");
+    assertEquals(
+        ImmutableList.of(
+            "res/drawable/icon.png", "res/values/colors.xml", "res/values/strings.xml"),
+        Ordering.natural().immutableSortedCopy(Files.readAllLines(log, StandardCharsets.UTF_8)));
+
+    Files.delete(log);
+    writeResource(filesystem, "res/values/strings.xml", "new strings");
+    compile(filesystem, aapt2, "second.flata");
+    assertEquals(
+        ImmutableList.of("res/values/strings.xml"),
+        Files.readAllLines(log, StandardCharsets.UTF_8));
+
+    ZipInspector output = new ZipInspector(filesystem.resolve("second.flata"));
+    assertEquals(
+        ImmutableList.of(
+            "drawable_icon.png.flat", "values_colors.arsc.flat", "values_strings.arsc.flat"),
+        output.getZipFileEntries());
+    assertArrayEquals(
+        "icon".getBytes(StandardCharsets.UTF_8), output.getFileContents("drawable_icon.png.flat"));
+    assertArrayEquals(
+        "new strings".getBytes(StandardCharsets.UTF_8),
+        output.getFileContents("values_strings.arsc.flat"));
+    // Zip entries keep their times in seconds.
+    long time = ZipConstants.getFakeTime() / 1000 * 1000;
+    try (ZipFile zip = new ZipFile(filesystem.resolve("second.flata").toFile())) {
+      for (ZipEntry entry : Collections.list(zip.entries())) {
+        assertEquals(time, entry.getTime());
+      }
+    }
+  }
+
+  @Test
+  public void filesIgnoredByAapt2AreSkipped() {
+    assertTrue(CachingAapt2CompileStep.isIgnored(Paths.get("values/.DS_Store"), false));
+    assertTrue(CachingAapt2CompileStep.isIgnored(Paths.get("values/strings.xml~"), false));
+    assertTrue(CachingAapt2CompileStep.isIgnored(Paths.get("values/strings.scc"), false));
+    assertTrue(CachingAapt2CompileStep.isIgnored(Paths.get("drawable/thumbs.db"), false));
+    assertTrue(CachingAapt2CompileStep.isIgnored(Paths.get("drawable/Picasa.ini"), false));
+    assertTrue(CachingAapt2CompileStep.isIgnored(Paths.get("CVS"), true));
+    assertTrue(CachingAapt2CompileStep.isIgnored(Paths.get("_drawable"), true));
+    assertFalse(CachingAapt2CompileStep.isIgnored(Paths.get("drawable/_icon.png"), false));
+    assertFalse(CachingAapt2CompileStep.isIgnored(Paths.get("drawable/icon.png"), false));
+  }
+
+  private void compile(ProjectFilesystem filesystem, Path aapt2, String output)
+      throws IOException, InterruptedException {
+    CachingAapt2CompileStep step =
+        new CachingAapt2CompileStep(
+            filesystem,
+            ImmutableList.of(aapt2.toString()),
+            Paths.get("res"),
+            Paths.get(output),
+            false,
+            false);
+    try (ExecutionContext context =
+        TestExecutionContext.newBuilder()
+            .setProcessExecutor(new DefaultProcessExecutor(new TestConsole()))
+            .setCells(
+                new TestCellBuilder()
+                    .setBuckConfig(
+                        FakeBuckConfig.builder()
+                            .setSections(
+                                "[android]",
+                                "aapt2_compile_cache_dir = " + tmp.getRoot().resolve("cache"))
+                            .build())
+                    .build())
+            .build()) {
+      assertTrue(step.execute(context).isSuccess());
+    }
+  }
+
+  private static void writeResource(ProjectFilesystem filesystem, String path, String contents)
+      throws IOException {
+    Path file = filesystem.resolve(path);
+    Files.createDirectories(file.getParent());
+    Files.write(file, contents.getBytes(StandardCharsets.UTF_8));
+  }
+}
@@ -0,0 +1,132 @@
+/*
+ * Copyright (c) Facebook, Inc. and its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.facebook.buck.android;
+
+import static org.hamcrest.Matchers.containsString;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertThat;
+
+import com.facebook.buck.testutil.TemporaryPaths;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableSet;
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Optional;
+import org.junit.Rule;
+import org.junit.Test;
+
+public class D8WorkerMainTest {
+  @Rule public TemporaryPaths tmp = new TemporaryPaths();
+
+  @Test
+  public void invocationArgsRoundTrip() {
+    D8Invocation invocation =
+        new D8Invocation(
+            Paths.get("/out/classes.dex"),
+            Paths.get("/sdk/android.jar"),
+            ImmutableSet.of(Paths.get("/in/a.jar"), Paths.get("/in/b")),
+            ImmutableSet.of(Paths.get("/cp/c.jar")),
+            true,
+            false,
+            true,
+            true,
+            Optional.of("bucket"),
+            Optional.of(21));
+
+    assertEquals(invocation.toArgs(), D8Invocation.fromArgs(invocation.toArgs()).toArgs());
+  }
+
+  @Test
+  public void workerReportsFailedJobsAndKeepsRunning() throws IOException {
+    Files.write(tmp.getRoot().resolve("0.args"), ImmutableList.of("--no-such-flag"));
+    Files.write(tmp.getRoot().resolve("1.args"), ImmutableList.of("--debug"));
+    Files.write(
+        tmp.getRoot().resolve("2.args"),
+        new D8Invocation(
+                tmp.getRoot().resolve("classes.dex"),
+                tmp.getRoot().resolve("android.jar"),
+                ImmutableSet.of(tmp.getRoot().resolve("missing")),
+                ImmutableSet.of(),
+                false,
+                false,
+                false,
+                false,
+                Optional.empty(),
+                Optional.empty())
+            .toArgs());
+
+    JsonArray responses =
+        runWorker(command(1, "0") + "," + command(2, "1") + "," + command(3, "2"));
+
+    assertEquals(4, responses.size());
+    JsonObject handshake = responses.get(0).getAsJsonObject();
+    assertEquals("handshake", handshake.get("type").getAsString());
+    assertEquals(0, handshake.get("id").getAsInt());
+    assertEquals(0, handshake.get("capabilities").getAsJsonArray().size());
+    assertResult(responses.get(1), 1, DxStep.FAILURE_EXIT_CODE);
+    assertResult(responses.get(2), 2, DxStep.FAILURE_EXIT_CODE);
+    assertResult(responses.get(3), 3, DxStep.FAILURE_EXIT_CODE);
+    assertThat(
+        new String(Files.readAllBytes(tmp.getRoot().resolve("0.err")), StandardCharsets.UTF_8),
+        containsString("Unknown D8 argument: --no-such-flag"));
+    assertThat(
+        new String(Files.readAllBytes(tmp.getRoot().resolve("1.err")), StandardCharsets.UTF_8),
+        containsString("Missing --output argument"));
+    assertThat(
+        new String(Files.readAllBytes(tmp.getRoot().resolve("2.err")), StandardCharsets.UTF_8),
+        containsString("NoSuchFileException"));
+  }
+
+  private JsonArray runWorker(String commands) throws IOException {
+    String input =
+        "[{\"id\":0,\"type\":\"handshake\",\"protocol_version\":\"0\",\"capabilities\":[]},"
+            + commands
+            + "]";
+    StringWriter output = new StringWriter();
+    new D8WorkerMain(new JsonReader(new StringReader(input)), new JsonWriter(output)).run();
+    return new JsonParser().parse(output.toString()).getAsJsonArray();
+  }
+
+  private String command(int id, String name) {
+    Path root = tmp.getRoot();
+    JsonObject command = new JsonObject();
+    command.addProperty("id", id);
+    command.addProperty("type", "command");
+    command.addProperty("args_path", root.resolve(name + ".args").toString());
+    command.addProperty("stdout_path", root.resolve(name + ".out").toString());
+    command.addProperty("stderr_path", root.resolve(name + ".err").toString());
+    return command.toString();
+  }
+
+  private static void assertResult(JsonElement response, int id, int exitCode) {
+    JsonObject result = response.getAsJsonObject();
+    assertEquals("result", result.get("type").getAsString());
+    assertEquals(id, result.get("id").getAsInt());
+    assertEquals(exitCode, result.get("exit_code").getAsInt());
+  }
+}
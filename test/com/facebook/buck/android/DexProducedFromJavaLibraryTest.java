@@ -98,8 +98,8 @@ public class DexProducedFromJavaLibraryTest {
     List<Step> steps = preDex.getBuildSteps(context, buildableContext);
     DxStep dxStep = null;
     for (Step step : steps) {
-      if (step instanceof DxStep) {
-        dxStep = (DxStep) step;
+      if (step instanceof CachingDxStep) {
+        dxStep = ((CachingDxStep) step).getDxStep();
         break;
       }
     }
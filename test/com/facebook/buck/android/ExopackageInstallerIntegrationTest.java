@@ -273,6 +273,19 @@ public class ExopackageInstallerIntegrationTest {
     checkExoInstall(0, 1, 0, 0, 0);
   }
 
+  @Test
+  public void testExoNoopReinstallOnlyInstallsTheMetadata() throws Exception {
+    setDefaultFullBuildState();
+
+    checkExoInstall(1, 2, 2, 3, 2);
+    checkExoInstall(0, 0, 0, 0, 0);
+
+    assertTrue(device.getInstalledDevicePaths().contains(Paths.get("secondary-dex/metadata.txt")));
+    for (Path path : device.getInstalledDevicePaths()) {
+      assertTrue(path.toString(), path.getFileName().toString().contains("metadata"));
+    }
+  }
+
   @Test
   public void testExoReinstallWithJavaModuleChange() throws Exception {
     setDefaultFullBuildState();
@@ -47,6 +47,7 @@ class InstallLimitingAndroidDevice extends DelegatingAndroidDevice {
   private List<Path> installedLibs;
   private List<Path> installedResources;
   private List<Path> installedModules;
+  private List<Path> installedDevicePaths;
 
   private final Path apkPath;
   private final Path agentApkPath;
@@ -70,6 +71,7 @@ class InstallLimitingAndroidDevice extends DelegatingAndroidDevice {
     installedLibs = new ArrayList<>();
     installedResources = new ArrayList<>();
     installedModules = new ArrayList<>();
+    installedDevicePaths = new ArrayList<>();
   }
 
   @Override
@@ -141,6 +143,7 @@ class InstallLimitingAndroidDevice extends DelegatingAndroidDevice {
   public void installFiles(String filesType, Map<Path, Path> installPaths) throws Exception {
     for (Map.Entry<Path, Path> entry : installPaths.entrySet()) {
       validateInstallFile(entry.getKey(), entry.getValue());
+      installedDevicePaths.add(installRoot.relativize(entry.getKey()));
     }
     super.installFiles(filesType, installPaths);
   }
@@ -162,6 +165,12 @@ class InstallLimitingAndroidDevice extends DelegatingAndroidDevice {
     installedLibs.clear();
     installedResources.clear();
     installedModules.clear();
+    installedDevicePaths.clear();
+  }
+
+  /** Returns the paths of the files installed since the counts were set, including metadata. */
+  public List<Path> getInstalledDevicePaths() {
+    return installedDevicePaths;
   }
 
   public void assertExpectedInstallsAreConsumed() {
@@ -131,6 +131,42 @@ public class MergeAndroidResourcesStepTest {
     // All good, no need to further test whether we can write the Java file correctly...
   }
 
+  @Test
+  public void testIdsFollowTheOrderOfTheSymbolsFiles() throws DuplicateResourceException {
+    RDotTxtEntryBuilder entriesBuilder = new RDotTxtEntryBuilder();
+    int libraries = 50;
+    for (int i = 0; i < libraries; i++) {
+      // Each library's R.txt repeats the resources of the libraries before it.
+      ImmutableList.Builder<String> lines = ImmutableList.builder();
+      for (int j = 0; j <= i; j++) {
+        lines.add(String.format("int id res%d 0x7f01%04x", j, j));
+      }
+      entriesBuilder.add(
+          new RDotTxtFile("com.facebook.lib" + i, "lib" + i + "-R.txt", lines.build()));
+    }
+
+    SortedSetMultimap<String, RDotTxtEntry> packageNameToResources =
+        MergeAndroidResourcesStep.sortSymbols(
+            entriesBuilder.buildFilePathToPackageNameSet(),
+            Optional.empty(),
+            ImmutableMap.of(),
+            Optional.empty(),
+            /* bannedDuplicateResourceTypes */ EnumSet.noneOf(RType.class),
+            ImmutableSet.of(),
+            entriesBuilder.getProjectFilesystem(),
+            false);
+
+    assertEquals(libraries, packageNameToResources.keySet().size());
+    for (int i = 0; i < libraries; i++) {
+      SortedSet<RDotTxtEntry> resources = packageNameToResources.get("com.facebook.lib" + i);
+      assertEquals(i + 1, resources.size());
+      for (RDotTxtEntry resource : resources) {
+        int index = Integer.parseInt(resource.name.substring("res".length()));
+        assertEquals(String.format("0x%08x", 0x7f01001 + index), resource.idValue);
+      }
+    }
+  }
+
   @Test
   public void testGenerateRDotJavaForWithStyleables() throws DuplicateResourceException {
     RDotTxtEntryBuilder entriesBuilder = new RDotTxtEntryBuilder();
@@ -0,0 +1,220 @@
+/*
+ * Copyright (c) Facebook, Inc. and its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.facebook.buck.android;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import com.android.dex.ClassDef;
+import com.android.dex.Dex;
+import com.facebook.buck.android.toolchain.AndroidPlatformTarget;
+import com.facebook.buck.core.build.execution.context.ExecutionContext;
+import com.facebook.buck.core.toolchain.tool.impl.testutil.SimpleTool;
+import com.facebook.buck.core.toolchain.toolprovider.impl.ConstantToolProvider;
+import com.facebook.buck.io.filesystem.ProjectFilesystem;
+import com.facebook.buck.io.filesystem.TestProjectFilesystems;
+import com.facebook.buck.io.pathformat.PathFormatter;
+import com.facebook.buck.step.TestExecutionContext;
+import com.facebook.buck.testutil.TemporaryPaths;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.ImmutableSortedMap;
+import com.google.common.collect.ImmutableSortedSet;
+import com.google.common.hash.HashCode;
+import com.google.common.hash.Hashing;
+import com.google.common.io.ByteStreams;
+import com.google.common.io.MoreFiles;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.stream.Stream;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+import javax.tools.JavaCompiler;
+import javax.tools.ToolProvider;
+import org.junit.Rule;
+import org.junit.Test;
+
+public class PerClassDexerTest {
+  @Rule public TemporaryPaths tmp = new TemporaryPaths();
+
+  @Test
+  public void dexingPerClassDexesTheSameClassesAsDexingTheWholeLibrary()
+      throws IOException, InterruptedException {
+    ProjectFilesystem filesystem = TestProjectFilesystems.createProjectFilesystem(tmp.getRoot());
+    writeSource("com/example/Iface.java", "interface Iface { default int value() { return 1; } }");
+    writeSource("com/example/Base.java", "abstract class Base implements Iface {}");
+    writeSource(
+        "com/example/A.java",
+        "class A extends Base { Runnable run() { return () -> value(); } class Inner {} }");
+    writeSource("com/example/Other.java", "class Other {}");
+    Path classesDir = compile();
+    Path androidJar = writeAndroidJar();
+
+    ImmutableList<Path> classFiles;
+    try (Stream<Path> paths = Files.walk(classesDir)) {
+      classFiles = paths.filter(Files::isRegularFile).collect(ImmutableList.toImmutableList());
+    }
+    ImmutableSortedMap.Builder<String, HashCode> classNamesToHashesBuilder =
+        ImmutableSortedMap.naturalOrder();
+    for (Path classFile : classFiles) {
+      String name = PathFormatter.pathWithUnixSeparators(classesDir.relativize(classFile));
+      classNamesToHashesBuilder.put(
+          name.substring(0, name.length() - ".class".length()),
+          MoreFiles.asByteSource(classFile).hash(Hashing.sha1()));
+    }
+    ImmutableSortedMap<String, HashCode> classNamesToHashes = classNamesToHashesBuilder.build();
+    HashCode optionsKey = Hashing.sha1().hashInt(0);
+
+    try (ExecutionContext context = TestExecutionContext.newInstance()) {
+      assertTrue(newDxStep(filesystem, androidJar, "whole.dex.jar").execute(context).isSuccess());
+      PreDexCache cache = new PreDexCache(tmp.newFolder("cache"));
+      assertTrue(
+          newDxStep(filesystem, androidJar, "per_class.dex.jar")
+              .executePerClass(context, cache, optionsKey, classNamesToHashes)
+              .isSuccess());
+      // The second time around, every class comes from the cache.
+      assertTrue(
+          newDxStep(filesystem, androidJar, "cached.dex.jar")
+              .executePerClass(context, cache, optionsKey, classNamesToHashes)
+              .isSuccess());
+    }
+
+    // Desugaring adds classes for the lambda and the default method on top of the library's.
+    ImmutableSet<String> classes = getDexedClasses(tmp.getRoot().resolve("whole.dex.jar"));
+    assertEquals(
+        ImmutableSet.of(
+            "Lcom/example/A;",
+            "Lcom/example/A$Inner;",
+            "Lcom/example/Base;",
+            "Lcom/example/Iface;",
+            "Lcom/example/Other;"),
+        classes.stream()
+            .filter(name -> !name.contains("Lambda") && !name.contains("$-CC"))
+            .collect(ImmutableSet.toImmutableSet()));
+    assertEquals(classes, getDexedClasses(tmp.getRoot().resolve("per_class.dex.jar")));
+    assertEquals(classes, getDexedClasses(tmp.getRoot().resolve("cached.dex.jar")));
+  }
+
+  @Test
+  public void supertypesInLibraryAreTransitiveAndSkipTheClasspath() {
+    ImmutableMap<String, ImmutableList<String>> directSupertypes =
+        ImmutableMap.of(
+            "com/example/A",
+            ImmutableList.of("com/example/Base", "com/example/Iface"),
+            "com/example/Base",
+            ImmutableList.of("java/lang/Object", "com/example/Iface"),
+            "com/example/Iface",
+            ImmutableList.of("java/lang/Object", "java/io/Serializable"),
+            "com/example/Other",
+            ImmutableList.of("java/lang/Object"));
+
+    assertEquals(
+        ImmutableSortedSet.of("com/example/Base", "com/example/Iface"),
+        PerClassDexer.getSupertypesInLibrary("com/example/A", directSupertypes));
+    assertEquals(
+        ImmutableSortedSet.of(),
+        PerClassDexer.getSupertypesInLibrary("com/example/Other", directSupertypes));
+  }
+
+  private void writeSource(String path, String contents) throws IOException {
+    Path file = tmp.getRoot().resolve("src").resolve(path);
+    Files.createDirectories(file.getParent());
+    Files.write(file, ("package com.example; " + contents).getBytes(StandardCharsets.UTF_8));
+  }
+
+  /** Writes the platform classes that desugaring the library reads, taken from the JDK. */
+  private Path writeAndroidJar() throws IOException {
+    Path androidJar = tmp.getRoot().resolve("android.jar");
+    try (ZipOutputStream zip = new ZipOutputStream(Files.newOutputStream(androidJar))) {
+      for (String className :
+          ImmutableList.of(
+              "java/lang/Object",
+              "java/lang/Runnable",
+              "java/lang/invoke/CallSite",
+              "java/lang/invoke/LambdaMetafactory",
+              "java/lang/invoke/MethodHandle",
+              "java/lang/invoke/MethodHandles$Lookup",
+              "java/lang/invoke/MethodType")) {
+        zip.putNextEntry(new ZipEntry(className + ".class"));
+        try (InputStream classFile =
+            ClassLoader.getSystemResourceAsStream(className + ".class")) {
+          ByteStreams.copy(Objects.requireNonNull(classFile), zip);
+        }
+      }
+    }
+    return androidJar;
+  }
+
+  private Path compile() throws IOException {
+    Path classesDir = tmp.newFolder("classes");
+    ImmutableList.Builder<String> args = ImmutableList.builder();
+    args.add("-d", classesDir.toString(), "-source", "8", "-target", "8");
+    try (Stream<Path> sources = Files.walk(tmp.getRoot().resolve("src"))) {
+      sources.filter(Files::isRegularFile).map(Path::toString).forEach(args::add);
+    }
+    JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+    assertEquals(0, compiler.run(null, null, null, args.build().toArray(new String[0])));
+    return classesDir;
+  }
+
+  private static DxStep newDxStep(
+      ProjectFilesystem filesystem, Path androidJar, String output) {
+    return new DxStep(
+        filesystem,
+        AndroidPlatformTarget.of(
+            "android",
+            androidJar,
+            Collections.emptyList(),
+            () -> new SimpleTool(""),
+            new ConstantToolProvider(new SimpleTool("")),
+            Paths.get(""),
+            Paths.get(""),
+            Paths.get(""),
+            Paths.get(""),
+            Paths.get(""),
+            Paths.get(""),
+            Paths.get(""),
+            Paths.get("")),
+        Paths.get(output),
+        ImmutableSet.of(Paths.get("classes")),
+        EnumSet.of(
+            DxStep.Option.USE_CUSTOM_DX_IF_AVAILABLE,
+            DxStep.Option.RUN_IN_PROCESS,
+            DxStep.Option.NO_OPTIMIZE),
+        Optional.empty(),
+        DxStep.D8,
+        true);
+  }
+
+  private static ImmutableSet<String> getDexedClasses(Path dexJar) throws IOException {
+    Dex dex = new Dex(dexJar.toFile());
+    ImmutableSet.Builder<String> classes = ImmutableSet.builder();
+    for (ClassDef classDef : dex.classDefs()) {
+      classes.add(dex.typeNames().get(classDef.getTypeIndex()));
+    }
+    return classes.build();
+  }
+}
@@ -0,0 +1,264 @@
+/*
+ * Copyright (c) Facebook, Inc. and its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.facebook.buck.android;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertTrue;
+
+import com.facebook.buck.android.toolchain.AndroidPlatformTarget;
+import com.facebook.buck.core.build.execution.context.ExecutionContext;
+import com.facebook.buck.core.cell.TestCellBuilder;
+import com.facebook.buck.core.config.FakeBuckConfig;
+import com.facebook.buck.core.toolchain.tool.impl.testutil.SimpleTool;
+import com.facebook.buck.core.toolchain.toolprovider.impl.ConstantToolProvider;
+import com.facebook.buck.io.filesystem.impl.FakeProjectFilesystem;
+import com.facebook.buck.step.StepExecutionResult;
+import com.facebook.buck.step.TestExecutionContext;
+import com.facebook.buck.testutil.TemporaryPaths;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.ImmutableSortedMap;
+import com.google.common.hash.HashCode;
+import com.google.common.hash.Hashing;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.Optional;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+public class PreDexCacheTest {
+  @Rule public TemporaryPaths tmp = new TemporaryPaths();
+
+  private static final ImmutableSortedMap<String, HashCode> CLASSES =
+      ImmutableSortedMap.of(
+          "com/example/A", Hashing.sha1().hashInt(1), "com/example/B", Hashing.sha1().hashInt(2));
+
+  private PreDexCache cache;
+  private Path androidJar;
+
+  @Before
+  public void setUp() throws IOException {
+    cache = new PreDexCache(tmp.newFolder("cache"));
+    androidJar = tmp.newFile("android.jar");
+    Files.write(androidJar, new byte[] {1});
+  }
+
+  @Test
+  public void keyDependsOnTheClassesAndOptionsOnly() throws IOException {
+    HashCode key = computeKey(EnumSet.of(DxStep.Option.FORCE_JUMBO), CLASSES);
+
+    assertEquals(key, computeKey(EnumSet.of(DxStep.Option.FORCE_JUMBO), CLASSES));
+    assertNotEquals(key, computeKey(EnumSet.noneOf(DxStep.Option.class), CLASSES));
+    assertNotEquals(
+        key,
+        computeKey(
+            EnumSet.of(DxStep.Option.FORCE_JUMBO),
+            ImmutableSortedMap.of("com/example/A", Hashing.sha1().hashInt(1))));
+    assertNotEquals(
+        key,
+        computeKey(
+            EnumSet.of(DxStep.Option.FORCE_JUMBO),
+            ImmutableSortedMap.of(
+                "com/example/A",
+                Hashing.sha1().hashInt(1),
+                "com/example/B",
+                Hashing.sha1().hashInt(3))));
+  }
+
+  @Test
+  public void keyDependsOnTheContentsOfTheClasspath() throws IOException {
+    Path classpathFile = tmp.newFile("classpath.jar");
+    Files.write(classpathFile, new byte[] {1});
+    HashCode key = computeKey(ImmutableList.of(classpathFile));
+
+    Path copy = Files.copy(classpathFile, tmp.getRoot().resolve("copy.jar"));
+    assertEquals(key, computeKey(ImmutableList.of(copy)));
+    Files.write(classpathFile, new byte[] {2});
+    assertNotEquals(key, computeKey(ImmutableList.of(classpathFile)));
+    assertFalse(
+        PreDexCache.computeKey(
+                DxStep.D8,
+                EnumSet.noneOf(DxStep.Option.class),
+                true,
+                Optional.empty(),
+                androidJar,
+                CLASSES,
+                ImmutableList.of(tmp.newFolder("classes")))
+            .isPresent());
+  }
+
+  @Test
+  public void keyDependsOnTheContentsOfTheAndroidJar() throws IOException {
+    HashCode key = computeKey(ImmutableList.of());
+
+    Files.write(androidJar, new byte[] {1, 2});
+    assertNotEquals(key, computeKey(ImmutableList.of()));
+  }
+
+  @Test
+  public void fetchesWhatWasStored() throws IOException {
+    HashCode key = computeKey(ImmutableList.of());
+    Path dexFile = tmp.newFile("dex.jar");
+    Files.write(dexFile, new byte[] {1, 2, 3});
+    Path fetched = tmp.getRoot().resolve("out/dex.jar");
+
+    assertFalse(cache.fetch(key, fetched).isPresent());
+    cache.store(key, dexFile, ImmutableList.of("string/b", "string/a"));
+    // Storing an entry that exists already leaves it be.
+    cache.store(key, tmp.newFile("other.jar"), ImmutableList.of());
+
+    assertEquals(Optional.of(ImmutableList.of("string/a", "string/b")), cache.fetch(key, fetched));
+    assertArrayEquals(new byte[] {1, 2, 3}, Files.readAllBytes(fetched));
+  }
+
+  @Test
+  public void corruptEntriesAreMissesAndDeleted() throws IOException {
+    HashCode key = computeKey(ImmutableList.of());
+    Path dexFile = tmp.newFile("dex.jar");
+    Files.write(dexFile, new byte[] {1, 2, 3});
+    cache.store(key, dexFile, ImmutableList.of("string/a"));
+    Path entry = tmp.getRoot().resolve("cache").resolve(key.toString().substring(0, 2));
+    Files.write(entry.resolve(key.toString()).resolve("dex.jar"), new byte[] {1, 2});
+    Path fetched = tmp.getRoot().resolve("out/dex.jar");
+
+    assertFalse(cache.fetch(key, fetched).isPresent());
+    assertFalse(Files.exists(fetched));
+    assertFalse(Files.exists(entry.resolve(key.toString())));
+
+    // The next build stores the entry again.
+    cache.store(key, dexFile, ImmutableList.of("string/a"));
+    assertEquals(Optional.of(ImmutableList.of("string/a")), cache.fetch(key, fetched));
+  }
+
+  @Test
+  public void classKeyDependsOnTheSupertypesInTheLibrary() throws IOException {
+    HashCode optionsKey = computeKey(EnumSet.noneOf(DxStep.Option.class), ImmutableSortedMap.of());
+    HashCode classHash = Hashing.sha1().hashInt(1);
+    HashCode key =
+        PreDexCache.computeClassKey(
+            optionsKey, "com/example/A", classHash, ImmutableList.of(Hashing.sha1().hashInt(2)));
+
+    assertEquals(
+        key,
+        PreDexCache.computeClassKey(
+            optionsKey, "com/example/A", classHash, ImmutableList.of(Hashing.sha1().hashInt(2))));
+    assertNotEquals(
+        key,
+        PreDexCache.computeClassKey(
+            optionsKey, "com/example/A", classHash, ImmutableList.of(Hashing.sha1().hashInt(3))));
+    assertNotEquals(
+        key,
+        PreDexCache.computeClassKey(optionsKey, "com/example/A", classHash, ImmutableList.of()));
+    assertNotEquals(
+        key,
+        PreDexCache.computeClassKey(
+            computeKey(EnumSet.of(DxStep.Option.FORCE_JUMBO), ImmutableSortedMap.of()),
+            "com/example/A",
+            classHash,
+            ImmutableList.of(Hashing.sha1().hashInt(2))));
+  }
+
+  @Test
+  public void fetchesTheClassDexFilesThatWereStored() throws IOException {
+    HashCode key = Hashing.sha1().hashInt(1);
+    Path dexFile = tmp.newFile("A.dex");
+    Files.write(dexFile, new byte[] {1, 2, 3});
+    Path fetched = tmp.getRoot().resolve("out/com/example/A.dex");
+
+    assertFalse(cache.fetchClassDex(key, fetched));
+    cache.storeClassDex(key, dexFile);
+
+    assertTrue(cache.fetchClassDex(key, fetched));
+    assertArrayEquals(new byte[] {1, 2, 3}, Files.readAllBytes(fetched));
+  }
+
+  @Test
+  public void cachingDxStepUsesTheCachedDexFile() throws IOException, InterruptedException {
+    Path output = tmp.getRoot().resolve("out/classes.dex.jar");
+    DxStep dx =
+        new DxStep(
+            new FakeProjectFilesystem(),
+            AndroidPlatformTarget.of(
+                "android",
+                Paths.get(""),
+                Collections.emptyList(),
+                () -> new SimpleTool(""),
+                new ConstantToolProvider(new SimpleTool("")),
+                Paths.get(""),
+                Paths.get(""),
+                Paths.get(""),
+                Paths.get(""),
+                Paths.get(""),
+                Paths.get(""),
+                Paths.get(""),
+                Paths.get("")),
+            output,
+            ImmutableSet.of(Paths.get("lib.jar")));
+    HashCode key = computeKey(ImmutableList.of());
+    Path dexFile = tmp.newFile("dex.jar");
+    Files.write(dexFile, "dex".getBytes(StandardCharsets.UTF_8));
+    cache.store(key, dexFile, ImmutableList.of("string/a"));
+
+    CachingDxStep step = new CachingDxStep(dx, classes -> Optional.of(key), CLASSES);
+    try (ExecutionContext context =
+        TestExecutionContext.newBuilder()
+            .setCells(
+                new TestCellBuilder()
+                    .setBuckConfig(
+                        FakeBuckConfig.builder()
+                            .setSections(
+                                "[dx]", "pre_dex_cache_dir = " + tmp.getRoot().resolve("cache"))
+                            .build())
+                    .build())
+            .build()) {
+      StepExecutionResult result = step.execute(context);
+      assertTrue(result.isSuccess());
+    }
+
+    assertEquals(ImmutableList.of("string/a"), step.getResourcesReferencedInCode());
+    assertEquals("dex", new String(Files.readAllBytes(output), StandardCharsets.UTF_8));
+  }
+
+  private HashCode computeKey(
+      EnumSet<DxStep.Option> options, ImmutableSortedMap<String, HashCode> classes)
+      throws IOException {
+    return PreDexCache.computeKey(
+            DxStep.D8, options, true, Optional.empty(), androidJar, classes, ImmutableList.of())
+        .get();
+  }
+
+  private HashCode computeKey(ImmutableList<Path> classpathFiles) throws IOException {
+    return PreDexCache.computeKey(
+            DxStep.D8,
+            EnumSet.noneOf(DxStep.Option.class),
+            true,
+            Optional.empty(),
+            androidJar,
+            CLASSES,
+            classpathFiles)
+        .get();
+  }
+}
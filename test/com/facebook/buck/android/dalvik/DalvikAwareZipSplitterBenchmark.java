@@ -0,0 +1,161 @@
+/*
+ * Copyright (c) Facebook, Inc. and its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.facebook.buck.android.dalvik;
+
+import com.facebook.buck.android.apkmodule.APKModule;
+import com.facebook.buck.android.apkmodule.APKModuleGraph;
+import com.facebook.buck.io.file.MostFiles;
+import com.facebook.buck.io.filesystem.ProjectFilesystem;
+import com.facebook.buck.io.filesystem.TestProjectFilesystems;
+import com.google.common.collect.ImmutableMultimap;
+import com.google.common.collect.ImmutableSet;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+import org.objectweb.asm.ClassWriter;
+import org.objectweb.asm.MethodVisitor;
+import org.objectweb.asm.Opcodes;
+import org.openjdk.jmh.Main;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.RunnerException;
+
+/**
+ * Compares splitting the classes of a large app into dex zips with and without a {@link
+ * DalvikStatsIndex} of their stats from an earlier split.
+ */
+@State(Scope.Benchmark)
+@Warmup(iterations = 1)
+@Measurement(iterations = 3)
+@Fork(1)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class DalvikAwareZipSplitterBenchmark {
+  @Param({"100000"})
+  private int classes;
+
+  @Param({"false", "true"})
+  private boolean index;
+
+  private Path root;
+  private ProjectFilesystem filesystem;
+  private Path jar;
+
+  @Setup
+  public void setUp() throws IOException {
+    root = Files.createTempDirectory("dalvik-aware-zip-splitter-benchmark");
+    filesystem = TestProjectFilesystems.createProjectFilesystem(root);
+    jar = root.resolve("classes.jar");
+
+    // Classes with a few fields and methods, whose methods call methods and read fields of other
+    // classes, so that the dex zips fill up on member references as they do in real apps.
+    Random random = new Random(0);
+    try (OutputStream out = Files.newOutputStream(jar);
+        ZipOutputStream zip = new ZipOutputStream(out)) {
+      for (int i = 0; i < classes; i++) {
+        zip.putNextEntry(new ZipEntry(getClassName(i) + ".class"));
+        zip.write(createClass(i, random));
+        zip.closeEntry();
+      }
+    }
+
+    if (index) {
+      split();
+    }
+  }
+
+  @TearDown
+  public void tearDown() throws IOException {
+    MostFiles.deleteRecursively(root);
+  }
+
+  @Benchmark
+  public ImmutableMultimap<APKModule, Path> split() throws IOException {
+    Path out = root.resolve("out");
+    MostFiles.deleteRecursivelyIfExists(out);
+    Files.createDirectories(out.resolve("secondary"));
+    Files.createDirectories(out.resolve("report"));
+    APKModule rootModule = APKModule.of(APKModuleGraph.ROOT_APKMODULE_NAME, true);
+    return DalvikAwareZipSplitter.splitZip(
+            filesystem,
+            ImmutableSet.of(jar),
+            out.resolve("primary.jar"),
+            out.resolve("secondary"),
+            "secondary-%d.jar",
+            out.resolve("stores"),
+            16 * 1024 * 1024,
+            path -> path.startsWith("com/example/p0/"),
+            ImmutableSet.of(),
+            ImmutableSet.of(),
+            ImmutableSet.of(),
+            ImmutableMultimap.of(),
+            rootModule,
+            ZipSplitter.DexSplitStrategy.MAXIMIZE_PRIMARY_DEX_SIZE,
+            out.resolve("report"),
+            index ? Optional.of(root.resolve("index")) : Optional.empty())
+        .execute();
+  }
+
+  private String getClassName(int i) {
+    return String.format("com/example/p%d/C%d", i % 100, i);
+  }
+
+  private byte[] createClass(int i, Random random) {
+    ClassWriter writer = new ClassWriter(ClassWriter.COMPUTE_MAXS);
+    writer.visit(Opcodes.V1_7, Opcodes.ACC_PUBLIC, getClassName(i), null, "java/lang/Object", null);
+    for (int f = 0; f < 4; f++) {
+      writer.visitField(Opcodes.ACC_PUBLIC | Opcodes.ACC_STATIC, "f" + f, "I", null, null);
+    }
+    for (int m = 0; m < 8; m++) {
+      MethodVisitor method =
+          writer.visitMethod(Opcodes.ACC_PUBLIC | Opcodes.ACC_STATIC, "m" + m, "()V", null, null);
+      method.visitCode();
+      for (int call = 0; call < 4; call++) {
+        String other = getClassName(random.nextInt(classes));
+        method.visitMethodInsn(
+            Opcodes.INVOKESTATIC, other, "m" + random.nextInt(8), "()V", false);
+        method.visitFieldInsn(Opcodes.GETSTATIC, other, "f" + random.nextInt(4), "I");
+        method.visitInsn(Opcodes.POP);
+      }
+      method.visitInsn(Opcodes.RETURN);
+      method.visitMaxs(0, 0);
+      method.visitEnd();
+    }
+    writer.visitEnd();
+    return writer.toByteArray();
+  }
+
+  public static void main(String[] args) throws IOException, RunnerException {
+    Main.main(new String[] {DalvikAwareZipSplitterBenchmark.class.getName()});
+  }
+}
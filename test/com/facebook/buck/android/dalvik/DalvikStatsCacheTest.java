@@ -0,0 +1,188 @@
+/*
+ * Copyright (c) Facebook, Inc. and its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.facebook.buck.android.dalvik;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import com.facebook.buck.io.filesystem.ProjectFilesystem;
+import com.facebook.buck.io.filesystem.TestProjectFilesystems;
+import com.facebook.buck.jvm.java.classes.AbstractFileLike;
+import com.facebook.buck.testutil.TemporaryPaths;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
+import com.google.common.hash.HashCode;
+import com.google.common.hash.Hashing;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.objectweb.asm.ClassWriter;
+import org.objectweb.asm.MethodVisitor;
+import org.objectweb.asm.Opcodes;
+
+public class DalvikStatsCacheTest {
+  @Rule public TemporaryPaths tmp = new TemporaryPaths();
+
+  private ProjectFilesystem filesystem;
+  private Path indexDir;
+  private Path jar;
+
+  @Before
+  public void setUp() {
+    filesystem = TestProjectFilesystems.createProjectFilesystem(tmp.getRoot());
+    indexDir = tmp.getRoot().resolve("index");
+    jar = tmp.getRoot().resolve("classes.jar");
+  }
+
+  @Test
+  public void computedStatsAreTheStatsOfTheTool() throws IOException {
+    ImmutableMap<String, byte[]> classes =
+        ImmutableMap.of("test/A", createClass("test/A", "test/B"), "test/B", createClass("test/B"));
+    writeJar(classes);
+
+    DalvikStatsCache cache = new DalvikStatsCache(Optional.empty());
+    cache.computeStats(filesystem, ImmutableSet.of(jar));
+
+    for (Map.Entry<String, byte[]> entry : classes.entrySet()) {
+      assertStats(
+          DalvikStatsTool.getEstimate(new ByteArrayInputStream(entry.getValue())),
+          cache.getStats(new ClassFileLike(entry.getKey(), entry.getValue())));
+    }
+  }
+
+  @Test
+  public void statsAreReadFromTheIndexUntilTheClassChanges() throws IOException {
+    byte[] a = createClass("test/A", "test/B");
+    byte[] b = createClass("test/B");
+    writeJar(ImmutableMap.of("test/A", a, "test/B", b));
+    new DalvikStatsCache(Optional.of(new DalvikStatsIndex(indexDir)))
+        .computeStats(filesystem, ImmutableSet.of(jar));
+
+    Map<HashCode, DalvikStatsCache.ClassStats> indexed =
+        new DalvikStatsIndex(indexDir).read(jar);
+    assertEquals(ImmutableSet.of(hash(a), hash(b)), indexed.keySet());
+    assertStats(
+        DalvikStatsTool.getEstimate(new ByteArrayInputStream(a)), indexed.get(hash(a)));
+
+    byte[] newB = createClass("test/B", "test/A");
+    writeJar(ImmutableMap.of("test/A", a, "test/B", newB));
+    DalvikStatsCache cache = new DalvikStatsCache(Optional.of(new DalvikStatsIndex(indexDir)));
+    cache.computeStats(filesystem, ImmutableSet.of(jar));
+
+    assertStats(
+        DalvikStatsTool.getEstimate(new ByteArrayInputStream(newB)),
+        cache.getStats(new ClassFileLike("test/B", newB)));
+    assertEquals(
+        ImmutableSet.of(hash(a), hash(newB)),
+        new DalvikStatsIndex(indexDir).read(jar).keySet());
+  }
+
+  private static void assertStats(
+      DalvikStatsTool.Stats expected, DalvikStatsCache.ClassStats stats) {
+    assertEquals(expected.estimatedLinearAllocSize, stats.estimatedLinearAllocSize);
+    assertEquals(getFingerprints(expected.methodReferences), toSet(stats.methodReferences));
+    assertEquals(getFingerprints(expected.fieldReferences), toSet(stats.fieldReferences));
+    assertTrue(stats.methodReferences.length > 0);
+  }
+
+  private static Set<Long> getFingerprints(Set<DalvikMemberReference> references) {
+    return references.stream()
+        .map(DalvikStatsCache::getFingerprint)
+        .collect(ImmutableSet.toImmutableSet());
+  }
+
+  private static Set<Long> toSet(long[] fingerprints) {
+    return Arrays.stream(fingerprints).boxed().collect(ImmutableSet.toImmutableSet());
+  }
+
+  private static HashCode hash(byte[] contents) {
+    return Hashing.sha1().hashBytes(contents);
+  }
+
+  private void writeJar(Map<String, byte[]> classes) throws IOException {
+    try (OutputStream out = Files.newOutputStream(jar);
+        ZipOutputStream zip = new ZipOutputStream(out)) {
+      for (Map.Entry<String, byte[]> entry : classes.entrySet()) {
+        zip.putNextEntry(new ZipEntry(entry.getKey() + ".class"));
+        zip.write(entry.getValue());
+        zip.closeEntry();
+      }
+    }
+  }
+
+  /** Creates a class with a field, whose constructor reads the field of the other classes. */
+  private static byte[] createClass(String name, String... others) {
+    ClassWriter writer = new ClassWriter(ClassWriter.COMPUTE_MAXS);
+    writer.visit(Opcodes.V1_6, Opcodes.ACC_PUBLIC, name, null, "java/lang/Object", null);
+    writer.visitField(Opcodes.ACC_PUBLIC | Opcodes.ACC_STATIC, "f", "I", null, null).visitEnd();
+    MethodVisitor method = writer.visitMethod(Opcodes.ACC_PUBLIC, "<init>", "()V", null, null);
+    method.visitCode();
+    method.visitVarInsn(Opcodes.ALOAD, 0);
+    method.visitMethodInsn(Opcodes.INVOKESPECIAL, "java/lang/Object", "<init>", "()V", false);
+    for (String other : others) {
+      method.visitFieldInsn(Opcodes.GETSTATIC, other, "f", "I");
+      method.visitInsn(Opcodes.POP);
+    }
+    method.visitInsn(Opcodes.RETURN);
+    method.visitMaxs(0, 0);
+    method.visitEnd();
+    writer.visitEnd();
+    return writer.toByteArray();
+  }
+
+  private class ClassFileLike extends AbstractFileLike {
+    private final String name;
+    private final byte[] contents;
+
+    ClassFileLike(String name, byte[] contents) {
+      this.name = name;
+      this.contents = contents;
+    }
+
+    @Override
+    public Path getContainer() {
+      return jar;
+    }
+
+    @Override
+    public String getRelativePath() {
+      return name + ".class";
+    }
+
+    @Override
+    public long getSize() {
+      return contents.length;
+    }
+
+    @Override
+    public InputStream getInput() {
+      return new ByteArrayInputStream(contents);
+    }
+  }
+}
@@ -0,0 +1,57 @@
+/*
+ * Copyright (c) Facebook, Inc. and its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.facebook.buck.android.dalvik;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.HashSet;
+import java.util.Random;
+import java.util.Set;
+import org.junit.Test;
+
+public class MemberReferenceSetTest {
+  @Test
+  public void behavesLikeASetOfLongs() {
+    MemberReferenceSet set = new MemberReferenceSet();
+    Set<Long> expected = new HashSet<>();
+    Random random = new Random(0);
+    for (int i = 0; i < 10000; i++) {
+      // Few enough distinct values that some are added more than once.
+      long reference = random.nextInt(5000) * 0x100000001b3L;
+      assertEquals(expected.add(reference), set.add(reference));
+    }
+
+    assertEquals(expected.size(), set.size());
+    for (long reference : expected) {
+      assertTrue(set.contains(reference));
+    }
+    assertFalse(set.contains(5000 * 0x100000001b3L));
+  }
+
+  @Test
+  public void countsTheReferencesItIsMissing() {
+    MemberReferenceSet set = new MemberReferenceSet();
+    assertEquals(2, set.addAll(new long[] {0, 1, 1}));
+
+    assertEquals(1, set.countMissing(new long[] {0, 1, 2}));
+    assertEquals(2, set.size());
+    assertEquals(1, set.addAll(new long[] {0, 1, 2}));
+    assertEquals(0, set.countMissing(new long[] {0, 1, 2}));
+  }
+}
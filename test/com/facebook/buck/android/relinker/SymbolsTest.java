@@ -22,6 +22,9 @@ import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
 
+import com.facebook.buck.testutil.integration.TestDataHelper;
+import com.google.common.collect.ImmutableSet;
+import java.io.IOException;
 import org.junit.Test;
 
 public class SymbolsTest {
@@ -78,4 +81,26 @@ public class SymbolsTest {
     assertFalse(si.isUndefined);
     assertEquals(si.symbol, "_ZN5folly6detail27annotate_rwlock_create_implEPVKvPKci");
   }
+
+  @Test
+  public void testReadDynamicSymbolsListsWhatObjdumpDoes() throws IOException {
+    Symbols symbols =
+        Symbols.readDynamicSymbols(
+            TestDataHelper.getTestDataDirectory(this).resolve("libfoo.so"));
+
+    // As listed by `objdump -T libfoo.so`.
+    assertEquals(
+        ImmutableSet.of("__gmon_start__", "_Jv_RegisterClasses", "__cxa_finalize"),
+        symbols.undefined);
+    assertEquals(
+        ImmutableSet.of("foo", "_end", "_edata", "__bss_start", "VERS_1.0", "_init", "_fini"),
+        symbols.global);
+    assertEquals(
+        ImmutableSet.builder()
+            .add(".init")
+            .addAll(symbols.undefined)
+            .addAll(symbols.global)
+            .build(),
+        symbols.all);
+  }
 }
@@ -28,11 +28,17 @@ import com.facebook.buck.testutil.integration.ZipInspector;
 import com.facebook.buck.util.environment.Platform;
 import com.google.common.base.Charsets;
 import com.google.common.collect.ImmutableList;
+import com.google.common.io.ByteStreams;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.PrintStream;
 import java.nio.IntBuffer;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.Collections;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+import java.util.zip.ZipOutputStream;
 import org.junit.Before;
 import org.junit.Rule;
 import org.junit.Test;
@@ -101,6 +107,43 @@ public class ExoResourcesRewriterTest {
     assertEquals(expected, content);
   }
 
+  @Test
+  public void testRewriteResourcesLeavesTheApkUnmodified() throws IOException {
+    Path storedApk = Files.copy(apkPath, tmpFolder.getRoot().resolve("stored.apk"));
+    byte[] apkContents = Files.readAllBytes(storedApk);
+    Path storedExoOutput = tmpFolder.getRoot().resolve("stored-exo.apk");
+    ExoResourcesRewriter.rewriteResources(
+        storedApk, tmpFolder.getRoot().resolve("stored-primary.apk"), storedExoOutput);
+
+    assertArrayEquals(apkContents, Files.readAllBytes(storedApk));
+
+    // A compressed resource table can't be mapped, so it is read instead.
+    Path deflatedApk = tmpFolder.getRoot().resolve("deflated.apk");
+    try (ZipFile in = new ZipFile(storedApk.toFile());
+        ZipOutputStream out = new ZipOutputStream(Files.newOutputStream(deflatedApk))) {
+      for (ZipEntry entry : Collections.list(in.entries())) {
+        out.putNextEntry(new ZipEntry(entry.getName()));
+        ByteStreams.copy(in.getInputStream(entry), out);
+        out.closeEntry();
+      }
+    }
+    new ZipInspector(deflatedApk).assertFileIsCompressed("resources.arsc");
+    Path deflatedExoOutput = tmpFolder.getRoot().resolve("deflated-exo.apk");
+    ExoResourcesRewriter.rewriteResources(
+        deflatedApk, tmpFolder.getRoot().resolve("deflated-primary.apk"), deflatedExoOutput);
+
+    ZipInspector storedExoInspector = new ZipInspector(storedExoOutput);
+    ZipInspector deflatedExoInspector = new ZipInspector(deflatedExoOutput);
+    assertEquals(
+        storedExoInspector.getZipFileEntries(), deflatedExoInspector.getZipFileEntries());
+    for (String entry : storedExoInspector.getZipFileEntries()) {
+      assertArrayEquals(
+          entry,
+          storedExoInspector.getFileContents(entry),
+          deflatedExoInspector.getFileContents(entry));
+    }
+  }
+
   @Test
   public void testRewriteRTxt() throws IOException {
     assumeTrue(Platform.detect() != Platform.WINDOWS);
@@ -173,6 +173,7 @@ import com.google.common.collect.ImmutableSet;
 import com.google.common.collect.ImmutableSortedSet;
 import com.google.common.collect.Sets;
 import com.google.common.hash.HashCode;
+import com.google.common.hash.Hashing;
 import com.google.common.util.concurrent.AbstractListeningExecutorService;
 import com.google.common.util.concurrent.Futures;
 import com.google.common.util.concurrent.ListenableFuture;
@@ -2072,6 +2073,9 @@ public class CachingBuildEngineTest {
         Predicate<BuildRule> canBuild = rule -> false;
         Optional<Builder> builder = Optional.empty();
         Runnable cancelCallback = () -> {};
+        ImmutableSet<BuildTarget> targetsWithDeferredOutputs = ImmutableSet.of();
+        // The absolute path and contents of outputs that are only written when materialized.
+        Map<BuildTarget, Pair<Path, String>> deferredOutputs = new HashMap<>();
 
         @Override
         public StrategyBuildResult build(BuildRule rule, BuildStrategyContext strategyContext) {
@@ -2101,6 +2105,32 @@ public class CachingBuildEngineTest {
           return canBuild.test(instance);
         }
 
+        @Override
+        public ImmutableSet<BuildTarget> getTargetsWithDeferredOutputs() {
+          Preconditions.checkState(!closed);
+          return targetsWithDeferredOutputs;
+        }
+
+        @Override
+        public synchronized boolean hasDeferredOutputs(BuildRule rule) {
+          return deferredOutputs.containsKey(rule.getBuildTarget());
+        }
+
+        @Override
+        public synchronized ListenableFuture<?> materializeOutputs(Iterable<BuildRule> rules) {
+          for (BuildRule rule : rules) {
+            Pair<Path, String> output = deferredOutputs.remove(rule.getBuildTarget());
+            if (output != null) {
+              try {
+                Files.write(output.getFirst(), output.getSecond().getBytes(UTF_8));
+              } catch (IOException e) {
+                return Futures.immediateFailedFuture(e);
+              }
+            }
+          }
+          return Futures.immediateFuture(null);
+        }
+
         @Override
         public void close() {
           Preconditions.checkState(!closed);
@@ -2186,6 +2216,95 @@ public class CachingBuildEngineTest {
         runVerifiedBuild(rule);
       }
 
+      @Test
+      public void rulesWithDeferredOutputsAreForgottenWhenTheStrategyCloses() throws Exception {
+        graphBuilder.addToIndex(rule);
+        strategy.canBuild = rule -> true;
+        strategy.builder =
+            Optional.of(
+                (service, rule, strategyContext) -> {
+                  try (Scope ignored = strategyContext.buildRuleScope()) {
+                    return Futures.immediateFuture(
+                        Optional.of(
+                            strategyContext.createBuildResult(
+                                BuildRuleSuccessType.BUILT_LOCALLY, Optional.empty())));
+                  }
+                });
+        strategy.targetsWithDeferredOutputs = ImmutableSet.of(target);
+        runVerifiedBuild(rule);
+
+        OnDiskBuildInfo onDiskBuildInfo =
+            buildContext.createOnDiskBuildInfoFor(target, filesystem, buildInfoStore);
+        assertFalse(onDiskBuildInfo.getRuleKey(BuildInfo.MetadataKey.RULE_KEY).isPresent());
+      }
+
+      /**
+       * Makes the strategy build the rule the way remote execution does with lazy output
+       * materialization: the output is recorded and its hash seeded into the file hash cache, but
+       * the file is only written when the engine asks for it.
+       */
+      private void buildWithDeferredOutput(BuildRule rule, Path output, String contents) {
+        strategy.canBuild = candidate -> candidate == rule;
+        strategy.builder =
+            Optional.of(
+                (service, builtRule, strategyContext) -> {
+                  try (Scope ignored = strategyContext.buildRuleScope()) {
+                    strategyContext.getBuildableContext().recordArtifact(output);
+                    fileHashCache.set(
+                        filesystem.resolve(output), Hashing.sha1().hashString(contents, UTF_8));
+                    synchronized (strategy) {
+                      strategy.deferredOutputs.put(
+                          builtRule.getBuildTarget(),
+                          new Pair<>(filesystem.resolve(output), contents));
+                    }
+                    return Futures.immediateFuture(
+                        Optional.of(
+                            strategyContext.createBuildResult(
+                                BuildRuleSuccessType.BUILT_LOCALLY, Optional.empty())));
+                  } catch (IOException e) {
+                    return Futures.immediateFailedFuture(e);
+                  }
+                });
+      }
+
+      @Test
+      public void deferredOutputsOfRulesInitializedFromDiskAreMaterializedFirst()
+          throws Exception {
+        Path output = Paths.get("output");
+        OutputReadingRule rule = new OutputReadingRule(target, filesystem, output);
+        graphBuilder.addToIndex(rule);
+        buildWithDeferredOutput(rule, output, "contents");
+
+        runVerifiedBuild(rule);
+
+        assertEquals("contents", rule.getBuildOutputInitializer().getBuildOutput());
+      }
+
+      @Test
+      public void deferredOutputsOfOtherRulesAreLeftDeferred() throws Exception {
+        Path output = Paths.get("output");
+        BuildRule dep =
+            new EmptyBuildRule(target, filesystem) {
+              @Override
+              public SourcePath getSourcePathToOutput() {
+                return ExplicitBuildTargetSourcePath.of(getBuildTarget(), output);
+              }
+            };
+        graphBuilder.addToIndex(dep);
+        buildWithDeferredOutput(dep, output, "contents");
+
+        runVerifiedBuild(new FakeBuildRule("//:top", filesystem, dep));
+
+        assertFalse(filesystem.exists(output));
+        assertEquals(
+            Optional.of(
+                ImmutableMap.of(
+                    output.toString(), Hashing.sha1().hashString("contents", UTF_8).toString())),
+            buildContext
+                .createOnDiskBuildInfoFor(target, filesystem, buildInfoStore)
+                .getMap(BuildInfo.MetadataKey.RECORDED_PATH_HASHES));
+      }
+
       @Test
       public void customBuildRuleStrategyGetsCancelCallOnFirstFailure() throws Exception {
         CountDownLatch failureBlocker = new CountDownLatch(1);
@@ -4436,6 +4555,34 @@ public class CachingBuildEngineTest {
     }
   }
 
+  /** A rule that reads its output when it is initialized from disk. */
+  private static class OutputReadingRule extends EmptyBuildRule
+      implements InitializableFromDisk<String> {
+    private final Path output;
+    private final BuildOutputInitializer<String> buildOutputInitializer;
+
+    OutputReadingRule(BuildTarget buildTarget, ProjectFilesystem projectFilesystem, Path output) {
+      super(buildTarget, projectFilesystem);
+      this.output = output;
+      this.buildOutputInitializer = new BuildOutputInitializer<>(buildTarget, this);
+    }
+
+    @Override
+    public SourcePath getSourcePathToOutput() {
+      return ExplicitBuildTargetSourcePath.of(getBuildTarget(), output);
+    }
+
+    @Override
+    public String initializeFromDisk(SourcePathResolverAdapter pathResolver) throws IOException {
+      return new String(Files.readAllBytes(getProjectFilesystem().resolve(output)), UTF_8);
+    }
+
+    @Override
+    public BuildOutputInitializer<String> getBuildOutputInitializer() {
+      return buildOutputInitializer;
+    }
+  }
+
   private static class EmptyBuildRule extends AbstractBuildRule {
 
     private final ImmutableSortedSet<BuildRule> deps;
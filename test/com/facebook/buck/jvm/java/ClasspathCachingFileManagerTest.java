@@ -0,0 +1,230 @@
+/*
+ * Copyright (c) Facebook, Inc. and its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.facebook.buck.jvm.java;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableSet;
+import com.google.common.io.ByteStreams;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.FileTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.StandardLocation;
+import javax.tools.ToolProvider;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+import org.junit.rules.TemporaryFolder;
+
+/** Tests {@link ClasspathCachingFileManager} */
+public class ClasspathCachingFileManagerTest {
+
+  @Rule public TemporaryFolder temp = new TemporaryFolder();
+  @Rule public ExpectedException thrown = ExpectedException.none();
+
+  private final JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+  private ClasspathJarCache cache;
+
+  @Before
+  public void setUp() {
+    cache = new ClasspathJarCache(1024 * 1024, true);
+  }
+
+  @Test
+  public void jarEntriesAreListedWithJarUris() throws Exception {
+    Path jar = writeJar("lib.jar", "com/example/A.class", "com/example/sub/B.class", "c.txt");
+
+    try (ClasspathCachingFileManager fileManager = newFileManager(jar)) {
+      List<JavaFileObject> listed =
+          list(fileManager, "com.example", ImmutableSet.of(JavaFileObject.Kind.CLASS), false);
+      assertEquals(1, listed.size());
+      JavaFileObject fileObject = listed.get(0);
+      assertEquals("jar:" + jar.toUri() + "!/com/example/A.class", fileObject.toUri().toString());
+      assertEquals(
+          "com.example.A", fileManager.inferBinaryName(StandardLocation.CLASS_PATH, fileObject));
+      assertTrue(fileObject.isNameCompatible("A", JavaFileObject.Kind.CLASS));
+      try (InputStream inputStream = fileObject.openInputStream()) {
+        assertArrayEquals(
+            "com/example/A.class".getBytes(StandardCharsets.UTF_8),
+            ByteStreams.toByteArray(inputStream));
+      }
+
+      List<JavaFileObject> listedRecursively =
+          list(fileManager, "com.example", ImmutableSet.of(JavaFileObject.Kind.CLASS), true);
+      assertEquals(2, listedRecursively.size());
+    }
+  }
+
+  @Test
+  public void jarsWithTheSameContentsShareAnIndex() throws Exception {
+    Path jar = writeJar("lib.jar", "com/example/A.class");
+    Path copy = temp.getRoot().toPath().resolve("copy.jar");
+    Files.copy(jar, copy);
+
+    try (ClasspathJarCache.Jar opened = cache.openJar(jar);
+        ClasspathJarCache.Jar openedCopy = cache.openJar(copy)) {
+      assertSame(opened.getIndex(), openedCopy.getIndex());
+    }
+  }
+
+  @Test
+  public void changedJarIsReindexed() throws Exception {
+    Path jar = writeJar("lib.jar", "com/example/A.class");
+    ClasspathJarCache.JarIndex index;
+    try (ClasspathJarCache.Jar opened = cache.openJar(jar)) {
+      index = opened.getIndex();
+    }
+
+    Path changed = writeJar("changed.jar", "com/example/A.class", "com/example/B.class");
+    Files.move(changed, jar, StandardCopyOption.REPLACE_EXISTING);
+    Files.setLastModifiedTime(jar, FileTime.fromMillis(1000));
+
+    ClasspathJarCache.JarIndex reindexed;
+    try (ClasspathJarCache.Jar opened = cache.openJar(jar)) {
+      reindexed = opened.getIndex();
+    }
+    assertNotSame(index, reindexed);
+    assertEquals(
+        ImmutableList.of("com/example/A.class", "com/example/B.class"),
+        reindexed.getEntries("com/example"));
+  }
+
+  @Test
+  public void unmappedJarsAreReadWithZipFile() throws Exception {
+    cache = new ClasspathJarCache(1024 * 1024, false);
+    Path jar = writeJar("lib.jar", "com/example/A.class");
+
+    try (ClasspathJarCache.Jar opened = cache.openJar(jar)) {
+      assertEquals(
+          ImmutableList.of("com/example/A.class"), opened.getIndex().getEntries("com/example"));
+      assertArrayEquals(
+          "com/example/A.class".getBytes(StandardCharsets.UTF_8),
+          cache.getContents(opened, "com/example/A.class"));
+    }
+    // Nothing holds on to the jar once it's closed.
+    Files.delete(jar);
+  }
+
+  @Test
+  public void jarTruncatedWhileMappedFailsWithAnIOException() throws Exception {
+    Path jar = writeJar("lib.jar", "com/example/A.class");
+
+    try (ClasspathJarCache.Jar opened = cache.openJar(jar)) {
+      try (FileChannel channel = FileChannel.open(jar, StandardOpenOption.WRITE)) {
+        channel.truncate(0);
+      }
+      // The mapping faults, and ZipFile can't open what's left of the jar.
+      thrown.expect(IOException.class);
+      cache.getContents(opened, "com/example/A.class");
+    }
+  }
+
+  @Test
+  public void compilesAgainstCachedClasspath() throws Exception {
+    File classes = temp.newFolder("classes");
+    File source = writeSource("A.java", "package com.example; public class A {}");
+    assertTrue(
+        compiler
+            .getTask(
+                null,
+                null,
+                null,
+                ImmutableList.of("-d", classes.getPath()),
+                null,
+                compiler.getStandardFileManager(null, null, null).getJavaFileObjects(source))
+            .call());
+    Path jar = temp.getRoot().toPath().resolve("a.jar");
+    try (ZipOutputStream zip = new ZipOutputStream(Files.newOutputStream(jar))) {
+      zip.putNextEntry(new ZipEntry("com/example/A.class"));
+      Files.copy(classes.toPath().resolve("com/example/A.class"), zip);
+    }
+
+    File user = writeSource("B.java", "package com.example.user; class B { com.example.A a; }");
+    File output = temp.newFolder("output");
+    try (ClasspathCachingFileManager fileManager =
+        new ClasspathCachingFileManager(compiler.getStandardFileManager(null, null, null), cache)) {
+      assertTrue(
+          compiler
+              .getTask(
+                  null,
+                  fileManager,
+                  null,
+                  ImmutableList.of("-classpath", jar.toString(), "-d", output.getPath()),
+                  null,
+                  fileManager.getJavaFileObjects(user))
+              .call());
+    }
+    assertTrue(new File(output, "com/example/user/B.class").exists());
+  }
+
+  private ClasspathCachingFileManager newFileManager(Path jar) throws Exception {
+    ClasspathCachingFileManager fileManager =
+        new ClasspathCachingFileManager(compiler.getStandardFileManager(null, null, null), cache);
+    fileManager.setLocation(StandardLocation.CLASS_PATH, ImmutableList.of(jar.toFile()));
+    return fileManager;
+  }
+
+  private static List<JavaFileObject> list(
+      ClasspathCachingFileManager fileManager,
+      String packageName,
+      ImmutableSet<JavaFileObject.Kind> kinds,
+      boolean recurse)
+      throws Exception {
+    List<JavaFileObject> listed = new ArrayList<>();
+    fileManager.list(StandardLocation.CLASS_PATH, packageName, kinds, recurse).forEach(listed::add);
+    return listed;
+  }
+
+  /** Writes a jar in which the contents of each entry are its name. */
+  private Path writeJar(String name, String... entries) throws Exception {
+    Path jar = temp.getRoot().toPath().resolve(name);
+    try (OutputStream outputStream = Files.newOutputStream(jar);
+        ZipOutputStream zip = new ZipOutputStream(outputStream)) {
+      for (String entry : entries) {
+        zip.putNextEntry(new ZipEntry(entry));
+        zip.write(entry.getBytes(StandardCharsets.UTF_8));
+      }
+    }
+    return jar;
+  }
+
+  private File writeSource(String name, String contents) throws Exception {
+    File source = temp.newFile(name);
+    Files.write(source.toPath(), contents.getBytes(StandardCharsets.UTF_8));
+    return source;
+  }
+}
@@ -0,0 +1,167 @@
+/*
+ * Copyright (c) Facebook, Inc. and its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.facebook.buck.jvm.java;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+
+import com.facebook.buck.core.model.BuildTarget;
+import com.facebook.buck.core.model.BuildTargetFactory;
+import com.facebook.buck.core.rules.resolver.impl.TestActionGraphBuilder;
+import com.facebook.buck.io.filesystem.ProjectFilesystem;
+import com.facebook.buck.io.filesystem.TestProjectFilesystems;
+import com.facebook.buck.step.StepExecutionResult;
+import com.facebook.buck.step.TestExecutionContext;
+import com.facebook.buck.testutil.TemporaryPaths;
+import com.facebook.buck.util.zip.MappedZipFile;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableSortedSet;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Optional;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+public class IncrementalJavacCompilationTest {
+
+  @Rule public TemporaryPaths tmp = new TemporaryPaths();
+
+  private final BuildTarget target = BuildTargetFactory.newInstance("//foo:bar");
+  private final Path sourceA = Paths.get("src/com/example/A.java");
+  private final Path sourceB = Paths.get("src/com/example/B.java");
+  private final Path sourceC = Paths.get("src/com/example/C.java");
+  private ProjectFilesystem filesystem;
+  private Path jarPath;
+
+  @Before
+  public void setUp() throws Exception {
+    filesystem = TestProjectFilesystems.createProjectFilesystem(tmp.getRoot());
+    jarPath = CompilerOutputPaths.getOutputJarPath(target, filesystem);
+    CompilerOutputPaths outputPaths = CompilerOutputPaths.of(target, filesystem);
+    filesystem.mkdirs(outputPaths.getClassesDir());
+    filesystem.mkdirs(outputPaths.getWorkingDirectory());
+    filesystem.mkdirs(outputPaths.getPathToSourcesList().getParent());
+    filesystem.mkdirs(jarPath.getParent());
+    filesystem.mkdirs(sourceA.getParent());
+    write(sourceA, "package com.example; public class A { public int value() { return 1; } }");
+    write(sourceB, "package com.example; class B { int twice() { return new A().value() * 2; } }");
+    write(sourceC, "package com.example; class C { class Inner {} }");
+  }
+
+  @Test
+  public void onlyChangedSourcesAreRecompiled() throws Exception {
+    assertTrue(build().isSuccess());
+    assertTrue(Files.isRegularFile(newCompilation().getStateDir().resolve("state")));
+
+    write(sourceB, "package com.example; class B { int twice() { return new A().value() + 1; } }");
+    Optional<IncrementalJavacCompilation.Plan> plan = newCompilation().plan(options());
+    assertTrue(plan.isPresent());
+    assertEquals(ImmutableSortedSet.of(sourceB), plan.get().getChangedSources());
+
+    assertTrue(build().isSuccess());
+    MappedZipFile jar = MappedZipFile.open(filesystem.resolve(jarPath));
+    assertNotNull(jar.getEntry("com/example/A.class"));
+    assertNotNull(jar.getEntry("com/example/B.class"));
+    assertNotNull(jar.getEntry("com/example/C$Inner.class"));
+  }
+
+  @Test
+  public void abiChangeFallsBackToAFullBuild() throws Exception {
+    assertTrue(build().isSuccess());
+
+    write(sourceA, "package com.example; public class A { public long value() { return 1; } }");
+    assertTrue(newCompilation().plan(options()).isPresent());
+    // B no longer compiles against the new A, which only a full build notices.
+    assertFalse(build().isSuccess());
+
+    write(sourceB, "package com.example; class B { long twice() { return new A().value() * 2; } }");
+    assertTrue(build().isSuccess());
+  }
+
+  @Test
+  public void addedSourcesNeedAFullBuild() throws Exception {
+    assertTrue(build().isSuccess());
+
+    write(Paths.get("src/com/example/D.java"), "package com.example; class D {}");
+    IncrementalJavacCompilation compilation =
+        newCompilation(
+            ImmutableSortedSet.of(sourceA, sourceB, sourceC, Paths.get("src/com/example/D.java")));
+    assertFalse(compilation.plan(options()).isPresent());
+  }
+
+  private StepExecutionResult build() throws Exception {
+    return newStep().execute(TestExecutionContext.newInstance());
+  }
+
+  private ImmutableList<String> options() {
+    JavacStep step = newStep();
+    return step.getOptions(TestExecutionContext.newInstance(), step.getClasspathEntries());
+  }
+
+  private JavacStep newStep() {
+    JavacOptions javacOptions =
+        JavacOptions.builder()
+            .setLanguageLevelOptions(
+                JavacLanguageLevelOptions.builder()
+                    .setSourceLevel("8")
+                    .setTargetLevel("8")
+                    .build())
+            .setIncrementalCompilationEnabled(true)
+            .build();
+    return new JavacStep(
+        new JdkProvidedInMemoryJavac(),
+        javacOptions,
+        target,
+        new TestActionGraphBuilder().getSourcePathResolver(),
+        filesystem,
+        new ClasspathChecker(),
+        compilerParameters(ImmutableSortedSet.of(sourceA, sourceB, sourceC)),
+        null,
+        jarParameters());
+  }
+
+  private IncrementalJavacCompilation newCompilation() {
+    return newCompilation(ImmutableSortedSet.of(sourceA, sourceB, sourceC));
+  }
+
+  private IncrementalJavacCompilation newCompilation(ImmutableSortedSet<Path> sources) {
+    return new IncrementalJavacCompilation(
+        filesystem, target, compilerParameters(sources), jarParameters());
+  }
+
+  private CompilerParameters compilerParameters(ImmutableSortedSet<Path> sources) {
+    return CompilerParameters.builder()
+        .setScratchPaths(target, filesystem)
+        .setSourceFilePaths(sources)
+        .build();
+  }
+
+  private JarParameters jarParameters() {
+    return JarParameters.builder()
+        .setJarPath(jarPath)
+        .setEntriesToJar(ImmutableSortedSet.of())
+        .build();
+  }
+
+  private void write(Path path, String contents) throws Exception {
+    filesystem.writeContentsToPath(contents, path);
+  }
+}
@@ -39,6 +39,7 @@ import com.facebook.buck.testutil.TemporaryPaths;
 import com.facebook.buck.testutil.TestConsole;
 import com.facebook.buck.testutil.ZipArchive;
 import com.facebook.buck.util.zip.CustomZipOutputStream;
+import com.facebook.buck.util.zip.MappedZipFile;
 import com.facebook.buck.util.zip.ZipConstants;
 import com.facebook.buck.util.zip.ZipOutputStreams;
 import com.google.common.base.Joiner;
@@ -58,6 +59,7 @@ import java.nio.file.Paths;
 import java.util.Date;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Random;
 import java.util.Set;
 import java.util.jar.Attributes;
 import java.util.jar.JarEntry;
@@ -66,6 +68,7 @@ import java.util.jar.JarInputStream;
 import java.util.jar.JarOutputStream;
 import java.util.jar.Manifest;
 import java.util.regex.Pattern;
+import java.util.zip.Deflater;
 import java.util.zip.ZipEntry;
 import java.util.zip.ZipInputStream;
 import java.util.zip.ZipOutputStream;
@@ -435,6 +438,40 @@ public class JarDirectoryStepTest {
     }
   }
 
+  @Test
+  public void entriesOfJarsAreCopiedWithoutBeingDeflatedAgain() throws IOException {
+    Path zipup = folder.newFolder("zipup");
+    Path input = zipup.resolve("input.jar");
+    StringBuilder contents = new StringBuilder();
+    Random random = new Random(0);
+    for (int i = 0; i < 10000; i++) {
+      contents.append(random.nextInt(1000)).append(i % 3 == 0 ? "cake " : "pie ");
+    }
+    try (ZipOutputStream out = new ZipOutputStream(Files.newOutputStream(input))) {
+      // A level that the jar step doesn't use, so that deflating again would change the data.
+      out.setLevel(Deflater.BEST_SPEED);
+      out.putNextEntry(new ZipEntry("data.txt"));
+      out.write(contents.toString().getBytes(UTF_8));
+      out.closeEntry();
+    }
+
+    JarDirectoryStep step =
+        new JarDirectoryStep(
+            TestProjectFilesystems.createProjectFilesystem(zipup),
+            JarParameters.builder()
+                .setJarPath(Paths.get("output.jar"))
+                .setEntriesToJar(ImmutableSortedSet.of(input.getFileName()))
+                .build());
+    assertEquals(0, step.execute(TestExecutionContext.newInstance()).getExitCode());
+
+    MappedZipFile inputJar = MappedZipFile.open(input);
+    MappedZipFile outputJar = MappedZipFile.open(zipup.resolve("output.jar"));
+    MappedZipFile.Entry outputEntry = outputJar.getEntry("data.txt");
+    assertEquals(
+        inputJar.getRawData(inputJar.getEntry("data.txt")), outputJar.getRawData(outputEntry));
+    assertEquals(contents.toString(), new String(outputJar.read(outputEntry), UTF_8));
+  }
+
   /**
    * From the constructor of {@link JarInputStream}:
    *
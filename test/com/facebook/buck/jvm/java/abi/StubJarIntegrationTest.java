@@ -17,12 +17,14 @@
 package com.facebook.buck.jvm.java.abi;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
 import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
 
 import com.facebook.buck.io.filesystem.ProjectFilesystem;
 import com.facebook.buck.io.filesystem.TestProjectFilesystems;
 import com.facebook.buck.testutil.integration.TestDataHelper;
+import com.google.common.hash.HashCode;
 import com.google.common.hash.Hashing;
 import com.google.common.io.ByteSource;
 import com.google.common.io.ByteStreams;
@@ -78,6 +80,36 @@ public class StubJarIntegrationTest {
     assertEquals(filesystem.getFileSize(mid), filesystem.getFileSize(out));
   }
 
+  @Test
+  public void parallelStubbingMatchesSequentialStubbing() throws IOException {
+    Path source = testDataDir.resolve("junit.jar");
+    try (JarFile jar = new JarFile(source.toFile())) {
+      assertTrue(jar.size() >= StubJar.MIN_PARALLEL_ENTRIES);
+    }
+    Path parallel = Paths.get("parallel-abi.jar");
+    Path sequential = Paths.get("sequential-abi.jar");
+    new StubJar(source).writeTo(filesystem, parallel);
+    new StubJar(source).disableParallelStubbing().writeTo(filesystem, sequential);
+
+    assertTrue(
+        com.google.common.io.Files.equal(
+            filesystem.resolve(parallel).toFile(), filesystem.resolve(sequential).toFile()));
+    assertEquals(
+        new StubJar(source).disableParallelStubbing().computeAbiHash(),
+        new StubJar(source).computeAbiHash());
+  }
+
+  @Test
+  public void abiHashOnlyDependsOnTheAbi() throws IOException {
+    Path source = testDataDir.resolve("junit.jar");
+    Path abiJar = Paths.get("junit-abi.jar");
+    new StubJar(source).writeTo(filesystem, abiJar);
+
+    HashCode abiHash = new StubJar(source).computeAbiHash();
+    assertEquals(abiHash, new StubJar(filesystem.resolve(abiJar)).computeAbiHash());
+    assertNotEquals(abiHash, new StubJar(testDataDir.resolve("android.jar")).computeAbiHash());
+  }
+
   @Test
   public void shouldBuildAbiJarFromAThirdPartyStubbedJar() throws IOException {
     Path out = Paths.get("android-abi.jar");
@@ -66,6 +66,21 @@ public class TestRemoteExecutionStatsProvider implements RemoteExecutionStatsPro
     return 0;
   }
 
+  @Override
+  public int getCasFindMissingRequests() {
+    return 0;
+  }
+
+  @Override
+  public long getCasFindMissingQueueTimeMs() {
+    return 0;
+  }
+
+  @Override
+  public long getMaxCasFindMissingQueueTimeMs() {
+    return 0;
+  }
+
   @Override
   public int getTotalRulesBuilt() {
     return 0;
@@ -0,0 +1,196 @@
+/*
+ * Copyright (c) Facebook, Inc. and its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.facebook.buck.remoteexecution.grpc;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+import build.bazel.remote.execution.v2.ContentAddressableStorageGrpc;
+import com.facebook.buck.event.BuckEventBusForTests;
+import com.facebook.buck.remoteexecution.CasBlobUploader.UploadResult;
+import com.facebook.buck.remoteexecution.UploadDataSupplier;
+import com.facebook.buck.remoteexecution.interfaces.Protocol.Digest;
+import com.facebook.buck.remoteexecution.proto.RemoteExecutionMetadata;
+import com.google.bytestream.ByteStreamGrpc;
+import com.google.bytestream.ByteStreamGrpc.ByteStreamImplBase;
+import com.google.bytestream.ByteStreamProto.QueryWriteStatusRequest;
+import com.google.bytestream.ByteStreamProto.QueryWriteStatusResponse;
+import com.google.bytestream.ByteStreamProto.ReadRequest;
+import com.google.bytestream.ByteStreamProto.ReadResponse;
+import com.google.bytestream.ByteStreamProto.WriteRequest;
+import com.google.bytestream.ByteStreamProto.WriteResponse;
+import com.google.protobuf.ByteString;
+import io.grpc.ManagedChannel;
+import io.grpc.Server;
+import io.grpc.Status;
+import io.grpc.inprocess.InProcessChannelBuilder;
+import io.grpc.inprocess.InProcessServerBuilder;
+import io.grpc.stub.StreamObserver;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+public class GrpcByteStreamResumptionTest {
+  private static final int DATA_SIZE = 200 * 1024;
+
+  private final byte[] data = new byte[DATA_SIZE];
+  private final Digest digest;
+
+  private FlakyByteStream service;
+  private Server server;
+  private ManagedChannel channel;
+
+  public GrpcByteStreamResumptionTest() {
+    new Random(0).nextBytes(data);
+    digest = GrpcRemoteExecutionClients.PROTOCOL.computeDigest(data);
+  }
+
+  @Before
+  public void setUp() throws Exception {
+    String name = InProcessServerBuilder.generateName();
+    service = new FlakyByteStream();
+    server = InProcessServerBuilder.forName(name).addService(service).build().start();
+    channel = InProcessChannelBuilder.forName(name).build();
+  }
+
+  @After
+  public void tearDown() throws Exception {
+    channel.shutdownNow();
+    server.shutdownNow();
+  }
+
+  @Test
+  public void interruptedReadIsResumedFromTheLastReceivedByte() throws Exception {
+    ByteArrayOutputStream received = new ByteArrayOutputStream();
+    GrpcRemoteExecutionClients.readByteStream(
+            "", digest, ByteStreamGrpc.newStub(channel), bytes -> bytes.writeTo(received), 10)
+        .get(10, TimeUnit.SECONDS);
+
+    assertArrayEquals(data, received.toByteArray());
+    assertEquals(2, service.readOffsets.size());
+    assertEquals(0L, (long) service.readOffsets.get(0));
+    assertEquals(DATA_SIZE / 2, (long) service.readOffsets.get(1));
+  }
+
+  @Test
+  public void interruptedWriteIsResumedFromTheCommittedSize() throws Exception {
+    GrpcCasBlobUploader uploader =
+        new GrpcCasBlobUploader(
+            "",
+            ContentAddressableStorageGrpc.newFutureStub(channel),
+            ByteStreamGrpc.newStub(channel),
+            BuckEventBusForTests.newInstance(),
+            RemoteExecutionMetadata.getDefaultInstance());
+    UploadResult result =
+        uploader.uploadFromStream(
+            UploadDataSupplier.of("data", digest, () -> new ByteArrayInputStream(data)));
+
+    assertEquals(Status.Code.OK.value(), result.status);
+    assertEquals(2, service.firstWriteOffsets.size());
+    assertEquals(0L, (long) service.firstWriteOffsets.get(0));
+    assertEquals(FlakyByteStream.COMMIT_BEFORE_FAILURE, (long) service.firstWriteOffsets.get(1));
+    assertArrayEquals(data, service.written.toByteArray());
+  }
+
+  /** A ByteStream service whose first read and first write fail half way through. */
+  private class FlakyByteStream extends ByteStreamImplBase {
+    private static final int COMMIT_BEFORE_FAILURE = 65536;
+
+    private final List<Long> readOffsets = new ArrayList<>();
+    private final List<Long> firstWriteOffsets = new ArrayList<>();
+    private final ByteArrayOutputStream written = new ByteArrayOutputStream();
+
+    @Override
+    public void read(ReadRequest request, StreamObserver<ReadResponse> responseObserver) {
+      readOffsets.add(request.getReadOffset());
+      int offset = (int) request.getReadOffset();
+      if (readOffsets.size() == 1) {
+        responseObserver.onNext(
+            ReadResponse.newBuilder()
+                .setData(ByteString.copyFrom(data, 0, DATA_SIZE / 2))
+                .build());
+        responseObserver.onError(Status.UNAVAILABLE.asRuntimeException());
+        return;
+      }
+      responseObserver.onNext(
+          ReadResponse.newBuilder()
+              .setData(ByteString.copyFrom(data, offset, DATA_SIZE - offset))
+              .build());
+      responseObserver.onCompleted();
+    }
+
+    @Override
+    public StreamObserver<WriteRequest> write(StreamObserver<WriteResponse> responseObserver) {
+      return new StreamObserver<WriteRequest>() {
+        private boolean first = true;
+        private boolean failed = false;
+
+        @Override
+        public void onNext(WriteRequest value) {
+          if (failed) {
+            return;
+          }
+          if (first) {
+            firstWriteOffsets.add(value.getWriteOffset());
+            first = false;
+          }
+          if (value.getWriteOffset() != written.size()) {
+            failed = true;
+            responseObserver.onError(Status.INVALID_ARGUMENT.asRuntimeException());
+            return;
+          }
+          byte[] bytes = value.getData().toByteArray();
+          written.write(bytes, 0, bytes.length);
+          if (firstWriteOffsets.size() == 1 && written.size() >= COMMIT_BEFORE_FAILURE) {
+            failed = true;
+            responseObserver.onError(Status.UNAVAILABLE.asRuntimeException());
+          }
+        }
+
+        @Override
+        public void onError(Throwable t) {}
+
+        @Override
+        public void onCompleted() {
+          if (!failed) {
+            responseObserver.onNext(
+                WriteResponse.newBuilder().setCommittedSize(written.size()).build());
+            responseObserver.onCompleted();
+          }
+        }
+      };
+    }
+
+    @Override
+    public void queryWriteStatus(
+        QueryWriteStatusRequest request,
+        StreamObserver<QueryWriteStatusResponse> responseObserver) {
+      responseObserver.onNext(
+          QueryWriteStatusResponse.newBuilder()
+              .setCommittedSize(written.size())
+              .setComplete(false)
+              .build());
+      responseObserver.onCompleted();
+    }
+  }
+}
@@ -0,0 +1,164 @@
+/*
+ * Copyright (c) Facebook, Inc. and its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.facebook.buck.remoteexecution.util;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import com.facebook.buck.testutil.TemporaryPaths;
+import com.google.common.collect.ImmutableList;
+import com.google.common.util.concurrent.MoreExecutors;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+public class LocalCasIndexTest {
+  @Rule public TemporaryPaths tmpRoot = new TemporaryPaths();
+
+  private final AtomicLong clock = new AtomicLong(1000);
+  private FakeBlobs blobs;
+
+  @Before
+  public void setUp() {
+    blobs = new FakeBlobs();
+  }
+
+  @Test
+  public void leastRecentlyUsedBlobsAreEvictedDownToTheLowWatermark() throws Exception {
+    LocalCasIndex index = openIndex(100);
+    index.recordWrite("a", 30);
+    clock.incrementAndGet();
+    index.recordWrite("b", 30);
+    clock.incrementAndGet();
+    index.recordWrite("c", 30);
+    index.save();
+
+    // A later session touches "a", which makes "b" the least recently used blob.
+    clock.addAndGet(1000);
+    index = openIndex(100);
+    clock.incrementAndGet();
+    index.recordAccess("a");
+    clock.incrementAndGet();
+    index.recordWrite("d", 20);
+
+    assertEquals(ImmutableList.of("b"), blobs.deleted);
+    assertEquals(80, index.getTotalSizeBytes());
+    assertFalse(index.isTracked("b"));
+    assertTrue(index.isTracked("a"));
+  }
+
+  @Test
+  public void blobsUsedInTheCurrentSessionAreNotEvicted() throws Exception {
+    LocalCasIndex index = openIndex(100);
+    index.recordWrite("a", 60);
+    clock.incrementAndGet();
+    index.recordWrite("b", 60);
+
+    assertTrue(blobs.deleted.isEmpty());
+    assertEquals(120, index.getTotalSizeBytes());
+  }
+
+  @Test
+  public void blobUsedAfterBeingPickedForEvictionIsKept() throws Exception {
+    LocalCasIndex index = openIndex(100);
+    index.recordWrite("a", 60);
+    index.save();
+
+    // The next session finds "a" after eviction picked it, but before eviction deleted it.
+    clock.addAndGet(1000);
+    LocalCasIndex[] next = new LocalCasIndex[1];
+    blobs.sizes.put("a", 60L);
+    blobs.beforeDelete = hash -> next[0].recordAccess(hash);
+    next[0] = openIndex(100);
+    next[0].recordWrite("b", 60);
+
+    assertTrue(blobs.deleted.isEmpty());
+    assertTrue(next[0].isTracked("a"));
+    assertEquals(120, next[0].getTotalSizeBytes());
+  }
+
+  @Test
+  public void savedIndexIsReloaded() throws Exception {
+    LocalCasIndex index = openIndex(1000);
+    index.recordWrite("a", 10);
+    index.recordWrite("a", 10);
+    index.recordWrite("b", 5);
+    index.save();
+
+    LocalCasIndex reloaded = openIndex(1000);
+    assertTrue(reloaded.isTracked("a"));
+    assertTrue(reloaded.isTracked("b"));
+    assertEquals(25, reloaded.getTotalSizeBytes());
+  }
+
+  @Test
+  public void missingIndexIsRebuiltFromTheBlobsOnDisk() throws Exception {
+    Path root = tmpRoot.getRoot();
+    Files.createDirectories(root.resolve("ab"));
+    Files.write(root.resolve("ab/abcd"), new byte[7]);
+    Files.write(root.resolve("ab/abcd.x"), new byte[7]);
+    Files.write(root.resolve("ab/abef"), new byte[3]);
+    Files.setLastModifiedTime(root.resolve("ab/abcd"), FileTime.fromMillis(10));
+    Files.setLastModifiedTime(root.resolve("ab/abcd.x"), FileTime.fromMillis(10));
+    Files.setLastModifiedTime(root.resolve("ab/abef"), FileTime.fromMillis(20));
+
+    LocalCasIndex index = openIndex(10);
+    assertEquals(ImmutableList.of("abcd"), blobs.deleted);
+    assertTrue(index.isTracked("abef"));
+    assertEquals(3, index.getTotalSizeBytes());
+  }
+
+  private LocalCasIndex openIndex(long maxSizeBytes) throws IOException {
+    return LocalCasIndex.open(
+        tmpRoot.getRoot(), maxSizeBytes, blobs, MoreExecutors.directExecutor(), clock::get);
+  }
+
+  private static class FakeBlobs implements LocalCasIndex.Blobs {
+    private final List<String> deleted = new ArrayList<>();
+    private final Map<String, Long> sizes = new HashMap<>();
+    private Consumer<String> beforeDelete = hash -> {};
+
+    @Override
+    public long getSize(String hash) throws IOException {
+      Long size = sizes.get(hash);
+      if (size == null) {
+        throw new IOException("Missing " + hash);
+      }
+      return size;
+    }
+
+    @Override
+    public void delete(String hash, Predicate<String> isTracked) {
+      beforeDelete.accept(hash);
+      if (!isTracked.test(hash)) {
+        deleted.add(hash);
+      }
+    }
+  }
+}
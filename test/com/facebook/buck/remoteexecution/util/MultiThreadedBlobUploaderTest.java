@@ -16,9 +16,13 @@
 
 package com.facebook.buck.remoteexecution.util;
 
+import com.facebook.buck.event.BuckEventBus;
+import com.facebook.buck.event.BuckEventBusForTests;
+import com.facebook.buck.event.FakeBuckEventListener;
 import com.facebook.buck.remoteexecution.CasBlobUploader;
 import com.facebook.buck.remoteexecution.CasBlobUploader.UploadResult;
 import com.facebook.buck.remoteexecution.UploadDataSupplier;
+import com.facebook.buck.remoteexecution.event.CasFindMissingEvent;
 import com.facebook.buck.remoteexecution.grpc.GrpcProtocol;
 import com.facebook.buck.remoteexecution.interfaces.Protocol.Digest;
 import com.facebook.buck.util.types.Unit;
@@ -31,6 +35,8 @@ import io.grpc.StatusRuntimeException;
 import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.util.List;
+import java.util.stream.Collectors;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
@@ -55,7 +61,11 @@ public class MultiThreadedBlobUploaderTest {
     Digest digest = data.keySet().asList().get(0);
     MultiThreadedBlobUploader uploader =
         new MultiThreadedBlobUploader(
-            MISSING_CHECK_LIMIT, UPLOAD_SIZE_LIMT, service, casBlobUploader);
+            MISSING_CHECK_LIMIT,
+            UPLOAD_SIZE_LIMT,
+            service,
+            casBlobUploader,
+            BuckEventBusForTests.newInstance());
 
     // Setup EasyMock
     EasyMock.expect(casBlobUploader.getMissingHashes(Sets.newHashSet(digest)))
@@ -98,7 +108,11 @@ public class MultiThreadedBlobUploaderTest {
     Digest digest = data.keySet().asList().get(0);
     MultiThreadedBlobUploader uploader =
         new MultiThreadedBlobUploader(
-            MISSING_CHECK_LIMIT, UPLOAD_SIZE_LIMT, service, casBlobUploader);
+            MISSING_CHECK_LIMIT,
+            UPLOAD_SIZE_LIMT,
+            service,
+            casBlobUploader,
+            BuckEventBusForTests.newInstance());
 
     final ReentrantLock lock = new ReentrantLock();
     lock.lock();
@@ -136,6 +150,38 @@ public class MultiThreadedBlobUploaderTest {
     EasyMock.verify(casBlobUploader);
   }
 
+  @Test
+  public void testFindMissingRequestsArePosted()
+      throws IOException, ExecutionException, InterruptedException {
+    ExecutorService service = Executors.newSingleThreadExecutor();
+    CasBlobUploader casBlobUploader = EasyMock.createMock(CasBlobUploader.class);
+    ImmutableMap<Digest, UploadDataSupplier> data = createUploadData();
+    Digest digest = data.keySet().asList().get(0);
+    BuckEventBus eventBus = BuckEventBusForTests.newInstance();
+    FakeBuckEventListener listener = new FakeBuckEventListener();
+    eventBus.register(listener);
+    MultiThreadedBlobUploader uploader =
+        new MultiThreadedBlobUploader(
+            MISSING_CHECK_LIMIT, UPLOAD_SIZE_LIMT, service, casBlobUploader, eventBus);
+
+    EasyMock.expect(casBlobUploader.getMissingHashes(Sets.newHashSet(digest)))
+        .andReturn(ImmutableSet.of())
+        .once();
+    EasyMock.replay(casBlobUploader);
+
+    uploader.addMissing(data.values().stream()).get();
+
+    List<CasFindMissingEvent> events =
+        listener.getEvents().stream()
+            .filter(CasFindMissingEvent.class::isInstance)
+            .map(CasFindMissingEvent.class::cast)
+            .collect(Collectors.toList());
+    Assert.assertEquals(1, events.size());
+    Assert.assertEquals(1, events.get(0).getDigestCount());
+    Assert.assertTrue(events.get(0).getMaxQueueTimeMs() <= events.get(0).getTotalQueueTimeMs());
+    EasyMock.verify(casBlobUploader);
+  }
+
   private ImmutableMap<Digest, UploadDataSupplier> createUploadData() {
     byte[] buffer = "topspin".getBytes();
     Digest digest = PROTOCOL.computeDigest(buffer);
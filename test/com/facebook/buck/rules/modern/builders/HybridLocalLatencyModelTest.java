@@ -0,0 +1,73 @@
+/*
+ * Copyright (c) Facebook, Inc. and its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.facebook.buck.rules.modern.builders;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import com.facebook.buck.rules.modern.builders.HybridLocalEvent.Placement;
+import java.util.OptionalLong;
+import org.junit.Test;
+
+public class HybridLocalLatencyModelTest {
+  @Test
+  public void executionTimesAreMovingAveragesPerRuleType() {
+    HybridLocalLatencyModel model = new HybridLocalLatencyModel();
+    model.recordExecuted(Placement.LOCAL, "java_library", 100);
+    model.recordExecuted(Placement.LOCAL, "java_library", 200);
+    model.recordExecuted(Placement.LOCAL, "genrule", 10);
+
+    assertEquals(
+        OptionalLong.of(125), model.predictExecutionNanos(Placement.LOCAL, "java_library"));
+    assertEquals(OptionalLong.of(10), model.predictExecutionNanos(Placement.LOCAL, "genrule"));
+    assertEquals(
+        OptionalLong.empty(), model.predictExecutionNanos(Placement.DELEGATE, "java_library"));
+  }
+
+  @Test
+  public void localAdvantageAccountsForDelegateWait() {
+    HybridLocalLatencyModel model = new HybridLocalLatencyModel();
+    model.recordExecuted(Placement.LOCAL, "java_library", 100);
+    model.recordExecuted(Placement.DELEGATE, "java_library", 40);
+
+    assertEquals(-60, model.getLocalAdvantageNanos("java_library", 0));
+    assertEquals(40, model.getLocalAdvantageNanos("java_library", 100));
+    // Without data for both sides, only the wait for the delegate counts.
+    assertEquals(5, model.getLocalAdvantageNanos("genrule", 5));
+  }
+
+  @Test
+  public void stealingIsOnlyWorthwhileIfLocalFinishesSooner() {
+    HybridLocalLatencyModel model = new HybridLocalLatencyModel();
+    model.recordExecuted(Placement.LOCAL, "java_library", 50);
+    model.recordExecuted(Placement.DELEGATE, "java_library", 100);
+
+    assertTrue(model.isStealingWorthwhile("java_library", 10));
+    assertFalse(model.isStealingWorthwhile("java_library", 60));
+    assertTrue(model.isStealingWorthwhile("genrule", 1000));
+  }
+
+  @Test
+  public void queueTimesArePerPlacement() {
+    HybridLocalLatencyModel model = new HybridLocalLatencyModel();
+    model.recordQueued(Placement.DELEGATE, 80);
+
+    assertEquals(80, model.predictQueueNanos(Placement.DELEGATE));
+    assertEquals(0, model.predictQueueNanos(Placement.LOCAL));
+  }
+}
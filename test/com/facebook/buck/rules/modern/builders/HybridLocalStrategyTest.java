@@ -25,21 +25,26 @@ import com.facebook.buck.core.build.engine.BuildStrategyContext;
 import com.facebook.buck.core.rules.BuildRule;
 import com.facebook.buck.core.rules.build.strategy.BuildRuleStrategy;
 import com.facebook.buck.core.rules.impl.FakeBuildRule;
+import com.facebook.buck.event.BuckEventBus;
 import com.facebook.buck.event.BuckEventBusForTests;
 import com.facebook.buck.remoteexecution.NoOpWorkerRequirementsProvider;
+import com.facebook.buck.rules.modern.builders.HybridLocalEvent.Placement;
 import com.facebook.buck.util.concurrent.ListeningMultiSemaphore;
 import com.facebook.buck.util.concurrent.MostExecutors;
 import com.facebook.buck.util.concurrent.ResourceAllocationFairness;
 import com.facebook.buck.util.concurrent.ResourceAmounts;
 import com.facebook.buck.util.concurrent.WeightedListeningExecutorService;
+import com.facebook.buck.util.timing.DefaultClock;
 import com.facebook.buck.util.types.Pair;
 import com.google.common.collect.ImmutableList;
+import com.google.common.eventbus.Subscribe;
 import com.google.common.util.concurrent.Futures;
 import com.google.common.util.concurrent.ListenableFuture;
 import com.google.common.util.concurrent.ListeningExecutorService;
 import com.google.common.util.concurrent.MoreExecutors;
 import com.google.common.util.concurrent.SettableFuture;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
 import java.util.concurrent.Semaphore;
@@ -532,6 +537,70 @@ public class HybridLocalStrategyTest {
     }
   }
 
+  @Test
+  public void testAdaptiveSchedulingLeavesJobsToFasterDelegate() throws Exception {
+    ListeningExecutorService service =
+        MoreExecutors.listeningDecorator(MostExecutors.newMultiThreadExecutor("test", 4));
+
+    try {
+      String ruleType = new FakeBuildRule("//:type").getType();
+      HybridLocalLatencyModel model = new HybridLocalLatencyModel();
+      model.recordExecuted(Placement.LOCAL, ruleType, TimeUnit.SECONDS.toNanos(10));
+      model.recordExecuted(Placement.DELEGATE, ruleType, TimeUnit.SECONDS.toNanos(1));
+
+      BuckEventBus eventBus = BuckEventBusForTests.newInstance();
+      List<HybridLocalEvent.Scheduled> events = Collections.synchronizedList(new ArrayList<>());
+      eventBus.register(
+          new Object() {
+            @Subscribe
+            public void onScheduled(HybridLocalEvent.Scheduled event) {
+              events.add(event);
+            }
+          });
+      AtomicInteger localBuilds = new AtomicInteger();
+
+      try (HybridLocalStrategy strategy =
+          new HybridLocalStrategy(
+              1,
+              1,
+              1,
+              new SimpleBuildRuleStrategy(),
+              new NoOpWorkerRequirementsProvider(),
+              Optional.empty(),
+              NO_AUXILIARY_BUILD_TAG,
+              Optional.of(model),
+              new DefaultClock(),
+              eventBus)) {
+        List<ListenableFuture<Optional<BuildResult>>> results = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+          FakeBuildRule rule = new FakeBuildRule("//:target-" + i);
+          BuildStrategyContext context =
+              new SimpleBuildStrategyContext(rule, service) {
+                @Override
+                public ListenableFuture<Optional<BuildResult>> runWithDefaultBehavior() {
+                  localBuilds.incrementAndGet();
+                  return Futures.immediateFuture(
+                      Optional.of(
+                          createBuildResult(BuildRuleSuccessType.BUILT_LOCALLY, Optional.empty())));
+                }
+              };
+          results.add(strategy.build(rule, context).getBuildResult());
+        }
+
+        for (Optional<BuildResult> result : Futures.allAsList(results).get(1, TimeUnit.SECONDS)) {
+          assertTrue(result.get().isSuccess());
+        }
+        assertEquals(0, localBuilds.get());
+        assertEquals(4, events.size());
+        for (HybridLocalEvent.Scheduled event : events) {
+          assertEquals(Placement.DELEGATE, event.getPlacement());
+        }
+      }
+    } finally {
+      service.shutdownNow();
+    }
+  }
+
   static class SimpleBuildRuleStrategy implements BuildRuleStrategy {
     @Override
     public void close() {}
@@ -21,7 +21,6 @@ import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 
 import build.bazel.remote.execution.v2.ExecuteOperationMetadata;
-import build.bazel.remote.execution.v2.ExecutedActionMetadata;
 import com.facebook.buck.core.build.engine.BuildStrategyContext;
 import com.facebook.buck.core.model.BuildTarget;
 import com.facebook.buck.core.model.BuildTargetFactory;
@@ -33,11 +32,9 @@ import com.facebook.buck.event.BuckEventBusForTests;
 import com.facebook.buck.io.filesystem.PathMatcher;
 import com.facebook.buck.io.filesystem.ProjectFilesystem;
 import com.facebook.buck.io.filesystem.TestProjectFilesystems;
-import com.facebook.buck.remoteexecution.ContentAddressedStorageClient;
 import com.facebook.buck.remoteexecution.MetadataProviderFactory;
 import com.facebook.buck.remoteexecution.NoOpWorkerRequirementsProvider;
 import com.facebook.buck.remoteexecution.RemoteExecutionClients;
-import com.facebook.buck.remoteexecution.RemoteExecutionServiceClient;
 import com.facebook.buck.remoteexecution.RemoteExecutionServiceClient.ExecutionHandle;
 import com.facebook.buck.remoteexecution.RemoteExecutionServiceClient.ExecutionResult;
 import com.facebook.buck.remoteexecution.UploadDataSupplier;
@@ -45,11 +42,8 @@ import com.facebook.buck.remoteexecution.config.RemoteExecutionConfig;
 import com.facebook.buck.remoteexecution.config.RemoteExecutionStrategyConfig;
 import com.facebook.buck.remoteexecution.event.RemoteExecutionActionEvent;
 import com.facebook.buck.remoteexecution.grpc.GrpcProtocol;
-import com.facebook.buck.remoteexecution.interfaces.Protocol;
 import com.facebook.buck.remoteexecution.interfaces.Protocol.Digest;
-import com.facebook.buck.remoteexecution.interfaces.Protocol.OutputDirectory;
 import com.facebook.buck.remoteexecution.interfaces.Protocol.OutputFile;
-import com.facebook.buck.remoteexecution.proto.RemoteExecutionMetadata;
 import com.facebook.buck.remoteexecution.proto.WorkerRequirements;
 import com.facebook.buck.rules.modern.ModernBuildRule;
 import com.facebook.buck.rules.modern.NoOpModernBuildRule;
@@ -59,17 +53,12 @@ import com.google.common.base.Charsets;
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableSet;
 import com.google.common.eventbus.Subscribe;
-import com.google.common.util.concurrent.Futures;
 import com.google.common.util.concurrent.ListenableFuture;
 import com.google.common.util.concurrent.ListeningExecutorService;
 import com.google.common.util.concurrent.MoreExecutors;
 import com.google.common.util.concurrent.SettableFuture;
 import java.io.ByteArrayInputStream;
-import java.io.IOException;
-import java.nio.ByteBuffer;
 import java.nio.file.Path;
-import java.nio.file.Paths;
-import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.OptionalLong;
@@ -123,7 +112,8 @@ public class RemoteExecutionStrategyTest {
             new TestRemoteExecutionHelper(),
             new NoOpWorkerRequirementsProvider(),
             service,
-            "" /* auxiliaryBuildTag */);
+            "" /* auxiliaryBuildTag */,
+            Optional.empty());
 
     ProjectFilesystem filesystem = TestProjectFilesystems.createProjectFilesystem(tmp.getRoot());
     SourcePathRuleFinder ruleFinder = new TestActionGraphBuilder();
@@ -243,7 +233,8 @@ public class RemoteExecutionStrategyTest {
             new TestRemoteExecutionHelper(),
             new NoOpWorkerRequirementsProvider(),
             service,
-            "" /* auxiliaryBuildTag */);
+            "" /* auxiliaryBuildTag */,
+            Optional.empty());
 
     StrategyBuildResult result = beginCustomStrategyBuild();
     result.cancelIfNotComplete(new CancellationException("Job is being stolen"));
@@ -262,7 +253,7 @@ public class RemoteExecutionStrategyTest {
     clients =
         new SimpleRemoteExecutionClients() {
           @Override
-          public ListenableFuture<Unit> materializeOutputs() {
+          public ListenableFuture<Unit> materializeOutputs(List<OutputFile> outputFiles) {
             SettableFuture<Unit> result = SettableFuture.create();
             completer.set(() -> result.set(null));
             return result;
@@ -304,6 +295,16 @@ public class RemoteExecutionStrategyTest {
       return 1;
     }
 
+    @Override
+    public int getCasFindMissingBatchSize() {
+      return 1;
+    }
+
+    @Override
+    public int getCasUploadBatchSizeBytes() {
+      return 1;
+    }
+
     @Override
     public int getMaxConcurrentPendingUploads() {
       return 1;
@@ -339,6 +340,11 @@ public class RemoteExecutionStrategyTest {
       return true;
     }
 
+    @Override
+    public boolean isLazyOutputMaterializationEnabled() {
+      return false;
+    }
+
     @Override
     public boolean tryLargerWorkerOnOom() {
       return false;
@@ -376,119 +382,4 @@ public class RemoteExecutionStrategyTest {
       return tmp.getRoot();
     }
   };
-
-  private class SimpleRemoteExecutionClients implements RemoteExecutionClients {
-    public ExecutionHandle execute() {
-      return new ExecutionHandle() {
-        @Override
-        public ListenableFuture<ExecutionResult> getResult() {
-          return Futures.immediateFuture(
-              new ExecutionResult() {
-                @Override
-                public RemoteExecutionMetadata getRemoteExecutionMetadata() {
-                  return RemoteExecutionMetadata.newBuilder().build();
-                }
-
-                @Override
-                public List<OutputDirectory> getOutputDirectories() {
-                  return ImmutableList.of();
-                }
-
-                @Override
-                public List<OutputFile> getOutputFiles() {
-                  return ImmutableList.of(
-                      protocol.newOutputFile(Paths.get("output"), missingDigest, false));
-                }
-
-                @Override
-                public int getExitCode() {
-                  return 0;
-                }
-
-                @Override
-                public Optional<String> getStdout() {
-                  return Optional.empty();
-                }
-
-                @Override
-                public Optional<String> getStderr() {
-                  return Optional.empty();
-                }
-
-                @Override
-                public Digest getActionResultDigest() {
-                  return null;
-                }
-
-                @Override
-                public ExecutedActionMetadata getActionMetadata() {
-                  return ExecutedActionMetadata.newBuilder().build();
-                }
-              });
-        }
-
-        @Override
-        public ListenableFuture<ExecuteOperationMetadata> getExecutionStarted() {
-          return SettableFuture.create();
-        }
-
-        @Override
-        public void cancel() {}
-      };
-    }
-
-    public ListenableFuture<Unit> addMissing() {
-      return Futures.immediateFuture(Unit.UNIT);
-    }
-
-    public ListenableFuture<Unit> materializeOutputs() {
-      return Futures.immediateFuture(null);
-    }
-
-    public boolean containsDigest(Digest digest) {
-      return false;
-    }
-
-    @Override
-    public RemoteExecutionServiceClient getRemoteExecutionService() {
-      return (actionDigest, ruleName, metadataProvider) ->
-          SimpleRemoteExecutionClients.this.execute();
-    }
-
-    @Override
-    public ContentAddressedStorageClient getContentAddressedStorage() {
-      return new ContentAddressedStorageClient() {
-        @Override
-        public ListenableFuture<Unit> addMissing(Collection<UploadDataSupplier> data) {
-          return SimpleRemoteExecutionClients.this.addMissing();
-        }
-
-        @Override
-        public ListenableFuture<Unit> materializeOutputs(
-            List<OutputDirectory> outputDirectories,
-            List<OutputFile> outputFiles,
-            FileMaterializer materializer) {
-          return SimpleRemoteExecutionClients.this.materializeOutputs();
-        }
-
-        @Override
-        public boolean containsDigest(Digest digest) {
-          return SimpleRemoteExecutionClients.this.containsDigest(digest);
-        }
-
-        @Override
-        public ListenableFuture<ByteBuffer> fetch(Digest digest) {
-          return Futures.immediateFuture(null);
-        }
-      };
-    }
-
-    @Override
-    public Protocol getProtocol() {
-      return protocol;
-    }
-
-    @Override
-    public void close() throws IOException {}
-  }
 }
@@ -0,0 +1,149 @@
+/*
+ * Copyright (c) Facebook, Inc. and its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.facebook.buck.rules.modern.builders;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import com.facebook.buck.core.model.BuildTarget;
+import com.facebook.buck.core.model.BuildTargetFactory;
+import com.facebook.buck.remoteexecution.grpc.GrpcProtocol;
+import com.facebook.buck.remoteexecution.interfaces.Protocol.OutputFile;
+import com.facebook.buck.testutil.FakeFileHashCache;
+import com.facebook.buck.util.types.Unit;
+import com.google.common.base.Charsets;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableSet;
+import com.google.common.hash.HashCode;
+import com.google.common.util.concurrent.ListenableFuture;
+import com.google.common.util.concurrent.SettableFuture;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import org.junit.Before;
+import org.junit.Test;
+
+public class RemoteOutputsStoreTest {
+  private final GrpcProtocol protocol = new GrpcProtocol();
+  private final Path cellPathPrefix = Paths.get("/cells").toAbsolutePath();
+  private final BuildTarget target = BuildTargetFactory.newInstance("//foo:bar");
+
+  private RecordingClients casClient;
+  private FakeFileHashCache fileHashCache;
+  private RemoteOutputsStore store;
+
+  @Before
+  public void setUp() {
+    casClient = new RecordingClients();
+    fileHashCache = new FakeFileHashCache(new HashMap<>());
+    store =
+        new RemoteOutputsStore(
+            casClient.getContentAddressedStorage(), fileHashCache, cellPathPrefix);
+  }
+
+  @Test
+  public void deferredFilesAreTrackedAndTheirHashesSeeded() throws Exception {
+    OutputFile file = outputFile("root/buck-out/gen/foo/bar.jar", "contents");
+    store.defer(target, ImmutableList.of(file));
+
+    Path absolutePath = cellPathPrefix.resolve(file.getPath());
+    assertTrue(store.hasDeferredOutputs(target));
+    assertSame(file, store.getDeferredFile(absolutePath).get());
+    assertEquals(HashCode.fromString(file.getDigest().getHash()), fileHashCache.get(absolutePath));
+    assertTrue(casClient.materializedFiles.isEmpty());
+  }
+
+  @Test
+  public void concurrentMaterializationsShareASingleDownload() throws Exception {
+    OutputFile file = outputFile("root/buck-out/gen/foo/bar.jar", "contents");
+    store.defer(target, ImmutableList.of(file));
+
+    ListenableFuture<Unit> first = store.materialize(target);
+    ListenableFuture<Unit> second = store.materialize(target);
+    assertEquals(1, casClient.materializedFiles.size());
+    assertEquals(ImmutableList.of(file), casClient.materializedFiles.get(0));
+    assertFalse(first.isDone());
+
+    casClient.result.set(null);
+    first.get();
+    second.get();
+    assertFalse(store.hasDeferredOutputs(target));
+    assertFalse(store.getDeferredFile(cellPathPrefix.resolve(file.getPath())).isPresent());
+    assertTrue(store.isEmpty());
+  }
+
+  @Test
+  public void failedMaterializationsAreRetried() throws Exception {
+    OutputFile file = outputFile("root/buck-out/gen/foo/bar.jar", "contents");
+    store.defer(target, ImmutableList.of(file));
+
+    ListenableFuture<Unit> failed = store.materialize(target);
+    casClient.result.setException(new IOException("CAS is unavailable"));
+    assertTrue(failed.isDone());
+    assertTrue(store.hasDeferredOutputs(target));
+
+    casClient.result = SettableFuture.create();
+    ListenableFuture<Unit> retried = store.materialize(target);
+    assertEquals(2, casClient.materializedFiles.size());
+    casClient.result.set(null);
+    retried.get();
+    assertFalse(store.hasDeferredOutputs(target));
+  }
+
+  @Test
+  public void materializingRuleWithoutDeferredOutputsDoesNothing() throws Exception {
+    store.defer(target, ImmutableList.of());
+    assertTrue(store.isEmpty());
+    assertTrue(store.materialize(target).isDone());
+    assertTrue(casClient.materializedFiles.isEmpty());
+  }
+
+  @Test
+  public void droppedOutputsAreForgottenWithTheirHashes() throws Exception {
+    OutputFile file = outputFile("root/buck-out/gen/foo/bar.jar", "contents");
+    store.defer(target, ImmutableList.of(file));
+    assertEquals(ImmutableSet.of(target), store.getTargetsWithDeferredOutputs());
+
+    store.dropDeferredOutputs();
+    Path absolutePath = cellPathPrefix.resolve(file.getPath());
+    assertTrue(store.isEmpty());
+    assertFalse(store.getDeferredFile(absolutePath).isPresent());
+    assertFalse(fileHashCache.contains(absolutePath));
+    assertTrue(casClient.materializedFiles.isEmpty());
+  }
+
+  private OutputFile outputFile(String path, String contents) {
+    return protocol.newOutputFile(
+        Paths.get(path), protocol.computeDigest(contents.getBytes(Charsets.UTF_8)), false);
+  }
+
+  private static class RecordingClients extends SimpleRemoteExecutionClients {
+    private final List<List<OutputFile>> materializedFiles = new ArrayList<>();
+    private SettableFuture<Unit> result = SettableFuture.create();
+
+    @Override
+    public ListenableFuture<Unit> materializeOutputs(List<OutputFile> outputFiles) {
+      materializedFiles.add(outputFiles);
+      return result;
+    }
+  }
+}
@@ -0,0 +1,167 @@
+/*
+ * Copyright (c) Facebook, Inc. and its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.facebook.buck.rules.modern.builders;
+
+import build.bazel.remote.execution.v2.ExecuteOperationMetadata;
+import build.bazel.remote.execution.v2.ExecutedActionMetadata;
+import com.facebook.buck.remoteexecution.ContentAddressedStorageClient;
+import com.facebook.buck.remoteexecution.RemoteExecutionClients;
+import com.facebook.buck.remoteexecution.RemoteExecutionServiceClient;
+import com.facebook.buck.remoteexecution.RemoteExecutionServiceClient.ExecutionHandle;
+import com.facebook.buck.remoteexecution.RemoteExecutionServiceClient.ExecutionResult;
+import com.facebook.buck.remoteexecution.UploadDataSupplier;
+import com.facebook.buck.remoteexecution.grpc.GrpcProtocol;
+import com.facebook.buck.remoteexecution.interfaces.Protocol;
+import com.facebook.buck.remoteexecution.interfaces.Protocol.Digest;
+import com.facebook.buck.remoteexecution.interfaces.Protocol.OutputDirectory;
+import com.facebook.buck.remoteexecution.interfaces.Protocol.OutputFile;
+import com.facebook.buck.remoteexecution.proto.RemoteExecutionMetadata;
+import com.facebook.buck.util.types.Unit;
+import com.google.common.base.Charsets;
+import com.google.common.collect.ImmutableList;
+import com.google.common.util.concurrent.Futures;
+import com.google.common.util.concurrent.ListenableFuture;
+import com.google.common.util.concurrent.SettableFuture;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Paths;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * {@link RemoteExecutionClients} whose actions succeed right away with a single output file and
+ * whose CAS has nothing in it. Tests override the hooks to control what the clients do.
+ */
+class SimpleRemoteExecutionClients implements RemoteExecutionClients {
+  private final Protocol protocol = new GrpcProtocol();
+  private final Digest outputDigest = protocol.computeDigest("data".getBytes(Charsets.UTF_8));
+
+  public ExecutionHandle execute() {
+    return new ExecutionHandle() {
+      @Override
+      public ListenableFuture<ExecutionResult> getResult() {
+        return Futures.immediateFuture(
+            new ExecutionResult() {
+              @Override
+              public RemoteExecutionMetadata getRemoteExecutionMetadata() {
+                return RemoteExecutionMetadata.newBuilder().build();
+              }
+
+              @Override
+              public List<OutputDirectory> getOutputDirectories() {
+                return ImmutableList.of();
+              }
+
+              @Override
+              public List<OutputFile> getOutputFiles() {
+                return ImmutableList.of(
+                    protocol.newOutputFile(Paths.get("output"), outputDigest, false));
+              }
+
+              @Override
+              public int getExitCode() {
+                return 0;
+              }
+
+              @Override
+              public Optional<String> getStdout() {
+                return Optional.empty();
+              }
+
+              @Override
+              public Optional<String> getStderr() {
+                return Optional.empty();
+              }
+
+              @Override
+              public Digest getActionResultDigest() {
+                return null;
+              }
+
+              @Override
+              public ExecutedActionMetadata getActionMetadata() {
+                return ExecutedActionMetadata.newBuilder().build();
+              }
+            });
+      }
+
+      @Override
+      public ListenableFuture<ExecuteOperationMetadata> getExecutionStarted() {
+        return SettableFuture.create();
+      }
+
+      @Override
+      public void cancel() {}
+    };
+  }
+
+  public ListenableFuture<Unit> addMissing() {
+    return Futures.immediateFuture(Unit.UNIT);
+  }
+
+  @SuppressWarnings("unused")
+  public ListenableFuture<Unit> materializeOutputs(List<OutputFile> outputFiles) {
+    return Futures.immediateFuture(null);
+  }
+
+  public boolean containsDigest(Digest digest) {
+    return false;
+  }
+
+  @Override
+  public RemoteExecutionServiceClient getRemoteExecutionService() {
+    return (actionDigest, ruleName, metadataProvider) ->
+        SimpleRemoteExecutionClients.this.execute();
+  }
+
+  @Override
+  public ContentAddressedStorageClient getContentAddressedStorage() {
+    return new ContentAddressedStorageClient() {
+      @Override
+      public ListenableFuture<Unit> addMissing(Collection<UploadDataSupplier> data) {
+        return SimpleRemoteExecutionClients.this.addMissing();
+      }
+
+      @Override
+      public ListenableFuture<Unit> materializeOutputs(
+          List<OutputDirectory> outputDirectories,
+          List<OutputFile> outputFiles,
+          FileMaterializer materializer) {
+        return SimpleRemoteExecutionClients.this.materializeOutputs(outputFiles);
+      }
+
+      @Override
+      public boolean containsDigest(Digest digest) {
+        return SimpleRemoteExecutionClients.this.containsDigest(digest);
+      }
+
+      @Override
+      public ListenableFuture<ByteBuffer> fetch(Digest digest) {
+        return Futures.immediateFuture(null);
+      }
+    };
+  }
+
+  @Override
+  public Protocol getProtocol() {
+    return protocol;
+  }
+
+  @Override
+  public void close() throws IOException {}
+}
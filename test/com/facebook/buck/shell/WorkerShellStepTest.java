@@ -128,6 +128,13 @@ public class WorkerShellStepTest {
                 : Optional.of(WorkerProcessIdentity.of(persistentWorkerKey, workerHash))));
   }
 
+  /** Pools also post their counters to the event bus, which these tests don't look at. */
+  private static ImmutableList<BuckEvent> getConsoleEvents(FakeBuckEventListener listener) {
+    return listener.getEvents().stream()
+        .filter(ConsoleEvent.class::isInstance)
+        .collect(ImmutableList.toImmutableList());
+  }
+
   private ExecutionContext createExecutionContextWith(int exitCode, String stdout, String stderr) {
     WorkerJobResult jobResult =
         WorkerJobResult.of(exitCode, Optional.of(stdout), Optional.of(stderr));
@@ -264,11 +271,11 @@ public class WorkerShellStepTest {
     assertThat(exitCode, Matchers.equalTo(0));
 
     // assert that the job's stdout and stderr were written to the console
-    BuckEvent firstEvent = listener.getEvents().get(0);
+    BuckEvent firstEvent = getConsoleEvents(listener).get(0);
     assertTrue(firstEvent instanceof ConsoleEvent);
     assertThat(((ConsoleEvent) firstEvent).getLevel(), Matchers.is(Level.INFO));
     assertThat(((ConsoleEvent) firstEvent).getMessage(), Matchers.is(stdout));
-    BuckEvent secondEvent = listener.getEvents().get(1);
+    BuckEvent secondEvent = getConsoleEvents(listener).get(1);
     assertTrue(secondEvent instanceof ConsoleEvent);
     assertThat(((ConsoleEvent) secondEvent).getLevel(), Matchers.is(Level.WARNING));
     assertThat(((ConsoleEvent) secondEvent).getMessage(), Matchers.is(stderr));
@@ -349,11 +356,11 @@ public class WorkerShellStepTest {
     assertThat(exitCode, Matchers.equalTo(1));
 
     // assert that the job's stderr was written to the console as error, not as warning
-    BuckEvent firstEvent = listener.getEvents().get(0);
+    BuckEvent firstEvent = getConsoleEvents(listener).get(0);
     assertTrue(firstEvent instanceof ConsoleEvent);
     assertThat(((ConsoleEvent) firstEvent).getLevel(), Matchers.is(Level.SEVERE));
     assertThat(((ConsoleEvent) firstEvent).getMessage(), Matchers.is(stderr));
-    BuckEvent secondEvent = listener.getEvents().get(1);
+    BuckEvent secondEvent = getConsoleEvents(listener).get(1);
     assertTrue(secondEvent instanceof ConsoleEvent);
     assertThat(((ConsoleEvent) secondEvent).getLevel(), Matchers.is(Level.INFO));
     assertThat(
@@ -496,7 +503,7 @@ public class WorkerShellStepTest {
     WorkerShellStep step = createWorkerShellStep(params, null, null);
     step.execute(context);
 
-    BuckEvent firstEvent = listener.getEvents().get(0);
+    BuckEvent firstEvent = getConsoleEvents(listener).get(0);
     assertThat(firstEvent, Matchers.instanceOf(ConsoleEvent.class));
 
     ConsoleEvent consoleEvent = (ConsoleEvent) firstEvent;
@@ -534,7 +541,7 @@ public class WorkerShellStepTest {
     WorkerShellStep step = createWorkerShellStep(params, null, null);
     step.execute(context);
 
-    BuckEvent firstEvent = listener.getEvents().get(0);
+    BuckEvent firstEvent = getConsoleEvents(listener).get(0);
     assertThat(firstEvent, Matchers.instanceOf(ConsoleEvent.class));
 
     ConsoleEvent consoleEvent = (ConsoleEvent) firstEvent;
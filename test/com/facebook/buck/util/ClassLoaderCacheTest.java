@@ -17,6 +17,8 @@
 package com.facebook.buck.util;
 
 import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNotSame;
 import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertThat;
@@ -25,9 +27,13 @@ import static org.junit.Assume.assumeThat;
 import com.google.common.collect.FluentIterable;
 import com.google.common.collect.ImmutableList;
 import java.io.File;
+import java.io.FileOutputStream;
 import java.io.IOException;
 import java.net.URL;
 import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.util.jar.JarOutputStream;
+import java.util.zip.ZipEntry;
 import org.hamcrest.Matchers;
 import org.junit.Before;
 import org.junit.Rule;
@@ -99,4 +105,82 @@ public class ClassLoaderCacheTest {
       assertThat(cl.getResource("baz"), Matchers.equalTo(bazFile.toURI().toURL()));
     }
   }
+
+  @Test
+  public void sharedCacheReusesClassLoadersAcrossCommandsUntilTheirJarsChange() throws Exception {
+    File jar = new File(tempFolder.getRoot(), "lib.jar");
+    writeJar(jar, "first");
+    ClassLoader dummyParent = ClassLoader.getSystemClassLoader();
+    ImmutableList<URL> classPath = ImmutableList.of(jar.toURI().toURL());
+
+    try (ClassLoaderCache clc = ClassLoaderCache.newSharedCache()) {
+      ClassLoader cl1;
+      try (ClassLoaderCache command = clc.addRef()) {
+        cl1 = command.getClassLoaderForClassPath(dummyParent, classPath);
+      }
+      ClassLoader cl2;
+      try (ClassLoaderCache command = clc.addRef()) {
+        cl2 = command.getClassLoaderForClassPath(dummyParent, classPath);
+      }
+      assertSame(cl1, cl2);
+
+      ClassLoader cl3;
+      try (ClassLoaderCache command = clc.addRef()) {
+        writeJar(jar, "second, with different contents");
+        cl3 = command.getClassLoaderForClassPath(dummyParent, classPath);
+        assertNotSame(cl1, cl3);
+        // The replaced class loader stays usable until the command is done.
+        assertNotNull(cl1.getResource("baz"));
+      }
+      assertNull(cl1.getResource("baz"));
+      assertNotNull(cl3.getResource("baz"));
+    }
+  }
+
+  @Test
+  public void sharedCacheClosesClassLoadersThatArentUsedForAWhile() throws Exception {
+    ClassLoader dummyParent = ClassLoader.getSystemClassLoader();
+    File jar = new File(tempFolder.getRoot(), "lib.jar");
+    writeJar(jar, "contents");
+    ImmutableList<URL> classPath = ImmutableList.of(jar.toURI().toURL());
+
+    try (ClassLoaderCache clc = ClassLoaderCache.newSharedCache()) {
+      ClassLoader cl;
+      try (ClassLoaderCache command = clc.addRef()) {
+        cl = command.getClassLoaderForClassPath(dummyParent, classPath);
+      }
+      for (int i = 0; i < 9; i++) {
+        clc.addRef().close();
+      }
+      assertNotNull(cl.getResource("baz"));
+
+      clc.addRef().close();
+      assertNull(cl.getResource("baz"));
+    }
+  }
+
+  @Test
+  public void invalidatedClassLoadersAreReplaced() throws Exception {
+    ClassLoader dummyParent = ClassLoader.getSystemClassLoader();
+    ImmutableList<URL> classPath = ImmutableList.of(barDir.toURI().toURL());
+
+    try (ClassLoaderCache clc = ClassLoaderCache.newSharedCache()) {
+      ClassLoader cl1;
+      try (ClassLoaderCache command = clc.addRef()) {
+        cl1 = command.getClassLoaderForClassPath(dummyParent, classPath);
+        command.invalidate(dummyParent, classPath);
+        assertNotSame(cl1, command.getClassLoaderForClassPath(dummyParent, classPath));
+        assumeThat(cl1.getResource("baz"), Matchers.equalTo(bazFile.toURI().toURL()));
+      }
+      assertNull(cl1.getResource("baz"));
+    }
+  }
+
+  private static void writeJar(File jar, String contents) throws IOException {
+    try (JarOutputStream out = new JarOutputStream(new FileOutputStream(jar))) {
+      out.putNextEntry(new ZipEntry("baz"));
+      out.write(contents.getBytes(StandardCharsets.UTF_8));
+      out.closeEntry();
+    }
+  }
 }
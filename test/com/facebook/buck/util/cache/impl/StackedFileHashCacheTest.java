@@ -16,6 +16,7 @@
 
 package com.facebook.buck.util.cache.impl;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertTrue;
 
 import com.facebook.buck.core.cell.name.CanonicalCellName;
@@ -31,6 +32,7 @@ import com.facebook.buck.util.config.ConfigBuilder;
 import com.facebook.buck.util.zip.CustomJarOutputStream;
 import com.facebook.buck.util.zip.ZipOutputStreams;
 import com.google.common.collect.ImmutableList;
+import com.google.common.hash.HashCode;
 import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.nio.charset.StandardCharsets;
@@ -349,6 +351,22 @@ public class StackedFileHashCacheTest {
         filesystem, archiveMemberPath.getArchivePath(), archiveMemberPath.getMemberPath());
   }
 
+  @Test
+  public void setSeedsHashesOfFilesThatDontExistYet() throws IOException {
+    ProjectFilesystem filesystem = TestProjectFilesystems.createProjectFilesystem(tmp.getRoot());
+    StackedFileHashCache cache =
+        StackedFileHashCache.createDefaultHashCaches(filesystem, fileHashCacheMode);
+    Path source = filesystem.resolve("source.txt");
+    Path output = filesystem.resolve(filesystem.getBuckPaths().getGenDir().resolve("output.txt"));
+    HashCode hashCode = HashCode.fromInt(42);
+
+    cache.set(source, hashCode);
+    cache.set(output, hashCode);
+
+    assertEquals(hashCode, cache.get(source));
+    assertEquals(hashCode, cache.get(output));
+  }
+
   @Test
   public void sortsByRootPathLength() throws IOException {
     ProjectFilesystem filesystem1 = FakeProjectFilesystem.createJavaOnlyFilesystem();
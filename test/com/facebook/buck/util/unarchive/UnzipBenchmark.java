@@ -0,0 +1,108 @@
+/*
+ * Copyright (c) Facebook, Inc. and its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.facebook.buck.util.unarchive;
+
+import com.facebook.buck.io.file.MostFiles;
+import com.facebook.buck.io.filesystem.impl.DefaultProjectFilesystemFactory;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+import org.openjdk.jmh.Main;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.RunnerException;
+
+/** Compares extracting an aar-like archive one file at a time and concurrently. */
+@State(Scope.Benchmark)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@Fork(1)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class UnzipBenchmark {
+  @Param({"3000"})
+  private int entries;
+
+  @Param({"false", "true"})
+  private boolean concurrent;
+
+  private Path root;
+  private Path archive;
+  private Path output;
+
+  @Setup
+  public void setUp() throws IOException {
+    root = Files.createTempDirectory("unzip-benchmark");
+    archive = root.resolve("library.aar");
+    output = root.resolve("out");
+
+    // Mostly small resources spread over a few directories, and a large classes.jar.
+    Random random = new Random(0);
+    try (ZipOutputStream zip = new ZipOutputStream(Files.newOutputStream(archive))) {
+      for (int i = 0; i < entries; i++) {
+        zip.putNextEntry(new ZipEntry(String.format("res/values-%d/r%d.xml", i % 40, i)));
+        zip.write(randomText(random, 512 + random.nextInt(4096)));
+        zip.closeEntry();
+      }
+      zip.putNextEntry(new ZipEntry("classes.jar"));
+      zip.write(randomText(random, 8 * 1024 * 1024));
+      zip.closeEntry();
+    }
+  }
+
+  private static byte[] randomText(Random random, int length) {
+    StringBuilder text = new StringBuilder(length);
+    while (text.length() < length) {
+      text.append("<item name=\"").append(random.nextInt(10000)).append("\"/>\n");
+    }
+    return text.toString().getBytes(StandardCharsets.UTF_8);
+  }
+
+  @TearDown
+  public void tearDown() throws IOException {
+    MostFiles.deleteRecursively(root);
+  }
+
+  @Benchmark
+  public int extractArchive() throws IOException {
+    Unarchiver unzip = concurrent ? new Unzip(ForkJoinPool.commonPool()) : new Unzip();
+    return unzip
+        .extractArchive(
+            new DefaultProjectFilesystemFactory(), archive, output, ExistingFileMode.OVERWRITE)
+        .size();
+  }
+
+  public static void main(String[] args) throws IOException, RunnerException {
+    Main.main(new String[] {UnzipBenchmark.class.getName()});
+  }
+}
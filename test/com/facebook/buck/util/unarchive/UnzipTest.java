@@ -44,6 +44,10 @@ import java.nio.file.attribute.PosixFilePermission;
 import java.nio.file.attribute.PosixFilePermissions;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 import java.util.zip.ZipEntry;
 import org.apache.commons.compress.archivers.zip.ZipArchiveEntry;
 import org.apache.commons.compress.archivers.zip.ZipArchiveOutputStream;
@@ -316,6 +320,31 @@ public class UnzipTest {
     assertTrue(Files.exists(extractFolder.toAbsolutePath().resolve("foo/bar")));
   }
 
+  @Test
+  public void testFilesReplacedByDirectoriesAreNotReturned() throws IOException {
+    try (ZipArchiveOutputStream zip = new ZipArchiveOutputStream(zipFile.toFile())) {
+      zip.putArchiveEntry(new ZipArchiveEntry("foo"));
+      zip.write(DUMMY_FILE_CONTENTS);
+      zip.closeArchiveEntry();
+      zip.putArchiveEntry(new ZipArchiveEntry("foo/bar"));
+      zip.write(DUMMY_FILE_CONTENTS);
+      zip.closeArchiveEntry();
+    }
+
+    Path extractFolder = tmpFolder.newFolder();
+    ImmutableList<Path> result =
+        ArchiveFormat.ZIP
+            .getUnarchiver()
+            .extractArchive(
+                new DefaultProjectFilesystemFactory(),
+                zipFile.toAbsolutePath(),
+                extractFolder.toAbsolutePath(),
+                ExistingFileMode.OVERWRITE_AND_CLEAN_DIRECTORIES);
+    assertTrue(Files.isDirectory(extractFolder.resolve("foo")));
+    assertTrue(Files.isRegularFile(extractFolder.resolve("foo/bar")));
+    assertEquals(ImmutableList.of(extractFolder.resolve("foo/bar")), result);
+  }
+
   @Test
   public void testStripsPrefixAndIgnoresSiblings() throws IOException {
     byte[] bazDotSh = "echo \"baz.sh\"\n".getBytes(Charsets.UTF_8);
@@ -398,4 +427,75 @@ public class UnzipTest {
     assertTrue(Files.isDirectory(extractFolder.toAbsolutePath().resolve("emptydir")));
     assertEquals(ImmutableSet.of(extractFolder.resolve("1.bin")), result);
   }
+
+  @Test
+  public void testExtractConcurrentlyWritesTheSameFiles() throws IOException {
+    try (ZipArchive zipArchive = new ZipArchive(this.zipFile, true)) {
+      for (int i = 0; i < 100; i++) {
+        zipArchive.add(String.format("dir%d/sub%d/%d.bin", i % 7, i % 3, i), ("" + i).getBytes());
+      }
+      zipArchive.addDir("emptydir");
+    }
+
+    Path serialFolder = tmpFolder.newFolder();
+    ImmutableList<Path> serialResult =
+        new Unzip()
+            .extractArchive(
+                new DefaultProjectFilesystemFactory(),
+                zipFile.toAbsolutePath(),
+                serialFolder.toAbsolutePath(),
+                ExistingFileMode.OVERWRITE);
+
+    Path concurrentFolder = tmpFolder.newFolder();
+    ExecutorService executor = Executors.newFixedThreadPool(4);
+    ImmutableList<Path> concurrentResult;
+    try {
+      concurrentResult =
+          new Unzip(executor)
+              .extractArchive(
+                  new DefaultProjectFilesystemFactory(),
+                  zipFile.toAbsolutePath(),
+                  concurrentFolder.toAbsolutePath(),
+                  ExistingFileMode.OVERWRITE);
+    } finally {
+      executor.shutdown();
+    }
+
+    assertEquals(
+        serialResult.stream().map(serialFolder::relativize).collect(Collectors.toList()),
+        concurrentResult.stream().map(concurrentFolder::relativize).collect(Collectors.toList()));
+    assertEquals(100, concurrentResult.size());
+    assertTrue(Files.isDirectory(concurrentFolder.resolve("emptydir")));
+    for (int i = 0; i < 100; i++) {
+      Path file = Paths.get(String.format("dir%d/sub%d/%d.bin", i % 7, i % 3, i));
+      assertEquals("" + i, new String(Files.readAllBytes(concurrentFolder.resolve(file))));
+    }
+  }
+
+  @Test
+  public void testExtractConcurrentlyDoesNotDependOnTheExecutor() throws IOException {
+    try (ZipArchive zipArchive = new ZipArchive(this.zipFile, true)) {
+      zipArchive.add("1.bin", DUMMY_FILE_CONTENTS);
+      zipArchive.add("subdir/2.bin", DUMMY_FILE_CONTENTS);
+      zipArchive.add("subdir/3.bin", DUMMY_FILE_CONTENTS);
+    }
+
+    // An executor that's too busy to ever run the tasks it's given.
+    Path extractFolder = tmpFolder.newFolder();
+    new Unzip(command -> {})
+        .extractArchive(
+            new DefaultProjectFilesystemFactory(),
+            zipFile.toAbsolutePath(),
+            extractFolder.toAbsolutePath(),
+            ExistingFileMode.OVERWRITE);
+
+    for (String name : ImmutableList.of("1.bin", "subdir/2.bin", "subdir/3.bin")) {
+      assertEquals(
+          new String(DUMMY_FILE_CONTENTS),
+          new String(Files.readAllBytes(extractFolder.resolve(name))));
+    }
+    try (Stream<Path> files = Files.walk(extractFolder)) {
+      assertEquals(5, files.count());
+    }
+  }
 }
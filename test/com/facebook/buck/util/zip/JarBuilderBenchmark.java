@@ -0,0 +1,99 @@
+/*
+ * Copyright (c) Facebook, Inc. and its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.facebook.buck.util.zip;
+
+import com.facebook.buck.io.file.MostFiles;
+import com.google.common.collect.ImmutableList;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.Main;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.RunnerException;
+
+/** Compares building a jar with entries deflated serially and concurrently. */
+@State(Scope.Benchmark)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@Fork(1)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class JarBuilderBenchmark {
+  @Param({"2000"})
+  private int entries;
+
+  @Param({"false", "true"})
+  private boolean concurrent;
+
+  private Path root;
+  private Path classes;
+  private Path jar;
+
+  @Setup
+  public void setUp() throws IOException {
+    root = Files.createTempDirectory("jar-builder-benchmark");
+    classes = root.resolve("classes");
+    jar = root.resolve("out.jar");
+
+    // Entries of a few to a few dozen KB, made of repeated words so that they deflate about as
+    // well as class files do.
+    String[] words = {"java/lang/Object", "<init>", "()V", "Code", "LineNumberTable", "this"};
+    Random random = new Random(0);
+    for (int i = 0; i < entries; i++) {
+      Path entry = classes.resolve(String.format("com/example/p%d/C%d.class", i % 50, i));
+      Files.createDirectories(entry.getParent());
+      int length = 2048 + random.nextInt(32 * 1024);
+      StringBuilder data = new StringBuilder(length);
+      while (data.length() < length) {
+        data.append(words[random.nextInt(words.length)]).append(random.nextInt(1000));
+      }
+      Files.write(entry, data.toString().getBytes(StandardCharsets.UTF_8));
+    }
+  }
+
+  @TearDown
+  public void tearDown() throws IOException {
+    MostFiles.deleteRecursively(root);
+  }
+
+  @Benchmark
+  public int createJarFile() throws IOException {
+    return new JarBuilder()
+        .setEntriesToJar(ImmutableList.of(classes))
+        .setCompressionExecutor(concurrent ? ForkJoinPool.commonPool() : null)
+        .createJarFile(jar);
+  }
+
+  public static void main(String[] args) throws IOException, RunnerException {
+    Main.main(new String[] {JarBuilderBenchmark.class.getName()});
+  }
+}
@@ -0,0 +1,171 @@
+/*
+ * Copyright (c) Facebook, Inc. and its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.facebook.buck.util.zip;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import com.facebook.buck.util.environment.Platform;
+import com.google.common.base.Charsets;
+import com.google.common.collect.ImmutableList;
+import com.google.common.hash.Hashing;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Random;
+import java.util.stream.Collectors;
+import java.util.zip.CRC32;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+import org.hamcrest.Matchers;
+import org.junit.Assume;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+import org.junit.rules.TemporaryFolder;
+
+public class MappedZipFileTest {
+
+  @Rule public TemporaryFolder temp = new TemporaryFolder();
+  @Rule public ExpectedException thrown = ExpectedException.none();
+
+  @Test
+  public void readsStoredAndDeflatedEntries() throws Exception {
+    byte[] stored = "stored data".getBytes(Charsets.UTF_8);
+    byte[] deflated = new byte[10000];
+    for (int i = 0; i < deflated.length; i++) {
+      deflated[i] = (byte) (i % 7);
+    }
+
+    Path zip = temp.getRoot().toPath().resolve("test.zip");
+    try (ZipOutputStream out = new ZipOutputStream(Files.newOutputStream(zip))) {
+      out.putNextEntry(new ZipEntry("dir/"));
+      out.closeEntry();
+
+      ZipEntry entry = new ZipEntry("dir/stored");
+      entry.setMethod(ZipEntry.STORED);
+      entry.setSize(stored.length);
+      CRC32 crc = new CRC32();
+      crc.update(stored);
+      entry.setCrc(crc.getValue());
+      out.putNextEntry(entry);
+      out.write(stored);
+      out.closeEntry();
+
+      out.putNextEntry(new ZipEntry("deflated"));
+      out.write(deflated);
+      out.closeEntry();
+      out.setComment("a comment after the central directory");
+    }
+
+    MappedZipFile zipFile = MappedZipFile.open(zip);
+    assertEquals(
+        ImmutableList.of("dir/", "dir/stored", "deflated"),
+        zipFile.getEntries().stream()
+            .map(MappedZipFile.Entry::getName)
+            .collect(Collectors.toList()));
+    assertTrue(zipFile.getEntry("dir/").isDirectory());
+    assertNull(zipFile.getEntry("missing"));
+
+    MappedZipFile.Entry storedEntry = zipFile.getEntry("dir/stored");
+    assertEquals(ZipEntry.STORED, storedEntry.getMethod());
+    assertArrayEquals(stored, zipFile.read(storedEntry));
+
+    MappedZipFile.Entry deflatedEntry = zipFile.getEntry("deflated");
+    assertEquals(ZipEntry.DEFLATED, deflatedEntry.getMethod());
+    assertTrue(deflatedEntry.getCompressedSize() < deflated.length);
+    assertEquals(deflatedEntry.getCompressedSize(), zipFile.getRawData(deflatedEntry).remaining());
+    assertArrayEquals(deflated, zipFile.read(deflatedEntry));
+
+    assertEquals(
+        com.google.common.io.Files.asByteSource(zip.toFile()).hash(Hashing.sha1()),
+        zipFile.hash(Hashing.sha1()));
+  }
+
+  @Test
+  public void copiesRawEntriesToAnotherZip() throws Exception {
+    byte[] deflated = new byte[10000];
+    for (int i = 0; i < deflated.length; i++) {
+      deflated[i] = (byte) (i % 7);
+    }
+    Path zip = temp.getRoot().toPath().resolve("test.zip");
+    try (CustomZipOutputStream out =
+        ZipOutputStreams.newOutputStream(zip, ZipOutputStreams.HandleDuplicates.APPEND_TO_ZIP)) {
+      CustomZipEntry stored = new CustomZipEntry("stored");
+      stored.setCompressionLevel(0);
+      stored.setTime(1500000000000L);
+      stored.setSize(3);
+      stored.setCompressedSize(3);
+      stored.setCrc(Hashing.crc32().hashBytes(new byte[] {1, 2, 3}).padToLong());
+      out.putNextEntry(stored);
+      out.write(new byte[] {1, 2, 3});
+      out.writeEntry("deflated", new ByteArrayInputStream(deflated));
+      out.writeEntry("deflated", new ByteArrayInputStream(new byte[] {4}));
+    }
+
+    MappedZipFile zipFile = MappedZipFile.open(zip);
+    assertEquals(2, zipFile.getEntries().size());
+    Path copy = temp.getRoot().toPath().resolve("copy.zip");
+    try (CustomZipOutputStream out =
+        ZipOutputStreams.newOutputStream(copy, ZipOutputStreams.HandleDuplicates.APPEND_TO_ZIP)) {
+      for (MappedZipFile.Entry entry : zipFile.getAllEntries()) {
+        out.putRawEntry(entry.toCustomZipEntry(), zipFile.getRawData(entry));
+      }
+    }
+
+    // The copy is written the same way as the original, so it has the same bytes.
+    assertArrayEquals(Files.readAllBytes(zip), Files.readAllBytes(copy));
+    MappedZipFile copiedFile = MappedZipFile.open(copy);
+    assertEquals(3, copiedFile.getAllEntries().size());
+    assertEquals(1500000000000L, copiedFile.getEntry("stored").getTime());
+    assertArrayEquals(deflated, copiedFile.read(copiedFile.getEntry("deflated")));
+    assertArrayEquals(new byte[] {4}, copiedFile.read(copiedFile.getAllEntries().get(2)));
+  }
+
+  @Test
+  public void copyingTheDataOfATruncatedFileThrowsInternalError() throws Exception {
+    Assume.assumeThat(Platform.detect(), Matchers.not(Platform.WINDOWS));
+    byte[] data = new byte[100000];
+    new Random(0).nextBytes(data);
+    Path zip = temp.getRoot().toPath().resolve("test.zip");
+    try (ZipOutputStream out = new ZipOutputStream(Files.newOutputStream(zip))) {
+      out.putNextEntry(new ZipEntry("data"));
+      out.write(data);
+      out.closeEntry();
+    }
+
+    MappedZipFile zipFile = MappedZipFile.open(zip);
+    MappedZipFile.Entry entry = zipFile.getEntry("data");
+    try (FileChannel channel = FileChannel.open(zip, StandardOpenOption.WRITE)) {
+      channel.truncate(0);
+    }
+    thrown.expect(InternalError.class);
+    zipFile.copyRawData(entry);
+  }
+
+  @Test(expected = IOException.class)
+  public void rejectsFilesThatAreNotZips() throws Exception {
+    Path notZip = temp.getRoot().toPath().resolve("not.zip");
+    Files.write(notZip, "not a zip file".getBytes(Charsets.UTF_8));
+    MappedZipFile.open(notZip);
+  }
+}
@@ -39,10 +39,12 @@ import com.google.common.collect.ImmutableList;
 import com.google.common.hash.Hashing;
 import com.google.common.io.ByteStreams;
 import com.google.common.io.Resources;
+import java.io.ByteArrayOutputStream;
 import java.io.File;
 import java.io.FileOutputStream;
 import java.io.IOException;
 import java.net.URL;
+import java.nio.ByteBuffer;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.attribute.PosixFilePermissions;
@@ -53,12 +55,16 @@ import java.util.Collection;
 import java.util.Date;
 import java.util.Enumeration;
 import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.zip.Deflater;
 import java.util.zip.ZipEntry;
 import java.util.zip.ZipException;
 import java.util.zip.ZipInputStream;
 import java.util.zip.ZipOutputStream;
 import org.apache.commons.compress.archivers.zip.ZipArchiveEntry;
 import org.apache.commons.compress.archivers.zip.ZipFile;
+import org.junit.After;
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.experimental.runners.Enclosed;
@@ -488,6 +494,114 @@ public class ZipOutputStreamTest {
     }
   }
 
+  public static class ConcurrentDeflatingTests {
+    private ExecutorService executor;
+
+    @Before
+    public void createExecutor() {
+      executor = Executors.newFixedThreadPool(4);
+    }
+
+    @After
+    public void shutDownExecutor() {
+      executor.shutdownNow();
+    }
+
+    @Test
+    public void concurrentlyDeflatedZipIsTheSameAsSeriallyDeflatedOne() throws IOException {
+      ByteArrayOutputStream serial = new ByteArrayOutputStream();
+      ByteArrayOutputStream concurrent = new ByteArrayOutputStream();
+      try (CustomZipOutputStream out = ZipOutputStreams.newOutputStream(serial, APPEND_TO_ZIP)) {
+        writeEntries(out);
+      }
+      try (CustomZipOutputStream out =
+          ZipOutputStreams.newConcurrentOutputStream(concurrent, APPEND_TO_ZIP, executor)) {
+        writeEntries(out);
+      }
+
+      assertArrayEquals(serial.toByteArray(), concurrent.toByteArray());
+    }
+
+    @Test(expected = ZipException.class)
+    public void duplicatesAreAnErrorInModeThrow() throws IOException {
+      try (CustomZipOutputStream out =
+          ZipOutputStreams.newConcurrentOutputStream(
+              new ByteArrayOutputStream(), THROW_EXCEPTION, executor)) {
+        out.putNextEntry(new ZipEntry("example.txt"));
+        out.putNextEntry(new ZipEntry("example.txt"));
+      }
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void storedEntriesWithTheWrongCrcAreAnError() throws IOException {
+      try (CustomZipOutputStream out =
+          ZipOutputStreams.newConcurrentOutputStream(
+              new ByteArrayOutputStream(), THROW_EXCEPTION, executor)) {
+        CustomZipEntry entry = new CustomZipEntry("stored.txt");
+        entry.setCompressionLevel(NO_COMPRESSION);
+        entry.setSize(1);
+        entry.setCompressedSize(1);
+        entry.setCrc(0);
+        out.putNextEntry(entry);
+        out.write(1);
+      }
+    }
+
+    private static void writeEntries(CustomZipOutputStream out) throws IOException {
+      byte[] macbeth =
+          Resources.toByteArray(Resources.getResource(ZipOutputStreamTest.class, "macbeth.dat"));
+      for (int i = 0; i < 20; i++) {
+        CustomZipEntry entry = new CustomZipEntry("dir/macbeth" + i + ".txt");
+        entry.setTime(0);
+        entry.setCompressionLevel(i % 10);
+        if (i % 10 == 0) {
+          entry.setSize(macbeth.length);
+          entry.setCompressedSize(macbeth.length);
+          entry.setCrc(calcCrc(macbeth));
+        }
+        out.putNextEntry(entry);
+        // Write in odd chunks, which the concurrent stream deflates in one go.
+        for (int offset = 0; offset < macbeth.length; offset += 1001) {
+          out.write(macbeth, offset, Math.min(1001, macbeth.length - offset));
+        }
+      }
+
+      // Raw entries are written in order with the deflated ones.
+      Deflater deflater = new Deflater(Deflater.DEFAULT_COMPRESSION, true);
+      deflater.setInput(macbeth);
+      deflater.finish();
+      byte[] rawData = new byte[macbeth.length];
+      int rawLength = deflater.deflate(rawData);
+      deflater.end();
+      CustomZipEntry raw = new CustomZipEntry("raw.txt");
+      raw.setTime(0);
+      raw.setCrc(calcCrc(macbeth));
+      raw.setSize(macbeth.length);
+      raw.setCompressedSize(rawLength);
+      out.putRawEntry(raw, ByteBuffer.wrap(rawData, 0, rawLength));
+
+      CustomZipEntry directory = new CustomZipEntry("dir/");
+      directory.setTime(0);
+      out.putNextEntry(directory);
+      CustomZipEntry duplicate = new CustomZipEntry("dir/macbeth0.txt");
+      duplicate.setTime(0);
+      out.putNextEntry(duplicate);
+      out.write(macbeth);
+
+      // Larger than what the concurrent stream buffers, so it's deflated as it's written.
+      CustomZipEntry large = new CustomZipEntry("large.txt");
+      large.setTime(0);
+      out.putNextEntry(large);
+      for (int i = 0; i < 10 * 1024 * 1024 / macbeth.length + 1; i++) {
+        out.write(macbeth);
+      }
+      CustomZipEntry last = new CustomZipEntry("last.txt");
+      last.setTime(0);
+      out.putNextEntry(last);
+      out.write(macbeth);
+    }
+  }
+
   private static List<NameAndContent> getExtractedEntries(Path zipFile) throws IOException {
     List<NameAndContent> entries = new ArrayList<>();
     try (ZipInputStream in = new ZipInputStream(Files.newInputStream(zipFile))) {
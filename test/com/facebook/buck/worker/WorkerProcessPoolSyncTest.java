@@ -28,7 +28,9 @@ import com.facebook.buck.worker.WorkerProcessPoolSync.BorrowedWorkerProcess;
 import com.google.common.base.Preconditions;
 import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.Iterables;
 import com.google.common.hash.Hashing;
+import com.google.common.util.concurrent.MoreExecutors;
 import java.io.IOException;
 import java.util.Collections;
 import java.util.HashSet;
@@ -369,6 +371,47 @@ public class WorkerProcessPoolSyncTest {
     worker.close();
   }
 
+  @Test(timeout = WAIT_FOR_TEST_THREADS_TIMEOUT)
+  public void warmUpStartsWorkersAheadOfJobs() throws Exception {
+    Set<WorkerProcess> createdWorkers = new HashSet<>();
+    WorkerProcessPoolSync pool = createPool(3, createdWorkers::add);
+
+    pool.warmUp(2, MoreExecutors.directExecutor());
+    assertThat(createdWorkers.size(), is(2));
+
+    acquireWorkersThenRelease(pool, 2);
+    assertThat(createdWorkers.size(), is(2));
+    assertThat(pool.getCounters().getJobs(), is(2L));
+    assertThat(pool.getCounters().getWarmJobs(), is(2L));
+
+    acquireWorkersThenRelease(pool, 3);
+    assertThat(createdWorkers.size(), is(3));
+    assertThat(pool.getCounters().getWarmJobs(), is(4L));
+    pool.close();
+  }
+
+  @Test(timeout = WAIT_FOR_TEST_THREADS_TIMEOUT)
+  public void stopsIdleWorkersButNotBusyOnes() throws Exception {
+    Set<WorkerProcess> createdWorkers = new HashSet<>();
+    WorkerProcessPoolSync pool = createPool(2, createdWorkers::add);
+    acquireWorkersThenRelease(pool, 1);
+    WorkerProcess idle = Iterables.getOnlyElement(createdWorkers);
+
+    try (BorrowedWorkerProcess worker = pool.borrowWorkerProcess()) {
+      WorkerProcess busy = worker.get();
+      pool.stopIdleWorkers(1, TimeUnit.HOURS);
+      assertThat(busy.isAlive(), is(true));
+      pool.stopIdleWorkers(0, TimeUnit.NANOSECONDS);
+      assertThat(busy.isAlive(), is(true));
+    }
+
+    pool.stopIdleWorkers(0, TimeUnit.NANOSECONDS);
+    assertThat(idle.isAlive(), is(false));
+    acquireWorkersThenRelease(pool, 1);
+    assertThat(createdWorkers.size(), is(2));
+    pool.close();
+  }
+
   private static WorkerProcessPoolSync createPool(
       int maxWorkers, ThrowingSupplier<WorkerProcess, IOException> startWorkerProcess) {
     return new WorkerProcessPoolSync(
@@ -0,0 +1,115 @@
+/*
+ * Copyright (c) Facebook, Inc. and its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.facebook.buck.worker;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Paths;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.Main;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.RunnerException;
+
+/** Compares the per-job overhead of sending commands and reading responses in both protocols. */
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 1, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 10, time = 1, timeUnit = TimeUnit.SECONDS)
+@Fork(1)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class WorkerProcessProtocolBenchmark {
+  @Param({"1000"})
+  private int jobs;
+
+  private final WorkerProcessCommand command =
+      ImmutableWorkerProcessCommand.of(
+          Paths.get("/tmp/worker/1.args"),
+          Paths.get("/tmp/worker/1.out"),
+          Paths.get("/tmp/worker/1.err"));
+  private final OutputStream stdin =
+      new OutputStream() {
+        @Override
+        public void write(int b) {}
+
+        @Override
+        public void write(byte[] b, int off, int len) {}
+      };
+  private byte[] jsonResponses;
+  private byte[] binaryResponses;
+
+  @Setup
+  public void setUp() throws IOException {
+    StringBuilder json = new StringBuilder();
+    ByteArrayOutputStream binary = new ByteArrayOutputStream();
+    DataOutputStream frames = new DataOutputStream(binary);
+    for (int i = 0; i < jobs; i++) {
+      json.append(String.format(",{\"id\":%d,\"type\":\"result\",\"exit_code\":0}", i));
+      frames.writeInt(9);
+      frames.writeByte(WorkerProcessProtocolOne.TYPE_RESULT);
+      frames.writeInt(i);
+      frames.writeInt(0);
+    }
+    jsonResponses = ("[" + json.substring(1)).getBytes(StandardCharsets.UTF_8);
+    binaryResponses = binary.toByteArray();
+  }
+
+  @Benchmark
+  @BenchmarkMode(Mode.AverageTime)
+  public int protocolZero() throws IOException {
+    // Protocol zero's messages are elements of an array that the handshake opens on both sides.
+    WorkerProcessProtocolZero.CommandSender protocol =
+        new WorkerProcessProtocolZero.CommandSender(
+            stdin, new ByteArrayInputStream(jsonResponses), Paths.get(""), () -> {}, () -> true);
+    protocol.getProcessStdinWriter().beginArray();
+    protocol.getProcessStdoutReader().beginArray();
+    return runJobs(protocol);
+  }
+
+  @Benchmark
+  @BenchmarkMode(Mode.AverageTime)
+  public int protocolOne() throws IOException {
+    return runJobs(
+        new WorkerProcessProtocolOne.CommandSender(
+            stdin, new ByteArrayInputStream(binaryResponses), () -> {}, () -> true));
+  }
+
+  private int runJobs(WorkerProcessProtocol.CommandSender protocol) throws IOException {
+    int exitCodes = 0;
+    for (int i = 0; i < jobs; i++) {
+      protocol.send(i, command);
+      exitCodes += protocol.receiveNextCommandResponse().getExitCode();
+    }
+    return exitCodes;
+  }
+
+  public static void main(String[] args) throws IOException, RunnerException {
+    Main.main(new String[] {WorkerProcessProtocolBenchmark.class.getName()});
+  }
+}
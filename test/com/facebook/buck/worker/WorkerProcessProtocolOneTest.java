@@ -0,0 +1,140 @@
+/*
+ * Copyright (c) Facebook, Inc. and its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.facebook.buck.worker;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import com.facebook.buck.core.exceptions.HumanReadableException;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Paths;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+public class WorkerProcessProtocolOneTest {
+
+  @Rule public ExpectedException expectedException = ExpectedException.none();
+
+  @Test
+  public void testSendCommand() throws IOException {
+    ByteArrayOutputStream stdin = new ByteArrayOutputStream();
+    WorkerProcessProtocol.CommandSender protocol = newSender(stdin, new byte[0]);
+
+    protocol.send(
+        123,
+        ImmutableWorkerProcessCommand.of(
+            Paths.get("args"), Paths.get("stdout"), Paths.get("stderr")));
+
+    DataInputStream frame = new DataInputStream(new ByteArrayInputStream(stdin.toByteArray()));
+    assertEquals(stdin.size() - Integer.BYTES, frame.readInt());
+    assertEquals(WorkerProcessProtocolOne.TYPE_COMMAND, frame.readByte());
+    assertEquals(123, frame.readInt());
+    assertEquals("args", frame.readUTF());
+    assertEquals("stdout", frame.readUTF());
+    assertEquals("stderr", frame.readUTF());
+  }
+
+  @Test
+  public void testCancel() throws IOException {
+    ByteArrayOutputStream stdin = new ByteArrayOutputStream();
+    newSender(stdin, new byte[0]).cancel(7);
+
+    DataInputStream frame = new DataInputStream(new ByteArrayInputStream(stdin.toByteArray()));
+    assertEquals(5, frame.readInt());
+    assertEquals(WorkerProcessProtocolOne.TYPE_CANCEL, frame.readByte());
+    assertEquals(7, frame.readInt());
+    assertEquals(9, stdin.size());
+  }
+
+  @Test
+  public void testReceiveResponsesInAnyOrder() throws IOException {
+    ByteArrayOutputStream stdout = new ByteArrayOutputStream();
+    writeResponse(stdout, WorkerProcessProtocolOne.TYPE_RESULT, 2, 0, new byte[0]);
+    writeResponse(stdout, WorkerProcessProtocolOne.TYPE_ERROR, 1, 1, new byte[0]);
+    // Unknown trailing bytes are skipped, so responses can be extended.
+    writeResponse(stdout, WorkerProcessProtocolOne.TYPE_RESULT, 3, 4, new byte[] {1, 2, 3});
+    WorkerProcessProtocol.CommandSender protocol =
+        newSender(new ByteArrayOutputStream(), stdout.toByteArray());
+
+    WorkerProcessProtocol.CommandResponse response = protocol.receiveNextCommandResponse();
+    assertEquals(2, response.getCommandId());
+    assertEquals(0, response.getExitCode());
+    response = protocol.receiveNextCommandResponse();
+    assertEquals(1, response.getCommandId());
+    assertEquals(1, response.getExitCode());
+    response = protocol.receiveNextCommandResponse();
+    assertEquals(3, response.getCommandId());
+    assertEquals(4, response.getExitCode());
+  }
+
+  @Test
+  public void testReceiveResponseWithInvalidType() throws IOException {
+    expectedException.expect(HumanReadableException.class);
+    expectedException.expectMessage("Expected response's type to be one of");
+
+    ByteArrayOutputStream stdout = new ByteArrayOutputStream();
+    writeResponse(stdout, WorkerProcessProtocolOne.TYPE_COMMAND, 1, 0, new byte[0]);
+    newSender(new ByteArrayOutputStream(), stdout.toByteArray()).receiveNextCommandResponse();
+  }
+
+  @Test
+  public void testReceiveResponseWithInvalidLength() throws IOException {
+    expectedException.expect(HumanReadableException.class);
+    expectedException.expectMessage("Invalid frame length");
+
+    ByteArrayOutputStream stdout = new ByteArrayOutputStream();
+    new DataOutputStream(stdout).writeInt(Integer.MAX_VALUE);
+    newSender(new ByteArrayOutputStream(), stdout.toByteArray()).receiveNextCommandResponse();
+  }
+
+  @Test
+  public void testCloseSender() throws IOException {
+    AtomicBoolean cleanedUp = new AtomicBoolean(false);
+    WorkerProcessProtocol.CommandSender protocol =
+        new WorkerProcessProtocolOne.CommandSender(
+            new ByteArrayOutputStream(),
+            new ByteArrayInputStream(new byte[0]),
+            () -> cleanedUp.set(true),
+            () -> true);
+
+    protocol.close();
+    assertTrue(cleanedUp.get());
+  }
+
+  private static WorkerProcessProtocol.CommandSender newSender(
+      ByteArrayOutputStream stdin, byte[] stdout) {
+    return new WorkerProcessProtocolOne.CommandSender(
+        stdin, new ByteArrayInputStream(stdout), () -> {}, () -> true);
+  }
+
+  private static void writeResponse(
+      ByteArrayOutputStream stdout, byte type, int id, int exitCode, byte[] extra)
+      throws IOException {
+    DataOutputStream frame = new DataOutputStream(stdout);
+    frame.writeInt(1 + Integer.BYTES * 2 + extra.length);
+    frame.writeByte(type);
+    frame.writeInt(id);
+    frame.writeInt(exitCode);
+    frame.write(extra);
+  }
+}
@@ -23,6 +23,7 @@ import static org.junit.Assert.fail;
 
 import com.facebook.buck.core.exceptions.HumanReadableException;
 import com.facebook.buck.testutil.TemporaryPaths;
+import com.google.common.collect.ImmutableSet;
 import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
@@ -57,7 +58,8 @@ public class WorkerProcessProtocolZeroTest {
     int handshakeID = 123;
     String expectedJson =
         String.format(
-            "[{\"id\":%d,\"type\":\"handshake\",\"protocol_version\":\"0\",\"capabilities\":[]}",
+            "[{\"id\":%d,\"type\":\"handshake\",\"protocol_version\":\"0\","
+                + "\"capabilities\":[\"binary_frames\"]}",
             handshakeID);
 
     InputStream dummyJsonReader = inputStream(expectedJson);
@@ -111,6 +113,25 @@ public class WorkerProcessProtocolZeroTest {
     protocol.handshake(handshakeID);
   }
 
+  @Test
+  public void testReceiveHandshakeWithCapabilities() throws IOException {
+    int handshakeID = 123;
+    InputStream jsonReader =
+        inputStream(
+            String.format(
+                "[{\"id\":%d,\"type\":\"handshake\",\"protocol_version\":\"0\","
+                    + "\"capabilities\":[\"binary_frames\",\"unknown\"]}",
+                handshakeID));
+
+    WorkerProcessProtocolZero.CommandSender protocol =
+        new WorkerProcessProtocolZero.CommandSender(
+            dummyOutputStream, jsonReader, newTempFile(), () -> {}, () -> true);
+
+    protocol.handshake(handshakeID);
+    assertEquals(
+        ImmutableSet.of(WorkerProcessProtocolOne.CAPABILITY), protocol.getWorkerCapabilities());
+  }
+
   private InputStream createMockJsonReaderForReceiveCommandResponse(
       int messageID, String type, int exitCode) {
     String jsonToBeRead =
@@ -44,10 +44,12 @@ import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.Optional;
+import java.util.concurrent.ArrayBlockingQueue;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
 import org.hamcrest.Matchers;
 import org.junit.Rule;
 import org.junit.Test;
@@ -176,6 +178,45 @@ public class WorkerProcessTest {
     }
   }
 
+  @Test(timeout = 20 * 1000)
+  public void testCancelledJobIsCancelledInTheWorker() throws Exception {
+    ArrayBlockingQueue<Integer> cancelled = new ArrayBlockingQueue<>(1);
+    AtomicBoolean firstJob = new AtomicBoolean(true);
+    FakeWorkerProcessProtocol.FakeCommandSender protocol =
+        new FakeWorkerProcessProtocol.FakeCommandSender() {
+          @Override
+          public void send(int messageId, WorkerProcessCommand command) throws IOException {
+            // The first job only responds once it's cancelled.
+            if (!firstJob.getAndSet(false)) {
+              super.send(messageId, command);
+            }
+          }
+
+          @Override
+          public void cancel(int messageId) throws IOException {
+            cancelled.add(messageId);
+            super.send(messageId, null);
+          }
+        };
+
+    try (WorkerProcess process =
+        new WorkerProcess(
+            new FakeProcessExecutor(),
+            createDummyParams(),
+            new FakeProjectFilesystem(),
+            Paths.get("stderr"),
+            Files.createTempDirectory("tmp").toAbsolutePath().normalize())) {
+      process.launchForTesting(protocol);
+
+      ListenableFuture<WorkerJobResult> job = process.submitJob("do stuff");
+      assertTrue(job.cancel(true));
+      cancelled.take();
+
+      // The late response of the cancelled job doesn't get in the way of the next one.
+      assertThat(process.submitJob("do more stuff").get().getExitCode(), Matchers.equalTo(0));
+    }
+  }
+
   @Test
   public void testClose() {
     FakeWorkerProcessProtocol.FakeCommandSender protocol =